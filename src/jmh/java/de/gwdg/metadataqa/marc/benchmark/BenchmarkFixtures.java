@@ -0,0 +1,67 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.utils.iso2709.Iso2709Parser;
+import de.gwdg.metadataqa.marc.utils.iso2709.RawRecordReader;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the ISO 2709 fixture records of the test resources for the benchmarks. The fixtures are
+ * books, so the other record types are simulated by rewriting Leader/06-07: the 008 and 006
+ * fields are then interpreted by the definitions of that type.
+ */
+public class BenchmarkFixtures {
+
+  public static final String DEFAULT_FILE = "src/test/resources/general/BooksAll.2014.part01-0001.mrc";
+
+  private static final Map<Leader.Type, String> TYPE_CODES = new EnumMap<>(Leader.Type.class);
+  static {
+    TYPE_CODES.put(Leader.Type.BOOKS, "am");
+    TYPE_CODES.put(Leader.Type.CONTINUING_RESOURCES, "as");
+    TYPE_CODES.put(Leader.Type.MUSIC, "jm");
+    TYPE_CODES.put(Leader.Type.MAPS, "em");
+    TYPE_CODES.put(Leader.Type.VISUAL_MATERIALS, "gm");
+    TYPE_CODES.put(Leader.Type.COMPUTER_FILES, "mm");
+    TYPE_CODES.put(Leader.Type.MIXED_MATERIALS, "pm");
+  }
+
+  private BenchmarkFixtures() {}
+
+  /**
+   * @return The raw records of the file, with Leader/06-07 set to the given type
+   */
+  public static List<byte[]> readRawRecords(String fileName, Leader.Type type) throws IOException {
+    String typeCode = TYPE_CODES.get(type);
+    List<byte[]> records = new ArrayList<>();
+    try (InputStream in = new FileInputStream(fileName);
+         RawRecordReader reader = new RawRecordReader(in)) {
+      byte[] raw;
+      while ((raw = reader.next()) != null) {
+        raw[6] = (byte) typeCode.charAt(0);
+        raw[7] = (byte) typeCode.charAt(1);
+        records.add(raw);
+      }
+    }
+    if (records.isEmpty())
+      throw new IllegalArgumentException("No record in " + fileName);
+    return records;
+  }
+
+  public static List<MarcRecord> readRecords(String fileName,
+                                             Leader.Type type,
+                                             MarcVersion marcVersion) throws IOException {
+    List<MarcRecord> records = new ArrayList<>();
+    for (byte[] raw : readRawRecords(fileName, type))
+      records.add(Iso2709Parser.parse(raw, null, marcVersion, false));
+    return records;
+  }
+}
@@ -0,0 +1,91 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.Code;
+import de.gwdg.metadataqa.marc.CodeIndex;
+import de.gwdg.metadataqa.marc.definition.controlsubfields.tag008.Tag008visual18;
+import de.gwdg.metadataqa.marc.definition.general.codelist.LanguageCodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the linear scan of a code list (the way the definitions looked up codes before
+ * CodeIndex) with the compiled CodeIndex. The values are a mix of valid codes, range values
+ * and invalid values.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main CodeLookupBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodeLookupBenchmark {
+
+  private List<Code> languageCodes;
+  private CodeIndex languageIndex;
+  private String[] languageValues;
+
+  private List<Code> runningTimeCodes;
+  private CodeIndex runningTimeIndex;
+  private String[] runningTimeValues;
+
+  @Setup
+  public void setup() {
+    languageCodes = LanguageCodes.getInstance().getCodes();
+    languageIndex = new CodeIndex(languageCodes);
+    languageValues = new String[]{"eng", "ger", "hun", "jpn", "zza", "xxx", "   ", "und"};
+
+    runningTimeCodes = Tag008visual18.getInstance().getCodes();
+    runningTimeIndex = new CodeIndex(runningTimeCodes);
+    runningTimeValues = new String[]{"000", "090", "125", "nnn", "---", "|||", "abc", "   "};
+  }
+
+  @Benchmark
+  public void languageLinear(Blackhole blackhole) {
+    for (String value : languageValues)
+      blackhole.consume(linear(languageCodes, value));
+  }
+
+  @Benchmark
+  public void languageIndexed(Blackhole blackhole) {
+    for (String value : languageValues)
+      blackhole.consume(languageIndex.get(value));
+  }
+
+  @Benchmark
+  public void runningTimeLinear(Blackhole blackhole) {
+    for (String value : runningTimeValues)
+      blackhole.consume(linear(runningTimeCodes, value));
+  }
+
+  @Benchmark
+  public void runningTimeIndexed(Blackhole blackhole) {
+    for (String value : runningTimeValues)
+      blackhole.consume(runningTimeIndex.get(value));
+  }
+
+  private static Code linear(List<Code> codes, String value) {
+    for (Code code : codes) {
+      if (code.getCode().equals(value)) {
+        return code;
+      } else if (code.isRange() && code.getRange().isValid(value)) {
+        return code;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,141 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.DataField;
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.MarcSubfield;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.model.validation.ValidationError;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorType;
+import de.gwdg.metadataqa.marc.utils.counter.EnumCounter;
+import de.gwdg.metadataqa.marc.utils.counter.ObjectLongCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per record counting of the completeness and the validation with boxed maps (the
+ * way they counted before the utils.counter package) with the reused primitive counters. The
+ * keys (subfield paths and error types) are extracted in the setup, so only the counting is
+ * measured. The allocation rate is reported by the gc profiler.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main CounterBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CounterBenchmark {
+
+  @Param({BenchmarkFixtures.DEFAULT_FILE})
+  public String file;
+
+  // the subfield paths of the records
+  private List<String[]> recordKeys;
+  // the error types of the records
+  private List<ValidationErrorType[]> recordTypes;
+
+  private ObjectLongCounter<String> recordFrequency;
+  private EnumCounter<ValidationErrorType> typeCounter;
+
+  @Setup
+  public void setup() throws IOException {
+    recordKeys = new ArrayList<>();
+    recordTypes = new ArrayList<>();
+    for (MarcRecord marcRecord : BenchmarkFixtures.readRecords(file, Leader.Type.BOOKS, MarcVersion.MARC21)) {
+      List<String> keys = new ArrayList<>();
+      for (DataField field : marcRecord.getDatafields())
+        for (MarcSubfield subfield : field.parseSubfields())
+          keys.add(field.getTag() + "$" + subfield.getCode());
+      recordKeys.add(keys.toArray(new String[0]));
+
+      marcRecord.validate(MarcVersion.MARC21, true);
+      List<ValidationErrorType> types = new ArrayList<>();
+      for (ValidationError error : marcRecord.getValidationErrors())
+        types.add(error.getType());
+      recordTypes.add(types.toArray(new ValidationErrorType[0]));
+    }
+    recordFrequency = new ObjectLongCounter<>();
+    typeCounter = new EnumCounter<>(ValidationErrorType.class);
+  }
+
+  @Benchmark
+  public void recordFrequencyTreeMap(Blackhole blackhole) {
+    for (String[] keys : recordKeys) {
+      Map<String, Integer> counter = new TreeMap<>();
+      for (String key : keys) {
+        if (!counter.containsKey(key))
+          counter.put(key, 0);
+        counter.put(key, counter.get(key) + 1);
+      }
+      for (Map.Entry<String, Integer> entry : counter.entrySet())
+        blackhole.consume(entry.getValue().intValue());
+    }
+  }
+
+  @Benchmark
+  public void recordFrequencyCounter(Blackhole blackhole) {
+    for (String[] keys : recordKeys) {
+      recordFrequency.clear();
+      for (String key : keys)
+        recordFrequency.increment(key);
+      for (int i = 0; i < recordFrequency.size(); i++)
+        blackhole.consume(recordFrequency.getValue(i));
+    }
+  }
+
+  @Benchmark
+  public void errorTypesHashMap(Blackhole blackhole) {
+    Map<ValidationErrorType, Integer> instances = new HashMap<>();
+    Map<ValidationErrorType, Integer> records = new HashMap<>();
+    for (ValidationErrorType[] types : recordTypes) {
+      Set<ValidationErrorType> unique = new HashSet<>();
+      for (ValidationErrorType type : types) {
+        instances.merge(type, 1, Integer::sum);
+        unique.add(type);
+      }
+      for (ValidationErrorType type : unique)
+        records.merge(type, 1, Integer::sum);
+    }
+    blackhole.consume(instances);
+    blackhole.consume(records);
+  }
+
+  @Benchmark
+  public void errorTypesEnumCounter(Blackhole blackhole) {
+    EnumCounter<ValidationErrorType> instances = new EnumCounter<>(ValidationErrorType.class);
+    EnumCounter<ValidationErrorType> records = new EnumCounter<>(ValidationErrorType.class);
+    for (ValidationErrorType[] types : recordTypes) {
+      typeCounter.clear();
+      for (ValidationErrorType type : types) {
+        instances.increment(type);
+        typeCounter.increment(type);
+      }
+      typeCounter.forEach((type, count) -> records.increment(type));
+    }
+    blackhole.consume(instances);
+    blackhole.consume(records);
+  }
+}
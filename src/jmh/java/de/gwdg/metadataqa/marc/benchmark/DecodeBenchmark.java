@@ -0,0 +1,85 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.utils.iso2709.Iso2709Parser;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning ISO 2709 bytes into a MarcRecord: marc4j decoding, MarcFactory.createFromMarc4j() on
+ * the decoded records, and the native parser which does both. Each operation processes all the
+ * records of the fixture file.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main DecodeBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecodeBenchmark {
+
+  @Param({BenchmarkFixtures.DEFAULT_FILE})
+  public String file;
+
+  @Param({"BOOKS", "CONTINUING_RESOURCES", "MUSIC", "MAPS", "VISUAL_MATERIALS"})
+  public Leader.Type type;
+
+  @Param({"MARC21", "DNB"})
+  public MarcVersion marcVersion;
+
+  private List<byte[]> rawRecords;
+  private List<Record> marc4jRecords;
+
+  @Setup
+  public void setup() throws IOException {
+    rawRecords = BenchmarkFixtures.readRawRecords(file, type);
+    marc4jRecords = new ArrayList<>();
+    for (byte[] raw : rawRecords)
+      marc4jRecords.add(decode(raw));
+  }
+
+  @Benchmark
+  public void marc4jDecode(Blackhole blackhole) {
+    for (byte[] raw : rawRecords)
+      blackhole.consume(decode(raw));
+  }
+
+  @Benchmark
+  public void createFromMarc4j(Blackhole blackhole) {
+    for (Record record : marc4jRecords)
+      blackhole.consume(MarcFactory.createFromMarc4j(record, marcVersion));
+  }
+
+  @Benchmark
+  public void nativeParse(Blackhole blackhole) {
+    for (byte[] raw : rawRecords)
+      blackhole.consume(Iso2709Parser.parse(raw, null, marcVersion, false));
+  }
+
+  private static Record decode(byte[] raw) {
+    return new MarcStreamReader(new ByteArrayInputStream(raw)).next();
+  }
+}
@@ -0,0 +1,38 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.utils.marcspec.MARCspecParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing MARCspec expressions of different complexity.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main MarcSpecBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarcSpecBenchmark {
+
+  @Param({"LDR", "245$a", "245$a-c", "880[1]^2", "300[0]", "7..", "245$a$b$c"})
+  public String spec;
+
+  @Benchmark
+  public Object parse() {
+    return new MARCspecParser().parse(spec);
+  }
+}
@@ -0,0 +1,83 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.analysis.ClassificationAnalyzer;
+import de.gwdg.metadataqa.marc.analysis.ClassificationStatistics;
+import de.gwdg.metadataqa.marc.analysis.ThompsonTraillAnalysis;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per record work of the command line tools on already parsed records: validation,
+ * Thompson-Traill scores and classification analysis. Each operation processes all the records
+ * of the fixture file. The Solr indexing is measured by SolrBenchmark.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main RecordBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordBenchmark {
+
+  @Param({BenchmarkFixtures.DEFAULT_FILE})
+  public String file;
+
+  @Param({"BOOKS", "CONTINUING_RESOURCES", "MUSIC", "MAPS", "VISUAL_MATERIALS"})
+  public Leader.Type type;
+
+  @Param({"MARC21", "DNB"})
+  public MarcVersion marcVersion;
+
+  private List<MarcRecord> records;
+
+  @Setup
+  public void setup() throws IOException {
+    records = BenchmarkFixtures.readRecords(file, type, marcVersion);
+  }
+
+  @Benchmark
+  public void validate(Blackhole blackhole) {
+    for (MarcRecord record : records)
+      blackhole.consume(record.validate(marcVersion, false));
+  }
+
+  @Benchmark
+  public void validateSummary(Blackhole blackhole) {
+    for (MarcRecord record : records)
+      blackhole.consume(record.validate(marcVersion, true));
+  }
+
+  @Benchmark
+  public void thompsonTraillScores(Blackhole blackhole) {
+    for (MarcRecord record : records)
+      blackhole.consume(ThompsonTraillAnalysis.getScores(record));
+  }
+
+  @Benchmark
+  public void classificationAnalysis(Blackhole blackhole) {
+    ClassificationStatistics statistics = new ClassificationStatistics();
+    for (MarcRecord record : records)
+      blackhole.consume(new ClassificationAnalyzer(record, statistics).process());
+    blackhole.consume(statistics);
+  }
+}
@@ -0,0 +1,107 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.utils.ReportWriter;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormatter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of writing the record level validation details: appending to the file for
+ * every record (the way the reports were written before ReportWriter), and writing through an
+ * open ReportWriter, with and without gzip. The rows are formatted in the setup, so only the
+ * writing is measured. The score is the number of records written per second.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main ReportWriterBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportWriterBenchmark {
+
+  // the number of times the records of the fixture are written in an invocation
+  private static final int REPEAT = 10;
+  private static final int RECORDS_PER_INVOCATION = 100 * REPEAT;
+
+  @Param({BenchmarkFixtures.DEFAULT_FILE})
+  public String file;
+
+  // the details rows of the records
+  private List<String> rows;
+  private File directory;
+
+  @Setup
+  public void setup() throws IOException {
+    rows = new ArrayList<>();
+    for (MarcRecord marcRecord : BenchmarkFixtures.readRecords(file, Leader.Type.BOOKS, MarcVersion.MARC21)) {
+      marcRecord.validate(MarcVersion.MARC21, true);
+      rows.add(ValidationErrorFormatter.format(
+        marcRecord.getValidationErrors(), ValidationErrorFormat.COMMA_SEPARATED, true));
+    }
+    if (rows.size() * REPEAT != RECORDS_PER_INVOCATION)
+      throw new IllegalStateException(String.format("The fixture should have %d records, got %d",
+        RECORDS_PER_INVOCATION / REPEAT, rows.size()));
+    directory = Files.createTempDirectory("report-writer").toFile();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+  public void appendPerRecord() throws IOException {
+    File output = new File(directory, "append.csv");
+    output.delete();
+    for (int i = 0; i < REPEAT; i++)
+      for (String row : rows)
+        FileUtils.writeStringToFile(output, row, true);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+  public void reportWriter() throws IOException {
+    write(false);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+  public void reportWriterGzip() throws IOException {
+    write(true);
+  }
+
+  private void write(boolean gzip) throws IOException {
+    try (ReportWriter writer = new ReportWriter(new File(directory, "writer.csv"), ReportWriter.DEFAULT_BUFFER_SIZE, gzip)) {
+      for (int i = 0; i < REPEAT; i++)
+        for (String row : rows)
+          writer.write(row);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package de.gwdg.metadataqa.marc.benchmark;
+
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.datastore.SolrDocumentBuilder;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.model.SolrFieldType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Solr indexing of already parsed records: the key-value pairs (the map), and the streamed
+ * Solr document, with each way of naming the Solr fields. Each operation processes all the
+ * records of the fixture file.
+ *
+ * Run with: mvn -Pjmh package; java -cp target/metadata-qa-marc-*-jar-with-dependencies.jar
+ * org.openjdk.jmh.Main SolrBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolrBenchmark {
+
+  @Param({BenchmarkFixtures.DEFAULT_FILE})
+  public String file;
+
+  @Param({"BOOKS", "CONTINUING_RESOURCES", "MUSIC", "MAPS", "VISUAL_MATERIALS"})
+  public Leader.Type type;
+
+  @Param({"MARC21", "DNB"})
+  public MarcVersion marcVersion;
+
+  @Param({"MARC", "MIXED"})
+  public SolrFieldType solrFieldType;
+
+  private List<MarcRecord> records;
+
+  @Setup
+  public void setup() throws IOException {
+    records = BenchmarkFixtures.readRecords(file, type, marcVersion);
+  }
+
+  @Benchmark
+  public void keyValuePairs(Blackhole blackhole) {
+    for (MarcRecord record : records)
+      blackhole.consume(record.getKeyValuePairs(solrFieldType));
+  }
+
+  @Benchmark
+  public void solrDocument(Blackhole blackhole) {
+    SolrDocumentBuilder builder = new SolrDocumentBuilder(solrFieldType, true);
+    for (MarcRecord record : records)
+      blackhole.consume(builder.build(record.getId(), record));
+  }
+}
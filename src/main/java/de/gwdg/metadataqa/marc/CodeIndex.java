@@ -0,0 +1,107 @@
+package de.gwdg.metadataqa.marc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable lookup table built from a list of codes: exact codes are found by a single hash
+ * lookup, numeric ranges (such as "001-999") by comparing the parsed number to the bounds. The
+ * result is the same as scanning the list and returning the first code which is equal to the
+ * value or whose range contains it.
+ */
+public class CodeIndex {
+
+  private static final Pattern RANGE_PATTERN = Pattern.compile("^(\\d+)-(\\d+)$");
+
+  private final Map<String, Integer> positions;
+  private final Code[] codes;
+
+  /**
+   * The codes which look like a range. Their Code.isRange() flag is checked at lookup time,
+   * because the definitions usually set it after the list has been created.
+   */
+  private final int[] rangePositions;
+  private final int[] mins;
+  private final int[] maxs;
+
+  public CodeIndex(List<Code> codeList) {
+    codes = codeList.toArray(new Code[0]);
+    positions = new HashMap<>(codes.length * 2);
+    int numberOfRanges = 0;
+    int[] rangeCandidates = new int[codes.length];
+    int[] minCandidates = new int[codes.length];
+    int[] maxCandidates = new int[codes.length];
+    for (int i = 0; i < codes.length; i++) {
+      String code = codes[i].getCode();
+      positions.putIfAbsent(code, i);
+      Matcher matcher = RANGE_PATTERN.matcher(code);
+      if (matcher.find()) {
+        try {
+          minCandidates[numberOfRanges] = Integer.parseInt(matcher.group(1));
+          maxCandidates[numberOfRanges] = Integer.parseInt(matcher.group(2));
+          rangeCandidates[numberOfRanges] = i;
+          numberOfRanges++;
+        } catch (NumberFormatException e) {
+          // too large to be a range
+        }
+      }
+    }
+    rangePositions = copy(rangeCandidates, numberOfRanges);
+    mins = copy(minCandidates, numberOfRanges);
+    maxs = copy(maxCandidates, numberOfRanges);
+  }
+
+  /**
+   * @return The code which is equal to the value or covers it as a range, or null
+   */
+  public Code get(String value) {
+    Integer exact = positions.get(value);
+    int position = exact == null ? codes.length : exact;
+    if (rangePositions.length > 0 && value != null) {
+      Integer number = parseNumber(value);
+      if (number != null)
+        for (int i = 0; i < rangePositions.length && rangePositions[i] < position; i++)
+          if (mins[i] <= number && number <= maxs[i] && codes[rangePositions[i]].isRange())
+            position = rangePositions[i];
+    }
+    return position < codes.length ? codes[position] : null;
+  }
+
+  /**
+   * @return The code which is equal to the value, or null
+   */
+  public Code getExact(String value) {
+    Integer position = positions.get(value);
+    return position == null ? null : codes[position];
+  }
+
+  public boolean containsExact(String value) {
+    return positions.containsKey(value);
+  }
+
+  /**
+   * Parses the value the same way as Range.isValid(), but without throwing an exception for
+   * the usual non numeric values.
+   */
+  private static Integer parseNumber(String value) {
+    if (value.isEmpty())
+      return null;
+    char first = value.charAt(0);
+    if (!(first >= '0' && first <= '9') && first != '-' && first != '+')
+      return null;
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static int[] copy(int[] source, int length) {
+    int[] target = new int[length];
+    System.arraycopy(source, 0, target, 0, length);
+    return target;
+  }
+}
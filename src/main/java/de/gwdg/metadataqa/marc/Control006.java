@@ -77,6 +77,10 @@ public class Control006 extends MarcPositionalControlField implements Serializab
 
   public Control006(String content, Leader.Type recordType) {
     super(Control006Definition.getInstance(), content, recordType);
+  }
+
+  @Override
+  protected void processContent() {
     if (content != null)
       process();
   }
@@ -240,28 +244,34 @@ public class Control006 extends MarcPositionalControlField implements Serializab
   }
 
   public String resolve(ControlSubfieldDefinition key) {
+    ensureParsed();
     String value = (String)valuesMap.get(key);
     String text = key.resolve(value);
     return text;
   }
 
   public Map<ControlSubfieldDefinition, String> getMap() {
+    ensureParsed();
     return valuesMap;
   }
 
   public Map<ControlSubfieldDefinition, String> getValueMap() {
+    ensureParsed();
     return valuesMap;
   }
 
   public String getValueByPosition(int position) {
+    ensureParsed();
     return valuesMap.get(getSubfieldByPosition(position));
   }
 
   public ControlSubfieldDefinition getSubfieldByPosition(int position) {
+    ensureParsed();
     return byPosition.get(position);
   }
 
   public Set<Integer> getSubfieldPositions() {
+    ensureParsed();
     return byPosition.keySet();
   }
 
@@ -270,194 +280,242 @@ public class Control006 extends MarcPositionalControlField implements Serializab
   }
 
   public ControlValue getTag006all00() {
+    ensureParsed();
     return tag006all00;
   }
 
   public ControlValue getTag006book01() {
+    ensureParsed();
     return tag006book01;
   }
 
   public ControlValue getTag006book05() {
+    ensureParsed();
     return tag006book05;
   }
 
   public ControlValue getTag006book06() {
+    ensureParsed();
     return tag006book06;
   }
 
   public ControlValue getTag006book07() {
+    ensureParsed();
     return tag006book07;
   }
 
   public ControlValue getTag006book11() {
+    ensureParsed();
     return tag006book11;
   }
 
   public ControlValue getTag006book12() {
+    ensureParsed();
     return tag006book12;
   }
 
   public ControlValue getTag006book13() {
+    ensureParsed();
     return tag006book13;
   }
 
   public ControlValue getTag006book14() {
+    ensureParsed();
     return tag006book14;
   }
 
   public ControlValue getTag006book16() {
+    ensureParsed();
     return tag006book16;
   }
 
   public ControlValue getTag006book17() {
+    ensureParsed();
     return tag006book17;
   }
 
   public ControlValue getTag006computer05() {
+    ensureParsed();
     return tag006computer05;
   }
 
   public ControlValue getTag006computer06() {
+    ensureParsed();
     return tag006computer06;
   }
 
   public ControlValue getTag006computer09() {
+    ensureParsed();
     return tag006computer09;
   }
 
   public ControlValue getTag006computer11() {
+    ensureParsed();
     return tag006computer11;
   }
 
   public ControlValue getTag006map01() {
+    ensureParsed();
     return tag006map01;
   }
 
   public ControlValue getTag006map05() {
+    ensureParsed();
     return tag006map05;
   }
 
   public ControlValue getTag006map08() {
+    ensureParsed();
     return tag006map08;
   }
 
   public ControlValue getTag006map11() {
+    ensureParsed();
     return tag006map11;
   }
 
   public ControlValue getTag006map12() {
+    ensureParsed();
     return tag006map12;
   }
 
   public ControlValue getTag006map14() {
+    ensureParsed();
     return tag006map14;
   }
 
   public ControlValue getTag006map16() {
+    ensureParsed();
     return tag006map16;
   }
 
   public ControlValue getTag006music01() {
+    ensureParsed();
     return tag006music01;
   }
 
   public ControlValue getTag006music03() {
+    ensureParsed();
     return tag006music03;
   }
 
   public ControlValue getTag006music04() {
+    ensureParsed();
     return tag006music04;
   }
 
   public ControlValue getTag006music05() {
+    ensureParsed();
     return tag006music05;
   }
 
   public ControlValue getTag006music06() {
+    ensureParsed();
     return tag006music06;
   }
 
   public ControlValue getTag006music07() {
+    ensureParsed();
     return tag006music07;
   }
 
   public ControlValue getTag006music13() {
+    ensureParsed();
     return tag006music13;
   }
 
   public ControlValue getTag006music16() {
+    ensureParsed();
     return tag006music16;
   }
 
   public ControlValue getTag006continuing01() {
+    ensureParsed();
     return tag006continuing01;
   }
 
   public ControlValue getTag006continuing02() {
+    ensureParsed();
     return tag006continuing02;
   }
 
   public ControlValue getTag006continuing04() {
+    ensureParsed();
     return tag006continuing04;
   }
 
   public ControlValue getTag006continuing05() {
+    ensureParsed();
     return tag006continuing05;
   }
 
   public ControlValue getTag006continuing06() {
+    ensureParsed();
     return tag006continuing06;
   }
 
   public ControlValue getTag006continuing07() {
+    ensureParsed();
     return tag006continuing07;
   }
 
   public ControlValue getTag006continuing08() {
+    ensureParsed();
     return tag006continuing08;
   }
 
   public ControlValue getTag006continuing11() {
+    ensureParsed();
     return tag006continuing11;
   }
 
   public ControlValue getTag006continuing12() {
+    ensureParsed();
     return tag006continuing12;
   }
 
   public ControlValue getTag006continuing16() {
+    ensureParsed();
     return tag006continuing16;
   }
 
   public ControlValue getTag006continuing17() {
+    ensureParsed();
     return tag006continuing17;
   }
 
   public ControlValue getTag006visual01() {
+    ensureParsed();
     return tag006visual01;
   }
 
   public ControlValue getTag006visual05() {
+    ensureParsed();
     return tag006visual05;
   }
 
   public ControlValue getTag006visual11() {
+    ensureParsed();
     return tag006visual11;
   }
 
   public ControlValue getTag006visual12() {
+    ensureParsed();
     return tag006visual12;
   }
 
   public ControlValue getTag006visual16() {
+    ensureParsed();
     return tag006visual16;
   }
 
   public ControlValue getTag006visual17() {
+    ensureParsed();
     return tag006visual17;
   }
 
   public ControlValue getTag006mixed06() {
+    ensureParsed();
     return tag006mixed06;
   }
 }
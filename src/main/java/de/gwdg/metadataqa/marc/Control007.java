@@ -158,9 +158,7 @@ public class Control007 extends MarcPositionalControlField implements Serializab
   }
 
   private void handleContent(String content) {
-    if (StringUtil.isNotBlank(content)) {
-      process();
-    } else {
+    if (StringUtil.isBlank(content)) {
       StringBuffer msg = new StringBuffer();
       if (record != null) {
         msg.append(record.getId().trim()).append(": ");
@@ -175,6 +173,12 @@ public class Control007 extends MarcPositionalControlField implements Serializab
     handleContent(content);
   }
 
+  @Override
+  protected void processContent() {
+    if (StringUtil.isNotBlank(content))
+      process();
+  }
+
   private void process() {
 
     if (StringUtil.isBlank(content)) {
@@ -361,6 +365,7 @@ public class Control007 extends MarcPositionalControlField implements Serializab
   }
 
   public String resolve(ControlSubfieldDefinition key) {
+    ensureParsed();
     String value = (String)valuesMap.get(key);
     String text = key.resolve(value);
     return text;
@@ -371,450 +376,562 @@ public class Control007 extends MarcPositionalControlField implements Serializab
   }
 
   public Map<ControlSubfieldDefinition, String> getMap() {
+    ensureParsed();
     return valuesMap;
   }
 
   public String getValueByPosition(int position) {
+    ensureParsed();
     return valuesMap.get(getSubfieldByPosition(position));
   }
 
   public ControlSubfieldDefinition getSubfieldByPosition(int position) {
+    ensureParsed();
     return byPosition.get(position);
   }
 
   public Set<Integer> getSubfieldPositions() {
+    ensureParsed();
     return byPosition.keySet();
   }
 
   public String getCategoryOfMaterial() {
+    ensureParsed();
     return categoryOfMaterial;
   }
 
   public Control007Category getCategory() {
+    ensureParsed();
     return category;
   }
 
   public ControlValue getMap00() {
+    ensureParsed();
     return tag007map00;
   }
 
   public ControlValue getMap01() {
+    ensureParsed();
     return tag007map01;
   }
 
   public ControlValue getMap03() {
+    ensureParsed();
     return tag007map03;
   }
 
   public ControlValue getMap04() {
+    ensureParsed();
     return tag007map04;
   }
 
   public ControlValue getMap05() {
+    ensureParsed();
     return tag007map05;
   }
 
   public ControlValue getMap06() {
+    ensureParsed();
     return tag007map06;
   }
 
   public ControlValue getMap07() {
+    ensureParsed();
     return tag007map07;
   }
 
   public ControlValue getElectro00() {
+    ensureParsed();
     return tag007electro00;
   }
 
   public ControlValue getElectro01() {
+    ensureParsed();
     return tag007electro01;
   }
 
   public ControlValue getElectro03() {
+    ensureParsed();
     return tag007electro03;
   }
 
   public ControlValue getElectro04() {
+    ensureParsed();
     return tag007electro04;
   }
 
   public ControlValue getElectro05() {
+    ensureParsed();
     return tag007electro05;
   }
 
   public ControlValue getElectro06() {
+    ensureParsed();
     return tag007electro06;
   }
 
   public ControlValue getElectro09() {
+    ensureParsed();
     return tag007electro09;
   }
 
   public ControlValue getElectro10() {
+    ensureParsed();
     return tag007electro10;
   }
 
   public ControlValue getElectro11() {
+    ensureParsed();
     return tag007electro11;
   }
 
   public ControlValue getElectro12() {
+    ensureParsed();
     return tag007electro12;
   }
 
   public ControlValue getElectro13() {
+    ensureParsed();
     return tag007electro13;
   }
 
   public ControlValue getGlobe00() {
+    ensureParsed();
     return tag007globe00;
   }
 
   public ControlValue getGlobe01() {
+    ensureParsed();
     return tag007globe01;
   }
 
   public ControlValue getGlobe03() {
+    ensureParsed();
     return tag007globe03;
   }
 
   public ControlValue getGlobe04() {
+    ensureParsed();
     return tag007globe04;
   }
 
   public ControlValue getGlobe05() {
+    ensureParsed();
     return tag007globe05;
   }
 
   public ControlValue getTactile00() {
+    ensureParsed();
     return tag007tactile00;
   }
 
   public ControlValue getTactile01() {
+    ensureParsed();
     return tag007tactile01;
   }
 
   public ControlValue getTactile03() {
+    ensureParsed();
     return tag007tactile03;
   }
 
   public ControlValue getTactile05() {
+    ensureParsed();
     return tag007tactile05;
   }
 
   public ControlValue getTactile06() {
+    ensureParsed();
     return tag007tactile06;
   }
 
   public ControlValue getTactile09() {
+    ensureParsed();
     return tag007tactile09;
   }
 
   public ControlValue getProjected00() {
+    ensureParsed();
     return tag007projected00;
   }
 
   public ControlValue getProjected01() {
+    ensureParsed();
     return tag007projected01;
   }
 
   public ControlValue getProjected03() {
+    ensureParsed();
     return tag007projected03;
   }
 
   public ControlValue getProjected04() {
+    ensureParsed();
     return tag007projected04;
   }
 
   public ControlValue getProjected05() {
+    ensureParsed();
     return tag007projected05;
   }
 
   public ControlValue getProjected06() {
+    ensureParsed();
     return tag007projected06;
   }
 
   public ControlValue getProjected07() {
+    ensureParsed();
     return tag007projected07;
   }
 
   public ControlValue getProjected08() {
+    ensureParsed();
     return tag007projected08;
   }
 
   public ControlValue getMicroform00() {
+    ensureParsed();
     return tag007microform00;
   }
 
   public ControlValue getMicroform01() {
+    ensureParsed();
     return tag007microform01;
   }
 
   public ControlValue getMicroform03() {
+    ensureParsed();
     return tag007microform03;
   }
 
   public ControlValue getMicroform04() {
+    ensureParsed();
     return tag007microform04;
   }
 
   public ControlValue getMicroform05() {
+    ensureParsed();
     return tag007microform05;
   }
 
   public ControlValue getMicroform06() {
+    ensureParsed();
     return tag007microform06;
   }
 
   public ControlValue getMicroform09() {
+    ensureParsed();
     return tag007microform09;
   }
 
   public ControlValue getMicroform10() {
+    ensureParsed();
     return tag007microform10;
   }
 
   public ControlValue getMicroform11() {
+    ensureParsed();
     return tag007microform11;
   }
 
   public ControlValue getMicroform12() {
+    ensureParsed();
     return tag007microform12;
   }
 
   public ControlValue getNonprojected00() {
+    ensureParsed();
     return tag007nonprojected00;
   }
 
   public ControlValue getNonprojected01() {
+    ensureParsed();
     return tag007nonprojected01;
   }
 
   public ControlValue getNonprojected03() {
+    ensureParsed();
     return tag007nonprojected03;
   }
 
   public ControlValue getNonprojected04() {
+    ensureParsed();
     return tag007nonprojected04;
   }
 
   public ControlValue getNonprojected05() {
+    ensureParsed();
     return tag007nonprojected05;
   }
 
   public ControlValue getMotionPicture00() {
+    ensureParsed();
     return tag007motionPicture00;
   }
 
   public ControlValue getMotionPicture01() {
+    ensureParsed();
     return tag007motionPicture01;
   }
 
   public ControlValue getMotionPicture03() {
+    ensureParsed();
     return tag007motionPicture03;
   }
 
   public ControlValue getMotionPicture04() {
+    ensureParsed();
     return tag007motionPicture04;
   }
 
   public ControlValue getMotionPicture05() {
+    ensureParsed();
     return tag007motionPicture05;
   }
 
   public ControlValue getMotionPicture06() {
+    ensureParsed();
     return tag007motionPicture06;
   }
 
   public ControlValue getMotionPicture07() {
+    ensureParsed();
     return tag007motionPicture07;
   }
 
   public ControlValue getMotionPicture08() {
+    ensureParsed();
     return tag007motionPicture08;
   }
 
   public ControlValue getMotionPicture09() {
+    ensureParsed();
     return tag007motionPicture09;
   }
 
   public ControlValue getMotionPicture10() {
+    ensureParsed();
     return tag007motionPicture10;
   }
 
   public ControlValue getMotionPicture11() {
+    ensureParsed();
     return tag007motionPicture11;
   }
 
   public ControlValue getMotionPicture12() {
+    ensureParsed();
     return tag007motionPicture12;
   }
 
   public ControlValue getMotionPicture13() {
+    ensureParsed();
     return tag007motionPicture13;
   }
 
   public ControlValue getMotionPicture14() {
+    ensureParsed();
     return tag007motionPicture14;
   }
 
   public ControlValue getMotionPicture15() {
+    ensureParsed();
     return tag007motionPicture15;
   }
 
   public ControlValue getMotionPicture16() {
+    ensureParsed();
     return tag007motionPicture16;
   }
 
   public ControlValue getMotionPicture17() {
+    ensureParsed();
     return tag007motionPicture17;
   }
 
   public ControlValue getKit00() {
+    ensureParsed();
     return tag007kit00;
   }
 
   public ControlValue getKit01() {
+    ensureParsed();
     return tag007kit01;
   }
 
   public ControlValue getMusic00() {
+    ensureParsed();
     return tag007music00;
   }
 
   public ControlValue getMusic01() {
+    ensureParsed();
     return tag007music01;
   }
 
   public ControlValue getRemoteSensing00() {
+    ensureParsed();
     return tag007remoteSensing00;
   }
 
   public ControlValue getRemoteSensing01() {
+    ensureParsed();
     return tag007remoteSensing01;
   }
 
   public ControlValue getRemoteSensing03() {
+    ensureParsed();
     return tag007remoteSensing03;
   }
 
   public ControlValue getRemoteSensing04() {
+    ensureParsed();
     return tag007remoteSensing04;
   }
 
   public ControlValue getRemoteSensing05() {
+    ensureParsed();
     return tag007remoteSensing05;
   }
 
   public ControlValue getRemoteSensing06() {
+    ensureParsed();
     return tag007remoteSensing06;
   }
 
   public ControlValue getRemoteSensing07() {
+    ensureParsed();
     return tag007remoteSensing07;
   }
 
   public ControlValue getRemoteSensing08() {
+    ensureParsed();
     return tag007remoteSensing08;
   }
 
   public ControlValue getRemoteSensing09() {
+    ensureParsed();
     return tag007remoteSensing09;
   }
 
   public ControlValue getSoundRecording00() {
+    ensureParsed();
     return tag007soundRecording00;
   }
 
   public ControlValue getSoundRecording01() {
+    ensureParsed();
     return tag007soundRecording01;
   }
 
   public ControlValue getSoundRecording03() {
+    ensureParsed();
     return tag007soundRecording03;
   }
 
   public ControlValue getSoundRecording04() {
+    ensureParsed();
     return tag007soundRecording04;
   }
 
   public ControlValue getSoundRecording05() {
+    ensureParsed();
     return tag007soundRecording05;
   }
 
   public ControlValue getSoundRecording06() {
+    ensureParsed();
     return tag007soundRecording06;
   }
 
   public ControlValue getSoundRecording07() {
+    ensureParsed();
     return tag007soundRecording07;
   }
 
   public ControlValue getSoundRecording08() {
+    ensureParsed();
     return tag007soundRecording08;
   }
 
   public ControlValue getSoundRecording09() {
+    ensureParsed();
     return tag007soundRecording09;
   }
 
   public ControlValue getSoundRecording10() {
+    ensureParsed();
     return tag007soundRecording10;
   }
 
   public ControlValue getSoundRecording11() {
+    ensureParsed();
     return tag007soundRecording11;
   }
 
   public ControlValue getSoundRecording12() {
+    ensureParsed();
     return tag007soundRecording12;
   }
 
   public ControlValue getSoundRecording13() {
+    ensureParsed();
     return tag007soundRecording13;
   }
 
   public ControlValue getText00() {
+    ensureParsed();
     return tag007text00;
   }
 
   public ControlValue getText01() {
+    ensureParsed();
     return tag007text01;
   }
 
   public ControlValue getVideo00() {
+    ensureParsed();
     return tag007video00;
   }
 
   public ControlValue getVideo01() {
+    ensureParsed();
     return tag007video01;
   }
 
   public ControlValue getVideo03() {
+    ensureParsed();
     return tag007video03;
   }
 
   public ControlValue getVideo04() {
+    ensureParsed();
     return tag007video04;
   }
 
   public ControlValue getVideo05() {
+    ensureParsed();
     return tag007video05;
   }
 
   public ControlValue getVideo06() {
+    ensureParsed();
     return tag007video06;
   }
 
   public ControlValue getVideo07() {
+    ensureParsed();
     return tag007video07;
   }
 
   public ControlValue getVideo08() {
+    ensureParsed();
     return tag007video08;
   }
 
   public ControlValue getUnspecified01() {
+    ensureParsed();
     return tag007unspecified01;
   }
 }
@@ -96,9 +96,9 @@ public class Control008 extends MarcPositionalControlField implements Serializab
       throw new InvalidParameterException(String.format("Record type is null. 008 content: '%s'", content));
     }
     actual008Type = Control008Type.byCode(recordType.getValue().toString());
-    processContent();
   }
 
+  @Override
   protected void processContent() {
     for (ControlSubfieldDefinition subfield : Control008Subfields.getInstance().get(Control008Type.ALL_MATERIALS)) {
 
@@ -271,28 +271,34 @@ public class Control008 extends MarcPositionalControlField implements Serializab
   }
 
   public String resolve(ControlSubfieldDefinition key) {
+    ensureParsed();
     String value = (String) valuesMap.get(key);
     String text = key.resolve(value);
     return text;
   }
 
   public Map<ControlSubfieldDefinition, String> getMap() {
+    ensureParsed();
     return valuesMap;
   }
 
   public String getValueByPosition(int position) {
+    ensureParsed();
     return valuesMap.get(getSubfieldByPosition(position));
   }
 
   public ControlSubfieldDefinition getSubfieldByPosition(int position) {
+    ensureParsed();
     return byPosition.get(position);
   }
 
   public Set<Integer> getSubfieldPositions() {
+    ensureParsed();
     return byPosition.keySet();
   }
 
   public Map<ControlSubfieldDefinition, String> getValueMap() {
+    ensureParsed();
     return valuesMap;
   }
 
@@ -301,222 +307,277 @@ public class Control008 extends MarcPositionalControlField implements Serializab
   }
 
   public ControlValue getTag008all00() {
+    ensureParsed();
     return tag008all00;
   }
 
   public ControlValue getTag008all06() {
+    ensureParsed();
     return tag008all06;
   }
 
   public ControlValue getTag008all07() {
+    ensureParsed();
     return tag008all07;
   }
 
   public ControlValue getTag008all11() {
+    ensureParsed();
     return tag008all11;
   }
 
   public ControlValue getTag008all15() {
+    ensureParsed();
     return tag008all15;
   }
 
   public ControlValue getTag008all35() {
+    ensureParsed();
     return tag008all35;
   }
 
   public ControlValue getTag008all38() {
+    ensureParsed();
     return tag008all38;
   }
 
   public ControlValue getTag008all39() {
+    ensureParsed();
     return tag008all39;
   }
 
   public ControlValue getTag008book18() {
+    ensureParsed();
     return tag008book18;
   }
 
   public ControlValue getTag008book22() {
+    ensureParsed();
     return tag008book22;
   }
 
   public ControlValue getTag008book23() {
+    ensureParsed();
     return tag008book23;
   }
 
   public ControlValue getTag008book24() {
+    ensureParsed();
     return tag008book24;
   }
 
   public ControlValue getTag008book28() {
+    ensureParsed();
     return tag008book28;
   }
 
   public ControlValue getTag008book29() {
+    ensureParsed();
     return tag008book29;
   }
 
   public ControlValue getTag008book30() {
+    ensureParsed();
     return tag008book30;
   }
 
   public ControlValue getTag008book31() {
+    ensureParsed();
     return tag008book31;
   }
 
   public ControlValue getTag008book33() {
+    ensureParsed();
     return tag008book33;
   }
 
   public ControlValue getTag008book34() {
+    ensureParsed();
     return tag008book34;
   }
 
   public ControlValue getTag008computer22() {
+    ensureParsed();
     return tag008computer22;
   }
 
   public ControlValue getTag008computer23() {
+    ensureParsed();
     return tag008computer23;
   }
 
   public ControlValue getTag008computer26() {
+    ensureParsed();
     return tag008computer26;
   }
 
   public ControlValue getTag008computer28() {
+    ensureParsed();
     return tag008computer28;
   }
 
   public ControlValue getTag008map18() {
+    ensureParsed();
     return tag008map18;
   }
 
   public ControlValue getTag008map22() {
+    ensureParsed();
     return tag008map22;
   }
 
   public ControlValue getTag008map25() {
+    ensureParsed();
     return tag008map25;
   }
 
   public ControlValue getTag008map28() {
+    ensureParsed();
     return tag008map28;
   }
 
   public ControlValue getTag008map29() {
+    ensureParsed();
     return tag008map29;
   }
 
   public ControlValue getTag008map31() {
+    ensureParsed();
     return tag008map31;
   }
 
   public ControlValue getTag008map33() {
+    ensureParsed();
     return tag008map33;
   }
 
   public ControlValue getTag008music18() {
+    ensureParsed();
     return tag008music18;
   }
 
   public ControlValue getTag008music20() {
+    ensureParsed();
     return tag008music20;
   }
 
   public ControlValue getTag008music21() {
+    ensureParsed();
     return tag008music21;
   }
 
   public ControlValue getTag008music22() {
+    ensureParsed();
     return tag008music22;
   }
 
   public ControlValue getTag008music23() {
+    ensureParsed();
     return tag008music23;
   }
 
   public ControlValue getTag008music24() {
+    ensureParsed();
     return tag008music24;
   }
 
   public ControlValue getTag008music30() {
+    ensureParsed();
     return tag008music30;
   }
 
   public ControlValue getTag008music33() {
+    ensureParsed();
     return tag008music33;
   }
 
   public ControlValue getTag008continuing18() {
+    ensureParsed();
     return tag008continuing18;
   }
 
   public ControlValue getTag008continuing19() {
+    ensureParsed();
     return tag008continuing19;
   }
 
   public ControlValue getTag008continuing21() {
+    ensureParsed();
     return tag008continuing21;
   }
 
   public ControlValue getTag008continuing22() {
+    ensureParsed();
     return tag008continuing22;
   }
 
   public ControlValue getTag008continuing23() {
+    ensureParsed();
     return tag008continuing23;
   }
 
   public ControlValue getTag008continuing24() {
+    ensureParsed();
     return tag008continuing24;
   }
 
   public ControlValue getTag008continuing25() {
+    ensureParsed();
     return tag008continuing25;
   }
 
   public ControlValue getTag008continuing28() {
+    ensureParsed();
     return tag008continuing28;
   }
 
   public ControlValue getTag008continuing29() {
+    ensureParsed();
     return tag008continuing29;
   }
 
   public ControlValue getTag008continuing33() {
+    ensureParsed();
     return tag008continuing33;
   }
 
   public ControlValue getTag008continuing34() {
+    ensureParsed();
     return tag008continuing34;
   }
 
   public ControlValue getTag008visual18() {
+    ensureParsed();
     return tag008visual18;
   }
 
   public ControlValue getTag008visual22() {
+    ensureParsed();
     return tag008visual22;
   }
 
   public ControlValue getTag008visual28() {
+    ensureParsed();
     return tag008visual28;
   }
 
   public ControlValue getTag008visual29() {
+    ensureParsed();
     return tag008visual29;
   }
 
   public ControlValue getTag008visual33() {
+    ensureParsed();
     return tag008visual33;
   }
 
   public ControlValue getTag008visual34() {
+    ensureParsed();
     return tag008visual34;
   }
 
   public ControlValue getTag008mixed23() {
+    ensureParsed();
     return tag008mixed23;
   }
 
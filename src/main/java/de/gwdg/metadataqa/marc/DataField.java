@@ -9,6 +9,8 @@ import de.gwdg.metadataqa.marc.definition.general.parser.ParserException;
 import de.gwdg.metadataqa.marc.model.SolrFieldType;
 import de.gwdg.metadataqa.marc.model.validation.ValidationError;
 import de.gwdg.metadataqa.marc.model.validation.ValidationErrorType;
+import de.gwdg.metadataqa.marc.utils.FieldKeyIndex;
+import de.gwdg.metadataqa.marc.utils.FieldKeys;
 import de.gwdg.metadataqa.marc.utils.keygenerator.DataFieldKeyGenerator;
 import org.apache.commons.lang3.StringUtils;
 
@@ -25,7 +27,7 @@ public class DataField implements Extractable, Validatable, Serializable {
   private String ind1;
   private String ind2;
   private List<MarcSubfield> subfields;
-  private Map<String, List<MarcSubfield>> subfieldIndex = new LinkedHashMap<>();
+  private FieldKeyIndex<List<MarcSubfield>> subfieldIndex = new FieldKeyIndex<>(FieldKeyIndex.KeyType.SUBFIELD_CODE);
   private List<ValidationError> validationErrors = null;
   private List<String> unhandledSubfields = null;
   private MarcRecord record;
@@ -105,8 +107,8 @@ public class DataField implements Extractable, Validatable, Serializable {
     String code = null;
     StringBuffer value = new StringBuffer();
     for (int i = 0; i < content.length(); i++) {
-      String c = Character.toString(content.charAt(i));
-      if (c.equals("$")) {
+      char c = content.charAt(i);
+      if (c == '$') {
         codeFlag = true;
         if (code != null)
           subfields.add(new String[]{code, value.toString()});
@@ -114,7 +116,7 @@ public class DataField implements Extractable, Validatable, Serializable {
         value = new StringBuffer();
       } else {
         if (codeFlag) {
-          code = c;
+          code = FieldKeys.code(c);
           codeFlag = false;
         } else {
           value.append(c);
@@ -142,9 +144,12 @@ public class DataField implements Extractable, Validatable, Serializable {
   }
 
   private void indexSubfield(String code, MarcSubfield marcSubfield) {
-    if (!subfieldIndex.containsKey(code))
-      subfieldIndex.put(code, new LinkedList<>());
-    subfieldIndex.get(code).add(marcSubfield);
+    List<MarcSubfield> list = subfieldIndex.get(code);
+    if (list == null) {
+      list = new ArrayList<>();
+      subfieldIndex.put(code, list);
+    }
+    list.add(marcSubfield);
   }
 
   private void parseSubfieldArray(String[] subfields) {
@@ -264,7 +269,7 @@ public class DataField implements Extractable, Validatable, Serializable {
   public Map<String, List<String>> getKeyValuePairs(SolrFieldType type) {
     Map<String, List<String>> pairs = new HashMap<>();
 
-    DataFieldKeyGenerator keyGenerator = new DataFieldKeyGenerator(
+    DataFieldKeyGenerator keyGenerator = DataFieldKeyGenerator.getInstance(
       definition, type, getTag()
     );
 
@@ -297,6 +302,45 @@ public class DataField implements Extractable, Validatable, Serializable {
     return pairs;
   }
 
+  /**
+   * Writes the key-value pairs of the field into the sink. Unlike getKeyValuePairs(), which
+   * keeps the value of the last one, the values of repeated subfields are all written.
+   */
+  @Override
+  public void writeKeyValuePairs(SolrFieldType type, KeyValueSink sink) {
+    DataFieldKeyGenerator keyGenerator = DataFieldKeyGenerator.getInstance(
+      definition, type, getTag()
+    );
+
+    if (definition != null && definition.getInd1().exists()) {
+      sink.add(keyGenerator.forInd1(), resolveInd1());
+    } else if (getInd1() != null) {
+      sink.add(keyGenerator.forInd1(), getInd1());
+    }
+
+    if (definition != null && definition.getInd2().exists()) {
+      sink.add(keyGenerator.forInd2(), resolveInd2());
+    }
+
+    for (MarcSubfield subfield : subfields) {
+      subfield.writeKeyValuePairs(keyGenerator, sink);
+    }
+
+    if (getFieldIndexer() != null) {
+      try {
+        Map<String, List<String>> extra = getFieldIndexer().index(this, keyGenerator);
+        for (Map.Entry<String, List<String>> entry : extra.entrySet())
+          for (String value : entry.getValue())
+            sink.add(entry.getKey(), value);
+      } catch (IllegalArgumentException e) {
+        logger.severe(String.format(
+          "%s  in record %s %s",
+          e.getLocalizedMessage(), record.getId(), this.toString()
+        ));
+      }
+    }
+  }
+
   public FieldIndexer getFieldIndexer() {
     FieldIndexer fieldIndexer = null;
     if (definition != null && definition.getFieldIndexer() != null) {
@@ -363,7 +407,7 @@ public class DataField implements Extractable, Validatable, Serializable {
   }
 
   public List<MarcSubfield> getSubfield(String code) {
-    return subfieldIndex.getOrDefault(code, null);
+    return subfieldIndex.get(code);
   }
 
   public List<MarcSubfield> parseSubfields() {
@@ -377,20 +421,23 @@ public class DataField implements Extractable, Validatable, Serializable {
   @Override
   public boolean validate(MarcVersion marcVersion) {
     boolean isValid = true;
-    validationErrors = new ArrayList<>();
+    // the state of this call is kept in local variables: an 880 field is validated with the
+    // definition and the subfields of the linked field, without changing the field itself
+    List<ValidationError> errors = new ArrayList<>();
+    DataFieldDefinition definition = this.definition;
+    List<MarcSubfield> subfields = this.subfields;
     DataFieldDefinition referencerDefinition = null;
-    List<MarcSubfield> _subfields = null;
     boolean ambiguousLinkage = false;
     if (getTag().equals("880")) {
       List<MarcSubfield> subfield6s = getSubfield("6");
       if (subfield6s == null) {
-        validationErrors.add(new ValidationError(record.getId(), definition.getTag(),
+        errors.add(new ValidationError(record.getId(), definition.getTag(),
           ValidationErrorType.FIELD_MISSING_REFERENCE_SUBFIELD, "$6", definition.getDescriptionUrl()));
         isValid = false;
       } else {
         if (!subfield6s.isEmpty()) {
           if (subfield6s.size() != 1) {
-            validationErrors.add(
+            errors.add(
               new ValidationError(
                 record.getId(), definition.getTag() + "$6",
                 ValidationErrorType.RECORD_AMBIGUOUS_LINKAGE, "There are multiple $6",
@@ -405,7 +452,7 @@ public class DataField implements Extractable, Validatable, Serializable {
             try {
               linkage = LinkageParser.getInstance().create(subfield6.getValue());
               if (linkage == null || linkage.getLinkingTag() == null) {
-                validationErrors.add(
+                errors.add(
                   new ValidationError(
                     record.getId(), definition.getTag() + "$6",
                     ValidationErrorType.RECORD_INVALID_LINKAGE,
@@ -414,11 +461,9 @@ public class DataField implements Extractable, Validatable, Serializable {
                   )
                 );
               } else {
-                referencerDefinition = definition;
-                definition = TagDefinitionLoader.load(linkage.getLinkingTag());
-                if (definition == null) {
-                  definition = referencerDefinition;
-                  validationErrors.add(
+                DataFieldDefinition linkedDefinition = TagDefinitionLoader.load(linkage.getLinkingTag());
+                if (linkedDefinition == null) {
+                  errors.add(
                     new ValidationError(
                       record.getId(), definition.getTag() + "$6",
                       ValidationErrorType.RECORD_INVALID_LINKAGE,
@@ -426,9 +471,10 @@ public class DataField implements Extractable, Validatable, Serializable {
                       definition.getDescriptionUrl()));
                   isValid = false;
                 } else {
-                  _subfields = subfields;
+                  referencerDefinition = definition;
+                  definition = linkedDefinition;
                   List<MarcSubfield> _subfieldsNew = new ArrayList<>();
-                  for (MarcSubfield subfield : subfields) {
+                  for (MarcSubfield subfield : this.subfields) {
                     MarcSubfield alternativeSubfield = new MarcSubfield(
                       definition.getSubfield(subfield.getCode()),
                       subfield.getCode(),
@@ -444,7 +490,7 @@ public class DataField implements Extractable, Validatable, Serializable {
                 }
               }
             } catch (ParserException e) {
-              validationErrors.add(
+              errors.add(
                 new ValidationError(
                   record.getId(), definition.getTag() + "$6",
                   ValidationErrorType.RECORD_INVALID_LINKAGE, e.getMessage(),
@@ -458,19 +504,19 @@ public class DataField implements Extractable, Validatable, Serializable {
     }
 
     if (unhandledSubfields != null) {
-      validationErrors.add(new ValidationError(record.getId(), definition.getTag(),
+      errors.add(new ValidationError(record.getId(), definition.getTag(),
         ValidationErrorType.SUBFIELD_UNDEFINED, StringUtils.join(unhandledSubfields, ", "),
         definition.getDescriptionUrl()));
       isValid = false;
     }
 
     if (ind1 != null) {
-      if (!validateIndicator("ind1", definition.getInd1(), ind1, marcVersion, referencerDefinition))
+      if (!validateIndicator("ind1", definition.getInd1(), ind1, marcVersion, definition, referencerDefinition, errors))
         isValid = false;
     }
 
     if (ind2 != null) {
-      if (!validateIndicator("ind2", definition.getInd2(), ind2, marcVersion, referencerDefinition))
+      if (!validateIndicator("ind2", definition.getInd2(), ind2, marcVersion, definition, referencerDefinition, errors))
         isValid = false;
     }
 
@@ -483,7 +529,7 @@ public class DataField implements Extractable, Validatable, Serializable {
               definition.getVersionSpecificSubfield(
                 marcVersion, subfield.getCode()));
           } else {
-            validationErrors.add(
+            errors.add(
               new ValidationError(
                 record.getId(), definition.getTag(),
                 ValidationErrorType.SUBFIELD_UNDEFINED, subfield.getCode(), definition.getDescriptionUrl()));
@@ -497,7 +543,7 @@ public class DataField implements Extractable, Validatable, Serializable {
         counter.put(subfield.getDefinition(), counter.get(subfield.getDefinition()) + 1);
 
         if (!subfield.validate(marcVersion)) {
-          validationErrors.addAll(subfield.getValidationErrors());
+          errors.addAll(subfield.getValidationErrors());
           isValid = false;
         }
       }
@@ -507,7 +553,7 @@ public class DataField implements Extractable, Validatable, Serializable {
         Integer count = entry.getValue();
         if (count > 1
           && subfieldDefinition.getCardinality().equals(Cardinality.Nonrepeatable)) {
-          validationErrors.add(new ValidationError(record.getId(), subfieldDefinition.getPath(),
+          errors.add(new ValidationError(record.getId(), subfieldDefinition.getPath(),
             ValidationErrorType.SUBFIELD_NONREPEATABLE,
             String.format("there are %d instances", count),
             definition.getDescriptionUrl()));
@@ -516,17 +562,15 @@ public class DataField implements Extractable, Validatable, Serializable {
       }
     }
 
-    if (referencerDefinition != null)
-      definition = referencerDefinition;
-    if (_subfields != null)
-      subfields = _subfields;
-
+    validationErrors = errors;
     return isValid;
   }
 
   private boolean validateIndicator(String prefix, Indicator indicatorDefinition,
                                     String value, MarcVersion marcVersion,
-                         DataFieldDefinition referencerDefinition) {
+                                    DataFieldDefinition definition,
+                                    DataFieldDefinition referencerDefinition,
+                                    List<ValidationError> validationErrors) {
     boolean isValid = true;
     String path = indicatorDefinition.getPath();
     if (referencerDefinition != null)
@@ -563,7 +607,7 @@ public class DataField implements Extractable, Validatable, Serializable {
   }
 
   public DataFieldKeyGenerator getKeyGenerator(SolrFieldType type) {
-    return new DataFieldKeyGenerator(getDefinition(), type);
+    return DataFieldKeyGenerator.getInstance(getDefinition(), type, getTag());
   }
 
   @Override
@@ -9,4 +9,14 @@ public interface Extractable {
 
   public Map<String, List<String>> getKeyValuePairs();
   public Map<String, List<String>> getKeyValuePairs(SolrFieldType type);
+
+  /**
+   * Writes the key-value pairs into the sink. The default implementation writes the values of
+   * getKeyValuePairs(type), the record elements stream them without creating the map.
+   */
+  default void writeKeyValuePairs(SolrFieldType type, KeyValueSink sink) {
+    for (Map.Entry<String, List<String>> entry : getKeyValuePairs(type).entrySet())
+      for (String value : entry.getValue())
+        sink.add(entry.getKey(), value);
+  }
 }
@@ -0,0 +1,13 @@
+package de.gwdg.metadataqa.marc;
+
+/**
+ * Receives the key-value pairs of a record one by one (see
+ * Extractable.writeKeyValuePairs()), so the indexers do not have to collect them into a map.
+ */
+public interface KeyValueSink {
+
+  /**
+   * Adds a value to the key. A key might receive several values.
+   */
+  void add(String key, String value);
+}
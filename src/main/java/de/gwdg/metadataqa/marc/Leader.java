@@ -2,6 +2,8 @@ package de.gwdg.metadataqa.marc;
 
 import de.gwdg.metadataqa.marc.definition.*;
 import de.gwdg.metadataqa.marc.definition.controlsubfields.LeaderSubfields;
+import de.gwdg.metadataqa.marc.definition.controlsubfields.leader.Leader06;
+import de.gwdg.metadataqa.marc.definition.controlsubfields.leader.Leader07;
 import de.gwdg.metadataqa.marc.definition.tags.control.LeaderDefinition;
 import de.gwdg.metadataqa.marc.model.SolrFieldType;
 import de.gwdg.metadataqa.marc.model.validation.ValidationError;
@@ -79,7 +81,6 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
 
   private void initialize() {
     initializationErrors = new ArrayList<>();
-    processContent();
     try {
       setType();
     } catch (IllegalArgumentException e) {
@@ -95,6 +96,7 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
     }
   }
 
+  @Override
   protected void processContent() {
     for (ControlSubfieldDefinition subfield : LeaderSubfields.getSubfieldList()) {
       int end = Math.min(content.length(), subfield.getPositionEnd());
@@ -132,41 +134,49 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
     }
   }
 
+  /**
+   * Detects the type from Leader/06 and Leader/07 directly, without parsing the other positions.
+   */
   private void setType() {
-    if (typeOfRecord.getValue().equals("a")
-        && bibliographicLevel.getValue().matches("^(a|c|d|m)$")) {
+    String typeOfRecord = content.length() > 6 ? content.substring(6, 7) : "";
+    String bibliographicLevel = content.length() > 7 ? content.substring(7, 8) : "";
+    if (typeOfRecord.equals("a")
+        && bibliographicLevel.matches("^(a|c|d|m)$")) {
       type = Type.BOOKS;
-    } else if (typeOfRecord.getValue().equals("a")
-        && bibliographicLevel.getValue().matches("^(b|i|s)$")) {
+    } else if (typeOfRecord.equals("a")
+        && bibliographicLevel.matches("^(b|i|s)$")) {
       type = Type.CONTINUING_RESOURCES;
-    } else if (typeOfRecord.getValue().equals("t")) {
+    } else if (typeOfRecord.equals("t")) {
       type = Type.BOOKS;
-    } else if (typeOfRecord.getValue().matches("^[cdij]$")) {
+    } else if (typeOfRecord.matches("^[cdij]$")) {
       type = Type.MUSIC;
-    } else if (typeOfRecord.getValue().matches("^[ef]$")) {
+    } else if (typeOfRecord.matches("^[ef]$")) {
       type = Type.MAPS;
-    } else if (typeOfRecord.getValue().matches("^[gkor]$")) {
+    } else if (typeOfRecord.matches("^[gkor]$")) {
       type = Type.VISUAL_MATERIALS;
-    } else if (typeOfRecord.getValue().equals("m")) {
+    } else if (typeOfRecord.equals("m")) {
       type = Type.COMPUTER_FILES;
-    } else if (typeOfRecord.getValue().equals("p")) {
+    } else if (typeOfRecord.equals("p")) {
       type = Type.MIXED_MATERIALS;
     } else {
       if (defaultType != null)
         type = defaultType;
+      ControlSubfieldDefinition typeOfRecordDefinition = Leader06.getInstance();
+      ControlSubfieldDefinition bibliographicLevelDefinition = Leader07.getInstance();
       throw new IllegalArgumentException(
         String.format(
           "Leader/%s (%s): '%s', Leader/%s (%s): '%s'",
-          typeOfRecord.getDefinition().formatPositon(),
-          typeOfRecord.getDefinition().getMqTag(),
-          typeOfRecord.getValue(),
-          bibliographicLevel.getDefinition().formatPositon(),
-          bibliographicLevel.getDefinition().getMqTag(),
-          bibliographicLevel.getValue()));
+          typeOfRecordDefinition.formatPositon(),
+          typeOfRecordDefinition.getMqTag(),
+          typeOfRecord,
+          bibliographicLevelDefinition.formatPositon(),
+          bibliographicLevelDefinition.getMqTag(),
+          bibliographicLevel));
     }
   }
 
   public String resolve(ControlSubfieldDefinition key) {
+    ensureParsed();
     String value = valuesMap.get(key);
     String text = key.resolve(value);
     return text;
@@ -177,10 +187,12 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
   }
 
   public Map<ControlSubfieldDefinition, String> getMap() {
+    ensureParsed();
     return valuesMap;
   }
 
   public String get(ControlSubfieldDefinition key) {
+    ensureParsed();
     return valuesMap.get(key);
   }
 
@@ -204,38 +216,47 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
   }
 
   public ControlValue getRecordLength() {
+    ensureParsed();
     return recordLength;
   }
 
   public ControlValue getRecordStatus() {
+    ensureParsed();
     return recordStatus;
   }
 
   public ControlValue getTypeOfRecord() {
+    ensureParsed();
     return typeOfRecord;
   }
 
   public ControlValue getBibliographicLevel() {
+    ensureParsed();
     return bibliographicLevel;
   }
 
   public ControlValue getTypeOfControl() {
+    ensureParsed();
     return typeOfControl;
   }
 
   public ControlValue getCharacterCodingScheme() {
+    ensureParsed();
     return characterCodingScheme;
   }
 
   public ControlValue getIndicatorCount() {
+    ensureParsed();
     return indicatorCount;
   }
 
   public ControlValue getSubfieldCodeCount() {
+    ensureParsed();
     return subfieldCodeCount;
   }
 
   public ControlValue getBaseAddressOfData() {
+    ensureParsed();
     return baseAddressOfData;
   }
 
@@ -244,34 +265,35 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
    * @return
    */
   public ControlValue getEncodingLevel() {
+    ensureParsed();
     return encodingLevel;
   }
 
   public ControlValue getDescriptiveCatalogingForm() {
+    ensureParsed();
     return descriptiveCatalogingForm;
   }
 
   public ControlValue getMultipartResourceRecordLevel() {
+    ensureParsed();
     return multipartResourceRecordLevel;
   }
 
   public ControlValue getLengthOfTheLengthOfFieldPortion() {
+    ensureParsed();
     return lengthOfTheLengthOfFieldPortion;
   }
 
   public ControlValue getLengthOfTheStartingCharacterPositionPortion() {
+    ensureParsed();
     return lengthOfTheStartingCharacterPositionPortion;
   }
 
   public ControlValue getLengthOfTheImplementationDefinedPortion() {
+    ensureParsed();
     return lengthOfTheImplementationDefinedPortion;
   }
 
-  public void setMarcRecord(MarcRecord marcRecord) {
-    this.marcRecord = marcRecord;
-    for (ControlValue value : valuesList)
-      value.setRecord(marcRecord);
-  }
 
   public String toString() {
     StringBuffer output = new StringBuffer(String.format("type: %s%n", type.getValue()));
@@ -288,19 +310,26 @@ public class Leader extends MarcPositionalControlField implements Extractable, V
 
   public Map<String, List<String>> getKeyValuePairs(SolrFieldType type) {
     Map<String, List<String>> map = new LinkedHashMap<>();
-    PositionalControlFieldKeyGenerator keyGenerator = new PositionalControlFieldKeyGenerator(
+    writeKeyValuePairs(type, (key, value) -> map.put(key, Arrays.asList(value)));
+    return map;
+  }
+
+  @Override
+  public void writeKeyValuePairs(SolrFieldType type, KeyValueSink sink) {
+    PositionalControlFieldKeyGenerator keyGenerator = PositionalControlFieldKeyGenerator.getInstance(
       definition.getTag(), definition.getMqTag(), type);
-    map.put(keyGenerator.forTag(), Arrays.asList(content));
+    sink.add(keyGenerator.forTag(), content);
+    ensureParsed();
     for (Map.Entry<ControlSubfieldDefinition, String> entry : valuesMap.entrySet()) {
       ControlSubfieldDefinition controlSubfield = entry.getKey();
       String value = controlSubfield.resolve(entry.getValue());
-      map.put(keyGenerator.forSubfield(controlSubfield), Arrays.asList(value));
+      sink.add(keyGenerator.forSubfield(controlSubfield), value);
     }
-    return map;
   }
 
   @Override
   public boolean validate(MarcVersion marcVersion) {
+    ensureParsed();
     boolean isValid = true;
     validationErrors = new ArrayList<>();
     if (!initializationErrors.isEmpty())
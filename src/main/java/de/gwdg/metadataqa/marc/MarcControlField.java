@@ -35,7 +35,7 @@ public class MarcControlField implements Validatable, Extractable, Serializable
     String key = tag;
     switch (type) {
       case HUMAN: key = mqTag; break;
-      case MIXED: key = String.format("%s_%s", tag, mqTag); break;
+      case MIXED: key = tag + "_" + mqTag; break;
       case MARC:
       default:  key = tag; break;
     }
@@ -56,6 +56,11 @@ public class MarcControlField implements Validatable, Extractable, Serializable
     return map;
   }
 
+  @Override
+  public void writeKeyValuePairs(SolrFieldType type, KeyValueSink sink) {
+    sink.add(getSolrKey(type, definition.getTag(), definition.getMqTag()), content);
+  }
+
   @Override
   public boolean validate(MarcVersion marcVersion) {
     return true;
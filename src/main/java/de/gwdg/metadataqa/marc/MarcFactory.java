@@ -13,6 +13,7 @@ import de.gwdg.metadataqa.marc.definition.tags.control.Control001Definition;
 import de.gwdg.metadataqa.marc.definition.tags.control.Control003Definition;
 import de.gwdg.metadataqa.marc.definition.tags.control.Control005Definition;
 
+import de.gwdg.metadataqa.marc.utils.FieldKeys;
 import de.gwdg.metadataqa.marc.utils.alephseq.AlephseqLine;
 import de.gwdg.metadataqa.marc.utils.MapToDatafield;
 
@@ -140,29 +141,38 @@ public class MarcFactory {
   private static void importMarc4jControlFields(Record marc4jRecord,
                                  MarcRecord record,
                                  boolean fixAlephseq) {
-    for (ControlField controlField : marc4jRecord.getControlFields()) {
-      String data = controlField.getData();
-      if (fixAlephseq && isFixable(controlField.getTag()))
-        data = data.replace("^", " ");
-      switch (controlField.getTag()) {
-        case "001":
-          record.setControl001(new MarcControlField(
-            Control001Definition.getInstance(), data)); break;
-        case "003":
-          record.setControl003(new MarcControlField(
-            Control003Definition.getInstance(), data)); break;
-        case "005":
-          record.setControl005(new MarcControlField(
-            Control005Definition.getInstance(), data)); break;
-        case "006":
-          record.setControl006(new Control006(data, record.getType())); break;
-        case "007":
-          record.setControl007(new Control007(record, data)); break;
-        case "008":
-          record.setControl008(new Control008(data, record.getType())); break;
-        default:
-          break;
-      }
+    for (ControlField controlField : marc4jRecord.getControlFields())
+      importControlField(record, controlField.getTag(), controlField.getData(), fixAlephseq);
+  }
+
+  /**
+   * Sets the control field of the record. The record's leader should already be set, since the
+   * 006, 007 and 008 fields depend on the record type. Other tags are ignored.
+   */
+  public static void importControlField(MarcRecord record,
+                                        String tag,
+                                        String data,
+                                        boolean fixAlephseq) {
+    if (fixAlephseq && isFixable(tag))
+      data = data.replace("^", " ");
+    switch (tag) {
+      case "001":
+        record.setControl001(new MarcControlField(
+          Control001Definition.getInstance(), data)); break;
+      case "003":
+        record.setControl003(new MarcControlField(
+          Control003Definition.getInstance(), data)); break;
+      case "005":
+        record.setControl005(new MarcControlField(
+          Control005Definition.getInstance(), data)); break;
+      case "006":
+        record.setControl006(new Control006(data, record.getType())); break;
+      case "007":
+        record.setControl007(new Control007(record, data)); break;
+      case "008":
+        record.setControl008(new Control008(data, record.getType())); break;
+      default:
+        break;
     }
   }
 
@@ -200,32 +210,39 @@ public class MarcFactory {
                                             String identifier) {
     DataField field = new DataField(
       definition,
-      Character.toString(dataField.getIndicator1()),
-      Character.toString(dataField.getIndicator2())
+      FieldKeys.code(dataField.getIndicator1()),
+      FieldKeys.code(dataField.getIndicator2())
     );
-    for (Subfield subfield : dataField.getSubfields()) {
-      String code = Character.toString(subfield.getCode());
-      SubfieldDefinition subfieldDefinition = definition.getSubfield(code);
-      MarcSubfield marcSubfield = null;
-      if (subfieldDefinition == null) {
-        // if (!(definition.getTag().equals("886") && code.equals("k")))
-          // field.addUnhandledSubfields(code);
-          /*
-          logger.warning(String.format(
-            "Problem in record '%s': %s$%s is not a valid subfield (value: '%s')",
-            identifier, definition.getTag(), code, subfield.getData()));
-          */
-        marcSubfield = new MarcSubfield(null, code, subfield.getData());
-      } else {
-        marcSubfield = new MarcSubfield(subfieldDefinition, code, subfield.getData());
-      }
-      marcSubfield.setField(field);
-      field.parseSubfields().add(marcSubfield);
-    }
+    for (Subfield subfield : dataField.getSubfields())
+      addSubfield(field, FieldKeys.code(subfield.getCode()), subfield.getData());
     field.indexSubfields();
     return field;
   }
 
+  /**
+   * Adds a subfield to the field. The subfield definition is taken from the field's definition,
+   * if the code is defined there. The caller should call field.indexSubfields() after the last
+   * subfield has been added.
+   */
+  public static void addSubfield(DataField field, String code, String value) {
+    SubfieldDefinition subfieldDefinition = field.getDefinition().getSubfield(code);
+    MarcSubfield marcSubfield = null;
+    if (subfieldDefinition == null) {
+      // if (!(definition.getTag().equals("886") && code.equals("k")))
+        // field.addUnhandledSubfields(code);
+        /*
+        logger.warning(String.format(
+          "Problem in record '%s': %s$%s is not a valid subfield (value: '%s')",
+          identifier, definition.getTag(), code, value));
+        */
+      marcSubfield = new MarcSubfield(null, code, value);
+    } else {
+      marcSubfield = new MarcSubfield(subfieldDefinition, code, value);
+    }
+    marcSubfield.setField(field);
+    field.parseSubfields().add(marcSubfield);
+  }
+
   private static List<String> extractList(JsonPathCache cache, JsonBranch branch) {
     List<XmlFieldInstance> instances = (List<XmlFieldInstance>) cache.get(branch.getJsonPath());
     List<String> values = new ArrayList<>();
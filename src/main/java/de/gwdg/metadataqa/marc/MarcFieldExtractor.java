@@ -32,6 +32,11 @@ public class MarcFieldExtractor implements Calculator, Serializable {
 
   private static final Logger logger = Logger.getLogger(MarcFieldExtractor.class.getCanonicalName());
   private static final List<String> authorFields = Arrays.asList("100$a", "110$a", "700$a", "710$a");
+  private static final List<String> duplumKeyFields = Arrays.asList(
+    "245$a", "245$n", "245$p", "100$a", "110$a", "700$a", "710$a", "260$a", "260$b", "260$c",
+    "020$a", "028$a", "060$b", "300$a", "254$a", "490$v", "773$g", "035$a",
+    "029$a", "029$b", "040$a", "040$b", "040$c", "040$d", "650$a", "650$2", "911$9", "912$9"
+  );
 
   public static final String FIELD_NAME = "recordId";
   private String idPath;
@@ -80,28 +85,7 @@ public class MarcFieldExtractor implements Calculator, Serializable {
   @Override
   public void measure(JsonPathCache cache)
         throws InvalidJsonException {
-    valid = true;
-    resultMap = new FieldCounter<>();
-    duplumKeyMap = null;
-    recordId = null;
-    leader = null;
-    x007 = null;
-    x008 = null;
-    titleWords = null;
-    authorWords = null;
-    duplumKeyType = null;
-    dateOfPublication = null;
-    isbn = null;
-    publisherOrDistributorNumber = null;
-    abbreviatedNameOfPublisher = null;
-    numberOfPart = null;
-    nameOfPart = null;
-    extent = null;
-    musicalPresentationStatement = null;
-    volumeDesignation = null;
-    relatedParts = null;
-    systemControlNumbers = null;
-    oclcMap = null;
+    reset();
 
     recordId = ((List<XmlFieldInstance>) cache.get(getIdPath())).get(0).getValue();
     cache.setRecordId(recordId);
@@ -126,6 +110,63 @@ public class MarcFieldExtractor implements Calculator, Serializable {
         }
       }
     }
+    processFields();
+  }
+
+  /**
+   * Extracts the fields of the duplum key from a record which has already been read (from any
+   * of the input formats), so neither the schema nor the JSON paths are needed.
+   */
+  public void measure(MarcRecord marcRecord) {
+    reset();
+
+    recordId = marcRecord.getId(true);
+    resultMap.put(FIELD_NAME, Arrays.asList(recordId));
+    if (marcRecord.getLeader() != null)
+      resultMap.put("leader", Arrays.asList(marcRecord.getLeader().getLeaderString()));
+    if (marcRecord.getControl007() != null)
+      resultMap.put("007", Arrays.asList(marcRecord.getControl007().getContent()));
+    if (marcRecord.getControl008() != null)
+      resultMap.put("008", Arrays.asList(marcRecord.getControl008().getContent()));
+    for (String key : duplumKeyFields) {
+      String[] parts = key.split("\\$");
+      List<String> values = marcRecord.extract(parts[0], parts[1]);
+      resultMap.put(key, values.isEmpty() ? null : values);
+    }
+    if (!resultMap.has("leader")) {
+      logger.severe(String.format("No leader in record %s", recordId));
+      valid = false;
+      return;
+    }
+    processFields();
+  }
+
+  private void reset() {
+    valid = true;
+    resultMap = new FieldCounter<>();
+    duplumKeyMap = null;
+    recordId = null;
+    leader = null;
+    x007 = null;
+    x008 = null;
+    titleWords = null;
+    authorWords = null;
+    duplumKeyType = null;
+    dateOfPublication = null;
+    isbn = null;
+    publisherOrDistributorNumber = null;
+    abbreviatedNameOfPublisher = null;
+    numberOfPart = null;
+    nameOfPart = null;
+    extent = null;
+    musicalPresentationStatement = null;
+    volumeDesignation = null;
+    relatedParts = null;
+    systemControlNumbers = null;
+    oclcMap = null;
+  }
+
+  private void processFields() {
     processLeader();
     process007();
     process008();
@@ -255,6 +296,14 @@ public class MarcFieldExtractor implements Calculator, Serializable {
     return x008;
   }
 
+  /**
+   * @return The values of an extracted field (such as "245$a"), or null if the record does not
+   *   have it
+   */
+  public List<String> getValues(String field) {
+    return resultMap.get(field);
+  }
+
   public List<String> getTitleWords() {
     return titleWords;
   }
@@ -15,6 +15,7 @@ public class MarcPositionalControlField extends MarcControlField {
   protected List<ControlValue> valuesList;
   private Map<Integer, ControlValue> valuesByPosition = new LinkedHashMap<>();
   protected Leader.Type recordType;
+  private boolean isParsed = false;
 
   public MarcPositionalControlField(ControlFieldDefinition definition, String content) {
     this(definition, content, null);
@@ -32,13 +33,31 @@ public class MarcPositionalControlField extends MarcControlField {
 
   public void setMarcRecord(MarcRecord record) {
     this.marcRecord = record;
-    for (ControlValue value : valuesList) {
-      value.setRecord(marcRecord);
-    }
+    if (isParsed)
+      for (ControlValue value : valuesList)
+        value.setRecord(marcRecord);
   }
 
+  /**
+   * Splits the content into positional values. It is called by ensureParsed() at the first
+   * access of the values, not by the constructor.
+   */
   protected void processContent() {}
 
+  /**
+   * Parses the content if it has not been parsed yet. Every method reading the positional values
+   * should call it first, so the records whose positions are never read do not pay for them.
+   */
+  protected void ensureParsed() {
+    if (isParsed)
+      return;
+    isParsed = true;
+    processContent();
+    if (marcRecord != null)
+      for (ControlValue value : valuesList)
+        value.setRecord(marcRecord);
+  }
+
   public Map<String, List<String>> getKeyValuePairs(SolrFieldType type) {
     return getKeyValuePairs(definition.getTag(), definition.getMqTag(), type);
   }
@@ -47,24 +66,39 @@ public class MarcPositionalControlField extends MarcControlField {
                                     String mqTag,
                                     SolrFieldType type) {
     Map<String, List<String>> map = new LinkedHashMap<>();
+    writeKeyValuePairs(tag, mqTag, type, (key, value) -> map.put(key, Arrays.asList(value)));
+    return map;
+  }
+
+  @Override
+  public void writeKeyValuePairs(SolrFieldType type, KeyValueSink sink) {
+    writeKeyValuePairs(definition.getTag(), definition.getMqTag(), type, sink);
+  }
+
+  public void writeKeyValuePairs(String tag,
+                                 String mqTag,
+                                 SolrFieldType type,
+                                 KeyValueSink sink) {
     PositionalControlFieldKeyGenerator keyGenerator =
-      new PositionalControlFieldKeyGenerator(tag, mqTag, type);
+      PositionalControlFieldKeyGenerator.getInstance(tag, mqTag, type);
     if (content != null) {
-      map.put(keyGenerator.forTag(), Arrays.asList(content));
+      ensureParsed();
+      sink.add(keyGenerator.forTag(), content);
       for (Map.Entry<ControlSubfieldDefinition, String> entry : valuesMap.entrySet()) {
         ControlSubfieldDefinition controlSubfield = entry.getKey();
         String value = controlSubfield.resolve(entry.getValue());
-        map.put(keyGenerator.forSubfield(controlSubfield), Arrays.asList(value));
+        sink.add(keyGenerator.forSubfield(controlSubfield), value);
       }
     }
-    return map;
   }
 
   public Map<ControlSubfieldDefinition, String> getMap() {
+    ensureParsed();
     return valuesMap;
   }
 
   public List<ControlValue> getValuesList() {
+    ensureParsed();
     return valuesList;
   }
 
@@ -86,6 +120,7 @@ public class MarcPositionalControlField extends MarcControlField {
 
   @Override
   public boolean validate(MarcVersion marcVersion) {
+    ensureParsed();
     boolean isValid = true;
     validationErrors = new ArrayList<>();
     if (!initializationErrors.isEmpty()) {
@@ -111,6 +146,7 @@ public class MarcPositionalControlField extends MarcControlField {
   }
 
   public ControlValue getControlValueByPosition(int position) {
+    ensureParsed();
     return valuesByPosition.get(position);
   }
 }
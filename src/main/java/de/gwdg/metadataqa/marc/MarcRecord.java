@@ -7,11 +7,11 @@ import de.gwdg.metadataqa.marc.definition.general.validator.ClassificationRefere
 import de.gwdg.metadataqa.marc.model.SolrFieldType;
 import de.gwdg.metadataqa.marc.model.validation.ValidationError;
 import de.gwdg.metadataqa.marc.model.validation.ValidationErrorType;
+import de.gwdg.metadataqa.marc.utils.FieldKeyIndex;
 import de.gwdg.metadataqa.marc.utils.marcspec.legacy.MarcSpec;
 
 import de.gwdg.metadataqa.marc.definition.tags.control.Control001Definition;
 import de.gwdg.metadataqa.marc.utils.unimarc.UnimarcConverter;
-import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
 import java.util.*;
@@ -36,7 +36,7 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
   private Control007 control007;
   private Control008 control008;
   private List<DataField> datafields;
-  private Map<String, List<DataField>> datafieldIndex;
+  private FieldKeyIndex<List<DataField>> datafieldIndex;
   private Map<String, List<MarcControlField>> controlfieldIndex;
   Map<String, List<String>> mainKeyValuePairs;
   private List<ValidationError> validationErrors = null;
@@ -51,7 +51,7 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
 
   public MarcRecord() {
     datafields = new ArrayList<>();
-    datafieldIndex = new TreeMap<>();
+    datafieldIndex = new FieldKeyIndex<>(FieldKeyIndex.KeyType.TAG);
     controlfieldIndex = new TreeMap<>();
     unhandledTags = new ArrayList<>();
   }
@@ -70,10 +70,12 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
   private void indexField(DataField dataField) {
     String tag = dataField.getTag();
 
-    if (!datafieldIndex.containsKey(tag))
-      datafieldIndex.put(tag, new ArrayList<>());
-
-    datafieldIndex.get(tag).add(dataField);
+    List<DataField> fields = datafieldIndex.get(tag);
+    if (fields == null) {
+      fields = new ArrayList<>();
+      datafieldIndex.put(tag, fields);
+    }
+    fields.add(dataField);
   }
 
   public void addUnhandledTags(String tag) {
@@ -199,7 +201,7 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
   }
 
   public List<DataField> getDatafield(String tag) {
-    return datafieldIndex.getOrDefault(tag, null);
+    return datafieldIndex.get(tag);
   }
 
   public List<DataField> getDatafields() {
@@ -310,20 +312,21 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
           mainKeyValuePairs.putAll(controlField.getKeyValuePairs(type));
       }
 
+      // the lists of the fields are copied only once, when the second field adds values to them
+      Map<String, List<String>> mergedValues = new HashMap<>();
       for (DataField field : datafields) {
         Map<String, List<String>> keyValuePairs = field.getKeyValuePairs(type);
         for (Map.Entry<String, List<String>> entry : keyValuePairs.entrySet()) {
           String key = entry.getKey();
           List<String> values = entry.getValue();
           if (mainKeyValuePairs.containsKey(key)) {
-            mainKeyValuePairs.put(
-              key,
-              mergeValues(
-                new ArrayList<String>(mainKeyValuePairs.get(key)),
-                values,
-                withDeduplication
-              )
-            );
+            List<String> existingValues = mergedValues.get(key);
+            if (existingValues == null) {
+              existingValues = new ArrayList<>(mainKeyValuePairs.get(key));
+              mergedValues.put(key, existingValues);
+              mainKeyValuePairs.put(key, existingValues);
+            }
+            mergeValues(existingValues, values, withDeduplication);
           } else {
             mainKeyValuePairs.put(key, values);
           }
@@ -334,10 +337,28 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
     return mainKeyValuePairs;
   }
 
-  @NotNull
-  private List<String> mergeValues(List<String> existingValues,
-                                   List<String> values,
-                                   boolean withDeduplication) {
+  /**
+   * Writes the key-value pairs of the record into the sink, without creating the maps of
+   * getKeyValuePairs(). The values of repeated subfields are all written (see
+   * DataField.writeKeyValuePairs()), the deduplication is the task of the sink.
+   */
+  public void writeKeyValuePairs(SolrFieldType type, KeyValueSink sink) {
+    sink.add("type", getType().getValue());
+    leader.writeKeyValuePairs(type, sink);
+
+    for (MarcControlField controlField : getControlfields()) {
+      if (controlField != null)
+        controlField.writeKeyValuePairs(type, sink);
+    }
+
+    for (DataField field : datafields) {
+      field.writeKeyValuePairs(type, sink);
+    }
+  }
+
+  private void mergeValues(List<String> existingValues,
+                           List<String> values,
+                           boolean withDeduplication) {
     if (withDeduplication) {
       for (String value : values) {
         if (!existingValues.contains(value)) {
@@ -347,7 +368,6 @@ public class MarcRecord implements Extractable, Validatable, Serializable {
     } else {
       existingValues.addAll(values);
     }
-    return existingValues;
   }
 
   public String asJson() {
@@ -122,36 +122,40 @@ public class MarcSubfield implements Validatable, Serializable {
 
   public Map<String, List<String>> getKeyValuePairs(DataFieldKeyGenerator keyGenerator) {
     Map<String, List<String>> pairs = new HashMap<>();
+    writeKeyValuePairs(keyGenerator, (key, value) -> pairs.put(key, Arrays.asList(value)));
+    return pairs;
+  }
+
+  /**
+   * Writes the key-value pairs of the subfield into the sink: the resolved value, and the
+   * positional and parsed parts of the content, if the definition has them.
+   */
+  public void writeKeyValuePairs(DataFieldKeyGenerator keyGenerator, KeyValueSink sink) {
     String prefix = keyGenerator.forSubfield(this);
 
-    pairs.put(prefix, Arrays.asList(resolve()));
+    sink.add(prefix, resolve());
     if (getDefinition() != null) {
-      getKeyValuePairsForPositionalSubfields(pairs, prefix);
-      getKeyValuePairsFromContentParser(keyGenerator, pairs);
+      writeKeyValuePairsForPositionalSubfields(sink, prefix);
+      writeKeyValuePairsFromContentParser(keyGenerator, sink);
     }
-
-    return pairs;
   }
 
-  private void getKeyValuePairsFromContentParser(DataFieldKeyGenerator keyGenerator, Map<String, List<String>> pairs) {
+  private void writeKeyValuePairsFromContentParser(DataFieldKeyGenerator keyGenerator, KeyValueSink sink) {
     if (getDefinition().hasContentParser()) {
       Map<String, String> extra = parseContent();
       if (extra != null) {
-        for (String key : extra.keySet()) {
-          pairs.put(
-            keyGenerator.forSubfield(this, key),
-            Arrays.asList(extra.get(key))
-          );
+        for (Map.Entry<String, String> entry : extra.entrySet()) {
+          sink.add(keyGenerator.forSubfield(this, entry.getKey()), entry.getValue());
         }
       }
     }
   }
 
-  private void getKeyValuePairsForPositionalSubfields(Map<String, List<String>> pairs, String prefix) {
+  private void writeKeyValuePairsForPositionalSubfields(KeyValueSink sink, String prefix) {
     if (getDefinition().hasPositions()) {
       Map<String, String> extra = getDefinition().resolvePositional(getValue());
-      for (String key : extra.keySet()) {
-        pairs.put(prefix + "_" + key, Arrays.asList(extra.get(key)));
+      for (Map.Entry<String, String> entry : extra.entrySet()) {
+        sink.add(prefix + "_" + entry.getKey(), entry.getValue());
       }
     }
   }
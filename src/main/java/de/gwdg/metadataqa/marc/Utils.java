@@ -69,10 +69,29 @@ public class Utils {
    * @param <T>
    */
   public static <T extends Object> void count(T key, Map<T, Integer> counter) {
-    if (!counter.containsKey(key)) {
-      counter.put(key, 0);
-    }
-    counter.put(key, counter.get(key) + 1);
+    counter.merge(key, 1, Integer::sum);
+  }
+
+  /**
+   * Increment a counter with the given value. The counter is a key in a map.
+   * @param key
+   * @param counter
+   * @param value
+   * @param <T>
+   */
+  public static <T extends Object> void count(T key, Map<T, Integer> counter, int value) {
+    counter.merge(key, value, Integer::sum);
+  }
+
+  /**
+   * Add the values of a counter map to another one.
+   * @param counter The counter to update
+   * @param other The counter to add
+   * @param <T>
+   */
+  public static <T extends Object> void mergeCounters(Map<T, Integer> counter, Map<T, Integer> other) {
+    for (Map.Entry<T, Integer> entry : other.entrySet())
+      counter.merge(entry.getKey(), entry.getValue(), Integer::sum);
   }
 
   public static <T extends Object> List<String> counterToList(Map<T, Integer> counter) {
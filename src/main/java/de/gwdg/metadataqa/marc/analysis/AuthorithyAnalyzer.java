@@ -10,6 +10,8 @@ import java.util.*;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
+import static de.gwdg.metadataqa.marc.Utils.count;
+
 public class AuthorithyAnalyzer {
 
   private static final Logger logger = Logger.getLogger(
@@ -103,28 +105,16 @@ public class AuthorithyAnalyzer {
       return;
     List<String> subfields = orderSubfields(field.parseSubfields());
 
-    if (!authoritiesStatistics.getSubfields().containsKey(currentSchema)) {
-      authoritiesStatistics.getSubfields().put(
-        currentSchema, new HashMap<List<String>, Integer>()
-      );
-    }
-    // count(subfields, authoritiesStatistics.getSubfields());
-    Map<List<String>, Integer> subfieldsStatistics = authoritiesStatistics.getSubfields().get(currentSchema);
-    if (!subfieldsStatistics.containsKey(subfields)) {
-      subfieldsStatistics.put(subfields, 1);
-    } else {
-      subfieldsStatistics.put(subfields, subfieldsStatistics.get(subfields) + 1);
-    }
+    Map<List<String>, Integer> subfieldsStatistics = authoritiesStatistics.getSubfields()
+      .computeIfAbsent(currentSchema, schema -> new HashMap<List<String>, Integer>());
+    count(subfields, subfieldsStatistics);
   }
 
 
   private void addSchemasToStatistics(Map<Schema, Integer> fieldStatistics, List<Schema> schemes) {
     if (!schemes.isEmpty()) {
       for (Schema scheme : schemes) {
-        if (!fieldStatistics.containsKey(scheme)) {
-          fieldStatistics.put(scheme, 0);
-        }
-        fieldStatistics.put(scheme, fieldStatistics.get(scheme) + 1);
+        count(scheme, fieldStatistics);
       }
     }
   }
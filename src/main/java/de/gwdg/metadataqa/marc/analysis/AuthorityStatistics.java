@@ -2,14 +2,22 @@ package de.gwdg.metadataqa.marc.analysis;
 
 import de.gwdg.metadataqa.marc.cli.utils.Schema;
 
+import static de.gwdg.metadataqa.marc.Utils.mergeCounters;
+import static de.gwdg.metadataqa.marc.analysis.StatisticsIO.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class AuthorityStatistics {
+public class AuthorityStatistics implements MergeableStatistics<AuthorityStatistics> {
   private Map<Schema, Integer> instances = new HashMap<>();
   private Map<Schema, Integer> records = new HashMap<>();
   private Map<Schema, Map<List<String>, Integer>> subfields = new HashMap<>();
+  private Map<Integer, Integer> histogram = new HashMap<>();
+  private Map<Boolean, Integer> hasClassifications = new HashMap<>();
 
   public AuthorityStatistics() {
   }
@@ -25,4 +33,47 @@ public class AuthorityStatistics {
   public Map<Schema, Map<List<String>, Integer>> getSubfields() {
     return subfields;
   }
+
+  public Map<Integer, Integer> getHistogram() {
+    return histogram;
+  }
+
+  public Map<Boolean, Integer> getHasClassifications() {
+    return hasClassifications;
+  }
+
+  /**
+   * Adds the values of another statistics object (e.g. one collected on another thread) to this one.
+   * @param other The other statistics
+   */
+  @Override
+  public void merge(AuthorityStatistics other) {
+    mergeCounters(instances, other.instances);
+    mergeCounters(records, other.records);
+    for (Map.Entry<Schema, Map<List<String>, Integer>> entry : other.subfields.entrySet()) {
+      if (!subfields.containsKey(entry.getKey()))
+        subfields.put(entry.getKey(), new HashMap<>());
+      mergeCounters(subfields.get(entry.getKey()), entry.getValue());
+    }
+    mergeCounters(histogram, other.histogram);
+    mergeCounters(hasClassifications, other.hasClassifications);
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    writeCounter(out, instances, StatisticsIO::writeSchema);
+    writeCounter(out, records, StatisticsIO::writeSchema);
+    writeNestedCounter(out, subfields, StatisticsIO::writeSchema, StatisticsIO::writeStringList);
+    writeCounter(out, histogram, DataOutput::writeInt);
+    writeCounter(out, hasClassifications, DataOutput::writeBoolean);
+  }
+
+  @Override
+  public void read(DataInput in) throws IOException {
+    readCounter(in, instances, StatisticsIO::readSchema);
+    readCounter(in, records, StatisticsIO::readSchema);
+    readNestedCounter(in, subfields, StatisticsIO::readSchema, StatisticsIO::readStringList, HashMap::new);
+    readCounter(in, histogram, DataInput::readInt);
+    readCounter(in, hasClassifications, DataInput::readBoolean);
+  }
 }
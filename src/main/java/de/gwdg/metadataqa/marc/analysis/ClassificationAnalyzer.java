@@ -111,7 +111,7 @@ public class ClassificationAnalyzer {
     if (!marcRecord.hasDatafield(tag))
       return count;
 
-    Map<String[], Integer> fieldStatistics = getFieldInstanceStatistics(tag);
+    Map<FieldWithScheme, Integer> fieldStatistics = getFieldInstanceStatistics(tag);
     List<DataField> fields = marcRecord.getDatafield(tag);
     List<Schema> schemas = new ArrayList<>();
     for (DataField field : fields) {
@@ -147,7 +147,7 @@ public class ClassificationAnalyzer {
     if (!marcRecord.hasDatafield(tag))
       return count;
 
-    Map<String[], Integer> fieldStatistics = getFieldInstanceStatistics(tag);
+    Map<FieldWithScheme, Integer> fieldStatistics = getFieldInstanceStatistics(tag);
     List<Schema> schemas = new ArrayList<>();
     List<DataField> fields = marcRecord.getDatafield(tag);
     for (DataField field : fields) {
@@ -182,7 +182,7 @@ public class ClassificationAnalyzer {
     if (!marcRecord.hasDatafield(tag))
       return count;
 
-    Map<String[], Integer> fieldStatistics = getFieldInstanceStatistics(tag);
+    Map<FieldWithScheme, Integer> fieldStatistics = getFieldInstanceStatistics(tag);
     List<Schema> schemas = new ArrayList<>();
     List<DataField> fields = marcRecord.getDatafield(tag);
     for (DataField field : fields) {
@@ -264,16 +264,9 @@ public class ClassificationAnalyzer {
       return;
     List<String> subfields = orderSubfields(field.parseSubfields());
 
-    if (!statistics.getSubfields().containsKey(currentSchema)) {
-      statistics.getSubfields().put(currentSchema, new HashMap<List<String>, Integer>());
-    }
-    Map<List<String>, Integer> subfieldsStatistics =
-      statistics.getSubfields().get(currentSchema);
-    if (!subfieldsStatistics.containsKey(subfields)) {
-      subfieldsStatistics.put(subfields, 1);
-    } else {
-      subfieldsStatistics.put(subfields, subfieldsStatistics.get(subfields) + 1);
-    }
+    Map<List<String>, Integer> subfieldsStatistics = statistics.getSubfields()
+      .computeIfAbsent(currentSchema, schema -> new HashMap<List<String>, Integer>());
+    count(subfields, subfieldsStatistics);
   }
 
   private List<String> orderSubfields(List<MarcSubfield> originalSubfields) {
@@ -335,36 +328,25 @@ public class ClassificationAnalyzer {
                                       List<Schema> schemes) {
     if (!schemes.isEmpty()) {
       for (Schema scheme : schemes) {
-        if (!fieldStatistics.containsKey(scheme)) {
-          fieldStatistics.put(scheme, 0);
-        }
-        fieldStatistics.put(scheme, fieldStatistics.get(scheme) + 1);
+        count(scheme, fieldStatistics);
       }
     }
   }
 
-  private void addSchemesToStatistics(Map<String[], Integer> fieldStatistics,
-                                      List<String[]> schemes) {
+  private void addSchemesToStatistics(Map<FieldWithScheme, Integer> fieldStatistics,
+                                      List<FieldWithScheme> schemes) {
     if (!schemes.isEmpty()) {
-      for (String[] scheme : schemes) {
-        if (!fieldStatistics.containsKey(scheme)) {
-          fieldStatistics.put(scheme, 0);
-          if (!statistics.getFieldInRecords().containsKey(scheme)) {
-            statistics.getFieldInRecords().put(scheme, 0);
-          }
-          statistics.getFieldInRecords().put(
-            scheme,
-            statistics.getFieldInRecords().get(scheme) + 1
-          );
-        }
-        fieldStatistics.put(scheme, fieldStatistics.get(scheme) + 1);
+      for (FieldWithScheme scheme : schemes) {
+        if (!fieldStatistics.containsKey(scheme))
+          count(scheme, statistics.getFieldInRecords());
+        count(scheme, fieldStatistics);
       }
     }
   }
 
-  private Map<String[], Integer> getFieldInstanceStatistics(String field) {
+  private Map<FieldWithScheme, Integer> getFieldInstanceStatistics(String field) {
     if (!statistics.getFieldInstances().containsKey(field)) {
-      statistics.getFieldInstances().put(field, new HashMap<String[], Integer>());
+      statistics.getFieldInstances().put(field, new HashMap<FieldWithScheme, Integer>());
     }
     return statistics.getFieldInstances().get(field);
   }
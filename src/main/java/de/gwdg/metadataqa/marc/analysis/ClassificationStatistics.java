@@ -2,17 +2,23 @@ package de.gwdg.metadataqa.marc.analysis;
 
 import de.gwdg.metadataqa.marc.cli.utils.Schema;
 
+import static de.gwdg.metadataqa.marc.Utils.mergeCounters;
+import static de.gwdg.metadataqa.marc.analysis.StatisticsIO.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class ClassificationStatistics {
+public class ClassificationStatistics implements MergeableStatistics<ClassificationStatistics> {
   private Map<Schema, Integer> instances = new HashMap<>();
   private Map<Schema, Integer> records = new HashMap<>();
   private Map<Schema, Map<List<String>, Integer>> subfields = new HashMap<>();
-  private Map<String[], Integer> fieldInRecords = new HashMap<>();
-  private Map<String, Map<String[], Integer>> fieldInstances = new TreeMap<>();
+  private Map<FieldWithScheme, Integer> fieldInRecords = new HashMap<>();
+  private Map<String, Map<FieldWithScheme, Integer>> fieldInstances = new TreeMap<>();
   private Map<Boolean, Integer> hasClassifications = new HashMap<>();
   private Map<Integer, Integer> schemaHistogram = new HashMap<>();
 
@@ -31,11 +37,11 @@ public class ClassificationStatistics {
     return subfields;
   }
 
-  public Map<String[], Integer> getFieldInRecords() {
+  public Map<FieldWithScheme, Integer> getFieldInRecords() {
     return fieldInRecords;
   }
 
-  public Map<String, Map<String[], Integer>> getFieldInstances() {
+  public Map<String, Map<FieldWithScheme, Integer>> getFieldInstances() {
     return fieldInstances;
   }
 
@@ -46,4 +52,49 @@ public class ClassificationStatistics {
   public Map<Integer, Integer> getSchemaHistogram() {
     return schemaHistogram;
   }
+
+  /**
+   * Adds the values of another statistics object (e.g. one collected on another thread) to this one.
+   * @param other The other statistics
+   */
+  @Override
+  public void merge(ClassificationStatistics other) {
+    mergeCounters(instances, other.instances);
+    mergeCounters(records, other.records);
+    for (Map.Entry<Schema, Map<List<String>, Integer>> entry : other.subfields.entrySet()) {
+      if (!subfields.containsKey(entry.getKey()))
+        subfields.put(entry.getKey(), new HashMap<>());
+      mergeCounters(subfields.get(entry.getKey()), entry.getValue());
+    }
+    mergeCounters(fieldInRecords, other.fieldInRecords);
+    for (Map.Entry<String, Map<FieldWithScheme, Integer>> entry : other.fieldInstances.entrySet()) {
+      if (!fieldInstances.containsKey(entry.getKey()))
+        fieldInstances.put(entry.getKey(), new HashMap<>());
+      mergeCounters(fieldInstances.get(entry.getKey()), entry.getValue());
+    }
+    mergeCounters(hasClassifications, other.hasClassifications);
+    mergeCounters(schemaHistogram, other.schemaHistogram);
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    writeCounter(out, instances, StatisticsIO::writeSchema);
+    writeCounter(out, records, StatisticsIO::writeSchema);
+    writeNestedCounter(out, subfields, StatisticsIO::writeSchema, StatisticsIO::writeStringList);
+    writeCounter(out, fieldInRecords, StatisticsIO::writeFieldWithScheme);
+    writeNestedCounter(out, fieldInstances, StatisticsIO::writeString, StatisticsIO::writeFieldWithScheme);
+    writeCounter(out, hasClassifications, DataOutput::writeBoolean);
+    writeCounter(out, schemaHistogram, DataOutput::writeInt);
+  }
+
+  @Override
+  public void read(DataInput in) throws IOException {
+    readCounter(in, instances, StatisticsIO::readSchema);
+    readCounter(in, records, StatisticsIO::readSchema);
+    readNestedCounter(in, subfields, StatisticsIO::readSchema, StatisticsIO::readStringList, HashMap::new);
+    readCounter(in, fieldInRecords, StatisticsIO::readFieldWithScheme);
+    readNestedCounter(in, fieldInstances, StatisticsIO::readString, StatisticsIO::readFieldWithScheme, HashMap::new);
+    readCounter(in, hasClassifications, DataInput::readBoolean);
+    readCounter(in, schemaHistogram, DataInput::readInt);
+  }
 }
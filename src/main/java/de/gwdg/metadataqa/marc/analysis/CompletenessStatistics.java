@@ -0,0 +1,97 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import static de.gwdg.metadataqa.marc.Utils.mergeCounters;
+import static de.gwdg.metadataqa.marc.analysis.StatisticsIO.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The counters of the completeness analysis: the libraries, the packages, and the number of
+ * records and instances of the data elements (per record type and for "all" types), and the
+ * histogram of the number of instances per record.
+ */
+public class CompletenessStatistics implements MergeableStatistics<CompletenessStatistics> {
+  private Map<String, Integer> library003Counter = new TreeMap<>();
+  private Map<String, Integer> libraryCounter = new TreeMap<>();
+  private Map<String, Integer> packageCounter = new TreeMap<>();
+  private Map<String, Map<String, Integer>> elementCardinality = new TreeMap<>();
+  private Map<String, Map<String, Integer>> elementFrequency = new TreeMap<>();
+  private Map<String, Map<Integer, Integer>> fieldHistogram = new HashMap<>();
+
+  public CompletenessStatistics() {
+    elementCardinality.put("all", new TreeMap<>());
+    elementFrequency.put("all", new TreeMap<>());
+  }
+
+  public Map<String, Integer> getLibrary003Counter() {
+    return library003Counter;
+  }
+
+  public Map<String, Integer> getLibraryCounter() {
+    return libraryCounter;
+  }
+
+  public Map<String, Integer> getPackageCounter() {
+    return packageCounter;
+  }
+
+  public Map<String, Map<String, Integer>> getElementCardinality() {
+    return elementCardinality;
+  }
+
+  public Map<String, Map<String, Integer>> getElementFrequency() {
+    return elementFrequency;
+  }
+
+  public Map<String, Map<Integer, Integer>> getFieldHistogram() {
+    return fieldHistogram;
+  }
+
+  @Override
+  public void merge(CompletenessStatistics other) {
+    mergeCounters(library003Counter, other.library003Counter);
+    mergeCounters(libraryCounter, other.libraryCounter);
+    mergeCounters(packageCounter, other.packageCounter);
+    mergeNestedCounters(elementCardinality, other.elementCardinality);
+    mergeNestedCounters(elementFrequency, other.elementFrequency);
+    for (Map.Entry<String, Map<Integer, Integer>> entry : other.fieldHistogram.entrySet()) {
+      if (!fieldHistogram.containsKey(entry.getKey()))
+        fieldHistogram.put(entry.getKey(), new TreeMap<>());
+      mergeCounters(fieldHistogram.get(entry.getKey()), entry.getValue());
+    }
+  }
+
+  private void mergeNestedCounters(Map<String, Map<String, Integer>> counter,
+                                   Map<String, Map<String, Integer>> other) {
+    for (Map.Entry<String, Map<String, Integer>> entry : other.entrySet()) {
+      if (!counter.containsKey(entry.getKey()))
+        counter.put(entry.getKey(), new TreeMap<>());
+      mergeCounters(counter.get(entry.getKey()), entry.getValue());
+    }
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    writeCounter(out, library003Counter, StatisticsIO::writeString);
+    writeCounter(out, libraryCounter, StatisticsIO::writeString);
+    writeCounter(out, packageCounter, StatisticsIO::writeString);
+    writeNestedCounter(out, elementCardinality, StatisticsIO::writeString, StatisticsIO::writeString);
+    writeNestedCounter(out, elementFrequency, StatisticsIO::writeString, StatisticsIO::writeString);
+    writeNestedCounter(out, fieldHistogram, StatisticsIO::writeString, DataOutput::writeInt);
+  }
+
+  @Override
+  public void read(DataInput in) throws IOException {
+    readCounter(in, library003Counter, StatisticsIO::readString);
+    readCounter(in, libraryCounter, StatisticsIO::readString);
+    readCounter(in, packageCounter, StatisticsIO::readString);
+    readNestedCounter(in, elementCardinality, StatisticsIO::readString, StatisticsIO::readString, TreeMap::new);
+    readNestedCounter(in, elementFrequency, StatisticsIO::readString, StatisticsIO::readString, TreeMap::new);
+    readNestedCounter(in, fieldHistogram, StatisticsIO::readString, DataInput::readInt, TreeMap::new);
+  }
+}
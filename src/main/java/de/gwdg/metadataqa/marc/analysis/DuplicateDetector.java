@@ -0,0 +1,295 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import de.gwdg.metadataqa.marc.utils.UnionFind;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Finds the clusters of near-duplicate records with MinHash and locality sensitive hashing.
+ * <p>
+ * The records are added one by one (from any number of threads) with their identifier, type and
+ * features (see DuplicateFeatures), which are kept in flat arrays, so the memory use is
+ * proportional to the number of records. The MinHash signature of a record is split into bands
+ * of a few rows, and the records having the same hash in any band become candidates. The bands
+ * are processed one by one (several of them in parallel): the band hashes of all records are
+ * computed again from the features and sorted, so the records of a bucket are next to each
+ * other and no signature nor pair has to be stored. The candidates are verified with the
+ * weighted field similarity, and the similar ones are joined into clusters.
+ * <p>
+ * The clusters are built by single linkage: a pair above the threshold joins the clusters of its
+ * records, so a cluster is a chain of similar pairs, and only the neighbouring records of the
+ * chain are guaranteed to be similar. It is what a cataloguer merging the duplicates needs (all
+ * the records which might describe the same item), and it allows skipping the pairs which are
+ * already in the same cluster.
+ */
+public class DuplicateDetector {
+
+  private static final Logger logger = Logger.getLogger(DuplicateDetector.class.getCanonicalName());
+
+  public static final int DEFAULT_BANDS = 16;
+  public static final int DEFAULT_ROWS = 4;
+  public static final double DEFAULT_THRESHOLD = 0.8;
+  public static final int DEFAULT_MAX_BUCKET_SIZE = 1000;
+
+  private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+
+  private final int bands;
+  private final int rows;
+  private final double threshold;
+  private final int maxBucketSize;
+  private final long[] seeds;
+
+  private int size = 0;
+  private byte[] types = new byte[1024];
+  private int[] featureOffsets = new int[1025];
+  private int[] features = new int[16 * 1024];
+  private int[] idOffsets = new int[1025];
+  private byte[] ids = new byte[16 * 1024];
+
+  private final AtomicLong candidates = new AtomicLong();
+  private final AtomicLong similarPairs = new AtomicLong();
+  private final AtomicLong skippedBuckets = new AtomicLong();
+  private UnionFind clusters;
+
+  public DuplicateDetector() {
+    this(DEFAULT_BANDS, DEFAULT_ROWS, DEFAULT_THRESHOLD, DEFAULT_MAX_BUCKET_SIZE);
+  }
+
+  /**
+   * @param bands The number of bands
+   * @param rows The number of MinHash values in a band. More rows make fewer, but more similar
+   *   candidates, more bands find more of the less similar pairs.
+   * @param threshold The minimal similarity of the duplicates
+   * @param maxBucketSize The buckets having more records are skipped (they are usually the
+   *   records with a very common title and without other data)
+   */
+  public DuplicateDetector(int bands, int rows, double threshold, int maxBucketSize) {
+    this.bands = bands;
+    this.rows = rows;
+    this.threshold = threshold;
+    this.maxBucketSize = maxBucketSize;
+    seeds = new long[bands * rows];
+    long seed = HASH_SEED;
+    for (int i = 0; i < seeds.length; i++) {
+      seed += HASH_SEED;
+      seeds[i] = mix(seed);
+    }
+  }
+
+  /**
+   * Adds a record.
+   * @param id The record identifier
+   * @param type The type of the duplum key (see MarcFieldExtractor.getDuplumKeyType()), only the
+   *   records of the same type can be duplicates
+   * @param recordFeatures The sorted features of the record
+   * @return The number of the record
+   */
+  public synchronized int add(String id, char type, int[] recordFeatures) {
+    if (size == types.length) {
+      int capacity = size * 2;
+      types = Arrays.copyOf(types, capacity);
+      featureOffsets = Arrays.copyOf(featureOffsets, capacity + 1);
+      idOffsets = Arrays.copyOf(idOffsets, capacity + 1);
+    }
+    types[size] = (byte) type;
+
+    int start = featureOffsets[size];
+    features = ensureCapacity(features, start + recordFeatures.length);
+    System.arraycopy(recordFeatures, 0, features, start, recordFeatures.length);
+    featureOffsets[size + 1] = start + recordFeatures.length;
+
+    byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+    int idStart = idOffsets[size];
+    ids = ensureCapacity(ids, idStart + idBytes.length);
+    System.arraycopy(idBytes, 0, ids, idStart, idBytes.length);
+    idOffsets[size + 1] = idStart + idBytes.length;
+
+    return size++;
+  }
+
+  private static int[] ensureCapacity(int[] array, int capacity) {
+    if (capacity <= array.length)
+      return array;
+    return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+  }
+
+  private static byte[] ensureCapacity(byte[] array, int capacity) {
+    if (capacity <= array.length)
+      return array;
+    return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public String getId(int record) {
+    return new String(ids, idOffsets[record], idOffsets[record + 1] - idOffsets[record], StandardCharsets.UTF_8);
+  }
+
+  public int[] getFeatures(int record) {
+    return Arrays.copyOfRange(features, featureOffsets[record], featureOffsets[record + 1]);
+  }
+
+  /**
+   * Finds the similar records. It should be called after all the records have been added.
+   * @param threads The number of bands processed at the same time
+   * @return The clusters: the records in the same set are connected by a chain of similar pairs
+   */
+  public UnionFind detect(int threads) throws InterruptedException {
+    clusters = new UnionFind(size);
+    ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, bands)));
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int band = 0; band < bands; band++) {
+        final int currentBand = band;
+        results.add(pool.submit(() -> processBand(currentBand)));
+      }
+      for (Future<?> result : results)
+        result.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    logger.info(String.format(
+      "duplicate detection: %d records, %d candidate pairs, %d similar pairs, %d buckets skipped",
+      size, candidates.get(), similarPairs.get(), skippedBuckets.get()));
+    return clusters;
+  }
+
+  private void processBand(int band) {
+    // the band hash in the upper, the record number in the lower half
+    long[] keys = new long[size];
+    int count = 0;
+    for (int record = 0; record < size; record++) {
+      int start = featureOffsets[record];
+      int end = featureOffsets[record + 1];
+      // without title the record can not be similar to any other
+      if (start == end || !DuplicateFeatures.isTitle(features[start]))
+        continue;
+      keys[count++] = ((long) bandHash(band, record, start, end) << 32) | record;
+    }
+    Arrays.sort(keys, 0, count);
+
+    int bucketStart = 0;
+    for (int i = 1; i <= count; i++) {
+      if (i == count || (keys[i] >>> 32) != (keys[bucketStart] >>> 32)) {
+        if (i - bucketStart > 1)
+          verifyBucket(keys, bucketStart, i);
+        bucketStart = i;
+      }
+    }
+    logger.info(String.format("band #%d is processed", band + 1));
+  }
+
+  private void verifyBucket(long[] keys, int start, int end) {
+    if (end - start > maxBucketSize) {
+      skippedBuckets.incrementAndGet();
+      return;
+    }
+    for (int i = start; i < end - 1; i++) {
+      int a = (int) keys[i];
+      for (int j = i + 1; j < end; j++) {
+        int b = (int) keys[j];
+        // pairs found in an earlier band, or joined through other records, are not verified again
+        if (clusters.connected(a, b))
+          continue;
+        candidates.incrementAndGet();
+        if (similarity(a, b) >= threshold && clusters.union(a, b))
+          similarPairs.incrementAndGet();
+      }
+    }
+  }
+
+  public double similarity(int a, int b) {
+    if (types[a] != types[b])
+      return 0.0;
+    return DuplicateFeatures.similarity(
+      features, featureOffsets[a], featureOffsets[a + 1], features, featureOffsets[b], featureOffsets[b + 1]);
+  }
+
+  /**
+   * The hash of the band of the MinHash signature, combined with the type of the record.
+   */
+  int bandHash(int band, int record, int start, int end) {
+    long hash = mix(band * 31L + types[record]);
+    for (int row = 0; row < rows; row++) {
+      long seed = seeds[band * rows + row];
+      long min = Long.MAX_VALUE;
+      for (int i = start; i < end; i++) {
+        long value = mix(features[i] ^ seed);
+        if (value < min)
+          min = value;
+      }
+      hash = mix(hash ^ min);
+    }
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * The finalizer of MurmurHash3.
+   */
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  /**
+   * Lists the records having duplicates, ordered by cluster.
+   * @return For each listed record its cluster number (starting from 1) in the upper and its
+   *   record number in the lower half
+   */
+  public long[] listClusters() {
+    int[] sizes = clusters.componentSizes();
+    int members = 0;
+    for (int record = 0; record < size; record++)
+      if (sizes[record] > 1)
+        members++;
+
+    long[] list = new long[members];
+    int i = 0;
+    for (int record = 0; record < size; record++)
+      if (sizes[record] > 1)
+        list[i++] = ((long) clusters.find(record) << 32) | record;
+    Arrays.sort(list);
+
+    // replace the roots with consecutive numbers
+    int cluster = 0;
+    long previousRoot = -1;
+    for (i = 0; i < list.length; i++) {
+      long root = list[i] >>> 32;
+      if (root != previousRoot) {
+        cluster++;
+        previousRoot = root;
+      }
+      list[i] = ((long) cluster << 32) | (list[i] & 0xFFFFFFFFL);
+    }
+    return list;
+  }
+
+  public long getCandidates() {
+    return candidates.get();
+  }
+
+  public long getSimilarPairs() {
+    return similarPairs.get();
+  }
+
+  public long getSkippedBuckets() {
+    return skippedBuckets.get();
+  }
+}
@@ -0,0 +1,233 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import de.gwdg.metadataqa.marc.MarcFieldExtractor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The features of a record compared by the duplicate detection, built from the duplum key of
+ * MarcFieldExtractor. A feature is the 28 bit hash of a normalized token with the field it comes
+ * from in the top 4 bits, so the features of a record fit into a sorted int array, where the
+ * features of the same field are next to each other.
+ */
+public class DuplicateFeatures {
+
+  private static final int FIELD_SHIFT = 28;
+  private static final int HASH_MASK = (1 << FIELD_SHIFT) - 1;
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Pattern YEAR = Pattern.compile("(1[5-9]|20)\\d\\d");
+  private static final int[] EMPTY = new int[0];
+
+  /**
+   * The compared fields with their weights in the similarity.
+   */
+  public enum Field {
+    TITLE(0.35, false),
+    AUTHOR(0.2, false),
+    ISBN(0.15, true),
+    YEAR(0.15, true),
+    PUBLISHER(0.1, false),
+    EXTENT(0.05, false);
+
+    private final double weight;
+    private final boolean matchAny;
+
+    Field(double weight, boolean matchAny) {
+      this.weight = weight;
+      this.matchAny = matchAny;
+    }
+
+    public double getWeight() {
+      return weight;
+    }
+
+    /**
+     * @return The Jaccard index of the two token sets, or for identifiers (ISBN, year) 1 if they
+     *   have any common value, otherwise 0
+     */
+    double score(int common, int sizeA, int sizeB) {
+      if (matchAny)
+        return common > 0 ? 1.0 : 0.0;
+      return (double) common / (sizeA + sizeB - common);
+    }
+  }
+
+  private DuplicateFeatures() {
+  }
+
+  /**
+   * Creates the sorted features of the record the extractor has measured.
+   */
+  public static int[] extract(MarcFieldExtractor extractor) {
+    Buffer features = new Buffer();
+    addWords(features, Field.TITLE, extractor.getValues("245$a"));
+    addWords(features, Field.AUTHOR, extractor.getAuthorWords());
+    if (extractor.getIsbn() != null)
+      for (String isbn : extractor.getIsbn()) {
+        String normalized = normalizeIsbn(isbn);
+        if (normalized != null)
+          features.add(feature(Field.ISBN, normalized));
+      }
+    String year = extractYear(extractor.getDateOfPublication());
+    if (year != null)
+      features.add(feature(Field.YEAR, year));
+    addWords(features, Field.PUBLISHER, extractor.getValues("260$b"));
+    if (StringUtils.isNotBlank(extractor.getExtent()))
+      addWords(features, Field.EXTENT, Arrays.asList(extractor.getExtent()));
+    return features.toSortedDistinct();
+  }
+
+  private static void addWords(Buffer features, Field field, List<String> values) {
+    if (values == null)
+      return;
+    for (String value : values)
+      for (String word : normalize(value).split(" "))
+        if (!word.isEmpty())
+          features.add(feature(field, word));
+  }
+
+  private static class Buffer {
+    private int[] values = new int[32];
+    private int size = 0;
+
+    void add(int value) {
+      if (size == values.length)
+        values = Arrays.copyOf(values, size * 2);
+      values[size++] = value;
+    }
+
+    int[] toSortedDistinct() {
+      if (size == 0)
+        return EMPTY;
+      Arrays.sort(values, 0, size);
+      int distinct = 1;
+      for (int i = 1; i < size; i++)
+        if (values[i] != values[distinct - 1])
+          values[distinct++] = values[i];
+      return Arrays.copyOf(values, distinct);
+    }
+  }
+
+  /**
+   * Lower case letters and numbers without diacritics, separated by single spaces.
+   */
+  static String normalize(String text) {
+    if (text == null)
+      return "";
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+    return NON_ALPHANUMERIC.matcher(stripped.toLowerCase()).replaceAll(" ").trim();
+  }
+
+  /**
+   * The ISBN without the check digit, ISBN-10 converted to ISBN-13, so the two forms of the
+   * same number are equal.
+   */
+  static String normalizeIsbn(String isbn) {
+    if (isbn == null)
+      return null;
+    StringBuilder digits = new StringBuilder();
+    for (int i = 0; i < isbn.length() && digits.length() < 13; i++) {
+      char c = isbn.charAt(i);
+      if (Character.isDigit(c) || ((c == 'X' || c == 'x') && digits.length() == 9))
+        digits.append(c);
+      else if (c != '-' && digits.length() > 0)
+        break;
+    }
+    if (digits.length() == 10)
+      return "978" + digits.substring(0, 9);
+    if (digits.length() == 13)
+      return digits.substring(0, 12);
+    return null;
+  }
+
+  static String extractYear(List<String> dates) {
+    if (dates == null)
+      return null;
+    for (String date : dates) {
+      if (date == null)
+        continue;
+      Matcher matcher = YEAR.matcher(date);
+      if (matcher.find())
+        return matcher.group();
+    }
+    return null;
+  }
+
+  static int feature(Field field, String token) {
+    int hash = 0x811c9dc5;
+    for (int i = 0; i < token.length(); i++) {
+      hash ^= token.charAt(i);
+      hash *= 0x01000193;
+    }
+    return (field.ordinal() << FIELD_SHIFT) | (hash & HASH_MASK);
+  }
+
+  static boolean isTitle(int feature) {
+    return (feature >>> FIELD_SHIFT) == Field.TITLE.ordinal();
+  }
+
+  /**
+   * The weighted average of the field similarities. Only the fields both records have are
+   * taken into account, and the records without common title are not similar at all.
+   * @param a The sorted features of a record
+   * @param b The sorted features of another record
+   * @return The similarity between 0 and 1
+   */
+  public static double similarity(int[] a, int[] b) {
+    return similarity(a, 0, a.length, b, 0, b.length);
+  }
+
+  /**
+   * The similarity of features stored in parts of larger arrays.
+   */
+  public static double similarity(int[] a, int startA, int endA, int[] b, int startB, int endB) {
+    double score = 0.0;
+    double weights = 0.0;
+    int i = startA;
+    int j = startB;
+    for (Field field : Field.values()) {
+      int fieldEndA = end(a, i, endA, field);
+      int fieldEndB = end(b, j, endB, field);
+      if (i < fieldEndA && j < fieldEndB) {
+        int common = intersection(a, i, fieldEndA, b, j, fieldEndB);
+        score += field.weight * field.score(common, fieldEndA - i, fieldEndB - j);
+        weights += field.weight;
+      } else if (field == Field.TITLE) {
+        return 0.0;
+      }
+      i = fieldEndA;
+      j = fieldEndB;
+    }
+    return weights == 0.0 ? 0.0 : score / weights;
+  }
+
+  private static int end(int[] features, int start, int limit, Field field) {
+    int end = start;
+    while (end < limit && (features[end] >>> FIELD_SHIFT) == field.ordinal())
+      end++;
+    return end;
+  }
+
+  private static int intersection(int[] a, int i, int endA, int[] b, int j, int endB) {
+    int common = 0;
+    while (i < endA && j < endB) {
+      if (a[i] == b[j]) {
+        common++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return common;
+  }
+}
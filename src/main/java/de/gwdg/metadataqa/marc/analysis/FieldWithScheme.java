@@ -0,0 +1,66 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A tag and a classification scheme, the key of the field level classification statistics.
+ * The instances are interned, so the number of the keys is the number of the distinct pairs,
+ * and not the number of the records.
+ */
+public final class FieldWithScheme implements Serializable {
+
+  private static final Map<FieldWithScheme, FieldWithScheme> instances = new ConcurrentHashMap<>();
+
+  private final String tag;
+  private final String scheme;
+
+  private FieldWithScheme(String tag, String scheme) {
+    this.tag = tag;
+    this.scheme = scheme;
+  }
+
+  /**
+   * @return The interned instance of the pair
+   */
+  public static FieldWithScheme of(String tag, String scheme) {
+    FieldWithScheme key = new FieldWithScheme(tag, scheme);
+    FieldWithScheme known = instances.putIfAbsent(key, key);
+    return known == null ? key : known;
+  }
+
+  public String getTag() {
+    return tag;
+  }
+
+  public String getScheme() {
+    return scheme;
+  }
+
+  private Object readResolve() {
+    return of(tag, scheme);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    FieldWithScheme that = (FieldWithScheme) o;
+    return Objects.equals(tag, that.tag) && Objects.equals(scheme, that.scheme);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(tag, scheme);
+  }
+
+  @Override
+  public String toString() {
+    return "FieldWithScheme{" +
+      "tag='" + tag + '\'' +
+      ", scheme='" + scheme + '\'' +
+      '}';
+  }
+}
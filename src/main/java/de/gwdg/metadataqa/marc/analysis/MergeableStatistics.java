@@ -0,0 +1,32 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Statistics collected over a set of records, which can be combined with the statistics of
+ * another set, and saved in a compact binary form. The partial results of different files,
+ * threads or machines can be merged later without reading the records again.
+ *
+ * @param <T> The type of the statistics
+ */
+public interface MergeableStatistics<T extends MergeableStatistics<T>> extends Serializable {
+
+  /**
+   * Adds the values of another statistics object to this one.
+   * @param other The other statistics
+   */
+  void merge(T other);
+
+  /**
+   * Writes the values in binary form.
+   */
+  void write(DataOutput out) throws IOException;
+
+  /**
+   * Reads values written by write(), and adds them to this object.
+   */
+  void read(DataInput in) throws IOException;
+}
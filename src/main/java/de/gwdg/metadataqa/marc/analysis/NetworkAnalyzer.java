@@ -2,11 +2,15 @@ package de.gwdg.metadataqa.marc.analysis;
 
 import de.gwdg.metadataqa.marc.DataField;
 import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.MarcSubfield;
 
 import java.util.*;
 
 public class NetworkAnalyzer {
 
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
   private final MarcRecord marcRecord;
   private final Set<DataField> collector;
 
@@ -31,4 +35,33 @@ public class NetworkAnalyzer {
     if (!collector.contains(field))
       collector.add(field);
   }
+
+  /**
+   * The identifier of the concept the field represents: the 64 bit FNV-1a hash of its tag,
+   * indicators and subfields, so the same heading gets the same identifier in every record.
+   */
+  public static long conceptId(DataField field) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = hash(hash, field.getTag());
+    hash = hash(hash, field.getInd1());
+    hash = hash(hash, field.getInd2());
+    for (MarcSubfield subfield : field.parseSubfields()) {
+      hash = hash(hash, subfield.getCode());
+      hash = hash(hash, subfield.getValue());
+    }
+    return hash;
+  }
+
+  private static long hash(long hash, String value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        hash ^= value.charAt(i);
+        hash *= FNV_PRIME;
+      }
+    }
+    // separator, which is not a char
+    hash ^= value == null ? 0x10001 : 0x10000;
+    hash *= FNV_PRIME;
+    return hash;
+  }
 }
@@ -0,0 +1,242 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import de.gwdg.metadataqa.marc.utils.UnionFind;
+import de.gwdg.metadataqa.marc.utils.counter.IntLongCounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The bipartite graph of the records and the concepts (authority names and subjects) they refer
+ * to, in compressed sparse row form: the edges are stored twice, grouped by record and grouped
+ * by concept, in int arrays with the offsets of the groups. The records are added in order with
+ * their 64 bit concept identifiers, then build() assigns consecutive numbers to the concepts.
+ * <p>
+ * Two records co-occur if they share a concept. The co-occurrence degrees and the connected
+ * components are computed from the two groupings, so the pairs of records are never listed.
+ */
+public class NetworkGraph {
+
+  private static final int CHUNK_SIZE = 4096;
+
+  // collected edges
+  private int[] recordNumbers = new int[1024];
+  private int[] recordOffsets = new int[1025];
+  private long[] edgeConcepts = new long[4096];
+  private int numberOfRecords = 0;
+
+  // the graph
+  private long[] conceptIds;
+  private int[] recordConcepts;
+  private int[] conceptOffsets;
+  private int[] conceptRecords;
+
+  /**
+   * Adds a record with its distinct concepts. The records without concept are not part of the
+   * graph.
+   */
+  public void addRecord(int recordNumber, long[] concepts) {
+    if (conceptIds != null)
+      throw new IllegalStateException("The graph has already been built");
+    if (concepts.length == 0)
+      return;
+    if (numberOfRecords == recordNumbers.length) {
+      recordNumbers = Arrays.copyOf(recordNumbers, numberOfRecords * 2);
+      recordOffsets = Arrays.copyOf(recordOffsets, numberOfRecords * 2 + 1);
+    }
+    int start = recordOffsets[numberOfRecords];
+    if (start + concepts.length > edgeConcepts.length)
+      edgeConcepts = Arrays.copyOf(edgeConcepts, Math.max(start + concepts.length, edgeConcepts.length * 2));
+    System.arraycopy(concepts, 0, edgeConcepts, start, concepts.length);
+    recordNumbers[numberOfRecords] = recordNumber;
+    recordOffsets[numberOfRecords + 1] = start + concepts.length;
+    numberOfRecords++;
+  }
+
+  /**
+   * Numbers the concepts, and creates the grouping by concept.
+   */
+  public void build() {
+    int numberOfEdges = recordOffsets[numberOfRecords];
+    long[] sorted = Arrays.copyOf(edgeConcepts, numberOfEdges);
+    Arrays.sort(sorted);
+    int distinct = 0;
+    for (int i = 0; i < sorted.length; i++)
+      if (i == 0 || sorted[i] != sorted[distinct - 1])
+        sorted[distinct++] = sorted[i];
+    conceptIds = Arrays.copyOf(sorted, distinct);
+
+    recordConcepts = new int[numberOfEdges];
+    conceptOffsets = new int[distinct + 1];
+    for (int edge = 0; edge < numberOfEdges; edge++) {
+      int concept = Arrays.binarySearch(conceptIds, edgeConcepts[edge]);
+      recordConcepts[edge] = concept;
+      conceptOffsets[concept + 1]++;
+    }
+    edgeConcepts = null;
+    for (int concept = 0; concept < distinct; concept++)
+      conceptOffsets[concept + 1] += conceptOffsets[concept];
+
+    conceptRecords = new int[numberOfEdges];
+    int[] next = Arrays.copyOf(conceptOffsets, distinct);
+    for (int record = 0; record < numberOfRecords; record++)
+      for (int edge = recordOffsets[record]; edge < recordOffsets[record + 1]; edge++)
+        conceptRecords[next[recordConcepts[edge]]++] = record;
+
+    recordNumbers = Arrays.copyOf(recordNumbers, numberOfRecords);
+    recordOffsets = Arrays.copyOf(recordOffsets, numberOfRecords + 1);
+  }
+
+  public int getNumberOfRecords() {
+    return numberOfRecords;
+  }
+
+  public int getNumberOfConcepts() {
+    return conceptIds.length;
+  }
+
+  public int getNumberOfEdges() {
+    return recordOffsets[numberOfRecords];
+  }
+
+  /**
+   * @return The number the record iterator gave to the record
+   */
+  public int getRecordNumber(int record) {
+    return recordNumbers[record];
+  }
+
+  public long getConceptId(int concept) {
+    return conceptIds[concept];
+  }
+
+  public int getRecordDegree(int record) {
+    return recordOffsets[record + 1] - recordOffsets[record];
+  }
+
+  public int getConceptDegree(int concept) {
+    return conceptOffsets[concept + 1] - conceptOffsets[concept];
+  }
+
+  /**
+   * @return The concepts of the record
+   */
+  public int[] getConcepts(int record) {
+    return Arrays.copyOfRange(recordConcepts, recordOffsets[record], recordOffsets[record + 1]);
+  }
+
+  /**
+   * @return The records of the concept, in ascending order
+   */
+  public int[] getRecords(int concept) {
+    return Arrays.copyOfRange(conceptRecords, conceptOffsets[concept], conceptOffsets[concept + 1]);
+  }
+
+  /**
+   * @return The number of records having the given number of concepts
+   */
+  public IntLongCounter recordDegreeDistribution() {
+    IntLongCounter distribution = new IntLongCounter();
+    for (int record = 0; record < numberOfRecords; record++)
+      distribution.increment(getRecordDegree(record));
+    return distribution;
+  }
+
+  /**
+   * @return The number of concepts having the given number of records
+   */
+  public IntLongCounter conceptDegreeDistribution() {
+    IntLongCounter distribution = new IntLongCounter();
+    for (int concept = 0; concept < conceptIds.length; concept++)
+      distribution.increment(getConceptDegree(concept));
+    return distribution;
+  }
+
+  /**
+   * Counts for each record the other records it shares any concept with. The records of a concept
+   * are visited only if there are no more than hubLimit of them, the larger concepts (hubs, e.g.
+   * a frequent subject) add their size minus one without checking whether the records are
+   * already counted, so for the records of hubs the degree is an upper estimate.
+   * @param hubLimit The largest concept whose records are visited
+   * @param threads The number of threads
+   * @return The co-occurrence degree of each record
+   */
+  public int[] cooccurrenceDegrees(int hubLimit, int threads) throws InterruptedException {
+    int[] degrees = new int[numberOfRecords];
+    AtomicInteger nextChunk = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < Math.max(1, threads); i++) {
+        results.add(pool.submit(() -> {
+          // the last record which has counted the record as neighbour
+          int[] seenBy = new int[numberOfRecords];
+          Arrays.fill(seenBy, -1);
+          int start;
+          while ((start = nextChunk.getAndAdd(CHUNK_SIZE)) < numberOfRecords) {
+            int end = Math.min(start + CHUNK_SIZE, numberOfRecords);
+            for (int record = start; record < end; record++)
+              degrees[record] = cooccurrenceDegree(record, hubLimit, seenBy);
+          }
+        }));
+      }
+      for (Future<?> result : results)
+        result.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    return degrees;
+  }
+
+  /**
+   * @return Whether the co-occurrence degree of the record is an upper estimate, i.e. the record
+   * belongs to a concept with more than hubLimit records (see cooccurrenceDegrees())
+   */
+  public boolean isCooccurrenceEstimated(int record, int hubLimit) {
+    for (int edge = recordOffsets[record]; edge < recordOffsets[record + 1]; edge++)
+      if (getConceptDegree(recordConcepts[edge]) > hubLimit)
+        return true;
+    return false;
+  }
+
+  private int cooccurrenceDegree(int record, int hubLimit, int[] seenBy) {
+    long degree = 0;
+    for (int edge = recordOffsets[record]; edge < recordOffsets[record + 1]; edge++) {
+      int concept = recordConcepts[edge];
+      if (getConceptDegree(concept) > hubLimit) {
+        degree += getConceptDegree(concept) - 1;
+        continue;
+      }
+      for (int i = conceptOffsets[concept]; i < conceptOffsets[concept + 1]; i++) {
+        int other = conceptRecords[i];
+        if (other != record && seenBy[other] != record) {
+          seenBy[other] = record;
+          degree++;
+        }
+      }
+    }
+    return (int) Math.min(degree, numberOfRecords - 1);
+  }
+
+  /**
+   * Joins the records sharing a concept.
+   * @return The connected components of the records
+   */
+  public UnionFind components() {
+    UnionFind components = new UnionFind(numberOfRecords);
+    for (int concept = 0; concept < conceptIds.length; concept++) {
+      int first = conceptRecords[conceptOffsets[concept]];
+      for (int i = conceptOffsets[concept] + 1; i < conceptOffsets[concept + 1]; i++)
+        components.union(first, conceptRecords[i]);
+    }
+    return components;
+  }
+}
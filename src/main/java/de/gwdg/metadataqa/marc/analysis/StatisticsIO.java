@@ -0,0 +1,180 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import de.gwdg.metadataqa.marc.cli.utils.Schema;
+import de.gwdg.metadataqa.marc.utils.counter.EnumCounter;
+import de.gwdg.metadataqa.marc.utils.counter.IntLongCounter;
+import de.gwdg.metadataqa.marc.utils.counter.ObjectLongCounter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Helper methods for the binary form of the statistics. A counter is written as its size,
+ * followed by the key and value pairs (the values of the maps are ints, those of the primitive
+ * counters are longs). Reading a counter adds its values to an existing one.
+ */
+public class StatisticsIO {
+
+  private StatisticsIO() {
+  }
+
+  public interface KeyWriter<T> {
+    void write(DataOutput out, T key) throws IOException;
+  }
+
+  public interface KeyReader<T> {
+    T read(DataInput in) throws IOException;
+  }
+
+  public static <T> void writeCounter(DataOutput out, Map<T, Integer> counter, KeyWriter<T> keyWriter)
+      throws IOException {
+    out.writeInt(counter.size());
+    for (Map.Entry<T, Integer> entry : counter.entrySet()) {
+      keyWriter.write(out, entry.getKey());
+      out.writeInt(entry.getValue());
+    }
+  }
+
+  public static <T> void readCounter(DataInput in, Map<T, Integer> counter, KeyReader<T> keyReader)
+      throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      T key = keyReader.read(in);
+      counter.merge(key, in.readInt(), Integer::sum);
+    }
+  }
+
+  public static <T> void writeCounter(DataOutput out, ObjectLongCounter<T> counter, KeyWriter<T> keyWriter)
+      throws IOException {
+    out.writeInt(counter.size());
+    for (int i = 0; i < counter.size(); i++) {
+      keyWriter.write(out, counter.getKey(i));
+      out.writeLong(counter.getValue(i));
+    }
+  }
+
+  public static <T> void readCounter(DataInput in, ObjectLongCounter<T> counter, KeyReader<T> keyReader)
+      throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      T key = keyReader.read(in);
+      counter.add(key, in.readLong());
+    }
+  }
+
+  public static void writeCounter(DataOutput out, IntLongCounter counter) throws IOException {
+    out.writeInt(counter.size());
+    for (int i = 0; i < counter.size(); i++) {
+      out.writeInt(counter.getKey(i));
+      out.writeLong(counter.getValue(i));
+    }
+  }
+
+  public static void readCounter(DataInput in, IntLongCounter counter) throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      int key = in.readInt();
+      counter.add(key, in.readLong());
+    }
+  }
+
+  /**
+   * Writes the non zero values of an enum counter. The constants are written by name, so the
+   * order of the constants might change between the versions.
+   */
+  public static <E extends Enum<E>> void writeCounter(DataOutput out, EnumCounter<E> counter)
+      throws IOException {
+    out.writeInt(counter.size());
+    for (E key : counter.getType().getEnumConstants()) {
+      if (counter.get(key) != 0) {
+        out.writeUTF(key.name());
+        out.writeLong(counter.get(key));
+      }
+    }
+  }
+
+  public static <E extends Enum<E>> void readCounter(DataInput in, EnumCounter<E> counter)
+      throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      E key = Enum.valueOf(counter.getType(), in.readUTF());
+      counter.add(key, in.readLong());
+    }
+  }
+
+  public static <K, T> void writeNestedCounter(DataOutput out,
+                                               Map<K, Map<T, Integer>> counter,
+                                               KeyWriter<K> keyWriter,
+                                               KeyWriter<T> innerKeyWriter)
+      throws IOException {
+    out.writeInt(counter.size());
+    for (Map.Entry<K, Map<T, Integer>> entry : counter.entrySet()) {
+      keyWriter.write(out, entry.getKey());
+      writeCounter(out, entry.getValue(), innerKeyWriter);
+    }
+  }
+
+  public static <K, T> void readNestedCounter(DataInput in,
+                                              Map<K, Map<T, Integer>> counter,
+                                              KeyReader<K> keyReader,
+                                              KeyReader<T> innerKeyReader,
+                                              Supplier<Map<T, Integer>> factory)
+      throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      K key = keyReader.read(in);
+      if (!counter.containsKey(key))
+        counter.put(key, factory.get());
+      readCounter(in, counter.get(key), innerKeyReader);
+    }
+  }
+
+  public static void writeString(DataOutput out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null)
+      out.writeUTF(value);
+  }
+
+  public static String readString(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  public static void writeStringList(DataOutput out, List<String> values) throws IOException {
+    out.writeInt(values.size());
+    for (String value : values)
+      writeString(out, value);
+  }
+
+  public static List<String> readStringList(DataInput in) throws IOException {
+    int size = in.readInt();
+    List<String> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+      values.add(readString(in));
+    return values;
+  }
+
+  public static void writeFieldWithScheme(DataOutput out, FieldWithScheme key) throws IOException {
+    writeString(out, key.getTag());
+    writeString(out, key.getScheme());
+  }
+
+  public static FieldWithScheme readFieldWithScheme(DataInput in) throws IOException {
+    return FieldWithScheme.of(readString(in), readString(in));
+  }
+
+  public static void writeSchema(DataOutput out, Schema schema) throws IOException {
+    writeString(out, schema.getField());
+    writeString(out, schema.getLocation());
+    writeString(out, schema.getAbbreviation());
+    writeString(out, schema.getSchema());
+  }
+
+  public static Schema readSchema(DataInput in) throws IOException {
+    return new Schema(readString(in), readString(in), readString(in), readString(in));
+  }
+}
@@ -7,6 +7,7 @@ import de.gwdg.metadataqa.marc.analysis.AuthorityStatistics;
 import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
 import de.gwdg.metadataqa.marc.cli.parameters.ValidatorParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
 import de.gwdg.metadataqa.marc.cli.utils.Schema;
 import org.apache.commons.cli.Options;
@@ -15,6 +16,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
@@ -25,14 +28,12 @@ import java.util.logging.Logger;
 
 import static de.gwdg.metadataqa.marc.Utils.count;
 
-public class AuthorityAnalysis implements MarcFileProcessor, Serializable {
+public class AuthorityAnalysis implements PartialResultProcessor<AuthorityAnalysis>, Serializable {
 
   private static final Logger logger = Logger.getLogger(AuthorityAnalysis.class.getCanonicalName());
 
   private final Options options;
   private CommonParameters parameters;
-  private Map<Integer, Integer> histogram = new HashMap<>();
-  private Map<Boolean, Integer> hasClassifications = new HashMap<>();
   private boolean readyToProcess;
   private static char separator = ',';
   AuthorityStatistics statistics = new AuthorityStatistics();
@@ -43,6 +44,12 @@ public class AuthorityAnalysis implements MarcFileProcessor, Serializable {
     readyToProcess = true;
   }
 
+  private AuthorityAnalysis(CommonParameters parameters) {
+    this.parameters = parameters;
+    options = parameters.getOptions();
+    readyToProcess = true;
+  }
+
   public static void main(String[] args) {
     MarcFileProcessor processor = null;
     try {
@@ -79,8 +86,8 @@ public class AuthorityAnalysis implements MarcFileProcessor, Serializable {
   public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
     AuthorithyAnalyzer analyzer = new AuthorithyAnalyzer(marcRecord, statistics);
     int count = analyzer.process();
-    count((count > 0), hasClassifications);
-    count(count, histogram);
+    count((count > 0), statistics.getHasClassifications());
+    count(count, statistics.getHistogram());
   }
 
   @Override
@@ -163,7 +170,7 @@ public class AuthorityAnalysis implements MarcFileProcessor, Serializable {
     path = Paths.get(parameters.getOutputDir(), "authorities-by-records.csv");
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(createRow("records-with-authorities", "count"));
-      hasClassifications
+      statistics.getHasClassifications()
         .entrySet()
         .stream()
         .sorted((e1, e2) ->
@@ -186,7 +193,7 @@ public class AuthorityAnalysis implements MarcFileProcessor, Serializable {
     Path path = Paths.get(parameters.getOutputDir(), "authorities-histogram.csv");
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(createRow("count", "frequency"));
-      histogram
+      statistics.getHistogram()
         .entrySet()
         .stream()
         .sorted((e1, e2) -> {
@@ -271,4 +278,24 @@ public class AuthorityAnalysis implements MarcFileProcessor, Serializable {
   public boolean readyToProcess() {
     return readyToProcess;
   }
+
+  @Override
+  public AuthorityAnalysis createWorker() {
+    return new AuthorityAnalysis(parameters);
+  }
+
+  @Override
+  public void merge(AuthorityAnalysis worker) {
+    statistics.merge(worker.statistics);
+  }
+
+  @Override
+  public void writePartialResult(DataOutput out) throws IOException {
+    statistics.write(out);
+  }
+
+  @Override
+  public void readPartialResult(DataInput in) throws IOException {
+    statistics.read(in);
+  }
 }
@@ -7,6 +7,7 @@ import de.gwdg.metadataqa.marc.analysis.ClassificationStatistics;
 import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
 import de.gwdg.metadataqa.marc.cli.parameters.ValidatorParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
 import de.gwdg.metadataqa.marc.cli.utils.Schema;
 import org.apache.commons.cli.Options;
@@ -15,6 +16,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
@@ -25,7 +28,7 @@ import java.util.logging.Logger;
 
 import static de.gwdg.metadataqa.marc.Utils.createRow;
 
-public class ClassificationAnalysis implements MarcFileProcessor, Serializable {
+public class ClassificationAnalysis implements PartialResultProcessor<ClassificationAnalysis>, Serializable {
 
   private static final Logger logger = Logger.getLogger(ClassificationAnalysis.class.getCanonicalName());
 
@@ -41,6 +44,12 @@ public class ClassificationAnalysis implements MarcFileProcessor, Serializable {
     readyToProcess = true;
   }
 
+  private ClassificationAnalysis(CommonParameters parameters) {
+    this.parameters = parameters;
+    options = parameters.getOptions();
+    readyToProcess = true;
+  }
+
   public static void main(String[] args) {
     MarcFileProcessor processor = null;
     try {
@@ -274,4 +283,24 @@ public class ClassificationAnalysis implements MarcFileProcessor, Serializable {
     return readyToProcess;
   }
   // private
+
+  @Override
+  public ClassificationAnalysis createWorker() {
+    return new ClassificationAnalysis(parameters);
+  }
+
+  @Override
+  public void merge(ClassificationAnalysis worker) {
+    statistics.merge(worker.statistics);
+  }
+
+  @Override
+  public void writePartialResult(DataOutput out) throws IOException {
+    statistics.write(out);
+  }
+
+  @Override
+  public void readPartialResult(DataInput in) throws IOException {
+    statistics.read(in);
+  }
 }
@@ -1,14 +1,18 @@
 package de.gwdg.metadataqa.marc.cli;
 
 import de.gwdg.metadataqa.marc.*;
+import de.gwdg.metadataqa.marc.analysis.CompletenessStatistics;
 import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
 import de.gwdg.metadataqa.marc.cli.parameters.CompletenessParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
 import de.gwdg.metadataqa.marc.definition.tags.TagCategory;
 import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
 import de.gwdg.metadataqa.marc.utils.BasicStatistics;
 import de.gwdg.metadataqa.marc.utils.TagHierarchy;
+import de.gwdg.metadataqa.marc.utils.counter.ObjectLongCounter;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
@@ -17,6 +21,8 @@ import org.jetbrains.annotations.NotNull;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
@@ -35,22 +41,20 @@ import java.util.regex.Pattern;
 import static de.gwdg.metadataqa.marc.Utils.createRow;
 import static de.gwdg.metadataqa.marc.Utils.quote;
 
-public class Completeness implements MarcFileProcessor, Serializable {
+public class Completeness implements PartialResultProcessor<Completeness>, Serializable {
 
   private static final Logger logger = Logger.getLogger(Completeness.class.getCanonicalName());
   private static final Pattern dataFieldPattern = Pattern.compile("^(\\d\\d\\d)\\$(.*)$");
 
   private final Options options;
   private CompletenessParameters parameters;
-  private Map<String, Integer> library003Counter = new TreeMap<>();
-  private Map<String, Integer> libraryCounter = new TreeMap<>();
-  private Map<String, Integer> packageCounter = new TreeMap<>();
-  private Map<String, Map<String, Integer>> elementCardinality = new TreeMap<>();
-  private Map<String, Map<String, Integer>> elementFrequency = new TreeMap<>();
+  private CompletenessStatistics statistics = new CompletenessStatistics();
+  // the per record counters, cleared after each record
+  private ObjectLongCounter<String> recordFrequency = new ObjectLongCounter<>();
+  private ObjectLongCounter<String> recordPackageCounter = new ObjectLongCounter<>();
   // private Map<String, String> tagCache = new HashMap<>();
   // private Map<String, Integer> libraryMap = new HashMap<>();
   // private Map<String, Integer> fieldMap = new HashMap<>();
-  private Map<String, Map<Integer, Integer>> fieldHistogram = new HashMap<>();
   private boolean readyToProcess;
 
   public Completeness(String[] args) throws ParseException {
@@ -59,6 +63,12 @@ public class Completeness implements MarcFileProcessor, Serializable {
     readyToProcess = true;
   }
 
+  private Completeness(CompletenessParameters parameters) {
+    this.parameters = parameters;
+    options = parameters.getOptions();
+    readyToProcess = true;
+  }
+
   public static void main(String[] args) {
     MarcFileProcessor processor = null;
     try {
@@ -92,14 +102,14 @@ public class Completeness implements MarcFileProcessor, Serializable {
 
   @Override
   public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
-    Map<String, Integer> recordFrequency = new TreeMap<>();
-    Map<String, Integer> recordPackageCounter = new TreeMap<>();
+    recordFrequency.clear();
+    recordPackageCounter.clear();
 
     String type = marcRecord.getType().getValue();
     if (marcRecord.getControl003() != null)
-      count(marcRecord.getControl003().getContent(), library003Counter);
+      count(marcRecord.getControl003().getContent(), statistics.getLibrary003Counter());
     for (String library : extract(marcRecord, "852", "a")) {
-      count(library, libraryCounter);
+      count(library, statistics.getLibraryCounter());
     }
     for (DataField field : marcRecord.getDatafields()) {
       if (field.getDefinition() != null) {
@@ -107,33 +117,34 @@ public class Completeness implements MarcFileProcessor, Serializable {
         if (StringUtils.isBlank(packageName)) {
           System.err.println(field + " has no package. /" + field.getDefinition().getClass());
         }
-        count(packageName, recordPackageCounter);
+        recordPackageCounter.increment(packageName);
       }
 
       for (MarcSubfield subfield : field.parseSubfields()) {
         String key = String.format("%s$%s", field.getTag(), subfield.getCode());
-        if (!elementCardinality.containsKey(type))
-          elementCardinality.put(type, new TreeMap<>());
-        count(key, elementCardinality.get(type));
-        count(key, elementCardinality.get("all"));
-        count(key, recordFrequency);
+        if (!statistics.getElementCardinality().containsKey(type))
+          statistics.getElementCardinality().put(type, new TreeMap<>());
+        count(key, statistics.getElementCardinality().get(type));
+        count(key, statistics.getElementCardinality().get("all"));
+        recordFrequency.increment(key);
       }
     }
-    for (String key : recordFrequency.keySet()) {
-      if (!elementFrequency.containsKey(type))
-        elementFrequency.put(type, new TreeMap<>());
-      count(key, elementFrequency.get(type));
-      count(key, elementFrequency.get("all"));
-
-      if (!fieldHistogram.containsKey(key)) {
-        fieldHistogram.put(key, new TreeMap<>());
+    for (int i = 0; i < recordFrequency.size(); i++) {
+      String key = recordFrequency.getKey(i);
+      if (!statistics.getElementFrequency().containsKey(type))
+        statistics.getElementFrequency().put(type, new TreeMap<>());
+      count(key, statistics.getElementFrequency().get(type));
+      count(key, statistics.getElementFrequency().get("all"));
+
+      if (!statistics.getFieldHistogram().containsKey(key)) {
+        statistics.getFieldHistogram().put(key, new TreeMap<>());
       }
 
-      count(recordFrequency.get(key), fieldHistogram.get(key));
+      count((int) recordFrequency.getValue(i), statistics.getFieldHistogram().get(key));
     }
 
-    for (String key : recordPackageCounter.keySet()) {
-      count(key, packageCounter);
+    for (int i = 0; i < recordPackageCounter.size(); i++) {
+      count(recordPackageCounter.getKey(i), statistics.getPackageCounter());
     }
   }
 
@@ -154,10 +165,7 @@ public class Completeness implements MarcFileProcessor, Serializable {
   }
 
   private <T extends Object> void count(T key, Map<T, Integer> counter) {
-    if (!counter.containsKey(key)) {
-      counter.put(key, 0);
-    }
-    counter.put(key, counter.get(key) + 1);
+    counter.merge(key, 1, Integer::sum);
   }
 
   private void mapItem(String key, Map<String, Integer> counter) {
@@ -170,8 +178,6 @@ public class Completeness implements MarcFileProcessor, Serializable {
   @Override
   public void beforeIteration() {
     logger.info(parameters.formatParameters());
-    elementCardinality.put("all", new TreeMap<>());
-    elementFrequency.put("all", new TreeMap<>());
   }
 
   @Override
@@ -204,7 +210,7 @@ public class Completeness implements MarcFileProcessor, Serializable {
     Path path = Paths.get(parameters.getOutputDir(), "libraries003" + fileExtension);
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write("library" + separator + "count\n");
-      library003Counter
+      statistics.getLibrary003Counter()
         .entrySet()
         .stream()
         .forEach(entry -> {
@@ -222,6 +228,10 @@ public class Completeness implements MarcFileProcessor, Serializable {
   private void saveMarcElements(String fileExtension, char separator) {
     Path path;
     System.err.println("MARC elements");
+    if (parameters.getFormat().equals(ValidationErrorFormat.PARQUET)) {
+      saveMarcElementsAsParquet();
+      return;
+    }
     path = Paths.get(parameters.getOutputDir(), "marc-elements" + fileExtension);
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(
@@ -234,11 +244,11 @@ public class Completeness implements MarcFileProcessor, Serializable {
           separator
         ) + "\n"
       );
-      elementCardinality
+      statistics.getElementCardinality()
         .keySet()
         .stream()
         .forEach(type -> {
-          elementCardinality
+          statistics.getElementCardinality()
             .get(type)
             .entrySet()
             .stream()
@@ -256,13 +266,40 @@ public class Completeness implements MarcFileProcessor, Serializable {
     }
   }
 
+  /**
+   * The same columns as the CSV version, but the numbers are stored as numbers.
+   */
+  private void saveMarcElementsAsParquet() {
+    ParquetReportWriter.ColumnType string = ParquetReportWriter.ColumnType.STRING;
+    ParquetReportWriter.ColumnType integer = ParquetReportWriter.ColumnType.INT;
+    ParquetReportWriter.ColumnType decimal = ParquetReportWriter.ColumnType.DOUBLE;
+    try (ParquetReportWriter writer = ParquetReportWriter.create(
+      parameters, "marc-elements",
+      Arrays.asList(
+        "type", "path", "package", "tag", "subfield",
+        "number-of-record", "number-of-instances",
+        "min", "max", "mean", "stddev", "histogram"
+      ),
+      Arrays.asList(
+        string, string, string, string, string,
+        integer, integer,
+        integer, integer, decimal, decimal, string
+      ))) {
+      for (Map.Entry<String, Map<String, Integer>> typeEntry : statistics.getElementCardinality().entrySet())
+        for (Map.Entry<String, Integer> entry : typeEntry.getValue().entrySet())
+          writer.write(getCardinalityValues(entry, typeEntry.getKey()).toArray());
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
   private void savePackages(String fileExtension, char separator) {
     Path path;
     System.err.println("Packages");
     path = Paths.get(parameters.getOutputDir(), "packages" + fileExtension);
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(createRow(separator, "name", "label", "iscoretag", "count"));
-      packageCounter
+      statistics.getPackageCounter()
         .entrySet()
         .stream()
         .forEach(entry -> {
@@ -295,7 +332,7 @@ public class Completeness implements MarcFileProcessor, Serializable {
     path = Paths.get(parameters.getOutputDir(), "libraries" + fileExtension);
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write("library" + separator + "count\n");
-      libraryCounter
+      statistics.getLibraryCounter()
         .entrySet()
         .stream()
         .forEach(entry -> {
@@ -314,6 +351,13 @@ public class Completeness implements MarcFileProcessor, Serializable {
   private String formatCardinality(char separator,
                                    Map.Entry<String, Integer> entry,
                                    String type) {
+    List<Object> values = quote(getCardinalityValues(entry, type));
+
+    String record = StringUtils.join(values, separator) + "\n";
+    return record;
+  }
+
+  private List<Serializable> getCardinalityValues(Map.Entry<String, Integer> entry, String type) {
     String key = entry.getKey();
     if (key.equals("")) {
       logger.severe("Empty key from " + key);
@@ -332,25 +376,20 @@ public class Completeness implements MarcFileProcessor, Serializable {
     }
 
     Integer cardinality = entry.getValue();
-    Integer frequency = elementFrequency.get(type).get(key);
-    BasicStatistics statistics = new BasicStatistics(fieldHistogram.get(key));
-    if (!fieldHistogram.containsKey(key)) {
+    Integer frequency = statistics.getElementFrequency().get(type).get(key);
+    BasicStatistics basicStatistics = new BasicStatistics(statistics.getFieldHistogram().get(key));
+    if (!statistics.getFieldHistogram().containsKey(key)) {
       logger.warning(String.format(
         "Field %s is not registered in histogram", key));
     }
 
-    List<Object> values = quote(
-      Arrays.asList(
-        type, key, packageLabel, tagLabel, subfieldLabel,
-        frequency, cardinality,
-        statistics.getMin(), statistics.getMax(),
-        statistics.getMean(), statistics.getStdDev(),
-        statistics.formatHistogram()
-      )
+    return Arrays.asList(
+      type, key, packageLabel, tagLabel, subfieldLabel,
+      frequency, cardinality,
+      basicStatistics.getMin(), basicStatistics.getMax(),
+      basicStatistics.getMean(), basicStatistics.getStdDev(),
+      basicStatistics.formatHistogram()
     );
-
-    String record = StringUtils.join(values, separator) + "\n";
-    return record;
   }
 
   private char getSeparator(ValidationErrorFormat format) {
@@ -372,4 +411,28 @@ public class Completeness implements MarcFileProcessor, Serializable {
   public boolean readyToProcess() {
     return readyToProcess;
   }
+
+  @Override
+  public Completeness createWorker() {
+    return new Completeness(parameters);
+  }
+
+  @Override
+  public void merge(Completeness worker) {
+    statistics.merge(worker.statistics);
+  }
+
+  public CompletenessStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public void writePartialResult(DataOutput out) throws IOException {
+    statistics.write(out);
+  }
+
+  @Override
+  public void readPartialResult(DataInput in) throws IOException {
+    statistics.read(in);
+  }
 }
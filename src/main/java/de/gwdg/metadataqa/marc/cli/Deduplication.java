@@ -0,0 +1,169 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.marc.MarcFieldExtractor;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.analysis.DuplicateDetector;
+import de.gwdg.metadataqa.marc.analysis.DuplicateFeatures;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.parameters.DeduplicationParameters;
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.cli.utils.ReportWriter;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.marc4j.marc.Record;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import static de.gwdg.metadataqa.marc.Utils.createRow;
+import static de.gwdg.metadataqa.marc.Utils.quote;
+
+/**
+ * Finds the near-duplicate records (see DuplicateDetector) and writes the clusters of them.
+ * Each row of the report contains a cluster number and the identifier of a record.
+ * <p>
+ * usage:
+ * java -cp target/metadata-qa-marc-0.1-SNAPSHOT-jar-with-dependencies.jar \
+ * de.gwdg.metadataqa.marc.cli.Deduplication [options] [MARC21 file]
+ */
+public class Deduplication implements MergeableProcessor<Deduplication>, Serializable {
+
+  private static final Logger logger = Logger.getLogger(Deduplication.class.getCanonicalName());
+
+  private final DeduplicationParameters parameters;
+  private final Options options;
+  private final DuplicateDetector detector;
+  private final MarcFieldExtractor extractor = new MarcFieldExtractor();
+  private boolean readyToProcess;
+  private int skippedRecords = 0;
+
+  public Deduplication(String[] args) throws ParseException {
+    parameters = new DeduplicationParameters(args);
+    options = parameters.getOptions();
+    detector = new DuplicateDetector(parameters.getBands(), parameters.getRows(),
+      parameters.getThreshold(), parameters.getMaxBucketSize());
+    readyToProcess = true;
+  }
+
+  /**
+   * A worker sharing the detector of the parent, but extracting the features with its own
+   * extractor.
+   */
+  private Deduplication(Deduplication parent) {
+    parameters = parent.parameters;
+    options = parent.options;
+    detector = parent.detector;
+    readyToProcess = parent.readyToProcess;
+  }
+
+  public static void main(String[] args) {
+    MarcFileProcessor processor = null;
+    try {
+      processor = new Deduplication(args);
+    } catch (ParseException e) {
+      System.err.println("ERROR. " + e.getLocalizedMessage());
+      System.exit(0);
+    }
+    if (processor.getParameters().getArgs().length < 1) {
+      System.err.println("Please provide a MARC file name!");
+      processor.printHelp(processor.getParameters().getOptions());
+      System.exit(0);
+    }
+    if (processor.getParameters().doHelp()) {
+      processor.printHelp(processor.getParameters().getOptions());
+      System.exit(0);
+    }
+    RecordIterator iterator = new RecordIterator(processor);
+    iterator.start();
+  }
+
+  @Override
+  public CommonParameters getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public void processRecord(Record marc4jRecord, int recordNumber) {
+  }
+
+  @Override
+  public void processRecord(MarcRecord marcRecord, int recordNumber) {
+    extractor.measure(marcRecord);
+    if (extractor.getDuplumKeyType() == null) {
+      skippedRecords++;
+      return;
+    }
+    detector.add(marcRecord.getId(true), extractor.getDuplumKeyType().charAt(0),
+      DuplicateFeatures.extract(extractor));
+  }
+
+  @Override
+  public Deduplication createWorker() {
+    return new Deduplication(this);
+  }
+
+  @Override
+  public void merge(Deduplication worker) {
+    // the records are already in the shared detector
+    skippedRecords += worker.skippedRecords;
+  }
+
+  @Override
+  public void beforeIteration() {
+    logger.info(parameters.formatParameters());
+  }
+
+  @Override
+  public void fileOpened(Path path) {
+  }
+
+  @Override
+  public void fileProcessed() {
+  }
+
+  @Override
+  public void afterIteration(int numberOfprocessedRecords) {
+    if (skippedRecords > 0)
+      logger.warning(String.format("%d records without leader are skipped", skippedRecords));
+
+    try {
+      detector.detect(parameters.getThreads());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.severe("The duplicate detection has been interrupted");
+      return;
+    }
+
+    long[] clusters = detector.listClusters();
+    try (ReportWriter output = ReportWriter.create(parameters, parameters.getFileName())) {
+      output.write(createRow("cluster", "id"));
+      for (long member : clusters)
+        output.write(createRow(member >>> 32, quote(detector.getId((int) member))));
+    } catch (IOException e) {
+      logger.severe(String.format("Can not write report file: %s", e.getLocalizedMessage()));
+      e.printStackTrace();
+    }
+    int numberOfClusters = clusters.length == 0 ? 0 : (int) (clusters[clusters.length - 1] >>> 32);
+    logger.info(String.format("%d clusters with %d records", numberOfClusters, clusters.length));
+  }
+
+  @Override
+  public void printHelp(Options options) {
+    HelpFormatter formatter = new HelpFormatter();
+    String message = String.format(
+      "java -cp metadata-qa-marc.jar %s [options] [file]",
+      this.getClass().getCanonicalName()
+    );
+    formatter.printHelp(message, options);
+  }
+
+  @Override
+  public boolean readyToProcess() {
+    return readyToProcess;
+  }
+}
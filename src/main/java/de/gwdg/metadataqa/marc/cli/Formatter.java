@@ -158,4 +158,9 @@ public class Formatter implements MarcFileProcessor {
   public boolean readyToProcess() {
     return readyToProcess;
   }
+
+  @Override
+  public boolean needsMarc4jRecords() {
+    return true;
+  }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package de.gwdg.metadataqa.marc.cli;
 import de.gwdg.metadataqa.marc.*;
 import de.gwdg.metadataqa.marc.cli.parameters.CompletenessParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
 import de.gwdg.metadataqa.marc.definition.ControlValue;
 import de.gwdg.metadataqa.marc.definition.DataFieldDefinition;
@@ -10,12 +11,15 @@ import de.gwdg.metadataqa.marc.definition.FRBRFunction;
 import de.gwdg.metadataqa.marc.definition.Indicator;
 import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
 import de.gwdg.metadataqa.marc.utils.FrbrFunctionLister;
+import de.gwdg.metadataqa.marc.utils.counter.EnumCounter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
@@ -24,7 +28,7 @@ import java.nio.file.Paths;
 import java.util.*;
 import java.util.logging.Logger;
 
-public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
+public class FunctionalAnalysis implements PartialResultProcessor<FunctionalAnalysis>, Serializable {
 
   private static final Logger logger = Logger.getLogger(FunctionalAnalysis.class.getCanonicalName());
 
@@ -32,7 +36,9 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
   private final boolean readyToProcess;
   private final CompletenessParameters parameters;
   private FrbrFunctionLister frbrFunctionLister;
-  private int recordNumber;
+  private int numberOfRecords = 0;
+  // the counter of the current record
+  private EnumCounter<FRBRFunction> recordCounter = new EnumCounter<>(FRBRFunction.class);
 
   public FunctionalAnalysis(String[] args) throws ParseException {
     parameters = new CompletenessParameters(args);
@@ -43,6 +49,13 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
     logger.info(frbrFunctionLister.getBaseline().toString());
   }
 
+  private FunctionalAnalysis(CompletenessParameters parameters, FrbrFunctionLister frbrFunctionLister) {
+    this.parameters = parameters;
+    options = parameters.getOptions();
+    readyToProcess = true;
+    this.frbrFunctionLister = frbrFunctionLister;
+  }
+
   public static void main(String[] args) {
     MarcFileProcessor processor = null;
     try {
@@ -77,8 +90,8 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
 
   @Override
   public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
-    this.recordNumber = recordNumber;
-    Map<FRBRFunction, Integer> recordCounter = new TreeMap<>();
+    numberOfRecords++;
+    recordCounter.clear();
     Map<DataFieldDefinition, Boolean> cache = new HashMap<>();
 
     countPositionalControlField(recordCounter, marcRecord.getLeader());
@@ -90,7 +103,7 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
     frbrFunctionLister.addToHistogram(percent);
   }
 
-  private void countDataFields(Map<FRBRFunction, Integer> recordCounter,
+  private void countDataFields(EnumCounter<FRBRFunction> recordCounter,
                                List<DataField> dataFields,
                                Map<DataFieldDefinition, Boolean> cache) {
     for (DataField dataField : dataFields) {
@@ -110,7 +123,7 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
     }
   }
 
-  private void countIndicator(Map<FRBRFunction, Integer> recordCounter,
+  private void countIndicator(EnumCounter<FRBRFunction> recordCounter,
                               Indicator definition,
                               String value) {
     if (definition.getFrbrFunctions() != null
@@ -120,7 +133,7 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
     }
   }
 
-  private void countControlFields(Map<FRBRFunction, Integer> recordCounter,
+  private void countControlFields(EnumCounter<FRBRFunction> recordCounter,
                                   List<MarcControlField> controlFields) {
     for (MarcControlField controlField : controlFields) {
       if (controlField == null) {
@@ -136,7 +149,7 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
     }
   }
 
-  private void countPositionalControlField(Map<FRBRFunction, Integer> recordCounter,
+  private void countPositionalControlField(EnumCounter<FRBRFunction> recordCounter,
                                            MarcPositionalControlField leader) {
     for (ControlValue controlValue : leader.getValuesList()) {
       FrbrFunctionLister.countFunctions(
@@ -169,7 +182,7 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
       fileExtension = ".tsv";
     }
 
-    Map<FRBRFunction, Double> result = frbrFunctionLister.percentOf(recordNumber);
+    Map<FRBRFunction, Double> result = frbrFunctionLister.percentOf(numberOfRecords);
     saveResult(result, fileExtension, separator);
 
     Map<FRBRFunction, Map<Double, Integer>> histogram = frbrFunctionLister.getHistogram();
@@ -253,4 +266,27 @@ public class FunctionalAnalysis implements MarcFileProcessor, Serializable {
   public boolean readyToProcess() {
     return readyToProcess;
   }
+
+  @Override
+  public FunctionalAnalysis createWorker() {
+    return new FunctionalAnalysis(parameters, frbrFunctionLister.createEmptyCopy());
+  }
+
+  @Override
+  public void merge(FunctionalAnalysis worker) {
+    numberOfRecords += worker.numberOfRecords;
+    frbrFunctionLister.merge(worker.frbrFunctionLister);
+  }
+
+  @Override
+  public void writePartialResult(DataOutput out) throws IOException {
+    out.writeInt(numberOfRecords);
+    frbrFunctionLister.write(out);
+  }
+
+  @Override
+  public void readPartialResult(DataInput in) throws IOException {
+    numberOfRecords += in.readInt();
+    frbrFunctionLister.read(in);
+  }
 }
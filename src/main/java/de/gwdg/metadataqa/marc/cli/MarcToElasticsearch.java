@@ -0,0 +1,142 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.parameters.MarcToElasticsearchParameters;
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.datastore.ElasticsearchBulkWriter;
+import de.gwdg.metadataqa.marc.datastore.MarcElasticsearchClient;
+import de.gwdg.metadataqa.marc.model.SolrFieldType;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.marc4j.marc.Record;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Indexes MARC records (in any of the input formats of the other tools) in Elasticsearch. The
+ * fields of a document are the same key-value pairs as the ones of the Solr index, the
+ * documents are sent with the _bulk API (see ElasticsearchBulkWriter).
+ * <p>
+ * usage:
+ * java -cp target/metadata-qa-marc-0.4-SNAPSHOT-jar-with-dependencies.jar de.gwdg.metadataqa.marc.cli.MarcToElasticsearch \
+ *   --elasticsearchHost localhost --index marc --batchSize 1000 [file]
+ */
+public class MarcToElasticsearch implements MarcFileProcessor {
+
+  private static final Logger logger = Logger.getLogger(MarcToElasticsearch.class.getCanonicalName());
+  private static final String ID_FIELD = "id";
+
+  private final Options options;
+  private MarcToElasticsearchParameters parameters;
+  private MarcElasticsearchClient client;
+  private ElasticsearchBulkWriter writer;
+  private Path currentFile;
+  private boolean readyToProcess;
+  private DecimalFormat decimalFormat = new DecimalFormat();
+
+  public MarcToElasticsearch(String[] args) throws ParseException {
+    parameters = new MarcToElasticsearchParameters(args);
+    options = parameters.getOptions();
+    readyToProcess = true;
+  }
+
+  public static void main(String[] args) throws ParseException {
+    MarcToElasticsearch processor = new MarcToElasticsearch(args);
+    if (processor.getParameters().getArgs().length < 1) {
+      System.err.println("Please provide a MARC file name!");
+      processor.printHelp(processor.options);
+      System.exit(0);
+    }
+    if (processor.getParameters().doHelp()) {
+      processor.printHelp(processor.options);
+      System.exit(0);
+    }
+
+    RecordIterator iterator = new RecordIterator(processor);
+    iterator.start();
+  }
+
+  /**
+   * The document of a record: its identifier and its key-value pairs.
+   */
+  public static Map<String, Object> createDocument(MarcRecord marcRecord, SolrFieldType fieldType, boolean trimId) {
+    Map<String, List<String>> pairs = marcRecord.getKeyValuePairs(fieldType);
+    Map<String, Object> document = new LinkedHashMap<>(pairs.size() * 2 + 2);
+    document.put(ID_FIELD, marcRecord.getId(trimId));
+    document.putAll(pairs);
+    return document;
+  }
+
+  @Override
+  public CommonParameters getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public void processRecord(Record marc4jRecord, int recordNumber) {
+  }
+
+  @Override
+  public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
+    try {
+      writer.add(createDocument(marcRecord, parameters.getFieldType(), parameters.getTrimId()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      readyToProcess = false;
+      throw new IOException("Interrupted while waiting for Elasticsearch", e);
+    }
+    if (recordNumber % 5000 == 0 && parameters.doLog())
+      logger.info(String.format("%s/%s (%s)",
+        currentFile.getFileName().toString(), decimalFormat.format(recordNumber), marcRecord.getId()));
+  }
+
+  @Override
+  public void beforeIteration() {
+    logger.info(parameters.formatParameters());
+    client = new MarcElasticsearchClient(parameters.getElasticsearchHost(), parameters.getElasticsearchPort());
+    writer = new ElasticsearchBulkWriter(client, parameters.getIndex(), parameters.getType(), ID_FIELD,
+      parameters.getBatchSize(), parameters.getSenderThreads(), parameters.getFlushInterval());
+  }
+
+  @Override
+  public void fileOpened(Path path) {
+    currentFile = path;
+  }
+
+  @Override
+  public void fileProcessed() {
+  }
+
+  @Override
+  public void afterIteration(int numberOfprocessedRecords) {
+    try {
+      writer.close();
+      logger.info(String.format("%d documents indexed, %d failed",
+        writer.getSentDocuments(), writer.getFailedDocuments()));
+      client.close();
+    } catch (IOException e) {
+      logger.severe("Error while indexing the last batches: " + e.getLocalizedMessage());
+    }
+  }
+
+  @Override
+  public void printHelp(Options options) {
+    HelpFormatter formatter = new HelpFormatter();
+    String message = String.format("java -cp metadata-qa-marc.jar %s [options] [file]", this.getClass().getCanonicalName());
+    formatter.printHelp(message, options);
+  }
+
+  @Override
+  public boolean readyToProcess() {
+    return readyToProcess;
+  }
+}
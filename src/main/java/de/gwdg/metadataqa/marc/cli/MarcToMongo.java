@@ -0,0 +1,148 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.parameters.MarcToMongoParameters;
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.datastore.MarcMongodbClient;
+import de.gwdg.metadataqa.marc.datastore.MongoBulkWriter;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.marc4j.marc.Record;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.util.logging.Logger;
+
+/**
+ * Imports MARC records (in any of the input formats of the other tools) into MongoDB. The records
+ * are stored as MARC JSON, the same way as MongoImporter stores the already converted JSON lines.
+ * The documents are inserted in bulk operations (see MongoBulkWriter).
+ * <p>
+ * usage:
+ * java -cp target/metadata-qa-marc-0.4-SNAPSHOT-jar-with-dependencies.jar de.gwdg.metadataqa.marc.cli.MarcToMongo \
+ *   --mongoHost localhost --database marc --batchSize 1000 [file]
+ */
+public class MarcToMongo implements MarcFileProcessor {
+
+  private static final Logger logger = Logger.getLogger(MarcToMongo.class.getCanonicalName());
+
+  private final Options options;
+  private MarcToMongoParameters parameters;
+  private MarcMongodbClient client;
+  private MongoBulkWriter writer;
+  private Path currentFile;
+  private boolean readyToProcess;
+  private DecimalFormat decimalFormat = new DecimalFormat();
+
+  public MarcToMongo(String[] args) throws ParseException {
+    parameters = new MarcToMongoParameters(args);
+    options = parameters.getOptions();
+    readyToProcess = true;
+  }
+
+  public static void main(String[] args) throws ParseException {
+    MarcToMongo processor = new MarcToMongo(args);
+    if (processor.getParameters().getArgs().length < 1) {
+      System.err.println("Please provide a MARC file name!");
+      processor.printHelp(processor.options);
+      System.exit(0);
+    }
+    if (processor.getParameters().doHelp()) {
+      processor.printHelp(processor.options);
+      System.exit(0);
+    }
+
+    RecordIterator iterator = new RecordIterator(processor);
+    iterator.start();
+  }
+
+  /**
+   * The document of a record: its identifier, the name of the input file and the record as
+   * MARC JSON.
+   */
+  public static DBObject createDocument(MarcRecord marcRecord, String fileName, boolean trimId) {
+    return new BasicDBObject("type", "marcjson")
+      .append("id", marcRecord.getId(trimId))
+      .append("file", fileName)
+      .append("record", marcRecord.asJson());
+  }
+
+  @Override
+  public CommonParameters getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public void processRecord(Record marc4jRecord, int recordNumber) {
+  }
+
+  @Override
+  public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
+    try {
+      writer.add(createDocument(marcRecord, currentFile.getFileName().toString(), parameters.getTrimId()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      readyToProcess = false;
+      throw new IOException("Interrupted while waiting for MongoDB", e);
+    }
+    if (recordNumber % 5000 == 0 && parameters.doLog())
+      logger.info(String.format("%s/%s (%s)",
+        currentFile.getFileName().toString(), decimalFormat.format(recordNumber), marcRecord.getId()));
+  }
+
+  @Override
+  public void beforeIteration() {
+    logger.info(parameters.formatParameters());
+    try {
+      client = new MarcMongodbClient(parameters.getMongoHost(), parameters.getMongoPort(), parameters.getDatabase());
+    } catch (UnknownHostException e) {
+      logger.severe("Unknown MongoDB host: " + e.getLocalizedMessage());
+      readyToProcess = false;
+      return;
+    }
+    writer = new MongoBulkWriter(client.getCollection(parameters.getCollection()),
+      parameters.getBatchSize(), parameters.getSenderThreads(), parameters.getFlushInterval());
+  }
+
+  @Override
+  public void fileOpened(Path path) {
+    currentFile = path;
+  }
+
+  @Override
+  public void fileProcessed() {
+  }
+
+  @Override
+  public void afterIteration(int numberOfprocessedRecords) {
+    if (writer == null)
+      return;
+    try {
+      writer.close();
+    } catch (IOException e) {
+      logger.severe("Error while writing the last batches: " + e.getLocalizedMessage());
+    }
+    logger.info(String.format("%d documents inserted, %d failed",
+      writer.getSentDocuments(), writer.getFailedDocuments()));
+    client.close();
+  }
+
+  @Override
+  public void printHelp(Options options) {
+    HelpFormatter formatter = new HelpFormatter();
+    String message = String.format("java -cp metadata-qa-marc.jar %s [options] [file]", this.getClass().getCanonicalName());
+    formatter.printHelp(message, options);
+  }
+
+  @Override
+  public boolean readyToProcess() {
+    return readyToProcess;
+  }
+}
@@ -6,20 +6,19 @@ import de.gwdg.metadataqa.marc.cli.parameters.MarcToSolrParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
 import de.gwdg.metadataqa.marc.datastore.MarcSolrClient;
+import de.gwdg.metadataqa.marc.datastore.SolrDocumentBuilder;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
 import org.marc4j.marc.Record;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Path;
 import java.text.DecimalFormat;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -36,6 +35,7 @@ public class MarcToSolr implements MarcFileProcessor, Serializable {
   private final Options options;
   private MarcToSolrParameters parameters;
   private MarcSolrClient client;
+  private transient SolrDocumentBuilder documentBuilder;
   private Path currentFile;
   private boolean readyToProcess;
   private DecimalFormat decimalFormat = new DecimalFormat();
@@ -45,6 +45,12 @@ public class MarcToSolr implements MarcFileProcessor, Serializable {
     options = parameters.getOptions();
     client = new MarcSolrClient(parameters.getSolrUrl());
     client.setTrimId(parameters.getTrimId());
+    documentBuilder = new SolrDocumentBuilder(parameters.getSolrFieldType(), true);
+    if (parameters.doBulkIndexing())
+      client.useBulkIndexing(
+        parameters.getBatchSize(), parameters.getSenderThreads(),
+        parameters.getFlushInterval(), parameters.getCommitWithin()
+      );
     readyToProcess = true;
   }
 
@@ -75,11 +81,11 @@ public class MarcToSolr implements MarcFileProcessor, Serializable {
   @Override
   public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
     try {
-      Map<String, List<String>> map = marcRecord.getKeyValuePairs(
-        parameters.getSolrFieldType(), true
+      SolrInputDocument document = documentBuilder.build(
+        marcRecord.getId(parameters.getTrimId()), marcRecord
       );
-      map.put("record_sni", Arrays.asList(marcRecord.asJson()));
-      client.indexMap(marcRecord.getId(), map);
+      documentBuilder.add("record_sni", marcRecord.asJson());
+      client.indexDocument(document);
     } catch (SolrServerException e) {
       if (e.getMessage().contains("Server refused connection at")) {
         // end process;
@@ -88,7 +94,8 @@ public class MarcToSolr implements MarcFileProcessor, Serializable {
       e.printStackTrace();
     }
     if (recordNumber % 5000 == 0) {
-      if (parameters.doCommit())
+      // in bulk mode Solr commits the batches itself (commitWithin)
+      if (parameters.doCommit() && !client.isBulkIndexing())
         client.commit();
       logger.info(
         String.format(
@@ -119,6 +126,7 @@ public class MarcToSolr implements MarcFileProcessor, Serializable {
   @Override
   public void afterIteration(int numberOfprocessedRecords) {
     client.commit();
+    client.close();
   }
 
   @Override
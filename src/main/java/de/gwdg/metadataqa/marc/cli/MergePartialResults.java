@@ -0,0 +1,92 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.PartialResults;
+import org.apache.commons.cli.ParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Merges the partial results (created with the --partialResult option) of several runs of an
+ * analysis, and creates the reports of the analysis as if it had processed all the records in
+ * one run.
+ * usage:
+ * java -cp metadata-qa-marc.jar de.gwdg.metadataqa.marc.cli.MergePartialResults \
+ *   validator|completeness|classifications|authorities|functional-analysis [options] [partial result files]
+ * The options are the options of the analysis.
+ */
+public class MergePartialResults {
+
+  private static final Logger logger = Logger.getLogger(MergePartialResults.class.getCanonicalName());
+
+  public static void main(String[] args) {
+    if (args.length < 1) {
+      help();
+      System.exit(0);
+    }
+
+    PartialResultProcessor<?> processor = null;
+    try {
+      processor = createProcessor(args[0], Arrays.copyOfRange(args, 1, args.length));
+    } catch (ParseException e) {
+      System.err.println("ERROR. " + e.getLocalizedMessage());
+      System.exit(0);
+    }
+    if (processor == null) {
+      System.err.println("Unknown analysis: " + args[0]);
+      help();
+      System.exit(0);
+    }
+    if (processor.getParameters().getArgs().length < 1) {
+      System.err.println("Please provide the partial result files!");
+      System.exit(0);
+    }
+
+    try {
+      int numberOfRecords = merge(processor, processor.getParameters().getArgs());
+      logger.info(String.format("%d records in %d partial results",
+        numberOfRecords, processor.getParameters().getArgs().length));
+    } catch (IOException e) {
+      logger.severe("Can not read the partial result: " + e.getLocalizedMessage());
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Reads each file into a worker of the processor, merges the workers, and creates the reports.
+   * @return The number of the records processed by the runs which created the files
+   */
+  public static <T extends PartialResultProcessor<T>> int merge(PartialResultProcessor<T> processor,
+                                                                String[] fileNames)
+      throws IOException {
+    processor.beforeIteration();
+    int numberOfRecords = 0;
+    for (String fileName : fileNames) {
+      T worker = processor.createWorker();
+      numberOfRecords += PartialResults.read(worker, new File(fileName));
+      processor.merge(worker);
+    }
+    processor.afterIteration(numberOfRecords);
+    return numberOfRecords;
+  }
+
+  private static PartialResultProcessor<?> createProcessor(String analysis, String[] args)
+      throws ParseException {
+    switch (analysis) {
+      case "validator": return new Validator(args);
+      case "completeness": return new Completeness(args);
+      case "classifications": return new ClassificationAnalysis(args);
+      case "authorities": return new AuthorityAnalysis(args);
+      case "functional-analysis": return new FunctionalAnalysis(args);
+      default: return null;
+    }
+  }
+
+  private static void help() {
+    System.err.println("usage: java -cp metadata-qa-marc.jar " + MergePartialResults.class.getCanonicalName()
+      + " validator|completeness|classifications|authorities|functional-analysis [options] [partial result files]");
+  }
+}
@@ -0,0 +1,99 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.marc.cli.parameters.AnalysisType;
+import de.gwdg.metadataqa.marc.cli.parameters.MultiAnalysisParameters;
+import de.gwdg.metadataqa.marc.cli.processor.CompositeProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import org.apache.commons.cli.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Runs several analyses (validation, completeness, classification etc.) within one pass over the
+ * MARC files, instead of reading and parsing the whole catalogue once per analysis.
+ *
+ * usage:
+ * java -cp target/metadata-qa-marc-0.1-SNAPSHOT-jar-with-dependencies.jar de.gwdg.metadataqa.marc.cli.MultiAnalysis
+ *   --analyses validate,completeness [options] [MARC21 file]
+ *
+ * The options are passed to those analyses which accept them, so e.g. --details goes only to the
+ * validation. Use the long form of the options. If the analyses give different meanings to an
+ * option, it should be given with the label of the analysis, e.g. --tt-completeness.format.
+ */
+public class MultiAnalysis extends CompositeProcessor {
+
+  private static final Logger logger = Logger.getLogger(MultiAnalysis.class.getCanonicalName());
+
+  public MultiAnalysis(String[] args) throws ParseException {
+    this(new MultiAnalysisParameters(args));
+  }
+
+  private MultiAnalysis(MultiAnalysisParameters parameters) throws ParseException {
+    super(parameters, createProcessors(parameters));
+  }
+
+  /**
+   * The label of the analysis, e.g. "validate".
+   */
+  @Override
+  public String getLabel(int index) {
+    return ((MultiAnalysisParameters) getParameters()).getAnalyses().get(index).getLabel();
+  }
+
+  public static void main(String[] args) {
+    MarcFileProcessor processor = null;
+    try {
+      processor = new MultiAnalysis(args);
+    } catch (ParseException e) {
+      System.err.println("ERROR. " + e.getLocalizedMessage());
+      System.exit(0);
+    }
+    if (processor.getParameters().getArgs().length < 1) {
+      System.err.println("Please provide a MARC file name!");
+      processor.printHelp(processor.getParameters().getOptions());
+      System.exit(0);
+    }
+    if (processor.getParameters().doHelp()) {
+      processor.printHelp(processor.getParameters().getOptions());
+      System.exit(0);
+    }
+    logger.info(processor.getParameters().formatParameters());
+    RecordIterator iterator = new RecordIterator(processor);
+    iterator.start();
+  }
+
+  private static List<MarcFileProcessor> createProcessors(MultiAnalysisParameters parameters)
+      throws ParseException {
+    List<MarcFileProcessor> processors = new ArrayList<>();
+    for (AnalysisType type : parameters.getAnalyses())
+      processors.add(createProcessor(type, parameters.getArgumentsFor(type)));
+    return processors;
+  }
+
+  private static MarcFileProcessor createProcessor(AnalysisType type, String[] args)
+      throws ParseException {
+    switch (type) {
+      case VALIDATE:
+        return new Validator(args);
+      case COMPLETENESS:
+        return new Completeness(args);
+      case CLASSIFICATIONS:
+        return new ClassificationAnalysis(args);
+      case AUTHORITIES:
+        return new AuthorityAnalysis(args);
+      case TT_COMPLETENESS:
+        return new ThompsonTraillCompleteness(args);
+      case SERIAL_SCORE:
+        return new SerialScore(args);
+      case FUNCTIONAL_ANALYSIS:
+        return new FunctionalAnalysis(args);
+      case NETWORK_ANALYSIS:
+        return new NetworkAnalysis(args);
+      default:
+        throw new IllegalArgumentException("Unhandled analysis: " + type);
+    }
+  }
+}
@@ -4,11 +4,14 @@ import de.gwdg.metadataqa.marc.DataField;
 import de.gwdg.metadataqa.marc.MarcRecord;
 import de.gwdg.metadataqa.marc.Utils;
 import de.gwdg.metadataqa.marc.analysis.NetworkAnalyzer;
+import de.gwdg.metadataqa.marc.analysis.NetworkGraph;
 import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
 import de.gwdg.metadataqa.marc.cli.parameters.NetworkAction;
 import de.gwdg.metadataqa.marc.cli.parameters.NetworkParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.utils.UnionFind;
+import de.gwdg.metadataqa.marc.utils.counter.IntLongCounter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.jetbrains.annotations.NotNull;
@@ -28,6 +31,17 @@ import java.util.stream.Stream;
 import static de.gwdg.metadataqa.marc.Utils.createRow;
 import static de.gwdg.metadataqa.marc.Utils.createRowWithSep;
 
+/**
+ * Collects the authority names and subjects (concepts) of the records, and analyses the network
+ * of the records sharing concepts (see NetworkGraph). It writes network.csv (concept, record
+ * pairs), the records of each concept (network-by-concepts.csv), the concepts of each record
+ * with its co-occurrence degree (an upper estimate for the records of concepts larger than
+ * --group-limit) and component (network-by-record.csv), the summary
+ * (network-statistics.csv) and the distributions of the degrees and component sizes.
+ * <p>
+ * The 'pairing' action creates the list of co-occurring record pairs from
+ * network-by-concepts.csv.
+ */
 public class NetworkAnalysis implements MarcFileProcessor, Serializable {
 
   private static final Logger logger = Logger.getLogger(NetworkAnalysis.class.getCanonicalName());
@@ -35,7 +49,7 @@ public class NetworkAnalysis implements MarcFileProcessor, Serializable {
   private final NetworkParameters parameters;
   private final Options options;
   private final boolean readyToProcess;
-  private final List<String> orphans = new ArrayList<>();
+  private final NetworkGraph graph = new NetworkGraph();
   private Path path;
   private BufferedWriter writer;
   private BufferedWriter nodeWriter;
@@ -194,12 +208,22 @@ public class NetworkAnalysis implements MarcFileProcessor, Serializable {
   public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
     NetworkAnalyzer analyzer = new NetworkAnalyzer(marcRecord);
     Set<DataField> collector = analyzer.process(recordNumber);
-    if (collector.size() > 0) {
-      for (DataField field : collector) {
-        writer.write(createRow(field.toString().hashCode(), recordNumber));
+    if (collector.isEmpty())
+      return;
+
+    long[] concepts = new long[collector.size()];
+    int i = 0;
+    for (DataField field : collector)
+      concepts[i++] = NetworkAnalyzer.conceptId(field);
+    Arrays.sort(concepts);
+    int distinct = 0;
+    for (i = 0; i < concepts.length; i++) {
+      if (i == 0 || concepts[i] != concepts[distinct - 1]) {
+        concepts[distinct++] = concepts[i];
+        writer.write(createRow(concepts[i], recordNumber));
       }
     }
-    orphans.add(marcRecord.getId(true));
+    graph.addRecord(recordNumber, Arrays.copyOf(concepts, distinct));
   }
 
   @Override
@@ -226,6 +250,144 @@ public class NetworkAnalysis implements MarcFileProcessor, Serializable {
 
   @Override
   public void afterIteration(int numberOfprocessedRecords) {
+    try {
+      writer.close();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+
+    graph.build();
+    logger.info(String.format("network: %d records, %d concepts, %d links",
+      graph.getNumberOfRecords(), graph.getNumberOfConcepts(), graph.getNumberOfEdges()));
+
+    int[] cooccurrences;
+    try {
+      cooccurrences = graph.cooccurrenceDegrees(parameters.getGroupLimit(), parameters.getThreads());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.severe("The network analysis has been interrupted");
+      return;
+    }
+    int[] components = numberComponents(graph.components());
+
+    writeByConcepts();
+    writeByRecord(cooccurrences, components);
+    writeStatistics(components);
+    writeDistribution("network-concept-degrees.csv", "degree", graph.conceptDegreeDistribution());
+    writeDistribution("network-record-degrees.csv", "degree", graph.recordDegreeDistribution());
+    IntLongCounter cooccurrenceDistribution = new IntLongCounter();
+    for (int degree : cooccurrences)
+      cooccurrenceDistribution.increment(degree);
+    writeDistribution("network-cooccurrence-degrees.csv", "degree", cooccurrenceDistribution);
+    writeDistribution("network-components.csv", "size", componentSizes(components));
+  }
+
+  /**
+   * @return The component number (starting from 1) of each record
+   */
+  private int[] numberComponents(UnionFind unionFind) {
+    int[] numbers = new int[unionFind.size()];
+    int[] rootNumbers = new int[unionFind.size()];
+    int last = 0;
+    for (int record = 0; record < numbers.length; record++) {
+      int root = unionFind.find(record);
+      if (rootNumbers[root] == 0)
+        rootNumbers[root] = ++last;
+      numbers[record] = rootNumbers[root];
+    }
+    return numbers;
+  }
+
+  private IntLongCounter componentSizes(int[] components) {
+    IntLongCounter sizes = new IntLongCounter();
+    for (int component : components)
+      sizes.increment(component);
+    IntLongCounter distribution = new IntLongCounter();
+    sizes.forEach((component, size) -> distribution.increment((int) size));
+    return distribution;
+  }
+
+  private void writeByConcepts() {
+    Path outputPath = Paths.get(parameters.getOutputDir(), "network-by-concepts.csv");
+    try (BufferedWriter output = Files.newBufferedWriter(outputPath)) {
+      output.write(createRow("concept", "count", "ids"));
+      for (int concept = 0; concept < graph.getNumberOfConcepts(); concept++) {
+        int[] records = graph.getRecords(concept);
+        output.write(createRow(graph.getConceptId(concept), records.length, joinRecordNumbers(records)));
+      }
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private String joinRecordNumbers(int[] records) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < records.length; i++) {
+      if (i > 0)
+        text.append(';');
+      text.append(graph.getRecordNumber(records[i]));
+    }
+    return text.toString();
+  }
+
+  private void writeByRecord(int[] cooccurrences, int[] components) {
+    Path outputPath = Paths.get(parameters.getOutputDir(), "network-by-record.csv");
+    try (BufferedWriter output = Files.newBufferedWriter(outputPath)) {
+      output.write(createRow("id", "count", "concepts", "cooccurrences", "estimated", "component"));
+      int estimated = 0;
+      for (int record = 0; record < graph.getNumberOfRecords(); record++) {
+        StringBuilder concepts = new StringBuilder();
+        for (int concept : graph.getConcepts(record)) {
+          if (concepts.length() > 0)
+            concepts.append(';');
+          concepts.append(graph.getConceptId(concept));
+        }
+        boolean isEstimated = graph.isCooccurrenceEstimated(record, parameters.getGroupLimit());
+        if (isEstimated)
+          estimated++;
+        output.write(createRow(graph.getRecordNumber(record), graph.getRecordDegree(record),
+          concepts, cooccurrences[record], isEstimated, components[record]));
+      }
+      if (estimated > 0)
+        logger.info(String.format(
+          "the co-occurrences of %d records are upper estimates, since they belong to concepts "
+            + "with more than %d records (see --group-limit)", estimated, parameters.getGroupLimit()));
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private void writeStatistics(int[] components) {
+    IntLongCounter conceptDegrees = graph.conceptDegreeDistribution();
+    IntLongCounter recordDegrees = graph.recordDegreeDistribution();
+    IntLongCounter componentSizes = componentSizes(components);
+    int numberOfComponents = 0;
+    for (int i = 0; i < componentSizes.size(); i++)
+      numberOfComponents += componentSizes.getValue(i);
+
+    Path outputPath = Paths.get(parameters.getOutputDir(), "network-statistics.csv");
+    try (BufferedWriter output = Files.newBufferedWriter(outputPath)) {
+      output.write(createRow("type", "total", "single", "multi"));
+      output.write(createRow("concepts", graph.getNumberOfConcepts(), conceptDegrees.get(1),
+        graph.getNumberOfConcepts() - conceptDegrees.get(1)));
+      output.write(createRow("records", graph.getNumberOfRecords(), recordDegrees.get(1),
+        graph.getNumberOfRecords() - recordDegrees.get(1)));
+      output.write(createRow("components", numberOfComponents, componentSizes.get(1),
+        numberOfComponents - componentSizes.get(1)));
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private void writeDistribution(String fileName, String label, IntLongCounter distribution) {
+    Path outputPath = Paths.get(parameters.getOutputDir(), fileName);
+    try (BufferedWriter output = Files.newBufferedWriter(outputPath)) {
+      output.write(createRow(label, "frequency"));
+      for (int key : distribution.sortedKeys())
+        output.write(createRow(key, distribution.get(key)));
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
   }
 
   @Override
@@ -7,21 +7,24 @@ import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
 import de.gwdg.metadataqa.marc.cli.parameters.SerialScoreParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
 import de.gwdg.metadataqa.marc.analysis.Serial;
+import de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.cli.utils.ReportWriter;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
-import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,9 +45,10 @@ public class SerialScore implements MarcFileProcessor, Serializable {
     SerialScore.class.getCanonicalName()
   );
   private final Options options;
-  private final boolean readyToProcess;
+  private boolean readyToProcess;
   private SerialScoreParameters parameters;
-  private File output = null;
+  private ReportWriter output = null;
+  private transient ParquetReportWriter parquetOutput = null;
   private Map<Integer, Integer> histogram = new HashMap<>();
 
   public SerialScore(String[] args) throws ParseException {
@@ -86,13 +90,43 @@ public class SerialScore implements MarcFileProcessor, Serializable {
     logger.info(parameters.formatParameters());
     printFields();
 
-    output = new File(parameters.getOutputDir(), parameters.getFileName());
-    if (output.exists())
-      output.delete();
+    try {
+      if (parameters.getFormat().equals(ValidationErrorFormat.PARQUET)) {
+        parquetOutput = createParquetOutput(Serial.getHeader());
+        return;
+      }
+      output = ReportWriter.create(parameters, parameters.getFileName());
+    } catch (IOException e) {
+      logger.severe(String.format("Can not create report file: %s", e.getLocalizedMessage()));
+      e.printStackTrace();
+      readyToProcess = false;
+      return;
+    }
 
     print(createRow(Serial.getHeader()));
   }
 
+  /**
+   * The identifier is a string, the scores are integers.
+   */
+  private ParquetReportWriter createParquetOutput(List<String> header) throws IOException {
+    List<ParquetReportWriter.ColumnType> types = new ArrayList<>();
+    types.add(ParquetReportWriter.ColumnType.STRING);
+    types.addAll(Collections.nCopies(header.size() - 1, ParquetReportWriter.ColumnType.INT));
+    return ParquetReportWriter.create(parameters, parameters.getFileName(), header, types);
+  }
+
+  private void write(String id, List<Integer> scores) {
+    List<Object> row = new ArrayList<>();
+    row.add(id);
+    row.addAll(scores);
+    try {
+      parquetOutput.write(row.toArray());
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
   @Override
   public void fileOpened(Path path) {
   }
@@ -107,6 +141,10 @@ public class SerialScore implements MarcFileProcessor, Serializable {
     if (marcRecord.getType().equals(Leader.Type.CONTINUING_RESOURCES)) {
       Serial serial = new Serial(marcRecord);
       List<Integer> scores = serial.determineRecordQualityScore();
+      if (parquetOutput != null) {
+        write(marcRecord.getId().trim(), scores);
+        return;
+      }
       String message = createRow(
         quote(marcRecord.getId().trim()), StringUtils.join(scores, ",")
       );
@@ -116,12 +154,19 @@ public class SerialScore implements MarcFileProcessor, Serializable {
 
   @Override
   public void fileProcessed() {
-
+    if (output == null)
+      return;
+    try {
+      output.flush();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
   }
 
   @Override
   public void afterIteration(int numberOfprocessedRecords) {
     printHistogram();
+    closeOutput();
   }
 
   private void printHistogram() {
@@ -165,7 +210,24 @@ public class SerialScore implements MarcFileProcessor, Serializable {
 
   private void print(String message) {
     try {
-      FileUtils.writeStringToFile(output, message, true);
+      output.write(message);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private void closeOutput() {
+    if (parquetOutput != null) {
+      try {
+        parquetOutput.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+    if (output == null)
+      return;
+    try {
+      output.close();
     } catch (IOException e) {
       e.printStackTrace();
     }
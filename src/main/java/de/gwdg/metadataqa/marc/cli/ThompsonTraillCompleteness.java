@@ -6,19 +6,22 @@ import de.gwdg.metadataqa.marc.analysis.ThompsonTraillAnalysis;
 import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
 import de.gwdg.metadataqa.marc.cli.parameters.ThompsonTraillCompletenessParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.cli.utils.ReportWriter;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
 import org.apache.commons.cli.*;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
-import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -37,9 +40,10 @@ public class ThompsonTraillCompleteness implements MarcFileProcessor, Serializab
     ThompsonTraillCompleteness.class.getCanonicalName()
   );
   private final Options options;
-  private final boolean readyToProcess;
+  private boolean readyToProcess;
   private ThompsonTraillCompletenessParameters parameters;
-  private File output = null;
+  private transient ReportWriter output = null;
+  private transient ParquetReportWriter parquetOutput = null;
 
   public ThompsonTraillCompleteness(String[] args) throws ParseException {
     parameters = new ThompsonTraillCompletenessParameters(args);
@@ -81,13 +85,32 @@ public class ThompsonTraillCompleteness implements MarcFileProcessor, Serializab
     logger.info(parameters.formatParameters());
     printFields();
 
-    output = new File(parameters.getOutputDir(), parameters.getFileName());
-    if (output.exists())
-      output.delete();
+    try {
+      if (parameters.getFormat().equals(ValidationErrorFormat.PARQUET)) {
+        parquetOutput = createParquetOutput(ThompsonTraillAnalysis.getHeader());
+        return;
+      }
+      output = ReportWriter.create(parameters, parameters.getFileName());
+    } catch (IOException e) {
+      logger.severe(String.format("Can not create report file: %s", e.getLocalizedMessage()));
+      e.printStackTrace();
+      readyToProcess = false;
+      return;
+    }
 
     print(createRow(ThompsonTraillAnalysis.getHeader()));
   }
 
+  /**
+   * The identifier is a string, the scores are integers.
+   */
+  private ParquetReportWriter createParquetOutput(List<String> header) throws IOException {
+    List<ParquetReportWriter.ColumnType> types = new ArrayList<>();
+    types.add(ParquetReportWriter.ColumnType.STRING);
+    types.addAll(Collections.nCopies(header.size() - 1, ParquetReportWriter.ColumnType.INT));
+    return ParquetReportWriter.create(parameters, parameters.getFileName(), header, types);
+  }
+
   @Override
   public void fileOpened(Path path) {
   }
@@ -99,25 +122,56 @@ public class ThompsonTraillCompleteness implements MarcFileProcessor, Serializab
 
   @Override
   public void processRecord(MarcRecord marcRecord, int recordNumber) {
-    List<Integer> scores = ThompsonTraillAnalysis.getScores(marcRecord);
-    String id = parameters.getTrimId()
-              ? marcRecord.getId().trim()
-              : marcRecord.getId();
-    String message = String.format(
-      "\"%s\",%s%n",
-      id, StringUtils.join(scores, ",")
-    );
-    print(message);
+    writeScores(createScores(marcRecord));
+  }
+
+  /**
+   * Calculates the row of the record in the report. It does not need the output, so it can run
+   * on the Spark executors, while the rows are written on the driver with writeScores().
+   * @return The record identifier, then the scores
+   */
+  public Object[] createScores(MarcRecord marcRecord) {
+    List<Object> row = new ArrayList<>();
+    row.add(getId(marcRecord));
+    row.addAll(ThompsonTraillAnalysis.getScores(marcRecord));
+    return row.toArray();
+  }
+
+  /**
+   * Writes a row created by createScores() into the CSV or the Parquet report.
+   */
+  public void writeScores(Object[] row) {
+    if (parquetOutput == null) {
+      print(String.format("\"%s\",%s%n", row[0], StringUtils.join(row, ',', 1, row.length)));
+      return;
+    }
+    try {
+      parquetOutput.write(row);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private String getId(MarcRecord marcRecord) {
+    return parameters.getTrimId()
+         ? marcRecord.getId().trim()
+         : marcRecord.getId();
   }
 
   @Override
   public void fileProcessed() {
-
+    if (output == null)
+      return;
+    try {
+      output.flush();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
   }
 
   @Override
   public void afterIteration(int numberOfprocessedRecords) {
-
+    closeOutput();
   }
 
   @Override
@@ -134,9 +188,26 @@ public class ThompsonTraillCompleteness implements MarcFileProcessor, Serializab
     formatter.printHelp(message, options);
   }
 
-  private void print(String message) {
+  public void print(String message) {
+    try {
+      output.write(message);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private void closeOutput() {
+    if (parquetOutput != null) {
+      try {
+        parquetOutput.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+    if (output == null)
+      return;
     try {
-      FileUtils.writeStringToFile(output, message, true);
+      output.close();
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -1,30 +1,47 @@
 package de.gwdg.metadataqa.marc.cli;
 
 import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.analysis.StatisticsIO;
 import de.gwdg.metadataqa.marc.cli.parameters.ValidatorParameters;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter;
 import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.cli.utils.ReportWriter;
+import de.gwdg.metadataqa.marc.cli.utils.SpillingIssueCollector;
+import de.gwdg.metadataqa.marc.cli.utils.ValidationCache;
 import de.gwdg.metadataqa.marc.model.validation.ValidationError;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
 import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormatter;
 import de.gwdg.metadataqa.marc.model.validation.ValidationErrorType;
+import de.gwdg.metadataqa.marc.utils.counter.EnumCounter;
+import de.gwdg.metadataqa.marc.utils.counter.IntLongCounter;
+import de.gwdg.metadataqa.marc.utils.counter.ObjectLongCounter;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.CodeSource;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import static de.gwdg.metadataqa.marc.Utils.*;
+import static de.gwdg.metadataqa.marc.analysis.StatisticsIO.readCounter;
+import static de.gwdg.metadataqa.marc.analysis.StatisticsIO.writeCounter;
 import static de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat.TAB_SEPARATED;
 
 /**
@@ -33,32 +50,39 @@ import static de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat.TAB
  *
  * @author Péter Király <peter.kiraly at gwdg.de>
  */
-public class Validator implements MarcFileProcessor, Serializable {
+public class Validator implements PartialResultProcessor<Validator>, Serializable {
 
   private static final Logger logger = Logger.getLogger(Validator.class.getCanonicalName());
   private Options options;
 
   private ValidatorParameters parameters;
-  private Map<Integer, Integer> totalRecordCounter = new HashMap<>();
-  private Map<Integer, Integer> totalInstanceCounter = new HashMap<>();
-  private Map<String, Integer> categoryRecordCounter = new HashMap<>();
-  private Map<String, Integer> categoryInstanceCounter = new HashMap<>();
-  private Map<ValidationErrorType, Integer> typeRecordCounter = new HashMap<>();
-  private Map<ValidationErrorType, Integer> typeInstanceCounter = new HashMap<>();
-  private Map<ValidationError, Integer> instanceBasedErrorCounter = new HashMap<>();
-  private Map<Integer, Integer> recordBasedErrorCounter = new HashMap<>();
-  private Map<Integer, Integer> hashedIndex = new HashMap<>();
+  private IntLongCounter totalRecordCounter = new IntLongCounter();
+  private IntLongCounter totalInstanceCounter = new IntLongCounter();
+  private ObjectLongCounter<String> categoryRecordCounter = new ObjectLongCounter<>();
+  private ObjectLongCounter<String> categoryInstanceCounter = new ObjectLongCounter<>();
+  private EnumCounter<ValidationErrorType> typeRecordCounter = new EnumCounter<>(ValidationErrorType.class);
+  private EnumCounter<ValidationErrorType> typeInstanceCounter = new EnumCounter<>(ValidationErrorType.class);
+  private ObjectLongCounter<ValidationError> instanceBasedErrorCounter = new ObjectLongCounter<>();
+  private IntLongCounter recordBasedErrorCounter = new IntLongCounter();
+  // the per record counters, cleared after each record
+  private EnumCounter<ValidationErrorType> recordTypes = new EnumCounter<>(ValidationErrorType.class);
+  private ObjectLongCounter<String> recordCategories = new ObjectLongCounter<>();
+  private Map<Integer, Integer> hashedIndex = new ConcurrentHashMap<>();
   private Map<Integer, Set<String>> errorCollector = new TreeMap<>();
-  private File detailsFile = null;
-  private File summaryFile = null;
-  private File collectorFile = null;
+  private transient SpillingIssueCollector spillingCollector = null;
+  private transient ValidationCache validationCache = null;
+  private ReportWriter detailsWriter = null;
+  private transient ParquetReportWriter detailsParquetWriter = null;
+  private ReportWriter summaryWriter = null;
+  private ReportWriter collectorWriter = null;
   private boolean doPrintInProcessRecord = true;
   private Path currentFile;
-  private boolean readyToProcess;
+  private volatile boolean readyToProcess;
   private int counter;
   private char separator;
   private boolean hasSeparator = false;
-  private int vErrorId = 1;
+  private AtomicInteger vErrorId = new AtomicInteger(1);
+  private transient Validator parent = null;
 
   public Validator(String[] args) throws ParseException {
     parameters = new ValidatorParameters(args);
@@ -69,6 +93,27 @@ public class Validator implements MarcFileProcessor, Serializable {
 
   }
 
+  /**
+   * Creates a worker, which shares the error identifiers and the output files with its parent.
+   */
+  private Validator(Validator parent) {
+    this.parent = parent;
+    parameters = parent.parameters;
+    options = parent.options;
+    hashedIndex = parent.hashedIndex;
+    vErrorId = parent.vErrorId;
+    detailsWriter = parent.detailsWriter;
+    detailsParquetWriter = parent.detailsParquetWriter;
+    summaryWriter = parent.summaryWriter;
+    collectorWriter = parent.collectorWriter;
+    if (parent.spillingCollector != null)
+      spillingCollector = createSpillingCollector();
+    validationCache = parent.validationCache;
+    doPrintInProcessRecord = parent.doPrintInProcessRecord;
+    readyToProcess = true;
+    counter = 0;
+  }
+
   public static void main(String[] args) {
     MarcFileProcessor processor = null;
     try {
@@ -106,34 +151,147 @@ public class Validator implements MarcFileProcessor, Serializable {
   @Override
   public void beforeIteration() {
     logger.info(parameters.formatParameters());
+    if (parameters.useValidationCache()) {
+      try {
+        validationCache = new ValidationCache(new File(parameters.getValidationCache()), formatCacheConfiguration());
+      } catch (IOException e) {
+        logger.severe(String.format("Can not open the validation cache %s: %s",
+          parameters.getValidationCache(), e.getLocalizedMessage()));
+        e.printStackTrace();
+        readyToProcess = false;
+        return;
+      }
+    }
     if (!parameters.useStandardOutput()) {
-      detailsFile = prepareReportFile(parameters.getOutputDir(), parameters.getDetailsFileName());
-      logger.info("details output: " + detailsFile.getPath());
+      if (isParquetDetails()) {
+        detailsParquetWriter = createParquetWriter(parameters.getDetailsFileName());
+        if (detailsParquetWriter == null)
+          return;
+        logger.info("details output: " + detailsParquetWriter.getFile().getPath());
+      } else {
+        detailsWriter = createReportWriter(parameters.getDetailsFileName());
+        if (detailsWriter == null)
+          return;
+        logger.info("details output: " + detailsWriter.getFile().getPath());
+      }
       if (parameters.getSummaryFileName() != null) {
-        summaryFile = prepareReportFile(parameters.getOutputDir(), parameters.getSummaryFileName());
-        logger.info("summary output: " + summaryFile.getPath());
-        collectorFile = prepareReportFile(parameters.getOutputDir(), "issue-collector.csv");
+        summaryWriter = createReportWriter(parameters.getSummaryFileName());
+        collectorWriter = createReportWriter("issue-collector.csv");
+        if (summaryWriter == null || collectorWriter == null)
+          return;
+        logger.info("summary output: " + summaryWriter.getFile().getPath());
         String header = ValidationErrorFormatter.formatHeaderForCollector(
           parameters.getFormat()
         );
-        print(collectorFile, header + "\n");
-
-      } else {
-        if (parameters.doSummary())
-          summaryFile = detailsFile;
+        print(collectorWriter, header + "\n");
+        if (parameters.doSpillCollector())
+          spillingCollector = createSpillingCollector();
+
+      } else if (parameters.doSummary()) {
+        if (isParquetDetails()) {
+          // the summary can not be appended to the Parquet details
+          summaryWriter = createReportWriter(ValidatorParameters.DEFAULT_SUMMARY_FILE_NAME);
+          if (summaryWriter == null)
+            return;
+        } else {
+          summaryWriter = detailsWriter;
+        }
       }
     }
-    if (parameters.doDetails()) {
+    // emptying the large collectors would write a part of the collector into the issue collector
+    // file only, so when the statistics are saved for a later merge, the collector is spilled to
+    // temporary files instead, and all of its entries get into the partial result
+    if (spillingCollector == null && parameters.doSummary()
+        && parameters.doSavePartialResult() && parameters.doEmptyLargeCollectors())
+      spillingCollector = createSpillingCollector();
+    if (parameters.doDetails() && !isParquetDetails()) {
       String header = ValidationErrorFormatter.formatHeader(parameters.getFormat());
-      print(detailsFile, header + "\n");
+      print(detailsWriter, header + "\n");
+    }
+  }
+
+  /**
+   * Whether the details are written as Parquet. The summary files are CSV in this case too.
+   */
+  private boolean isParquetDetails() {
+    return parameters.getFormat().equals(ValidationErrorFormat.PARQUET) && parameters.doDetails();
+  }
+
+  /**
+   * The parameters the validation result of a record depends on, and the version of the tool.
+   */
+  String formatCacheConfiguration() {
+    return String.format(
+      "version=%s, marcVersion=%s, defaultRecordType=%s, alephseq=%s, fixAlephseq=%s, marcxml=%s, "
+        + "lineSeparated=%s, trimId=%s, summary=%s, changedBy005=%s",
+      getVersion(), parameters.getMarcVersion(), parameters.getDefaultRecordType(),
+      parameters.isAlephseq(), parameters.fixAlephseq(), parameters.isMarcxml(),
+      parameters.isLineSeparated(), parameters.getTrimId(), parameters.doSummary(), parameters.isChangedBy005());
+  }
+
+  /**
+   * The version of the tool. If it runs from a jar file, the modification time of the jar is
+   * added, so the results of a build are not reused by another build of the same version,
+   * which might have different definitions.
+   */
+  static String getVersion() {
+    String version = Validator.class.getPackage().getImplementationVersion();
+    if (version == null)
+      version = "development";
+    try {
+      CodeSource source = Validator.class.getProtectionDomain().getCodeSource();
+      if (source != null) {
+        File location = new File(source.getLocation().toURI());
+        if (location.isFile())
+          version += "@" + location.lastModified();
+      }
+    } catch (URISyntaxException | IllegalArgumentException | SecurityException e) {
+      logger.warning("Can not detect the location of the classes: " + e.getLocalizedMessage());
+    }
+    return version;
+  }
+
+  private ReportWriter createReportWriter(String fileName) {
+    try {
+      return ReportWriter.create(parameters, fileName);
+    } catch (IOException e) {
+      logger.severe(String.format("Can not create report file %s: %s", fileName, e.getLocalizedMessage()));
+      e.printStackTrace();
+      readyToProcess = false;
+      return null;
+    }
+  }
+
+  /**
+   * In summary mode a row contains a record identifier, an error identifier and the number of
+   * its instances in the record, otherwise the same columns as the CSV details.
+   */
+  private ParquetReportWriter createParquetWriter(String fileName) {
+    List<String> columns;
+    List<ParquetReportWriter.ColumnType> types;
+    if (parameters.doSummary()) {
+      columns = Arrays.asList("recordId", "errorId", "instances");
+      types = Arrays.asList(ParquetReportWriter.ColumnType.STRING,
+        ParquetReportWriter.ColumnType.INT, ParquetReportWriter.ColumnType.INT);
+    } else {
+      columns = ValidationErrorFormatter.getHeader();
+      types = Collections.nCopies(columns.size(), ParquetReportWriter.ColumnType.STRING);
+    }
+    try {
+      return ParquetReportWriter.create(parameters, fileName, columns, types);
+    } catch (IOException e) {
+      logger.severe(String.format("Can not create report file %s: %s", fileName, e.getLocalizedMessage()));
+      e.printStackTrace();
+      readyToProcess = false;
+      return null;
     }
   }
 
-  private File prepareReportFile(String outputDir, String fileName) {
-    File reportFile = new File(outputDir, fileName);
-    if (reportFile.exists())
-      reportFile.delete();
-    return reportFile;
+  private SpillingIssueCollector createSpillingCollector() {
+    return new SpillingIssueCollector(
+      new File(parameters.getOutputDir()),
+      parameters.doSpillCollector() ? parameters.getCollectorBufferSize() : SpillingIssueCollector.DEFAULT_BUFFER_SIZE
+    );
   }
 
   @Override
@@ -143,13 +301,19 @@ public class Validator implements MarcFileProcessor, Serializable {
 
   @Override
   public void fileProcessed() {
-
+    for (ReportWriter writer : Arrays.asList(detailsWriter, summaryWriter, collectorWriter))
+      if (writer != null) {
+        try {
+          writer.flush();
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }
   }
 
   @Override
   public void afterIteration(int numberOfprocessedRecords) {
-    File countFile = prepareReportFile(parameters.getOutputDir(), "count.csv");
-    printToFile(countFile, String.valueOf(numberOfprocessedRecords));
+    printCount(numberOfprocessedRecords);
 
     char separator = getSeparator();
     if (parameters.doSummary()) {
@@ -159,9 +323,67 @@ public class Validator implements MarcFileProcessor, Serializable {
       printTotalCounts();
       printCollector();
     }
+    closeReportWriters();
+    closeValidationCache();
+  }
+
+  private void printCount(int numberOfprocessedRecords) {
+    // a single number, so it is never compressed
+    try (ReportWriter writer = new ReportWriter(new File(parameters.getOutputDir(), "count.csv"))) {
+      writer.write(String.valueOf(numberOfprocessedRecords));
+    } catch (IOException e) {
+      logger.severe(String.format("Can not write report file count.csv: %s", e.getLocalizedMessage()));
+      e.printStackTrace();
+    }
+  }
+
+  private void closeValidationCache() {
+    if (validationCache == null)
+      return;
+    // if only a part of the input has been processed, the other records are kept in the cache
+    boolean isPartialRun = parameters.hasId() || parameters.getLimit() > -1 || parameters.getOffset() > -1;
+    try {
+      validationCache.close(isPartialRun);
+    } catch (IOException e) {
+      logger.severe("Can not write the validation cache: " + e.getLocalizedMessage());
+      e.printStackTrace();
+    }
+  }
+
+  private void closeReportWriters() {
+    if (detailsParquetWriter != null) {
+      try {
+        detailsParquetWriter.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+    for (ReportWriter writer : new LinkedHashSet<>(Arrays.asList(detailsWriter, summaryWriter, collectorWriter)))
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }
   }
 
   private void printCollector() {
+    if (spillingCollector != null) {
+      try {
+        spillingCollector.write(
+          getSeparator(),
+          parameters.doEmptyLargeCollectors() ? 1000 : 0,
+          message -> print(collectorWriter, message)
+        );
+      } catch (IOException e) {
+        logger.severe("Can not write the issue collector: " + e.getLocalizedMessage());
+        e.printStackTrace();
+      } finally {
+        spillingCollector.close();
+      }
+      return;
+    }
     for (Map.Entry<Integer, Set<String>> entry : errorCollector.entrySet()) {
       printCollectorEntry(entry.getKey(), entry.getValue());
     }
@@ -171,14 +393,14 @@ public class Validator implements MarcFileProcessor, Serializable {
     String header = ValidationErrorFormatter.formatHeaderForSummary(
       parameters.getFormat()
     );
-    print(summaryFile, header + "\n");
-    for (Map.Entry<ValidationError, Integer> entry : instanceBasedErrorCounter.entrySet()) {
-      ValidationError error = entry.getKey();
-      int count = entry.getValue();
+    print(summaryWriter, header + "\n");
+    for (int i = 0; i < instanceBasedErrorCounter.size(); i++) {
+      ValidationError error = instanceBasedErrorCounter.getKey(i);
+      long count = instanceBasedErrorCounter.getValue(i);
       String formattedOutput = ValidationErrorFormatter.formatForSummary(
         error, parameters.getFormat()
       );
-      print(summaryFile, createRow(
+      print(summaryWriter, createRow(
         separator, error.getId(), formattedOutput, count, recordBasedErrorCounter.get(error.getId())
       ));
     }
@@ -188,19 +410,14 @@ public class Validator implements MarcFileProcessor, Serializable {
     Path path = Paths.get(parameters.getOutputDir(), "issue-by-type.csv");
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(createRow("type", "instances", "records"));
-      typeRecordCounter
-        .entrySet()
-        .stream()
-        .forEach(entry -> {
-          ValidationErrorType type = entry.getKey();
-          int records = entry.getValue();
-          int instances = typeInstanceCounter.get(entry.getKey());
-          try {
-            writer.write(createRow(quote(type.getMessage()), instances, records));
-          } catch (IOException e) {
-            e.printStackTrace();
-          }
-        });
+      typeRecordCounter.forEach((type, records) -> {
+        long instances = typeInstanceCounter.get(type);
+        try {
+          writer.write(createRow(quote(type.getMessage()), instances, records));
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      });
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -211,18 +428,11 @@ public class Validator implements MarcFileProcessor, Serializable {
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(createRow("type", "instances", "records"));
       // writer.write(createRow("total", totalInstanceCounter.get(1), totalRecordCounter.get(1)));
-      totalRecordCounter
-        .entrySet()
-        .stream()
-        .forEach(entry -> {
-          int records = entry.getValue();
-          int instances = totalInstanceCounter.getOrDefault(entry.getKey(), 0);
-          try {
-            writer.write(createRow(entry.getKey(), instances, records));
-          } catch (IOException e) {
-            e.printStackTrace();
-          }
-        });
+      for (int type : totalRecordCounter.sortedKeys()) {
+        long records = totalRecordCounter.get(type);
+        long instances = totalInstanceCounter.get(type);
+        writer.write(createRow(type, instances, records));
+      }
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -232,13 +442,9 @@ public class Validator implements MarcFileProcessor, Serializable {
     Path path = Paths.get(parameters.getOutputDir(), "issue-by-category.csv");
     try (BufferedWriter writer = Files.newBufferedWriter(path)) {
       writer.write(createRow("category", "instances", "records"));
-      categoryRecordCounter
-      .entrySet()
-      .stream()
-      .forEach(entry -> {
-        String category = entry.getKey();
-        int records = entry.getValue();
-        int instances = categoryInstanceCounter.getOrDefault(entry.getKey(), -1);
+      categoryRecordCounter.forEach((category, records) -> {
+        long instances = categoryInstanceCounter.containsKey(category)
+          ? categoryInstanceCounter.get(category) : -1;
         try {
           writer.write(createRow(category, instances, records));
         } catch (IOException e) {
@@ -259,32 +465,52 @@ public class Validator implements MarcFileProcessor, Serializable {
 
   private void printCollectorEntry(Integer errorId, Set<String> recordIds) {
     print(
-      collectorFile,
+      collectorWriter,
       String.format(
         "%d%s%s%n",
-        errorId, separator, StringUtils.join(recordIds, ";")
+        errorId, getSeparator(), StringUtils.join(recordIds, ";")
       )
     );
   }
 
-  private void print(File file, String message) {
-    if (parameters.useStandardOutput())
-      System.out.print(message);
-    else {
-      printToFile(file, message);
+  private void writeParquetDetails(String recordId, Map<Integer, Integer> errorIds) {
+    try {
+      for (Map.Entry<Integer, Integer> entry : errorIds.entrySet())
+        detailsParquetWriter.write(recordId, entry.getKey(), entry.getValue());
+    } catch (IOException e) {
+      logger.severe(e.toString());
+      e.printStackTrace();
     }
   }
 
-  private void printToFile(File file, String message) {
+  private void writeParquetDetails(List<ValidationError> errors) {
     try {
-      FileUtils.writeStringToFile(file, message, true);
+      for (ValidationError error : errors) {
+        error.setTrimId(parameters.getTrimId());
+        detailsParquetWriter.write(ValidationErrorFormatter.asList(error).toArray());
+      }
     } catch (IOException e) {
-      if (parameters.doLog())
-        logger.severe(e.toString());
+      logger.severe(e.toString());
       e.printStackTrace();
     }
   }
 
+  private void print(ReportWriter writer, String message) {
+    if (parent != null)
+      parent.print(writer, message);
+    else if (parameters.useStandardOutput())
+      System.out.print(message);
+    else {
+      try {
+        writer.write(message);
+      } catch (IOException e) {
+        if (parameters.doLog())
+          logger.severe(e.toString());
+        e.printStackTrace();
+      }
+    }
+  }
+
   @Override
   public void processRecord(Record marc4jRecord, int recordNumber) throws IOException {
 
@@ -297,72 +523,113 @@ public class Validator implements MarcFileProcessor, Serializable {
     if (i % 100000 == 0)
       logger.info("Number of error types so far: " + instanceBasedErrorCounter.size());
 
-    boolean isValid = marcRecord.validate(parameters.getMarcVersion(), parameters.doSummary());
-    if (!isValid && doPrintInProcessRecord) {
+    ValidationCache.Result result = validate(marcRecord);
+    boolean isValid = result.isValid();
+    if (!isValid) {
+      List<ValidationError> errors = result.getErrors();
       if (parameters.doSummary()) {
-        List<ValidationError> errors = marcRecord.getValidationErrors();
         List<ValidationError> allButInvalidFieldErrors = new ArrayList<>();
         Set<Integer> uniqueErrors = new HashSet<>();
-        Set<ValidationErrorType> uniqueTypes = new HashSet<>();
-        Set<String> uniqueCategories = new HashSet<>();
         for (ValidationError error : errors) {
-          if (!instanceBasedErrorCounter.containsKey(error)) {
-            error.setId(vErrorId++);
-            hashedIndex.put(error.hashCode(), error.getId());
-          } else {
-            error.setId(hashedIndex.get(error.hashCode()));
-          }
+          error.setId(registerError(error));
           if (!error.getType().equals(ValidationErrorType.FIELD_UNDEFINED)) {
-            count(2, totalInstanceCounter);
+            totalInstanceCounter.increment(2);
             allButInvalidFieldErrors.add(error);
           }
-          count(error, instanceBasedErrorCounter);
-          count(error.getType(), typeInstanceCounter);
-          count(error.getType().getCategory(), categoryInstanceCounter);
-          count(1, totalInstanceCounter);
-          updateErrorCollector(marcRecord.getId(true), error.getId());
+          instanceBasedErrorCounter.increment(error);
+          typeInstanceCounter.increment(error.getType());
+          categoryInstanceCounter.increment(error.getType().getCategory());
+          totalInstanceCounter.increment(1);
+          if (spillingCollector == null)
+            updateErrorCollector(marcRecord.getId(true), error.getId());
           uniqueErrors.add(error.getId());
-          uniqueTypes.add(error.getType());
-          uniqueCategories.add(error.getType().getCategory());
+          recordTypes.increment(error.getType());
+          recordCategories.increment(error.getType().getCategory());
         }
         for (Integer id : uniqueErrors) {
-          count(id, recordBasedErrorCounter);
-        }
-        for (ValidationErrorType id : uniqueTypes) {
-          count(id, typeRecordCounter);
-        }
-        for (String id : uniqueCategories) {
-          count(id, categoryRecordCounter);
+          recordBasedErrorCounter.increment(id);
         }
-        count(1, totalRecordCounter);
+        if (spillingCollector != null)
+          addToSpillingCollector(marcRecord.getId(true), uniqueErrors);
+        recordTypes.forEach((type, instances) -> typeRecordCounter.increment(type));
+        recordTypes.clear();
+        for (int j = 0; j < recordCategories.size(); j++)
+          categoryRecordCounter.increment(recordCategories.getKey(j));
+        recordCategories.clear();
+        totalRecordCounter.increment(1);
         if (!allButInvalidFieldErrors.isEmpty())
-          count(2, totalRecordCounter);
+          totalRecordCounter.increment(2);
       }
 
-      if (parameters.doDetails()) {
+      if (parameters.doDetails() && doPrintInProcessRecord) {
         if (parameters.doSummary()) {
           Map<Integer, Integer> errorIds = new HashMap<>();
           // List<Integer> errorIds = new ArrayList<>(marcRecord.getValidationErrors().size());
-          for (ValidationError error : marcRecord.getValidationErrors()) {
+          for (ValidationError error : errors) {
             if (error.getId() == null)
               error.setId(hashedIndex.get(error.hashCode()));
             count(error.getId(), errorIds);
             // errorIds.add(error.getId());
           }
-          String message = ValidationErrorFormatter.formatSimple(
-            marcRecord.getId(parameters.getTrimId()), parameters.getFormat(), errorIds
-          );
-          print(detailsFile, message);
+          if (detailsParquetWriter != null) {
+            writeParquetDetails(marcRecord.getId(parameters.getTrimId()), errorIds);
+          } else {
+            String message = ValidationErrorFormatter.formatSimple(
+              marcRecord.getId(parameters.getTrimId()), parameters.getFormat(), errorIds
+            );
+            print(detailsWriter, message);
+          }
+        } else if (detailsParquetWriter != null) {
+          writeParquetDetails(errors);
         } else {
           String message = ValidationErrorFormatter.format(
-            marcRecord.getValidationErrors(), parameters.getFormat(), parameters.getTrimId()
+            errors, parameters.getFormat(), parameters.getTrimId()
           );
-          print(detailsFile, message);
+          print(detailsWriter, message);
         }
       }
     } else {
       if (parameters.doSummary())
-        count(0, totalRecordCounter);
+        totalRecordCounter.increment(0);
+    }
+  }
+
+  /**
+   * Validates the record, or takes over its result from the validation cache if the record has
+   * not been changed since the last run.
+   */
+  private ValidationCache.Result validate(MarcRecord marcRecord) {
+    String recordId = marcRecord.getId();
+    if (validationCache == null || recordId == null) {
+      boolean isValid = marcRecord.validate(parameters.getMarcVersion(), parameters.doSummary());
+      return new ValidationCache.Result(isValid, marcRecord.getValidationErrors());
+    }
+
+    long fingerprint = ValidationCache.fingerprint(marcRecord, parameters.isChangedBy005());
+    ValidationCache.Result result = validationCache.get(recordId, fingerprint);
+    if (result == null) {
+      boolean isValid = marcRecord.validate(parameters.getMarcVersion(), parameters.doSummary());
+      result = new ValidationCache.Result(isValid, marcRecord.getValidationErrors());
+    }
+    try {
+      validationCache.put(recordId, fingerprint, result);
+    } catch (IOException e) {
+      logger.severe("Can not write the validation cache: " + e.getLocalizedMessage());
+      e.printStackTrace();
+    }
+    return result;
+  }
+
+  private int registerError(ValidationError error) {
+    return hashedIndex.computeIfAbsent(error.hashCode(), hash -> vErrorId.getAndIncrement());
+  }
+
+  private void addToSpillingCollector(String recordId, Set<Integer> errorIds) {
+    try {
+      spillingCollector.add(recordId, errorIds);
+    } catch (IOException e) {
+      logger.severe("Can not write the issue collector: " + e.getLocalizedMessage());
+      e.printStackTrace();
     }
   }
 
@@ -388,7 +655,137 @@ public class Validator implements MarcFileProcessor, Serializable {
 
   @Override
   public boolean readyToProcess() {
-    return readyToProcess;
+    // a worker stops with its parent, e.g. if the report files could not be created
+    return readyToProcess && (parent == null || parent.readyToProcess());
+  }
+
+  @Override
+  public Validator createWorker() {
+    return new Validator(this);
+  }
+
+  @Override
+  public void merge(Validator worker) {
+    // the workers might have their own error identifiers, so map them to ours
+    Map<Integer, Integer> idMap = new HashMap<>();
+    for (int i = 0; i < worker.instanceBasedErrorCounter.size(); i++) {
+      ValidationError error = worker.instanceBasedErrorCounter.getKey(i);
+      int id = registerError(error);
+      idMap.put(error.getId(), id);
+      error.setId(id);
+      instanceBasedErrorCounter.add(error, worker.instanceBasedErrorCounter.getValue(i));
+    }
+    for (int i = 0; i < worker.recordBasedErrorCounter.size(); i++) {
+      int id = worker.recordBasedErrorCounter.getKey(i);
+      recordBasedErrorCounter.add(idMap.getOrDefault(id, id), worker.recordBasedErrorCounter.getValue(i));
+    }
+    for (Map.Entry<Integer, Set<String>> entry : worker.errorCollector.entrySet()) {
+      int id = idMap.getOrDefault(entry.getKey(), entry.getKey());
+      if (spillingCollector != null) {
+        for (String recordId : entry.getValue())
+          addToSpillingCollector(recordId, Collections.singleton(id));
+        continue;
+      }
+      if (!errorCollector.containsKey(id))
+        errorCollector.put(id, new HashSet<String>());
+      errorCollector.get(id).addAll(entry.getValue());
+    }
+    // the workers share the error identifiers of this processor, no mapping is needed
+    if (spillingCollector != null && worker.spillingCollector != null) {
+      try {
+        spillingCollector.merge(worker.spillingCollector);
+      } catch (IOException e) {
+        logger.severe("Can not write the issue collector: " + e.getLocalizedMessage());
+        e.printStackTrace();
+      }
+    }
+    totalRecordCounter.merge(worker.totalRecordCounter);
+    totalInstanceCounter.merge(worker.totalInstanceCounter);
+    categoryRecordCounter.merge(worker.categoryRecordCounter);
+    categoryInstanceCounter.merge(worker.categoryInstanceCounter);
+    typeRecordCounter.merge(worker.typeRecordCounter);
+    typeInstanceCounter.merge(worker.typeInstanceCounter);
+  }
+
+  /**
+   * Writes the counters and the issue collector. The errors are written with their identifiers,
+   * which are mapped to the identifiers of the reading processor when it merges them.
+   */
+  @Override
+  public void writePartialResult(DataOutput out) throws IOException {
+    writeCounter(out, instanceBasedErrorCounter, Validator::writeError);
+    writeCounter(out, recordBasedErrorCounter);
+    writeCounter(out, totalRecordCounter);
+    writeCounter(out, totalInstanceCounter);
+    writeCounter(out, categoryRecordCounter, StatisticsIO::writeString);
+    writeCounter(out, categoryInstanceCounter, StatisticsIO::writeString);
+    writeCounter(out, typeRecordCounter);
+    writeCounter(out, typeInstanceCounter);
+
+    // the issue collector: (error id, record id) pairs closed by 0
+    if (spillingCollector != null) {
+      spillingCollector.forEachIssue((errorId, recordId) -> {
+        out.writeInt(errorId);
+        out.writeUTF(recordId);
+      });
+    } else {
+      for (Map.Entry<Integer, Set<String>> entry : errorCollector.entrySet()) {
+        for (String recordId : entry.getValue()) {
+          out.writeInt(entry.getKey());
+          out.writeUTF(recordId);
+        }
+      }
+    }
+    out.writeInt(0);
+  }
+
+  /**
+   * Reads the counters and the issue collector of a partial result. The error identifiers are
+   * those of the writing processor, so it should be called on a worker, which is then merged.
+   */
+  @Override
+  public void readPartialResult(DataInput in) throws IOException {
+    readCounter(in, instanceBasedErrorCounter, Validator::readError);
+    readCounter(in, recordBasedErrorCounter);
+    readCounter(in, totalRecordCounter);
+    readCounter(in, totalInstanceCounter);
+    readCounter(in, categoryRecordCounter, StatisticsIO::readString);
+    readCounter(in, categoryInstanceCounter, StatisticsIO::readString);
+    readCounter(in, typeRecordCounter);
+    readCounter(in, typeInstanceCounter);
+
+    int errorId;
+    while ((errorId = in.readInt()) != 0) {
+      if (!errorCollector.containsKey(errorId))
+        errorCollector.put(errorId, new HashSet<String>());
+      errorCollector.get(errorId).add(in.readUTF());
+    }
+  }
+
+  private static void writeError(DataOutput out, ValidationError error) throws IOException {
+    out.writeInt(error.getId());
+    StatisticsIO.writeString(out, error.getRecordId());
+    StatisticsIO.writeString(out, error.getMarcPath());
+    writeErrorType(out, error.getType());
+    StatisticsIO.writeString(out, error.getMessage());
+    StatisticsIO.writeString(out, error.getUrl());
+  }
+
+  private static ValidationError readError(DataInput in) throws IOException {
+    int id = in.readInt();
+    ValidationError error = new ValidationError(
+      StatisticsIO.readString(in), StatisticsIO.readString(in), readErrorType(in),
+      StatisticsIO.readString(in), StatisticsIO.readString(in));
+    error.setId(id);
+    return error;
+  }
+
+  private static void writeErrorType(DataOutput out, ValidationErrorType type) throws IOException {
+    out.writeUTF(type.name());
+  }
+
+  private static ValidationErrorType readErrorType(DataInput in) throws IOException {
+    return ValidationErrorType.valueOf(in.readUTF());
   }
 
   private class Counter {
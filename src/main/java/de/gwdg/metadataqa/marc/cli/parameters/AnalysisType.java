@@ -0,0 +1,56 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+/**
+ * The analyses which can be run together within a single iteration over the records.
+ */
+public enum AnalysisType {
+  VALIDATE("validate"),
+  COMPLETENESS("completeness"),
+  CLASSIFICATIONS("classifications"),
+  AUTHORITIES("authorities"),
+  TT_COMPLETENESS("tt-completeness"),
+  SERIAL_SCORE("serial-score"),
+  FUNCTIONAL_ANALYSIS("functional-analysis"),
+  NETWORK_ANALYSIS("network-analysis")
+  ;
+
+  private String label;
+
+  AnalysisType(String label) {
+    this.label = label;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public static AnalysisType byLabel(String label) {
+    for (AnalysisType type : values())
+      if (type.label.equals(label))
+        return type;
+    return null;
+  }
+
+  /**
+   * Creates an empty parameter object of the analysis. It is used for getting the options
+   * the analysis accepts.
+   */
+  public CommonParameters createParameters() {
+    switch (this) {
+      case VALIDATE:
+      case CLASSIFICATIONS:
+      case AUTHORITIES:
+        return new ValidatorParameters();
+      case COMPLETENESS:
+      case FUNCTIONAL_ANALYSIS:
+        return new CompletenessParameters();
+      case TT_COMPLETENESS:
+        return new ThompsonTraillCompletenessParameters();
+      case SERIAL_SCORE:
+        return new SerialScoreParameters();
+      case NETWORK_ANALYSIS:
+      default:
+        return new NetworkParameters();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+import de.gwdg.metadataqa.marc.datastore.BulkWriter;
+import org.apache.commons.cli.ParseException;
+
+/**
+ * The common parameters of the importers writing the records in batches (see BulkWriter).
+ */
+public class BulkWriterParameters extends CommonParameters {
+
+  private int batchSize;
+  private int senderThreads;
+  private int flushInterval;
+
+  private boolean isOptionSet = false;
+
+  protected void setOptions() {
+    if (!isOptionSet) {
+      super.setOptions();
+      options.addOption("a", "batchSize", true,
+        String.format("the number of documents in a request (default: %d)", getDefaultBatchSize()));
+      options.addOption("w", "senderThreads", true,
+        String.format("number of threads sending the batches, i.e. the number of parallel requests (default: %d)",
+          BulkWriter.DEFAULT_THREADS));
+      options.addOption("f", "flushInterval", true,
+        String.format("send a batch if it is older than this many milliseconds (default: %d)",
+          BulkWriter.DEFAULT_FLUSH_INTERVAL));
+      isOptionSet = true;
+    }
+  }
+
+  public BulkWriterParameters(String[] arguments) throws ParseException {
+    super(arguments);
+
+    batchSize = parsePositive("batchSize", getDefaultBatchSize());
+    senderThreads = parsePositive("senderThreads", BulkWriter.DEFAULT_THREADS);
+    flushInterval = parsePositive("flushInterval", BulkWriter.DEFAULT_FLUSH_INTERVAL);
+  }
+
+  /**
+   * @return The batch size if the batchSize option is not set
+   */
+  protected int getDefaultBatchSize() {
+    return BulkWriter.DEFAULT_BATCH_SIZE;
+  }
+
+  protected int parsePositive(String option, int defaultValue) throws ParseException {
+    if (!cmd.hasOption(option))
+      return defaultValue;
+    String text = cmd.getOptionValue(option);
+    try {
+      int value = Integer.parseInt(text);
+      if (value > 0)
+        return value;
+    } catch (NumberFormatException e) {
+      // reported below, the same way as a negative number
+    }
+    throw new ParseException(String.format(
+      "%s should be a positive number, got '%s'", option, text));
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public int getSenderThreads() {
+    return senderThreads;
+  }
+
+  public int getFlushInterval() {
+    return flushInterval;
+  }
+
+  @Override
+  public String formatParameters() {
+    String text = super.formatParameters();
+    text += String.format("batchSize: %d%n", batchSize);
+    text += String.format("senderThreads: %d%n", senderThreads);
+    text += String.format("flushInterval: %d%n", flushInterval);
+    return text;
+  }
+}
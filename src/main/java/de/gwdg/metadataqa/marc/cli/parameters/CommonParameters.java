@@ -1,6 +1,7 @@
 package de.gwdg.metadataqa.marc.cli.parameters;
 
 import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.cli.utils.ReportWriter;
 import de.gwdg.metadataqa.marc.definition.MarcVersion;
 import org.apache.commons.cli.*;
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +26,12 @@ public class CommonParameters implements Serializable {
   protected boolean lineSeparated = false;
   protected boolean trimId = false;
   private String outputDir = DEFAULT_OUTPUT_DIR;
+  private int threads = 1;
+  private boolean parallelFiles = false;
+  private int outputBufferSize = ReportWriter.DEFAULT_BUFFER_SIZE;
+  private boolean gzipOutput = false;
+  private boolean nativeReader = false;
+  private String partialResult = null;
 
   protected Options options = new Options();
   protected static final CommandLineParser parser = new DefaultParser();
@@ -46,6 +53,16 @@ public class CommonParameters implements Serializable {
       options.addOption("y", "lineSeparated", false, "the source is in line separated MARC format");
       options.addOption("t", "outputDir", true, "output directory");
       options.addOption("r", "trimId", false, "remove spaces from the end of record IDs");
+      options.addOption("j", "threads", true, "number of threads processing the records (default: 1)");
+      options.addOption("F", "parallelFiles", false,
+        "process the input files at the same time, each of them on one of the threads");
+      options.addOption("b", "outputBufferSize", true,
+        String.format("the buffer size of the report files in bytes (default: %d)", ReportWriter.DEFAULT_BUFFER_SIZE));
+      options.addOption("z", "gzipOutput", false, "compress the record level report files with gzip");
+      options.addOption("k", "nativeReader", false,
+        "read ISO 2709 records with the built-in parser instead of marc4j (marc4j records are not created)");
+      options.addOption("e", "partialResult", true,
+        "save the statistics into this file as well, so they can be merged later with MergePartialResults");
       isOptionSet = true;
     }
   }
@@ -97,6 +114,25 @@ public class CommonParameters implements Serializable {
 
     trimId = cmd.hasOption("trimId");
 
+    if (cmd.hasOption("threads")) {
+      threads = Integer.parseInt(cmd.getOptionValue("threads"));
+      if (threads < 1)
+        throw new ParseException(
+          String.format("The number of threads should be a positive number, got '%s'",
+            cmd.getOptionValue("threads")));
+    }
+
+    parallelFiles = cmd.hasOption("parallelFiles");
+
+    if (cmd.hasOption("outputBufferSize"))
+      outputBufferSize = Integer.parseInt(cmd.getOptionValue("outputBufferSize"));
+
+    gzipOutput = cmd.hasOption("gzipOutput");
+    nativeReader = cmd.hasOption("nativeReader");
+
+    if (cmd.hasOption("partialResult"))
+      partialResult = cmd.getOptionValue("partialResult");
+
     args = cmd.getArgs();
   }
 
@@ -166,6 +202,42 @@ public class CommonParameters implements Serializable {
     return trimId;
   }
 
+  public int getThreads() {
+    return threads;
+  }
+
+  public boolean processFilesInParallel() {
+    return parallelFiles;
+  }
+
+  public int getOutputBufferSize() {
+    return outputBufferSize;
+  }
+
+  public boolean doGzipOutput() {
+    return gzipOutput;
+  }
+
+  public boolean useNativeReader() {
+    return nativeReader;
+  }
+
+  public String getPartialResult() {
+    return partialResult;
+  }
+
+  public boolean doSavePartialResult() {
+    return partialResult != null;
+  }
+
+  /**
+   * Whether an option of these parameters accepts the value. It is used when the same option is
+   * given to several analyses, so the options restricting their values should override it.
+   */
+  public boolean acceptsValue(String longOpt, String value) {
+    return true;
+  }
+
   public String formatParameters() {
     String text = "";
     text += String.format("marcVersion: %s, %s%n", marcVersion.getCode(), marcVersion.getLabel());
@@ -180,6 +252,12 @@ public class CommonParameters implements Serializable {
     text += String.format("lineSeparated: %s%n", lineSeparated);
     text += String.format("outputDir: %s%n", outputDir);
     text += String.format("trimId: %s%n", trimId);
+    text += String.format("threads: %d%n", threads);
+    text += String.format("parallelFiles: %s%n", parallelFiles);
+    text += String.format("outputBufferSize: %d%n", outputBufferSize);
+    text += String.format("gzipOutput: %s%n", gzipOutput);
+    text += String.format("nativeReader: %s%n", nativeReader);
+    text += String.format("partialResult: %s%n", partialResult);
 
     return text;
   }
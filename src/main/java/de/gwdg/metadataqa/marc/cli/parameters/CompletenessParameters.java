@@ -44,6 +44,16 @@ public class CompletenessParameters extends CommonParameters implements Serializ
       }
   }
 
+  @Override
+  public boolean acceptsValue(String longOpt, String value) {
+    if (!longOpt.equals("format"))
+      return super.acceptsValue(longOpt, value);
+    ValidationErrorFormat format = ValidationErrorFormat.byName(value);
+    return format == ValidationErrorFormat.COMMA_SEPARATED
+      || format == ValidationErrorFormat.TAB_SEPARATED
+      || format == ValidationErrorFormat.PARQUET;
+  }
+
   public ValidationErrorFormat getFormat() {
     return format;
   }
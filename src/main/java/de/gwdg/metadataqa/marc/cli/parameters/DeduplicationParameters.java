@@ -0,0 +1,102 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+import de.gwdg.metadataqa.marc.analysis.DuplicateDetector;
+import org.apache.commons.cli.ParseException;
+
+import java.io.Serializable;
+
+public class DeduplicationParameters extends CommonParameters implements Serializable {
+  public static final String DEFAULT_FILE_NAME = "duplicates.csv";
+
+  private String fileName = DEFAULT_FILE_NAME;
+  private int bands = DuplicateDetector.DEFAULT_BANDS;
+  private int rows = DuplicateDetector.DEFAULT_ROWS;
+  private double threshold = DuplicateDetector.DEFAULT_THRESHOLD;
+  private int maxBucketSize = DuplicateDetector.DEFAULT_MAX_BUCKET_SIZE;
+  private boolean isOptionSet = false;
+
+  protected void setOptions() {
+    if (!isOptionSet) {
+      super.setOptions();
+      options.addOption("f", "fileName", true,
+        String.format("the report file name (default is %s)", DEFAULT_FILE_NAME));
+      options.addOption("a", "bands", true,
+        String.format("the number of LSH bands (default is %d)", DuplicateDetector.DEFAULT_BANDS));
+      options.addOption("w", "rows", true,
+        String.format("the number of MinHash values in a band (default is %d)", DuplicateDetector.DEFAULT_ROWS));
+      options.addOption("s", "threshold", true,
+        String.format("the minimal similarity of duplicates, between 0 and 1 (default is %.2f)",
+          DuplicateDetector.DEFAULT_THRESHOLD));
+      options.addOption("c", "maxBucketSize", true,
+        String.format("skip the LSH buckets with more records (default is %d)",
+          DuplicateDetector.DEFAULT_MAX_BUCKET_SIZE));
+      isOptionSet = true;
+    }
+  }
+
+  public DeduplicationParameters() {
+    super();
+  }
+
+  public DeduplicationParameters(String[] arguments) throws ParseException {
+    super(arguments);
+
+    if (cmd.hasOption("fileName"))
+      fileName = cmd.getOptionValue("fileName");
+
+    if (cmd.hasOption("bands"))
+      bands = parsePositive("bands");
+
+    if (cmd.hasOption("rows"))
+      rows = parsePositive("rows");
+
+    if (cmd.hasOption("maxBucketSize"))
+      maxBucketSize = parsePositive("maxBucketSize");
+
+    if (cmd.hasOption("threshold")) {
+      threshold = Double.parseDouble(cmd.getOptionValue("threshold"));
+      if (threshold < 0.0 || threshold > 1.0)
+        throw new ParseException(
+          String.format("The threshold should be between 0 and 1, got '%s'", cmd.getOptionValue("threshold")));
+    }
+  }
+
+  private int parsePositive(String option) throws ParseException {
+    int value = Integer.parseInt(cmd.getOptionValue(option));
+    if (value < 1)
+      throw new ParseException(
+        String.format("The %s should be a positive number, got '%s'", option, cmd.getOptionValue(option)));
+    return value;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public int getBands() {
+    return bands;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public double getThreshold() {
+    return threshold;
+  }
+
+  public int getMaxBucketSize() {
+    return maxBucketSize;
+  }
+
+  @Override
+  public String formatParameters() {
+    String text = super.formatParameters();
+    text += String.format("fileName: %s%n", fileName);
+    text += String.format("bands: %d%n", bands);
+    text += String.format("rows: %d%n", rows);
+    text += String.format("threshold: %.2f%n", threshold);
+    text += String.format("maxBucketSize: %d%n", maxBucketSize);
+    return text;
+  }
+}
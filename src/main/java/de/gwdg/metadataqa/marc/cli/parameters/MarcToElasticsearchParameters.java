@@ -0,0 +1,88 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+import de.gwdg.metadataqa.marc.model.SolrFieldType;
+import org.apache.commons.cli.ParseException;
+
+public class MarcToElasticsearchParameters extends BulkWriterParameters {
+
+  public static final String DEFAULT_HOST = "localhost";
+  public static final int DEFAULT_PORT = 9200;
+  public static final String DEFAULT_INDEX = "marc";
+  public static final String DEFAULT_TYPE = "record";
+
+  private String elasticsearchHost = DEFAULT_HOST;
+  private int elasticsearchPort = DEFAULT_PORT;
+  private String index = DEFAULT_INDEX;
+  private String type = DEFAULT_TYPE;
+  private SolrFieldType fieldType = SolrFieldType.MARC;
+
+  private boolean isOptionSet = false;
+
+  protected void setOptions() {
+    if (!isOptionSet) {
+      super.setOptions();
+      options.addOption("s", "elasticsearchHost", true,
+        String.format("the Elasticsearch host (default: %s)", DEFAULT_HOST));
+      options.addOption("u", "elasticsearchPort", true,
+        String.format("the Elasticsearch port (default: %d)", DEFAULT_PORT));
+      options.addOption("g", "index", true, String.format("the name of the index (default: %s)", DEFAULT_INDEX));
+      options.addOption("c", "type", true, String.format("the document type (default: %s)", DEFAULT_TYPE));
+      options.addOption("v", "fieldType", true,
+        "type of the field names, could be one of 'marc-tags', 'human-readable', or 'mixed'");
+      isOptionSet = true;
+    }
+  }
+
+  public MarcToElasticsearchParameters(String[] arguments) throws ParseException {
+    super(arguments);
+
+    if (cmd.hasOption("elasticsearchHost"))
+      elasticsearchHost = cmd.getOptionValue("elasticsearchHost");
+
+    elasticsearchPort = parsePositive("elasticsearchPort", elasticsearchPort);
+
+    if (cmd.hasOption("index"))
+      index = cmd.getOptionValue("index");
+
+    if (cmd.hasOption("type"))
+      type = cmd.getOptionValue("type");
+
+    if (cmd.hasOption("fieldType")) {
+      fieldType = SolrFieldType.byCode(cmd.getOptionValue("fieldType"));
+      if (fieldType == null)
+        throw new ParseException(String.format(
+          "Unrecognized fieldType parameter value: '%s'", cmd.getOptionValue("fieldType")));
+    }
+  }
+
+  public String getElasticsearchHost() {
+    return elasticsearchHost;
+  }
+
+  public int getElasticsearchPort() {
+    return elasticsearchPort;
+  }
+
+  public String getIndex() {
+    return index;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public SolrFieldType getFieldType() {
+    return fieldType;
+  }
+
+  @Override
+  public String formatParameters() {
+    String text = super.formatParameters();
+    text += String.format("elasticsearchHost: %s%n", elasticsearchHost);
+    text += String.format("elasticsearchPort: %d%n", elasticsearchPort);
+    text += String.format("index: %s%n", index);
+    text += String.format("type: %s%n", type);
+    text += String.format("fieldType: %s%n", fieldType);
+    return text;
+  }
+}
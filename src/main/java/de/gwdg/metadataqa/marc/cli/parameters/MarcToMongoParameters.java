@@ -0,0 +1,70 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+import org.apache.commons.cli.ParseException;
+
+public class MarcToMongoParameters extends BulkWriterParameters {
+
+  public static final String DEFAULT_HOST = "localhost";
+  public static final int DEFAULT_PORT = 27017;
+  public static final String DEFAULT_DATABASE = "metadata_qa_marc";
+  public static final String DEFAULT_COLLECTION = "marc";
+
+  private String mongoHost = DEFAULT_HOST;
+  private int mongoPort = DEFAULT_PORT;
+  private String database = DEFAULT_DATABASE;
+  private String collection = DEFAULT_COLLECTION;
+
+  private boolean isOptionSet = false;
+
+  protected void setOptions() {
+    if (!isOptionSet) {
+      super.setOptions();
+      options.addOption("s", "mongoHost", true, String.format("the MongoDB host (default: %s)", DEFAULT_HOST));
+      options.addOption("u", "mongoPort", true, String.format("the MongoDB port (default: %d)", DEFAULT_PORT));
+      options.addOption("g", "database", true, String.format("the database (default: %s)", DEFAULT_DATABASE));
+      options.addOption("c", "collection", true, String.format("the collection (default: %s)", DEFAULT_COLLECTION));
+      isOptionSet = true;
+    }
+  }
+
+  public MarcToMongoParameters(String[] arguments) throws ParseException {
+    super(arguments);
+
+    if (cmd.hasOption("mongoHost"))
+      mongoHost = cmd.getOptionValue("mongoHost");
+
+    mongoPort = parsePositive("mongoPort", mongoPort);
+
+    if (cmd.hasOption("database"))
+      database = cmd.getOptionValue("database");
+
+    if (cmd.hasOption("collection"))
+      collection = cmd.getOptionValue("collection");
+  }
+
+  public String getMongoHost() {
+    return mongoHost;
+  }
+
+  public int getMongoPort() {
+    return mongoPort;
+  }
+
+  public String getDatabase() {
+    return database;
+  }
+
+  public String getCollection() {
+    return collection;
+  }
+
+  @Override
+  public String formatParameters() {
+    String text = super.formatParameters();
+    text += String.format("mongoHost: %s%n", mongoHost);
+    text += String.format("mongoPort: %d%n", mongoPort);
+    text += String.format("database: %s%n", database);
+    text += String.format("collection: %s%n", collection);
+    return text;
+  }
+}
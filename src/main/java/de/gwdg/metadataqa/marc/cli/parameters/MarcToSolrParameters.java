@@ -1,13 +1,19 @@
 package de.gwdg.metadataqa.marc.cli.parameters;
 
+import de.gwdg.metadataqa.marc.datastore.SolrBulkIndexer;
 import de.gwdg.metadataqa.marc.model.SolrFieldType;
 import org.apache.commons.cli.ParseException;
 
-public class MarcToSolrParameters extends CommonParameters {
+/**
+ * The parameters of MarcToSolr. By default every record is sent in its own request, with the
+ * batchSize option the records are sent in batches (see SolrBulkIndexer).
+ */
+public class MarcToSolrParameters extends BulkWriterParameters {
 
   private String solrUrl = null;
   private boolean doCommit = false;
   private SolrFieldType solrFieldType = SolrFieldType.MARC;
+  private int commitWithin = SolrBulkIndexer.DEFAULT_COMMIT_WITHIN;
 
   private boolean isOptionSet = false;
 
@@ -18,6 +24,9 @@ public class MarcToSolrParameters extends CommonParameters {
       options.addOption("c", "doCommit", false, "send commits to Solr regularly");
       options.addOption("t", "solrFieldType", true,
         "type of Solr fields, could be one of 'marc-tags', 'human-readable', or 'mixed'");
+      options.addOption("u", "commitWithin", true,
+        String.format("the commitWithin of the batches in milliseconds (default: %d)",
+          SolrBulkIndexer.DEFAULT_COMMIT_WITHIN));
       isOptionSet = true;
     }
   }
@@ -33,6 +42,16 @@ public class MarcToSolrParameters extends CommonParameters {
 
     if (cmd.hasOption("solrFieldType"))
       solrFieldType = SolrFieldType.byCode(cmd.getOptionValue("solrFieldType"));
+
+    commitWithin = parsePositive("commitWithin", commitWithin);
+  }
+
+  /**
+   * @return 1: one request per document
+   */
+  @Override
+  protected int getDefaultBatchSize() {
+    return 1;
   }
 
   public String getSolrUrl() {
@@ -46,4 +65,22 @@ public class MarcToSolrParameters extends CommonParameters {
   public SolrFieldType getSolrFieldType() {
     return solrFieldType;
   }
+
+  public boolean doBulkIndexing() {
+    return getBatchSize() > 1;
+  }
+
+  public int getCommitWithin() {
+    return commitWithin;
+  }
+
+  @Override
+  public String formatParameters() {
+    String text = super.formatParameters();
+    text += String.format("solrUrl: %s%n", solrUrl);
+    text += String.format("doCommit: %s%n", doCommit);
+    text += String.format("solrFieldType: %s%n", solrFieldType);
+    text += String.format("commitWithin: %d%n", commitWithin);
+    return text;
+  }
 }
@@ -0,0 +1,200 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parameters of running several analyses in one pass. It accepts the union of the long options
+ * of the individual analyses, and distributes them to the analyses which know them. An option
+ * can be given to one analysis only with the label of the analysis as prefix (e.g.
+ * --tt-completeness.format parquet); this is required if the analyses give different meanings
+ * to the option, e.g. a value is accepted by some of them only. The common options (the input, limit, offset etc.) belong to the single pass
+ * over the records, so they can not be set per analysis.
+ */
+public class MultiAnalysisParameters extends CommonParameters implements Serializable {
+
+  private static final String PREFIX_SEPARATOR = ".";
+
+  private List<AnalysisType> analyses = new ArrayList<>(Arrays.asList(AnalysisType.values()));
+  private boolean isOptionSet;
+
+  protected void setOptions() {
+    if (!isOptionSet) {
+      super.setOptions();
+      options.addOption("a", "analyses", true,
+        String.format("comma separated list of analyses to run (default: all). Possible values: %s",
+          StringUtils.join(getLabels(), ", ")));
+      for (AnalysisType type : AnalysisType.values())
+        for (Option option : type.createParameters().getOptions().getOptions()) {
+          if (!options.hasLongOption(option.getLongOpt()))
+            options.addOption(copy(option, option.getLongOpt(),
+              String.format("%s (%s)", option.getDescription(), type.getLabel())));
+          if (!isCommon(option.getLongOpt()))
+            options.addOption(copy(option, type.getLabel() + PREFIX_SEPARATOR + option.getLongOpt(),
+              String.format("%s (only for %s)", option.getDescription(), type.getLabel())));
+        }
+      isOptionSet = true;
+    }
+  }
+
+  private static Option copy(Option option, String longOpt, String description) {
+    Option.Builder builder = Option.builder()
+      .longOpt(longOpt)
+      .desc(description)
+      .optionalArg(option.hasOptionalArg());
+    if (option.hasArg())
+      builder.numberOfArgs(option.getArgs());
+    if (option.hasValueSeparator())
+      builder.valueSeparator(option.getValueSeparator());
+    return builder.build();
+  }
+
+  public MultiAnalysisParameters() {
+    super();
+  }
+
+  public MultiAnalysisParameters(String[] arguments) throws ParseException {
+    super(arguments);
+
+    if (cmd.hasOption("analyses")) {
+      analyses = new ArrayList<>();
+      for (String label : cmd.getOptionValue("analyses").split(",")) {
+        AnalysisType type = AnalysisType.byLabel(label.trim());
+        if (type == null)
+          throw new ParseException(String.format("Unrecognized analysis: '%s'", label));
+        if (!analyses.contains(type))
+          analyses.add(type);
+      }
+    }
+
+    for (Option option : cmd.getOptions()) {
+      String longOpt = option.getLongOpt();
+      AnalysisType prefixType = getPrefixType(longOpt);
+      if (prefixType != null) {
+        if (!analyses.contains(prefixType))
+          throw new ParseException(String.format(
+            "The option --%s is given, but the analysis '%s' is not run", longOpt, prefixType.getLabel()));
+      } else if (!isCommon(longOpt)) {
+        checkUnambiguous(longOpt);
+      }
+    }
+  }
+
+  /**
+   * Checks whether the analyses which know the option mean the same by it: whether it takes
+   * arguments, how many, and whether the given values are accepted. The help texts do not count.
+   */
+  private void checkUnambiguous(String longOpt) throws ParseException {
+    String[] values = cmd.getOptionValues(longOpt);
+    Map<String, List<String>> labelsByDefinition = new LinkedHashMap<>();
+    for (AnalysisType type : analyses) {
+      CommonParameters parameters = type.createParameters();
+      Option option = parameters.getOptions().getOption(longOpt);
+      if (option == null || !option.getLongOpt().equals(longOpt))
+        continue;
+      StringBuilder definition = new StringBuilder()
+        .append(option.hasArg()).append('/').append(option.getArgs());
+      if (values != null)
+        for (String value : values)
+          definition.append('/').append(parameters.acceptsValue(longOpt, value));
+      String key = definition.toString();
+      if (!labelsByDefinition.containsKey(key))
+        labelsByDefinition.put(key, new ArrayList<>());
+      labelsByDefinition.get(key).add(type.getLabel());
+    }
+    if (labelsByDefinition.size() > 1)
+      throw new ParseException(String.format(
+        "The option --%s means different things in the analyses (%s), "
+          + "please give it to each analysis separately, like --<analysis>%s%s",
+        longOpt,
+        labelsByDefinition.values().stream().map(labels -> StringUtils.join(labels, ", "))
+          .collect(Collectors.joining("; ")),
+        PREFIX_SEPARATOR, longOpt));
+  }
+
+  private static boolean isCommon(String longOpt) {
+    return new CommonParameters().getOptions().hasLongOption(longOpt);
+  }
+
+  /**
+   * @return The analysis of an option given with the prefix of the analysis, otherwise null
+   */
+  private static AnalysisType getPrefixType(String longOpt) {
+    if (!longOpt.contains(PREFIX_SEPARATOR))
+      return null;
+    return AnalysisType.byLabel(longOpt.substring(0, longOpt.indexOf(PREFIX_SEPARATOR)));
+  }
+
+  public List<AnalysisType> getAnalyses() {
+    return analyses;
+  }
+
+  /**
+   * Returns the command line arguments an individual analysis should be created with: the options
+   * the analysis knows (always in their long form, since the short forms are not consistent
+   * between the analyses) with all of their values, and the file names. An option given with the
+   * prefix of the analysis replaces the one given without prefix.
+   */
+  public String[] getArgumentsFor(AnalysisType type) {
+    Options analysisOptions = type.createParameters().getOptions();
+    String prefix = type.getLabel() + PREFIX_SEPARATOR;
+    List<String> arguments = new ArrayList<>();
+    Set<String> forwarded = new HashSet<>();
+    for (Option option : cmd.getOptions()) {
+      String longOpt = option.getLongOpt();
+      String name;
+      if (longOpt.startsWith(prefix))
+        name = longOpt.substring(prefix.length());
+      else if (getPrefixType(longOpt) != null || cmd.hasOption(prefix + longOpt))
+        continue;
+      else
+        name = longOpt;
+
+      if (!analysisOptions.hasLongOption(name) || !forwarded.add(longOpt))
+        continue;
+
+      String[] values = cmd.getOptionValues(longOpt);
+      if (!option.hasArg() || values == null) {
+        arguments.add("--" + name);
+        continue;
+      }
+      // an option with a fixed number of arguments gets them in groups, the others one by one
+      int valuesPerOption = option.getArgs() > 1 ? option.getArgs() : 1;
+      for (int i = 0; i < values.length; i += valuesPerOption) {
+        arguments.add("--" + name);
+        arguments.addAll(Arrays.asList(values).subList(i, Math.min(i + valuesPerOption, values.length)));
+      }
+    }
+    // the values of an option can not swallow the file names
+    arguments.add("--");
+    arguments.addAll(Arrays.asList(args));
+    return arguments.toArray(new String[arguments.size()]);
+  }
+
+  private static List<String> getLabels() {
+    List<String> labels = new ArrayList<>();
+    for (AnalysisType type : AnalysisType.values())
+      labels.add(type.getLabel());
+    return labels;
+  }
+
+  @Override
+  public String formatParameters() {
+    String text = super.formatParameters();
+    text += String.format("analyses: %s%n",
+      analyses.stream().map(AnalysisType::getLabel).collect(Collectors.joining(", ")));
+    return text;
+  }
+}
@@ -16,7 +16,8 @@ public class NetworkParameters extends CommonParameters implements Serializable
     if (!isOptionSet) {
       super.setOptions();
       options.addOption("a", "action", true, "action: 'primary' (default), 'pairing'");
-      options.addOption("l", "group-limit", true, "pair creation limit");
+      options.addOption("l", "group-limit", true,
+        "pair creation limit; larger concepts are not visited when counting the co-occurrences");
       isOptionSet = true;
     }
   }
@@ -1,5 +1,6 @@
 package de.gwdg.metadataqa.marc.cli.parameters;
 
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormat;
 import org.apache.commons.cli.ParseException;
 
 public class ThompsonTraillCompletenessParameters extends CommonParameters {
@@ -9,6 +10,7 @@ public class ThompsonTraillCompletenessParameters extends CommonParameters {
   private int offset = -1;
   private String fileName = DEFAULT_FILE_NAME;
   private boolean useStandardOutput = false;
+  private ValidationErrorFormat format = ValidationErrorFormat.COMMA_SEPARATED;
 
   private boolean isOptionSet = false;
 
@@ -19,10 +21,15 @@ public class ThompsonTraillCompletenessParameters extends CommonParameters {
       options.addOption("o", "offset", true, "the first record to process");
       options.addOption("f", "fileName", true,
         String.format("the report file name (default is %s)", ValidatorParameters.DEFAULT_FILE_NAME));
+      options.addOption("r", "format", true, "specify a format (comma-separated or parquet)");
       isOptionSet = true;
     }
   }
 
+  public ThompsonTraillCompletenessParameters() {
+    super();
+  }
+
   public ThompsonTraillCompletenessParameters(String[] arguments) throws ParseException {
     super(arguments);
 
@@ -32,6 +39,17 @@ public class ThompsonTraillCompletenessParameters extends CommonParameters {
     if (fileName.equals("stdout"))
       useStandardOutput = true;
 
+    if (cmd.hasOption("format"))
+      for (ValidationErrorFormat registeredFormat : ValidationErrorFormat.values()) {
+        if (registeredFormat.getNames().contains(cmd.getOptionValue("format"))) {
+          format = registeredFormat;
+          break;
+        }
+      }
+
+    if (format.equals(ValidationErrorFormat.PARQUET) && useStandardOutput)
+      throw new ParseException("The Parquet format can not be written to the standard output");
+
     if (cmd.hasOption("limit"))
       limit = Integer.parseInt(cmd.getOptionValue("limit"));
 
@@ -58,11 +76,24 @@ public class ThompsonTraillCompletenessParameters extends CommonParameters {
     return useStandardOutput;
   }
 
+  @Override
+  public boolean acceptsValue(String longOpt, String value) {
+    if (!longOpt.equals("format"))
+      return super.acceptsValue(longOpt, value);
+    ValidationErrorFormat format = ValidationErrorFormat.byName(value);
+    return format == ValidationErrorFormat.COMMA_SEPARATED || format == ValidationErrorFormat.PARQUET;
+  }
+
+  public ValidationErrorFormat getFormat() {
+    return format;
+  }
+
   @Override
   public String formatParameters() {
     String text = super.formatParameters();
     text += String.format("fileName: %s%n", fileName);
     text += String.format("useStandardOutput: %s%n", useStandardOutput);
+    text += String.format("format: %s%n", format.getLabel());
     text += String.format("limit: %s%n", limit);
     text += String.format("offset: %s%n", offset);
     return text;
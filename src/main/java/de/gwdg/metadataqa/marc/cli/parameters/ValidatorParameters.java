@@ -7,6 +7,7 @@ import java.io.Serializable;
 
 public class ValidatorParameters extends CommonParameters implements Serializable {
   public static final String DEFAULT_FILE_NAME = "validation-report.txt";
+  public static final String DEFAULT_SUMMARY_FILE_NAME = "validation-summary.csv";
 
   private String detailsFileName = DEFAULT_FILE_NAME;
   private String summaryFileName;
@@ -16,6 +17,9 @@ public class ValidatorParameters extends CommonParameters implements Serializabl
   private boolean useStandardOutput = false;
   private boolean isOptionSet;
   private boolean emptyLargeCollectors = false;
+  private int collectorBufferSize = -1;
+  private String validationCache = null;
+  private boolean changedBy005 = false;
 
   protected void setOptions() {
     if (!isOptionSet) {
@@ -27,6 +31,12 @@ public class ValidatorParameters extends CommonParameters implements Serializabl
         String.format("the report file name (default is '%s')", ValidatorParameters.DEFAULT_FILE_NAME));
       options.addOption("r", "format", true, "specify a format");
       options.addOption("y", "emptyLargeCollectors", false, "empty large collectors");
+      options.addOption("w", "collectorBufferSize", true,
+        "keep this number of record-issue pairs of the issue collector in memory, and write the rest into temporary files");
+      options.addOption("c", "validationCache", true,
+        "keep the validation results in this file, and validate only the records which have been changed since the last run");
+      options.addOption("v", "changedBy005", false,
+        "decide whether a record has been changed by its 005 instead of its content (with validationCache)");
       isOptionSet = true;
     }
   }
@@ -57,17 +67,38 @@ public class ValidatorParameters extends CommonParameters implements Serializabl
         }
       }
 
+    if (format.equals(ValidationErrorFormat.PARQUET) && useStandardOutput)
+      throw new ParseException("The Parquet format can not be written to the standard output");
+
     if (cmd.hasOption("summary")) {
       doSummary = true;
       if (!cmd.hasOption("details"))
         doDetails = false;
     }
 
+    // the Parquet details can not contain the summary, so it gets its own CSV file
+    if (format.equals(ValidationErrorFormat.PARQUET) && doDetails && doSummary && summaryFileName == null)
+      summaryFileName = DEFAULT_SUMMARY_FILE_NAME;
+
     if (doDetails && doSummary && !useStandardOutput && (summaryFileName == null))
       throw new ParseException("If the details and summary is requested, summaryFileName must be provided!");
 
     if (cmd.hasOption("emptyLargeCollectors"))
       emptyLargeCollectors = true;
+
+    if (cmd.hasOption("collectorBufferSize")) {
+      collectorBufferSize = Integer.parseInt(cmd.getOptionValue("collectorBufferSize"));
+      if (collectorBufferSize < 1)
+        throw new ParseException(String.format(
+          "collectorBufferSize should be a positive number, got '%s'",
+          cmd.getOptionValue("collectorBufferSize")));
+    }
+
+    if (cmd.hasOption("validationCache"))
+      validationCache = cmd.getOptionValue("validationCache");
+
+    if (cmd.hasOption("changedBy005"))
+      changedBy005 = true;
   }
 
   public String getDetailsFileName() {
@@ -86,6 +117,13 @@ public class ValidatorParameters extends CommonParameters implements Serializabl
     return useStandardOutput;
   }
 
+  @Override
+  public boolean acceptsValue(String longOpt, String value) {
+    if (!longOpt.equals("format"))
+      return super.acceptsValue(longOpt, value);
+    return ValidationErrorFormat.byName(value) != null;
+  }
+
   public ValidationErrorFormat getFormat() {
     return format;
   }
@@ -98,6 +136,26 @@ public class ValidatorParameters extends CommonParameters implements Serializabl
     return emptyLargeCollectors;
   }
 
+  public int getCollectorBufferSize() {
+    return collectorBufferSize;
+  }
+
+  public boolean doSpillCollector() {
+    return collectorBufferSize > 0;
+  }
+
+  public String getValidationCache() {
+    return validationCache;
+  }
+
+  public boolean useValidationCache() {
+    return validationCache != null;
+  }
+
+  public boolean isChangedBy005() {
+    return changedBy005;
+  }
+
   @Override
   public String formatParameters() {
     String text = super.formatParameters();
@@ -107,6 +165,9 @@ public class ValidatorParameters extends CommonParameters implements Serializabl
     text += String.format("summaryFileName: %s%n", summaryFileName);
     text += String.format("format: %s%n", format.getLabel());
     text += String.format("emptyLargeCollectors: %s%n", emptyLargeCollectors);
+    text += String.format("collectorBufferSize: %d%n", collectorBufferSize);
+    text += String.format("validationCache: %s%n", validationCache);
+    text += String.format("changedBy005: %s%n", changedBy005);
     return text;
   }
 }
@@ -0,0 +1,163 @@
+package de.gwdg.metadataqa.marc.cli.processor;
+
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.marc4j.marc.Record;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A processor which delegates all events to a list of other processors, so that several analyses
+ * can share a single pass over the records (one read, one parse, one MarcRecord construction).
+ * An exception thrown by one processor does not stop the others. It can run on several threads
+ * if all its processors are mergeable.
+ */
+public class CompositeProcessor implements MergeableProcessor<CompositeProcessor> {
+
+  private static final Logger logger = Logger.getLogger(CompositeProcessor.class.getCanonicalName());
+
+  private final CommonParameters parameters;
+  private final List<MarcFileProcessor> processors;
+
+  public CompositeProcessor(CommonParameters parameters, List<MarcFileProcessor> processors) {
+    this.parameters = parameters;
+    this.processors = processors;
+  }
+
+  public List<MarcFileProcessor> getProcessors() {
+    return processors;
+  }
+
+  /**
+   * The name of a processor, used e.g. in the names of its partial result file.
+   * @param index The position of the processor in the list
+   */
+  public String getLabel(int index) {
+    return processors.get(index).getClass().getSimpleName();
+  }
+
+  @Override
+  public CommonParameters getParameters() {
+    return parameters;
+  }
+
+  @Override
+  public void processRecord(Record marc4jRecord, int recordNumber) throws IOException {
+    for (MarcFileProcessor processor : processors) {
+      if (!processor.readyToProcess())
+        continue;
+      try {
+        processor.processRecord(marc4jRecord, recordNumber);
+      } catch (Exception e) {
+        logError(processor, marc4jRecord.getControlNumber(), e);
+      }
+    }
+  }
+
+  @Override
+  public void processRecord(MarcRecord marcRecord, int recordNumber) throws IOException {
+    for (MarcFileProcessor processor : processors) {
+      if (!processor.readyToProcess())
+        continue;
+      try {
+        processor.processRecord(marcRecord, recordNumber);
+      } catch (Exception e) {
+        logError(processor, marcRecord.getId(), e);
+      }
+    }
+  }
+
+  @Override
+  public void beforeIteration() {
+    for (MarcFileProcessor processor : processors)
+      processor.beforeIteration();
+  }
+
+  @Override
+  public void fileOpened(Path path) {
+    for (MarcFileProcessor processor : processors)
+      processor.fileOpened(path);
+  }
+
+  @Override
+  public void fileProcessed() {
+    for (MarcFileProcessor processor : processors)
+      processor.fileProcessed();
+  }
+
+  @Override
+  public void afterIteration(int numberOfprocessedRecords) {
+    for (MarcFileProcessor processor : processors) {
+      try {
+        processor.afterIteration(numberOfprocessedRecords);
+      } catch (Exception e) {
+        logger.severe(String.format("%s failed to finish: %s",
+          processor.getClass().getSimpleName(), e.getLocalizedMessage()));
+        e.printStackTrace();
+      }
+    }
+  }
+
+  @Override
+  public void printHelp(Options options) {
+    HelpFormatter formatter = new HelpFormatter();
+    String message = String.format("java -cp metadata-qa-marc.jar %s [options] [file]",
+      this.getClass().getCanonicalName());
+    formatter.printHelp(message, options);
+  }
+
+  /**
+   * The composite is ready as long as at least one of its processors is ready.
+   */
+  @Override
+  public boolean readyToProcess() {
+    for (MarcFileProcessor processor : processors)
+      if (processor.readyToProcess())
+        return true;
+    return false;
+  }
+
+  @Override
+  public boolean needsMarc4jRecords() {
+    for (MarcFileProcessor processor : processors)
+      if (processor.needsMarc4jRecords())
+        return true;
+    return false;
+  }
+
+  @Override
+  public boolean isMergeable() {
+    for (MarcFileProcessor processor : processors)
+      if (!(processor instanceof MergeableProcessor)
+          || !((MergeableProcessor<?>) processor).isMergeable())
+        return false;
+    return true;
+  }
+
+  @Override
+  public CompositeProcessor createWorker() {
+    List<MarcFileProcessor> workers = new ArrayList<>();
+    for (MarcFileProcessor processor : processors)
+      workers.add(((MergeableProcessor<?>) processor).createWorker());
+    return new CompositeProcessor(parameters, workers);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void merge(CompositeProcessor worker) {
+    for (int i = 0; i < processors.size(); i++)
+      ((MergeableProcessor<MarcFileProcessor>) processors.get(i)).merge(worker.processors.get(i));
+  }
+
+  private void logError(MarcFileProcessor processor, String recordId, Exception e) {
+    logger.severe(String.format("%s failed on record '%s': %s",
+      processor.getClass().getSimpleName(), recordId, e.getLocalizedMessage()));
+    e.printStackTrace();
+  }
+}
@@ -19,4 +19,12 @@ public interface MarcFileProcessor {
   void afterIteration(int numberOfprocessedRecords);
   void printHelp(Options options);
   boolean readyToProcess();
+
+  /**
+   * Whether the processor works on the marc4j records, i.e. its processRecord(Record, int) is not
+   * empty. The native reader creates no marc4j records, so it is not used for such processors.
+   */
+  default boolean needsMarc4jRecords() {
+    return false;
+  }
 }
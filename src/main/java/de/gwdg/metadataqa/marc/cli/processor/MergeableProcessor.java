@@ -0,0 +1,30 @@
+package de.gwdg.metadataqa.marc.cli.processor;
+
+/**
+ * A processor which can run on several threads. Every thread gets its own worker (a processor
+ * with its own, empty state), and when the iteration is over the workers are merged into the
+ * original processor before its afterIteration() is called. The workers are created after
+ * beforeIteration(), so they can share the output files prepared there.
+ *
+ * @param <T> The type of the workers
+ */
+public interface MergeableProcessor<T extends MarcFileProcessor> extends MarcFileProcessor {
+
+  /**
+   * Creates a processor with empty state, which processes a part of the records.
+   */
+  T createWorker();
+
+  /**
+   * Adds the state collected by a worker to the state of this processor.
+   */
+  void merge(T worker);
+
+  /**
+   * Whether the workers can really be created. A processor might implement the interface, but
+   * depend on other processors which do not.
+   */
+  default boolean isMergeable() {
+    return true;
+  }
+}
@@ -0,0 +1,25 @@
+package de.gwdg.metadataqa.marc.cli.processor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A mergeable processor, which can save its state as a partial result. The partial results of
+ * different runs (e.g. of different input files) are loaded into workers, and merged, so the
+ * reports can be created without processing the records again (see MergePartialResults).
+ *
+ * @param <T> The type of the workers
+ */
+public interface PartialResultProcessor<T extends PartialResultProcessor<T>> extends MergeableProcessor<T> {
+
+  /**
+   * Writes the state collected from the records.
+   */
+  void writePartialResult(DataOutput out) throws IOException;
+
+  /**
+   * Reads a state written by writePartialResult(), and adds it to the state of this processor.
+   */
+  void readPartialResult(DataInput in) throws IOException;
+}
@@ -0,0 +1,30 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.JobContext;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+
+/**
+ * Reads binary MARC (ISO 2709) files. The files are split at arbitrary positions, and each
+ * reader returns the records which start in its split, so a record is never cut in two. The
+ * value is the raw record including the record terminator.
+ */
+public class Iso2709InputFormat extends FileInputFormat<LongWritable, BytesWritable> {
+
+  @Override
+  public RecordReader<LongWritable, BytesWritable> createRecordReader(InputSplit split,
+                                                                      TaskAttemptContext context) {
+    return new Iso2709RecordReader();
+  }
+
+  @Override
+  protected boolean isSplitable(JobContext context, Path file) {
+    return new CompressionCodecFactory(context.getConfiguration()).getCodec(file) == null;
+  }
+}
@@ -0,0 +1,57 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import de.gwdg.metadataqa.marc.utils.iso2709.RawRecordReader;
+import org.apache.hadoop.io.BytesWritable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Returns the records of a split of an ISO 2709 file. A split, except the first one, starts
+ * after the first record terminator, because the record it cuts belongs to the previous split.
+ * The last record read by a split is the one which starts at or before the end of the split,
+ * the same way as Hadoop's LineRecordReader handles lines. Line breaks between the records are
+ * skipped.
+ */
+public class Iso2709RecordReader extends SplitRecordReader<BytesWritable> {
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  private final BytesWritable value = new BytesWritable();
+
+  @Override
+  protected void skipToFirstRecord() throws IOException {
+    if (start == 0)
+      return;
+    int b;
+    while ((b = read()) != -1)
+      if (b == RawRecordReader.RECORD_TERMINATOR)
+        break;
+  }
+
+  @Override
+  public boolean nextKeyValue() throws IOException {
+    if (position > end)
+      return false;
+
+    int b = read();
+    while (b == '\n' || b == '\r')
+      b = read();
+    if (b == -1)
+      return false;
+
+    setKey(position - 1);
+    buffer.reset();
+    buffer.write(b);
+    while (b != RawRecordReader.RECORD_TERMINATOR && (b = read()) != -1)
+      buffer.write(b);
+
+    byte[] record = buffer.toByteArray();
+    value.set(record, 0, record.length);
+    return true;
+  }
+
+  @Override
+  public BytesWritable getCurrentValue() {
+    return value;
+  }
+}
@@ -0,0 +1,239 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Returns the record elements of a split of a MARCXML file. A record belongs to the split in
+ * which its start tag begins. The namespace declarations of the elements enclosing the records
+ * (usually the collection) are read from the beginning of the file, and they are added to the
+ * start tag of every record, so a record can be parsed without the rest of the file, whatever
+ * namespace prefix (e.g. marc:record) the file uses.
+ */
+public class MarcXmlRecordReader extends SplitRecordReader<Text> {
+
+  private static final String RECORD = "record";
+  private static final String COLLECTION_START = "<collection>";
+  private static final String COLLECTION_END = "</collection>";
+  // the declarations are searched for in this many bytes before the first record
+  private static final int MAX_HEADER_SIZE = 1024 * 1024;
+  private static final byte[] COMMENT_START = "!--".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] COMMENT_END = "--".getBytes(StandardCharsets.US_ASCII);
+  private static final Pattern NAMESPACE_DECLARATION = Pattern.compile(
+    "\\s(xmlns(?::[^\\s=]+)?)\\s*=\\s*(\"[^\"]*\"|'[^']*')");
+
+  private final RecordBuffer buffer = new RecordBuffer();
+  private final Text value = new Text();
+  private int pushedBack = -1;
+  private Map<String, String> namespaces = Collections.emptyMap();
+
+  /**
+   * Puts a record element returned by the reader into a MARCXML collection, so it can be read
+   * with marc4j's MarcXmlReader.
+   */
+  public static String wrap(String record) {
+    return COLLECTION_START + record + COLLECTION_END;
+  }
+
+  @Override
+  public void initialize(InputSplit genericSplit, TaskAttemptContext context) throws IOException {
+    FileSplit split = (FileSplit) genericSplit;
+    try (InputStream header = openFile(split.getPath(), context.getConfiguration())) {
+      namespaces = readNamespaces(header);
+    }
+    super.initialize(genericSplit, context);
+  }
+
+  /**
+   * Reads the namespace declarations of the elements which enclose the first record.
+   * @return The declarations by attribute name (e.g. xmlns:marc), with their quoted value
+   */
+  static Map<String, String> readNamespaces(InputStream in) throws IOException {
+    Deque<Map<String, String>> elements = new ArrayDeque<>();
+    RecordBuffer tag = new RecordBuffer();
+    int size = 0;
+    int b;
+    while (size < MAX_HEADER_SIZE && (b = in.read()) != -1) {
+      size++;
+      if (b != '<')
+        continue;
+
+      // the content of the tag, without < and >
+      tag.reset();
+      boolean isComment = false;
+      int quote = -1;
+      while ((b = in.read()) != -1) {
+        size++;
+        if (b == '>' && quote == -1 && (!isComment || tag.endsWith(COMMENT_END)))
+          break;
+        if (!isComment && (b == '"' || b == '\'')) {
+          if (quote == -1)
+            quote = b;
+          else if (quote == b)
+            quote = -1;
+        }
+        tag.write(b);
+        if (tag.size() == COMMENT_START.length && tag.endsWith(COMMENT_START))
+          isComment = true;
+      }
+      String text = new String(tag.toByteArray(), StandardCharsets.UTF_8);
+      if (text.startsWith("?") || text.startsWith("!"))
+        continue;
+      if (text.startsWith("/")) {
+        if (!elements.isEmpty())
+          elements.pop();
+        continue;
+      }
+
+      String qName = text.split("[\\s/]", 2)[0];
+      String localName = qName.contains(":") ? qName.substring(qName.indexOf(':') + 1) : qName;
+      if (localName.equals(RECORD))
+        break;
+      if (text.endsWith("/"))
+        continue;
+      Map<String, String> declarations = new LinkedHashMap<>();
+      Matcher matcher = NAMESPACE_DECLARATION.matcher(text);
+      while (matcher.find())
+        declarations.put(matcher.group(1), matcher.group(2));
+      elements.push(declarations);
+    }
+
+    // the declarations of the inner elements override the ones of the outer elements
+    Map<String, String> namespaces = new LinkedHashMap<>();
+    Iterator<Map<String, String>> outerFirst = elements.descendingIterator();
+    while (outerFirst.hasNext())
+      namespaces.putAll(outerFirst.next());
+    return namespaces;
+  }
+
+  @Override
+  protected void skipToFirstRecord() {
+    // the search for the next start tag starts anywhere
+  }
+
+  @Override
+  public boolean nextKeyValue() throws IOException {
+    String name = findRecordStart();
+    if (name == null)
+      return false;
+
+    byte[] endTag = ("</" + name + ">").getBytes(StandardCharsets.UTF_8);
+    int b;
+    while ((b = next()) != -1) {
+      buffer.write(b);
+      if (b == '>' && buffer.endsWith(endTag))
+        break;
+    }
+    setValue(1 + name.length());
+    return true;
+  }
+
+  /**
+   * Sets the record as the value, with the namespace declarations the record element does not
+   * contain itself inserted after the name of the element.
+   * @param nameEnd The position after the name of the element in the buffer
+   */
+  private void setValue(int nameEnd) {
+    String startTag = buffer.startTag();
+    StringBuilder declarations = new StringBuilder();
+    for (Map.Entry<String, String> namespace : namespaces.entrySet())
+      if (!Pattern.compile("\\s" + Pattern.quote(namespace.getKey()) + "\\s*=").matcher(startTag).find())
+        declarations.append(' ').append(namespace.getKey()).append('=').append(namespace.getValue());
+
+    byte[] bytes = buffer.toByteArray();
+    value.set(bytes, 0, nameEnd);
+    byte[] inserted = declarations.toString().getBytes(StandardCharsets.UTF_8);
+    value.append(inserted, 0, inserted.length);
+    value.append(bytes, nameEnd, bytes.length - nameEnd);
+  }
+
+  /**
+   * Finds the next start tag of a record element, which begins before the end of the split,
+   * and copies it into the buffer.
+   * @return The qualified name of the element, or null if there is no more record in the split
+   */
+  private String findRecordStart() throws IOException {
+    int b;
+    while ((b = next()) != -1) {
+      if (b != '<')
+        continue;
+      long tagStart = position - 1;
+      if (tagStart >= end)
+        return null;
+
+      buffer.reset();
+      buffer.write(b);
+      StringBuilder name = new StringBuilder();
+      while ((b = next()) != -1 && b != '>' && b != '/' && b != '<' && !Character.isWhitespace(b)) {
+        buffer.write(b);
+        name.append((char) b);
+      }
+      if (b == '<') {
+        pushedBack = b;
+        continue;
+      }
+      if (b == -1)
+        return null;
+      buffer.write(b);
+
+      String qName = name.toString();
+      String localName = qName.contains(":") ? qName.substring(qName.indexOf(':') + 1) : qName;
+      if (b == '/')
+        // an empty element, like <record/>
+        continue;
+      if (localName.equals(RECORD)) {
+        setKey(tagStart);
+        return qName;
+      }
+    }
+    return null;
+  }
+
+  private int next() throws IOException {
+    if (pushedBack != -1) {
+      int b = pushedBack;
+      pushedBack = -1;
+      return b;
+    }
+    return read();
+  }
+
+  @Override
+  public Text getCurrentValue() {
+    return value;
+  }
+
+  private static class RecordBuffer extends ByteArrayOutputStream {
+    String startTag() {
+      int i = 0;
+      while (i < count && buf[i] != '>')
+        i++;
+      return new String(buf, 0, i, StandardCharsets.UTF_8);
+    }
+
+
+    boolean endsWith(byte[] suffix) {
+      if (count < suffix.length)
+        return false;
+      for (int i = 0; i < suffix.length; i++)
+        if (buf[count - suffix.length + i] != suffix[i])
+          return false;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.AuthorityAnalysis;
+import de.gwdg.metadataqa.marc.cli.ClassificationAnalysis;
+import de.gwdg.metadataqa.marc.cli.Completeness;
+import de.gwdg.metadataqa.marc.cli.FunctionalAnalysis;
+import de.gwdg.metadataqa.marc.cli.ThompsonTraillCompleteness;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import org.apache.commons.cli.ParseException;
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.logging.Logger;
+
+/**
+ * Runs an analysis with Spark. The first argument is the name of the analysis (the same as the
+ * name of its script), the rest are the arguments of the analysis:
+ * <pre>
+ * spark-submit --class de.gwdg.metadataqa.marc.cli.spark.ParallelAnalysis [jar] \
+ *   completeness|classifications|authorities|functional-analysis|tt-completeness [options] [file]
+ * </pre>
+ * The analyses collecting statistics run as mergeable processors (see SparkAnalysis), the
+ * Thompson-Traill completeness, which creates a row per record, calculates the scores on the
+ * executors, and the rows are written (as CSV or Parquet) on the driver in the order of the
+ * records.
+ */
+public class ParallelAnalysis {
+
+  private static final Logger logger = Logger.getLogger(
+    ParallelAnalysis.class.getCanonicalName());
+
+  public static void main(String[] args) throws ParseException {
+    if (args.length < 1) {
+      help();
+      System.exit(0);
+    }
+    String analysis = args[0];
+    String[] analysisArgs = Arrays.copyOfRange(args, 1, args.length);
+
+    switch (analysis) {
+      case "completeness":
+        Completeness completeness = new Completeness(analysisArgs);
+        run(analysis, completeness.getParameters(), records -> SparkAnalysis.process(records, completeness));
+        break;
+      case "classifications":
+        ClassificationAnalysis classifications = new ClassificationAnalysis(analysisArgs);
+        run(analysis, classifications.getParameters(), records -> SparkAnalysis.process(records, classifications));
+        break;
+      case "authorities":
+        AuthorityAnalysis authorities = new AuthorityAnalysis(analysisArgs);
+        run(analysis, authorities.getParameters(), records -> SparkAnalysis.process(records, authorities));
+        break;
+      case "functional-analysis":
+        FunctionalAnalysis functionalAnalysis = new FunctionalAnalysis(analysisArgs);
+        run(analysis, functionalAnalysis.getParameters(), records -> SparkAnalysis.process(records, functionalAnalysis));
+        break;
+      case "tt-completeness":
+        ThompsonTraillCompleteness ttCompleteness = new ThompsonTraillCompleteness(analysisArgs);
+        run(analysis, ttCompleteness.getParameters(), records -> processThompsonTraill(records, ttCompleteness));
+        break;
+      default:
+        System.err.println("Unknown analysis: " + analysis);
+        help();
+        System.exit(0);
+    }
+  }
+
+  private static void run(String analysis, CommonParameters params, Analysis job) {
+    if (params.getArgs().length < 1) {
+      System.err.println("Please provide a MARC file name!");
+      System.exit(0);
+    }
+    logger.info("Input file is " + params.getArgs()[0]);
+    SparkConf conf = new SparkConf().setAppName("ParallelAnalysis: " + analysis);
+    JavaSparkContext context = new JavaSparkContext(conf);
+
+    JavaRDD<MarcRecord> records = SparkAnalysis.readRecords(context, params.getArgs()[0], params);
+    int numberOfRecords = job.run(records);
+    logger.info(String.format("%s: %d records processed", analysis, numberOfRecords));
+    context.close();
+  }
+
+  public static int processThompsonTraill(JavaRDD<MarcRecord> records, ThompsonTraillCompleteness processor) {
+    JavaRDD<Object[]> rows = records.map(processor::createScores);
+    processor.beforeIteration();
+    int numberOfRecords = 0;
+    Iterator<Object[]> iterator = rows.toLocalIterator();
+    while (iterator.hasNext()) {
+      processor.writeScores(iterator.next());
+      numberOfRecords++;
+    }
+    processor.afterIteration(numberOfRecords);
+    return numberOfRecords;
+  }
+
+  private static void help() {
+    System.err.println("usage: spark-submit --class de.gwdg.metadataqa.marc.cli.spark.ParallelAnalysis [jar] "
+      + "completeness|classifications|authorities|functional-analysis|tt-completeness [options] [file]");
+  }
+
+  private interface Analysis {
+    int run(JavaRDD<MarcRecord> records);
+  }
+}
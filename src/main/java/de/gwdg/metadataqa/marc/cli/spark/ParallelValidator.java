@@ -1,22 +1,24 @@
 package de.gwdg.metadataqa.marc.cli.spark;
 
-import de.gwdg.metadataqa.marc.MarcFactory;
 import de.gwdg.metadataqa.marc.MarcRecord;
 import de.gwdg.metadataqa.marc.cli.parameters.ValidatorParameters;
 import de.gwdg.metadataqa.marc.cli.Validator;
-import de.gwdg.metadataqa.marc.model.validation.ValidationErrorFormatter;
-import de.gwdg.metadataqa.marc.utils.ReadMarc;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.spark.SparkConf;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.JavaSparkContext;
-import org.marc4j.MarcReader;
-import org.marc4j.marc.Record;
 
 import java.util.logging.Logger;
 
+/**
+ * Validates the records with Spark. The input is split by record boundaries (see
+ * Iso2709InputFormat and MarcXmlInputFormat, or lines for line separated files), each
+ * partition is validated by a worker of the Validator, and the workers are merged, so the
+ * summary files (issue-summary, issue-by-category, issue-by-type, issue-total and
+ * issue-collector) are the same as the ones created by the Validator.
+ */
 public class ParallelValidator {
 
   private static final Logger logger = Logger.getLogger(
@@ -27,33 +29,34 @@ public class ParallelValidator {
 
     final Validator validator = new Validator(args);
     ValidatorParameters params = validator.getParameters();
-    validator.setDoPrintInProcessRecord(false);
+    if (!params.doSummary()) {
+      System.err.println("ParallelValidator creates the summary only, please use the --summary option!");
+      System.exit(0);
+    }
 
-    logger.info("Input file is " + params.getDetailsFileName());
-    SparkConf conf = new SparkConf().setAppName("MarcCompletenessCount");
+    logger.info("Input file is " + params.getArgs()[0]);
+    SparkConf conf = new SparkConf().setAppName("ParallelValidator");
     JavaSparkContext context = new JavaSparkContext(conf);
 
     System.err.println(validator.getParameters().formatParameters());
 
-    JavaRDD<String> inputFile = context.textFile(validator.getParameters().getArgs()[0]);
-
-    JavaRDD<String> baseCountsRDD = inputFile
-      .flatMap(content -> {
-        MarcReader reader = ReadMarc.getMarcStringReader(content);
-        Record marc4jRecord = reader.next();
-        MarcRecord marcRecord = MarcFactory.createFromMarc4j(
-          marc4jRecord, params.getDefaultRecordType(), params.getMarcVersion(), params.fixAlephseq());
-        validator.processRecord(marcRecord, 1);
-        return ValidationErrorFormatter
-          .formatForSummary(marcRecord.getValidationErrors(), params.getFormat())
-          .iterator();
-      }
-    );
-    baseCountsRDD.saveAsTextFile(validator.getParameters().getDetailsFileName());
+    validate(context, validator);
+    context.close();
+  }
+
+  /**
+   * Validates the records of the first input file, and writes the summary files of the validator.
+   * @return The number of the validated records
+   */
+  public static int validate(JavaSparkContext context, Validator validator) {
+    ValidatorParameters params = validator.getParameters();
+    validator.setDoPrintInProcessRecord(false);
+    JavaRDD<MarcRecord> records = SparkAnalysis.readRecords(context, params.getArgs()[0], params);
+    return SparkAnalysis.process(records, validator);
   }
 
   private static void help() {
     HelpFormatter formatter = new HelpFormatter();
-    formatter.printHelp("java -cp [jar] de.gwdg.europeanaqa.spark.MarcCompletenessCount [options]", options);
+    formatter.printHelp("java -cp [jar] de.gwdg.metadataqa.marc.cli.spark.ParallelValidator [options]", options);
   }
 }
@@ -0,0 +1,133 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import de.gwdg.metadataqa.marc.utils.iso2709.Iso2709Parser;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.MarcXmlReader;
+import org.marc4j.marc.Record;
+import scala.Tuple2;
+
+import java.io.ByteArrayInputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * The common part of the Spark drivers: reading the records, and running a mergeable processor
+ * on them. Every partition is processed by a worker of the processor (see
+ * MergeableProcessor.createWorker()), the workers are merged pairwise on the executors, and the
+ * result is merged into the processor on the driver, which then writes the same files as it does
+ * when it runs in one JVM.
+ */
+public class SparkAnalysis {
+
+  private static final Logger logger = Logger.getLogger(SparkAnalysis.class.getCanonicalName());
+
+  private SparkAnalysis() {
+  }
+
+  /**
+   * Processes the records with the workers of the processor, and calls the processor's
+   * beforeIteration(), merge() and afterIteration() methods on the driver.
+   * @param records The records
+   * @param processor The processor
+   * @param <T> The type of the processor
+   * @return The number of the processed records
+   */
+  public static <T extends MergeableProcessor<T> & Serializable> int process(JavaRDD<MarcRecord> records,
+                                                                             T processor) {
+    // the workers count their own records, so a retried task does not count its records twice
+    Tuple2<T, Integer> result = records
+      .mapPartitions(partition -> {
+        T worker = processor.createWorker();
+        int i = 0;
+        while (partition.hasNext())
+          worker.processRecord(partition.next(), ++i);
+        return Collections.singletonList(new Tuple2<>(worker, i)).iterator();
+      })
+      .treeReduce((result1, result2) -> {
+        result1._1().merge(result2._1());
+        return new Tuple2<>(result1._1(), result1._2() + result2._2());
+      });
+
+    int numberOfRecords = result._2();
+    processor.beforeIteration();
+    processor.merge(result._1());
+    processor.afterIteration(numberOfRecords);
+    return numberOfRecords;
+  }
+
+  /**
+   * Reads the records of the input according to its format.
+   */
+  public static JavaRDD<MarcRecord> readRecords(JavaSparkContext context,
+                                                String input,
+                                                CommonParameters params) {
+    if (params.isMarcxml()) {
+      return context
+        .newAPIHadoopFile(input, MarcXmlInputFormat.class, LongWritable.class, Text.class,
+          context.hadoopConfiguration())
+        .values()
+        .map(Text::toString)
+        .flatMap(xml -> toList(readMarc4j(
+          new MarcXmlReader(new ByteArrayInputStream(
+            MarcXmlRecordReader.wrap(xml).getBytes(StandardCharsets.UTF_8))),
+          params)).iterator());
+    }
+
+    if (params.isLineSeparated()) {
+      return context
+        .textFile(input)
+        .flatMap(content -> toList(readMarc4j(ReadMarc.getMarcStringReader(content), params)).iterator());
+    }
+
+    return context
+      .newAPIHadoopFile(input, Iso2709InputFormat.class, LongWritable.class, BytesWritable.class,
+        context.hadoopConfiguration())
+      .values()
+      .map(BytesWritable::copyBytes)
+      .flatMap(raw -> toList(readIso2709(raw, params)).iterator());
+  }
+
+  private static MarcRecord readIso2709(byte[] raw, CommonParameters params) {
+    if (params.useNativeReader()) {
+      try {
+        return Iso2709Parser.parse(
+          raw, params.getDefaultRecordType(), params.getMarcVersion(), params.fixAlephseq());
+      } catch (RuntimeException e) {
+        logger.severe("MARC record parsing problem: " + e.getLocalizedMessage());
+        return null;
+      }
+    }
+    return readMarc4j(new MarcStreamReader(new ByteArrayInputStream(raw)), params);
+  }
+
+  private static MarcRecord readMarc4j(MarcReader reader, CommonParameters params) {
+    try {
+      Record marc4jRecord = reader.next();
+      return MarcFactory.createFromMarc4j(
+        marc4jRecord, params.getDefaultRecordType(), params.getMarcVersion(), params.fixAlephseq());
+    } catch (RuntimeException e) {
+      logger.severe("MARC record parsing problem: " + e.getLocalizedMessage());
+      return null;
+    }
+  }
+
+  private static List<MarcRecord> toList(MarcRecord record) {
+    return record == null
+      ? Collections.<MarcRecord>emptyList()
+      : Collections.singletonList(record);
+  }
+}
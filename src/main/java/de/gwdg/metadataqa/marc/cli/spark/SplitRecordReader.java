@@ -0,0 +1,115 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The common part of the record readers of the MARC input formats: opens the split (or the
+ * whole file, if it is compressed), and reads it byte by byte, keeping track of the position.
+ * The key of a record is its position in the file.
+ * @param <V> The type of the records
+ */
+public abstract class SplitRecordReader<V> extends RecordReader<LongWritable, V> {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private InputStream in;
+  protected long start;
+  protected long end;
+  protected long position;
+  private final LongWritable key = new LongWritable();
+  private boolean eof = false;
+
+  @Override
+  public void initialize(InputSplit genericSplit, TaskAttemptContext context) throws IOException {
+    FileSplit split = (FileSplit) genericSplit;
+    Configuration conf = context.getConfiguration();
+    Path file = split.getPath();
+    FileSystem fs = file.getFileSystem(conf);
+    FSDataInputStream fileIn = fs.open(file);
+
+    CompressionCodec codec = new CompressionCodecFactory(conf).getCodec(file);
+    if (codec != null) {
+      // compressed files are not split
+      in = new BufferedInputStream(codec.createInputStream(fileIn), BUFFER_SIZE);
+      start = 0;
+      end = Long.MAX_VALUE;
+    } else {
+      start = split.getStart();
+      end = start + split.getLength();
+      fileIn.seek(start);
+      in = new BufferedInputStream(fileIn, BUFFER_SIZE);
+    }
+    position = start;
+    skipToFirstRecord();
+  }
+
+  /**
+   * Opens the file from its beginning, decompressed if it is compressed.
+   */
+  protected static InputStream openFile(Path file, Configuration conf) throws IOException {
+    InputStream fileIn = file.getFileSystem(conf).open(file);
+    CompressionCodec codec = new CompressionCodecFactory(conf).getCodec(file);
+    if (codec != null)
+      fileIn = codec.createInputStream(fileIn);
+    return new BufferedInputStream(fileIn, BUFFER_SIZE);
+  }
+
+  /**
+   * Moves to the first record which starts in this split.
+   */
+  protected abstract void skipToFirstRecord() throws IOException;
+
+  /**
+   * @return The next byte, or -1 at the end of the file
+   */
+  protected int read() throws IOException {
+    if (eof)
+      return -1;
+    int b = in.read();
+    if (b == -1)
+      eof = true;
+    else
+      position++;
+    return b;
+  }
+
+  protected boolean isEof() {
+    return eof;
+  }
+
+  protected void setKey(long recordStart) {
+    key.set(recordStart);
+  }
+
+  @Override
+  public LongWritable getCurrentKey() {
+    return key;
+  }
+
+  @Override
+  public float getProgress() {
+    if (end == Long.MAX_VALUE || end == start)
+      return eof ? 1.0f : 0.0f;
+    return Math.min(1.0f, (position - start) / (float) (end - start));
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (in != null)
+      in.close();
+  }
+}
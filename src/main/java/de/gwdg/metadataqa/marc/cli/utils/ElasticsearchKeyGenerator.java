@@ -4,6 +4,7 @@ import de.gwdg.metadataqa.api.model.JsonPathCache;
 import de.gwdg.metadataqa.api.model.XmlFieldInstance;
 import de.gwdg.metadataqa.api.schema.MarcJsonSchema;
 import de.gwdg.metadataqa.marc.MarcFieldExtractor;
+import de.gwdg.metadataqa.marc.datastore.ElasticsearchBulkWriter;
 import de.gwdg.metadataqa.marc.datastore.MarcElasticsearchClient;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -37,6 +38,7 @@ public class ElasticsearchKeyGenerator {
     logger.info(String.format("host: %s, port: %d, file: %s", host, port, path.getFileName().toString()));
 
     MarcElasticsearchClient client = new MarcElasticsearchClient(host, port);
+    ElasticsearchBulkWriter writer = new ElasticsearchBulkWriter(client, "sub", "duplum", "recordId");
     JsonPathCache<? extends XmlFieldInstance> cache;
     List<String> records;
     try {
@@ -49,15 +51,21 @@ public class ElasticsearchKeyGenerator {
         cache = new JsonPathCache(record);
         extractor.measure(cache);
         duplumKey = extractor.getDuplumKeyMap();
-        client.indexDuplumKey((String)duplumKey.get("recordId"), duplumKey);
+        writer.add(duplumKey);
         if (i % 100 == 0) {
           logger.info(String.format("%s/%d) %s", fileName, i, duplumKey.get("recordId")));
         }
       }
+      writer.close();
+      client.close();
       logger.info("end of cycle");
     } catch (IOException ex) {
       logger.severe(ex.toString());
       System.exit(0);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      logger.severe(ex.toString());
+      System.exit(0);
     }
     logger.info("Bye!");
     System.exit(0);
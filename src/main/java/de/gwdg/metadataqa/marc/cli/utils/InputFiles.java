@@ -0,0 +1,119 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Expands the file arguments of the command line tools. An argument might be
+ * <ul>
+ *   <li>a file,</li>
+ *   <li>a directory: its regular files, without the subdirectories and the hidden files,</li>
+ *   <li>a glob pattern, e.g. <code>dumps/*.mrc.gz</code> or <code>dumps/**&#47;*.xml.bz2</code>
+ *   (quoted, so the shell does not expand it): the matching regular files. An existing file
+ *   is not taken as a pattern, even if its name contains glob characters.</li>
+ * </ul>
+ * The files of a directory or of a pattern are sorted by their names.
+ */
+public class InputFiles {
+
+  private static final Logger logger = Logger.getLogger(InputFiles.class.getCanonicalName());
+  private static final String GLOB_CHARACTERS = "*?[{";
+
+  private InputFiles() {
+  }
+
+  public static List<Path> expand(String[] args) throws IOException {
+    List<Path> files = new ArrayList<>();
+    for (String arg : args) {
+      if (isGlob(arg)) {
+        List<Path> matches = expandGlob(arg);
+        if (matches.isEmpty())
+          logger.warning("No file matches " + arg);
+        files.addAll(matches);
+      } else {
+        Path path = Paths.get(arg);
+        if (Files.isDirectory(path))
+          files.addAll(list(path));
+        else
+          files.add(path);
+      }
+    }
+    return files;
+  }
+
+  /**
+   * An argument is a pattern if it contains a glob character, and it is not the name of an existing
+   * file or directory (since names might contain these characters, e.g. <code>dump[2019].mrc</code>).
+   */
+  static boolean isGlob(String arg) {
+    if (!hasGlobCharacter(arg))
+      return false;
+    try {
+      return !Files.exists(Paths.get(arg));
+    } catch (InvalidPathException e) {
+      return true;
+    }
+  }
+
+  private static boolean hasGlobCharacter(String arg) {
+    for (int i = 0; i < arg.length(); i++)
+      if (GLOB_CHARACTERS.indexOf(arg.charAt(i)) > -1)
+        return true;
+    return false;
+  }
+
+  private static List<Path> list(Path directory) throws IOException {
+    try (Stream<Path> stream = Files.list(directory)) {
+      return stream
+        .filter(Files::isRegularFile)
+        .filter(path -> !path.getFileName().toString().startsWith("."))
+        .sorted()
+        .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * The directories before the first glob character are the base of the search, the rest of
+   * the argument is matched against the paths relative to the base.
+   */
+  private static List<Path> expandGlob(String arg) throws IOException {
+    String normalized = arg.replace('\\', '/');
+    int firstGlob = 0;
+    while (GLOB_CHARACTERS.indexOf(normalized.charAt(firstGlob)) == -1)
+      firstGlob++;
+    int separator = normalized.lastIndexOf('/', firstGlob);
+
+    Path base;
+    String pattern;
+    if (separator == -1) {
+      base = Paths.get(".");
+      pattern = normalized;
+    } else {
+      base = Paths.get(separator == 0 ? "/" : normalized.substring(0, separator));
+      pattern = normalized.substring(separator + 1);
+    }
+    if (!Files.isDirectory(base))
+      return new ArrayList<>();
+
+    int depth = pattern.contains("**") ? Integer.MAX_VALUE : pattern.split("/").length;
+    PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+    try (Stream<Path> stream = Files.walk(base, depth)) {
+      return stream
+        .filter(Files::isRegularFile)
+        .filter(path -> matcher.matches(base.relativize(path)))
+        .map(path -> separator == -1 ? base.relativize(path) : path)
+        .sorted()
+        .collect(Collectors.toList());
+    }
+  }
+}
@@ -1,26 +1,27 @@
 package de.gwdg.metadataqa.marc.cli.utils;
 
-import de.gwdg.metadataqa.api.model.JsonPathCache;
-import de.gwdg.metadataqa.api.model.XmlFieldInstance;
-import de.gwdg.metadataqa.api.schema.MarcJsonSchema;
-import de.gwdg.metadataqa.marc.MarcFactory;
-import de.gwdg.metadataqa.marc.MarcFieldExtractor;
 import de.gwdg.metadataqa.marc.MarcRecord;
 import de.gwdg.metadataqa.marc.datastore.MarcSolrClient;
+import de.gwdg.metadataqa.marc.datastore.SolrBulkIndexer;
+import de.gwdg.metadataqa.marc.datastore.SolrDocumentBuilder;
+import de.gwdg.metadataqa.marc.model.SolrFieldType;
+import de.gwdg.metadataqa.marc.utils.CompressedFiles;
+import de.gwdg.metadataqa.marc.utils.MarcJsonReader;
 import org.apache.solr.client.solrj.SolrServerException;
 
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 
 /**
+ * Indexes a MARC JSON file (see MarcJsonReader) with Solr. The records are read one by one and
+ * sent in batches from background threads (see SolrBulkIndexer), so the memory use does not
+ * depend on the size of the file.
+ * <p>
  * usage:
- * java -cp target/metadata-qa-marc-0.1-SNAPSHOT-jar-with-dependencies.jar de.gwdg.metadataqa.marc.cli.SolrKeyGenerator http://localhost:8983/solr/tardit 0001.0000000.formatted.json
+ * java -cp target/metadata-qa-marc-0.1-SNAPSHOT-jar-with-dependencies.jar de.gwdg.metadataqa.marc.cli.utils.MarcJsonToSolr \
+ *   http://localhost:8983/solr/tardit 0001.0000000.formatted.json [doCommit=true|false] [batchSize=1000]
  *
  * @author Péter Király <peter.kiraly at gwdg.de>
  */
@@ -42,47 +43,57 @@ public class MarcJsonToSolr {
     String fileName = path.getFileName().toString();
 
     boolean doCommits = true;
-    if (args.length > 2) {
-      if (args[2].equals("doCommit=true"))
+    int batchSize = SolrBulkIndexer.DEFAULT_BATCH_SIZE;
+    for (int i = 2; i < args.length; i++) {
+      if (args[i].equals("doCommit=true"))
         doCommits = true;
-      else if (args[2].equals("doCommit=false"))
+      else if (args[i].equals("doCommit=false"))
         doCommits = false;
+      else if (args[i].startsWith("batchSize="))
+        batchSize = Integer.parseInt(args[i].substring("batchSize=".length()));
     }
 
-    logger.info(String.format("Solr URL: %s, file: %s (do commits: %s)", url, fileName, doCommits));
+    logger.info(String.format("Solr URL: %s, file: %s (do commits: %s, batch size: %d)",
+      url, fileName, doCommits, batchSize));
 
     MarcSolrClient client = new MarcSolrClient(url);
-    JsonPathCache<? extends XmlFieldInstance> cache;
-    List<String> records;
-    try {
-      records = Files.readAllLines(path, Charset.defaultCharset());
-      MarcFieldExtractor extractor = new MarcFieldExtractor(new MarcJsonSchema());
-      Map<String, Object> duplumKey;
+    if (batchSize > 1)
+      client.useBulkIndexing(batchSize, SolrBulkIndexer.DEFAULT_THREADS,
+        SolrBulkIndexer.DEFAULT_FLUSH_INTERVAL, SolrBulkIndexer.DEFAULT_COMMIT_WITHIN);
+    SolrDocumentBuilder documentBuilder = new SolrDocumentBuilder(SolrFieldType.MARC, true);
+
+    try (MarcJsonReader reader = new MarcJsonReader(CompressedFiles.open(path.toString()))) {
       int i = 0;
-      for (String record : records) {
+      while (true) {
+        MarcRecord marcRecord;
+        try {
+          marcRecord = reader.next();
+        } catch (IllegalArgumentException e) {
+          logger.severe(String.format("MARC JSON record parsing problem at record #%d: %s",
+            (i + 1), e.getLocalizedMessage()));
+          i++;
+          continue;
+        }
+        if (marcRecord == null)
+          break;
         i++;
-        cache = new JsonPathCache(record);
-        MarcRecord marcRecord = MarcFactory.create(cache);
-        client.indexMap(marcRecord.getId(), marcRecord.getKeyValuePairs());
 
-        // extractor.measure(cache);
-        // duplumKey = extractor.getDuplumKeyMap();
-        // client.indexDuplumKey((String)duplumKey.get(MarcFieldExtractor.FIELD_NAME), duplumKey);
+        client.indexDocument(documentBuilder.build(marcRecord.getId(), marcRecord));
         if (i % 1000 == 0) {
-          if (doCommits)
+          // in bulk mode Solr commits the batches itself (commitWithin)
+          if (doCommits && !client.isBulkIndexing())
             client.commit();
-          // logger.info(String.format("%s/%d) %s", fileName, i, duplumKey.get(MarcFieldExtractor.FIELD_NAME)));
           logger.info(String.format("%s/%d) %s", fileName, i, marcRecord.getId()));
         }
       }
       if (doCommits)
         client.commit();
-      // logger.info("optimize");
-      // client.optimize();
       logger.info("end of cycle");
     } catch (IOException | SolrServerException ex) {
       logger.severe(ex.toString());
       System.exit(0);
+    } finally {
+      client.close();
     }
     long end = System.currentTimeMillis();
 
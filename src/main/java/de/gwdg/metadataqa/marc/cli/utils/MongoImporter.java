@@ -7,6 +7,7 @@ import com.mongodb.DBCollection;
 import de.gwdg.metadataqa.api.model.JsonPathCache;
 import de.gwdg.metadataqa.api.model.XmlFieldInstance;
 import de.gwdg.metadataqa.marc.datastore.MarcMongodbClient;
+import de.gwdg.metadataqa.marc.datastore.MongoBulkWriter;
 
 import java.io.IOException;
 import java.net.UnknownHostException;
@@ -19,6 +20,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
+ * Imports MARC JSON lines into MongoDB. The documents are inserted in bulk operations (see
+ * MongoBulkWriter). MarcToMongo imports the MARC files directly.
+ *
  * @author Péter Király <peter.kiraly at gwdg.de>
  */
 public class MongoImporter {
@@ -43,6 +47,7 @@ public class MongoImporter {
     try {
       client = new MarcMongodbClient(host, port, DATABASE);
       DBCollection collection = client.getCollection(COLLECTION);
+      MongoBulkWriter writer = new MongoBulkWriter(collection);
 
       JsonPathCache<? extends XmlFieldInstance> cache;
       List<String> records = Files.readAllLines(path, Charset.defaultCharset());
@@ -57,8 +62,13 @@ public class MongoImporter {
         doc.append("x003", x003);
         doc.append("file", fileName);
         doc.append("record", record);
-        collection.insert(doc);
+        writer.add(doc);
       }
+      writer.close();
+      client.close();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      Logger.getLogger(MongoImporter.class.getName()).log(Level.SEVERE, null, ex);
     } catch (UnknownHostException ex) {
       Logger.getLogger(MongoImporter.class.getName()).log(Level.SEVERE, null, ex);
     } catch (IOException ex) {
@@ -0,0 +1,166 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a report as a Parquet file with typed columns, an alternative of the CSV reports which
+ * are read by other tools (R, Spark etc.), which can read only the columns they need. The values
+ * are dictionary encoded (so the repeated record and error identifiers are stored only once per
+ * column chunk), and compressed with Snappy. The rows are kept in memory until the row group is
+ * full, then the row group is flushed, so the memory use does not depend on the size of the
+ * report. All the columns are optional: null values are not stored.
+ */
+public class ParquetReportWriter implements Closeable {
+
+  public static final String EXTENSION = ".parquet";
+  public static final int DEFAULT_ROW_GROUP_SIZE = 32 * 1024 * 1024;
+  private static final int PAGE_SIZE = 1024 * 1024;
+
+  public enum ColumnType {
+    STRING, INT, LONG, DOUBLE, BOOLEAN
+  }
+
+  private final File file;
+  private final ColumnType[] types;
+  private final SimpleGroupFactory groupFactory;
+  private final ParquetWriter<Group> writer;
+
+  /**
+   * @param file The output file
+   * @param columns The names of the columns
+   * @param types The types of the columns
+   */
+  public ParquetReportWriter(File file, List<String> columns, List<ColumnType> types) throws IOException {
+    this(file, columns, types, DEFAULT_ROW_GROUP_SIZE);
+  }
+
+  public ParquetReportWriter(File file, List<String> columns, List<ColumnType> types, int rowGroupSize)
+      throws IOException {
+    if (columns.size() != types.size())
+      throw new IllegalArgumentException(String.format(
+        "The number of columns (%d) and types (%d) differ", columns.size(), types.size()));
+
+    this.file = file;
+    this.types = types.toArray(new ColumnType[0]);
+    MessageType schema = createSchema(messageName(file), columns, types);
+    groupFactory = new SimpleGroupFactory(schema);
+    writer = ExampleParquetWriter.builder(new Path(file.getAbsoluteFile().toURI()))
+      .withType(schema)
+      .withConf(new Configuration())
+      .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+      .withCompressionCodec(CompressionCodecName.SNAPPY)
+      .withDictionaryEncoding(true)
+      .withRowGroupSize(rowGroupSize)
+      .withPageSize(PAGE_SIZE)
+      .build();
+  }
+
+  /**
+   * Creates a writer in the output directory of the parameters. The extension of the file name
+   * (such as .csv) is replaced by .parquet.
+   */
+  public static ParquetReportWriter create(CommonParameters parameters,
+                                           String fileName,
+                                           List<String> columns,
+                                           List<ColumnType> types) throws IOException {
+    return new ParquetReportWriter(new File(parameters.getOutputDir(), toParquetFileName(fileName)), columns, types);
+  }
+
+  public static String toParquetFileName(String fileName) {
+    int dot = fileName.lastIndexOf('.');
+    String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+    return baseName + EXTENSION;
+  }
+
+  private static String messageName(File file) {
+    String name = file.getName();
+    if (name.endsWith(EXTENSION))
+      name = name.substring(0, name.length() - EXTENSION.length());
+    return name.replaceAll("\\W", "_");
+  }
+
+  private static MessageType createSchema(String name, List<String> columns, List<ColumnType> types) {
+    List<Type> fields = new ArrayList<>();
+    for (int i = 0; i < columns.size(); i++)
+      fields.add(createField(columns.get(i), types.get(i)));
+    return new MessageType(name, fields);
+  }
+
+  private static Type createField(String name, ColumnType type) {
+    switch (type) {
+      case STRING:
+        return new PrimitiveType(Type.Repetition.OPTIONAL, PrimitiveType.PrimitiveTypeName.BINARY, name,
+          OriginalType.UTF8);
+      case INT:
+        return new PrimitiveType(Type.Repetition.OPTIONAL, PrimitiveType.PrimitiveTypeName.INT32, name);
+      case LONG:
+        return new PrimitiveType(Type.Repetition.OPTIONAL, PrimitiveType.PrimitiveTypeName.INT64, name);
+      case DOUBLE:
+        return new PrimitiveType(Type.Repetition.OPTIONAL, PrimitiveType.PrimitiveTypeName.DOUBLE, name);
+      case BOOLEAN:
+        return new PrimitiveType(Type.Repetition.OPTIONAL, PrimitiveType.PrimitiveTypeName.BOOLEAN, name);
+      default:
+        throw new IllegalArgumentException("Unhandled column type: " + type);
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Writes a row. The values are in the order of the columns, the missing values at the end of
+   * the row are nulls. The numbers are converted to the type of the column.
+   */
+  public synchronized void write(Object... values) throws IOException {
+    if (values.length > types.length)
+      throw new IllegalArgumentException(String.format(
+        "%d values for %d columns in %s", values.length, types.length, file.getName()));
+
+    Group row = groupFactory.newGroup();
+    for (int i = 0; i < values.length; i++) {
+      Object value = values[i];
+      if (value == null)
+        continue;
+      switch (types[i]) {
+        case STRING: row.add(i, value.toString()); break;
+        case INT: row.add(i, ((Number) value).intValue()); break;
+        case LONG: row.add(i, ((Number) value).longValue()); break;
+        case DOUBLE: row.add(i, ((Number) value).doubleValue()); break;
+        case BOOLEAN: row.add(i, (Boolean) value); break;
+        default: break;
+      }
+    }
+    writer.write(row);
+  }
+
+  /**
+   * Writes the last row group and the footer of the file.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    writer.close();
+    // the local file system of Hadoop creates a checksum file, which is not needed
+    File checksum = new File(file.getAbsoluteFile().getParentFile(), "." + file.getName() + ".crc");
+    if (checksum.exists())
+      checksum.delete();
+  }
+}
@@ -0,0 +1,72 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes the partial result files of the processors. A file is gzip compressed, and
+ * it starts with a header (a magic number, the format version, the name of the processor class
+ * and the number of the processed records), followed by the state of the processor.
+ */
+public class PartialResults {
+
+  private static final int MAGIC = 0x4d514150; // "MQAP"
+  private static final int VERSION = 2;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private PartialResults() {
+  }
+
+  /**
+   * Writes the state of the processor into the file.
+   * @param processor The processor
+   * @param numberOfRecords The number of the processed records
+   * @param file The partial result file
+   */
+  public static void write(PartialResultProcessor<?> processor, int numberOfRecords, File file)
+      throws IOException {
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+           new GZIPOutputStream(new FileOutputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeUTF(processor.getClass().getCanonicalName());
+      out.writeInt(numberOfRecords);
+      processor.writePartialResult(out);
+    }
+  }
+
+  /**
+   * Reads the state stored in the file, and adds it to the processor.
+   * @param processor The processor, of the same class as the one which wrote the file
+   * @param file The partial result file
+   * @return The number of the records processed by the run which created the file
+   */
+  public static int read(PartialResultProcessor<?> processor, File file) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+           new GZIPInputStream(new FileInputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+      if (in.readInt() != MAGIC)
+        throw new IOException(String.format("%s is not a partial result file", file));
+      int version = in.readInt();
+      if (version != VERSION)
+        throw new IOException(String.format("Unsupported version of partial result file %s: %d", file, version));
+      String className = in.readUTF();
+      if (!className.equals(processor.getClass().getCanonicalName()))
+        throw new IOException(String.format(
+          "%s was created by %s, it can not be read by %s",
+          file, className, processor.getClass().getCanonicalName()));
+      int numberOfRecords = in.readInt();
+      processor.readPartialResult(in);
+      return numberOfRecords;
+    }
+  }
+}
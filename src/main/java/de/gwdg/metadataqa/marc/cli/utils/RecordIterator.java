@@ -3,20 +3,33 @@ package de.gwdg.metadataqa.marc.cli.utils;
 import de.gwdg.metadataqa.marc.Leader;
 import de.gwdg.metadataqa.marc.MarcFactory;
 import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.processor.CompositeProcessor;
 import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.PartialResultProcessor;
 import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.utils.CompressedFiles;
 import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import de.gwdg.metadataqa.marc.utils.iso2709.Iso2709Parser;
+import de.gwdg.metadataqa.marc.utils.iso2709.RawRecordReader;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.marc4j.MarcException;
 import org.marc4j.MarcReader;
+import org.marc4j.MarcStreamReader;
 import org.marc4j.marc.Record;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 /**
@@ -28,156 +41,451 @@ public class RecordIterator {
 
   private static final Logger logger = Logger.getLogger(RecordIterator.class.getCanonicalName());
   private static Options options;
+  // DecimalFormat is not thread safe, and the workers log the progress too
+  private static final ThreadLocal<DecimalFormat> NUMBER_FORMAT = ThreadLocal.withInitial(DecimalFormat::new);
   private MarcFileProcessor processor;
+  private MarcVersion marcVersion;
+  private Leader.Type defaultRecordType;
+  private boolean fixAlephseq;
+  private boolean nativeReader;
+  private final AtomicInteger recordCounter = new AtomicInteger();
+  private final AtomicReference<Exception> workerFailure = new AtomicReference<>();
+  private volatile String lastKnownId = "";
 
   public RecordIterator(MarcFileProcessor processor) {
     this.processor = processor;
   }
 
   public void start() {
+    iterate();
+    System.exit(0);
+  }
+
+  /**
+   * Processes the input files. If a file can not be processed, the iteration stops, and
+   * afterIteration() of the processor is not called.
+   * @return Whether all the files have been processed (and the partial result, if it was
+   * requested, has been saved)
+   */
+  public boolean iterate() {
 
     long start = System.currentTimeMillis();
     processor.beforeIteration();
 
-    MarcVersion marcVersion = processor.getParameters().getMarcVersion();
-    Leader.Type defaultRecordType = processor.getParameters().getDefaultRecordType();
-    boolean fixAlephseq = processor.getParameters().fixAlephseq();
-    boolean isAlephseq = processor.getParameters().isAlephseq();
-    boolean isMarcxml = processor.getParameters().isMarcxml();
-    boolean isLineSeparated = processor.getParameters().isLineSeparated();
-    DecimalFormat decimalFormat = new DecimalFormat();
+    CommonParameters parameters = processor.getParameters();
+    marcVersion = parameters.getMarcVersion();
+    defaultRecordType = parameters.getDefaultRecordType();
+    fixAlephseq = parameters.fixAlephseq();
+    nativeReader = parameters.useNativeReader();
+    boolean isAlephseq = parameters.isAlephseq();
+    boolean isMarcxml = parameters.isMarcxml();
+    boolean isLineSeparated = parameters.isLineSeparated();
 
-    if (processor.getParameters().doLog())
+    if (parameters.doLog())
       logger.info("marcVersion: " + marcVersion.getCode() + ", " + marcVersion.getLabel());
 
-    String[] inputFileNames = processor.getParameters().getArgs();
+    if (nativeReader && processor.needsMarc4jRecords()) {
+      logger.warning(String.format("%s works on marc4j records, the records will be read by marc4j.",
+        processor.getClass().getSimpleName()));
+      nativeReader = false;
+    }
 
-    int i = 0;
-    String lastKnownId = "";
-    for (String inputFileName : inputFileNames) {
-      if (!processor.readyToProcess())
-        break;
+    RecordWorkerPool pool = createWorkerPool(parameters.getThreads());
+    // with several threads or with the native reader ISO 2709 records are split by RawRecordReader
+    // and decoded by the workers (or on this thread if there is no worker pool)
+    boolean readRawRecords = ((pool != null || nativeReader) && !isAlephseq && !isMarcxml && !isLineSeparated);
+    if (nativeReader && !readRawRecords && parameters.doLog())
+      logger.warning("The native reader supports only ISO 2709 files, the records will be read by marc4j.");
 
-      Path path = Paths.get(inputFileName);
-      String fileName = path.getFileName().toString();
+    List<Path> inputFiles = null;
+    try {
+      inputFiles = InputFiles.expand(parameters.getArgs());
+    } catch (IOException e) {
+      logger.severe("Can not list the input files: " + e.getLocalizedMessage());
+      finishPool(pool);
+      return false;
+    }
 
-      if (processor.getParameters().doLog())
-        logger.info("processing: " + fileName);
+    // the files are read by the workers, every worker processes the records of its file
+    boolean parallelFiles = pool != null && parameters.processFilesInParallel();
+    if (parallelFiles && (parameters.getOffset() > -1 || parameters.getLimit() > -1) && parameters.doLog())
+      logger.warning("With parallel files the records are numbered in the order they are read, "
+        + "so the offset and the limit do not select the same records in every run.");
+
+    for (Path path : inputFiles) {
+      if (!canContinue())
+        break;
 
       try {
-        processor.fileOpened(path);
-        MarcReader reader = (isAlephseq)
-          ? ReadMarc.getAlephseqMarcReader(path.toString())
-          : ReadMarc.getReader(path.toString(), isMarcxml, isLineSeparated);
-        while (reader.hasNext()) {
-          if (!processor.readyToProcess())
-            break;
-
-          Record marc4jRecord = null;
-          try {
-            marc4jRecord = reader.next();
-          } catch (MarcException | NegativeArraySizeException | NumberFormatException e) {
-            logger.severe(
-              String.format(
-                "MARC record parsing problem at record #%d (last known ID: %s): %s",
-                (i+1), lastKnownId, e.getLocalizedMessage()));
-          } catch (Exception e) {
-            logger.severe("another exception");
-            e.printStackTrace();
-          }
-          i++;
-          if (marc4jRecord == null)
-            continue;
-
-          if (isUnderOffset(processor.getParameters().getOffset(), i)) {
-            continue;
-          }
-          if (isOverLimit(processor.getParameters().getLimit(), i)) {
-            break;
-          }
-
-          if (marc4jRecord.getControlNumber() == null) {
-            logger.severe("No record number at " + i + ", last known ID: " + lastKnownId);
-            System.err.println(marc4jRecord);
-            continue;
-          } else {
-            lastKnownId = marc4jRecord.getControlNumber();
-          }
-
-          if (processor.getParameters().hasId()
-            && !marc4jRecord.getControlNumber().trim().equals(processor.getParameters().getId())) {
-            continue;
-          }
-
-          try {
-            processor.processRecord(marc4jRecord, i);
-            MarcRecord marcRecord = MarcFactory.createFromMarc4j(marc4jRecord, defaultRecordType, marcVersion, fixAlephseq);
-            try {
-              processor.processRecord(marcRecord, i);
-            } catch(Exception e) {
-              e.printStackTrace();
-            }
-
-            if (i % 100000 == 0 && processor.getParameters().doLog())
-              logger.info(String.format("%s/%s (%s)", fileName, decimalFormat.format(i), marcRecord.getId()));
-
-          } catch (IllegalArgumentException e) {
-            if (marc4jRecord.getControlNumber() == null)
-              logger.severe("No record number at " + i);
-            if (processor.getParameters().doLog())
-              logger.severe(String.format(
-                "Error (illegal argument) with record '%s'. %s",
-                marc4jRecord.getControlNumber(), e.getMessage()));
-            e.printStackTrace();
-            continue;
-          } catch (Exception e) {
-            if (marc4jRecord.getControlNumber() == null)
-              logger.severe("No record number at " + i);
-            if (processor.getParameters().doLog())
-              logger.severe(String.format(
-                "Error (general) with record '%s'. %s",
-                marc4jRecord.getControlNumber(), e.getMessage()));
-            e.printStackTrace();
-            continue;
-          }
-        }
-        if (processor.getParameters().doLog())
-          logger.info(String.format("Finished processing file. Processed %s records.", decimalFormat.format(i)));
+        if (parallelFiles)
+          pool.submit(worker -> processFileOnWorker(worker, path, readRawRecords));
+        else
+          processFile(processor, path, readRawRecords, pool);
 
-      } catch (SolrServerException ex) {
-        if (processor.getParameters().doLog())
-          logger.severe(ex.toString());
-        System.exit(0);
       } catch (Exception ex) {
-        if (processor.getParameters().doLog()) {
-          logger.severe("Other exception: " + ex.toString());
-
-          for (StackTraceElement element : ex.getStackTrace()) {
-            System.err.println(element.toString());
-          }
-          Throwable exa = ex;
-          while (exa.getCause() != null) {
-            System.err.println("cause");
-            exa = exa.getCause();
-            for (StackTraceElement element : exa.getStackTrace()) {
-              System.err.println(element.toString());
-            }
-          }
-        }
-        ex.printStackTrace();
-        System.exit(0);
+        reportFailure(ex);
+        finishPool(pool);
+        return false;
       }
     }
 
-    processor.afterIteration(i);
+    finishPool(pool);
+    // a file processed by a worker failed: stop the same way as if it had been processed here
+    if (workerFailure.get() != null) {
+      reportFailure(workerFailure.get());
+      return false;
+    }
+
+    int numberOfRecords = recordCounter.get();
+    boolean saved = true;
+    if (parameters.doSavePartialResult())
+      saved = savePartialResult(parameters.getPartialResult(), numberOfRecords);
+
+    processor.afterIteration(numberOfRecords);
 
     long end = System.currentTimeMillis();
     long duration = (end - start) / 1000;
-    if (processor.getParameters().doLog())
-      logger.info(String.format("Bye! It took: %s",
-        LocalTime.MIN.plusSeconds(duration).toString()));
+    if (parameters.doLog())
+      logger.info(String.format("Bye! It took: %s (%s records/s)",
+        LocalTime.MIN.plusSeconds(duration).toString(),
+        formatNumber((int) (numberOfRecords * 1000L / Math.max(1, end - start)))));
 
-    System.exit(0);
+    return saved;
+  }
+
+  private static String formatNumber(int number) {
+    return NUMBER_FORMAT.get().format(number);
+  }
+
+  private boolean canContinue() {
+    return processor.readyToProcess() && workerFailure.get() == null;
+  }
+
+  private void reportFailure(Exception ex) {
+    CommonParameters parameters = processor.getParameters();
+    if (ex instanceof SolrServerException) {
+      if (parameters.doLog())
+        logger.severe(ex.toString());
+      return;
+    }
+    if (parameters.doLog()) {
+      logger.severe("Other exception: " + ex.toString());
+
+      for (StackTraceElement element : ex.getStackTrace()) {
+        System.err.println(element.toString());
+      }
+      Throwable exa = ex;
+      while (exa.getCause() != null) {
+        System.err.println("cause");
+        exa = exa.getCause();
+        for (StackTraceElement element : exa.getStackTrace()) {
+          System.err.println(element.toString());
+        }
+      }
+    }
+    ex.printStackTrace();
+  }
+
+  private void finishPool(RecordWorkerPool pool) {
+    if (pool == null)
+      return;
+    try {
+      pool.finish();
+    } catch (InterruptedException e) {
+      logger.severe("Interrupted while waiting for the workers: " + e.getLocalizedMessage());
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Reads the records of a file and calls the file level callbacks of the target around them.
+   * @param target The processor (or the worker, if the files are processed in parallel)
+   * @param pool The pool processing the records, or null if the target processes them
+   */
+  private void processFile(MarcFileProcessor target, Path path, boolean readRawRecords, RecordWorkerPool pool)
+      throws Exception {
+    CommonParameters parameters = processor.getParameters();
+    String fileName = path.getFileName().toString();
+    if (parameters.doLog())
+      logger.info("processing: " + fileName);
+
+    target.fileOpened(path);
+    int numberOfRecords = readRawRecords
+      ? iterateRawRecords(target, path, fileName, pool)
+      : iterateRecords(target, path, fileName, pool);
+    target.fileProcessed();
+    if (parameters.doLog())
+      logger.info(String.format("Finished processing %s. Processed %s records.",
+        fileName, formatNumber(numberOfRecords)));
+  }
+
+  /**
+   * Processes a file on a worker. The first failure is kept, so the other workers stop, and the
+   * iteration fails when the workers have finished.
+   */
+  private void processFileOnWorker(MarcFileProcessor worker, Path path, boolean readRawRecords) {
+    if (!canContinue())
+      return;
+    try {
+      processFile(worker, path, readRawRecords, null);
+    } catch (Exception e) {
+      logger.severe(String.format("Error while processing %s: %s", path, e.getLocalizedMessage()));
+      workerFailure.compareAndSet(null, e);
+    }
+  }
+
+  /**
+   * Reads the records with a marc4j reader. The records are processed by the target, or - if
+   * there is a worker pool - by the workers.
+   */
+  private int iterateRecords(MarcFileProcessor target, Path path, String fileName, RecordWorkerPool pool)
+      throws Exception {
+    CommonParameters parameters = processor.getParameters();
+    MarcReader reader = (parameters.isAlephseq())
+      ? ReadMarc.getAlephseqMarcReader(path.toString())
+      : ReadMarc.getReader(path.toString(), parameters.isMarcxml(), parameters.isLineSeparated());
+    int numberOfRecords = 0;
+    while (reader.hasNext()) {
+      if (!canContinue())
+        break;
+
+      Record marc4jRecord = null;
+      try {
+        marc4jRecord = reader.next();
+      } catch (MarcException | NegativeArraySizeException | NumberFormatException e) {
+        logger.severe(
+          String.format(
+            "MARC record parsing problem at record #%d (last known ID: %s): %s",
+            (recordCounter.get() + 1), lastKnownId, e.getLocalizedMessage()));
+      } catch (Exception e) {
+        logger.severe("another exception");
+        e.printStackTrace();
+      }
+      int i = recordCounter.incrementAndGet();
+      numberOfRecords++;
+      if (marc4jRecord == null)
+        continue;
+
+      if (isUnderOffset(parameters.getOffset(), i)) {
+        continue;
+      }
+      if (isOverLimit(parameters.getLimit(), i)) {
+        break;
+      }
+
+      if (pool == null) {
+        processRecord(target, marc4jRecord, i, fileName);
+      } else {
+        final Record record = marc4jRecord;
+        pool.submit(worker -> processRecord(worker, record, i, fileName));
+      }
+    }
+    return numberOfRecords;
+  }
+
+  /**
+   * Splits an ISO 2709 file into records without decoding them, and passes them to the workers
+   * (or processes them with the target if there is no worker pool).
+   */
+  private int iterateRawRecords(MarcFileProcessor target, Path path, String fileName, RecordWorkerPool pool)
+      throws Exception {
+    CommonParameters parameters = processor.getParameters();
+    int numberOfRecords = 0;
+    try (RawRecordReader reader = new RawRecordReader(CompressedFiles.open(path.toString()))) {
+      byte[] rawRecord;
+      while (canContinue() && (rawRecord = reader.next()) != null) {
+        int i = recordCounter.incrementAndGet();
+        numberOfRecords++;
+        if (isUnderOffset(parameters.getOffset(), i)) {
+          continue;
+        }
+        if (isOverLimit(parameters.getLimit(), i)) {
+          break;
+        }
+
+        if (pool == null) {
+          processRawRecord(target, rawRecord, i, fileName);
+        } else {
+          final byte[] record = rawRecord;
+          pool.submit(worker -> processRawRecord(worker, record, i, fileName));
+        }
+      }
+    }
+    return numberOfRecords;
+  }
+
+  private void processRawRecord(MarcFileProcessor target, byte[] rawRecord, int i, String fileName) {
+    if (nativeReader) {
+      processNativeRecord(target, rawRecord, i, fileName);
+      return;
+    }
+
+    Record marc4jRecord = null;
+    try {
+      marc4jRecord = new MarcStreamReader(new ByteArrayInputStream(rawRecord)).next();
+    } catch (MarcException | NegativeArraySizeException | NumberFormatException e) {
+      logger.severe(
+        String.format(
+          "MARC record parsing problem at record #%d: %s",
+          i, e.getLocalizedMessage()));
+    }
+    if (marc4jRecord != null)
+      processRecord(target, marc4jRecord, i, fileName);
+  }
+
+  /**
+   * Creates the MarcRecord with the built-in ISO 2709 parser. There is no marc4j record, so only
+   * processRecord(MarcRecord, int) of the processor is called.
+   */
+  private void processNativeRecord(MarcFileProcessor target, byte[] rawRecord, int i, String fileName) {
+    CommonParameters parameters = processor.getParameters();
+    MarcRecord marcRecord = null;
+    try {
+      marcRecord = Iso2709Parser.parse(rawRecord, defaultRecordType, marcVersion, fixAlephseq);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      logger.severe(
+        String.format(
+          "MARC record parsing problem at record #%d (last known ID: %s): %s",
+          i, lastKnownId, e.getLocalizedMessage()));
+      return;
+    }
+
+    if (marcRecord.getControl001() == null) {
+      logger.severe("No record number at " + i + ", last known ID: " + lastKnownId);
+      return;
+    } else {
+      lastKnownId = marcRecord.getId();
+    }
+
+    if (parameters.hasId() && !marcRecord.getId().trim().equals(parameters.getId()))
+      return;
+
+    try {
+      target.processRecord(marcRecord, i);
+      if (i % 100000 == 0 && parameters.doLog())
+        logger.info(String.format("%s/%s (%s)", fileName, formatNumber(i), marcRecord.getId()));
+    } catch (Exception e) {
+      if (parameters.doLog())
+        logger.severe(String.format(
+          "Error (general) with record '%s'. %s",
+          marcRecord.getId(), e.getMessage()));
+      e.printStackTrace();
+    }
+  }
+
+  private void processRecord(MarcFileProcessor target, Record marc4jRecord, int i, String fileName) {
+    CommonParameters parameters = processor.getParameters();
+    if (marc4jRecord.getControlNumber() == null) {
+      logger.severe("No record number at " + i + ", last known ID: " + lastKnownId);
+      System.err.println(marc4jRecord);
+      return;
+    } else {
+      lastKnownId = marc4jRecord.getControlNumber();
+    }
+
+    if (parameters.hasId()
+      && !marc4jRecord.getControlNumber().trim().equals(parameters.getId())) {
+      return;
+    }
+
+    try {
+      target.processRecord(marc4jRecord, i);
+      MarcRecord marcRecord = MarcFactory.createFromMarc4j(marc4jRecord, defaultRecordType, marcVersion, fixAlephseq);
+      try {
+        target.processRecord(marcRecord, i);
+      } catch(Exception e) {
+        e.printStackTrace();
+      }
+
+      if (i % 100000 == 0 && parameters.doLog())
+        logger.info(String.format("%s/%s (%s)", fileName, formatNumber(i), marcRecord.getId()));
+
+    } catch (IllegalArgumentException e) {
+      if (marc4jRecord.getControlNumber() == null)
+        logger.severe("No record number at " + i);
+      if (parameters.doLog())
+        logger.severe(String.format(
+          "Error (illegal argument) with record '%s'. %s",
+          marc4jRecord.getControlNumber(), e.getMessage()));
+      e.printStackTrace();
+    } catch (Exception e) {
+      if (marc4jRecord.getControlNumber() == null)
+        logger.severe("No record number at " + i);
+      if (parameters.doLog())
+        logger.severe(String.format(
+          "Error (general) with record '%s'. %s",
+          marc4jRecord.getControlNumber(), e.getMessage()));
+      e.printStackTrace();
+    }
+  }
+
+  private boolean savePartialResult(String fileName, int numberOfRecords) {
+    if (processor instanceof CompositeProcessor)
+      return savePartialResults((CompositeProcessor) processor, fileName, numberOfRecords);
+
+    if (!(processor instanceof PartialResultProcessor)) {
+      logger.severe(String.format(
+        "%s can not save partial results.", processor.getClass().getSimpleName()));
+      return false;
+    }
+    return writePartialResult((PartialResultProcessor<?>) processor, numberOfRecords, new File(fileName));
+  }
+
+  /**
+   * Saves the partial result of every processor of the composite which can save it, each into
+   * its own file, named after the file name and the label of the processor
+   * (e.g. part1.partial.validate).
+   */
+  private boolean savePartialResults(CompositeProcessor composite, String fileName, int numberOfRecords) {
+    int saved = 0;
+    boolean failed = false;
+    List<MarcFileProcessor> processors = composite.getProcessors();
+    for (int i = 0; i < processors.size(); i++) {
+      MarcFileProcessor child = processors.get(i);
+      if (!(child instanceof PartialResultProcessor)) {
+        logger.warning(String.format(
+          "%s can not save partial results.", composite.getLabel(i)));
+        continue;
+      }
+      File file = new File(fileName + "." + composite.getLabel(i));
+      if (writePartialResult((PartialResultProcessor<?>) child, numberOfRecords, file))
+        saved++;
+      else
+        failed = true;
+    }
+    if (saved == 0)
+      logger.severe("None of the analyses can save partial results.");
+    return saved > 0 && !failed;
+  }
+
+  private boolean writePartialResult(PartialResultProcessor<?> partialResultProcessor,
+                                     int numberOfRecords, File file) {
+    try {
+      PartialResults.write(partialResultProcessor, numberOfRecords, file);
+      return true;
+    } catch (IOException e) {
+      logger.severe(String.format("Can not write the partial result file: %s", e.getLocalizedMessage()));
+      e.printStackTrace();
+      return false;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private RecordWorkerPool createWorkerPool(int threads) {
+    if (threads <= 1)
+      return null;
+
+    if (!(processor instanceof MergeableProcessor)
+        || !((MergeableProcessor<?>) processor).isMergeable()) {
+      logger.warning(String.format(
+        "%s can not run on several threads, the records will be processed on a single thread.",
+        processor.getClass().getSimpleName()));
+      return null;
+    }
+
+    if (processor.getParameters().doLog())
+      logger.info(String.format("processing records on %d threads", threads));
+    return new RecordWorkerPool((MergeableProcessor<MarcFileProcessor>) processor, threads);
   }
 
   private static boolean isOverLimit(int limit, int i) {
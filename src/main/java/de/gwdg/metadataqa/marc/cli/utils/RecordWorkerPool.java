@@ -0,0 +1,91 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * A fixed number of threads, each of them owns a worker created by a mergeable processor. The
+ * tasks are taken from a bounded queue, so the reading thread can not run too far ahead of the
+ * workers. Since the workers have their own state, the tasks do not need locking. When all the
+ * tasks are done, the workers are merged into the processor in the order of their creation.
+ * <p>
+ * The tasks run in the order the threads take them, so the record level output the workers write
+ * (e.g. the rows of the validation details) does not follow the order of the records in the input.
+ * A worker, which is not ready to process (e.g. its report file could not be written), skips its
+ * remaining tasks, and the queue is still drained, so the reading thread does not block.
+ */
+public class RecordWorkerPool {
+
+  private static final Logger logger = Logger.getLogger(RecordWorkerPool.class.getCanonicalName());
+  private static final int QUEUE_SIZE_PER_THREAD = 100;
+  private static final Consumer<MarcFileProcessor> END = worker -> {};
+
+  private final MergeableProcessor<MarcFileProcessor> processor;
+  private final BlockingQueue<Consumer<MarcFileProcessor>> queue;
+  private final List<MarcFileProcessor> workers = new ArrayList<>();
+  private final List<Thread> threads = new ArrayList<>();
+
+  public RecordWorkerPool(MergeableProcessor<MarcFileProcessor> processor, int numberOfThreads) {
+    this.processor = processor;
+    queue = new ArrayBlockingQueue<>(numberOfThreads * QUEUE_SIZE_PER_THREAD);
+    for (int i = 1; i <= numberOfThreads; i++) {
+      MarcFileProcessor worker = processor.createWorker();
+      workers.add(worker);
+      Thread thread = new Thread(() -> work(worker), "record-worker-" + i);
+      threads.add(thread);
+      thread.start();
+    }
+  }
+
+  /**
+   * Adds a task to the queue. It blocks if the queue is full.
+   * @param task A task which receives the worker of the thread running it
+   * @throws InterruptedException
+   */
+  public void submit(Consumer<MarcFileProcessor> task) throws InterruptedException {
+    queue.put(task);
+  }
+
+  /**
+   * Waits until all the submitted tasks are done, then merges the workers into the processor.
+   * @throws InterruptedException
+   */
+  public void finish() throws InterruptedException {
+    for (int i = 0; i < threads.size(); i++)
+      queue.put(END);
+    for (Thread thread : threads)
+      thread.join();
+    for (MarcFileProcessor worker : workers)
+      processor.merge(worker);
+  }
+
+  private void work(MarcFileProcessor worker) {
+    while (true) {
+      Consumer<MarcFileProcessor> task;
+      try {
+        task = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (task == END)
+        return;
+      if (!worker.readyToProcess())
+        continue;
+      try {
+        task.accept(worker);
+      } catch (Exception e) {
+        logger.severe(String.format("Error in %s: %s",
+          Thread.currentThread().getName(), e.getLocalizedMessage()));
+        e.printStackTrace();
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A buffered writer of a report file, which keeps the file open until it is closed, instead of
+ * opening and closing it for every record. It can compress the output with gzip, in that case
+ * the file name gets the ".gz" extension. It is safe to use from several threads: a single
+ * write() call never gets mixed with other writes.
+ */
+public class ReportWriter implements Closeable {
+
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+  public static final String GZIP_EXTENSION = ".gz";
+
+  private final File file;
+  private final Writer writer;
+
+  public ReportWriter(File file) throws IOException {
+    this(file, DEFAULT_BUFFER_SIZE, false);
+  }
+
+  /**
+   * Creates the writer. An existing file with the same name is overwritten.
+   * @param file The report file
+   * @param bufferSize The size of the buffer in bytes
+   * @param gzip Compress the output with gzip
+   * @throws IOException
+   */
+  public ReportWriter(File file, int bufferSize, boolean gzip) throws IOException {
+    this.file = gzip ? new File(file.getPath() + GZIP_EXTENSION) : file;
+    OutputStream out = new FileOutputStream(this.file, false);
+    if (gzip)
+      out = new GZIPOutputStream(out, bufferSize);
+    writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+  }
+
+  /**
+   * Creates a writer with the output settings (directory, buffer size, compression) of the
+   * parameters.
+   */
+  public static ReportWriter create(CommonParameters parameters, String fileName) throws IOException {
+    return new ReportWriter(
+      new File(parameters.getOutputDir(), fileName),
+      parameters.getOutputBufferSize(),
+      parameters.doGzipOutput()
+    );
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public void write(String text) throws IOException {
+    writer.write(text);
+  }
+
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+}
@@ -3,13 +3,15 @@ package de.gwdg.metadataqa.marc.cli.utils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
-import java.util.HashMap;
+import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class Schema {
+public class Schema implements Serializable {
 
-  private static int SCHEMA_COUNTER = 0;
-  private static Map<Schema, Integer> schemaCounter = new HashMap<>();
+  private static final AtomicInteger SCHEMA_COUNTER = new AtomicInteger(0);
+  private static Map<Schema, Integer> schemaCounter = new ConcurrentHashMap<>();
 
   int id;
   String field;
@@ -30,10 +32,16 @@ public class Schema {
   }
 
   private void setId() {
-    if (!schemaCounter.containsKey(this)) {
-      schemaCounter.put(this, ++SCHEMA_COUNTER);
-    }
-    this.id = schemaCounter.get(this);
+    this.id = schemaCounter.computeIfAbsent(this, schema -> SCHEMA_COUNTER.incrementAndGet());
+  }
+
+  /**
+   * The ids are assigned per JVM, so a schema coming from another JVM (e.g. from a Spark
+   * executor) gets the id of this JVM.
+   */
+  private Object readResolve() {
+    setId();
+    return this;
   }
 
   public String getField() {
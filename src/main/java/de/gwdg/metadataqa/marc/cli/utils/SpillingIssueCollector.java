@@ -0,0 +1,288 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Collects the identifiers of the records having a given validation error with a fixed memory
+ * budget. The (error, record) pairs are kept in a long array (the error identifier in the upper,
+ * the ordinal of the record within the current run in the lower 32 bits), and the record
+ * identifiers in a list. When the array is full, it is sorted and written into a run file as
+ * (error identifier, record ordinal) int pairs, followed by the identifiers of the records of
+ * the run, each of them only once. The run keeps the offsets of the identifiers in memory (4
+ * bytes per record). At the end the runs are merged, so the records of an error are listed in a
+ * single pass over the pairs. Within an error the ordinals are increasing, so the identifiers are
+ * read forward through a window of the file.
+ */
+public class SpillingIssueCollector implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(SpillingIssueCollector.class.getCanonicalName());
+
+  public static final int DEFAULT_BUFFER_SIZE = 1000000;
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private final File directory;
+  private long[] pairs;
+  private int size = 0;
+  private List<String> recordIds = new ArrayList<>();
+  // the upper limit of the UTF-8 length of the buffered record identifiers
+  private long maxIdBytes = 0;
+  private final List<Run> runs = new ArrayList<>();
+
+  /**
+   * @param directory The directory of the temporary run files
+   * @param bufferSize The number of (error, record) pairs kept in memory
+   */
+  public SpillingIssueCollector(File directory, int bufferSize) {
+    this.directory = directory;
+    pairs = new long[bufferSize];
+  }
+
+  /**
+   * Registers the errors of a record. Each error should be given only once.
+   */
+  public void add(String recordId, Collection<Integer> errorIds) throws IOException {
+    if (errorIds.isEmpty())
+      return;
+    // the identifiers of a run are addressed by int offsets
+    long idBytes = 3L * recordId.length();
+    if (size > 0 && (size + errorIds.size() > pairs.length || maxIdBytes + idBytes > Integer.MAX_VALUE))
+      spill();
+    if (errorIds.size() > pairs.length)
+      pairs = Arrays.copyOf(pairs, errorIds.size());
+
+    long ordinal = recordIds.size();
+    recordIds.add(recordId);
+    maxIdBytes += idBytes;
+    for (Integer errorId : errorIds)
+      pairs[size++] = ((long) errorId << 32) | ordinal;
+  }
+
+  /**
+   * Takes over the runs and the buffered pairs of another collector. The error identifiers
+   * of the other collector should already be the same as ours.
+   */
+  public void merge(SpillingIssueCollector other) throws IOException {
+    spill();
+    other.spill();
+    runs.addAll(other.runs);
+    other.runs.clear();
+  }
+
+  /**
+   * Merges the runs and passes the lines of the issue collector report to the output: the error
+   * identifier and the semicolon separated list of the record identifiers. A line is passed in
+   * several pieces, so a frequent error does not need a huge String.
+   * @param maxIdsPerLine If positive, the list of an error is broken into lines of this size
+   */
+  public void write(char separator, int maxIdsPerLine, Consumer<String> output) throws IOException {
+    LineWriter lineWriter = new LineWriter(separator, maxIdsPerLine, output);
+    forEachIssue(lineWriter);
+    lineWriter.finish();
+  }
+
+  /**
+   * Merges the runs and passes the (error, record) pairs to the consumer, ordered by the error
+   * identifiers.
+   */
+  public void forEachIssue(IssueConsumer consumer) throws IOException {
+    spill();
+    PriorityQueue<RunReader> queue = new PriorityQueue<>();
+    try {
+      for (Run run : runs) {
+        RunReader reader = new RunReader(run);
+        if (reader.next())
+          queue.add(reader);
+        else
+          reader.close();
+      }
+
+      while (!queue.isEmpty()) {
+        RunReader reader = queue.poll();
+        consumer.accept(reader.errorId, reader.recordId);
+        if (reader.next())
+          queue.add(reader);
+        else
+          reader.close();
+      }
+    } finally {
+      for (RunReader reader : queue)
+        reader.close();
+    }
+  }
+
+  public interface IssueConsumer {
+    void accept(int errorId, String recordId) throws IOException;
+  }
+
+  private static class LineWriter implements IssueConsumer {
+    private final char separator;
+    private final int maxIdsPerLine;
+    private final Consumer<String> output;
+    private int currentErrorId = 0;
+    private int idsInLine = 0;
+
+    LineWriter(char separator, int maxIdsPerLine, Consumer<String> output) {
+      this.separator = separator;
+      this.maxIdsPerLine = maxIdsPerLine;
+      this.output = output;
+    }
+
+    @Override
+    public void accept(int errorId, String recordId) {
+      if (errorId != currentErrorId || (maxIdsPerLine > 0 && idsInLine == maxIdsPerLine)) {
+        if (currentErrorId != 0)
+          output.accept("\n");
+        currentErrorId = errorId;
+        output.accept(String.valueOf(currentErrorId) + separator + recordId);
+        idsInLine = 1;
+      } else {
+        output.accept(";" + recordId);
+        idsInLine++;
+      }
+    }
+
+    void finish() {
+      if (currentErrorId != 0)
+        output.accept("\n");
+    }
+  }
+
+  /**
+   * Sorts the buffered pairs and writes them into a new run file.
+   */
+  private void spill() throws IOException {
+    if (size == 0)
+      return;
+    Arrays.sort(pairs, 0, size);
+    File file = File.createTempFile("issue-collector-", ".run", directory);
+    file.deleteOnExit();
+    int[] idOffsets = new int[recordIds.size() + 1];
+    try (DataOutputStream out = new DataOutputStream(
+           new BufferedOutputStream(new FileOutputStream(file), IO_BUFFER_SIZE))) {
+      for (int i = 0; i < size; i++) {
+        out.writeInt((int) (pairs[i] >>> 32));
+        out.writeInt((int) pairs[i]);
+      }
+      for (int i = 0; i < recordIds.size(); i++) {
+        byte[] id = recordIds.get(i).getBytes(StandardCharsets.UTF_8);
+        out.write(id);
+        idOffsets[i + 1] = idOffsets[i] + id.length;
+      }
+    }
+    runs.add(new Run(file, size, idOffsets));
+    size = 0;
+    recordIds = new ArrayList<>();
+    maxIdBytes = 0;
+  }
+
+  public int getNumberOfRuns() {
+    return runs.size();
+  }
+
+  /**
+   * Removes the run files.
+   */
+  @Override
+  public void close() {
+    for (Run run : runs)
+      if (!run.file.delete())
+        logger.warning("Can not delete " + run.file.getPath());
+    runs.clear();
+    size = 0;
+    recordIds = new ArrayList<>();
+    maxIdBytes = 0;
+  }
+
+  private static class Run {
+    final File file;
+    final int size;
+    // the offsets of the record identifiers from the end of the pairs, by record ordinal
+    final int[] idOffsets;
+
+    Run(File file, int size, int[] idOffsets) {
+      this.file = file;
+      this.size = size;
+      this.idOffsets = idOffsets;
+    }
+  }
+
+  /**
+   * Reads the entries of a run. The readers are ordered by their current entry: error identifier
+   * first, then the position of the run, so the order of the records is kept.
+   */
+  private class RunReader implements Comparable<RunReader>, Closeable {
+    private final DataInputStream in;
+    private final RandomAccessFile ids;
+    private final int[] idOffsets;
+    private final long idStart;
+    private final int position;
+    private int remaining;
+    // the part of the identifiers read last
+    private byte[] window = new byte[IO_BUFFER_SIZE];
+    private int windowStart = 0;
+    private int windowLength = 0;
+    int errorId;
+    String recordId;
+
+    RunReader(Run run) throws IOException {
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file), IO_BUFFER_SIZE));
+      ids = new RandomAccessFile(run.file, "r");
+      idOffsets = run.idOffsets;
+      idStart = 8L * run.size;
+      position = runs.indexOf(run);
+      remaining = run.size;
+    }
+
+    boolean next() throws IOException {
+      if (remaining == 0)
+        return false;
+      errorId = in.readInt();
+      recordId = readId(in.readInt());
+      remaining--;
+      return true;
+    }
+
+    private String readId(int ordinal) throws IOException {
+      int start = idOffsets[ordinal];
+      int length = idOffsets[ordinal + 1] - start;
+      if (start < windowStart || start + length > windowStart + windowLength) {
+        if (length > window.length)
+          window = new byte[length];
+        windowStart = start;
+        windowLength = Math.min(window.length, idOffsets[idOffsets.length - 1] - start);
+        ids.seek(idStart + start);
+        ids.readFully(window, 0, windowLength);
+      }
+      return new String(window, start - windowStart, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int compareTo(RunReader other) {
+      int result = Integer.compare(errorId, other.errorId);
+      return result != 0 ? result : Integer.compare(position, other.position);
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+      ids.close();
+    }
+  }
+}
@@ -0,0 +1,325 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.marc.DataField;
+import de.gwdg.metadataqa.marc.MarcControlField;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.MarcSubfield;
+import de.gwdg.metadataqa.marc.analysis.StatisticsIO;
+import de.gwdg.metadataqa.marc.model.validation.ValidationError;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the validation result of each record between the runs of the Validator, so only the
+ * records which have been changed since the last run should be validated again. A record is
+ * identified by its 001, and its version by a fingerprint: the hash of its content, or of its
+ * 005 (date and time of latest transaction).
+ * <p>
+ * The results of the previous run are read into memory. Each record found in the input is
+ * removed from them, and its result, either taken over or newly created, is written into a new
+ * file. At the end the new file replaces the old one, so the records which are not in the input
+ * anymore are dropped, unless the run processed only a part of the input (see close()).
+ * <p>
+ * The file contains a header, the entries (record identifier, fingerprint, validity, error
+ * numbers) and the list of the distinct errors the numbers refer to. The file is valid only
+ * with the same configuration (tool version, MARC version, default record type, summary mode
+ * etc.), otherwise it is ignored.
+ */
+public class ValidationCache implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(ValidationCache.class.getCanonicalName());
+
+  private static final int MAGIC = 0x4D514356;
+  private static final int FORMAT_VERSION = 1;
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final File file;
+  private final File newFile;
+  private final String configuration;
+
+  private final Map<String, Entry> previous = new ConcurrentHashMap<>();
+  private ValidationError[] previousErrors = new ValidationError[0];
+
+  private final DataOutputStream out;
+  private final Map<ValidationError, Integer> errorNumbers = new HashMap<>();
+  private final List<ValidationError> errors = new ArrayList<>();
+  private long numberOfEntries = 0;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  private static class Entry {
+    private final long fingerprint;
+    private final boolean isValid;
+    private final int[] errors;
+
+    Entry(long fingerprint, boolean isValid, int[] errors) {
+      this.fingerprint = fingerprint;
+      this.isValid = isValid;
+      this.errors = errors;
+    }
+  }
+
+  /**
+   * The validation result of a record.
+   */
+  public static class Result {
+    private final boolean isValid;
+    private final List<ValidationError> errors;
+
+    public Result(boolean isValid, List<ValidationError> errors) {
+      this.isValid = isValid;
+      this.errors = errors;
+    }
+
+    public boolean isValid() {
+      return isValid;
+    }
+
+    public List<ValidationError> getErrors() {
+      return errors;
+    }
+  }
+
+  /**
+   * @param file The cache file. It is created if it does not exist.
+   * @param configuration The parameters the validation result depends on
+   */
+  public ValidationCache(File file, String configuration) throws IOException {
+    this.file = file;
+    this.configuration = configuration;
+    newFile = new File(file.getPath() + ".new");
+    if (file.exists())
+      readPrevious();
+
+    out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(newFile), IO_BUFFER_SIZE));
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    out.writeUTF(configuration);
+  }
+
+  private void readPrevious() throws IOException {
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(file), IO_BUFFER_SIZE))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        logger.warning(String.format("%s is not a validation cache, all records will be validated", file));
+        return;
+      }
+      String previousConfiguration = in.readUTF();
+      if (!previousConfiguration.equals(configuration)) {
+        logger.info(String.format(
+          "The validation cache has been created with other parameters (%s), all records will be validated",
+          previousConfiguration));
+        return;
+      }
+
+      while (in.readBoolean()) {
+        String recordId = in.readUTF();
+        long fingerprint = in.readLong();
+        boolean isValid = in.readBoolean();
+        int[] numbers = new int[in.readInt()];
+        for (int i = 0; i < numbers.length; i++)
+          numbers[i] = in.readInt();
+        previous.put(recordId, new Entry(fingerprint, isValid, numbers));
+      }
+
+      previousErrors = new ValidationError[in.readInt()];
+      for (int i = 0; i < previousErrors.length; i++)
+        previousErrors[i] = readError(in, null);
+    } catch (EOFException e) {
+      logger.warning(String.format("%s is truncated, all records will be validated", file));
+      previous.clear();
+      previousErrors = new ValidationError[0];
+    }
+    logger.info(String.format("validation cache: %d records", previous.size()));
+  }
+
+  /**
+   * Returns the cached result of the record if its fingerprint has not been changed, otherwise
+   * null. The errors are new instances, so the caller might change them.
+   */
+  public Result get(String recordId, long fingerprint) {
+    Entry entry = previous.remove(recordId);
+    if (entry == null || entry.fingerprint != fingerprint) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    List<ValidationError> cachedErrors = new ArrayList<>(entry.errors.length);
+    for (int number : entry.errors)
+      cachedErrors.add(copy(previousErrors[number], recordId));
+    return new Result(entry.isValid, cachedErrors);
+  }
+
+  /**
+   * Stores the result of the record for the next run.
+   */
+  public synchronized void put(String recordId, long fingerprint, Result result) throws IOException {
+    int[] numbers = new int[result.getErrors().size()];
+    for (int i = 0; i < numbers.length; i++)
+      numbers[i] = register(result.getErrors().get(i));
+    writeEntry(recordId, fingerprint, result.isValid(), numbers);
+  }
+
+  private int register(ValidationError error) {
+    Integer number = errorNumbers.get(error);
+    if (number == null) {
+      number = errors.size();
+      ValidationError template = copy(error, null);
+      errors.add(template);
+      errorNumbers.put(template, number);
+    }
+    return number;
+  }
+
+  private void writeEntry(String recordId, long fingerprint, boolean isValid, int[] numbers) throws IOException {
+    out.writeBoolean(true);
+    out.writeUTF(recordId);
+    out.writeLong(fingerprint);
+    out.writeBoolean(isValid);
+    out.writeInt(numbers.length);
+    for (int number : numbers)
+      out.writeInt(number);
+    numberOfEntries++;
+  }
+
+  /**
+   * @return The number of the records in the previous run which have not been found in this run
+   *   so far
+   */
+  public int getNumberOfMissingRecords() {
+    return previous.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Writes the errors, and replaces the old file with the new one.
+   * @param keepMissingRecords Whether to keep the results of the records which have not been
+   *   found in the input (e.g. when only a part of the input has been processed)
+   */
+  public synchronized void close(boolean keepMissingRecords) throws IOException {
+    int missing = previous.size();
+    if (keepMissingRecords) {
+      for (Map.Entry<String, Entry> entry : previous.entrySet()) {
+        int[] numbers = new int[entry.getValue().errors.length];
+        for (int i = 0; i < numbers.length; i++)
+          numbers[i] = register(previousErrors[entry.getValue().errors[i]]);
+        writeEntry(entry.getKey(), entry.getValue().fingerprint, entry.getValue().isValid, numbers);
+      }
+    }
+    previous.clear();
+
+    out.writeBoolean(false);
+    out.writeInt(errors.size());
+    for (ValidationError error : errors)
+      writeError(out, error);
+    out.close();
+    Files.move(newFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+    logger.info(String.format(
+      "validation cache: %d records taken over, %d validated, %d %s; %d records stored",
+      hits.get(), misses.get(), missing,
+      keepMissingRecords ? "not processed (kept)" : "not in the input anymore (removed)",
+      numberOfEntries));
+  }
+
+  @Override
+  public void close() throws IOException {
+    close(false);
+  }
+
+  private static ValidationError copy(ValidationError error, String recordId) {
+    return new ValidationError(recordId, error.getMarcPath(), error.getType(), error.getMessage(), error.getUrl());
+  }
+
+  private static void writeError(DataOutputStream out, ValidationError error) throws IOException {
+    StatisticsIO.writeString(out, error.getMarcPath());
+    out.writeUTF(error.getType().name());
+    StatisticsIO.writeString(out, error.getMessage());
+    StatisticsIO.writeString(out, error.getUrl());
+  }
+
+  private static ValidationError readError(DataInputStream in, String recordId) throws IOException {
+    return new ValidationError(recordId, StatisticsIO.readString(in),
+      ValidationErrorType.valueOf(in.readUTF()), StatisticsIO.readString(in), StatisticsIO.readString(in));
+  }
+
+  /**
+   * @param by005 Use the 005 (date and time of latest transaction) instead of the whole content.
+   *   If the record has no 005, its content is used.
+   * @return The fingerprint of the version of the record
+   */
+  public static long fingerprint(MarcRecord record, boolean by005) {
+    if (by005 && record.getControl005() != null && record.getControl005().getContent() != null)
+      return hash(FNV_OFFSET_BASIS, record.getControl005().getContent());
+    return contentHash(record);
+  }
+
+  /**
+   * The 64 bit FNV-1a hash of everything the validation depends on: the leader, the control
+   * fields, the indicators and the subfields of the data fields, and the unhandled tags.
+   */
+  public static long contentHash(MarcRecord record) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = hash(hash, record.getLeader() == null ? null : record.getLeader().getLeaderString());
+    for (MarcControlField field : record.getControlfields())
+      hash = hash(hash, field == null ? null : field.getContent());
+    for (DataField field : record.getDatafields()) {
+      hash = hash(hash, field.getTag());
+      hash = hash(hash, field.getInd1());
+      hash = hash(hash, field.getInd2());
+      for (MarcSubfield subfield : field.parseSubfields()) {
+        hash = hash(hash, subfield.getCode());
+        hash = hash(hash, subfield.getValue());
+      }
+    }
+    for (String tag : record.getUnhandledTags())
+      hash = hash(hash, tag);
+    return hash;
+  }
+
+  /**
+   * Adds the string to the hash. The strings are separated by a value which is not a char, and
+   * null differs from the empty string.
+   */
+  private static long hash(long hash, String value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        hash ^= value.charAt(i);
+        hash *= FNV_PRIME;
+      }
+    }
+    hash ^= value == null ? 0x10001 : 0x10000;
+    hash *= FNV_PRIME;
+    return hash;
+  }
+}
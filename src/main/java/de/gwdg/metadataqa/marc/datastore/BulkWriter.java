@@ -0,0 +1,256 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Sends documents to a data store in batches from a few sender threads, so the import is not
+ * bounded by the latency of one request per record. The batches wait in a bounded queue: if the
+ * store is slower than the producer, add() blocks until a sender takes a batch. A batch is sent
+ * when it is full, or by a timer if it is older than the flush interval. Failed requests, and the
+ * documents the store rejected for a temporary reason, are retried with exponential backoff.
+ *
+ * @param <T> The type of the documents
+ */
+public abstract class BulkWriter<T> implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(BulkWriter.class.getCanonicalName());
+
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+  public static final int DEFAULT_THREADS = 2;
+  public static final int DEFAULT_FLUSH_INTERVAL = 1000;
+  public static final int DEFAULT_MAX_RETRIES = 5;
+  public static final int DEFAULT_INITIAL_BACKOFF = 100;
+
+  private final List<T> END = Collections.emptyList();
+
+  private final String name;
+  private final int batchSize;
+  private final int maxRetries;
+  private final long initialBackoff;
+
+  private final BlockingQueue<List<T>> queue;
+  private final List<Thread> senders = new ArrayList<>();
+  private final ScheduledExecutorService timer;
+  private List<T> batch;
+  private long batchCreated;
+  private final long flushInterval;
+  private int pendingBatches = 0;
+  private boolean closed = false;
+
+  private final AtomicLong sentDocuments = new AtomicLong();
+  private final AtomicLong failedDocuments = new AtomicLong();
+
+  /**
+   * @param name The name of the store in the thread names and in the log
+   * @param batchSize The number of documents in a request
+   * @param threads The number of threads sending the requests
+   * @param flushInterval The maximal age of a batch in milliseconds
+   * @param maxRetries The number of retries of a failed request
+   * @param initialBackoff The wait before the first retry in milliseconds, doubled with each retry
+   */
+  protected BulkWriter(String name, int batchSize, int threads, int flushInterval,
+                       int maxRetries, long initialBackoff) {
+    this.name = name;
+    this.batchSize = batchSize;
+    this.maxRetries = maxRetries;
+    this.initialBackoff = initialBackoff;
+    this.flushInterval = flushInterval;
+    batch = new ArrayList<>(batchSize);
+    queue = new ArrayBlockingQueue<>(threads * 2);
+
+    for (int i = 0; i < threads; i++) {
+      Thread sender = new Thread(this::sendBatches, name + "-sender-" + i);
+      sender.setDaemon(true);
+      sender.start();
+      senders.add(sender);
+    }
+
+    timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, name + "-flush-timer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    timer.scheduleWithFixedDelay(this::flushOldBatch, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Sends a batch in one request. The documents stored should be counted with documentsSent(),
+   * the ones rejected as invalid with documentsFailed().
+   * @return The documents rejected for a temporary reason (e.g. the store is overloaded), which
+   *   should be sent again
+   * @throws Exception If the request failed, see isRetriable()
+   */
+  protected abstract List<T> send(List<T> documents) throws Exception;
+
+  /**
+   * @return Whether a request failed with this exception should be sent again
+   */
+  protected abstract boolean isRetriable(Exception e);
+
+  /**
+   * @return The identifier of the document in the log
+   */
+  protected abstract String describe(T document);
+
+  /**
+   * Adds a document to the current batch. Blocks if the queue of the batches is full.
+   */
+  public void add(T document) throws InterruptedException {
+    List<T> full = null;
+    synchronized (this) {
+      if (closed)
+        throw new IllegalStateException("The writer has been closed");
+      if (batch.isEmpty())
+        batchCreated = System.currentTimeMillis();
+      batch.add(document);
+      if (batch.size() >= batchSize)
+        full = takeBatch();
+    }
+    if (full != null)
+      queue.put(full);
+  }
+
+  /**
+   * Sends the current batch and waits until all the batches are sent.
+   */
+  public void flush() throws InterruptedException {
+    List<T> rest;
+    synchronized (this) {
+      rest = takeBatch();
+    }
+    if (rest != null)
+      queue.put(rest);
+    synchronized (this) {
+      while (pendingBatches > 0)
+        wait();
+    }
+  }
+
+  private void flushOldBatch() {
+    List<T> old = null;
+    synchronized (this) {
+      if (!batch.isEmpty() && System.currentTimeMillis() - batchCreated >= flushInterval)
+        old = takeBatch();
+    }
+    try {
+      if (old != null)
+        queue.put(old);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Replaces the current batch with an empty one, and registers it as pending.
+   */
+  private synchronized List<T> takeBatch() {
+    if (batch.isEmpty())
+      return null;
+    List<T> taken = batch;
+    batch = new ArrayList<>(batchSize);
+    pendingBatches++;
+    return taken;
+  }
+
+  private synchronized void batchDone() {
+    pendingBatches--;
+    notifyAll();
+  }
+
+  private void sendBatches() {
+    try {
+      while (true) {
+        List<T> documents = queue.take();
+        if (documents == END)
+          break;
+        try {
+          sendWithRetries(documents);
+        } finally {
+          batchDone();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sendWithRetries(List<T> documents) throws InterruptedException {
+    long backoff = initialBackoff;
+    for (int attempt = 0; ; attempt++) {
+      try {
+        documents = send(documents);
+        if (documents.isEmpty())
+          return;
+        if (attempt >= maxRetries) {
+          documentsFailed(documents, String.format("rejected after %d retries", maxRetries));
+          return;
+        }
+        logger.warning(String.format("%s rejected %d documents, retrying in %d ms",
+          name, documents.size(), backoff));
+      } catch (Exception e) {
+        if (!isRetriable(e) || attempt >= maxRetries) {
+          documentsFailed(documents, e.getMessage());
+          return;
+        }
+        logger.warning(String.format("%s is not available (%s), retrying in %d ms", name, e.getMessage(), backoff));
+      }
+      Thread.sleep(backoff);
+      backoff *= 2;
+    }
+  }
+
+  protected void documentsSent(int count) {
+    sentDocuments.addAndGet(count);
+  }
+
+  protected void documentsFailed(List<T> documents, String reason) {
+    failedDocuments.addAndGet(documents.size());
+    logger.severe(String.format(
+      "Failed to write %d documents to %s (first id: %s): %s",
+      documents.size(), name, describe(documents.get(0)), reason));
+  }
+
+  public long getSentDocuments() {
+    return sentDocuments.get();
+  }
+
+  public long getFailedDocuments() {
+    return failedDocuments.get();
+  }
+
+  /**
+   * Sends the remaining documents and stops the threads. The client of the store is not closed.
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (closed)
+        return;
+    }
+    try {
+      flush();
+      synchronized (this) {
+        closed = true;
+      }
+      timer.shutdownNow();
+      for (int i = 0; i < senders.size(); i++)
+        queue.put(END);
+      for (Thread sender : senders)
+        sender.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while closing the " + name + " writer", e);
+    }
+  }
+}
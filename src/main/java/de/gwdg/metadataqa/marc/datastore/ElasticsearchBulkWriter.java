@@ -0,0 +1,127 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes documents with the Elasticsearch _bulk API (see BulkWriter). A request contains an
+ * index action and the source of every document, as newline delimited JSON. The documents
+ * rejected because the cluster is overloaded (HTTP 429) or failing (5xx) are sent again, the
+ * invalid ones are counted as failed.
+ */
+public class ElasticsearchBulkWriter extends BulkWriter<Map<String, Object>> {
+
+  private static final ContentType NDJSON = ContentType.create("application/x-ndjson", "UTF-8");
+  private static final int BYTES_PER_DOCUMENT = 1024;
+
+  private final MarcElasticsearchClient client;
+  private final String index;
+  private final String type;
+  private final String idField;
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * @param client The Elasticsearch client
+   * @param index The name of the index
+   * @param type The document type
+   * @param idField The field of the documents containing their identifier
+   */
+  public ElasticsearchBulkWriter(MarcElasticsearchClient client, String index, String type, String idField) {
+    this(client, index, type, idField, DEFAULT_BATCH_SIZE, DEFAULT_THREADS, DEFAULT_FLUSH_INTERVAL);
+  }
+
+  public ElasticsearchBulkWriter(MarcElasticsearchClient client, String index, String type, String idField,
+                                 int batchSize, int threads, int flushInterval) {
+    this(client, index, type, idField, batchSize, threads, flushInterval,
+      DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF);
+  }
+
+  public ElasticsearchBulkWriter(MarcElasticsearchClient client, String index, String type, String idField,
+                                 int batchSize, int threads, int flushInterval,
+                                 int maxRetries, long initialBackoff) {
+    super("elasticsearch", batchSize, threads, flushInterval, maxRetries, initialBackoff);
+    this.client = client;
+    this.index = index;
+    this.type = type;
+    this.idField = idField;
+  }
+
+  @Override
+  protected List<Map<String, Object>> send(List<Map<String, Object>> documents) throws IOException {
+    Response response = client.bulk(new ByteArrayEntity(createBody(documents), NDJSON));
+
+    JsonNode root;
+    try (InputStream in = response.getEntity().getContent()) {
+      root = mapper.readTree(in);
+    }
+    if (!root.path("errors").asBoolean()) {
+      documentsSent(documents.size());
+      return Collections.emptyList();
+    }
+
+    // the items of the response are in the order of the actions
+    List<Map<String, Object>> rejected = new ArrayList<>();
+    List<Map<String, Object>> failed = new ArrayList<>();
+    String reason = null;
+    JsonNode items = root.path("items");
+    for (int i = 0; i < documents.size(); i++) {
+      JsonNode result = items.path(i).path("index");
+      int status = result.path("status").asInt();
+      if (status >= 200 && status < 300) {
+        continue;
+      } else if (status == 429 || status >= 500) {
+        rejected.add(documents.get(i));
+      } else {
+        failed.add(documents.get(i));
+        if (reason == null)
+          reason = result.path("error").toString();
+      }
+    }
+    documentsSent(documents.size() - rejected.size() - failed.size());
+    if (!failed.isEmpty())
+      documentsFailed(failed, reason);
+    return rejected;
+  }
+
+  byte[] createBody(List<Map<String, Object>> documents) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(documents.size() * BYTES_PER_DOCUMENT);
+    for (Map<String, Object> document : documents) {
+      Map<String, Object> metadata = new LinkedHashMap<>();
+      metadata.put("_index", index);
+      metadata.put("_type", type);
+      metadata.put("_id", document.get(idField));
+      body.write(mapper.writeValueAsBytes(Collections.singletonMap("index", metadata)));
+      body.write('\n');
+      body.write(mapper.writeValueAsBytes(document));
+      body.write('\n');
+    }
+    return body.toByteArray();
+  }
+
+  @Override
+  protected boolean isRetriable(Exception e) {
+    if (e instanceof ResponseException) {
+      int status = ((ResponseException) e).getResponse().getStatusLine().getStatusCode();
+      return status == 429 || status >= 500;
+    }
+    return e instanceof IOException;
+  }
+
+  @Override
+  protected String describe(Map<String, Object> document) {
+    return String.valueOf(document.get(idField));
+  }
+}
@@ -65,6 +65,19 @@ public class MarcElasticsearchClient {
     return response;
   }
 
+  /**
+   * Sends a request to the _bulk API.
+   * @param entity The actions and the documents as newline delimited JSON
+   * @see ElasticsearchBulkWriter
+   */
+  public Response bulk(HttpEntity entity) throws IOException {
+    return restClient.performRequest(
+      "POST",
+      "/_bulk",
+      Collections.<String, String>emptyMap(),
+      entity);
+  }
+
   public Response indexTweet(int id, String user, String message) throws IOException {
     HttpEntity entity = new NStringEntity(
       String.format("{\"user\" : \"%s\", \"message\" : \"%s\"}", user, message),
@@ -99,4 +112,7 @@ public class MarcElasticsearchClient {
     return hits;
   }
 
+  public void close() throws IOException {
+    restClient.close();
+  }
 }
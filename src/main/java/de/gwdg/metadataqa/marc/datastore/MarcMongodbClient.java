@@ -23,4 +23,7 @@ public class MarcMongodbClient {
     return db.getCollection(collectionName);
   }
 
+  public void close() {
+    mongoClient.close();
+  }
 }
@@ -9,10 +9,13 @@ import org.apache.solr.common.SolrInputDocument;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.logging.Logger;
 
 public class MarcSolrClient {
+  private static final Logger logger = Logger.getLogger(MarcSolrClient.class.getCanonicalName());
   private String defaultUrl = "http://localhost:8983/solr/techproducts";
   private SolrClient solr;
+  private SolrBulkIndexer bulkIndexer = null;
   private boolean trimId = false;
 
   public MarcSolrClient() {
@@ -23,10 +26,27 @@ public class MarcSolrClient {
     initialize(url);
   }
 
+  public MarcSolrClient(SolrClient solr) {
+    this.solr = solr;
+  }
+
   private void initialize(String url) {
     solr = new HttpSolrClient.Builder(url).build();
   }
 
+  /**
+   * Sends the documents in batches from background threads instead of one request per document.
+   * The documents are committed by Solr with commitWithin.
+   * @see SolrBulkIndexer
+   */
+  public void useBulkIndexing(int batchSize, int threads, int flushInterval, int commitWithin) {
+    bulkIndexer = new SolrBulkIndexer(solr, batchSize, threads, flushInterval, commitWithin);
+  }
+
+  public boolean isBulkIndexing() {
+    return bulkIndexer != null;
+  }
+
   public void indexMap(String id, Map<String, List<String>> objectMap)
       throws IOException, SolrServerException {
     SolrInputDocument document = new SolrInputDocument();
@@ -40,6 +60,23 @@ public class MarcSolrClient {
         document.addField(key, value);
       }
     }
+    indexDocument(document);
+  }
+
+  /**
+   * Sends a document, created for example by SolrDocumentBuilder.
+   */
+  public void indexDocument(SolrInputDocument document)
+      throws IOException, SolrServerException {
+    if (bulkIndexer != null) {
+      try {
+        bulkIndexer.add(document);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for Solr", e);
+      }
+      return;
+    }
 
     try {
       UpdateResponse response = solr.add(document);
@@ -73,10 +110,30 @@ public class MarcSolrClient {
 
   public void commit() {
     try {
+      if (bulkIndexer != null)
+        bulkIndexer.flush();
       solr.commit();
     } catch (IOException | SolrServerException e) {
       e.printStackTrace();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Sends the remaining documents of the bulk indexer and stops its threads.
+   */
+  public void close() {
+    if (bulkIndexer == null)
+      return;
+    try {
+      bulkIndexer.close();
+      logger.info(String.format("indexed documents: %d, failed: %d",
+        bulkIndexer.getSentDocuments(), bulkIndexer.getFailedDocuments()));
+    } catch (IOException e) {
+      e.printStackTrace();
     }
+    bulkIndexer = null;
   }
 
   public void optimize() {
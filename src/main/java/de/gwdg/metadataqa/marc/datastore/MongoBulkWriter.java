@@ -0,0 +1,98 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts documents into a MongoDB collection in unordered bulk operations (see BulkWriter). In
+ * an unordered operation an invalid document (e.g. a duplicate key) does not stop the insertion
+ * of the others; those documents are counted as failed and are not retried. The documents which
+ * were rejected for a temporary reason (e.g. the primary stepped down) are sent again.
+ */
+public class MongoBulkWriter extends BulkWriter<DBObject> {
+
+  // the error codes of the server, which mean that the document could be inserted later:
+  // ExceededTimeLimit, ShutdownInProgress, PrimarySteppedDown, NotMaster, InterruptedAtShutdown,
+  // InterruptedDueToReplStateChange, NotMasterNoSlaveOk, and request rate is large (Cosmos DB)
+  static final Set<Integer> TEMPORARY_ERRORS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+    50, 91, 189, 10107, 11600, 11602, 13435, 16500
+  )));
+
+  private final DBCollection collection;
+
+  public MongoBulkWriter(DBCollection collection) {
+    this(collection, DEFAULT_BATCH_SIZE, DEFAULT_THREADS, DEFAULT_FLUSH_INTERVAL);
+  }
+
+  public MongoBulkWriter(DBCollection collection, int batchSize, int threads, int flushInterval) {
+    this(collection, batchSize, threads, flushInterval, DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF);
+  }
+
+  public MongoBulkWriter(DBCollection collection, int batchSize, int threads, int flushInterval,
+                         int maxRetries, long initialBackoff) {
+    super("mongodb", batchSize, threads, flushInterval, maxRetries, initialBackoff);
+    this.collection = collection;
+  }
+
+  @Override
+  protected List<DBObject> send(List<DBObject> documents) {
+    List<BulkWriteError> errors = insert(documents);
+    List<DBObject> failed = new ArrayList<>();
+    List<DBObject> rejected = new ArrayList<>();
+    String reason = null;
+    // the errors refer to the documents by their index in the batch
+    for (BulkWriteError error : errors) {
+      if (TEMPORARY_ERRORS.contains(error.getCode())) {
+        rejected.add(documents.get(error.getIndex()));
+      } else {
+        failed.add(documents.get(error.getIndex()));
+        if (reason == null)
+          reason = error.getMessage();
+      }
+    }
+    documentsSent(documents.size() - failed.size() - rejected.size());
+    if (!failed.isEmpty())
+      documentsFailed(failed, reason);
+    return rejected;
+  }
+
+  /**
+   * Inserts the documents in an unordered bulk operation. In such an operation every document
+   * is either inserted, or there is a write error for it.
+   * @return The write errors
+   */
+  protected List<BulkWriteError> insert(List<DBObject> documents) {
+    BulkWriteOperation operation = collection.initializeUnorderedBulkOperation();
+    for (DBObject document : documents)
+      operation.insert(document);
+
+    try {
+      operation.execute();
+      return Collections.emptyList();
+    } catch (BulkWriteException e) {
+      return e.getWriteErrors();
+    }
+  }
+
+  @Override
+  protected boolean isRetriable(Exception e) {
+    return e instanceof MongoSocketException || e instanceof MongoTimeoutException;
+  }
+
+  @Override
+  protected String describe(DBObject document) {
+    return String.valueOf(document.get("id"));
+  }
+}
@@ -0,0 +1,67 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.common.SolrInputDocument;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sends documents to Solr in batches (see BulkWriter). The requests Solr rejected as invalid
+ * (HTTP 4xx) are not retried. The documents are committed by Solr with commitWithin, so no
+ * explicit commit is needed.
+ */
+public class SolrBulkIndexer extends BulkWriter<SolrInputDocument> {
+
+  public static final int DEFAULT_COMMIT_WITHIN = 10000;
+
+  private final SolrClient solr;
+  private final int commitWithin;
+
+  public SolrBulkIndexer(SolrClient solr) {
+    this(solr, DEFAULT_BATCH_SIZE, DEFAULT_THREADS, DEFAULT_FLUSH_INTERVAL, DEFAULT_COMMIT_WITHIN);
+  }
+
+  public SolrBulkIndexer(SolrClient solr, int batchSize, int threads, int flushInterval, int commitWithin) {
+    this(solr, batchSize, threads, flushInterval, commitWithin, DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF);
+  }
+
+  /**
+   * @param solr The Solr client
+   * @param batchSize The number of documents in an update request
+   * @param threads The number of threads sending the requests
+   * @param flushInterval The maximal age of a batch in milliseconds
+   * @param commitWithin The commitWithin parameter of the update requests in milliseconds
+   * @param maxRetries The number of retries of a failed request
+   * @param initialBackoff The wait before the first retry in milliseconds, doubled with each retry
+   */
+  public SolrBulkIndexer(SolrClient solr, int batchSize, int threads, int flushInterval,
+                         int commitWithin, int maxRetries, long initialBackoff) {
+    super("solr", batchSize, threads, flushInterval, maxRetries, initialBackoff);
+    this.solr = solr;
+    this.commitWithin = commitWithin;
+  }
+
+  @Override
+  protected List<SolrInputDocument> send(List<SolrInputDocument> documents)
+      throws IOException, SolrServerException {
+    solr.add(documents, commitWithin);
+    documentsSent(documents.size());
+    return Collections.emptyList();
+  }
+
+  @Override
+  protected boolean isRetriable(Exception e) {
+    if (e instanceof HttpSolrClient.RemoteSolrException)
+      return ((HttpSolrClient.RemoteSolrException) e).code() >= 500;
+    return e instanceof IOException || e instanceof SolrServerException;
+  }
+
+  @Override
+  protected String describe(SolrInputDocument document) {
+    return String.valueOf(document.getFieldValue("id"));
+  }
+}
@@ -0,0 +1,93 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import de.gwdg.metadataqa.marc.KeyValueSink;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.model.SolrFieldType;
+import org.apache.solr.common.SolrInputDocument;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the Solr document of a record from the streamed key-value pairs of the record (see
+ * MarcRecord.writeKeyValuePairs()), without the intermediate map of getKeyValuePairs(). The
+ * Solr names of the keys (with the _ss suffix) are cached, and the deduplication of the values
+ * is hash based. A builder is reused for the records, but it is not thread safe.
+ */
+public class SolrDocumentBuilder implements KeyValueSink {
+
+  private final SolrFieldType type;
+  private final boolean deduplicate;
+  private final Map<String, String> fieldNames = new HashMap<>();
+  // the values of the keys in the current document: a String for the first value, a Set from the second
+  private final Map<String, Object> values = new HashMap<>();
+  private SolrInputDocument document;
+
+  public SolrDocumentBuilder(SolrFieldType type, boolean deduplicate) {
+    this.type = type;
+    this.deduplicate = deduplicate;
+  }
+
+  /**
+   * Creates the document of the record.
+   */
+  public SolrInputDocument build(String id, MarcRecord marcRecord) {
+    start(id);
+    marcRecord.writeKeyValuePairs(type, this);
+    return document;
+  }
+
+  /**
+   * Starts a new document. The previous one is not changed, so it can be sent later.
+   */
+  public void start(String id) {
+    document = new SolrInputDocument();
+    document.addField("id", id);
+    if (deduplicate)
+      values.clear();
+  }
+
+  @Override
+  public void add(String key, String value) {
+    if (value == null)
+      return;
+    if (deduplicate && !isNew(key, value))
+      return;
+    document.addField(getFieldName(key), value);
+  }
+
+  public SolrInputDocument getDocument() {
+    return document;
+  }
+
+  private boolean isNew(String key, String value) {
+    Object existing = values.get(key);
+    if (existing == null) {
+      values.put(key, value);
+      return true;
+    }
+    if (existing instanceof String) {
+      if (existing.equals(value))
+        return false;
+      Set<String> set = new HashSet<>();
+      set.add((String) existing);
+      set.add(value);
+      values.put(key, set);
+      return true;
+    }
+    @SuppressWarnings("unchecked")
+    Set<String> set = (Set<String>) existing;
+    return set.add(value);
+  }
+
+  private String getFieldName(String key) {
+    String name = fieldNames.get(key);
+    if (name == null) {
+      name = (key.endsWith("_sni") || key.endsWith("_ss")) ? key : key + "_ss";
+      fieldNames.put(key, name);
+    }
+    return name;
+  }
+}
@@ -2,10 +2,12 @@ package de.gwdg.metadataqa.marc.definition;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
 import de.gwdg.metadataqa.marc.Code;
+import de.gwdg.metadataqa.marc.CodeIndex;
 import de.gwdg.metadataqa.marc.definition.general.codelist.CodeList;
 import de.gwdg.metadataqa.marc.definition.general.parser.SubfieldContentParser;
 import org.apache.commons.lang3.StringUtils;
@@ -25,10 +27,11 @@ public class ControlSubfieldDefinition implements Serializable {
   protected int positionStart;
   protected int positionEnd;
   protected List<Code> codes;
+  private transient volatile CodeIndex codeIndex;
   protected List<Code> historicalCodes;
   protected CodeList codeList;
 
-  protected List<String> validCodes = new ArrayList<>();
+  protected List<String> validCodes = Collections.emptyList();
   protected int unitLength = -1;
   protected boolean repeatableContent = false;
   protected String defaultCode;
@@ -42,7 +45,6 @@ public class ControlSubfieldDefinition implements Serializable {
     this.label = label;
     this.positionStart = positionStart;
     this.positionEnd = positionEnd;
-    validCodes = new ArrayList<>();
   }
 
   public ControlSubfieldDefinition(String label, int positionStart, int positionEnd,
@@ -146,19 +148,27 @@ public class ControlSubfieldDefinition implements Serializable {
     if (isRepeatableContent()) {
       return validateRepeatable(code);
     } else {
-      return validCodes.contains(code);
+      return isValidCode(code);
     }
   }
 
   private boolean validateRepeatable(String code) {
     for (int i=0; i < code.length(); i += unitLength) {
       String unit = code.substring(i, i+unitLength);
-      if (!validCodes.contains(unit))
+      if (!isValidCode(unit))
         return false;
     }
     return true;
   }
 
+  /**
+   * @return Whether the value is one of the valid codes (ranges are not checked)
+   */
+  public boolean isValidCode(String code) {
+    CodeIndex index = getCodeIndex();
+    return index == null ? validCodes.contains(code) : index.containsExact(code);
+  }
+
   public String resolve(String inputCode) {
     if (codes != null || codeList != null) {
       if (repeatableContent) {
@@ -197,19 +207,39 @@ public class ControlSubfieldDefinition implements Serializable {
     }
 
     if (codes != null) {
-      for (Code code : codes)
-        if (code.getCode().equals(inputCode))
-          return code.getLabel();
+      Code code = getCodeIndex().getExact(inputCode);
+      if (code != null)
+        return code.getLabel();
     }
 
     return inputCode;
   }
 
+  /**
+   * Called when the codes of the definition are set: collects the valid codes, and freezes the
+   * definition.
+   */
   protected void extractValidCodes() {
-    if (codes == null)
-      return;
-    for (Code code : codes)
-      validCodes.add(code.getCode());
+    if (codes != null) {
+      List<String> values = new ArrayList<>();
+      for (Code code : codes)
+        values.add(code.getCode());
+      validCodes = Collections.unmodifiableList(values);
+    }
+    freeze();
+  }
+
+  /**
+   * Builds the code index, and makes the lists read-only. The definitions are shared between the
+   * threads validating the records, so they should not change after they have been created.
+   */
+  private void freeze() {
+    if (codes != null) {
+      codes = Collections.unmodifiableList(codes);
+      codeIndex = new CodeIndex(codes);
+    }
+    if (historicalCodes != null)
+      historicalCodes = Collections.unmodifiableList(historicalCodes);
   }
 
   public List<String> getValidCodes() {
@@ -230,14 +260,18 @@ public class ControlSubfieldDefinition implements Serializable {
   }
 
   public Code getCode(String _code) {
-    for (Code code : codes) {
-      if (code.getCode().equals(_code)) {
-        return code;
-      } else if (code.isRange() && code.getRange().isValid(_code)) {
-        return code;
-      }
+    CodeIndex index = getCodeIndex();
+    return index == null ? null : index.get(_code);
+  }
+
+  private CodeIndex getCodeIndex() {
+    // the index is built when the codes are set, it is null only after deserialization
+    CodeIndex index = codeIndex;
+    if (index == null && codes != null) {
+      index = new CodeIndex(codes);
+      codeIndex = index;
     }
-    return null;
+    return index;
   }
 
   public boolean isHistoricalCode(String inputCode) {
@@ -53,8 +53,7 @@ public class ControlValue implements Validatable, Serializable {
     validationErrors = new ArrayList<>();
 
     if (!definition.getValidCodes().isEmpty()
-      && (!definition.getValidCodes().contains(value)
-          && definition.getCode(value) == null)) {
+      && definition.getCode(value) == null) {
       if (definition.isHistoricalCode(value)) {
         validationErrors.add(new ValidationError(record.getId(), definition.getPath(), ValidationErrorType.CONTROL_SUBFIELD_OBSOLETE_CODE,
           value, definition.getDescriptionUrl()));
@@ -65,7 +64,7 @@ public class ControlValue implements Validatable, Serializable {
           int unitLength = definition.getUnitLength();
           for (int i = 0; i < value.length(); i += unitLength) {
             String unit = value.substring(i, i + unitLength);
-            if (!definition.getValidCodes().contains(unit)) {
+            if (!definition.isValidCode(unit)) {
               validationErrors.add(
                 new ValidationError(
                   record.getId(),
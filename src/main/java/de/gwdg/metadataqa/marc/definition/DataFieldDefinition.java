@@ -2,6 +2,7 @@ package de.gwdg.metadataqa.marc.definition;
 
 import de.gwdg.metadataqa.marc.Code;
 import de.gwdg.metadataqa.marc.definition.general.indexer.FieldIndexer;
+import de.gwdg.metadataqa.marc.utils.FieldKeyIndex;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
@@ -17,7 +18,7 @@ public abstract class DataFieldDefinition implements Serializable {
   protected Indicator ind2;
   protected String descriptionUrl;
   protected List<SubfieldDefinition> subfields;
-  protected Map<String, SubfieldDefinition> subfieldIndex = new LinkedHashMap<>();
+  protected FieldKeyIndex<SubfieldDefinition> subfieldIndex = new FieldKeyIndex<>(FieldKeyIndex.KeyType.SUBFIELD_CODE);
   protected List<Code> historicalSubfields;
   protected Map<String, Code> historicalSubfieldsIndex;
   protected String indexTag = null;
@@ -66,6 +67,35 @@ public abstract class DataFieldDefinition implements Serializable {
 
   protected void postCreation() {
     setIndicatorFlags();
+    freeze();
+  }
+
+  /**
+   * Computes the lazily created values, and makes the collections read-only. The definitions
+   * are shared between the threads validating the records, so they should not change after
+   * they have been created.
+   */
+  private void freeze() {
+    getIndexTag();
+    if (ind1 != null)
+      ind1.freeze();
+    if (ind2 != null)
+      ind2.freeze();
+    if (subfields != null) {
+      for (SubfieldDefinition subfield : subfields)
+        subfield.freeze();
+      subfields = Collections.unmodifiableList(subfields);
+    }
+    if (historicalSubfields != null) {
+      historicalSubfields = Collections.unmodifiableList(historicalSubfields);
+      historicalSubfieldsIndex = Collections.unmodifiableMap(historicalSubfieldsIndex);
+    }
+    if (versionSpecificSubfields != null) {
+      for (List<SubfieldDefinition> definitions : versionSpecificSubfields.values())
+        for (SubfieldDefinition subfield : definitions)
+          subfield.freeze();
+      versionSpecificSubfields = Collections.unmodifiableMap(versionSpecificSubfields);
+    }
   }
 
   protected void setIndicatorFlags() {
@@ -142,7 +172,7 @@ public abstract class DataFieldDefinition implements Serializable {
    * @return The subfield definition or null
    */
   public SubfieldDefinition getSubfield(String code) {
-    return subfieldIndex.getOrDefault(code, null);
+    return subfieldIndex.get(code);
   }
 
   public void putVersionSpecificSubfields(MarcVersion marcVersion, List<SubfieldDefinition> subfieldDefinitions) {
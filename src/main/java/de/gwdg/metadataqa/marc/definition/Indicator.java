@@ -109,9 +109,9 @@ public class Indicator {
     if (codeIndex.containsKey(codeString))
       return codeIndex.get(codeString);
 
-    for (Range range : getRanges().keySet()) {
-      if (range.isValid(codeString))
-        return ranges.get(range);
+    for (Map.Entry<Range, Code> entry : getRanges().entrySet()) {
+      if (entry.getKey().isValid(codeString))
+        return entry.getValue();
     }
 
     return null;
@@ -129,17 +129,45 @@ public class Indicator {
   }
 
   private Map<Range, Code> getRanges() {
-    if (ranges == null) {
-      ranges = new HashMap<>();
-      if (codes != null) {
-        for (Code code : codes) {
-          if (code.isRange()) {
-            ranges.put(code.getRange(), code);
-          }
+    Map<Range, Code> current = ranges;
+    if (current == null) {
+      current = collectRanges();
+      ranges = current;
+    }
+    return current;
+  }
+
+  /**
+   * The map is complete when it is published (it is wrapped in an unmodifiable map), so threads
+   * racing on the lazy initialization see either null or the whole map.
+   */
+  private Map<Range, Code> collectRanges() {
+    Map<Range, Code> collected = new HashMap<>();
+    if (codes != null) {
+      for (Code code : codes) {
+        if (code.isRange()) {
+          collected.put(code.getRange(), code);
         }
       }
     }
-    return ranges;
+    return Collections.unmodifiableMap(collected);
+  }
+
+  /**
+   * Called when the definition of the field is complete: computes the lazily created values, and
+   * makes the collections read-only, so the indicator can be shared between threads.
+   */
+  void freeze() {
+    getIndexTag();
+    ranges = collectRanges();
+    if (codes != null)
+      codes = Collections.unmodifiableList(codes);
+    if (historicalCodes != null)
+      historicalCodes = Collections.unmodifiableList(historicalCodes);
+    codeIndex = Collections.unmodifiableMap(codeIndex);
+    historicalCodeIndex = Collections.unmodifiableMap(historicalCodeIndex);
+    if (versionSpecificCodes != null)
+      versionSpecificCodes = Collections.unmodifiableMap(versionSpecificCodes);
   }
 
   private void indexCodes() {
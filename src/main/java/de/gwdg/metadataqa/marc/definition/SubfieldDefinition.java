@@ -1,6 +1,7 @@
 package de.gwdg.metadataqa.marc.definition;
 
 import de.gwdg.metadataqa.marc.Code;
+import de.gwdg.metadataqa.marc.CodeIndex;
 import de.gwdg.metadataqa.marc.Utils;
 import de.gwdg.metadataqa.marc.definition.general.codelist.CodeList;
 import de.gwdg.metadataqa.marc.definition.general.parser.SubfieldContentParser;
@@ -29,6 +30,7 @@ public class SubfieldDefinition implements Serializable {
   private SubfieldContentParser contentParser;
   protected CodeList codeList;
   private List<Code> codes;
+  private transient CodeIndex codeIndex;
   private List<String> allowedCodes;
   private String codeForIndex = null;
   private List<ControlSubfieldDefinition> positions;
@@ -36,6 +38,22 @@ public class SubfieldDefinition implements Serializable {
   private CompilanceLevel nationalCompilanceLevel;
   private CompilanceLevel minimalCompilanceLevel;
 
+  /**
+   * Called when the definition of the field is complete: computes the lazily created values, and
+   * makes the code list read-only, so the definition can be shared between threads.
+   */
+  void freeze() {
+    getCodeForIndex();
+    if (codes != null) {
+      codes = Collections.unmodifiableList(codes);
+      codeIndex = new CodeIndex(codes);
+    }
+    if (allowedCodes != null)
+      allowedCodes = Collections.unmodifiableList(allowedCodes);
+    if (positions != null)
+      positions = Collections.unmodifiableList(positions);
+  }
+
   public String getCodeForIndex() {
     if (codeForIndex == null) {
       if (mqTag != null) {
@@ -86,6 +104,7 @@ public class SubfieldDefinition implements Serializable {
 
   public SubfieldDefinition setCodes(List<Code> codes) {
     this.codes = codes;
+    codeIndex = null;
     return this;
   }
 
@@ -94,18 +113,18 @@ public class SubfieldDefinition implements Serializable {
     for (int i = 0; i<input.length; i+=2) {
       codes.add(new Code(input[i], input[i+1]));
     }
+    codeIndex = null;
     return this;
   }
 
   public Code getCode(String _code) {
-    for (Code code : codes) {
-      if (code.getCode().equals(_code)) {
-        return code;
-      } else if (code.isRange() && code.getRange().isValid(_code)) {
-        return code;
-      }
+    // CodeIndex is immutable, so it is safe to publish without synchronization
+    CodeIndex index = codeIndex;
+    if (index == null) {
+      index = new CodeIndex(codes);
+      codeIndex = index;
     }
-    return null;
+    return index.get(_code);
   }
 
   public List<Code> getCodes() {
@@ -1,16 +1,17 @@
 package de.gwdg.metadataqa.marc.definition;
 
-import de.gwdg.metadataqa.marc.utils.MarcTagLister;
+import de.gwdg.metadataqa.marc.utils.FieldKeys;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
+/**
+ * Finds the data field definition of a tag. The definitions are listed in the generated
+ * TagDefinitionRegistry, and they are instantiated only when a tag is first requested.
+ */
 public class TagDefinitionLoader {
 
   private static final Logger logger = Logger.getLogger(TagDefinitionLoader.class.getCanonicalName());
@@ -24,104 +25,83 @@ public class TagDefinitionLoader {
 
   private static final List<String> OCLC_TAGS = Arrays.asList("012", "019", "029", "090", "092", "096", "366", "539",
     "891", "911", "912", "936", "938", "994");
-  private static Map<String, DataFieldDefinition> commonCache = new HashMap<>();
-  private static Map<String, Map<MarcVersion, DataFieldDefinition>> versionedCache = new HashMap<>();
 
-  static {
-    findAndCacheTags();
-  }
-
-  private static void findAndCacheTags() {
-    List<Class<? extends DataFieldDefinition>> tags = MarcTagLister.listTags();
-    for (Class<? extends DataFieldDefinition> definitionClazz : tags) {
-      loadAndCacheTag(definitionClazz);
-    }
-  }
+  private static final MarcVersion[] VERSIONS = MarcVersion.values();
 
-  private static void loadAndCacheTag(Class<? extends DataFieldDefinition> definitionClazz) {
-    DataFieldDefinition dataFieldDefinition = null;
-    Method getInstance = null;
-    try {
-      getInstance = definitionClazz.getMethod("getInstance");
-      dataFieldDefinition = (DataFieldDefinition) getInstance.invoke(definitionClazz);
-      if (dataFieldDefinition != null) {
-        String tag = dataFieldDefinition.getTag();
-        commonCache.put(tag, dataFieldDefinition);
-        MarcVersion version = getMarcVersion(definitionClazz);
-        if (!versionedCache.containsKey(tag)) {
-          versionedCache.put(tag, new HashMap<>());
-        }
-        versionedCache.get(tag).put(version, dataFieldDefinition);
-      }
-    } catch (NoSuchMethodException e) {
-      e.printStackTrace();
-    } catch (IllegalAccessException e) {
-      e.printStackTrace();
-    } catch (InvocationTargetException e) {
-      e.printStackTrace();
-    }
-  }
+  /**
+   * The registry entry for each tag and MARC version (tag * number of versions + version ordinal),
+   * -1 if there is no definition.
+   */
+  private static final int[] registryIndex = new int[FieldKeys.NUMBER_OF_TAGS * VERSIONS.length];
+  private static final AtomicReferenceArray<DataFieldDefinition> cache =
+    new AtomicReferenceArray<>(FieldKeys.NUMBER_OF_TAGS * VERSIONS.length);
 
-  private static MarcVersion getMarcVersion(Class<? extends DataFieldDefinition> definitionClazz) {
-    MarcVersion version = MarcVersion.MARC21;
-    if (definitionClazz.getCanonicalName().contains(".oclctags.")) {
-      version = MarcVersion.OCLC;
-    } else if (definitionClazz.getCanonicalName().contains(".dnbtags.")) {
-      version = MarcVersion.DNB;
-    } else if (definitionClazz.getCanonicalName().contains(".genttags.")) {
-      version = MarcVersion.GENT;
-    } else if (definitionClazz.getCanonicalName().contains(".sztetags.")) {
-      version = MarcVersion.SZTE;
-    } else if (definitionClazz.getCanonicalName().contains(".fennicatags.")) {
-      version = MarcVersion.FENNICA;
+  static {
+    Arrays.fill(registryIndex, -1);
+    for (int i = 0; i < TagDefinitionRegistry.ENTRIES.length; i++) {
+      String[] entry = TagDefinitionRegistry.ENTRIES[i];
+      registryIndex[position(FieldKeys.tagToPosition(entry[0]), MarcVersion.valueOf(entry[1]))] = i;
     }
-    return version;
   }
 
+  /**
+   * Returns the definition of the tag. If there are several definitions the MARC21 one is
+   * preferred, then the OCLC one, then the others in the order of MarcVersion.
+   */
   public static DataFieldDefinition load(String tag) {
-    if (!commonCache.containsKey(tag)) {
-      DataFieldDefinition dataFieldDefinition = null;
-      try {
-        String className = getClassName(tag);
-        if (className != null) {
-          Class definitionClazz = Class.forName(className);
-          Method getInstance = definitionClazz.getMethod("getInstance");
-          dataFieldDefinition = (DataFieldDefinition) getInstance.invoke(definitionClazz);
-        }
-      } catch (ClassNotFoundException e) {
-        // e.printStackTrace();
-      } catch (NoSuchMethodException e) {
-        e.printStackTrace();
-      } catch (IllegalAccessException e) {
-        e.printStackTrace();
-      } catch (InvocationTargetException e) {
-        e.printStackTrace();
-      }
-      commonCache.put(tag, dataFieldDefinition);
-    }
-    return commonCache.get(tag);
+    int number = FieldKeys.tagToPosition(tag);
+    if (number == -1)
+      return null;
+
+    DataFieldDefinition definition = get(number, MarcVersion.MARC21);
+    if (definition == null)
+      definition = get(number, MarcVersion.OCLC);
+    for (int i = 0; definition == null && i < VERSIONS.length; i++)
+      definition = get(number, VERSIONS[i]);
+    return definition;
   }
 
   public static DataFieldDefinition load(String tag, MarcVersion marcVersion) {
-    Map<MarcVersion, DataFieldDefinition> map = versionedCache.get(tag);
+    if (marcVersion == null)
+      return load(tag);
 
-    if (map == null)
+    int number = FieldKeys.tagToPosition(tag);
+    if (number == -1)
       return null;
 
-    if (map.containsKey(marcVersion)) {
-      return map.get(marcVersion);
-    }
+    DataFieldDefinition definition = get(number, marcVersion);
+    if (definition != null)
+      return definition;
+
     if (marcVersion.equals(MarcVersion.MARC21)) {
       // no fallback for MARC21
       return null;
     } else {
       // fallbacks for other MARC versions
-      if (map.containsKey(MarcVersion.MARC21))
-        return map.get(MarcVersion.MARC21);
-      if (map.containsKey(MarcVersion.OCLC))
-        return map.get(MarcVersion.OCLC);
+      definition = get(number, MarcVersion.MARC21);
+      if (definition == null)
+        definition = get(number, MarcVersion.OCLC);
+    }
+    return definition;
+  }
+
+  private static DataFieldDefinition get(int number, MarcVersion marcVersion) {
+    int position = position(number, marcVersion);
+    int entry = registryIndex[position];
+    if (entry == -1)
+      return null;
+
+    DataFieldDefinition definition = cache.get(position);
+    if (definition == null) {
+      definition = TagDefinitionRegistry.create(entry);
+      if (!cache.compareAndSet(position, null, definition))
+        definition = cache.get(position);
     }
-    return null;
+    return definition;
+  }
+
+  private static int position(int number, MarcVersion marcVersion) {
+    return number * VERSIONS.length + marcVersion.ordinal();
   }
 
   public static String getClassName(String tag) {
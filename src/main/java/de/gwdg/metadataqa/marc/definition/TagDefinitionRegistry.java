@@ -0,0 +1,593 @@
+package de.gwdg.metadataqa.marc.definition;
+
+/**
+ * The data field definitions by tag and MARC version. Generated by
+ * de.gwdg.metadataqa.marc.utils.TagDefinitionRegistryGenerator, do not edit.
+ */
+final class TagDefinitionRegistry {
+
+  /**
+   * tag, MARC version, definition class
+   */
+  static final String[][] ENTRIES = {
+    {"010", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag010"},
+    {"012", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag012"},
+    {"013", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag013"},
+    {"015", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag015"},
+    {"016", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag016"},
+    {"017", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag017"},
+    {"018", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag018"},
+    {"019", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag019"},
+    {"019", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag019"},
+    {"020", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag020"},
+    {"022", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag022"},
+    {"024", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag024"},
+    {"025", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag025"},
+    {"026", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag026"},
+    {"027", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag027"},
+    {"028", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag028"},
+    {"029", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag029"},
+    {"030", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag030"},
+    {"031", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag031"},
+    {"032", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag032"},
+    {"033", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag033"},
+    {"034", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag034"},
+    {"035", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag035"},
+    {"036", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag036"},
+    {"037", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag037"},
+    {"038", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag038"},
+    {"040", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag040"},
+    {"041", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag041"},
+    {"042", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag042"},
+    {"043", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag043"},
+    {"044", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag044"},
+    {"045", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag045"},
+    {"046", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag046"},
+    {"047", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag047"},
+    {"048", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag048"},
+    {"050", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag050"},
+    {"051", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag051"},
+    {"052", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag052"},
+    {"055", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag055"},
+    {"060", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag060"},
+    {"061", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag061"},
+    {"066", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag066"},
+    {"070", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag070"},
+    {"071", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag071"},
+    {"072", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag072"},
+    {"074", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag074"},
+    {"080", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag080"},
+    {"082", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag082"},
+    {"083", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag083"},
+    {"084", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag084"},
+    {"085", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag085"},
+    {"086", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag086"},
+    {"088", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag088"},
+    {"090", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag090"},
+    {"090", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag090"},
+    {"092", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag092"},
+    {"092", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag092"},
+    {"093", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag093"},
+    {"096", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag096"},
+    {"100", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag100"},
+    {"110", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag110"},
+    {"111", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag111"},
+    {"130", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag130"},
+    {"210", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag210"},
+    {"222", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag222"},
+    {"240", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag240"},
+    {"242", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag242"},
+    {"243", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag243"},
+    {"245", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag245"},
+    {"246", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag246"},
+    {"247", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag247"},
+    {"249", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag249"},
+    {"250", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag250"},
+    {"254", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag254"},
+    {"255", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag255"},
+    {"256", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag256"},
+    {"257", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag257"},
+    {"258", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag258"},
+    {"259", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag259"},
+    {"260", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag260"},
+    {"263", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag263"},
+    {"264", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag264"},
+    {"270", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag270"},
+    {"300", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag300"},
+    {"306", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag306"},
+    {"307", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag307"},
+    {"310", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag310"},
+    {"321", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag321"},
+    {"336", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag336"},
+    {"337", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag337"},
+    {"338", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag338"},
+    {"340", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag340"},
+    {"342", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag342"},
+    {"343", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag343"},
+    {"344", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag344"},
+    {"345", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag345"},
+    {"346", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag346"},
+    {"347", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag347"},
+    {"348", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag348"},
+    {"351", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag351"},
+    {"352", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag352"},
+    {"355", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag355"},
+    {"357", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag357"},
+    {"362", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag362"},
+    {"363", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag363"},
+    {"365", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag365"},
+    {"366", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag366"},
+    {"366", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag366"},
+    {"370", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag370"},
+    {"377", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag377"},
+    {"380", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag380"},
+    {"381", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag381"},
+    {"382", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag382"},
+    {"383", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag383"},
+    {"384", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag384"},
+    {"385", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag385"},
+    {"386", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag386"},
+    {"388", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag388"},
+    {"400", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag400"},
+    {"410", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag410"},
+    {"411", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag411"},
+    {"440", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag440"},
+    {"490", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag490"},
+    {"500", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag500"},
+    {"501", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag501"},
+    {"502", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag502"},
+    {"503", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag503"},
+    {"504", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag504"},
+    {"505", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag505"},
+    {"506", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag506"},
+    {"507", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag507"},
+    {"508", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag508"},
+    {"510", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag510"},
+    {"511", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag511"},
+    {"513", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag513"},
+    {"514", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag514"},
+    {"515", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag515"},
+    {"516", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag516"},
+    {"518", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag518"},
+    {"520", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag520"},
+    {"521", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag521"},
+    {"522", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag522"},
+    {"524", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag524"},
+    {"525", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag525"},
+    {"526", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag526"},
+    {"530", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag530"},
+    {"533", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag533"},
+    {"534", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag534"},
+    {"535", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag535"},
+    {"536", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag536"},
+    {"538", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag538"},
+    {"539", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag539"},
+    {"540", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag540"},
+    {"541", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag541"},
+    {"542", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag542"},
+    {"544", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag544"},
+    {"545", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag545"},
+    {"546", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag546"},
+    {"547", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag547"},
+    {"550", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag550"},
+    {"552", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag552"},
+    {"555", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag555"},
+    {"556", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag556"},
+    {"561", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag561"},
+    {"562", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag562"},
+    {"563", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag563"},
+    {"565", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag565"},
+    {"567", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag567"},
+    {"579", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag579"},
+    {"580", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag580"},
+    {"581", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag581"},
+    {"583", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag583"},
+    {"584", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag584"},
+    {"585", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag585"},
+    {"586", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag586"},
+    {"588", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag588"},
+    {"591", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag591"},
+    {"591", "GENT", "de.gwdg.metadataqa.marc.definition.tags.genttags.Tag591"},
+    {"591", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag591"},
+    {"595", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag595"},
+    {"596", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag596"},
+    {"598", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag598"},
+    {"600", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag600"},
+    {"610", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag610"},
+    {"611", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag611"},
+    {"630", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag630"},
+    {"647", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag647"},
+    {"648", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag648"},
+    {"650", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag650"},
+    {"651", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag651"},
+    {"653", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag653"},
+    {"654", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag654"},
+    {"655", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag655"},
+    {"656", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag656"},
+    {"657", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag657"},
+    {"658", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag658"},
+    {"662", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag662"},
+    {"680", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag680"},
+    {"689", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag689"},
+    {"695", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag695"},
+    {"699", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag699"},
+    {"700", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag700"},
+    {"710", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag710"},
+    {"711", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag711"},
+    {"720", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag720"},
+    {"730", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag730"},
+    {"740", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag740"},
+    {"751", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag751"},
+    {"752", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag752"},
+    {"753", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag753"},
+    {"754", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag754"},
+    {"758", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag758"},
+    {"760", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag760"},
+    {"762", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag762"},
+    {"765", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag765"},
+    {"767", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag767"},
+    {"770", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag770"},
+    {"772", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag772"},
+    {"773", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag773"},
+    {"774", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag774"},
+    {"775", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag775"},
+    {"776", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag776"},
+    {"777", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag777"},
+    {"780", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag780"},
+    {"785", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag785"},
+    {"786", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag786"},
+    {"787", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag787"},
+    {"790", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag790"},
+    {"800", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag800"},
+    {"810", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag810"},
+    {"811", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag811"},
+    {"830", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag830"},
+    {"850", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag850"},
+    {"851", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag851"},
+    {"852", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag852"},
+    {"856", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag856"},
+    {"866", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.holdings.Tag866"},
+    {"880", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag880"},
+    {"882", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag882"},
+    {"883", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag883"},
+    {"884", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag884"},
+    {"885", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag885"},
+    {"886", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag886"},
+    {"887", "MARC21", "de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag887"},
+    {"889", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag889"},
+    {"891", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag891"},
+    {"901", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag901"},
+    {"902", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag902"},
+    {"903", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag903"},
+    {"904", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag904"},
+    {"905", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag905"},
+    {"906", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag906"},
+    {"907", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag907"},
+    {"908", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag908"},
+    {"909", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag909"},
+    {"911", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag911"},
+    {"912", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag912"},
+    {"920", "GENT", "de.gwdg.metadataqa.marc.definition.tags.genttags.Tag920"},
+    {"922", "GENT", "de.gwdg.metadataqa.marc.definition.tags.genttags.Tag922"},
+    {"924", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag924"},
+    {"925", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag925"},
+    {"926", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag926"},
+    {"930", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag930"},
+    {"930", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag930"},
+    {"931", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag931"},
+    {"931", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag931"},
+    {"932", "DNB", "de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag932"},
+    {"932", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag932"},
+    {"933", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag933"},
+    {"936", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag936"},
+    {"938", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag938"},
+    {"949", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag949"},
+    {"950", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag950"},
+    {"951", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag951"},
+    {"952", "SZTE", "de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag952"},
+    {"960", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag960"},
+    {"961", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag961"},
+    {"971", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag971"},
+    {"972", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag972"},
+    {"976", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag976"},
+    {"977", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag977"},
+    {"979", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag979"},
+    {"994", "OCLC", "de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag994"},
+    {"995", "FENNICA", "de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag995"}
+  };
+
+  private TagDefinitionRegistry() {}
+
+  /**
+   * Returns the definition of the entry. The definition class is loaded only at the first call.
+   */
+  static DataFieldDefinition create(int entry) {
+    switch (entry) {
+      case 0: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag010.getInstance();
+      case 1: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag012.getInstance();
+      case 2: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag013.getInstance();
+      case 3: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag015.getInstance();
+      case 4: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag016.getInstance();
+      case 5: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag017.getInstance();
+      case 6: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag018.getInstance();
+      case 7: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag019.getInstance();
+      case 8: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag019.getInstance();
+      case 9: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag020.getInstance();
+      case 10: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag022.getInstance();
+      case 11: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag024.getInstance();
+      case 12: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag025.getInstance();
+      case 13: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag026.getInstance();
+      case 14: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag027.getInstance();
+      case 15: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag028.getInstance();
+      case 16: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag029.getInstance();
+      case 17: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag030.getInstance();
+      case 18: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag031.getInstance();
+      case 19: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag032.getInstance();
+      case 20: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag033.getInstance();
+      case 21: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag034.getInstance();
+      case 22: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag035.getInstance();
+      case 23: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag036.getInstance();
+      case 24: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag037.getInstance();
+      case 25: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag038.getInstance();
+      case 26: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag040.getInstance();
+      case 27: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag041.getInstance();
+      case 28: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag042.getInstance();
+      case 29: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag043.getInstance();
+      case 30: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag044.getInstance();
+      case 31: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag045.getInstance();
+      case 32: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag046.getInstance();
+      case 33: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag047.getInstance();
+      case 34: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag048.getInstance();
+      case 35: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag050.getInstance();
+      case 36: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag051.getInstance();
+      case 37: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag052.getInstance();
+      case 38: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag055.getInstance();
+      case 39: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag060.getInstance();
+      case 40: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag061.getInstance();
+      case 41: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag066.getInstance();
+      case 42: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag070.getInstance();
+      case 43: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag071.getInstance();
+      case 44: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag072.getInstance();
+      case 45: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag074.getInstance();
+      case 46: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag080.getInstance();
+      case 47: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag082.getInstance();
+      case 48: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag083.getInstance();
+      case 49: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag084.getInstance();
+      case 50: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag085.getInstance();
+      case 51: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag086.getInstance();
+      case 52: return de.gwdg.metadataqa.marc.definition.tags.tags01x.Tag088.getInstance();
+      case 53: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag090.getInstance();
+      case 54: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag090.getInstance();
+      case 55: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag092.getInstance();
+      case 56: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag092.getInstance();
+      case 57: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag093.getInstance();
+      case 58: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag096.getInstance();
+      case 59: return de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag100.getInstance();
+      case 60: return de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag110.getInstance();
+      case 61: return de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag111.getInstance();
+      case 62: return de.gwdg.metadataqa.marc.definition.tags.tags1xx.Tag130.getInstance();
+      case 63: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag210.getInstance();
+      case 64: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag222.getInstance();
+      case 65: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag240.getInstance();
+      case 66: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag242.getInstance();
+      case 67: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag243.getInstance();
+      case 68: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag245.getInstance();
+      case 69: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag246.getInstance();
+      case 70: return de.gwdg.metadataqa.marc.definition.tags.tags20x.Tag247.getInstance();
+      case 71: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag249.getInstance();
+      case 72: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag250.getInstance();
+      case 73: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag254.getInstance();
+      case 74: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag255.getInstance();
+      case 75: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag256.getInstance();
+      case 76: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag257.getInstance();
+      case 77: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag258.getInstance();
+      case 78: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag259.getInstance();
+      case 79: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag260.getInstance();
+      case 80: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag263.getInstance();
+      case 81: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag264.getInstance();
+      case 82: return de.gwdg.metadataqa.marc.definition.tags.tags25x.Tag270.getInstance();
+      case 83: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag300.getInstance();
+      case 84: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag306.getInstance();
+      case 85: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag307.getInstance();
+      case 86: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag310.getInstance();
+      case 87: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag321.getInstance();
+      case 88: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag336.getInstance();
+      case 89: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag337.getInstance();
+      case 90: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag338.getInstance();
+      case 91: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag340.getInstance();
+      case 92: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag342.getInstance();
+      case 93: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag343.getInstance();
+      case 94: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag344.getInstance();
+      case 95: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag345.getInstance();
+      case 96: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag346.getInstance();
+      case 97: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag347.getInstance();
+      case 98: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag348.getInstance();
+      case 99: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag351.getInstance();
+      case 100: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag352.getInstance();
+      case 101: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag355.getInstance();
+      case 102: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag357.getInstance();
+      case 103: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag362.getInstance();
+      case 104: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag363.getInstance();
+      case 105: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag365.getInstance();
+      case 106: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag366.getInstance();
+      case 107: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag366.getInstance();
+      case 108: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag370.getInstance();
+      case 109: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag377.getInstance();
+      case 110: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag380.getInstance();
+      case 111: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag381.getInstance();
+      case 112: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag382.getInstance();
+      case 113: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag383.getInstance();
+      case 114: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag384.getInstance();
+      case 115: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag385.getInstance();
+      case 116: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag386.getInstance();
+      case 117: return de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag388.getInstance();
+      case 118: return de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag400.getInstance();
+      case 119: return de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag410.getInstance();
+      case 120: return de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag411.getInstance();
+      case 121: return de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag440.getInstance();
+      case 122: return de.gwdg.metadataqa.marc.definition.tags.tags4xx.Tag490.getInstance();
+      case 123: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag500.getInstance();
+      case 124: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag501.getInstance();
+      case 125: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag502.getInstance();
+      case 126: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag503.getInstance();
+      case 127: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag504.getInstance();
+      case 128: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag505.getInstance();
+      case 129: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag506.getInstance();
+      case 130: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag507.getInstance();
+      case 131: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag508.getInstance();
+      case 132: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag510.getInstance();
+      case 133: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag511.getInstance();
+      case 134: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag513.getInstance();
+      case 135: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag514.getInstance();
+      case 136: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag515.getInstance();
+      case 137: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag516.getInstance();
+      case 138: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag518.getInstance();
+      case 139: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag520.getInstance();
+      case 140: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag521.getInstance();
+      case 141: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag522.getInstance();
+      case 142: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag524.getInstance();
+      case 143: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag525.getInstance();
+      case 144: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag526.getInstance();
+      case 145: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag530.getInstance();
+      case 146: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag533.getInstance();
+      case 147: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag534.getInstance();
+      case 148: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag535.getInstance();
+      case 149: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag536.getInstance();
+      case 150: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag538.getInstance();
+      case 151: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag539.getInstance();
+      case 152: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag540.getInstance();
+      case 153: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag541.getInstance();
+      case 154: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag542.getInstance();
+      case 155: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag544.getInstance();
+      case 156: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag545.getInstance();
+      case 157: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag546.getInstance();
+      case 158: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag547.getInstance();
+      case 159: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag550.getInstance();
+      case 160: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag552.getInstance();
+      case 161: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag555.getInstance();
+      case 162: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag556.getInstance();
+      case 163: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag561.getInstance();
+      case 164: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag562.getInstance();
+      case 165: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag563.getInstance();
+      case 166: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag565.getInstance();
+      case 167: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag567.getInstance();
+      case 168: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag579.getInstance();
+      case 169: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag580.getInstance();
+      case 170: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag581.getInstance();
+      case 171: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag583.getInstance();
+      case 172: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag584.getInstance();
+      case 173: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag585.getInstance();
+      case 174: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag586.getInstance();
+      case 175: return de.gwdg.metadataqa.marc.definition.tags.tags5xx.Tag588.getInstance();
+      case 176: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag591.getInstance();
+      case 177: return de.gwdg.metadataqa.marc.definition.tags.genttags.Tag591.getInstance();
+      case 178: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag591.getInstance();
+      case 179: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag595.getInstance();
+      case 180: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag596.getInstance();
+      case 181: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag598.getInstance();
+      case 182: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag600.getInstance();
+      case 183: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag610.getInstance();
+      case 184: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag611.getInstance();
+      case 185: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag630.getInstance();
+      case 186: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag647.getInstance();
+      case 187: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag648.getInstance();
+      case 188: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag650.getInstance();
+      case 189: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag651.getInstance();
+      case 190: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag653.getInstance();
+      case 191: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag654.getInstance();
+      case 192: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag655.getInstance();
+      case 193: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag656.getInstance();
+      case 194: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag657.getInstance();
+      case 195: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag658.getInstance();
+      case 196: return de.gwdg.metadataqa.marc.definition.tags.tags6xx.Tag662.getInstance();
+      case 197: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag680.getInstance();
+      case 198: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag689.getInstance();
+      case 199: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag695.getInstance();
+      case 200: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag699.getInstance();
+      case 201: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag700.getInstance();
+      case 202: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag710.getInstance();
+      case 203: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag711.getInstance();
+      case 204: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag720.getInstance();
+      case 205: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag730.getInstance();
+      case 206: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag740.getInstance();
+      case 207: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag751.getInstance();
+      case 208: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag752.getInstance();
+      case 209: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag753.getInstance();
+      case 210: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag754.getInstance();
+      case 211: return de.gwdg.metadataqa.marc.definition.tags.tags70x.Tag758.getInstance();
+      case 212: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag760.getInstance();
+      case 213: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag762.getInstance();
+      case 214: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag765.getInstance();
+      case 215: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag767.getInstance();
+      case 216: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag770.getInstance();
+      case 217: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag772.getInstance();
+      case 218: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag773.getInstance();
+      case 219: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag774.getInstance();
+      case 220: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag775.getInstance();
+      case 221: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag776.getInstance();
+      case 222: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag777.getInstance();
+      case 223: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag780.getInstance();
+      case 224: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag785.getInstance();
+      case 225: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag786.getInstance();
+      case 226: return de.gwdg.metadataqa.marc.definition.tags.tags76x.Tag787.getInstance();
+      case 227: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag790.getInstance();
+      case 228: return de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag800.getInstance();
+      case 229: return de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag810.getInstance();
+      case 230: return de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag811.getInstance();
+      case 231: return de.gwdg.metadataqa.marc.definition.tags.tags80x.Tag830.getInstance();
+      case 232: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag850.getInstance();
+      case 233: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag851.getInstance();
+      case 234: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag852.getInstance();
+      case 235: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag856.getInstance();
+      case 236: return de.gwdg.metadataqa.marc.definition.tags.holdings.Tag866.getInstance();
+      case 237: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag880.getInstance();
+      case 238: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag882.getInstance();
+      case 239: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag883.getInstance();
+      case 240: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag884.getInstance();
+      case 241: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag885.getInstance();
+      case 242: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag886.getInstance();
+      case 243: return de.gwdg.metadataqa.marc.definition.tags.tags84x.Tag887.getInstance();
+      case 244: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag889.getInstance();
+      case 245: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag891.getInstance();
+      case 246: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag901.getInstance();
+      case 247: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag902.getInstance();
+      case 248: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag903.getInstance();
+      case 249: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag904.getInstance();
+      case 250: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag905.getInstance();
+      case 251: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag906.getInstance();
+      case 252: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag907.getInstance();
+      case 253: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag908.getInstance();
+      case 254: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag909.getInstance();
+      case 255: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag911.getInstance();
+      case 256: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag912.getInstance();
+      case 257: return de.gwdg.metadataqa.marc.definition.tags.genttags.Tag920.getInstance();
+      case 258: return de.gwdg.metadataqa.marc.definition.tags.genttags.Tag922.getInstance();
+      case 259: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag924.getInstance();
+      case 260: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag925.getInstance();
+      case 261: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag926.getInstance();
+      case 262: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag930.getInstance();
+      case 263: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag930.getInstance();
+      case 264: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag931.getInstance();
+      case 265: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag931.getInstance();
+      case 266: return de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag932.getInstance();
+      case 267: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag932.getInstance();
+      case 268: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag933.getInstance();
+      case 269: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag936.getInstance();
+      case 270: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag938.getInstance();
+      case 271: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag949.getInstance();
+      case 272: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag950.getInstance();
+      case 273: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag951.getInstance();
+      case 274: return de.gwdg.metadataqa.marc.definition.tags.sztetags.Tag952.getInstance();
+      case 275: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag960.getInstance();
+      case 276: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag961.getInstance();
+      case 277: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag971.getInstance();
+      case 278: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag972.getInstance();
+      case 279: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag976.getInstance();
+      case 280: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag977.getInstance();
+      case 281: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag979.getInstance();
+      case 282: return de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag994.getInstance();
+      case 283: return de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag995.getInstance();
+      default: return null;
+    }
+  }
+}
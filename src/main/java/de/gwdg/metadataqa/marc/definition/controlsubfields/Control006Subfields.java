@@ -13,7 +13,7 @@ public class Control006Subfields extends ControlSubfieldList {
 
   // protected static final Map<Control008Type, List<ControlSubfieldDefinition>> subfields = new TreeMap<>();
 
-  private static Control006Subfields uniqueInstance;
+  private static volatile Control006Subfields uniqueInstance;
 
   private Control006Subfields() {
     initialize();
@@ -21,7 +21,10 @@ public class Control006Subfields extends ControlSubfieldList {
 
   public static Control006Subfields getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control006Subfields();
+      synchronized (Control006Subfields.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control006Subfields();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ public class Control007Subfields extends ControlSubfieldList {
 
   // private static final Map<Control007Category, List<ControlSubfieldDefinition>> subfields = new TreeMap<>();
 
-  private static Control007Subfields uniqueInstance;
+  private static volatile Control007Subfields uniqueInstance;
 
   private Control007Subfields() {
     initialize();
@@ -18,7 +18,10 @@ public class Control007Subfields extends ControlSubfieldList {
 
   public static Control007Subfields getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control007Subfields();
+      synchronized (Control007Subfields.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control007Subfields();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.*;
 public class Control008Subfields extends ControlSubfieldList {
   // private static Map<Control008Type, List<ControlSubfieldDefinition>> subfields = new TreeMap<>();
 
-  private static Control008Subfields uniqueInstance;
+  private static volatile Control008Subfields uniqueInstance;
 
   private Control008Subfields() {
     initialize();
@@ -19,7 +19,10 @@ public class Control008Subfields extends ControlSubfieldList {
 
   public static Control008Subfields getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control008Subfields();
+      synchronized (Control008Subfields.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control008Subfields();
+      }
     return uniqueInstance;
   }
 
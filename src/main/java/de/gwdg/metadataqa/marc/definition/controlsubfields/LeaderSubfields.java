@@ -15,7 +15,7 @@ public class LeaderSubfields extends ControlSubfieldList {
   private static final Map<String, ControlSubfieldDefinition> subfieldLabelMap = new HashMap<>();
   private static final Map<String, ControlSubfieldDefinition> subfieldIdMap = new HashMap<>();
 
-  private static LeaderSubfields uniqueInstance;
+  private static volatile LeaderSubfields uniqueInstance;
 
   private LeaderSubfields() {
     initialize();
@@ -23,7 +23,10 @@ public class LeaderSubfields extends ControlSubfieldList {
 
   public static LeaderSubfields getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new LeaderSubfields();
+      synchronized (LeaderSubfields.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new LeaderSubfields();
+      }
     return uniqueInstance;
   }
 
@@ -63,15 +66,23 @@ public class LeaderSubfields extends ControlSubfieldList {
     }
   }
 
+  /*
+   * The static lists are filled by the constructor, so the static getters call getInstance()
+   * first: it creates the instance if needed, and its volatile read makes the lists visible.
+   */
+
   public static List<ControlSubfieldDefinition> getSubfieldList() {
+    getInstance();
     return subfieldList;
   }
 
   public static ControlSubfieldDefinition getByLabel(String key) {
+    getInstance();
     return subfieldLabelMap.get(key);
   }
 
   public static ControlSubfieldDefinition getById(String key) {
+    getInstance();
     return subfieldIdMap.get(key);
   }
 }
@@ -10,7 +10,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader00 extends ControlSubfieldDefinition {
-  private static Leader00 uniqueInstance;
+  private static volatile Leader00 uniqueInstance;
 
   private Leader00() {
     initialize();
@@ -19,7 +19,10 @@ public class Leader00 extends ControlSubfieldDefinition {
 
   public static Leader00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader00();
+      synchronized (Leader00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader00();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader05 extends ControlSubfieldDefinition {
-  private static Leader05 uniqueInstance;
+  private static volatile Leader05 uniqueInstance;
 
   private Leader05() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader05 extends ControlSubfieldDefinition {
 
   public static Leader05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader05();
+      synchronized (Leader05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader05();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader06 extends ControlSubfieldDefinition {
-  private static Leader06 uniqueInstance;
+  private static volatile Leader06 uniqueInstance;
 
   private Leader06() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader06 extends ControlSubfieldDefinition {
 
   public static Leader06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader06();
+      synchronized (Leader06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader06();
+      }
     return uniqueInstance;
   }
 
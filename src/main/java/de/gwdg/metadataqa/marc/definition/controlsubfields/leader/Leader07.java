@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader07 extends ControlSubfieldDefinition {
-  private static Leader07 uniqueInstance;
+  private static volatile Leader07 uniqueInstance;
 
   private Leader07() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader07 extends ControlSubfieldDefinition {
 
   public static Leader07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader07();
+      synchronized (Leader07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader07();
+      }
     return uniqueInstance;
   }
 
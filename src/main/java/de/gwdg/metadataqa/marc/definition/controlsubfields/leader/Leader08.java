@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader08 extends ControlSubfieldDefinition {
-  private static Leader08 uniqueInstance;
+  private static volatile Leader08 uniqueInstance;
 
   private Leader08() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader08 extends ControlSubfieldDefinition {
 
   public static Leader08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader08();
+      synchronized (Leader08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader08();
+      }
     return uniqueInstance;
   }
 
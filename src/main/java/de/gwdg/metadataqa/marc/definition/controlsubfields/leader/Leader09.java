@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader09 extends ControlSubfieldDefinition {
-  private static Leader09 uniqueInstance;
+  private static volatile Leader09 uniqueInstance;
 
   private Leader09() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader09 extends ControlSubfieldDefinition {
 
   public static Leader09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader09();
+      synchronized (Leader09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader09();
+      }
     return uniqueInstance;
   }
 
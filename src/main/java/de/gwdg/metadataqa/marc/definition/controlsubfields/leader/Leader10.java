@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader10 extends ControlSubfieldDefinition {
-  private static Leader10 uniqueInstance;
+  private static volatile Leader10 uniqueInstance;
 
   private Leader10() {
     initialize();
@@ -20,7 +20,10 @@ public class Leader10 extends ControlSubfieldDefinition {
 
   public static Leader10 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader10();
+      synchronized (Leader10.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader10();
+      }
     return uniqueInstance;
   }
 
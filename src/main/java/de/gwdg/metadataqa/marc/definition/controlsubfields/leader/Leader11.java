@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader11 extends ControlSubfieldDefinition {
-  private static Leader11 uniqueInstance;
+  private static volatile Leader11 uniqueInstance;
 
   private Leader11() {
     initialize();
@@ -20,7 +20,10 @@ public class Leader11 extends ControlSubfieldDefinition {
 
   public static Leader11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader11();
+      synchronized (Leader11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader11();
+      }
     return uniqueInstance;
   }
 
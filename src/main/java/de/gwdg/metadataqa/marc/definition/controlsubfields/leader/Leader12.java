@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader12 extends ControlSubfieldDefinition {
-  private static Leader12 uniqueInstance;
+  private static volatile Leader12 uniqueInstance;
 
   private Leader12() {
     initialize();
@@ -20,7 +20,10 @@ public class Leader12 extends ControlSubfieldDefinition {
 
   public static Leader12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader12();
+      synchronized (Leader12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader12();
+      }
     return uniqueInstance;
   }
 
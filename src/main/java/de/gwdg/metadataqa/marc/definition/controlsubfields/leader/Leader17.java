@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader17 extends ControlSubfieldDefinition {
-  private static Leader17 uniqueInstance;
+  private static volatile Leader17 uniqueInstance;
 
   private Leader17() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader17 extends ControlSubfieldDefinition {
 
   public static Leader17 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader17();
+      synchronized (Leader17.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader17();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader18 extends ControlSubfieldDefinition {
-  private static Leader18 uniqueInstance;
+  private static volatile Leader18 uniqueInstance;
 
   private Leader18() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader18 extends ControlSubfieldDefinition {
 
   public static Leader18 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader18();
+      synchronized (Leader18.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader18();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader19 extends ControlSubfieldDefinition {
-  private static Leader19 uniqueInstance;
+  private static volatile Leader19 uniqueInstance;
 
   private Leader19() {
     initialize();
@@ -21,7 +21,10 @@ public class Leader19 extends ControlSubfieldDefinition {
 
   public static Leader19 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader19();
+      synchronized (Leader19.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader19();
+      }
     return uniqueInstance;
   }
 
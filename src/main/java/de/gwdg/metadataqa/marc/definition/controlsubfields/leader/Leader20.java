@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader20 extends ControlSubfieldDefinition {
-  private static Leader20 uniqueInstance;
+  private static volatile Leader20 uniqueInstance;
 
   private Leader20() {
     initialize();
@@ -20,7 +20,10 @@ public class Leader20 extends ControlSubfieldDefinition {
 
   public static Leader20 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader20();
+      synchronized (Leader20.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader20();
+      }
     return uniqueInstance;
   }
 
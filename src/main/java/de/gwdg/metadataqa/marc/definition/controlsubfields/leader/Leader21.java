@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader21 extends ControlSubfieldDefinition {
-  private static Leader21 uniqueInstance;
+  private static volatile Leader21 uniqueInstance;
 
   private Leader21() {
     initialize();
@@ -20,7 +20,10 @@ public class Leader21 extends ControlSubfieldDefinition {
 
   public static Leader21 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader21();
+      synchronized (Leader21.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader21();
+      }
     return uniqueInstance;
   }
 
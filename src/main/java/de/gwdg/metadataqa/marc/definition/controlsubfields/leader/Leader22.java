@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementProcess;
  * https://www.loc.gov/marc/bibliographic/bdleader.html
  */
 public class Leader22 extends ControlSubfieldDefinition {
-  private static Leader22 uniqueInstance;
+  private static volatile Leader22 uniqueInstance;
 
   private Leader22() {
     initialize();
@@ -20,7 +20,10 @@ public class Leader22 extends ControlSubfieldDefinition {
 
   public static Leader22 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Leader22();
+      synchronized (Leader22.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Leader22();
+      }
     return uniqueInstance;
   }
 
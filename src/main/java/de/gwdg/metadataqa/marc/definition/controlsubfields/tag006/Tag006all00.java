@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006all00 extends ControlSubfieldDefinition {
-  private static Tag006all00 uniqueInstance;
+  private static volatile Tag006all00 uniqueInstance;
 
   private Tag006all00() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag006all00 extends ControlSubfieldDefinition {
 
   public static Tag006all00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006all00();
+      synchronized (Tag006all00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006all00();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.DiscoverySelect;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book01 extends ControlSubfieldDefinition {
-  private static Tag006book01 uniqueInstance;
+  private static volatile Tag006book01 uniqueInstance;
 
   private Tag006book01() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag006book01 extends ControlSubfieldDefinition {
 
   public static Tag006book01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book01();
+      synchronized (Tag006book01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book01();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book05 extends ControlSubfieldDefinition {
-  private static Tag006book05 uniqueInstance;
+  private static volatile Tag006book05 uniqueInstance;
 
   private Tag006book05() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag006book05 extends ControlSubfieldDefinition {
 
   public static Tag006book05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book05();
+      synchronized (Tag006book05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book05();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book06 extends ControlSubfieldDefinition {
-  private static Tag006book06 uniqueInstance;
+  private static volatile Tag006book06 uniqueInstance;
 
   private Tag006book06() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book06 extends ControlSubfieldDefinition {
 
   public static Tag006book06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book06();
+      synchronized (Tag006book06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book06();
+      }
     return uniqueInstance;
   }
 
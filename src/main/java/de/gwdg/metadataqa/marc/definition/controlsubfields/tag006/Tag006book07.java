@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book07 extends ControlSubfieldDefinition {
-  private static Tag006book07 uniqueInstance;
+  private static volatile Tag006book07 uniqueInstance;
 
   private Tag006book07() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book07 extends ControlSubfieldDefinition {
 
   public static Tag006book07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book07();
+      synchronized (Tag006book07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book07();
+      }
     return uniqueInstance;
   }
 
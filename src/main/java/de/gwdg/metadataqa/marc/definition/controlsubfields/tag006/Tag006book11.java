@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book11 extends ControlSubfieldDefinition {
-  private static Tag006book11 uniqueInstance;
+  private static volatile Tag006book11 uniqueInstance;
 
   private Tag006book11() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book11 extends ControlSubfieldDefinition {
 
   public static Tag006book11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book11();
+      synchronized (Tag006book11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book11();
+      }
     return uniqueInstance;
   }
 
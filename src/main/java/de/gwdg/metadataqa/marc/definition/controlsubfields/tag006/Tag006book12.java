@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book12 extends ControlSubfieldDefinition {
-  private static Tag006book12 uniqueInstance;
+  private static volatile Tag006book12 uniqueInstance;
 
   private Tag006book12() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book12 extends ControlSubfieldDefinition {
 
   public static Tag006book12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book12();
+      synchronized (Tag006book12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book12();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book13 extends ControlSubfieldDefinition {
-  private static Tag006book13 uniqueInstance;
+  private static volatile Tag006book13 uniqueInstance;
 
   private Tag006book13() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book13 extends ControlSubfieldDefinition {
 
   public static Tag006book13 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book13();
+      synchronized (Tag006book13.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book13();
+      }
     return uniqueInstance;
   }
 
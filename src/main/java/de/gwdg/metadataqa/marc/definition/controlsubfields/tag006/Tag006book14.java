@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book14 extends ControlSubfieldDefinition {
-  private static Tag006book14 uniqueInstance;
+  private static volatile Tag006book14 uniqueInstance;
 
   private Tag006book14() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book14 extends ControlSubfieldDefinition {
 
   public static Tag006book14 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book14();
+      synchronized (Tag006book14.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book14();
+      }
     return uniqueInstance;
   }
 
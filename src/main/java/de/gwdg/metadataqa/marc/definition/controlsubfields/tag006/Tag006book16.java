@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book16 extends ControlSubfieldDefinition {
-  private static Tag006book16 uniqueInstance;
+  private static volatile Tag006book16 uniqueInstance;
 
   private Tag006book16() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book16 extends ControlSubfieldDefinition {
 
   public static Tag006book16 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book16();
+      synchronized (Tag006book16.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book16();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag006book17 extends ControlSubfieldDefinition {
-  private static Tag006book17 uniqueInstance;
+  private static volatile Tag006book17 uniqueInstance;
 
   private Tag006book17() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag006book17 extends ControlSubfieldDefinition {
 
   public static Tag006book17 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006book17();
+      synchronized (Tag006book17.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006book17();
+      }
     return uniqueInstance;
   }
 
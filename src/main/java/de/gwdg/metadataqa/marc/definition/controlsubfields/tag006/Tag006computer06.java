@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006computer06 extends ControlSubfieldDefinition {
-  private static Tag006computer06 uniqueInstance;
+  private static volatile Tag006computer06 uniqueInstance;
 
   private Tag006computer06() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag006computer06 extends ControlSubfieldDefinition {
 
   public static Tag006computer06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006computer06();
+      synchronized (Tag006computer06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006computer06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006computer09 extends ControlSubfieldDefinition {
-  private static Tag006computer09 uniqueInstance;
+  private static volatile Tag006computer09 uniqueInstance;
 
   private Tag006computer09() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006computer09 extends ControlSubfieldDefinition {
 
   public static Tag006computer09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006computer09();
+      synchronized (Tag006computer09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006computer09();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006computer11 extends ControlSubfieldDefinition {
-  private static Tag006computer11 uniqueInstance;
+  private static volatile Tag006computer11 uniqueInstance;
 
   private Tag006computer11() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006computer11 extends ControlSubfieldDefinition {
 
   public static Tag006computer11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006computer11();
+      synchronized (Tag006computer11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006computer11();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing01 extends ControlSubfieldDefinition {
-  private static Tag006continuing01 uniqueInstance;
+  private static volatile Tag006continuing01 uniqueInstance;
 
   private Tag006continuing01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006continuing01 extends ControlSubfieldDefinition {
 
   public static Tag006continuing01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing01();
+      synchronized (Tag006continuing01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing02 extends ControlSubfieldDefinition {
-  private static Tag006continuing02 uniqueInstance;
+  private static volatile Tag006continuing02 uniqueInstance;
 
   private Tag006continuing02() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006continuing02 extends ControlSubfieldDefinition {
 
   public static Tag006continuing02 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing02();
+      synchronized (Tag006continuing02.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing02();
+      }
     return uniqueInstance;
   }
 
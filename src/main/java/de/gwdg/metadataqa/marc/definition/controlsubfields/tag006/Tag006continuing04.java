@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing04 extends ControlSubfieldDefinition {
-  private static Tag006continuing04 uniqueInstance;
+  private static volatile Tag006continuing04 uniqueInstance;
 
   private Tag006continuing04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006continuing04 extends ControlSubfieldDefinition {
 
   public static Tag006continuing04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing04();
+      synchronized (Tag006continuing04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing04();
+      }
     return uniqueInstance;
   }
 
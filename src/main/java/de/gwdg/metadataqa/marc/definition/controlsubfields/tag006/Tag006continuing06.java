@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing06 extends ControlSubfieldDefinition {
-  private static Tag006continuing06 uniqueInstance;
+  private static volatile Tag006continuing06 uniqueInstance;
 
   private Tag006continuing06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006continuing06 extends ControlSubfieldDefinition {
 
   public static Tag006continuing06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing06();
+      synchronized (Tag006continuing06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing08 extends ControlSubfieldDefinition {
-  private static Tag006continuing08 uniqueInstance;
+  private static volatile Tag006continuing08 uniqueInstance;
 
   private Tag006continuing08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006continuing08 extends ControlSubfieldDefinition {
 
   public static Tag006continuing08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing08();
+      synchronized (Tag006continuing08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing08();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing12 extends ControlSubfieldDefinition {
-  private static Tag006continuing12 uniqueInstance;
+  private static volatile Tag006continuing12 uniqueInstance;
 
   private Tag006continuing12() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006continuing12 extends ControlSubfieldDefinition {
 
   public static Tag006continuing12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing12();
+      synchronized (Tag006continuing12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing12();
+      }
     return uniqueInstance;
   }
 
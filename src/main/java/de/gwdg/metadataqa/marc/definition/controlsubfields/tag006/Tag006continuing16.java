@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing16 extends ControlSubfieldDefinition {
-  private static Tag006continuing16 uniqueInstance;
+  private static volatile Tag006continuing16 uniqueInstance;
 
   private Tag006continuing16() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag006continuing16 extends ControlSubfieldDefinition {
 
   public static Tag006continuing16 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing16();
+      synchronized (Tag006continuing16.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing16();
+      }
     return uniqueInstance;
   }
 
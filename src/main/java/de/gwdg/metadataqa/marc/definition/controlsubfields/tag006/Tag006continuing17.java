@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006continuing17 extends ControlSubfieldDefinition {
-  private static Tag006continuing17 uniqueInstance;
+  private static volatile Tag006continuing17 uniqueInstance;
 
   private Tag006continuing17() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag006continuing17 extends ControlSubfieldDefinition {
 
   public static Tag006continuing17 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006continuing17();
+      synchronized (Tag006continuing17.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006continuing17();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006map08 extends ControlSubfieldDefinition {
-  private static Tag006map08 uniqueInstance;
+  private static volatile Tag006map08 uniqueInstance;
 
   private Tag006map08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006map08 extends ControlSubfieldDefinition {
 
   public static Tag006map08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006map08();
+      synchronized (Tag006map08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006map08();
+      }
     return uniqueInstance;
   }
 
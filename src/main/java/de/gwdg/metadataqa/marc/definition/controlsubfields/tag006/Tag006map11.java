@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006map11 extends ControlSubfieldDefinition {
-  private static Tag006map11 uniqueInstance;
+  private static volatile Tag006map11 uniqueInstance;
 
   private Tag006map11() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006map11 extends ControlSubfieldDefinition {
 
   public static Tag006map11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006map11();
+      synchronized (Tag006map11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006map11();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006map12 extends ControlSubfieldDefinition {
-  private static Tag006map12 uniqueInstance;
+  private static volatile Tag006map12 uniqueInstance;
 
   private Tag006map12() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006map12 extends ControlSubfieldDefinition {
 
   public static Tag006map12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006map12();
+      synchronized (Tag006map12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006map12();
+      }
     return uniqueInstance;
   }
 
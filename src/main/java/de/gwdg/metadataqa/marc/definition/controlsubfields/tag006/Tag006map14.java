@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006map14 extends ControlSubfieldDefinition {
-  private static Tag006map14 uniqueInstance;
+  private static volatile Tag006map14 uniqueInstance;
 
   private Tag006map14() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006map14 extends ControlSubfieldDefinition {
 
   public static Tag006map14 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006map14();
+      synchronized (Tag006map14.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006map14();
+      }
     return uniqueInstance;
   }
 
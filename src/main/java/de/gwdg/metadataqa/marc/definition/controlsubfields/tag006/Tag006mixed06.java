@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006mixed06 extends ControlSubfieldDefinition {
-  private static Tag006mixed06 uniqueInstance;
+  private static volatile Tag006mixed06 uniqueInstance;
 
   private Tag006mixed06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006mixed06 extends ControlSubfieldDefinition {
 
   public static Tag006mixed06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006mixed06();
+      synchronized (Tag006mixed06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006mixed06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006music01 extends ControlSubfieldDefinition {
-  private static Tag006music01 uniqueInstance;
+  private static volatile Tag006music01 uniqueInstance;
 
   private Tag006music01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006music01 extends ControlSubfieldDefinition {
 
   public static Tag006music01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006music01();
+      synchronized (Tag006music01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006music01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006music03 extends ControlSubfieldDefinition {
-  private static Tag006music03 uniqueInstance;
+  private static volatile Tag006music03 uniqueInstance;
 
   private Tag006music03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006music03 extends ControlSubfieldDefinition {
 
   public static Tag006music03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006music03();
+      synchronized (Tag006music03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006music03();
+      }
     return uniqueInstance;
   }
 
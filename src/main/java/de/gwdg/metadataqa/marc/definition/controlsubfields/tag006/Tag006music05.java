@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006music05 extends ControlSubfieldDefinition {
-  private static Tag006music05 uniqueInstance;
+  private static volatile Tag006music05 uniqueInstance;
 
   private Tag006music05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006music05 extends ControlSubfieldDefinition {
 
   public static Tag006music05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006music05();
+      synchronized (Tag006music05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006music05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006music07 extends ControlSubfieldDefinition {
-  private static Tag006music07 uniqueInstance;
+  private static volatile Tag006music07 uniqueInstance;
 
   private Tag006music07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006music07 extends ControlSubfieldDefinition {
 
   public static Tag006music07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006music07();
+      synchronized (Tag006music07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006music07();
+      }
     return uniqueInstance;
   }
 
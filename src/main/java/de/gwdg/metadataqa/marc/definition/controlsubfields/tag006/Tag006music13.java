@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006music13 extends ControlSubfieldDefinition {
-  private static Tag006music13 uniqueInstance;
+  private static volatile Tag006music13 uniqueInstance;
 
   private Tag006music13() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006music13 extends ControlSubfieldDefinition {
 
   public static Tag006music13 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006music13();
+      synchronized (Tag006music13.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006music13();
+      }
     return uniqueInstance;
   }
 
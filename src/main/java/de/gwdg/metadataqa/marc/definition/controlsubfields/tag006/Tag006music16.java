@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006music16 extends ControlSubfieldDefinition {
-  private static Tag006music16 uniqueInstance;
+  private static volatile Tag006music16 uniqueInstance;
 
   private Tag006music16() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag006music16 extends ControlSubfieldDefinition {
 
   public static Tag006music16 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006music16();
+      synchronized (Tag006music16.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006music16();
+      }
     return uniqueInstance;
   }
 
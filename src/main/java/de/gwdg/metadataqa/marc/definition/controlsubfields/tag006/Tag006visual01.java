@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006visual01 extends ControlSubfieldDefinition {
-  private static Tag006visual01 uniqueInstance;
+  private static volatile Tag006visual01 uniqueInstance;
 
   private Tag006visual01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006visual01 extends ControlSubfieldDefinition {
 
   public static Tag006visual01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006visual01();
+      synchronized (Tag006visual01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006visual01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006visual05 extends ControlSubfieldDefinition {
-  private static Tag006visual05 uniqueInstance;
+  private static volatile Tag006visual05 uniqueInstance;
 
   private Tag006visual05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006visual05 extends ControlSubfieldDefinition {
 
   public static Tag006visual05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006visual05();
+      synchronized (Tag006visual05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006visual05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006visual11 extends ControlSubfieldDefinition {
-  private static Tag006visual11 uniqueInstance;
+  private static volatile Tag006visual11 uniqueInstance;
 
   private Tag006visual11() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006visual11 extends ControlSubfieldDefinition {
 
   public static Tag006visual11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006visual11();
+      synchronized (Tag006visual11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006visual11();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006visual16 extends ControlSubfieldDefinition {
-  private static Tag006visual16 uniqueInstance;
+  private static volatile Tag006visual16 uniqueInstance;
 
   private Tag006visual16() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006visual16 extends ControlSubfieldDefinition {
 
   public static Tag006visual16 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006visual16();
+      synchronized (Tag006visual16.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006visual16();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd006.html
  */
 public class Tag006visual17 extends ControlSubfieldDefinition {
-  private static Tag006visual17 uniqueInstance;
+  private static volatile Tag006visual17 uniqueInstance;
 
   private Tag006visual17() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag006visual17 extends ControlSubfieldDefinition {
 
   public static Tag006visual17 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag006visual17();
+      synchronized (Tag006visual17.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag006visual17();
+      }
     return uniqueInstance;
   }
 
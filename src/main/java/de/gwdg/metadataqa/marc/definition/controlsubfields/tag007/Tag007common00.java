@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007common00 extends ControlSubfieldDefinition {
-  private static Tag007common00 uniqueInstance;
+  private static volatile Tag007common00 uniqueInstance;
 
   private Tag007common00() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007common00 extends ControlSubfieldDefinition {
 
   public static Tag007common00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007common00();
+      synchronized (Tag007common00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007common00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro00 extends ControlSubfieldDefinition {
-  private static Tag007electro00 uniqueInstance;
+  private static volatile Tag007electro00 uniqueInstance;
 
   private Tag007electro00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro00 extends ControlSubfieldDefinition {
 
   public static Tag007electro00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro00();
+      synchronized (Tag007electro00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro00();
+      }
     return uniqueInstance;
   }
 
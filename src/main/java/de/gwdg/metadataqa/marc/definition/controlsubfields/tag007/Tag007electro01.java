@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro01 extends ControlSubfieldDefinition {
-  private static Tag007electro01 uniqueInstance;
+  private static volatile Tag007electro01 uniqueInstance;
 
   private Tag007electro01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro01 extends ControlSubfieldDefinition {
 
   public static Tag007electro01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro01();
+      synchronized (Tag007electro01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro03 extends ControlSubfieldDefinition {
-  private static Tag007electro03 uniqueInstance;
+  private static volatile Tag007electro03 uniqueInstance;
 
   private Tag007electro03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro03 extends ControlSubfieldDefinition {
 
   public static Tag007electro03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro03();
+      synchronized (Tag007electro03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro03();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro04 extends ControlSubfieldDefinition {
-  private static Tag007electro04 uniqueInstance;
+  private static volatile Tag007electro04 uniqueInstance;
 
   private Tag007electro04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro04 extends ControlSubfieldDefinition {
 
   public static Tag007electro04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro04();
+      synchronized (Tag007electro04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro04();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro05 extends ControlSubfieldDefinition {
-  private static Tag007electro05 uniqueInstance;
+  private static volatile Tag007electro05 uniqueInstance;
 
   private Tag007electro05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro05 extends ControlSubfieldDefinition {
 
   public static Tag007electro05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro05();
+      synchronized (Tag007electro05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro06 extends ControlSubfieldDefinition {
-  private static Tag007electro06 uniqueInstance;
+  private static volatile Tag007electro06 uniqueInstance;
 
   private Tag007electro06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro06 extends ControlSubfieldDefinition {
 
   public static Tag007electro06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro06();
+      synchronized (Tag007electro06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro06();
+      }
     return uniqueInstance;
   }
 
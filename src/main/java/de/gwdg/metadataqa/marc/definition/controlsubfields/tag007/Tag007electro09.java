@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro09 extends ControlSubfieldDefinition {
-  private static Tag007electro09 uniqueInstance;
+  private static volatile Tag007electro09 uniqueInstance;
 
   private Tag007electro09() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007electro09 extends ControlSubfieldDefinition {
 
   public static Tag007electro09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro09();
+      synchronized (Tag007electro09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro09();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro10 extends ControlSubfieldDefinition {
-  private static Tag007electro10 uniqueInstance;
+  private static volatile Tag007electro10 uniqueInstance;
 
   private Tag007electro10() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro10 extends ControlSubfieldDefinition {
 
   public static Tag007electro10 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro10();
+      synchronized (Tag007electro10.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro10();
+      }
     return uniqueInstance;
   }
 
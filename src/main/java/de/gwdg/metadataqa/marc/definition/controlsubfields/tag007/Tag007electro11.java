@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro11 extends ControlSubfieldDefinition {
-  private static Tag007electro11 uniqueInstance;
+  private static volatile Tag007electro11 uniqueInstance;
 
   private Tag007electro11() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro11 extends ControlSubfieldDefinition {
 
   public static Tag007electro11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro11();
+      synchronized (Tag007electro11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro11();
+      }
     return uniqueInstance;
   }
 
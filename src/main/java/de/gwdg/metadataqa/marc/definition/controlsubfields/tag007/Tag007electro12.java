@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro12 extends ControlSubfieldDefinition {
-  private static Tag007electro12 uniqueInstance;
+  private static volatile Tag007electro12 uniqueInstance;
 
   private Tag007electro12() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro12 extends ControlSubfieldDefinition {
 
   public static Tag007electro12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro12();
+      synchronized (Tag007electro12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro12();
+      }
     return uniqueInstance;
   }
 
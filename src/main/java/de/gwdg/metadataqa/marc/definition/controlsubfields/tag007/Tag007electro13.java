@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007c.html
  */
 public class Tag007electro13 extends ControlSubfieldDefinition {
-  private static Tag007electro13 uniqueInstance;
+  private static volatile Tag007electro13 uniqueInstance;
 
   private Tag007electro13() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007electro13 extends ControlSubfieldDefinition {
 
   public static Tag007electro13 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007electro13();
+      synchronized (Tag007electro13.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007electro13();
+      }
     return uniqueInstance;
   }
 
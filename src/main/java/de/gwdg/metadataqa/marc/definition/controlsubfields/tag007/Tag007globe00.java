@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007d.html
  */
 public class Tag007globe00 extends ControlSubfieldDefinition {
-  private static Tag007globe00 uniqueInstance;
+  private static volatile Tag007globe00 uniqueInstance;
 
   private Tag007globe00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007globe00 extends ControlSubfieldDefinition {
 
   public static Tag007globe00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007globe00();
+      synchronized (Tag007globe00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007globe00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007d.html
  */
 public class Tag007globe01 extends ControlSubfieldDefinition {
-  private static Tag007globe01 uniqueInstance;
+  private static volatile Tag007globe01 uniqueInstance;
 
   private Tag007globe01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007globe01 extends ControlSubfieldDefinition {
 
   public static Tag007globe01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007globe01();
+      synchronized (Tag007globe01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007globe01();
+      }
     return uniqueInstance;
   }
 
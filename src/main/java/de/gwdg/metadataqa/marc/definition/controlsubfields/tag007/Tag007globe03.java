@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007d.html
  */
 public class Tag007globe03 extends ControlSubfieldDefinition {
-  private static Tag007globe03 uniqueInstance;
+  private static volatile Tag007globe03 uniqueInstance;
 
   private Tag007globe03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007globe03 extends ControlSubfieldDefinition {
 
   public static Tag007globe03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007globe03();
+      synchronized (Tag007globe03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007globe03();
+      }
     return uniqueInstance;
   }
 
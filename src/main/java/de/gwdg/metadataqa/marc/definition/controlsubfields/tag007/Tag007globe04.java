@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007d.html
  */
 public class Tag007globe04 extends ControlSubfieldDefinition {
-  private static Tag007globe04 uniqueInstance;
+  private static volatile Tag007globe04 uniqueInstance;
 
   private Tag007globe04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007globe04 extends ControlSubfieldDefinition {
 
   public static Tag007globe04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007globe04();
+      synchronized (Tag007globe04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007globe04();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007d.html
  */
 public class Tag007globe05 extends ControlSubfieldDefinition {
-  private static Tag007globe05 uniqueInstance;
+  private static volatile Tag007globe05 uniqueInstance;
 
   private Tag007globe05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007globe05 extends ControlSubfieldDefinition {
 
   public static Tag007globe05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007globe05();
+      synchronized (Tag007globe05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007globe05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007o.html
  */
 public class Tag007kit00 extends ControlSubfieldDefinition {
-  private static Tag007kit00 uniqueInstance;
+  private static volatile Tag007kit00 uniqueInstance;
 
   private Tag007kit00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007kit00 extends ControlSubfieldDefinition {
 
   public static Tag007kit00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007kit00();
+      synchronized (Tag007kit00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007kit00();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007o.html
  */
 public class Tag007kit01 extends ControlSubfieldDefinition {
-  private static Tag007kit01 uniqueInstance;
+  private static volatile Tag007kit01 uniqueInstance;
 
   private Tag007kit01() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007kit01 extends ControlSubfieldDefinition {
 
   public static Tag007kit01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007kit01();
+      synchronized (Tag007kit01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007kit01();
+      }
     return uniqueInstance;
   }
 
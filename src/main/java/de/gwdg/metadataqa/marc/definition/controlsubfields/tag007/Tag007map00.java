@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map00 extends ControlSubfieldDefinition {
-  private static Tag007map00 uniqueInstance;
+  private static volatile Tag007map00 uniqueInstance;
 
   private Tag007map00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map00 extends ControlSubfieldDefinition {
 
   public static Tag007map00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map00();
+      synchronized (Tag007map00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map00();
+      }
     return uniqueInstance;
   }
 
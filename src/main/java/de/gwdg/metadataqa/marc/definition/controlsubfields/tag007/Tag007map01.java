@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map01 extends ControlSubfieldDefinition {
-  private static Tag007map01 uniqueInstance;
+  private static volatile Tag007map01 uniqueInstance;
 
   private Tag007map01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map01 extends ControlSubfieldDefinition {
 
   public static Tag007map01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map01();
+      synchronized (Tag007map01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map01();
+      }
     return uniqueInstance;
   }
 
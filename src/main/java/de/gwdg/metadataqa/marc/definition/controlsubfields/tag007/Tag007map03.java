@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map03 extends ControlSubfieldDefinition {
-  private static Tag007map03 uniqueInstance;
+  private static volatile Tag007map03 uniqueInstance;
 
   private Tag007map03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map03 extends ControlSubfieldDefinition {
 
   public static Tag007map03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map03();
+      synchronized (Tag007map03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map03();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map04 extends ControlSubfieldDefinition {
-  private static Tag007map04 uniqueInstance;
+  private static volatile Tag007map04 uniqueInstance;
 
   private Tag007map04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map04 extends ControlSubfieldDefinition {
 
   public static Tag007map04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map04();
+      synchronized (Tag007map04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map04();
+      }
     return uniqueInstance;
   }
 
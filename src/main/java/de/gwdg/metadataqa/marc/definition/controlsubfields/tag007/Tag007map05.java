@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map05 extends ControlSubfieldDefinition {
-  private static Tag007map05 uniqueInstance;
+  private static volatile Tag007map05 uniqueInstance;
 
   private Tag007map05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map05 extends ControlSubfieldDefinition {
 
   public static Tag007map05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map05();
+      synchronized (Tag007map05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map05();
+      }
     return uniqueInstance;
   }
 
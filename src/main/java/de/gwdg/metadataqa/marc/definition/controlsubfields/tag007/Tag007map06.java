@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map06 extends ControlSubfieldDefinition {
-  private static Tag007map06 uniqueInstance;
+  private static volatile Tag007map06 uniqueInstance;
 
   private Tag007map06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map06 extends ControlSubfieldDefinition {
 
   public static Tag007map06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map06();
+      synchronized (Tag007map06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map06();
+      }
     return uniqueInstance;
   }
 
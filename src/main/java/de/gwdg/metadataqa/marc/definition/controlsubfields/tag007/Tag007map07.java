@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007a.html
  */
 public class Tag007map07 extends ControlSubfieldDefinition {
-  private static Tag007map07 uniqueInstance;
+  private static volatile Tag007map07 uniqueInstance;
 
   private Tag007map07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007map07 extends ControlSubfieldDefinition {
 
   public static Tag007map07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007map07();
+      synchronized (Tag007map07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007map07();
+      }
     return uniqueInstance;
   }
 
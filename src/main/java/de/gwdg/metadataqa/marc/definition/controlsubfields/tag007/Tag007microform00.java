@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform00 extends ControlSubfieldDefinition {
-  private static Tag007microform00 uniqueInstance;
+  private static volatile Tag007microform00 uniqueInstance;
 
   private Tag007microform00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform00 extends ControlSubfieldDefinition {
 
   public static Tag007microform00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform00();
+      synchronized (Tag007microform00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform01 extends ControlSubfieldDefinition {
-  private static Tag007microform01 uniqueInstance;
+  private static volatile Tag007microform01 uniqueInstance;
 
   private Tag007microform01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform01 extends ControlSubfieldDefinition {
 
   public static Tag007microform01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform01();
+      synchronized (Tag007microform01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform03 extends ControlSubfieldDefinition {
-  private static Tag007microform03 uniqueInstance;
+  private static volatile Tag007microform03 uniqueInstance;
 
   private Tag007microform03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform03 extends ControlSubfieldDefinition {
 
   public static Tag007microform03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform03();
+      synchronized (Tag007microform03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform03();
+      }
     return uniqueInstance;
   }
 
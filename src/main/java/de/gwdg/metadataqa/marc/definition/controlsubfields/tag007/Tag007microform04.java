@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform04 extends ControlSubfieldDefinition {
-  private static Tag007microform04 uniqueInstance;
+  private static volatile Tag007microform04 uniqueInstance;
 
   private Tag007microform04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform04 extends ControlSubfieldDefinition {
 
   public static Tag007microform04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform04();
+      synchronized (Tag007microform04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform04();
+      }
     return uniqueInstance;
   }
 
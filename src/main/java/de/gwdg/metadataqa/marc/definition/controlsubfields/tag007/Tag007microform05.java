@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform05 extends ControlSubfieldDefinition {
-  private static Tag007microform05 uniqueInstance;
+  private static volatile Tag007microform05 uniqueInstance;
 
   private Tag007microform05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform05 extends ControlSubfieldDefinition {
 
   public static Tag007microform05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform05();
+      synchronized (Tag007microform05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform05();
+      }
     return uniqueInstance;
   }
 
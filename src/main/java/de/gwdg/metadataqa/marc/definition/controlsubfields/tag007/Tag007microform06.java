@@ -10,7 +10,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform06 extends ControlSubfieldDefinition {
-  private static Tag007microform06 uniqueInstance;
+  private static volatile Tag007microform06 uniqueInstance;
 
   private Tag007microform06() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag007microform06 extends ControlSubfieldDefinition {
 
   public static Tag007microform06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform06();
+      synchronized (Tag007microform06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform06();
+      }
     return uniqueInstance;
   }
 
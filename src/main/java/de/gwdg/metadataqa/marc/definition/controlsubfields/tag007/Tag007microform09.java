@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform09 extends ControlSubfieldDefinition {
-  private static Tag007microform09 uniqueInstance;
+  private static volatile Tag007microform09 uniqueInstance;
 
   private Tag007microform09() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform09 extends ControlSubfieldDefinition {
 
   public static Tag007microform09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform09();
+      synchronized (Tag007microform09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform09();
+      }
     return uniqueInstance;
   }
 
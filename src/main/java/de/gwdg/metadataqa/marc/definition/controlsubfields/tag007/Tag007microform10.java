@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform10 extends ControlSubfieldDefinition {
-  private static Tag007microform10 uniqueInstance;
+  private static volatile Tag007microform10 uniqueInstance;
 
   private Tag007microform10() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform10 extends ControlSubfieldDefinition {
 
   public static Tag007microform10 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform10();
+      synchronized (Tag007microform10.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform10();
+      }
     return uniqueInstance;
   }
 
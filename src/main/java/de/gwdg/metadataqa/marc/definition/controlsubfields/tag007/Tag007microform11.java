@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform11 extends ControlSubfieldDefinition {
-  private static Tag007microform11 uniqueInstance;
+  private static volatile Tag007microform11 uniqueInstance;
 
   private Tag007microform11() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform11 extends ControlSubfieldDefinition {
 
   public static Tag007microform11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform11();
+      synchronized (Tag007microform11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform11();
+      }
     return uniqueInstance;
   }
 
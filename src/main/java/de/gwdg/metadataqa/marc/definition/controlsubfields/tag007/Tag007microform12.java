@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007h.html
  */
 public class Tag007microform12 extends ControlSubfieldDefinition {
-  private static Tag007microform12 uniqueInstance;
+  private static volatile Tag007microform12 uniqueInstance;
 
   private Tag007microform12() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007microform12 extends ControlSubfieldDefinition {
 
   public static Tag007microform12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007microform12();
+      synchronized (Tag007microform12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007microform12();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture00 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture00 uniqueInstance;
+  private static volatile Tag007motionPicture00 uniqueInstance;
 
   private Tag007motionPicture00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture00 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture00();
+      synchronized (Tag007motionPicture00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture01 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture01 uniqueInstance;
+  private static volatile Tag007motionPicture01 uniqueInstance;
 
   private Tag007motionPicture01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture01 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture01();
+      synchronized (Tag007motionPicture01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture03 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture03 uniqueInstance;
+  private static volatile Tag007motionPicture03 uniqueInstance;
 
   private Tag007motionPicture03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture03 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture03();
+      synchronized (Tag007motionPicture03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture03();
+      }
     return uniqueInstance;
   }
 
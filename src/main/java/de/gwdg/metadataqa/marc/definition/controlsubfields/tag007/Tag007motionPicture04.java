@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture04 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture04 uniqueInstance;
+  private static volatile Tag007motionPicture04 uniqueInstance;
 
   private Tag007motionPicture04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture04 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture04();
+      synchronized (Tag007motionPicture04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture04();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture05 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture05 uniqueInstance;
+  private static volatile Tag007motionPicture05 uniqueInstance;
 
   private Tag007motionPicture05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture05 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture05();
+      synchronized (Tag007motionPicture05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture06 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture06 uniqueInstance;
+  private static volatile Tag007motionPicture06 uniqueInstance;
 
   private Tag007motionPicture06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture06 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture06();
+      synchronized (Tag007motionPicture06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture07 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture07 uniqueInstance;
+  private static volatile Tag007motionPicture07 uniqueInstance;
 
   private Tag007motionPicture07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture07 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture07();
+      synchronized (Tag007motionPicture07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture07();
+      }
     return uniqueInstance;
   }
 
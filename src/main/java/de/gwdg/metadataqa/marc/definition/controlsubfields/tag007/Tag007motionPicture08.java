@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture08 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture08 uniqueInstance;
+  private static volatile Tag007motionPicture08 uniqueInstance;
 
   private Tag007motionPicture08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture08 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture08();
+      synchronized (Tag007motionPicture08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture08();
+      }
     return uniqueInstance;
   }
 
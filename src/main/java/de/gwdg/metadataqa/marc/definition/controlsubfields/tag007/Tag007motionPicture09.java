@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture09 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture09 uniqueInstance;
+  private static volatile Tag007motionPicture09 uniqueInstance;
 
   private Tag007motionPicture09() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007motionPicture09 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture09();
+      synchronized (Tag007motionPicture09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture09();
+      }
     return uniqueInstance;
   }
 
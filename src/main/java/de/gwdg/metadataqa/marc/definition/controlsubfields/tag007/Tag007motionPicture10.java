@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture10 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture10 uniqueInstance;
+  private static volatile Tag007motionPicture10 uniqueInstance;
 
   private Tag007motionPicture10() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture10 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture10 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture10();
+      synchronized (Tag007motionPicture10.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture10();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture11 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture11 uniqueInstance;
+  private static volatile Tag007motionPicture11 uniqueInstance;
 
   private Tag007motionPicture11() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture11 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture11();
+      synchronized (Tag007motionPicture11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture11();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture12 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture12 uniqueInstance;
+  private static volatile Tag007motionPicture12 uniqueInstance;
 
   private Tag007motionPicture12() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture12 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture12();
+      synchronized (Tag007motionPicture12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture12();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture13 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture13 uniqueInstance;
+  private static volatile Tag007motionPicture13 uniqueInstance;
 
   private Tag007motionPicture13() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture13 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture13 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture13();
+      synchronized (Tag007motionPicture13.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture13();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture14 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture14 uniqueInstance;
+  private static volatile Tag007motionPicture14 uniqueInstance;
 
   private Tag007motionPicture14() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture14 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture14 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture14();
+      synchronized (Tag007motionPicture14.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture14();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture15 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture15 uniqueInstance;
+  private static volatile Tag007motionPicture15 uniqueInstance;
 
   private Tag007motionPicture15() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture15 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture15 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture15();
+      synchronized (Tag007motionPicture15.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture15();
+      }
     return uniqueInstance;
   }
 
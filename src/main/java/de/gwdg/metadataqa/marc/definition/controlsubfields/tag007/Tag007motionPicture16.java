@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture16 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture16 uniqueInstance;
+  private static volatile Tag007motionPicture16 uniqueInstance;
 
   private Tag007motionPicture16() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007motionPicture16 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture16 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture16();
+      synchronized (Tag007motionPicture16.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture16();
+      }
     return uniqueInstance;
   }
 
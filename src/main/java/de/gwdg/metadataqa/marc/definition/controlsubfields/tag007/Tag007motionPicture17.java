@@ -10,7 +10,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007m.html
  */
 public class Tag007motionPicture17 extends ControlSubfieldDefinition {
-  private static Tag007motionPicture17 uniqueInstance;
+  private static volatile Tag007motionPicture17 uniqueInstance;
 
   private Tag007motionPicture17() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag007motionPicture17 extends ControlSubfieldDefinition {
 
   public static Tag007motionPicture17 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007motionPicture17();
+      synchronized (Tag007motionPicture17.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007motionPicture17();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007q.html
  */
 public class Tag007music00 extends ControlSubfieldDefinition {
-  private static Tag007music00 uniqueInstance;
+  private static volatile Tag007music00 uniqueInstance;
 
   private Tag007music00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007music00 extends ControlSubfieldDefinition {
 
   public static Tag007music00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007music00();
+      synchronized (Tag007music00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007music00();
+      }
     return uniqueInstance;
   }
 
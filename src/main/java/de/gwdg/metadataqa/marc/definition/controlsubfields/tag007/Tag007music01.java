@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007q.html
  */
 public class Tag007music01 extends ControlSubfieldDefinition {
-  private static Tag007music01 uniqueInstance;
+  private static volatile Tag007music01 uniqueInstance;
 
   private Tag007music01() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007music01 extends ControlSubfieldDefinition {
 
   public static Tag007music01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007music01();
+      synchronized (Tag007music01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007music01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007k.html
  */
 public class Tag007nonprojected00 extends ControlSubfieldDefinition {
-  private static Tag007nonprojected00 uniqueInstance;
+  private static volatile Tag007nonprojected00 uniqueInstance;
 
   private Tag007nonprojected00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007nonprojected00 extends ControlSubfieldDefinition {
 
   public static Tag007nonprojected00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007nonprojected00();
+      synchronized (Tag007nonprojected00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007nonprojected00();
+      }
     return uniqueInstance;
   }
 
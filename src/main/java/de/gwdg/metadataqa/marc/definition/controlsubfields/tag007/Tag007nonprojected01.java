@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007k.html
  */
 public class Tag007nonprojected01 extends ControlSubfieldDefinition {
-  private static Tag007nonprojected01 uniqueInstance;
+  private static volatile Tag007nonprojected01 uniqueInstance;
 
   private Tag007nonprojected01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007nonprojected01 extends ControlSubfieldDefinition {
 
   public static Tag007nonprojected01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007nonprojected01();
+      synchronized (Tag007nonprojected01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007nonprojected01();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007k.html
  */
 public class Tag007nonprojected02 extends ControlSubfieldDefinition {
-  private static Tag007nonprojected02 uniqueInstance;
+  private static volatile Tag007nonprojected02 uniqueInstance;
 
   private Tag007nonprojected02() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007nonprojected02 extends ControlSubfieldDefinition {
 
   public static Tag007nonprojected02 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007nonprojected02();
+      synchronized (Tag007nonprojected02.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007nonprojected02();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007k.html
  */
 public class Tag007nonprojected03 extends ControlSubfieldDefinition {
-  private static Tag007nonprojected03 uniqueInstance;
+  private static volatile Tag007nonprojected03 uniqueInstance;
 
   private Tag007nonprojected03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007nonprojected03 extends ControlSubfieldDefinition {
 
   public static Tag007nonprojected03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007nonprojected03();
+      synchronized (Tag007nonprojected03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007nonprojected03();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007k.html
  */
 public class Tag007nonprojected04 extends ControlSubfieldDefinition {
-  private static Tag007nonprojected04 uniqueInstance;
+  private static volatile Tag007nonprojected04 uniqueInstance;
 
   private Tag007nonprojected04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007nonprojected04 extends ControlSubfieldDefinition {
 
   public static Tag007nonprojected04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007nonprojected04();
+      synchronized (Tag007nonprojected04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007nonprojected04();
+      }
     return uniqueInstance;
   }
 
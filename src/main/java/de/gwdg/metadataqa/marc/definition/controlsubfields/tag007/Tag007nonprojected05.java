@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007k.html
  */
 public class Tag007nonprojected05 extends ControlSubfieldDefinition {
-  private static Tag007nonprojected05 uniqueInstance;
+  private static volatile Tag007nonprojected05 uniqueInstance;
 
   private Tag007nonprojected05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007nonprojected05 extends ControlSubfieldDefinition {
 
   public static Tag007nonprojected05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007nonprojected05();
+      synchronized (Tag007nonprojected05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007nonprojected05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected00 extends ControlSubfieldDefinition {
-  private static Tag007projected00 uniqueInstance;
+  private static volatile Tag007projected00 uniqueInstance;
 
   private Tag007projected00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected00 extends ControlSubfieldDefinition {
 
   public static Tag007projected00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected00();
+      synchronized (Tag007projected00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected01 extends ControlSubfieldDefinition {
-  private static Tag007projected01 uniqueInstance;
+  private static volatile Tag007projected01 uniqueInstance;
 
   private Tag007projected01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected01 extends ControlSubfieldDefinition {
 
   public static Tag007projected01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected01();
+      synchronized (Tag007projected01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected03 extends ControlSubfieldDefinition {
-  private static Tag007projected03 uniqueInstance;
+  private static volatile Tag007projected03 uniqueInstance;
 
   private Tag007projected03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected03 extends ControlSubfieldDefinition {
 
   public static Tag007projected03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected03();
+      synchronized (Tag007projected03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected03();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected04 extends ControlSubfieldDefinition {
-  private static Tag007projected04 uniqueInstance;
+  private static volatile Tag007projected04 uniqueInstance;
 
   private Tag007projected04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected04 extends ControlSubfieldDefinition {
 
   public static Tag007projected04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected04();
+      synchronized (Tag007projected04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected04();
+      }
     return uniqueInstance;
   }
 
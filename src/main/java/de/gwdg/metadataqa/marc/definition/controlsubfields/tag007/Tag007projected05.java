@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected05 extends ControlSubfieldDefinition {
-  private static Tag007projected05 uniqueInstance;
+  private static volatile Tag007projected05 uniqueInstance;
 
   private Tag007projected05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected05 extends ControlSubfieldDefinition {
 
   public static Tag007projected05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected05();
+      synchronized (Tag007projected05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected06 extends ControlSubfieldDefinition {
-  private static Tag007projected06 uniqueInstance;
+  private static volatile Tag007projected06 uniqueInstance;
 
   private Tag007projected06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected06 extends ControlSubfieldDefinition {
 
   public static Tag007projected06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected06();
+      synchronized (Tag007projected06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected07 extends ControlSubfieldDefinition {
-  private static Tag007projected07 uniqueInstance;
+  private static volatile Tag007projected07 uniqueInstance;
 
   private Tag007projected07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected07 extends ControlSubfieldDefinition {
 
   public static Tag007projected07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected07();
+      synchronized (Tag007projected07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected07();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007g.html
  */
 public class Tag007projected08 extends ControlSubfieldDefinition {
-  private static Tag007projected08 uniqueInstance;
+  private static volatile Tag007projected08 uniqueInstance;
 
   private Tag007projected08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007projected08 extends ControlSubfieldDefinition {
 
   public static Tag007projected08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007projected08();
+      synchronized (Tag007projected08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007projected08();
+      }
     return uniqueInstance;
   }
 
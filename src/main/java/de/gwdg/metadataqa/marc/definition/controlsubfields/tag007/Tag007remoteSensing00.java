@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing00 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing00 uniqueInstance;
+  private static volatile Tag007remoteSensing00 uniqueInstance;
 
   private Tag007remoteSensing00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing00 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing00();
+      synchronized (Tag007remoteSensing00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing00();
+      }
     return uniqueInstance;
   }
 
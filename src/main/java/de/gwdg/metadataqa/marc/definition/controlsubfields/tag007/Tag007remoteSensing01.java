@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing01 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing01 uniqueInstance;
+  private static volatile Tag007remoteSensing01 uniqueInstance;
 
   private Tag007remoteSensing01() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007remoteSensing01 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing01();
+      synchronized (Tag007remoteSensing01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing03 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing03 uniqueInstance;
+  private static volatile Tag007remoteSensing03 uniqueInstance;
 
   private Tag007remoteSensing03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing03 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing03();
+      synchronized (Tag007remoteSensing03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing03();
+      }
     return uniqueInstance;
   }
 
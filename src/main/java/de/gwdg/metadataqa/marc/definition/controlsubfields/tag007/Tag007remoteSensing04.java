@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing04 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing04 uniqueInstance;
+  private static volatile Tag007remoteSensing04 uniqueInstance;
 
   private Tag007remoteSensing04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing04 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing04();
+      synchronized (Tag007remoteSensing04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing04();
+      }
     return uniqueInstance;
   }
 
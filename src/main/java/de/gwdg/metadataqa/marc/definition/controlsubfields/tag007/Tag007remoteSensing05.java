@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing05 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing05 uniqueInstance;
+  private static volatile Tag007remoteSensing05 uniqueInstance;
 
   private Tag007remoteSensing05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing05 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing05();
+      synchronized (Tag007remoteSensing05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing05();
+      }
     return uniqueInstance;
   }
 
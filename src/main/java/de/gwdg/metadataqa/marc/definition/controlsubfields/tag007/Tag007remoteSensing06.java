@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing06 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing06 uniqueInstance;
+  private static volatile Tag007remoteSensing06 uniqueInstance;
 
   private Tag007remoteSensing06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing06 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing06();
+      synchronized (Tag007remoteSensing06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing07 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing07 uniqueInstance;
+  private static volatile Tag007remoteSensing07 uniqueInstance;
 
   private Tag007remoteSensing07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing07 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing07();
+      synchronized (Tag007remoteSensing07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing07();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing08 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing08 uniqueInstance;
+  private static volatile Tag007remoteSensing08 uniqueInstance;
 
   private Tag007remoteSensing08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing08 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing08();
+      synchronized (Tag007remoteSensing08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing08();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007r.html
  */
 public class Tag007remoteSensing09 extends ControlSubfieldDefinition {
-  private static Tag007remoteSensing09 uniqueInstance;
+  private static volatile Tag007remoteSensing09 uniqueInstance;
 
   private Tag007remoteSensing09() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007remoteSensing09 extends ControlSubfieldDefinition {
 
   public static Tag007remoteSensing09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007remoteSensing09();
+      synchronized (Tag007remoteSensing09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007remoteSensing09();
+      }
     return uniqueInstance;
   }
 
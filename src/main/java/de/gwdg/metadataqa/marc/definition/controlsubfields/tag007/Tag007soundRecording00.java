@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording00 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording00 uniqueInstance;
+  private static volatile Tag007soundRecording00 uniqueInstance;
 
   private Tag007soundRecording00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording00 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording00();
+      synchronized (Tag007soundRecording00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording00();
+      }
     return uniqueInstance;
   }
 
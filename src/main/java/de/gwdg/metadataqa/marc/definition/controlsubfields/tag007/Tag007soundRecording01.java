@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording01 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording01 uniqueInstance;
+  private static volatile Tag007soundRecording01 uniqueInstance;
 
   private Tag007soundRecording01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording01 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording01();
+      synchronized (Tag007soundRecording01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording03 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording03 uniqueInstance;
+  private static volatile Tag007soundRecording03 uniqueInstance;
 
   private Tag007soundRecording03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording03 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording03();
+      synchronized (Tag007soundRecording03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording03();
+      }
     return uniqueInstance;
   }
 
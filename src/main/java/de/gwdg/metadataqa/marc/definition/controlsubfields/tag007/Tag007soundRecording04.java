@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording04 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording04 uniqueInstance;
+  private static volatile Tag007soundRecording04 uniqueInstance;
 
   private Tag007soundRecording04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording04 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording04();
+      synchronized (Tag007soundRecording04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording04();
+      }
     return uniqueInstance;
   }
 
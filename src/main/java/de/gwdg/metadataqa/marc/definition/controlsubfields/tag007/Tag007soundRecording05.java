@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording05 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording05 uniqueInstance;
+  private static volatile Tag007soundRecording05 uniqueInstance;
 
   private Tag007soundRecording05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording05 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording05();
+      synchronized (Tag007soundRecording05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording06 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording06 uniqueInstance;
+  private static volatile Tag007soundRecording06 uniqueInstance;
 
   private Tag007soundRecording06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording06 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording06();
+      synchronized (Tag007soundRecording06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording06();
+      }
     return uniqueInstance;
   }
 
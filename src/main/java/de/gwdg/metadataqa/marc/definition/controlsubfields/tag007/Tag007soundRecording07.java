@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording07 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording07 uniqueInstance;
+  private static volatile Tag007soundRecording07 uniqueInstance;
 
   private Tag007soundRecording07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording07 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording07();
+      synchronized (Tag007soundRecording07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording07();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording08 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording08 uniqueInstance;
+  private static volatile Tag007soundRecording08 uniqueInstance;
 
   private Tag007soundRecording08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording08 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording08();
+      synchronized (Tag007soundRecording08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording08();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording09 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording09 uniqueInstance;
+  private static volatile Tag007soundRecording09 uniqueInstance;
 
   private Tag007soundRecording09() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording09 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording09();
+      synchronized (Tag007soundRecording09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording09();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording10 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording10 uniqueInstance;
+  private static volatile Tag007soundRecording10 uniqueInstance;
 
   private Tag007soundRecording10() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording10 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording10 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording10();
+      synchronized (Tag007soundRecording10.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording10();
+      }
     return uniqueInstance;
   }
 
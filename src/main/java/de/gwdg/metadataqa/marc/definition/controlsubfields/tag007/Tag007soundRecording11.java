@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording11 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording11 uniqueInstance;
+  private static volatile Tag007soundRecording11 uniqueInstance;
 
   private Tag007soundRecording11() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007soundRecording11 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording11();
+      synchronized (Tag007soundRecording11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording11();
+      }
     return uniqueInstance;
   }
 
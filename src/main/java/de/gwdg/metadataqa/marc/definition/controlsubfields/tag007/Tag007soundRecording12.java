@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording12 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording12 uniqueInstance;
+  private static volatile Tag007soundRecording12 uniqueInstance;
 
   private Tag007soundRecording12() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording12 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording12 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording12();
+      synchronized (Tag007soundRecording12.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording12();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007s.html
  */
 public class Tag007soundRecording13 extends ControlSubfieldDefinition {
-  private static Tag007soundRecording13 uniqueInstance;
+  private static volatile Tag007soundRecording13 uniqueInstance;
 
   private Tag007soundRecording13() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007soundRecording13 extends ControlSubfieldDefinition {
 
   public static Tag007soundRecording13 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007soundRecording13();
+      synchronized (Tag007soundRecording13.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007soundRecording13();
+      }
     return uniqueInstance;
   }
 
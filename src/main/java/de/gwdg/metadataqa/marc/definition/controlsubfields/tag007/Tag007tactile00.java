@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007f.html
  */
 public class Tag007tactile00 extends ControlSubfieldDefinition {
-  private static Tag007tactile00 uniqueInstance;
+  private static volatile Tag007tactile00 uniqueInstance;
 
   private Tag007tactile00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007tactile00 extends ControlSubfieldDefinition {
 
   public static Tag007tactile00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007tactile00();
+      synchronized (Tag007tactile00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007tactile00();
+      }
     return uniqueInstance;
   }
 
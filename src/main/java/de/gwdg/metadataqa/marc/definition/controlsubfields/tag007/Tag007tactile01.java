@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007f.html
  */
 public class Tag007tactile01 extends ControlSubfieldDefinition {
-  private static Tag007tactile01 uniqueInstance;
+  private static volatile Tag007tactile01 uniqueInstance;
 
   private Tag007tactile01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007tactile01 extends ControlSubfieldDefinition {
 
   public static Tag007tactile01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007tactile01();
+      synchronized (Tag007tactile01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007tactile01();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007f.html
  */
 public class Tag007tactile03 extends ControlSubfieldDefinition {
-  private static Tag007tactile03 uniqueInstance;
+  private static volatile Tag007tactile03 uniqueInstance;
 
   private Tag007tactile03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007tactile03 extends ControlSubfieldDefinition {
 
   public static Tag007tactile03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007tactile03();
+      synchronized (Tag007tactile03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007tactile03();
+      }
     return uniqueInstance;
   }
 
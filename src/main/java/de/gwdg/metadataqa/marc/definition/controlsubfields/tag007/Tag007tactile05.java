@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007f.html
  */
 public class Tag007tactile05 extends ControlSubfieldDefinition {
-  private static Tag007tactile05 uniqueInstance;
+  private static volatile Tag007tactile05 uniqueInstance;
 
   private Tag007tactile05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007tactile05 extends ControlSubfieldDefinition {
 
   public static Tag007tactile05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007tactile05();
+      synchronized (Tag007tactile05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007tactile05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007f.html
  */
 public class Tag007tactile06 extends ControlSubfieldDefinition {
-  private static Tag007tactile06 uniqueInstance;
+  private static volatile Tag007tactile06 uniqueInstance;
 
   private Tag007tactile06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007tactile06 extends ControlSubfieldDefinition {
 
   public static Tag007tactile06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007tactile06();
+      synchronized (Tag007tactile06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007tactile06();
+      }
     return uniqueInstance;
   }
 
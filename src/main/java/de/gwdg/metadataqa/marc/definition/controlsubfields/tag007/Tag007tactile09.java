@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007f.html
  */
 public class Tag007tactile09 extends ControlSubfieldDefinition {
-  private static Tag007tactile09 uniqueInstance;
+  private static volatile Tag007tactile09 uniqueInstance;
 
   private Tag007tactile09() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007tactile09 extends ControlSubfieldDefinition {
 
   public static Tag007tactile09 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007tactile09();
+      synchronized (Tag007tactile09.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007tactile09();
+      }
     return uniqueInstance;
   }
 
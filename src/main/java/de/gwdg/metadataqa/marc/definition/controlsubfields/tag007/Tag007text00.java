@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007t.html
  */
 public class Tag007text00 extends ControlSubfieldDefinition {
-  private static Tag007text00 uniqueInstance;
+  private static volatile Tag007text00 uniqueInstance;
 
   private Tag007text00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007text00 extends ControlSubfieldDefinition {
 
   public static Tag007text00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007text00();
+      synchronized (Tag007text00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007text00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007t.html
  */
 public class Tag007text01 extends ControlSubfieldDefinition {
-  private static Tag007text01 uniqueInstance;
+  private static volatile Tag007text01 uniqueInstance;
 
   private Tag007text01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007text01 extends ControlSubfieldDefinition {
 
   public static Tag007text01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007text01();
+      synchronized (Tag007text01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007text01();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd007z.html
  */
 public class Tag007unspecified00 extends ControlSubfieldDefinition {
-  private static Tag007unspecified00 uniqueInstance;
+  private static volatile Tag007unspecified00 uniqueInstance;
 
   private Tag007unspecified00() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag007unspecified00 extends ControlSubfieldDefinition {
 
   public static Tag007unspecified00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007unspecified00();
+      synchronized (Tag007unspecified00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007unspecified00();
+      }
     return uniqueInstance;
   }
 
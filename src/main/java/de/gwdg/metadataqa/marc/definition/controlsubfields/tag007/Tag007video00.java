@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video00 extends ControlSubfieldDefinition {
-  private static Tag007video00 uniqueInstance;
+  private static volatile Tag007video00 uniqueInstance;
 
   private Tag007video00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video00 extends ControlSubfieldDefinition {
 
   public static Tag007video00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video00();
+      synchronized (Tag007video00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video01 extends ControlSubfieldDefinition {
-  private static Tag007video01 uniqueInstance;
+  private static volatile Tag007video01 uniqueInstance;
 
   private Tag007video01() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video01 extends ControlSubfieldDefinition {
 
   public static Tag007video01 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video01();
+      synchronized (Tag007video01.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video01();
+      }
     return uniqueInstance;
   }
 
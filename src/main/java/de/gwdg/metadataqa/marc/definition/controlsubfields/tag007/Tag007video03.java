@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video03 extends ControlSubfieldDefinition {
-  private static Tag007video03 uniqueInstance;
+  private static volatile Tag007video03 uniqueInstance;
 
   private Tag007video03() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video03 extends ControlSubfieldDefinition {
 
   public static Tag007video03 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video03();
+      synchronized (Tag007video03.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video03();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video04 extends ControlSubfieldDefinition {
-  private static Tag007video04 uniqueInstance;
+  private static volatile Tag007video04 uniqueInstance;
 
   private Tag007video04() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video04 extends ControlSubfieldDefinition {
 
   public static Tag007video04 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video04();
+      synchronized (Tag007video04.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video04();
+      }
     return uniqueInstance;
   }
 
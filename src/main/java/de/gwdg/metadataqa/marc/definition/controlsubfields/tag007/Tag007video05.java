@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video05 extends ControlSubfieldDefinition {
-  private static Tag007video05 uniqueInstance;
+  private static volatile Tag007video05 uniqueInstance;
 
   private Tag007video05() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video05 extends ControlSubfieldDefinition {
 
   public static Tag007video05 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video05();
+      synchronized (Tag007video05.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video05();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video06 extends ControlSubfieldDefinition {
-  private static Tag007video06 uniqueInstance;
+  private static volatile Tag007video06 uniqueInstance;
 
   private Tag007video06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video06 extends ControlSubfieldDefinition {
 
   public static Tag007video06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video06();
+      synchronized (Tag007video06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video06();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video07 extends ControlSubfieldDefinition {
-  private static Tag007video07 uniqueInstance;
+  private static volatile Tag007video07 uniqueInstance;
 
   private Tag007video07() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video07 extends ControlSubfieldDefinition {
 
   public static Tag007video07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video07();
+      synchronized (Tag007video07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video07();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd007v.html
  */
 public class Tag007video08 extends ControlSubfieldDefinition {
-  private static Tag007video08 uniqueInstance;
+  private static volatile Tag007video08 uniqueInstance;
 
   private Tag007video08() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag007video08 extends ControlSubfieldDefinition {
 
   public static Tag007video08 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag007video08();
+      synchronized (Tag007video08.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag007video08();
+      }
     return uniqueInstance;
   }
 
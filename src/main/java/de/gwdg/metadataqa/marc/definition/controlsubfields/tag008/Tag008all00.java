@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all00 extends ControlSubfieldDefinition {
-  private static Tag008all00 uniqueInstance;
+  private static volatile Tag008all00 uniqueInstance;
 
   private Tag008all00() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag008all00 extends ControlSubfieldDefinition {
 
   public static Tag008all00 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all00();
+      synchronized (Tag008all00.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all00();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all06 extends ControlSubfieldDefinition {
-  private static Tag008all06 uniqueInstance;
+  private static volatile Tag008all06 uniqueInstance;
 
   private Tag008all06() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag008all06 extends ControlSubfieldDefinition {
 
   public static Tag008all06 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all06();
+      synchronized (Tag008all06.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all06();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all07 extends ControlSubfieldDefinition {
-  private static Tag008all07 uniqueInstance;
+  private static volatile Tag008all07 uniqueInstance;
 
   private Tag008all07() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag008all07 extends ControlSubfieldDefinition {
 
   public static Tag008all07 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all07();
+      synchronized (Tag008all07.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all07();
+      }
     return uniqueInstance;
   }
 
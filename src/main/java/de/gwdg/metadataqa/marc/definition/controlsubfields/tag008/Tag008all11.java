@@ -10,7 +10,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all11 extends ControlSubfieldDefinition {
-  private static Tag008all11 uniqueInstance;
+  private static volatile Tag008all11 uniqueInstance;
 
   private Tag008all11() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag008all11 extends ControlSubfieldDefinition {
 
   public static Tag008all11 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all11();
+      synchronized (Tag008all11.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all11();
+      }
     return uniqueInstance;
   }
 
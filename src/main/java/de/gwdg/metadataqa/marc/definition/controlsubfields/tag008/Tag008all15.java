@@ -13,7 +13,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all15 extends ControlSubfieldDefinition {
-  private static Tag008all15 uniqueInstance;
+  private static volatile Tag008all15 uniqueInstance;
 
   private Tag008all15() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag008all15 extends ControlSubfieldDefinition {
 
   public static Tag008all15 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all15();
+      synchronized (Tag008all15.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all15();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all35 extends ControlSubfieldDefinition {
-  private static Tag008all35 uniqueInstance;
+  private static volatile Tag008all35 uniqueInstance;
 
   private Tag008all35() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag008all35 extends ControlSubfieldDefinition {
 
   public static Tag008all35 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all35();
+      synchronized (Tag008all35.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all35();
+      }
     return uniqueInstance;
   }
 
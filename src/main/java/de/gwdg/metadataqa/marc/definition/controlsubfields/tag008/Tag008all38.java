@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all38 extends ControlSubfieldDefinition {
-  private static Tag008all38 uniqueInstance;
+  private static volatile Tag008all38 uniqueInstance;
 
   private Tag008all38() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag008all38 extends ControlSubfieldDefinition {
 
   public static Tag008all38 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all38();
+      synchronized (Tag008all38.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all38();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import java.util.Arrays;
  * https://www.loc.gov/marc/bibliographic/bd008a.html
  */
 public class Tag008all39 extends ControlSubfieldDefinition {
-  private static Tag008all39 uniqueInstance;
+  private static volatile Tag008all39 uniqueInstance;
 
   private Tag008all39() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag008all39 extends ControlSubfieldDefinition {
 
   public static Tag008all39 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008all39();
+      synchronized (Tag008all39.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008all39();
+      }
     return uniqueInstance;
   }
 
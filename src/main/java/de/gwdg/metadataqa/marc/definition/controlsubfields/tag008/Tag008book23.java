@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag008book23 extends ControlSubfieldDefinition {
-  private static Tag008book23 uniqueInstance;
+  private static volatile Tag008book23 uniqueInstance;
 
   private Tag008book23() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008book23 extends ControlSubfieldDefinition {
 
   public static Tag008book23 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008book23();
+      synchronized (Tag008book23.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008book23();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag008book30 extends ControlSubfieldDefinition {
-  private static Tag008book30 uniqueInstance;
+  private static volatile Tag008book30 uniqueInstance;
 
   private Tag008book30() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008book30 extends ControlSubfieldDefinition {
 
   public static Tag008book30 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008book30();
+      synchronized (Tag008book30.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008book30();
+      }
     return uniqueInstance;
   }
 
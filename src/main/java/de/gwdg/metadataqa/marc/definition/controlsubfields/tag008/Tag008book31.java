@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag008book31 extends ControlSubfieldDefinition {
-  private static Tag008book31 uniqueInstance;
+  private static volatile Tag008book31 uniqueInstance;
 
   private Tag008book31() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008book31 extends ControlSubfieldDefinition {
 
   public static Tag008book31 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008book31();
+      synchronized (Tag008book31.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008book31();
+      }
     return uniqueInstance;
   }
 
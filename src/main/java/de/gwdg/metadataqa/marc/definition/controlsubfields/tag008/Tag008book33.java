@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag008book33 extends ControlSubfieldDefinition {
-  private static Tag008book33 uniqueInstance;
+  private static volatile Tag008book33 uniqueInstance;
 
   private Tag008book33() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008book33 extends ControlSubfieldDefinition {
 
   public static Tag008book33 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008book33();
+      synchronized (Tag008book33.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008book33();
+      }
     return uniqueInstance;
   }
 
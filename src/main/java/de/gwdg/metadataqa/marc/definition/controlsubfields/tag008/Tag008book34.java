@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008b.html
  */
 public class Tag008book34 extends ControlSubfieldDefinition {
-  private static Tag008book34 uniqueInstance;
+  private static volatile Tag008book34 uniqueInstance;
 
   private Tag008book34() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008book34 extends ControlSubfieldDefinition {
 
   public static Tag008book34 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008book34();
+      synchronized (Tag008book34.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008book34();
+      }
     return uniqueInstance;
   }
 
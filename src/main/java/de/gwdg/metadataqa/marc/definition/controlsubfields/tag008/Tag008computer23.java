@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008c.html
  */
 public class Tag008computer23 extends ControlSubfieldDefinition {
-  private static Tag008computer23 uniqueInstance;
+  private static volatile Tag008computer23 uniqueInstance;
 
   private Tag008computer23() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008computer23 extends ControlSubfieldDefinition {
 
   public static Tag008computer23 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008computer23();
+      synchronized (Tag008computer23.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008computer23();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008s.html
  */
 public class Tag008continuing19 extends ControlSubfieldDefinition {
-  private static Tag008continuing19 uniqueInstance;
+  private static volatile Tag008continuing19 uniqueInstance;
 
   private Tag008continuing19() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008continuing19 extends ControlSubfieldDefinition {
 
   public static Tag008continuing19 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008continuing19();
+      synchronized (Tag008continuing19.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008continuing19();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008s.html
  */
 public class Tag008continuing21 extends ControlSubfieldDefinition {
-  private static Tag008continuing21 uniqueInstance;
+  private static volatile Tag008continuing21 uniqueInstance;
 
   private Tag008continuing21() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008continuing21 extends ControlSubfieldDefinition {
 
   public static Tag008continuing21 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008continuing21();
+      synchronized (Tag008continuing21.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008continuing21();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008s.html
  */
 public class Tag008continuing23 extends ControlSubfieldDefinition {
-  private static Tag008continuing23 uniqueInstance;
+  private static volatile Tag008continuing23 uniqueInstance;
 
   private Tag008continuing23() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008continuing23 extends ControlSubfieldDefinition {
 
   public static Tag008continuing23 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008continuing23();
+      synchronized (Tag008continuing23.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008continuing23();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008s.html
  */
 public class Tag008continuing28 extends ControlSubfieldDefinition {
-  private static Tag008continuing28 uniqueInstance;
+  private static volatile Tag008continuing28 uniqueInstance;
 
   private Tag008continuing28() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008continuing28 extends ControlSubfieldDefinition {
 
   public static Tag008continuing28 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008continuing28();
+      synchronized (Tag008continuing28.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008continuing28();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008p.html
  */
 public class Tag008map22 extends ControlSubfieldDefinition {
-  private static Tag008map22 uniqueInstance;
+  private static volatile Tag008map22 uniqueInstance;
 
   private Tag008map22() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008map22 extends ControlSubfieldDefinition {
 
   public static Tag008map22 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008map22();
+      synchronized (Tag008map22.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008map22();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008p.html
  */
 public class Tag008map28 extends ControlSubfieldDefinition {
-  private static Tag008map28 uniqueInstance;
+  private static volatile Tag008map28 uniqueInstance;
 
   private Tag008map28() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008map28 extends ControlSubfieldDefinition {
 
   public static Tag008map28 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008map28();
+      synchronized (Tag008map28.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008map28();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008p.html
  */
 public class Tag008map29 extends ControlSubfieldDefinition {
-  private static Tag008map29 uniqueInstance;
+  private static volatile Tag008map29 uniqueInstance;
 
   private Tag008map29() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008map29 extends ControlSubfieldDefinition {
 
   public static Tag008map29 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008map29();
+      synchronized (Tag008map29.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008map29();
+      }
     return uniqueInstance;
   }
 
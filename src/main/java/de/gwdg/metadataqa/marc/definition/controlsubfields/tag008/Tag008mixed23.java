@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008x.html
  */
 public class Tag008mixed23 extends ControlSubfieldDefinition {
-  private static Tag008mixed23 uniqueInstance;
+  private static volatile Tag008mixed23 uniqueInstance;
 
   private Tag008mixed23() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008mixed23 extends ControlSubfieldDefinition {
 
   public static Tag008mixed23 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008mixed23();
+      synchronized (Tag008mixed23.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008mixed23();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008m.html
  */
 public class Tag008music22 extends ControlSubfieldDefinition {
-  private static Tag008music22 uniqueInstance;
+  private static volatile Tag008music22 uniqueInstance;
 
   private Tag008music22() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008music22 extends ControlSubfieldDefinition {
 
   public static Tag008music22 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008music22();
+      synchronized (Tag008music22.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008music22();
+      }
     return uniqueInstance;
   }
 
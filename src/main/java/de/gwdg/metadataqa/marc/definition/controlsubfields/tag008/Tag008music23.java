@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008m.html
  */
 public class Tag008music23 extends ControlSubfieldDefinition {
-  private static Tag008music23 uniqueInstance;
+  private static volatile Tag008music23 uniqueInstance;
 
   private Tag008music23() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008music23 extends ControlSubfieldDefinition {
 
   public static Tag008music23 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008music23();
+      synchronized (Tag008music23.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008music23();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008m.html
  */
 public class Tag008music33 extends ControlSubfieldDefinition {
-  private static Tag008music33 uniqueInstance;
+  private static volatile Tag008music33 uniqueInstance;
 
   private Tag008music33() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008music33 extends ControlSubfieldDefinition {
 
   public static Tag008music33 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008music33();
+      synchronized (Tag008music33.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008music33();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008v.html
  */
 public class Tag008visual22 extends ControlSubfieldDefinition {
-  private static Tag008visual22 uniqueInstance;
+  private static volatile Tag008visual22 uniqueInstance;
 
   private Tag008visual22() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008visual22 extends ControlSubfieldDefinition {
 
   public static Tag008visual22 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008visual22();
+      synchronized (Tag008visual22.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008visual22();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,7 @@ import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
  * https://www.loc.gov/marc/bibliographic/bd008v.html
  */
 public class Tag008visual33 extends ControlSubfieldDefinition {
-  private static Tag008visual33 uniqueInstance;
+  private static volatile Tag008visual33 uniqueInstance;
 
   private Tag008visual33() {
     initialize();
@@ -17,7 +17,10 @@ public class Tag008visual33 extends ControlSubfieldDefinition {
 
   public static Tag008visual33 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag008visual33();
+      synchronized (Tag008visual33.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag008visual33();
+      }
     return uniqueInstance;
   }
 
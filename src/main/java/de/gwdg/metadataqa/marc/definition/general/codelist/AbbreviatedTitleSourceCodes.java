@@ -23,7 +23,7 @@ public class AbbreviatedTitleSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static AbbreviatedTitleSourceCodes uniqueInstance;
+  private static volatile AbbreviatedTitleSourceCodes uniqueInstance;
 
   private AbbreviatedTitleSourceCodes() {
     initialize();
@@ -31,7 +31,10 @@ public class AbbreviatedTitleSourceCodes extends CodeList {
 
   public static AbbreviatedTitleSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new AbbreviatedTitleSourceCodes();
+      synchronized (AbbreviatedTitleSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new AbbreviatedTitleSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -19,7 +19,7 @@ public class AccessRestrictionTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static AccessRestrictionTermSourceCodes uniqueInstance;
+  private static volatile AccessRestrictionTermSourceCodes uniqueInstance;
 
   private AccessRestrictionTermSourceCodes() {
     initialize();
@@ -27,7 +27,10 @@ public class AccessRestrictionTermSourceCodes extends CodeList {
 
   public static AccessRestrictionTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new AccessRestrictionTermSourceCodes();
+      synchronized (AccessRestrictionTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new AccessRestrictionTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
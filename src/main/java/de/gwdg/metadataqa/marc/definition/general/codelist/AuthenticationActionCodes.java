@@ -70,7 +70,7 @@ public class AuthenticationActionCodes extends CodeList {
     indexCodes();
   }
 
-  private static AuthenticationActionCodes uniqueInstance;
+  private static volatile AuthenticationActionCodes uniqueInstance;
 
   private AuthenticationActionCodes() {
     initialize();
@@ -78,7 +78,10 @@ public class AuthenticationActionCodes extends CodeList {
 
   public static AuthenticationActionCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new AuthenticationActionCodes();
+      synchronized (AuthenticationActionCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new AuthenticationActionCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public class AvailabilityStatusCodeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static AvailabilityStatusCodeSourceCodes uniqueInstance;
+  private static volatile AvailabilityStatusCodeSourceCodes uniqueInstance;
 
   private AvailabilityStatusCodeSourceCodes() {
     initialize();
@@ -25,7 +25,10 @@ public class AvailabilityStatusCodeSourceCodes extends CodeList {
 
   public static AvailabilityStatusCodeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new AvailabilityStatusCodeSourceCodes();
+      synchronized (AvailabilityStatusCodeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new AvailabilityStatusCodeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -77,7 +77,7 @@ public class CartographicDataSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static CartographicDataSourceCodes uniqueInstance;
+  private static volatile CartographicDataSourceCodes uniqueInstance;
 
   private CartographicDataSourceCodes() {
     initialize();
@@ -85,7 +85,10 @@ public class CartographicDataSourceCodes extends CodeList {
 
   public static CartographicDataSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new CartographicDataSourceCodes();
+      synchronized (CartographicDataSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new CartographicDataSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -24,7 +24,7 @@ public class CitationSchemeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static CitationSchemeSourceCodes uniqueInstance;
+  private static volatile CitationSchemeSourceCodes uniqueInstance;
 
   private CitationSchemeSourceCodes() {
     initialize();
@@ -32,7 +32,10 @@ public class CitationSchemeSourceCodes extends CodeList {
 
   public static CitationSchemeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new CitationSchemeSourceCodes();
+      synchronized (CitationSchemeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new CitationSchemeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
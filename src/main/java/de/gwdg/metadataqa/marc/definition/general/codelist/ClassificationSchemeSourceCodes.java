@@ -180,7 +180,7 @@ public class ClassificationSchemeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static ClassificationSchemeSourceCodes uniqueInstance;
+  private static volatile ClassificationSchemeSourceCodes uniqueInstance;
 
   private ClassificationSchemeSourceCodes() {
     initialize();
@@ -188,7 +188,10 @@ public class ClassificationSchemeSourceCodes extends CodeList {
 
   public static ClassificationSchemeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ClassificationSchemeSourceCodes();
+      synchronized (ClassificationSchemeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ClassificationSchemeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
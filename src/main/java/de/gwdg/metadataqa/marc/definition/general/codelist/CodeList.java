@@ -6,6 +6,7 @@ import de.gwdg.metadataqa.marc.model.validation.ValidationError;
 import de.gwdg.metadataqa.marc.definition.Validator;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,12 +15,19 @@ public class CodeList implements Validator, Serializable {
   protected String name;
   protected String url;
   protected List<Code> codes;
-  protected Map<String, Code> index = new HashMap<>();
+  private volatile Map<String, Code> index = Collections.emptyMap();
 
+  /**
+   * Builds the index of the codes, and makes the list read-only, so the code list can be shared
+   * between threads.
+   */
   protected void indexCodes() {
+    Map<String, Code> codeIndex = new HashMap<>();
     for (Code code : codes) {
-      index.put(code.getCode(), code);
+      codeIndex.put(code.getCode(), code);
     }
+    codes = Collections.unmodifiableList(codes);
+    index = Collections.unmodifiableMap(codeIndex);
   }
 
   public List<Code> getCodes() {
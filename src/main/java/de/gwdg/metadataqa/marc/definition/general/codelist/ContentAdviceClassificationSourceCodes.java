@@ -19,7 +19,7 @@ public class ContentAdviceClassificationSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static ContentAdviceClassificationSourceCodes uniqueInstance;
+  private static volatile ContentAdviceClassificationSourceCodes uniqueInstance;
 
   private ContentAdviceClassificationSourceCodes() {
     initialize();
@@ -27,7 +27,10 @@ public class ContentAdviceClassificationSourceCodes extends CodeList {
 
   public static ContentAdviceClassificationSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ContentAdviceClassificationSourceCodes();
+      synchronized (ContentAdviceClassificationSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ContentAdviceClassificationSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -18,7 +18,7 @@ public class CopyrightAndLegalDepositNumberSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static CopyrightAndLegalDepositNumberSourceCodes uniqueInstance;
+  private static volatile CopyrightAndLegalDepositNumberSourceCodes uniqueInstance;
 
   private CopyrightAndLegalDepositNumberSourceCodes() {
     initialize();
@@ -26,7 +26,10 @@ public class CopyrightAndLegalDepositNumberSourceCodes extends CodeList {
 
   public static CopyrightAndLegalDepositNumberSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new CopyrightAndLegalDepositNumberSourceCodes();
+      synchronized (CopyrightAndLegalDepositNumberSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new CopyrightAndLegalDepositNumberSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -396,7 +396,7 @@ public class CountryCodes extends CodeList {
     indexCodes();
   }
 
-  private static CountryCodes uniqueInstance;
+  private static volatile CountryCodes uniqueInstance;
 
   private CountryCodes() {
     initialize();
@@ -404,7 +404,10 @@ public class CountryCodes extends CodeList {
 
   public static CountryCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new CountryCodes();
+      synchronized (CountryCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new CountryCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -20,7 +20,7 @@ public class CountrySourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static CountrySourceCodes uniqueInstance;
+  private static volatile CountrySourceCodes uniqueInstance;
 
   private CountrySourceCodes() {
     initialize();
@@ -28,7 +28,10 @@ public class CountrySourceCodes extends CodeList {
 
   public static CountrySourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new CountrySourceCodes();
+      synchronized (CountrySourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new CountrySourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -35,7 +35,7 @@ public class CurriculumObjectiveTermAndCodeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static CurriculumObjectiveTermAndCodeSourceCodes uniqueInstance;
+  private static volatile CurriculumObjectiveTermAndCodeSourceCodes uniqueInstance;
 
   private CurriculumObjectiveTermAndCodeSourceCodes() {
     initialize();
@@ -43,7 +43,10 @@ public class CurriculumObjectiveTermAndCodeSourceCodes extends CodeList {
 
   public static CurriculumObjectiveTermAndCodeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new CurriculumObjectiveTermAndCodeSourceCodes();
+      synchronized (CurriculumObjectiveTermAndCodeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new CurriculumObjectiveTermAndCodeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -21,7 +21,7 @@ public class DateSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static DateSourceCodes uniqueInstance;
+  private static volatile DateSourceCodes uniqueInstance;
 
   private DateSourceCodes() {
     initialize();
@@ -29,7 +29,10 @@ public class DateSourceCodes extends CodeList {
 
   public static DateSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new DateSourceCodes();
+      synchronized (DateSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new DateSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
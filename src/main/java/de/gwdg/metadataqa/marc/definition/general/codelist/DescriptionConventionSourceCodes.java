@@ -73,7 +73,7 @@ public class DescriptionConventionSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static DescriptionConventionSourceCodes uniqueInstance;
+  private static volatile DescriptionConventionSourceCodes uniqueInstance;
 
   private DescriptionConventionSourceCodes() {
     initialize();
@@ -81,7 +81,10 @@ public class DescriptionConventionSourceCodes extends CodeList {
 
   public static DescriptionConventionSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new DescriptionConventionSourceCodes();
+      synchronized (DescriptionConventionSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new DescriptionConventionSourceCodes();
+      }
     return uniqueInstance;
   }
 
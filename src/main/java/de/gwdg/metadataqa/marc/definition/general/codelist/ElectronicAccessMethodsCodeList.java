@@ -50,7 +50,7 @@ public class ElectronicAccessMethodsCodeList extends CodeList {
     indexCodes();
   }
 
-  private static ElectronicAccessMethodsCodeList uniqueInstance;
+  private static volatile ElectronicAccessMethodsCodeList uniqueInstance;
 
   private ElectronicAccessMethodsCodeList() {
     initialize();
@@ -58,7 +58,10 @@ public class ElectronicAccessMethodsCodeList extends CodeList {
 
   public static ElectronicAccessMethodsCodeList getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ElectronicAccessMethodsCodeList();
+      synchronized (ElectronicAccessMethodsCodeList.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ElectronicAccessMethodsCodeList();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -20,7 +20,7 @@ public class FingerprintSchemeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static FingerprintSchemeSourceCodes uniqueInstance;
+  private static volatile FingerprintSchemeSourceCodes uniqueInstance;
 
   private FingerprintSchemeSourceCodes() {
     initialize();
@@ -28,7 +28,10 @@ public class FingerprintSchemeSourceCodes extends CodeList {
 
   public static FingerprintSchemeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new FingerprintSchemeSourceCodes();
+      synchronized (FingerprintSchemeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new FingerprintSchemeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -69,7 +69,7 @@ public class FormatSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static FormatSourceCodes uniqueInstance;
+  private static volatile FormatSourceCodes uniqueInstance;
 
   private FormatSourceCodes() {
     initialize();
@@ -77,7 +77,10 @@ public class FormatSourceCodes extends CodeList {
 
   public static FormatSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new FormatSourceCodes();
+      synchronized (FormatSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new FormatSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
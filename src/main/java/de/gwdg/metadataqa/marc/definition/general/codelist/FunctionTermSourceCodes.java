@@ -17,7 +17,7 @@ public class FunctionTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static FunctionTermSourceCodes uniqueInstance;
+  private static volatile FunctionTermSourceCodes uniqueInstance;
 
   private FunctionTermSourceCodes() {
     initialize();
@@ -25,7 +25,10 @@ public class FunctionTermSourceCodes extends CodeList {
 
   public static FunctionTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new FunctionTermSourceCodes();
+      synchronized (FunctionTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new FunctionTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
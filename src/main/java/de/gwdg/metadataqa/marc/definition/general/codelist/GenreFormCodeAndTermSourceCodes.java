@@ -97,7 +97,7 @@ public class GenreFormCodeAndTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static GenreFormCodeAndTermSourceCodes uniqueInstance;
+  private static volatile GenreFormCodeAndTermSourceCodes uniqueInstance;
 
   private GenreFormCodeAndTermSourceCodes() {
     initialize();
@@ -105,7 +105,10 @@ public class GenreFormCodeAndTermSourceCodes extends CodeList {
 
   public static GenreFormCodeAndTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new GenreFormCodeAndTermSourceCodes();
+      synchronized (GenreFormCodeAndTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new GenreFormCodeAndTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -602,7 +602,7 @@ public class GeographicAreaCodes extends CodeList {
     indexCodes();
   }
 
-  private static GeographicAreaCodes uniqueInstance;
+  private static volatile GeographicAreaCodes uniqueInstance;
 
   private GeographicAreaCodes() {
     initialize();
@@ -610,7 +610,10 @@ public class GeographicAreaCodes extends CodeList {
 
   public static GeographicAreaCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new GeographicAreaCodes();
+      synchronized (GeographicAreaCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new GeographicAreaCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -18,7 +18,7 @@ public class GeographicAreaSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static GeographicAreaSourceCodes uniqueInstance;
+  private static volatile GeographicAreaSourceCodes uniqueInstance;
 
   private GeographicAreaSourceCodes() {
     initialize();
@@ -26,7 +26,10 @@ public class GeographicAreaSourceCodes extends CodeList {
 
   public static GeographicAreaSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new GeographicAreaSourceCodes();
+      synchronized (GeographicAreaSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new GeographicAreaSourceCodes();
+      }
     return uniqueInstance;
   }
 }
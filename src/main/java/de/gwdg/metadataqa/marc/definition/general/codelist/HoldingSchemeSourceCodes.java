@@ -23,7 +23,7 @@ public class HoldingSchemeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static HoldingSchemeSourceCodes uniqueInstance;
+  private static volatile HoldingSchemeSourceCodes uniqueInstance;
 
   private HoldingSchemeSourceCodes() {
     initialize();
@@ -31,7 +31,10 @@ public class HoldingSchemeSourceCodes extends CodeList {
 
   public static HoldingSchemeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new HoldingSchemeSourceCodes();
+      synchronized (HoldingSchemeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new HoldingSchemeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -25,7 +25,7 @@ public class LanguageCodeAndTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static LanguageCodeAndTermSourceCodes uniqueInstance;
+  private static volatile LanguageCodeAndTermSourceCodes uniqueInstance;
 
   private LanguageCodeAndTermSourceCodes() {
     initialize();
@@ -33,7 +33,10 @@ public class LanguageCodeAndTermSourceCodes extends CodeList {
 
   public static LanguageCodeAndTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new LanguageCodeAndTermSourceCodes();
+      synchronized (LanguageCodeAndTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new LanguageCodeAndTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -531,7 +531,7 @@ public class LanguageCodes extends CodeList {
     indexCodes();
   }
 
-  private static LanguageCodes uniqueInstance;
+  private static volatile LanguageCodes uniqueInstance;
 
   private LanguageCodes() {
     initialize();
@@ -539,7 +539,10 @@ public class LanguageCodes extends CodeList {
 
   public static LanguageCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new LanguageCodes();
+      synchronized (LanguageCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new LanguageCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
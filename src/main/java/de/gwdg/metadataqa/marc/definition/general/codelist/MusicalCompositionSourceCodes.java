@@ -18,7 +18,7 @@ public class MusicalCompositionSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static MusicalCompositionSourceCodes uniqueInstance;
+  private static volatile MusicalCompositionSourceCodes uniqueInstance;
 
   private MusicalCompositionSourceCodes() {
     initialize();
@@ -26,7 +26,10 @@ public class MusicalCompositionSourceCodes extends CodeList {
 
   public static MusicalCompositionSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new MusicalCompositionSourceCodes();
+      synchronized (MusicalCompositionSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new MusicalCompositionSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -18,7 +18,7 @@ public class MusicalIncipitSchemeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static MusicalIncipitSchemeSourceCodes uniqueInstance;
+  private static volatile MusicalIncipitSchemeSourceCodes uniqueInstance;
 
   private MusicalIncipitSchemeSourceCodes() {
     initialize();
@@ -26,7 +26,10 @@ public class MusicalIncipitSchemeSourceCodes extends CodeList {
 
   public static MusicalIncipitSchemeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new MusicalIncipitSchemeSourceCodes();
+      synchronized (MusicalIncipitSchemeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new MusicalIncipitSchemeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
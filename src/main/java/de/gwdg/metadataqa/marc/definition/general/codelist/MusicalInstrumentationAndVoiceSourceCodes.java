@@ -23,7 +23,7 @@ public class MusicalInstrumentationAndVoiceSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static MusicalInstrumentationAndVoiceSourceCodes uniqueInstance;
+  private static volatile MusicalInstrumentationAndVoiceSourceCodes uniqueInstance;
 
   private MusicalInstrumentationAndVoiceSourceCodes() {
     initialize();
@@ -31,7 +31,10 @@ public class MusicalInstrumentationAndVoiceSourceCodes extends CodeList {
 
   public static MusicalInstrumentationAndVoiceSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new MusicalInstrumentationAndVoiceSourceCodes();
+      synchronized (MusicalInstrumentationAndVoiceSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new MusicalInstrumentationAndVoiceSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -115,7 +115,7 @@ public class MusicalInstrumentsOrVoicesCodes extends CodeList {
     indexCodes();
   }
 
-  private static MusicalInstrumentsOrVoicesCodes uniqueInstance;
+  private static volatile MusicalInstrumentsOrVoicesCodes uniqueInstance;
 
   private MusicalInstrumentsOrVoicesCodes() {
     initialize();
@@ -123,7 +123,10 @@ public class MusicalInstrumentsOrVoicesCodes extends CodeList {
 
   public static MusicalInstrumentsOrVoicesCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new MusicalInstrumentsOrVoicesCodes();
+      synchronized (MusicalInstrumentsOrVoicesCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new MusicalInstrumentsOrVoicesCodes();
+      }
     return uniqueInstance;
   }
 }
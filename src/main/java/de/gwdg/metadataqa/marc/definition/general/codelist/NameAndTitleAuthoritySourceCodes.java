@@ -35,7 +35,7 @@ public class NameAndTitleAuthoritySourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static NameAndTitleAuthoritySourceCodes uniqueInstance;
+  private static volatile NameAndTitleAuthoritySourceCodes uniqueInstance;
 
   private NameAndTitleAuthoritySourceCodes() {
     initialize();
@@ -43,7 +43,10 @@ public class NameAndTitleAuthoritySourceCodes extends CodeList {
 
   public static NameAndTitleAuthoritySourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new NameAndTitleAuthoritySourceCodes();
+      synchronized (NameAndTitleAuthoritySourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new NameAndTitleAuthoritySourceCodes();
+      }
     return uniqueInstance;
   }
 }
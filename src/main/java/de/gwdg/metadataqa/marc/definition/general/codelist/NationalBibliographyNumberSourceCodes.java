@@ -71,7 +71,7 @@ public class NationalBibliographyNumberSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static NationalBibliographyNumberSourceCodes uniqueInstance;
+  private static volatile NationalBibliographyNumberSourceCodes uniqueInstance;
 
   private NationalBibliographyNumberSourceCodes() {
     initialize();
@@ -79,7 +79,10 @@ public class NationalBibliographyNumberSourceCodes extends CodeList {
 
   public static NationalBibliographyNumberSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new NationalBibliographyNumberSourceCodes();
+      synchronized (NationalBibliographyNumberSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new NationalBibliographyNumberSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
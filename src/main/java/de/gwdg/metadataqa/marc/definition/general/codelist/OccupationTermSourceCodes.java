@@ -27,7 +27,7 @@ public class OccupationTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static OccupationTermSourceCodes uniqueInstance;
+  private static volatile OccupationTermSourceCodes uniqueInstance;
 
   private OccupationTermSourceCodes() {
     initialize();
@@ -35,7 +35,10 @@ public class OccupationTermSourceCodes extends CodeList {
 
   public static OccupationTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new OccupationTermSourceCodes();
+      synchronized (OccupationTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new OccupationTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public class OrganizationCodes extends CodeList {
     indexCodes();
   }
 
-  private static OrganizationCodes uniqueInstance;
+  private static volatile OrganizationCodes uniqueInstance;
 
   private OrganizationCodes() {
     initialize();
@@ -25,7 +25,10 @@ public class OrganizationCodes extends CodeList {
 
   public static OrganizationCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new OrganizationCodes();
+      synchronized (OrganizationCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new OrganizationCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -17,7 +17,7 @@ public class PriceTypeCodeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static PriceTypeCodeSourceCodes uniqueInstance;
+  private static volatile PriceTypeCodeSourceCodes uniqueInstance;
 
   private PriceTypeCodeSourceCodes() {
     initialize();
@@ -25,7 +25,10 @@ public class PriceTypeCodeSourceCodes extends CodeList {
 
   public static PriceTypeCodeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new PriceTypeCodeSourceCodes();
+      synchronized (PriceTypeCodeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new PriceTypeCodeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -284,7 +284,7 @@ public class RelatorCodes extends CodeList {
     indexCodes();
   }
 
-  private static RelatorCodes uniqueInstance;
+  private static volatile RelatorCodes uniqueInstance;
 
   private RelatorCodes() {
     initialize();
@@ -292,7 +292,10 @@ public class RelatorCodes extends CodeList {
 
   public static RelatorCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new RelatorCodes();
+      synchronized (RelatorCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new RelatorCodes();
+      }
     return uniqueInstance;
   }
 }
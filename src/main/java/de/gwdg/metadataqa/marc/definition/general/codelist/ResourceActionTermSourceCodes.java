@@ -19,7 +19,7 @@ public class ResourceActionTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static ResourceActionTermSourceCodes uniqueInstance;
+  private static volatile ResourceActionTermSourceCodes uniqueInstance;
 
   private ResourceActionTermSourceCodes() {
     initialize();
@@ -27,7 +27,10 @@ public class ResourceActionTermSourceCodes extends CodeList {
 
   public static ResourceActionTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ResourceActionTermSourceCodes();
+      synchronized (ResourceActionTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ResourceActionTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
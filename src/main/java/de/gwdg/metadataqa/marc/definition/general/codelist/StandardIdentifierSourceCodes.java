@@ -159,7 +159,7 @@ public class StandardIdentifierSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static StandardIdentifierSourceCodes uniqueInstance;
+  private static volatile StandardIdentifierSourceCodes uniqueInstance;
 
   private StandardIdentifierSourceCodes() {
     initialize();
@@ -167,7 +167,10 @@ public class StandardIdentifierSourceCodes extends CodeList {
 
   public static StandardIdentifierSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new StandardIdentifierSourceCodes();
+      synchronized (StandardIdentifierSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new StandardIdentifierSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -72,7 +72,7 @@ public class SubjectCategoryCodeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static SubjectCategoryCodeSourceCodes uniqueInstance;
+  private static volatile SubjectCategoryCodeSourceCodes uniqueInstance;
 
   private SubjectCategoryCodeSourceCodes() {
     initialize();
@@ -80,7 +80,10 @@ public class SubjectCategoryCodeSourceCodes extends CodeList {
 
   public static SubjectCategoryCodeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SubjectCategoryCodeSourceCodes();
+      synchronized (SubjectCategoryCodeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SubjectCategoryCodeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
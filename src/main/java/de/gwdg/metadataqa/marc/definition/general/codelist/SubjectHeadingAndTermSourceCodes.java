@@ -383,7 +383,7 @@ public class SubjectHeadingAndTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static SubjectHeadingAndTermSourceCodes uniqueInstance;
+  private static volatile SubjectHeadingAndTermSourceCodes uniqueInstance;
 
   private SubjectHeadingAndTermSourceCodes() {
     initialize();
@@ -391,7 +391,10 @@ public class SubjectHeadingAndTermSourceCodes extends CodeList {
 
   public static SubjectHeadingAndTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SubjectHeadingAndTermSourceCodes();
+      synchronized (SubjectHeadingAndTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SubjectHeadingAndTermSourceCodes();
+      }
     return uniqueInstance;
   }
 }
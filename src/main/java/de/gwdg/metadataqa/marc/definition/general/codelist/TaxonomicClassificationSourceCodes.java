@@ -72,7 +72,7 @@ public class TaxonomicClassificationSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static TaxonomicClassificationSourceCodes uniqueInstance;
+  private static volatile TaxonomicClassificationSourceCodes uniqueInstance;
 
   private TaxonomicClassificationSourceCodes() {
     initialize();
@@ -80,7 +80,10 @@ public class TaxonomicClassificationSourceCodes extends CodeList {
 
   public static TaxonomicClassificationSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new TaxonomicClassificationSourceCodes();
+      synchronized (TaxonomicClassificationSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new TaxonomicClassificationSourceCodes();
+      }
     return uniqueInstance;
   }
 }
@@ -16,7 +16,7 @@ public class TemporalTermSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static TemporalTermSourceCodes uniqueInstance;
+  private static volatile TemporalTermSourceCodes uniqueInstance;
 
   private TemporalTermSourceCodes() {
     initialize();
@@ -24,7 +24,10 @@ public class TemporalTermSourceCodes extends CodeList {
 
   public static TemporalTermSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new TemporalTermSourceCodes();
+      synchronized (TemporalTermSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new TemporalTermSourceCodes();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ public class ThematicIndexCodeSourceCodes extends CodeList {
     indexCodes();
   }
 
-  private static ThematicIndexCodeSourceCodes uniqueInstance;
+  private static volatile ThematicIndexCodeSourceCodes uniqueInstance;
 
   private ThematicIndexCodeSourceCodes() {
     initialize();
@@ -25,7 +25,10 @@ public class ThematicIndexCodeSourceCodes extends CodeList {
 
   public static ThematicIndexCodeSourceCodes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ThematicIndexCodeSourceCodes();
+      synchronized (ThematicIndexCodeSourceCodes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ThematicIndexCodeSourceCodes();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -27,7 +27,7 @@ public class FormOfItem extends CodeList {
     indexCodes();
   }
 
-  private static FormOfItem uniqueInstance;
+  private static volatile FormOfItem uniqueInstance;
 
   private FormOfItem() {
     initialize();
@@ -35,7 +35,10 @@ public class FormOfItem extends CodeList {
 
   public static FormOfItem getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new FormOfItem();
+      synchronized (FormOfItem.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new FormOfItem();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
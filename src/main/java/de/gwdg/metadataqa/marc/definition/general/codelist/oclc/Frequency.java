@@ -34,7 +34,7 @@ public class Frequency extends CodeList {
     indexCodes();
   }
 
-  private static Frequency uniqueInstance;
+  private static volatile Frequency uniqueInstance;
 
   private Frequency() {
     initialize();
@@ -42,7 +42,10 @@ public class Frequency extends CodeList {
 
   public static Frequency getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Frequency();
+      synchronized (Frequency.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Frequency();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
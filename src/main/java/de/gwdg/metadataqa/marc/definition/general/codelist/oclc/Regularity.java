@@ -20,7 +20,7 @@ public class Regularity extends CodeList {
     indexCodes();
   }
 
-  private static Regularity uniqueInstance;
+  private static volatile Regularity uniqueInstance;
 
   private Regularity() {
     initialize();
@@ -28,7 +28,10 @@ public class Regularity extends CodeList {
 
   public static Regularity getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Regularity();
+      synchronized (Regularity.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Regularity();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ public class TypeOfDateOrPublicationStatus extends CodeList {
     indexCodes();
   }
 
-  private static TypeOfDateOrPublicationStatus uniqueInstance;
+  private static volatile TypeOfDateOrPublicationStatus uniqueInstance;
 
   private TypeOfDateOrPublicationStatus() {
     initialize();
@@ -34,7 +34,10 @@ public class TypeOfDateOrPublicationStatus extends CodeList {
 
   public static TypeOfDateOrPublicationStatus getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new TypeOfDateOrPublicationStatus();
+      synchronized (TypeOfDateOrPublicationStatus.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new TypeOfDateOrPublicationStatus();
+      }
     return uniqueInstance;
   }
 }
\ No newline at end of file
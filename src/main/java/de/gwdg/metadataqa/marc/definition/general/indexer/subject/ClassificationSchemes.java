@@ -5,7 +5,7 @@ import java.util.Map;
 
 public class ClassificationSchemes {
 
-  Map<String, String> schemes = new HashMap<>();
+  private final Map<String, String> schemes = new HashMap<>();
 
   private void initialize() {
     schemes.put("Library of Congress Subject Headings", "lcsh0");
@@ -42,7 +42,7 @@ public class ClassificationSchemes {
       key));
   }
 
-  private static ClassificationSchemes uniqueInstance;
+  private static volatile ClassificationSchemes uniqueInstance;
 
   private ClassificationSchemes() {
     initialize();
@@ -50,7 +50,10 @@ public class ClassificationSchemes {
 
   public static ClassificationSchemes getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ClassificationSchemes();
+      synchronized (ClassificationSchemes.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ClassificationSchemes();
+      }
     return uniqueInstance;
   }
 }
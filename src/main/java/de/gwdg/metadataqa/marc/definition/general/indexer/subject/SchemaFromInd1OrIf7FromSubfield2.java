@@ -38,13 +38,16 @@ public class SchemaFromInd1OrIf7FromSubfield2 extends SubjectIndexer implements
     return indexEntries;
   }
 
-  private static SchemaFromInd1OrIf7FromSubfield2 uniqueInstance;
+  private static volatile SchemaFromInd1OrIf7FromSubfield2 uniqueInstance;
 
   private SchemaFromInd1OrIf7FromSubfield2() {}
 
   public static SchemaFromInd1OrIf7FromSubfield2 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SchemaFromInd1OrIf7FromSubfield2();
+      synchronized (SchemaFromInd1OrIf7FromSubfield2.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SchemaFromInd1OrIf7FromSubfield2();
+      }
     return uniqueInstance;
   }
 }
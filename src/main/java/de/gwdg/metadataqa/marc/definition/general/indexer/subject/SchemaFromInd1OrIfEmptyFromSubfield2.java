@@ -37,13 +37,16 @@ public class SchemaFromInd1OrIfEmptyFromSubfield2 extends SubjectIndexer impleme
     return indexEntries;
   }
 
-  private static SchemaFromInd1OrIfEmptyFromSubfield2 uniqueInstance;
+  private static volatile SchemaFromInd1OrIfEmptyFromSubfield2 uniqueInstance;
 
   private SchemaFromInd1OrIfEmptyFromSubfield2() {}
 
   public static SchemaFromInd1OrIfEmptyFromSubfield2 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SchemaFromInd1OrIfEmptyFromSubfield2();
+      synchronized (SchemaFromInd1OrIfEmptyFromSubfield2.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SchemaFromInd1OrIfEmptyFromSubfield2();
+      }
     return uniqueInstance;
   }
 }
@@ -39,13 +39,16 @@ public class SchemaFromInd2AndSubfield2 extends SubjectIndexer implements FieldI
     return indexEntries;
   }
 
-  private static SchemaFromInd2AndSubfield2 uniqueInstance;
+  private static volatile SchemaFromInd2AndSubfield2 uniqueInstance;
 
   private SchemaFromInd2AndSubfield2() {}
 
   public static SchemaFromInd2AndSubfield2 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SchemaFromInd2AndSubfield2();
+      synchronized (SchemaFromInd2AndSubfield2.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SchemaFromInd2AndSubfield2();
+      }
     return uniqueInstance;
   }
 }
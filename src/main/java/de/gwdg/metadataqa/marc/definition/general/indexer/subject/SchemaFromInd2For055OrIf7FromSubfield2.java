@@ -42,13 +42,16 @@ public class SchemaFromInd2For055OrIf7FromSubfield2 extends SubjectIndexer imple
     return indexEntries;
   }
 
-  private static SchemaFromInd2For055OrIf7FromSubfield2 uniqueInstance;
+  private static volatile SchemaFromInd2For055OrIf7FromSubfield2 uniqueInstance;
 
   private SchemaFromInd2For055OrIf7FromSubfield2() {}
 
   public static SchemaFromInd2For055OrIf7FromSubfield2 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SchemaFromInd2For055OrIf7FromSubfield2();
+      synchronized (SchemaFromInd2For055OrIf7FromSubfield2.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SchemaFromInd2For055OrIf7FromSubfield2();
+      }
     return uniqueInstance;
   }
 }
@@ -25,13 +25,16 @@ public class SchemaFromSubfield2 extends SubjectIndexer implements FieldIndexer
     return indexEntries;
   }
 
-  private static SchemaFromSubfield2 uniqueInstance;
+  private static volatile SchemaFromSubfield2 uniqueInstance;
 
   private SchemaFromSubfield2() {}
 
   public static SchemaFromSubfield2 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new SchemaFromSubfield2();
+      synchronized (SchemaFromSubfield2.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new SchemaFromSubfield2();
+      }
     return uniqueInstance;
   }
 
@@ -56,13 +56,16 @@ public class LinkageParser implements SubfieldContentParser, Serializable {
     }
   }
 
-  private static LinkageParser uniqueInstance;
+  private static volatile LinkageParser uniqueInstance;
 
   private LinkageParser() {}
 
   public static LinkageParser getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new LinkageParser();
+      synchronized (LinkageParser.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new LinkageParser();
+      }
     return uniqueInstance;
   }
 
@@ -28,13 +28,16 @@ public class RecordControlNumberParser implements SubfieldContentParser, Seriali
     return extra;
   }
 
-  private static RecordControlNumberParser uniqueInstance;
+  private static volatile RecordControlNumberParser uniqueInstance;
 
   private RecordControlNumberParser() {}
 
   public static RecordControlNumberParser getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new RecordControlNumberParser();
+      synchronized (RecordControlNumberParser.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new RecordControlNumberParser();
+      }
     return uniqueInstance;
   }
 
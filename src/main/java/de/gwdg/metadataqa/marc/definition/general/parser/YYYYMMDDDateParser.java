@@ -16,7 +16,7 @@ public class YYYYMMDDDateParser implements SubfieldContentParser, Serializable {
   private DateTimeFormatter marc;
   DateTimeFormatter iso = DateTimeFormatter.ISO_DATE;
 
-  private static YYYYMMDDDateParser uniqueInstance;
+  private static volatile YYYYMMDDDateParser uniqueInstance;
 
   private YYYYMMDDDateParser() {
     initialize();
@@ -24,7 +24,10 @@ public class YYYYMMDDDateParser implements SubfieldContentParser, Serializable {
 
   public static YYYYMMDDDateParser getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new YYYYMMDDDateParser();
+      synchronized (YYYYMMDDDateParser.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new YYYYMMDDDateParser();
+      }
     return uniqueInstance;
   }
 
@@ -19,13 +19,16 @@ public class ISBNValidator implements SubfieldValidator, Serializable {
   public static final String URL = "https://en.wikipedia.org/wiki/International_Standard_Book_Number";
   public static final Pattern ISBN = Pattern.compile("\\d[\\d- ]{8,}[\\dxX]");
 
-  private static ISBNValidator uniqueInstance;
+  private static volatile ISBNValidator uniqueInstance;
 
   private ISBNValidator() {}
 
   public static ISBNValidator getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ISBNValidator();
+      synchronized (ISBNValidator.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ISBNValidator();
+      }
     return uniqueInstance;
   }
 
@@ -17,13 +17,16 @@ public class ISSNValidator implements SubfieldValidator, Serializable {
   public static final String URL = "https://en.wikipedia.org/wiki/International_Standard_Serial_Number";
   public static final Pattern ISSN = Pattern.compile("\\d{4}-\\d{3}[\\dxX]");
 
-  private static ISSNValidator uniqueInstance;
+  private static volatile ISSNValidator uniqueInstance;
 
   private ISSNValidator() {}
 
   public static ISSNValidator getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new ISSNValidator();
+      synchronized (ISSNValidator.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new ISSNValidator();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementIdentify
  */
 public class Control001Definition extends DataFieldDefinition {
 
-  private static Control001Definition uniqueInstance;
+  private static volatile Control001Definition uniqueInstance;
 
   private Control001Definition() {
     initialize();
@@ -22,7 +22,10 @@ public class Control001Definition extends DataFieldDefinition {
 
   public static Control001Definition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control001Definition();
+      synchronized (Control001Definition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control001Definition();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.ManagementIdentify
  */
 public class Control003Definition extends DataFieldDefinition {
 
-  private static Control003Definition uniqueInstance;
+  private static volatile Control003Definition uniqueInstance;
 
   private Control003Definition() {
     initialize();
@@ -22,7 +22,10 @@ public class Control003Definition extends DataFieldDefinition {
 
   public static Control003Definition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control003Definition();
+      synchronized (Control003Definition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control003Definition();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.DataFieldDefinition;
  */
 public class Control005Definition extends DataFieldDefinition {
 
-  private static Control005Definition uniqueInstance;
+  private static volatile Control005Definition uniqueInstance;
 
   private Control005Definition() {
     initialize();
@@ -18,7 +18,10 @@ public class Control005Definition extends DataFieldDefinition {
 
   public static Control005Definition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control005Definition();
+      synchronized (Control005Definition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control005Definition();
+      }
     return uniqueInstance;
   }
 
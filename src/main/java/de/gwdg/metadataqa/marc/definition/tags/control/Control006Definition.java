@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.controlsubfields.Control006Subfields;
  */
 public class Control006Definition extends ControlFieldDefinition {
 
-  private static Control006Definition uniqueInstance;
+  private static volatile Control006Definition uniqueInstance;
 
   private Control006Definition() {
     initialize();
@@ -19,7 +19,10 @@ public class Control006Definition extends ControlFieldDefinition {
 
   public static Control006Definition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control006Definition();
+      synchronized (Control006Definition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control006Definition();
+      }
     return uniqueInstance;
   }
 
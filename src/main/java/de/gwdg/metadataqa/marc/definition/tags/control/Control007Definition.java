@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.controlsubfields.Control007Subfields;
  */
 public class Control007Definition extends ControlFieldDefinition {
 
-  private static Control007Definition uniqueInstance;
+  private static volatile Control007Definition uniqueInstance;
 
   private Control007Definition() {
     initialize();
@@ -19,7 +19,10 @@ public class Control007Definition extends ControlFieldDefinition {
 
   public static Control007Definition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control007Definition();
+      synchronized (Control007Definition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control007Definition();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.controlsubfields.Control008Subfields;
  */
 public class Control008Definition extends ControlFieldDefinition {
 
-  private static Control008Definition uniqueInstance;
+  private static volatile Control008Definition uniqueInstance;
 
   private Control008Definition() {
     initialize();
@@ -19,7 +19,10 @@ public class Control008Definition extends ControlFieldDefinition {
 
   public static Control008Definition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Control008Definition();
+      synchronized (Control008Definition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Control008Definition();
+      }
     return uniqueInstance;
   }
 
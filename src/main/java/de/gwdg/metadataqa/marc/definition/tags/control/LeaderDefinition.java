@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.controlsubfields.LeaderSubfields;
  */
 public class LeaderDefinition extends ControlFieldDefinition {
 
-  private static LeaderDefinition uniqueInstance;
+  private static volatile LeaderDefinition uniqueInstance;
 
   private LeaderDefinition() {
     initialize();
@@ -19,7 +19,10 @@ public class LeaderDefinition extends ControlFieldDefinition {
 
   public static LeaderDefinition getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new LeaderDefinition();
+      synchronized (LeaderDefinition.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new LeaderDefinition();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag249 extends DataFieldDefinition {
 
-  private static Tag249 uniqueInstance;
+  private static volatile Tag249 uniqueInstance;
 
   private Tag249() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag249 extends DataFieldDefinition {
 
   public static Tag249 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag249();
+      synchronized (Tag249.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag249();
+      }
     return uniqueInstance;
   }
 
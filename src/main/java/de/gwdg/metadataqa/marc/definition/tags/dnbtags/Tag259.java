@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag259 extends DataFieldDefinition {
 
-  private static Tag259 uniqueInstance;
+  private static volatile Tag259 uniqueInstance;
 
   private Tag259() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag259 extends DataFieldDefinition {
 
   public static Tag259 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag259();
+      synchronized (Tag259.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag259();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.SubfieldDefinition;
  */
 public class Tag689 extends DataFieldDefinition {
 
-  private static Tag689 uniqueInstance;
+  private static volatile Tag689 uniqueInstance;
 
   private Tag689() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag689 extends DataFieldDefinition {
 
   public static Tag689 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag689();
+      synchronized (Tag689.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag689();
+      }
     return uniqueInstance;
   }
 
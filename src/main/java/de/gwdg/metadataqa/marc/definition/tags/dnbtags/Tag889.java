@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag889 extends DataFieldDefinition {
 
-  private static Tag889 uniqueInstance;
+  private static volatile Tag889 uniqueInstance;
 
   private Tag889() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag889 extends DataFieldDefinition {
 
   public static Tag889 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag889();
+      synchronized (Tag889.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag889();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag924 extends DataFieldDefinition {
 
-  private static Tag924 uniqueInstance;
+  private static volatile Tag924 uniqueInstance;
 
   private Tag924() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag924 extends DataFieldDefinition {
 
   public static Tag924 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag924();
+      synchronized (Tag924.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag924();
+      }
     return uniqueInstance;
   }
 
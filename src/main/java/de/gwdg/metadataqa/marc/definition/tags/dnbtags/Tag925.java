@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag925 extends DataFieldDefinition {
 
-  private static Tag925 uniqueInstance;
+  private static volatile Tag925 uniqueInstance;
 
   private Tag925() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag925 extends DataFieldDefinition {
 
   public static Tag925 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag925();
+      synchronized (Tag925.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag925();
+      }
     return uniqueInstance;
   }
 
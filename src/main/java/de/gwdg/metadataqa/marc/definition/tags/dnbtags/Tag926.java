@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag926 extends DataFieldDefinition {
 
-  private static Tag926 uniqueInstance;
+  private static volatile Tag926 uniqueInstance;
 
   private Tag926() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag926 extends DataFieldDefinition {
 
   public static Tag926 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag926();
+      synchronized (Tag926.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag926();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag930 extends DataFieldDefinition {
 
-  private static Tag930 uniqueInstance;
+  private static volatile Tag930 uniqueInstance;
 
   private Tag930() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag930 extends DataFieldDefinition {
 
   public static Tag930 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag930();
+      synchronized (Tag930.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag930();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag931 extends DataFieldDefinition {
 
-  private static Tag931 uniqueInstance;
+  private static volatile Tag931 uniqueInstance;
 
   private Tag931() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag931 extends DataFieldDefinition {
 
   public static Tag931 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag931();
+      synchronized (Tag931.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag931();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag932 extends DataFieldDefinition {
 
-  private static Tag932 uniqueInstance;
+  private static volatile Tag932 uniqueInstance;
 
   private Tag932() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag932 extends DataFieldDefinition {
 
   public static Tag932 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag932();
+      synchronized (Tag932.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag932();
+      }
     return uniqueInstance;
   }
 
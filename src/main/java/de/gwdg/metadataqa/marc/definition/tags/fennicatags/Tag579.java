@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag579 extends DataFieldDefinition {
 
-  private static Tag579 uniqueInstance;
+  private static volatile Tag579 uniqueInstance;
 
   private Tag579() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag579 extends DataFieldDefinition {
 
   public static Tag579 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag579();
+      synchronized (Tag579.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag579();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag790 extends DataFieldDefinition {
 
-  private static Tag790 uniqueInstance;
+  private static volatile Tag790 uniqueInstance;
 
   private Tag790() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag790 extends DataFieldDefinition {
 
   public static Tag790 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag790();
+      synchronized (Tag790.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag790();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag901 extends DataFieldDefinition {
 
-  private static Tag901 uniqueInstance;
+  private static volatile Tag901 uniqueInstance;
 
   private Tag901() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag901 extends DataFieldDefinition {
 
   public static Tag901 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag901();
+      synchronized (Tag901.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag901();
+      }
     return uniqueInstance;
   }
 
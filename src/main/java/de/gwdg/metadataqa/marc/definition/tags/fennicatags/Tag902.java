@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag902 extends DataFieldDefinition {
 
-  private static Tag902 uniqueInstance;
+  private static volatile Tag902 uniqueInstance;
 
   private Tag902() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag902 extends DataFieldDefinition {
 
   public static Tag902 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag902();
+      synchronized (Tag902.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag902();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag903 extends DataFieldDefinition {
 
-  private static Tag903 uniqueInstance;
+  private static volatile Tag903 uniqueInstance;
 
   private Tag903() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag903 extends DataFieldDefinition {
 
   public static Tag903 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag903();
+      synchronized (Tag903.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag903();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag904 extends DataFieldDefinition {
 
-  private static Tag904 uniqueInstance;
+  private static volatile Tag904 uniqueInstance;
 
   private Tag904() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag904 extends DataFieldDefinition {
 
   public static Tag904 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag904();
+      synchronized (Tag904.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag904();
+      }
     return uniqueInstance;
   }
 
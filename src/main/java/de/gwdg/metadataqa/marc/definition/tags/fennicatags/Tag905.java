@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag905 extends DataFieldDefinition {
 
-  private static Tag905 uniqueInstance;
+  private static volatile Tag905 uniqueInstance;
 
   private Tag905() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag905 extends DataFieldDefinition {
 
   public static Tag905 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag905();
+      synchronized (Tag905.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag905();
+      }
     return uniqueInstance;
   }
 
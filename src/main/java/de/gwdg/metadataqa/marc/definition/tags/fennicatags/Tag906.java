@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag906 extends DataFieldDefinition {
 
-  private static Tag906 uniqueInstance;
+  private static volatile Tag906 uniqueInstance;
 
   private Tag906() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag906 extends DataFieldDefinition {
 
   public static Tag906 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag906();
+      synchronized (Tag906.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag906();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag907 extends DataFieldDefinition {
 
-  private static Tag907 uniqueInstance;
+  private static volatile Tag907 uniqueInstance;
 
   private Tag907() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag907 extends DataFieldDefinition {
 
   public static Tag907 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag907();
+      synchronized (Tag907.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag907();
+      }
     return uniqueInstance;
   }
 
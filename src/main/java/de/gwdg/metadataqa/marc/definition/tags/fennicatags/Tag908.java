@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag908 extends DataFieldDefinition {
 
-  private static Tag908 uniqueInstance;
+  private static volatile Tag908 uniqueInstance;
 
   private Tag908() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag908 extends DataFieldDefinition {
 
   public static Tag908 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag908();
+      synchronized (Tag908.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag908();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag909 extends DataFieldDefinition {
 
-  private static Tag909 uniqueInstance;
+  private static volatile Tag909 uniqueInstance;
 
   private Tag909() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag909 extends DataFieldDefinition {
 
   public static Tag909 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag909();
+      synchronized (Tag909.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag909();
+      }
     return uniqueInstance;
   }
 
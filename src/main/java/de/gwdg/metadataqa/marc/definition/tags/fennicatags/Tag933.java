@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag933 extends DataFieldDefinition {
 
-  private static Tag933 uniqueInstance;
+  private static volatile Tag933 uniqueInstance;
 
   private Tag933() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag933 extends DataFieldDefinition {
 
   public static Tag933 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag933();
+      synchronized (Tag933.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag933();
+      }
     return uniqueInstance;
   }
 
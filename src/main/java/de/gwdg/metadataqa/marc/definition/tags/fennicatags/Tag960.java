@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag960 extends DataFieldDefinition {
 
-  private static Tag960 uniqueInstance;
+  private static volatile Tag960 uniqueInstance;
 
   private Tag960() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag960 extends DataFieldDefinition {
 
   public static Tag960 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag960();
+      synchronized (Tag960.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag960();
+      }
     return uniqueInstance;
   }
 
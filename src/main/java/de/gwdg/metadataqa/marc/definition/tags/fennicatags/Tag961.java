@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag961 extends DataFieldDefinition {
 
-  private static Tag961 uniqueInstance;
+  private static volatile Tag961 uniqueInstance;
 
   private Tag961() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag961 extends DataFieldDefinition {
 
   public static Tag961 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag961();
+      synchronized (Tag961.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag961();
+      }
     return uniqueInstance;
   }
 
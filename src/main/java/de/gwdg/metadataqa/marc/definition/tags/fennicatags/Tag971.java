@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag971 extends DataFieldDefinition {
 
-  private static Tag971 uniqueInstance;
+  private static volatile Tag971 uniqueInstance;
 
   private Tag971() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag971 extends DataFieldDefinition {
 
   public static Tag971 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag971();
+      synchronized (Tag971.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag971();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag972 extends DataFieldDefinition {
 
-  private static Tag972 uniqueInstance;
+  private static volatile Tag972 uniqueInstance;
 
   private Tag972() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag972 extends DataFieldDefinition {
 
   public static Tag972 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag972();
+      synchronized (Tag972.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag972();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag976 extends DataFieldDefinition {
 
-  private static Tag976 uniqueInstance;
+  private static volatile Tag976 uniqueInstance;
 
   private Tag976() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag976 extends DataFieldDefinition {
 
   public static Tag976 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag976();
+      synchronized (Tag976.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag976();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag977 extends DataFieldDefinition {
 
-  private static Tag977 uniqueInstance;
+  private static volatile Tag977 uniqueInstance;
 
   private Tag977() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag977 extends DataFieldDefinition {
 
   public static Tag977 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag977();
+      synchronized (Tag977.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag977();
+      }
     return uniqueInstance;
   }
 
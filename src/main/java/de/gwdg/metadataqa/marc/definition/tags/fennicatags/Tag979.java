@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag979 extends DataFieldDefinition {
 
-  private static Tag979 uniqueInstance;
+  private static volatile Tag979 uniqueInstance;
 
   private Tag979() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag979 extends DataFieldDefinition {
 
   public static Tag979 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag979();
+      synchronized (Tag979.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag979();
+      }
     return uniqueInstance;
   }
 
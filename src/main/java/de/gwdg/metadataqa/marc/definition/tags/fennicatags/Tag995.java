@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag995 extends DataFieldDefinition {
 
-  private static Tag995 uniqueInstance;
+  private static volatile Tag995 uniqueInstance;
 
   private Tag995() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag995 extends DataFieldDefinition {
 
   public static Tag995 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag995();
+      synchronized (Tag995.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag995();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag920 extends DataFieldDefinition {
 
-  private static Tag920 uniqueInstance;
+  private static volatile Tag920 uniqueInstance;
 
   private Tag920() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag920 extends DataFieldDefinition {
 
   public static Tag920 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag920();
+      synchronized (Tag920.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag920();
+      }
     return uniqueInstance;
   }
 
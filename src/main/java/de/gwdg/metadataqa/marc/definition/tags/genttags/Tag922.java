@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag922 extends DataFieldDefinition {
 
-  private static Tag922 uniqueInstance;
+  private static volatile Tag922 uniqueInstance;
 
   private Tag922() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag922 extends DataFieldDefinition {
 
   public static Tag922 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag922();
+      synchronized (Tag922.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag922();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag866 extends DataFieldDefinition {
 
-  private static Tag866 uniqueInstance;
+  private static volatile Tag866 uniqueInstance;
 
   private Tag866() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag866 extends DataFieldDefinition {
 
   public static Tag866 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag866();
+      synchronized (Tag866.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag866();
+      }
     return uniqueInstance;
   }
 
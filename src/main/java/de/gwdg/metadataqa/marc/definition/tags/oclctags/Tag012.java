@@ -14,7 +14,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag012 extends DataFieldDefinition {
 
-  private static Tag012 uniqueInstance;
+  private static volatile Tag012 uniqueInstance;
 
   private Tag012() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag012 extends DataFieldDefinition {
 
   public static Tag012 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag012();
+      synchronized (Tag012.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag012();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag019 extends DataFieldDefinition {
 
-  private static Tag019 uniqueInstance;
+  private static volatile Tag019 uniqueInstance;
 
   private Tag019() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag019 extends DataFieldDefinition {
 
   public static Tag019 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag019();
+      synchronized (Tag019.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag019();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import java.util.Arrays;
  */
 public class Tag029 extends DataFieldDefinition {
 
-  private static Tag029 uniqueInstance;
+  private static volatile Tag029 uniqueInstance;
 
   private Tag029() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag029 extends DataFieldDefinition {
 
   public static Tag029 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag029();
+      synchronized (Tag029.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag029();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import java.util.Arrays;
  */
 public class Tag090 extends DataFieldDefinition {
 
-  private static Tag090 uniqueInstance;
+  private static volatile Tag090 uniqueInstance;
 
   private Tag090() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag090 extends DataFieldDefinition {
 
   public static Tag090 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag090();
+      synchronized (Tag090.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag090();
+      }
     return uniqueInstance;
   }
 
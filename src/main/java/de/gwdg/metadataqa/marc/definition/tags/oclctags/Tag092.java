@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag092 extends DataFieldDefinition {
 
-  private static Tag092 uniqueInstance;
+  private static volatile Tag092 uniqueInstance;
 
   private Tag092() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag092 extends DataFieldDefinition {
 
   public static Tag092 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag092();
+      synchronized (Tag092.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag092();
+      }
     return uniqueInstance;
   }
 
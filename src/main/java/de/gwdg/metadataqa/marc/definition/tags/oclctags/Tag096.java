@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag096 extends DataFieldDefinition {
 
-  private static Tag096 uniqueInstance;
+  private static volatile Tag096 uniqueInstance;
 
   private Tag096() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag096 extends DataFieldDefinition {
 
   public static Tag096 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag096();
+      synchronized (Tag096.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag096();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag366 extends DataFieldDefinition {
 
-  private static Tag366 uniqueInstance;
+  private static volatile Tag366 uniqueInstance;
 
   private Tag366() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag366 extends DataFieldDefinition {
 
   public static Tag366 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag366();
+      synchronized (Tag366.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag366();
+      }
     return uniqueInstance;
   }
 
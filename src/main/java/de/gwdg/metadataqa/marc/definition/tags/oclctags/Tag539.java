@@ -14,7 +14,7 @@ import de.gwdg.metadataqa.marc.definition.general.codelist.oclc.TypeOfDateOrPubl
  */
 public class Tag539 extends DataFieldDefinition {
 
-  private static Tag539 uniqueInstance;
+  private static volatile Tag539 uniqueInstance;
 
   private Tag539() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag539 extends DataFieldDefinition {
 
   public static Tag539 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag539();
+      synchronized (Tag539.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag539();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag851 extends DataFieldDefinition {
 
-  private static Tag851 uniqueInstance;
+  private static volatile Tag851 uniqueInstance;
 
   private Tag851() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag851 extends DataFieldDefinition {
 
   public static Tag851 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag851();
+      synchronized (Tag851.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag851();
+      }
     return uniqueInstance;
   }
 
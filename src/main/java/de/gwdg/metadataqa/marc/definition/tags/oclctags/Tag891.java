@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag891 extends DataFieldDefinition {
 
-  private static Tag891 uniqueInstance;
+  private static volatile Tag891 uniqueInstance;
 
   private Tag891() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag891 extends DataFieldDefinition {
 
   public static Tag891 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag891();
+      synchronized (Tag891.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag891();
+      }
     return uniqueInstance;
   }
 
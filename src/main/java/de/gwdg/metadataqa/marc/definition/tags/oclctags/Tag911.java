@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag911 extends DataFieldDefinition {
 
-  private static Tag911 uniqueInstance;
+  private static volatile Tag911 uniqueInstance;
 
   private Tag911() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag911 extends DataFieldDefinition {
 
   public static Tag911 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag911();
+      synchronized (Tag911.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag911();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import java.util.Arrays;
  */
 public class Tag912 extends DataFieldDefinition {
 
-  private static Tag912 uniqueInstance;
+  private static volatile Tag912 uniqueInstance;
 
   private Tag912() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag912 extends DataFieldDefinition {
 
   public static Tag912 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag912();
+      synchronized (Tag912.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag912();
+      }
     return uniqueInstance;
   }
 
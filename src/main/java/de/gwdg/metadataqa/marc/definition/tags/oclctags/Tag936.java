@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag936 extends DataFieldDefinition {
 
-  private static Tag936 uniqueInstance;
+  private static volatile Tag936 uniqueInstance;
 
   private Tag936() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag936 extends DataFieldDefinition {
 
   public static Tag936 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag936();
+      synchronized (Tag936.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag936();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag938 extends DataFieldDefinition {
 
-  private static Tag938 uniqueInstance;
+  private static volatile Tag938 uniqueInstance;
 
   private Tag938() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag938 extends DataFieldDefinition {
 
   public static Tag938 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag938();
+      synchronized (Tag938.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag938();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag994 extends DataFieldDefinition {
 
-  private static Tag994 uniqueInstance;
+  private static volatile Tag994 uniqueInstance;
 
   private Tag994() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag994 extends DataFieldDefinition {
 
   public static Tag994 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag994();
+      synchronized (Tag994.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag994();
+      }
     return uniqueInstance;
   }
 
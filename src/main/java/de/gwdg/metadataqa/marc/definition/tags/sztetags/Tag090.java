@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag090 extends DataFieldDefinition {
 
-  private static Tag090 uniqueInstance;
+  private static volatile Tag090 uniqueInstance;
 
   private Tag090() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag090 extends DataFieldDefinition {
 
   public static Tag090 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag090();
+      synchronized (Tag090.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag090();
+      }
     return uniqueInstance;
   }
 
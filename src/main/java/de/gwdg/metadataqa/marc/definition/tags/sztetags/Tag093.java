@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag093 extends DataFieldDefinition {
 
-  private static Tag093 uniqueInstance;
+  private static volatile Tag093 uniqueInstance;
 
   private Tag093() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag093 extends DataFieldDefinition {
 
   public static Tag093 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag093();
+      synchronized (Tag093.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag093();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag503 extends DataFieldDefinition {
 
-  private static Tag503 uniqueInstance;
+  private static volatile Tag503 uniqueInstance;
 
   private Tag503() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag503 extends DataFieldDefinition {
 
   public static Tag503 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag503();
+      synchronized (Tag503.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag503();
+      }
     return uniqueInstance;
   }
 
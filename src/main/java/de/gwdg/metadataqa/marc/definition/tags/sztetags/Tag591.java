@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag591 extends DataFieldDefinition {
 
-  private static Tag591 uniqueInstance;
+  private static volatile Tag591 uniqueInstance;
 
   private Tag591() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag591 extends DataFieldDefinition {
 
   public static Tag591 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag591();
+      synchronized (Tag591.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag591();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag595 extends DataFieldDefinition {
 
-  private static Tag595 uniqueInstance;
+  private static volatile Tag595 uniqueInstance;
 
   private Tag595() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag595 extends DataFieldDefinition {
 
   public static Tag595 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag595();
+      synchronized (Tag595.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag595();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag596 extends DataFieldDefinition {
 
-  private static Tag596 uniqueInstance;
+  private static volatile Tag596 uniqueInstance;
 
   private Tag596() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag596 extends DataFieldDefinition {
 
   public static Tag596 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag596();
+      synchronized (Tag596.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag596();
+      }
     return uniqueInstance;
   }
 
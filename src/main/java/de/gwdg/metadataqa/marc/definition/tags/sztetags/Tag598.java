@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag598 extends DataFieldDefinition {
 
-  private static Tag598 uniqueInstance;
+  private static volatile Tag598 uniqueInstance;
 
   private Tag598() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag598 extends DataFieldDefinition {
 
   public static Tag598 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag598();
+      synchronized (Tag598.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag598();
+      }
     return uniqueInstance;
   }
 
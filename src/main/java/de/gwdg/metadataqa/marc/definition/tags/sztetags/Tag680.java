@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag680 extends DataFieldDefinition {
 
-  private static Tag680 uniqueInstance;
+  private static volatile Tag680 uniqueInstance;
 
   private Tag680() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag680 extends DataFieldDefinition {
 
   public static Tag680 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag680();
+      synchronized (Tag680.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag680();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag695 extends DataFieldDefinition {
 
-  private static Tag695 uniqueInstance;
+  private static volatile Tag695 uniqueInstance;
 
   private Tag695() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag695 extends DataFieldDefinition {
 
   public static Tag695 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag695();
+      synchronized (Tag695.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag695();
+      }
     return uniqueInstance;
   }
 
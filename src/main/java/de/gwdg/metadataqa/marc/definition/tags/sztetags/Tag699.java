@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag699 extends DataFieldDefinition {
 
-  private static Tag699 uniqueInstance;
+  private static volatile Tag699 uniqueInstance;
 
   private Tag699() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag699 extends DataFieldDefinition {
 
   public static Tag699 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag699();
+      synchronized (Tag699.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag699();
+      }
     return uniqueInstance;
   }
 
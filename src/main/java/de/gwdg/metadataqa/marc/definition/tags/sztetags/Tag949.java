@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag949 extends DataFieldDefinition {
 
-  private static Tag949 uniqueInstance;
+  private static volatile Tag949 uniqueInstance;
 
   private Tag949() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag949 extends DataFieldDefinition {
 
   public static Tag949 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag949();
+      synchronized (Tag949.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag949();
+      }
     return uniqueInstance;
   }
 
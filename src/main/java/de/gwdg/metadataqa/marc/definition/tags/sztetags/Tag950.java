@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag950 extends DataFieldDefinition {
 
-  private static Tag950 uniqueInstance;
+  private static volatile Tag950 uniqueInstance;
 
   private Tag950() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag950 extends DataFieldDefinition {
 
   public static Tag950 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag950();
+      synchronized (Tag950.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag950();
+      }
     return uniqueInstance;
   }
 
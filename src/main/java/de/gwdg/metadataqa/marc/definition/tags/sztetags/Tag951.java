@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag951 extends DataFieldDefinition {
 
-  private static Tag951 uniqueInstance;
+  private static volatile Tag951 uniqueInstance;
 
   private Tag951() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag951 extends DataFieldDefinition {
 
   public static Tag951 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag951();
+      synchronized (Tag951.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag951();
+      }
     return uniqueInstance;
   }
 
@@ -9,7 +9,7 @@ import de.gwdg.metadataqa.marc.definition.Indicator;
  */
 public class Tag952 extends DataFieldDefinition {
 
-  private static Tag952 uniqueInstance;
+  private static volatile Tag952 uniqueInstance;
 
   private Tag952() {
     initialize();
@@ -18,7 +18,10 @@ public class Tag952 extends DataFieldDefinition {
 
   public static Tag952 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag952();
+      synchronized (Tag952.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag952();
+      }
     return uniqueInstance;
   }
 
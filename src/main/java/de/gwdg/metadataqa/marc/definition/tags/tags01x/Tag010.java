@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag010 extends DataFieldDefinition {
 
-  private static Tag010 uniqueInstance;
+  private static volatile Tag010 uniqueInstance;
 
   private Tag010() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag010 extends DataFieldDefinition {
 
   public static Tag010 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag010();
+      synchronized (Tag010.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag010();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag013 extends DataFieldDefinition {
 
-  private static Tag013 uniqueInstance;
+  private static volatile Tag013 uniqueInstance;
 
   private Tag013() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag013 extends DataFieldDefinition {
 
   public static Tag013 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag013();
+      synchronized (Tag013.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag013();
+      }
     return uniqueInstance;
   }
 
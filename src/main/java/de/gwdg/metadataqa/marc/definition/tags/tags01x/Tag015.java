@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag015 extends DataFieldDefinition {
 
-  private static Tag015 uniqueInstance;
+  private static volatile Tag015 uniqueInstance;
 
   private Tag015() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag015 extends DataFieldDefinition {
 
   public static Tag015 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag015();
+      synchronized (Tag015.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag015();
+      }
     return uniqueInstance;
   }
 
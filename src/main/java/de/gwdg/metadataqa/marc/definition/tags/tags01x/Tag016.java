@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag016 extends DataFieldDefinition {
 
-  private static Tag016 uniqueInstance;
+  private static volatile Tag016 uniqueInstance;
 
   private Tag016() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag016 extends DataFieldDefinition {
 
   public static Tag016 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag016();
+      synchronized (Tag016.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag016();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag017 extends DataFieldDefinition {
 
-  private static Tag017 uniqueInstance;
+  private static volatile Tag017 uniqueInstance;
 
   private Tag017() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag017 extends DataFieldDefinition {
 
   public static Tag017 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag017();
+      synchronized (Tag017.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag017();
+      }
     return uniqueInstance;
   }
 
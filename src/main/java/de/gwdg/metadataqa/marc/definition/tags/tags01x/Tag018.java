@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag018 extends DataFieldDefinition {
 
-  private static Tag018 uniqueInstance;
+  private static volatile Tag018 uniqueInstance;
 
   private Tag018() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag018 extends DataFieldDefinition {
 
   public static Tag018 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag018();
+      synchronized (Tag018.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag018();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import java.util.Arrays;
  */
 public class Tag020 extends DataFieldDefinition {
 
-  private static Tag020 uniqueInstance;
+  private static volatile Tag020 uniqueInstance;
 
   private Tag020() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag020 extends DataFieldDefinition {
 
   public static Tag020 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag020();
+      synchronized (Tag020.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag020();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag022 extends DataFieldDefinition {
 
-  private static Tag022 uniqueInstance;
+  private static volatile Tag022 uniqueInstance;
 
   private Tag022() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag022 extends DataFieldDefinition {
 
   public static Tag022 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag022();
+      synchronized (Tag022.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag022();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import java.util.Arrays;
  */
 public class Tag024 extends DataFieldDefinition {
 
-  private static Tag024 uniqueInstance;
+  private static volatile Tag024 uniqueInstance;
 
   private Tag024() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag024 extends DataFieldDefinition {
 
   public static Tag024 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag024();
+      synchronized (Tag024.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag024();
+      }
     return uniqueInstance;
   }
 
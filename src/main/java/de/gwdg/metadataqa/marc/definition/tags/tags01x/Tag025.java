@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag025 extends DataFieldDefinition {
 
-  private static Tag025 uniqueInstance;
+  private static volatile Tag025 uniqueInstance;
 
   private Tag025() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag025 extends DataFieldDefinition {
 
   public static Tag025 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag025();
+      synchronized (Tag025.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag025();
+      }
     return uniqueInstance;
   }
 
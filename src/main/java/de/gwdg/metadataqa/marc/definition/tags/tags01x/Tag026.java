@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag026 extends DataFieldDefinition {
 
-  private static Tag026 uniqueInstance;
+  private static volatile Tag026 uniqueInstance;
 
   private Tag026() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag026 extends DataFieldDefinition {
 
   public static Tag026 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag026();
+      synchronized (Tag026.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag026();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag027 extends DataFieldDefinition {
 
-  private static Tag027 uniqueInstance;
+  private static volatile Tag027 uniqueInstance;
 
   private Tag027() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag027 extends DataFieldDefinition {
 
   public static Tag027 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag027();
+      synchronized (Tag027.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag027();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class Tag028 extends DataFieldDefinition {
 
-  private static Tag028 uniqueInstance;
+  private static volatile Tag028 uniqueInstance;
 
   private Tag028() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag028 extends DataFieldDefinition {
 
   public static Tag028 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag028();
+      synchronized (Tag028.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag028();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag030 extends DataFieldDefinition {
 
-  private static Tag030 uniqueInstance;
+  private static volatile Tag030 uniqueInstance;
 
   private Tag030() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag030 extends DataFieldDefinition {
 
   public static Tag030 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag030();
+      synchronized (Tag030.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag030();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag031 extends DataFieldDefinition {
 
-  private static Tag031 uniqueInstance;
+  private static volatile Tag031 uniqueInstance;
 
   private Tag031() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag031 extends DataFieldDefinition {
 
   public static Tag031 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag031();
+      synchronized (Tag031.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag031();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag032 extends DataFieldDefinition {
 
-  private static Tag032 uniqueInstance;
+  private static volatile Tag032 uniqueInstance;
 
   private Tag032() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag032 extends DataFieldDefinition {
 
   public static Tag032 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag032();
+      synchronized (Tag032.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag032();
+      }
     return uniqueInstance;
   }
 
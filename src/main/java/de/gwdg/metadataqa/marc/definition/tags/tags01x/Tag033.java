@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag033 extends DataFieldDefinition {
 
-  private static Tag033 uniqueInstance;
+  private static volatile Tag033 uniqueInstance;
 
   private Tag033() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag033 extends DataFieldDefinition {
 
   public static Tag033 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag033();
+      synchronized (Tag033.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag033();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import java.util.Arrays;
  */
 public class Tag034 extends DataFieldDefinition {
 
-  private static Tag034 uniqueInstance;
+  private static volatile Tag034 uniqueInstance;
 
   private Tag034() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag034 extends DataFieldDefinition {
 
   public static Tag034 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag034();
+      synchronized (Tag034.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag034();
+      }
     return uniqueInstance;
   }
 
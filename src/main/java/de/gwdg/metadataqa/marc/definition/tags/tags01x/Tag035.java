@@ -13,7 +13,7 @@ import java.util.Arrays;
  */
 public class Tag035 extends DataFieldDefinition {
 
-  private static Tag035 uniqueInstance;
+  private static volatile Tag035 uniqueInstance;
 
   private Tag035() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag035 extends DataFieldDefinition {
 
   public static Tag035 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag035();
+      synchronized (Tag035.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag035();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag036 extends DataFieldDefinition {
 
-  private static Tag036 uniqueInstance;
+  private static volatile Tag036 uniqueInstance;
 
   private Tag036() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag036 extends DataFieldDefinition {
 
   public static Tag036 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag036();
+      synchronized (Tag036.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag036();
+      }
     return uniqueInstance;
   }
 
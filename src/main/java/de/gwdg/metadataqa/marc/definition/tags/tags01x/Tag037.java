@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag037 extends DataFieldDefinition {
 
-  private static Tag037 uniqueInstance;
+  private static volatile Tag037 uniqueInstance;
 
   private Tag037() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag037 extends DataFieldDefinition {
 
   public static Tag037 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag037();
+      synchronized (Tag037.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag037();
+      }
     return uniqueInstance;
   }
 
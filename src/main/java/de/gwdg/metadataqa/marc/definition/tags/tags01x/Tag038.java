@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag038 extends DataFieldDefinition {
 
-  private static Tag038 uniqueInstance;
+  private static volatile Tag038 uniqueInstance;
 
   private Tag038() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag038 extends DataFieldDefinition {
 
   public static Tag038 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag038();
+      synchronized (Tag038.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag038();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag040 extends DataFieldDefinition {
 
-  private static Tag040 uniqueInstance;
+  private static volatile Tag040 uniqueInstance;
 
   private Tag040() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag040 extends DataFieldDefinition {
 
   public static Tag040 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag040();
+      synchronized (Tag040.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag040();
+      }
     return uniqueInstance;
   }
 
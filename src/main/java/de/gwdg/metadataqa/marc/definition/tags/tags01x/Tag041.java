@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag041 extends DataFieldDefinition {
 
-  private static Tag041 uniqueInstance;
+  private static volatile Tag041 uniqueInstance;
 
   private Tag041() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag041 extends DataFieldDefinition {
 
   public static Tag041 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag041();
+      synchronized (Tag041.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag041();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag042 extends DataFieldDefinition {
 
-  private static Tag042 uniqueInstance;
+  private static volatile Tag042 uniqueInstance;
 
   private Tag042() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag042 extends DataFieldDefinition {
 
   public static Tag042 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag042();
+      synchronized (Tag042.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag042();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag043 extends DataFieldDefinition {
 
-  private static Tag043 uniqueInstance;
+  private static volatile Tag043 uniqueInstance;
 
   private Tag043() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag043 extends DataFieldDefinition {
 
   public static Tag043 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag043();
+      synchronized (Tag043.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag043();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag044 extends DataFieldDefinition {
 
-  private static Tag044 uniqueInstance;
+  private static volatile Tag044 uniqueInstance;
 
   private Tag044() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag044 extends DataFieldDefinition {
 
   public static Tag044 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag044();
+      synchronized (Tag044.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag044();
+      }
     return uniqueInstance;
   }
 
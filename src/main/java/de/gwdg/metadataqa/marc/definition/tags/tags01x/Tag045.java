@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag045 extends DataFieldDefinition {
 
-  private static Tag045 uniqueInstance;
+  private static volatile Tag045 uniqueInstance;
 
   private Tag045() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag045 extends DataFieldDefinition {
 
   public static Tag045 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag045();
+      synchronized (Tag045.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag045();
+      }
     return uniqueInstance;
   }
 
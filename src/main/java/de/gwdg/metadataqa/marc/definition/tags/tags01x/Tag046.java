@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag046 extends DataFieldDefinition {
 
-  private static Tag046 uniqueInstance;
+  private static volatile Tag046 uniqueInstance;
 
   private Tag046() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag046 extends DataFieldDefinition {
 
   public static Tag046 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag046();
+      synchronized (Tag046.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag046();
+      }
     return uniqueInstance;
   }
 
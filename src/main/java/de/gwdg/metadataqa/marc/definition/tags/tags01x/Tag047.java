@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag047 extends DataFieldDefinition {
 
-  private static Tag047 uniqueInstance;
+  private static volatile Tag047 uniqueInstance;
 
   private Tag047() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag047 extends DataFieldDefinition {
 
   public static Tag047 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag047();
+      synchronized (Tag047.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag047();
+      }
     return uniqueInstance;
   }
 
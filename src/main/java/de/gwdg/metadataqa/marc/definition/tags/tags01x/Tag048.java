@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag048 extends DataFieldDefinition {
 
-  private static Tag048 uniqueInstance;
+  private static volatile Tag048 uniqueInstance;
 
   private Tag048() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag048 extends DataFieldDefinition {
 
   public static Tag048 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag048();
+      synchronized (Tag048.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag048();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag050 extends DataFieldDefinition {
 
-  private static Tag050 uniqueInstance;
+  private static volatile Tag050 uniqueInstance;
 
   private Tag050() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag050 extends DataFieldDefinition {
 
   public static Tag050 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag050();
+      synchronized (Tag050.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag050();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag051 extends DataFieldDefinition {
 
-  private static Tag051 uniqueInstance;
+  private static volatile Tag051 uniqueInstance;
 
   private Tag051() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag051 extends DataFieldDefinition {
 
   public static Tag051 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag051();
+      synchronized (Tag051.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag051();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag052 extends DataFieldDefinition {
 
-  private static Tag052 uniqueInstance;
+  private static volatile Tag052 uniqueInstance;
 
   private Tag052() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag052 extends DataFieldDefinition {
 
   public static Tag052 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag052();
+      synchronized (Tag052.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag052();
+      }
     return uniqueInstance;
   }
 
@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag055 extends DataFieldDefinition {
 
-  private static Tag055 uniqueInstance;
+  private static volatile Tag055 uniqueInstance;
 
   private Tag055() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag055 extends DataFieldDefinition {
 
   public static Tag055 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag055();
+      synchronized (Tag055.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag055();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag060 extends DataFieldDefinition {
 
-  private static Tag060 uniqueInstance;
+  private static volatile Tag060 uniqueInstance;
 
   private Tag060() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag060 extends DataFieldDefinition {
 
   public static Tag060 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag060();
+      synchronized (Tag060.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag060();
+      }
     return uniqueInstance;
   }
 
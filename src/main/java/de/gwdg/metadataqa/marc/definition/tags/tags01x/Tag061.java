@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag061 extends DataFieldDefinition {
 
-  private static Tag061 uniqueInstance;
+  private static volatile Tag061 uniqueInstance;
 
   private Tag061() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag061 extends DataFieldDefinition {
 
   public static Tag061 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag061();
+      synchronized (Tag061.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag061();
+      }
     return uniqueInstance;
   }
 
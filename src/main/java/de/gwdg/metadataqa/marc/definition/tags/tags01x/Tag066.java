@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag066 extends DataFieldDefinition {
 
-  private static Tag066 uniqueInstance;
+  private static volatile Tag066 uniqueInstance;
 
   private Tag066() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag066 extends DataFieldDefinition {
 
   public static Tag066 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag066();
+      synchronized (Tag066.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag066();
+      }
     return uniqueInstance;
   }
 
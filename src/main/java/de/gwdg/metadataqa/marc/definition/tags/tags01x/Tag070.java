@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag070 extends DataFieldDefinition {
 
-  private static Tag070 uniqueInstance;
+  private static volatile Tag070 uniqueInstance;
 
   private Tag070() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag070 extends DataFieldDefinition {
 
   public static Tag070 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag070();
+      synchronized (Tag070.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag070();
+      }
     return uniqueInstance;
   }
 
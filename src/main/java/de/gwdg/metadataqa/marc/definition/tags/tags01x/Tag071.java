@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag071 extends DataFieldDefinition {
 
-  private static Tag071 uniqueInstance;
+  private static volatile Tag071 uniqueInstance;
 
   private Tag071() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag071 extends DataFieldDefinition {
 
   public static Tag071 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag071();
+      synchronized (Tag071.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag071();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag072 extends DataFieldDefinition {
 
-  private static Tag072 uniqueInstance;
+  private static volatile Tag072 uniqueInstance;
 
   private Tag072() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag072 extends DataFieldDefinition {
 
   public static Tag072 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag072();
+      synchronized (Tag072.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag072();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag074 extends DataFieldDefinition {
 
-  private static Tag074 uniqueInstance;
+  private static volatile Tag074 uniqueInstance;
 
   private Tag074() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag074 extends DataFieldDefinition {
 
   public static Tag074 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag074();
+      synchronized (Tag074.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag074();
+      }
     return uniqueInstance;
   }
 
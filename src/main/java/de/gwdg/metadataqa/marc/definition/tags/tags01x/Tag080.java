@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag080 extends DataFieldDefinition {
 
-  private static Tag080 uniqueInstance;
+  private static volatile Tag080 uniqueInstance;
 
   private Tag080() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag080 extends DataFieldDefinition {
 
   public static Tag080 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag080();
+      synchronized (Tag080.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag080();
+      }
     return uniqueInstance;
   }
 
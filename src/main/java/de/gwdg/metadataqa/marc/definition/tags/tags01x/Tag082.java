@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag082 extends DataFieldDefinition {
 
-  private static Tag082 uniqueInstance;
+  private static volatile Tag082 uniqueInstance;
 
   private Tag082() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag082 extends DataFieldDefinition {
 
   public static Tag082 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag082();
+      synchronized (Tag082.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag082();
+      }
     return uniqueInstance;
   }
 
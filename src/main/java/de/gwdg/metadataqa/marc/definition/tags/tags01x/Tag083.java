@@ -12,7 +12,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag083 extends DataFieldDefinition {
 
-  private static Tag083 uniqueInstance;
+  private static volatile Tag083 uniqueInstance;
 
   private Tag083() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag083 extends DataFieldDefinition {
 
   public static Tag083 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag083();
+      synchronized (Tag083.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag083();
+      }
     return uniqueInstance;
   }
 
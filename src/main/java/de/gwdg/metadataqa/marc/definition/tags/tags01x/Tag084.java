@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag084 extends DataFieldDefinition {
 
-  private static Tag084 uniqueInstance;
+  private static volatile Tag084 uniqueInstance;
 
   private Tag084() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag084 extends DataFieldDefinition {
 
   public static Tag084 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag084();
+      synchronized (Tag084.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag084();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag085 extends DataFieldDefinition {
 
-  private static Tag085 uniqueInstance;
+  private static volatile Tag085 uniqueInstance;
 
   private Tag085() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag085 extends DataFieldDefinition {
 
   public static Tag085 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag085();
+      synchronized (Tag085.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag085();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag086 extends DataFieldDefinition {
 
-  private static Tag086 uniqueInstance;
+  private static volatile Tag086 uniqueInstance;
 
   private Tag086() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag086 extends DataFieldDefinition {
 
   public static Tag086 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag086();
+      synchronized (Tag086.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag086();
+      }
     return uniqueInstance;
   }
 
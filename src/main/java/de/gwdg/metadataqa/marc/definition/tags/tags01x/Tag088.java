@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag088 extends DataFieldDefinition {
 
-  private static Tag088 uniqueInstance;
+  private static volatile Tag088 uniqueInstance;
 
   private Tag088() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag088 extends DataFieldDefinition {
 
   public static Tag088 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag088();
+      synchronized (Tag088.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag088();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import java.util.Arrays;
  */
 public class Tag100 extends DataFieldDefinition {
 
-  private static Tag100 uniqueInstance;
+  private static volatile Tag100 uniqueInstance;
 
   private Tag100() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag100 extends DataFieldDefinition {
 
   public static Tag100 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag100();
+      synchronized (Tag100.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag100();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag110 extends DataFieldDefinition {
 
-  private static Tag110 uniqueInstance;
+  private static volatile Tag110 uniqueInstance;
 
   private Tag110() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag110 extends DataFieldDefinition {
 
   public static Tag110 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag110();
+      synchronized (Tag110.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag110();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag111 extends DataFieldDefinition {
 
-  private static Tag111 uniqueInstance;
+  private static volatile Tag111 uniqueInstance;
 
   private Tag111() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag111 extends DataFieldDefinition {
 
   public static Tag111 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag111();
+      synchronized (Tag111.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag111();
+      }
     return uniqueInstance;
   }
 
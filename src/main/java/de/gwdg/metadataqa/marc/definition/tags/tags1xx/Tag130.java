@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class Tag130 extends DataFieldDefinition {
 
-  private static Tag130 uniqueInstance;
+  private static volatile Tag130 uniqueInstance;
 
   private Tag130() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag130 extends DataFieldDefinition {
 
   public static Tag130 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag130();
+      synchronized (Tag130.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag130();
+      }
     return uniqueInstance;
   }
 
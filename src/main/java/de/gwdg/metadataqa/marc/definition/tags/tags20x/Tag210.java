@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd210.html
  */
 public class Tag210 extends DataFieldDefinition {
-  private static Tag210 uniqueInstance;
+  private static volatile Tag210 uniqueInstance;
 
   private Tag210() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag210 extends DataFieldDefinition {
 
   public static Tag210 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag210();
+      synchronized (Tag210.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag210();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd222.html
  */
 public class Tag222 extends DataFieldDefinition {
-  private static Tag222 uniqueInstance;
+  private static volatile Tag222 uniqueInstance;
 
   private Tag222() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag222 extends DataFieldDefinition {
 
   public static Tag222 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag222();
+      synchronized (Tag222.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag222();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import java.util.Arrays;
  * http://www.loc.gov/marc/bibliographic/bd240.html
  */
 public class Tag240 extends DataFieldDefinition {
-  private static Tag240 uniqueInstance;
+  private static volatile Tag240 uniqueInstance;
 
   private Tag240() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag240 extends DataFieldDefinition {
 
   public static Tag240 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag240();
+      synchronized (Tag240.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag240();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd242.html
  */
 public class Tag242 extends DataFieldDefinition {
-  private static Tag242 uniqueInstance;
+  private static volatile Tag242 uniqueInstance;
 
   private Tag242() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag242 extends DataFieldDefinition {
 
   public static Tag242 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag242();
+      synchronized (Tag242.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag242();
+      }
     return uniqueInstance;
   }
 
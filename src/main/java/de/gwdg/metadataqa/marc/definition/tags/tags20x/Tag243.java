@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd243.html
  */
 public class Tag243 extends DataFieldDefinition {
-  private static Tag243 uniqueInstance;
+  private static volatile Tag243 uniqueInstance;
 
   private Tag243() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag243 extends DataFieldDefinition {
 
   public static Tag243 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag243();
+      synchronized (Tag243.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag243();
+      }
     return uniqueInstance;
   }
 
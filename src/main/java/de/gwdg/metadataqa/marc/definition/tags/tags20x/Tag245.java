@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd245.html
  */
 public class Tag245 extends DataFieldDefinition {
-  private static Tag245 uniqueInstance;
+  private static volatile Tag245 uniqueInstance;
 
   private Tag245() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag245 extends DataFieldDefinition {
 
   public static Tag245 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag245();
+      synchronized (Tag245.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag245();
+      }
     return uniqueInstance;
   }
 
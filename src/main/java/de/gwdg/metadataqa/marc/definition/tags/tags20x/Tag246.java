@@ -16,7 +16,7 @@ import java.util.Arrays;
  * http://www.loc.gov/marc/bibliographic/bd246.html
  */
 public class Tag246 extends DataFieldDefinition {
-  private static Tag246 uniqueInstance;
+  private static volatile Tag246 uniqueInstance;
 
   private Tag246() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag246 extends DataFieldDefinition {
 
   public static Tag246 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag246();
+      synchronized (Tag246.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag246();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd247.html
  */
 public class Tag247 extends DataFieldDefinition {
-  private static Tag247 uniqueInstance;
+  private static volatile Tag247 uniqueInstance;
 
   private Tag247() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag247 extends DataFieldDefinition {
 
   public static Tag247 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag247();
+      synchronized (Tag247.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag247();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd250.html
  */
 public class Tag250 extends DataFieldDefinition {
-  private static Tag250 uniqueInstance;
+  private static volatile Tag250 uniqueInstance;
 
   private Tag250() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag250 extends DataFieldDefinition {
 
   public static Tag250 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag250();
+      synchronized (Tag250.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag250();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd254.html
  */
 public class Tag254 extends DataFieldDefinition {
-  private static Tag254 uniqueInstance;
+  private static volatile Tag254 uniqueInstance;
 
   private Tag254() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag254 extends DataFieldDefinition {
 
   public static Tag254 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag254();
+      synchronized (Tag254.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag254();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd255.html
  */
 public class Tag255 extends DataFieldDefinition {
-  private static Tag255 uniqueInstance;
+  private static volatile Tag255 uniqueInstance;
 
   private Tag255() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag255 extends DataFieldDefinition {
 
   public static Tag255 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag255();
+      synchronized (Tag255.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag255();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd256.html
  */
 public class Tag256 extends DataFieldDefinition {
-  private static Tag256 uniqueInstance;
+  private static volatile Tag256 uniqueInstance;
 
   private Tag256() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag256 extends DataFieldDefinition {
 
   public static Tag256 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag256();
+      synchronized (Tag256.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag256();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd257.html
  */
 public class Tag257 extends DataFieldDefinition {
-  private static Tag257 uniqueInstance;
+  private static volatile Tag257 uniqueInstance;
 
   private Tag257() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag257 extends DataFieldDefinition {
 
   public static Tag257 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag257();
+      synchronized (Tag257.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag257();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd258.html
  */
 public class Tag258 extends DataFieldDefinition {
-  private static Tag258 uniqueInstance;
+  private static volatile Tag258 uniqueInstance;
 
   private Tag258() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag258 extends DataFieldDefinition {
 
   public static Tag258 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag258();
+      synchronized (Tag258.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag258();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag260 extends DataFieldDefinition {
 
-  private static Tag260 uniqueInstance;
+  private static volatile Tag260 uniqueInstance;
 
   private Tag260() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag260 extends DataFieldDefinition {
 
   public static Tag260 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag260();
+      synchronized (Tag260.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag260();
+      }
     return uniqueInstance;
   }
 
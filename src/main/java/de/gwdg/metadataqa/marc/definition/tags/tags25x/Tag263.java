@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag263 extends DataFieldDefinition {
 
-  private static Tag263 uniqueInstance;
+  private static volatile Tag263 uniqueInstance;
 
   private Tag263() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag263 extends DataFieldDefinition {
 
   public static Tag263 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag263();
+      synchronized (Tag263.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag263();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag264 extends DataFieldDefinition {
 
-  private static Tag264 uniqueInstance;
+  private static volatile Tag264 uniqueInstance;
 
   private Tag264() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag264 extends DataFieldDefinition {
 
   public static Tag264 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag264();
+      synchronized (Tag264.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag264();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag270 extends DataFieldDefinition {
 
-  private static Tag270 uniqueInstance;
+  private static volatile Tag270 uniqueInstance;
 
   private Tag270() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag270 extends DataFieldDefinition {
 
   public static Tag270 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag270();
+      synchronized (Tag270.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag270();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd300.html
  */
 public class Tag300 extends DataFieldDefinition {
-  private static Tag300 uniqueInstance;
+  private static volatile Tag300 uniqueInstance;
 
   private Tag300() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag300 extends DataFieldDefinition {
 
   public static Tag300 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag300();
+      synchronized (Tag300.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag300();
+      }
     return uniqueInstance;
   }
 
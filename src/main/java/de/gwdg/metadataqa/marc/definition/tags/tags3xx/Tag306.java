@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd306.html
  */
 public class Tag306 extends DataFieldDefinition {
-  private static Tag306 uniqueInstance;
+  private static volatile Tag306 uniqueInstance;
 
   private Tag306() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag306 extends DataFieldDefinition {
 
   public static Tag306 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag306();
+      synchronized (Tag306.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag306();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd307.html
  */
 public class Tag307 extends DataFieldDefinition {
-  private static Tag307 uniqueInstance;
+  private static volatile Tag307 uniqueInstance;
 
   private Tag307() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag307 extends DataFieldDefinition {
 
   public static Tag307 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag307();
+      synchronized (Tag307.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag307();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd310.html
  */
 public class Tag310 extends DataFieldDefinition {
-  private static Tag310 uniqueInstance;
+  private static volatile Tag310 uniqueInstance;
 
   private Tag310() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag310 extends DataFieldDefinition {
 
   public static Tag310 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag310();
+      synchronized (Tag310.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag310();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd321.html
  */
 public class Tag321 extends DataFieldDefinition {
-  private static Tag321 uniqueInstance;
+  private static volatile Tag321 uniqueInstance;
 
   private Tag321() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag321 extends DataFieldDefinition {
 
   public static Tag321 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag321();
+      synchronized (Tag321.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag321();
+      }
     return uniqueInstance;
   }
 
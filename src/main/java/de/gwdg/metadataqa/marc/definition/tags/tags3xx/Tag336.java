@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd336.html
  */
 public class Tag336 extends DataFieldDefinition {
-  private static Tag336 uniqueInstance;
+  private static volatile Tag336 uniqueInstance;
 
   private Tag336() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag336 extends DataFieldDefinition {
 
   public static Tag336 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag336();
+      synchronized (Tag336.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag336();
+      }
     return uniqueInstance;
   }
 
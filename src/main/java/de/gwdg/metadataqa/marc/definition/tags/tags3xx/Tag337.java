@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd337.html
  */
 public class Tag337 extends DataFieldDefinition {
-  private static Tag337 uniqueInstance;
+  private static volatile Tag337 uniqueInstance;
 
   private Tag337() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag337 extends DataFieldDefinition {
 
   public static Tag337 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag337();
+      synchronized (Tag337.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag337();
+      }
     return uniqueInstance;
   }
 
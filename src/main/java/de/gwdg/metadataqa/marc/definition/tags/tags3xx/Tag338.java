@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd338.html
  */
 public class Tag338 extends DataFieldDefinition {
-  private static Tag338 uniqueInstance;
+  private static volatile Tag338 uniqueInstance;
 
   private Tag338() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag338 extends DataFieldDefinition {
 
   public static Tag338 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag338();
+      synchronized (Tag338.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag338();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd340.html
  */
 public class Tag340 extends DataFieldDefinition {
-  private static Tag340 uniqueInstance;
+  private static volatile Tag340 uniqueInstance;
 
   private Tag340() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag340 extends DataFieldDefinition {
 
   public static Tag340 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag340();
+      synchronized (Tag340.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag340();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd342.html
  */
 public class Tag342 extends DataFieldDefinition {
-  private static Tag342 uniqueInstance;
+  private static volatile Tag342 uniqueInstance;
 
   private Tag342() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag342 extends DataFieldDefinition {
 
   public static Tag342 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag342();
+      synchronized (Tag342.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag342();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd343.html
  */
 public class Tag343 extends DataFieldDefinition {
-  private static Tag343 uniqueInstance;
+  private static volatile Tag343 uniqueInstance;
 
   private Tag343() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag343 extends DataFieldDefinition {
 
   public static Tag343 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag343();
+      synchronized (Tag343.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag343();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd344.html
  */
 public class Tag344 extends DataFieldDefinition {
-  private static Tag344 uniqueInstance;
+  private static volatile Tag344 uniqueInstance;
 
   private Tag344() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag344 extends DataFieldDefinition {
 
   public static Tag344 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag344();
+      synchronized (Tag344.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag344();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd345.html
  */
 public class Tag345 extends DataFieldDefinition {
-  private static Tag345 uniqueInstance;
+  private static volatile Tag345 uniqueInstance;
 
   private Tag345() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag345 extends DataFieldDefinition {
 
   public static Tag345 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag345();
+      synchronized (Tag345.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag345();
+      }
     return uniqueInstance;
   }
 
@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd346.html
  */
 public class Tag346 extends DataFieldDefinition {
-  private static Tag346 uniqueInstance;
+  private static volatile Tag346 uniqueInstance;
 
   private Tag346() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag346 extends DataFieldDefinition {
 
   public static Tag346 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag346();
+      synchronized (Tag346.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag346();
+      }
     return uniqueInstance;
   }
 
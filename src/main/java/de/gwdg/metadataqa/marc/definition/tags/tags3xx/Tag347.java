@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd347.html
  */
 public class Tag347 extends DataFieldDefinition {
-  private static Tag347 uniqueInstance;
+  private static volatile Tag347 uniqueInstance;
 
   private Tag347() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag347 extends DataFieldDefinition {
 
   public static Tag347 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag347();
+      synchronized (Tag347.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag347();
+      }
     return uniqueInstance;
   }
 
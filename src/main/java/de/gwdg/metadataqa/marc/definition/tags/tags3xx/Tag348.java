@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd348.html
  */
 public class Tag348 extends DataFieldDefinition {
-  private static Tag348 uniqueInstance;
+  private static volatile Tag348 uniqueInstance;
 
   private Tag348() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag348 extends DataFieldDefinition {
 
   public static Tag348 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag348();
+      synchronized (Tag348.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag348();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd351.html
  */
 public class Tag351 extends DataFieldDefinition {
-  private static Tag351 uniqueInstance;
+  private static volatile Tag351 uniqueInstance;
 
   private Tag351() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag351 extends DataFieldDefinition {
 
   public static Tag351 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag351();
+      synchronized (Tag351.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag351();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd352.html
  */
 public class Tag352 extends DataFieldDefinition {
-  private static Tag352 uniqueInstance;
+  private static volatile Tag352 uniqueInstance;
 
   private Tag352() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag352 extends DataFieldDefinition {
 
   public static Tag352 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag352();
+      synchronized (Tag352.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag352();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd355.html
  */
 public class Tag355 extends DataFieldDefinition {
-  private static Tag355 uniqueInstance;
+  private static volatile Tag355 uniqueInstance;
 
   private Tag355() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag355 extends DataFieldDefinition {
 
   public static Tag355 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag355();
+      synchronized (Tag355.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag355();
+      }
     return uniqueInstance;
   }
 
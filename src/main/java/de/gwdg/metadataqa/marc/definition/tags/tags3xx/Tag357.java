@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd357.html
  */
 public class Tag357 extends DataFieldDefinition {
-  private static Tag357 uniqueInstance;
+  private static volatile Tag357 uniqueInstance;
 
   private Tag357() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag357 extends DataFieldDefinition {
 
   public static Tag357 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag357();
+      synchronized (Tag357.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag357();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd362.html
  */
 public class Tag362 extends DataFieldDefinition {
-  private static Tag362 uniqueInstance;
+  private static volatile Tag362 uniqueInstance;
 
   private Tag362() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag362 extends DataFieldDefinition {
 
   public static Tag362 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag362();
+      synchronized (Tag362.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag362();
+      }
     return uniqueInstance;
   }
 
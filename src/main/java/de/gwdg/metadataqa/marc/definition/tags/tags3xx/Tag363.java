@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd363.html
  */
 public class Tag363 extends DataFieldDefinition {
-  private static Tag363 uniqueInstance;
+  private static volatile Tag363 uniqueInstance;
 
   private Tag363() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag363 extends DataFieldDefinition {
 
   public static Tag363 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag363();
+      synchronized (Tag363.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag363();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd365.html
  */
 public class Tag365 extends DataFieldDefinition {
-  private static Tag365 uniqueInstance;
+  private static volatile Tag365 uniqueInstance;
 
   private Tag365() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag365 extends DataFieldDefinition {
 
   public static Tag365 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag365();
+      synchronized (Tag365.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag365();
+      }
     return uniqueInstance;
   }
 
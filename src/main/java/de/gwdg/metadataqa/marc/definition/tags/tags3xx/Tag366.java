@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  * http://www.loc.gov/marc/bibliographic/bd366.html
  */
 public class Tag366 extends DataFieldDefinition {
-  private static Tag366 uniqueInstance;
+  private static volatile Tag366 uniqueInstance;
 
   private Tag366() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag366 extends DataFieldDefinition {
 
   public static Tag366 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag366();
+      synchronized (Tag366.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag366();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd370.html
  */
 public class Tag370 extends DataFieldDefinition {
-  private static Tag370 uniqueInstance;
+  private static volatile Tag370 uniqueInstance;
 
   private Tag370() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag370 extends DataFieldDefinition {
 
   public static Tag370 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag370();
+      synchronized (Tag370.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag370();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd377.html
  */
 public class Tag377 extends DataFieldDefinition {
-  private static Tag377 uniqueInstance;
+  private static volatile Tag377 uniqueInstance;
 
   private Tag377() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag377 extends DataFieldDefinition {
 
   public static Tag377 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag377();
+      synchronized (Tag377.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag377();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd380.html
  */
 public class Tag380 extends DataFieldDefinition {
-  private static Tag380 uniqueInstance;
+  private static volatile Tag380 uniqueInstance;
 
   private Tag380() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag380 extends DataFieldDefinition {
 
   public static Tag380 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag380();
+      synchronized (Tag380.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag380();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd381.html
  */
 public class Tag381 extends DataFieldDefinition {
-  private static Tag381 uniqueInstance;
+  private static volatile Tag381 uniqueInstance;
 
   private Tag381() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag381 extends DataFieldDefinition {
 
   public static Tag381 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag381();
+      synchronized (Tag381.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag381();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd382.html
  */
 public class Tag382 extends DataFieldDefinition {
-  private static Tag382 uniqueInstance;
+  private static volatile Tag382 uniqueInstance;
 
   private Tag382() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag382 extends DataFieldDefinition {
 
   public static Tag382 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag382();
+      synchronized (Tag382.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag382();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd383.html
  */
 public class Tag383 extends DataFieldDefinition {
-  private static Tag383 uniqueInstance;
+  private static volatile Tag383 uniqueInstance;
 
   private Tag383() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag383 extends DataFieldDefinition {
 
   public static Tag383 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag383();
+      synchronized (Tag383.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag383();
+      }
     return uniqueInstance;
   }
 
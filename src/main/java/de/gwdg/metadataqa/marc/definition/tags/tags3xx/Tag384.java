@@ -10,7 +10,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd384.html
  */
 public class Tag384 extends DataFieldDefinition {
-  private static Tag384 uniqueInstance;
+  private static volatile Tag384 uniqueInstance;
 
   private Tag384() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag384 extends DataFieldDefinition {
 
   public static Tag384 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag384();
+      synchronized (Tag384.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag384();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  * http://www.loc.gov/marc/bibliographic/bd385.html
  */
 public class Tag385 extends DataFieldDefinition {
-  private static Tag385 uniqueInstance;
+  private static volatile Tag385 uniqueInstance;
 
   private Tag385() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag385 extends DataFieldDefinition {
 
   public static Tag385 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag385();
+      synchronized (Tag385.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag385();
+      }
     return uniqueInstance;
   }
 
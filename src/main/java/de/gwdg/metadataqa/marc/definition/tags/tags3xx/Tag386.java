@@ -12,7 +12,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag386 extends DataFieldDefinition {
 
-  private static Tag386 uniqueInstance;
+  private static volatile Tag386 uniqueInstance;
 
   private Tag386() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag386 extends DataFieldDefinition {
 
   public static Tag386 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag386();
+      synchronized (Tag386.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag386();
+      }
     return uniqueInstance;
   }
 
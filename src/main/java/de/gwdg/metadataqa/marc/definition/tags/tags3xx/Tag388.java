@@ -12,7 +12,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag388 extends DataFieldDefinition {
 
-  private static Tag388 uniqueInstance;
+  private static volatile Tag388 uniqueInstance;
 
   private Tag388() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag388 extends DataFieldDefinition {
 
   public static Tag388 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag388();
+      synchronized (Tag388.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag388();
+      }
     return uniqueInstance;
   }
 
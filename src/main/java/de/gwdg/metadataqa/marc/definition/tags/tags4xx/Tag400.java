@@ -13,7 +13,7 @@ import de.gwdg.metadataqa.marc.definition.general.validator.ISSNValidator;
  */
 public class Tag400 extends DataFieldDefinition {
 
-  private static Tag400 uniqueInstance;
+  private static volatile Tag400 uniqueInstance;
 
   private Tag400() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag400 extends DataFieldDefinition {
 
   public static Tag400 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag400();
+      synchronized (Tag400.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag400();
+      }
     return uniqueInstance;
   }
 
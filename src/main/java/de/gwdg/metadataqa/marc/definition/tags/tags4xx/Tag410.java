@@ -13,7 +13,7 @@ import de.gwdg.metadataqa.marc.definition.general.validator.ISSNValidator;
  */
 public class Tag410 extends DataFieldDefinition {
 
-  private static Tag410 uniqueInstance;
+  private static volatile Tag410 uniqueInstance;
 
   private Tag410() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag410 extends DataFieldDefinition {
 
   public static Tag410 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag410();
+      synchronized (Tag410.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag410();
+      }
     return uniqueInstance;
   }
 
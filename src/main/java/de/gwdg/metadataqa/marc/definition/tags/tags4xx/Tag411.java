@@ -13,7 +13,7 @@ import de.gwdg.metadataqa.marc.definition.general.validator.ISSNValidator;
  */
 public class Tag411 extends DataFieldDefinition {
 
-  private static Tag411 uniqueInstance;
+  private static volatile Tag411 uniqueInstance;
 
   private Tag411() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag411 extends DataFieldDefinition {
 
   public static Tag411 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag411();
+      synchronized (Tag411.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag411();
+      }
     return uniqueInstance;
   }
 
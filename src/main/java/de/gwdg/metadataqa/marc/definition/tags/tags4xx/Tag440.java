@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag440 extends DataFieldDefinition {
 
-  private static Tag440 uniqueInstance;
+  private static volatile Tag440 uniqueInstance;
 
   private Tag440() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag440 extends DataFieldDefinition {
 
   public static Tag440 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag440();
+      synchronized (Tag440.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag440();
+      }
     return uniqueInstance;
   }
 
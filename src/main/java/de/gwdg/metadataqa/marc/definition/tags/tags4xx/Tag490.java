@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag490 extends DataFieldDefinition {
 
-  private static Tag490 uniqueInstance;
+  private static volatile Tag490 uniqueInstance;
 
   private Tag490() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag490 extends DataFieldDefinition {
 
   public static Tag490 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag490();
+      synchronized (Tag490.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag490();
+      }
     return uniqueInstance;
   }
 
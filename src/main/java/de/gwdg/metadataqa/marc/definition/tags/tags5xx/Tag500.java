@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag500 extends DataFieldDefinition {
 
-  private static Tag500 uniqueInstance;
+  private static volatile Tag500 uniqueInstance;
 
   private Tag500() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag500 extends DataFieldDefinition {
 
   public static Tag500 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag500();
+      synchronized (Tag500.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag500();
+      }
     return uniqueInstance;
   }
 
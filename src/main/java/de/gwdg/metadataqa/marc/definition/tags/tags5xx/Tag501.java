@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag501 extends DataFieldDefinition {
 
-  private static Tag501 uniqueInstance;
+  private static volatile Tag501 uniqueInstance;
 
   private Tag501() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag501 extends DataFieldDefinition {
 
   public static Tag501 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag501();
+      synchronized (Tag501.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag501();
+      }
     return uniqueInstance;
   }
 
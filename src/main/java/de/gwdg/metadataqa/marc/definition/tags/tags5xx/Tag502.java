@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag502 extends DataFieldDefinition {
 
-  private static Tag502 uniqueInstance;
+  private static volatile Tag502 uniqueInstance;
 
   private Tag502() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag502 extends DataFieldDefinition {
 
   public static Tag502 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag502();
+      synchronized (Tag502.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag502();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag504 extends DataFieldDefinition {
 
-  private static Tag504 uniqueInstance;
+  private static volatile Tag504 uniqueInstance;
 
   private Tag504() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag504 extends DataFieldDefinition {
 
   public static Tag504 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag504();
+      synchronized (Tag504.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag504();
+      }
     return uniqueInstance;
   }
 
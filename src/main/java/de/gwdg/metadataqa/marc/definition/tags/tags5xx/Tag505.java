@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag505 extends DataFieldDefinition {
 
-  private static Tag505 uniqueInstance;
+  private static volatile Tag505 uniqueInstance;
 
   private Tag505() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag505 extends DataFieldDefinition {
 
   public static Tag505 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag505();
+      synchronized (Tag505.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag505();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag506 extends DataFieldDefinition {
 
-  private static Tag506 uniqueInstance;
+  private static volatile Tag506 uniqueInstance;
 
   private Tag506() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag506 extends DataFieldDefinition {
 
   public static Tag506 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag506();
+      synchronized (Tag506.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag506();
+      }
     return uniqueInstance;
   }
 
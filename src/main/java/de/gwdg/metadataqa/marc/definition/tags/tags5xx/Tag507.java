@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag507 extends DataFieldDefinition {
 
-  private static Tag507 uniqueInstance;
+  private static volatile Tag507 uniqueInstance;
 
   private Tag507() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag507 extends DataFieldDefinition {
 
   public static Tag507 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag507();
+      synchronized (Tag507.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag507();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag508 extends DataFieldDefinition {
 
-  private static Tag508 uniqueInstance;
+  private static volatile Tag508 uniqueInstance;
 
   private Tag508() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag508 extends DataFieldDefinition {
 
   public static Tag508 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag508();
+      synchronized (Tag508.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag508();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag510 extends DataFieldDefinition {
 
-  private static Tag510 uniqueInstance;
+  private static volatile Tag510 uniqueInstance;
 
   private Tag510() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag510 extends DataFieldDefinition {
 
   public static Tag510 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag510();
+      synchronized (Tag510.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag510();
+      }
     return uniqueInstance;
   }
 
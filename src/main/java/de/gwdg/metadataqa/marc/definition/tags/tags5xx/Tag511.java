@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag511 extends DataFieldDefinition {
 
-  private static Tag511 uniqueInstance;
+  private static volatile Tag511 uniqueInstance;
 
   private Tag511() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag511 extends DataFieldDefinition {
 
   public static Tag511 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag511();
+      synchronized (Tag511.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag511();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag513 extends DataFieldDefinition {
 
-  private static Tag513 uniqueInstance;
+  private static volatile Tag513 uniqueInstance;
 
   private Tag513() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag513 extends DataFieldDefinition {
 
   public static Tag513 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag513();
+      synchronized (Tag513.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag513();
+      }
     return uniqueInstance;
   }
 
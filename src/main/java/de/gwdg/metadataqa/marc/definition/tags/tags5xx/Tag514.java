@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag514 extends DataFieldDefinition {
 
-  private static Tag514 uniqueInstance;
+  private static volatile Tag514 uniqueInstance;
 
   private Tag514() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag514 extends DataFieldDefinition {
 
   public static Tag514 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag514();
+      synchronized (Tag514.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag514();
+      }
     return uniqueInstance;
   }
 
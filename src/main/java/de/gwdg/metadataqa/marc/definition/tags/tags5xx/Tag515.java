@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag515 extends DataFieldDefinition {
 
-  private static Tag515 uniqueInstance;
+  private static volatile Tag515 uniqueInstance;
 
   private Tag515() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag515 extends DataFieldDefinition {
 
   public static Tag515 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag515();
+      synchronized (Tag515.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag515();
+      }
     return uniqueInstance;
   }
 
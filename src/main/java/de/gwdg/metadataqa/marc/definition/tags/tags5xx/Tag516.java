@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag516 extends DataFieldDefinition {
 
-  private static Tag516 uniqueInstance;
+  private static volatile Tag516 uniqueInstance;
 
   private Tag516() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag516 extends DataFieldDefinition {
 
   public static Tag516 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag516();
+      synchronized (Tag516.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag516();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag518 extends DataFieldDefinition {
 
-  private static Tag518 uniqueInstance;
+  private static volatile Tag518 uniqueInstance;
 
   private Tag518() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag518 extends DataFieldDefinition {
 
   public static Tag518 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag518();
+      synchronized (Tag518.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag518();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag520 extends DataFieldDefinition {
 
-  private static Tag520 uniqueInstance;
+  private static volatile Tag520 uniqueInstance;
 
   private Tag520() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag520 extends DataFieldDefinition {
 
   public static Tag520 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag520();
+      synchronized (Tag520.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag520();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag521 extends DataFieldDefinition {
 
-  private static Tag521 uniqueInstance;
+  private static volatile Tag521 uniqueInstance;
 
   private Tag521() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag521 extends DataFieldDefinition {
 
   public static Tag521 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag521();
+      synchronized (Tag521.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag521();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag522 extends DataFieldDefinition {
 
-  private static Tag522 uniqueInstance;
+  private static volatile Tag522 uniqueInstance;
 
   private Tag522() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag522 extends DataFieldDefinition {
 
   public static Tag522 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag522();
+      synchronized (Tag522.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag522();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag524 extends DataFieldDefinition {
 
-  private static Tag524 uniqueInstance;
+  private static volatile Tag524 uniqueInstance;
 
   private Tag524() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag524 extends DataFieldDefinition {
 
   public static Tag524 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag524();
+      synchronized (Tag524.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag524();
+      }
     return uniqueInstance;
   }
 
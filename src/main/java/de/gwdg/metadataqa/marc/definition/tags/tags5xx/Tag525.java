@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag525 extends DataFieldDefinition {
 
-  private static Tag525 uniqueInstance;
+  private static volatile Tag525 uniqueInstance;
 
   private Tag525() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag525 extends DataFieldDefinition {
 
   public static Tag525 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag525();
+      synchronized (Tag525.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag525();
+      }
     return uniqueInstance;
   }
 
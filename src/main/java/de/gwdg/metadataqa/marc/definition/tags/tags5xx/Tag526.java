@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag526 extends DataFieldDefinition {
 
-  private static Tag526 uniqueInstance;
+  private static volatile Tag526 uniqueInstance;
 
   private Tag526() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag526 extends DataFieldDefinition {
 
   public static Tag526 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag526();
+      synchronized (Tag526.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag526();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag530 extends DataFieldDefinition {
 
-  private static Tag530 uniqueInstance;
+  private static volatile Tag530 uniqueInstance;
 
   private Tag530() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag530 extends DataFieldDefinition {
 
   public static Tag530 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag530();
+      synchronized (Tag530.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag530();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag533 extends DataFieldDefinition {
 
-  private static Tag533 uniqueInstance;
+  private static volatile Tag533 uniqueInstance;
 
   private Tag533() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag533 extends DataFieldDefinition {
 
   public static Tag533 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag533();
+      synchronized (Tag533.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag533();
+      }
     return uniqueInstance;
   }
 
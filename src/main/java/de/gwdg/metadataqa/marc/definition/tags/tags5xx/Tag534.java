@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag534 extends DataFieldDefinition {
 
-  private static Tag534 uniqueInstance;
+  private static volatile Tag534 uniqueInstance;
 
   private Tag534() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag534 extends DataFieldDefinition {
 
   public static Tag534 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag534();
+      synchronized (Tag534.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag534();
+      }
     return uniqueInstance;
   }
 
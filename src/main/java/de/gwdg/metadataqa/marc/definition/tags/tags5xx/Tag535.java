@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag535 extends DataFieldDefinition {
 
-  private static Tag535 uniqueInstance;
+  private static volatile Tag535 uniqueInstance;
 
   private Tag535() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag535 extends DataFieldDefinition {
 
   public static Tag535 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag535();
+      synchronized (Tag535.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag535();
+      }
     return uniqueInstance;
   }
 
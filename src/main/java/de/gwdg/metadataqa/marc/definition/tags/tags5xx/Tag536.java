@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag536 extends DataFieldDefinition {
 
-  private static Tag536 uniqueInstance;
+  private static volatile Tag536 uniqueInstance;
 
   private Tag536() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag536 extends DataFieldDefinition {
 
   public static Tag536 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag536();
+      synchronized (Tag536.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag536();
+      }
     return uniqueInstance;
   }
 
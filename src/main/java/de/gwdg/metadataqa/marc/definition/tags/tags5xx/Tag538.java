@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag538 extends DataFieldDefinition {
 
-  private static Tag538 uniqueInstance;
+  private static volatile Tag538 uniqueInstance;
 
   private Tag538() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag538 extends DataFieldDefinition {
 
   public static Tag538 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag538();
+      synchronized (Tag538.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag538();
+      }
     return uniqueInstance;
   }
 
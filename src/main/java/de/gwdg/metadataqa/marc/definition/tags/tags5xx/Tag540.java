@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag540 extends DataFieldDefinition {
 
-  private static Tag540 uniqueInstance;
+  private static volatile Tag540 uniqueInstance;
 
   private Tag540() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag540 extends DataFieldDefinition {
 
   public static Tag540 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag540();
+      synchronized (Tag540.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag540();
+      }
     return uniqueInstance;
   }
 
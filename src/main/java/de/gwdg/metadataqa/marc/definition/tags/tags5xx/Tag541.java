@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag541 extends DataFieldDefinition {
 
-  private static Tag541 uniqueInstance;
+  private static volatile Tag541 uniqueInstance;
 
   private Tag541() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag541 extends DataFieldDefinition {
 
   public static Tag541 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag541();
+      synchronized (Tag541.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag541();
+      }
     return uniqueInstance;
   }
 
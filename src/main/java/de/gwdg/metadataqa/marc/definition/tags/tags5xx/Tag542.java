@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag542 extends DataFieldDefinition {
 
-  private static Tag542 uniqueInstance;
+  private static volatile Tag542 uniqueInstance;
 
   private Tag542() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag542 extends DataFieldDefinition {
 
   public static Tag542 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag542();
+      synchronized (Tag542.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag542();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag544 extends DataFieldDefinition {
 
-  private static Tag544 uniqueInstance;
+  private static volatile Tag544 uniqueInstance;
 
   private Tag544() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag544 extends DataFieldDefinition {
 
   public static Tag544 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag544();
+      synchronized (Tag544.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag544();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag545 extends DataFieldDefinition {
 
-  private static Tag545 uniqueInstance;
+  private static volatile Tag545 uniqueInstance;
 
   private Tag545() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag545 extends DataFieldDefinition {
 
   public static Tag545 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag545();
+      synchronized (Tag545.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag545();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag546 extends DataFieldDefinition {
 
-  private static Tag546 uniqueInstance;
+  private static volatile Tag546 uniqueInstance;
 
   private Tag546() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag546 extends DataFieldDefinition {
 
   public static Tag546 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag546();
+      synchronized (Tag546.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag546();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag547 extends DataFieldDefinition {
 
-  private static Tag547 uniqueInstance;
+  private static volatile Tag547 uniqueInstance;
 
   private Tag547() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag547 extends DataFieldDefinition {
 
   public static Tag547 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag547();
+      synchronized (Tag547.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag547();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag550 extends DataFieldDefinition {
 
-  private static Tag550 uniqueInstance;
+  private static volatile Tag550 uniqueInstance;
 
   private Tag550() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag550 extends DataFieldDefinition {
 
   public static Tag550 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag550();
+      synchronized (Tag550.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag550();
+      }
     return uniqueInstance;
   }
 
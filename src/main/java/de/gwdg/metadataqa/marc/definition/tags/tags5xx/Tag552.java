@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag552 extends DataFieldDefinition {
 
-  private static Tag552 uniqueInstance;
+  private static volatile Tag552 uniqueInstance;
 
   private Tag552() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag552 extends DataFieldDefinition {
 
   public static Tag552 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag552();
+      synchronized (Tag552.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag552();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag555 extends DataFieldDefinition {
 
-  private static Tag555 uniqueInstance;
+  private static volatile Tag555 uniqueInstance;
 
   private Tag555() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag555 extends DataFieldDefinition {
 
   public static Tag555 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag555();
+      synchronized (Tag555.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag555();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag556 extends DataFieldDefinition {
 
-  private static Tag556 uniqueInstance;
+  private static volatile Tag556 uniqueInstance;
 
   private Tag556() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag556 extends DataFieldDefinition {
 
   public static Tag556 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag556();
+      synchronized (Tag556.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag556();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag561 extends DataFieldDefinition {
 
-  private static Tag561 uniqueInstance;
+  private static volatile Tag561 uniqueInstance;
 
   private Tag561() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag561 extends DataFieldDefinition {
 
   public static Tag561 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag561();
+      synchronized (Tag561.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag561();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag562 extends DataFieldDefinition {
 
-  private static Tag562 uniqueInstance;
+  private static volatile Tag562 uniqueInstance;
 
   private Tag562() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag562 extends DataFieldDefinition {
 
   public static Tag562 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag562();
+      synchronized (Tag562.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag562();
+      }
     return uniqueInstance;
   }
 
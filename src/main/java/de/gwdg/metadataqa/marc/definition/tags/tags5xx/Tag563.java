@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag563 extends DataFieldDefinition {
 
-  private static Tag563 uniqueInstance;
+  private static volatile Tag563 uniqueInstance;
 
   private Tag563() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag563 extends DataFieldDefinition {
 
   public static Tag563 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag563();
+      synchronized (Tag563.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag563();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag565 extends DataFieldDefinition {
 
-  private static Tag565 uniqueInstance;
+  private static volatile Tag565 uniqueInstance;
 
   private Tag565() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag565 extends DataFieldDefinition {
 
   public static Tag565 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag565();
+      synchronized (Tag565.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag565();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag567 extends DataFieldDefinition {
 
-  private static Tag567 uniqueInstance;
+  private static volatile Tag567 uniqueInstance;
 
   private Tag567() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag567 extends DataFieldDefinition {
 
   public static Tag567 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag567();
+      synchronized (Tag567.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag567();
+      }
     return uniqueInstance;
   }
 
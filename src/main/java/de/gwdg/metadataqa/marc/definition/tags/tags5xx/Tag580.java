@@ -12,7 +12,7 @@ import java.util.Arrays;
  */
 public class Tag580 extends DataFieldDefinition {
 
-  private static Tag580 uniqueInstance;
+  private static volatile Tag580 uniqueInstance;
 
   private Tag580() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag580 extends DataFieldDefinition {
 
   public static Tag580 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag580();
+      synchronized (Tag580.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag580();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag581 extends DataFieldDefinition {
 
-  private static Tag581 uniqueInstance;
+  private static volatile Tag581 uniqueInstance;
 
   private Tag581() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag581 extends DataFieldDefinition {
 
   public static Tag581 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag581();
+      synchronized (Tag581.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag581();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag583 extends DataFieldDefinition {
 
-  private static Tag583 uniqueInstance;
+  private static volatile Tag583 uniqueInstance;
 
   private Tag583() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag583 extends DataFieldDefinition {
 
   public static Tag583 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag583();
+      synchronized (Tag583.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag583();
+      }
     return uniqueInstance;
   }
 
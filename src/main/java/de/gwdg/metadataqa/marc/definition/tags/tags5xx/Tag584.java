@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag584 extends DataFieldDefinition {
 
-  private static Tag584 uniqueInstance;
+  private static volatile Tag584 uniqueInstance;
 
   private Tag584() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag584 extends DataFieldDefinition {
 
   public static Tag584 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag584();
+      synchronized (Tag584.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag584();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag585 extends DataFieldDefinition {
 
-  private static Tag585 uniqueInstance;
+  private static volatile Tag585 uniqueInstance;
 
   private Tag585() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag585 extends DataFieldDefinition {
 
   public static Tag585 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag585();
+      synchronized (Tag585.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag585();
+      }
     return uniqueInstance;
   }
 
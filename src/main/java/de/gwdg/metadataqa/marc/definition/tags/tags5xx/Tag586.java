@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag586 extends DataFieldDefinition {
 
-  private static Tag586 uniqueInstance;
+  private static volatile Tag586 uniqueInstance;
 
   private Tag586() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag586 extends DataFieldDefinition {
 
   public static Tag586 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag586();
+      synchronized (Tag586.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag586();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag588 extends DataFieldDefinition {
 
-  private static Tag588 uniqueInstance;
+  private static volatile Tag588 uniqueInstance;
 
   private Tag588() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag588 extends DataFieldDefinition {
 
   public static Tag588 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag588();
+      synchronized (Tag588.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag588();
+      }
     return uniqueInstance;
   }
 
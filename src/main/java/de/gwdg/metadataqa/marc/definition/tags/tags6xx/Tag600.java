@@ -18,7 +18,7 @@ import java.util.Arrays;
  */
 public class Tag600 extends DataFieldDefinition {
 
-  private static Tag600 uniqueInstance;
+  private static volatile Tag600 uniqueInstance;
 
   private Tag600() {
     initialize();
@@ -27,7 +27,10 @@ public class Tag600 extends DataFieldDefinition {
 
   public static Tag600 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag600();
+      synchronized (Tag600.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag600();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import java.util.Arrays;
  */
 public class Tag610 extends DataFieldDefinition {
 
-  private static Tag610 uniqueInstance;
+  private static volatile Tag610 uniqueInstance;
 
   private Tag610() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag610 extends DataFieldDefinition {
 
   public static Tag610 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag610();
+      synchronized (Tag610.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag610();
+      }
     return uniqueInstance;
   }
 
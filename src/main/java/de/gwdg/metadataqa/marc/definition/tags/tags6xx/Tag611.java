@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class Tag611 extends DataFieldDefinition {
 
-  private static Tag611 uniqueInstance;
+  private static volatile Tag611 uniqueInstance;
 
   private Tag611() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag611 extends DataFieldDefinition {
 
   public static Tag611 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag611();
+      synchronized (Tag611.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag611();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag630 extends DataFieldDefinition {
 
-  private static Tag630 uniqueInstance;
+  private static volatile Tag630 uniqueInstance;
 
   private Tag630() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag630 extends DataFieldDefinition {
 
   public static Tag630 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag630();
+      synchronized (Tag630.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag630();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag647 extends DataFieldDefinition {
 
-  private static Tag647 uniqueInstance;
+  private static volatile Tag647 uniqueInstance;
 
   private Tag647() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag647 extends DataFieldDefinition {
 
   public static Tag647 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag647();
+      synchronized (Tag647.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag647();
+      }
     return uniqueInstance;
   }
 
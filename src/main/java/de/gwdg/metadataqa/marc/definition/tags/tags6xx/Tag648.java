@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag648 extends DataFieldDefinition {
 
-  private static Tag648 uniqueInstance;
+  private static volatile Tag648 uniqueInstance;
 
   private Tag648() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag648 extends DataFieldDefinition {
 
   public static Tag648 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag648();
+      synchronized (Tag648.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag648();
+      }
     return uniqueInstance;
   }
 
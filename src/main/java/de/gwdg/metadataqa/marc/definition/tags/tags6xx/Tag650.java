@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag650 extends DataFieldDefinition {
 
-  private static Tag650 uniqueInstance;
+  private static volatile Tag650 uniqueInstance;
 
   private Tag650() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag650 extends DataFieldDefinition {
 
   public static Tag650 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag650();
+      synchronized (Tag650.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag650();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag651 extends DataFieldDefinition {
 
-  private static Tag651 uniqueInstance;
+  private static volatile Tag651 uniqueInstance;
 
   private Tag651() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag651 extends DataFieldDefinition {
 
   public static Tag651 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag651();
+      synchronized (Tag651.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag651();
+      }
     return uniqueInstance;
   }
 
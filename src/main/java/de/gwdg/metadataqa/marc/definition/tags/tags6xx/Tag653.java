@@ -12,7 +12,7 @@ import java.util.Arrays;
  */
 public class Tag653 extends DataFieldDefinition {
 
-  private static Tag653 uniqueInstance;
+  private static volatile Tag653 uniqueInstance;
 
   private Tag653() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag653 extends DataFieldDefinition {
 
   public static Tag653 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag653();
+      synchronized (Tag653.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag653();
+      }
     return uniqueInstance;
   }
 
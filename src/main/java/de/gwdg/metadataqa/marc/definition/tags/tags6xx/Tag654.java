@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag654 extends DataFieldDefinition {
 
-  private static Tag654 uniqueInstance;
+  private static volatile Tag654 uniqueInstance;
 
   private Tag654() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag654 extends DataFieldDefinition {
 
   public static Tag654 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag654();
+      synchronized (Tag654.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag654();
+      }
     return uniqueInstance;
   }
 
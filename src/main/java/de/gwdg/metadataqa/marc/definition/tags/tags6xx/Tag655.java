@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag655 extends DataFieldDefinition {
 
-  private static Tag655 uniqueInstance;
+  private static volatile Tag655 uniqueInstance;
 
   private Tag655() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag655 extends DataFieldDefinition {
 
   public static Tag655 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag655();
+      synchronized (Tag655.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag655();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag656 extends DataFieldDefinition {
 
-  private static Tag656 uniqueInstance;
+  private static volatile Tag656 uniqueInstance;
 
   private Tag656() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag656 extends DataFieldDefinition {
 
   public static Tag656 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag656();
+      synchronized (Tag656.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag656();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag657 extends DataFieldDefinition {
 
-  private static Tag657 uniqueInstance;
+  private static volatile Tag657 uniqueInstance;
 
   private Tag657() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag657 extends DataFieldDefinition {
 
   public static Tag657 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag657();
+      synchronized (Tag657.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag657();
+      }
     return uniqueInstance;
   }
 
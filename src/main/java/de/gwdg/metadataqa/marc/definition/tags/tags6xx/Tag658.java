@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag658 extends DataFieldDefinition {
 
-  private static Tag658 uniqueInstance;
+  private static volatile Tag658 uniqueInstance;
 
   private Tag658() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag658 extends DataFieldDefinition {
 
   public static Tag658 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag658();
+      synchronized (Tag658.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag658();
+      }
     return uniqueInstance;
   }
 
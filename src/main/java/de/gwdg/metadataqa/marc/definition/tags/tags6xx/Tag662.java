@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag662 extends DataFieldDefinition {
 
-  private static Tag662 uniqueInstance;
+  private static volatile Tag662 uniqueInstance;
 
   private Tag662() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag662 extends DataFieldDefinition {
 
   public static Tag662 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag662();
+      synchronized (Tag662.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag662();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import java.util.Arrays;
  */
 public class Tag700 extends DataFieldDefinition {
 
-  private static Tag700 uniqueInstance;
+  private static volatile Tag700 uniqueInstance;
 
   private Tag700() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag700 extends DataFieldDefinition {
 
   public static Tag700 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag700();
+      synchronized (Tag700.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag700();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class Tag710 extends DataFieldDefinition {
 
-  private static Tag710 uniqueInstance;
+  private static volatile Tag710 uniqueInstance;
 
   private Tag710() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag710 extends DataFieldDefinition {
 
   public static Tag710 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag710();
+      synchronized (Tag710.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag710();
+      }
     return uniqueInstance;
   }
 
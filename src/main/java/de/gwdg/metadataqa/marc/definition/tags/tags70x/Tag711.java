@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class Tag711 extends DataFieldDefinition {
 
-  private static Tag711 uniqueInstance;
+  private static volatile Tag711 uniqueInstance;
 
   private Tag711() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag711 extends DataFieldDefinition {
 
   public static Tag711 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag711();
+      synchronized (Tag711.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag711();
+      }
     return uniqueInstance;
   }
 
@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag720 extends DataFieldDefinition {
 
-  private static Tag720 uniqueInstance;
+  private static volatile Tag720 uniqueInstance;
 
   private Tag720() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag720 extends DataFieldDefinition {
 
   public static Tag720 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag720();
+      synchronized (Tag720.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag720();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag730 extends DataFieldDefinition {
 
-  private static Tag730 uniqueInstance;
+  private static volatile Tag730 uniqueInstance;
 
   private Tag730() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag730 extends DataFieldDefinition {
 
   public static Tag730 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag730();
+      synchronized (Tag730.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag730();
+      }
     return uniqueInstance;
   }
 
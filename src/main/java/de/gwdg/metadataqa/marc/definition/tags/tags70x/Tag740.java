@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag740 extends DataFieldDefinition {
 
-  private static Tag740 uniqueInstance;
+  private static volatile Tag740 uniqueInstance;
 
   private Tag740() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag740 extends DataFieldDefinition {
 
   public static Tag740 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag740();
+      synchronized (Tag740.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag740();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.RecordControlNumberPars
  */
 public class Tag751 extends DataFieldDefinition {
 
-  private static Tag751 uniqueInstance;
+  private static volatile Tag751 uniqueInstance;
 
   private Tag751() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag751 extends DataFieldDefinition {
 
   public static Tag751 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag751();
+      synchronized (Tag751.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag751();
+      }
     return uniqueInstance;
   }
 
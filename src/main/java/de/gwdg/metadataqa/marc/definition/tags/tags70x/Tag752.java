@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag752 extends DataFieldDefinition {
 
-  private static Tag752 uniqueInstance;
+  private static volatile Tag752 uniqueInstance;
 
   private Tag752() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag752 extends DataFieldDefinition {
 
   public static Tag752 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag752();
+      synchronized (Tag752.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag752();
+      }
     return uniqueInstance;
   }
 
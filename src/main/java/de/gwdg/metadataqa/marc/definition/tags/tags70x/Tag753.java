@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag753 extends DataFieldDefinition {
 
-  private static Tag753 uniqueInstance;
+  private static volatile Tag753 uniqueInstance;
 
   private Tag753() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag753 extends DataFieldDefinition {
 
   public static Tag753 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag753();
+      synchronized (Tag753.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag753();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag754 extends DataFieldDefinition {
 
-  private static Tag754 uniqueInstance;
+  private static volatile Tag754 uniqueInstance;
 
   private Tag754() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag754 extends DataFieldDefinition {
 
   public static Tag754 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag754();
+      synchronized (Tag754.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag754();
+      }
     return uniqueInstance;
   }
 
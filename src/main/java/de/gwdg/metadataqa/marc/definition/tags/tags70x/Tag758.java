@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag758 extends DataFieldDefinition {
 
-  private static Tag758 uniqueInstance;
+  private static volatile Tag758 uniqueInstance;
 
   private Tag758() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag758 extends DataFieldDefinition {
 
   public static Tag758 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag758();
+      synchronized (Tag758.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag758();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag760 extends DataFieldDefinition {
 
-  private static Tag760 uniqueInstance;
+  private static volatile Tag760 uniqueInstance;
 
   private Tag760() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag760 extends DataFieldDefinition {
 
   public static Tag760 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag760();
+      synchronized (Tag760.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag760();
+      }
     return uniqueInstance;
   }
 
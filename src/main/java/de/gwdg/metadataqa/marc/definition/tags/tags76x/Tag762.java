@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag762 extends DataFieldDefinition {
 
-  private static Tag762 uniqueInstance;
+  private static volatile Tag762 uniqueInstance;
 
   private Tag762() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag762 extends DataFieldDefinition {
 
   public static Tag762 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag762();
+      synchronized (Tag762.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag762();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag765 extends DataFieldDefinition {
 
-  private static Tag765 uniqueInstance;
+  private static volatile Tag765 uniqueInstance;
 
   private Tag765() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag765 extends DataFieldDefinition {
 
   public static Tag765 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag765();
+      synchronized (Tag765.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag765();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag767 extends DataFieldDefinition {
 
-  private static Tag767 uniqueInstance;
+  private static volatile Tag767 uniqueInstance;
 
   private Tag767() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag767 extends DataFieldDefinition {
 
   public static Tag767 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag767();
+      synchronized (Tag767.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag767();
+      }
     return uniqueInstance;
   }
 
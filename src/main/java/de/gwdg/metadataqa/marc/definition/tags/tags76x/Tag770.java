@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag770 extends DataFieldDefinition {
 
-  private static Tag770 uniqueInstance;
+  private static volatile Tag770 uniqueInstance;
 
   private Tag770() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag770 extends DataFieldDefinition {
 
   public static Tag770 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag770();
+      synchronized (Tag770.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag770();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag772 extends DataFieldDefinition {
 
-  private static Tag772 uniqueInstance;
+  private static volatile Tag772 uniqueInstance;
 
   private Tag772() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag772 extends DataFieldDefinition {
 
   public static Tag772 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag772();
+      synchronized (Tag772.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag772();
+      }
     return uniqueInstance;
   }
 
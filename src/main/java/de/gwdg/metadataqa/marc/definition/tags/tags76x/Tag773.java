@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag773 extends DataFieldDefinition {
 
-  private static Tag773 uniqueInstance;
+  private static volatile Tag773 uniqueInstance;
 
   private Tag773() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag773 extends DataFieldDefinition {
 
   public static Tag773 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag773();
+      synchronized (Tag773.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag773();
+      }
     return uniqueInstance;
   }
 
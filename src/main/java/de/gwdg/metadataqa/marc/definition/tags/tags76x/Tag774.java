@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag774 extends DataFieldDefinition {
 
-  private static Tag774 uniqueInstance;
+  private static volatile Tag774 uniqueInstance;
 
   private Tag774() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag774 extends DataFieldDefinition {
 
   public static Tag774 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag774();
+      synchronized (Tag774.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag774();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag775 extends DataFieldDefinition {
 
-  private static Tag775 uniqueInstance;
+  private static volatile Tag775 uniqueInstance;
 
   private Tag775() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag775 extends DataFieldDefinition {
 
   public static Tag775 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag775();
+      synchronized (Tag775.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag775();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag776 extends DataFieldDefinition {
 
-  private static Tag776 uniqueInstance;
+  private static volatile Tag776 uniqueInstance;
 
   private Tag776() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag776 extends DataFieldDefinition {
 
   public static Tag776 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag776();
+      synchronized (Tag776.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag776();
+      }
     return uniqueInstance;
   }
 
@@ -15,7 +15,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag777 extends DataFieldDefinition {
 
-  private static Tag777 uniqueInstance;
+  private static volatile Tag777 uniqueInstance;
 
   private Tag777() {
     initialize();
@@ -24,7 +24,10 @@ public class Tag777 extends DataFieldDefinition {
 
   public static Tag777 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag777();
+      synchronized (Tag777.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag777();
+      }
     return uniqueInstance;
   }
 
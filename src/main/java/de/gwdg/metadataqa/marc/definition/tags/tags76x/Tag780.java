@@ -17,7 +17,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag780 extends DataFieldDefinition {
 
-  private static Tag780 uniqueInstance;
+  private static volatile Tag780 uniqueInstance;
 
   private Tag780() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag780 extends DataFieldDefinition {
 
   public static Tag780 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag780();
+      synchronized (Tag780.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag780();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag785 extends DataFieldDefinition {
 
-  private static Tag785 uniqueInstance;
+  private static volatile Tag785 uniqueInstance;
 
   private Tag785() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag785 extends DataFieldDefinition {
 
   public static Tag785 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag785();
+      synchronized (Tag785.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag785();
+      }
     return uniqueInstance;
   }
 
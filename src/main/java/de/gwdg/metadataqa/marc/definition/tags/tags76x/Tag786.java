@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag786 extends DataFieldDefinition {
 
-  private static Tag786 uniqueInstance;
+  private static volatile Tag786 uniqueInstance;
 
   private Tag786() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag786 extends DataFieldDefinition {
 
   public static Tag786 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag786();
+      synchronized (Tag786.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag786();
+      }
     return uniqueInstance;
   }
 
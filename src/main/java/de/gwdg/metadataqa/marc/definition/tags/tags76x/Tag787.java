@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag787 extends DataFieldDefinition {
 
-  private static Tag787 uniqueInstance;
+  private static volatile Tag787 uniqueInstance;
 
   private Tag787() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag787 extends DataFieldDefinition {
 
   public static Tag787 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag787();
+      synchronized (Tag787.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag787();
+      }
     return uniqueInstance;
   }
 
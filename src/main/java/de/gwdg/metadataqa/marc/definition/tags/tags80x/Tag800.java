@@ -18,7 +18,7 @@ import java.util.Arrays;
  */
 public class Tag800 extends DataFieldDefinition {
 
-  private static Tag800 uniqueInstance;
+  private static volatile Tag800 uniqueInstance;
 
   private Tag800() {
     initialize();
@@ -27,7 +27,10 @@ public class Tag800 extends DataFieldDefinition {
 
   public static Tag800 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag800();
+      synchronized (Tag800.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag800();
+      }
     return uniqueInstance;
   }
 
@@ -17,7 +17,7 @@ import java.util.Arrays;
  */
 public class Tag810 extends DataFieldDefinition {
 
-  private static Tag810 uniqueInstance;
+  private static volatile Tag810 uniqueInstance;
 
   private Tag810() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag810 extends DataFieldDefinition {
 
   public static Tag810 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag810();
+      synchronized (Tag810.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag810();
+      }
     return uniqueInstance;
   }
 
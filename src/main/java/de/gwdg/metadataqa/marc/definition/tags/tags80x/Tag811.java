@@ -17,7 +17,7 @@ import java.util.Arrays;
  */
 public class Tag811 extends DataFieldDefinition {
 
-  private static Tag811 uniqueInstance;
+  private static volatile Tag811 uniqueInstance;
 
   private Tag811() {
     initialize();
@@ -26,7 +26,10 @@ public class Tag811 extends DataFieldDefinition {
 
   public static Tag811 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag811();
+      synchronized (Tag811.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag811();
+      }
     return uniqueInstance;
   }
 
@@ -16,7 +16,7 @@ import java.util.Arrays;
  */
 public class Tag830 extends DataFieldDefinition {
 
-  private static Tag830 uniqueInstance;
+  private static volatile Tag830 uniqueInstance;
 
   private Tag830() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag830 extends DataFieldDefinition {
 
   public static Tag830 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag830();
+      synchronized (Tag830.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag830();
+      }
     return uniqueInstance;
   }
 
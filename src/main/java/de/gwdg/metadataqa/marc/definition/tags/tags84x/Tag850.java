@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag850 extends DataFieldDefinition {
 
-  private static Tag850 uniqueInstance;
+  private static volatile Tag850 uniqueInstance;
 
   private Tag850() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag850 extends DataFieldDefinition {
 
   public static Tag850 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag850();
+      synchronized (Tag850.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag850();
+      }
     return uniqueInstance;
   }
 
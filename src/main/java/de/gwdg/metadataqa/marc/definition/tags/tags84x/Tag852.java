@@ -16,7 +16,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag852 extends DataFieldDefinition {
 
-  private static Tag852 uniqueInstance;
+  private static volatile Tag852 uniqueInstance;
 
   private Tag852() {
     initialize();
@@ -25,7 +25,10 @@ public class Tag852 extends DataFieldDefinition {
 
   public static Tag852 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag852();
+      synchronized (Tag852.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag852();
+      }
     return uniqueInstance;
   }
 
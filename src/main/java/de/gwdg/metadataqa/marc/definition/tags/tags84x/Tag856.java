@@ -14,7 +14,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag856 extends DataFieldDefinition {
 
-  private static Tag856 uniqueInstance;
+  private static volatile Tag856 uniqueInstance;
 
   private Tag856() {
     initialize();
@@ -23,7 +23,10 @@ public class Tag856 extends DataFieldDefinition {
 
   public static Tag856 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag856();
+      synchronized (Tag856.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag856();
+      }
     return uniqueInstance;
   }
 
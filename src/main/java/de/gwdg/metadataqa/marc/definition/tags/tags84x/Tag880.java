@@ -10,7 +10,7 @@ import java.util.ArrayList;
  */
 public class Tag880 extends DataFieldDefinition {
 
-  private static Tag880 uniqueInstance;
+  private static volatile Tag880 uniqueInstance;
 
   private Tag880() {
     initialize();
@@ -19,7 +19,10 @@ public class Tag880 extends DataFieldDefinition {
 
   public static Tag880 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag880();
+      synchronized (Tag880.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag880();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import de.gwdg.metadataqa.marc.definition.general.parser.LinkageParser;
  */
 public class Tag882 extends DataFieldDefinition {
 
-  private static Tag882 uniqueInstance;
+  private static volatile Tag882 uniqueInstance;
 
   private Tag882() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag882 extends DataFieldDefinition {
 
   public static Tag882 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag882();
+      synchronized (Tag882.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag882();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.codelist.OrganizationCodes;
  */
 public class Tag883 extends DataFieldDefinition {
 
-  private static Tag883 uniqueInstance;
+  private static volatile Tag883 uniqueInstance;
 
   private Tag883() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag883 extends DataFieldDefinition {
 
   public static Tag883 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag883();
+      synchronized (Tag883.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag883();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.codelist.OrganizationCodes;
  */
 public class Tag884 extends DataFieldDefinition {
 
-  private static Tag884 uniqueInstance;
+  private static volatile Tag884 uniqueInstance;
 
   private Tag884() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag884 extends DataFieldDefinition {
 
   public static Tag884 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag884();
+      synchronized (Tag884.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag884();
+      }
     return uniqueInstance;
   }
 
@@ -11,7 +11,7 @@ import de.gwdg.metadataqa.marc.definition.general.codelist.OrganizationCodes;
  */
 public class Tag885 extends DataFieldDefinition {
 
-  private static Tag885 uniqueInstance;
+  private static volatile Tag885 uniqueInstance;
 
   private Tag885() {
     initialize();
@@ -20,7 +20,10 @@ public class Tag885 extends DataFieldDefinition {
 
   public static Tag885 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag885();
+      synchronized (Tag885.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag885();
+      }
     return uniqueInstance;
   }
 
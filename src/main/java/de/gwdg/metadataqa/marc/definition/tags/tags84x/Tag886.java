@@ -13,7 +13,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag886 extends DataFieldDefinition {
 
-  private static Tag886 uniqueInstance;
+  private static volatile Tag886 uniqueInstance;
 
   private Tag886() {
     initialize();
@@ -22,7 +22,10 @@ public class Tag886 extends DataFieldDefinition {
 
   public static Tag886 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag886();
+      synchronized (Tag886.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag886();
+      }
     return uniqueInstance;
   }
 
@@ -12,7 +12,7 @@ import static de.gwdg.metadataqa.marc.definition.FRBRFunction.*;
  */
 public class Tag887 extends DataFieldDefinition {
 
-  private static Tag887 uniqueInstance;
+  private static volatile Tag887 uniqueInstance;
 
   private Tag887() {
     initialize();
@@ -21,7 +21,10 @@ public class Tag887 extends DataFieldDefinition {
 
   public static Tag887 getInstance() {
     if (uniqueInstance == null)
-      uniqueInstance = new Tag887();
+      synchronized (Tag887.class) {
+        if (uniqueInstance == null)
+          uniqueInstance = new Tag887();
+      }
     return uniqueInstance;
   }
 
@@ -8,7 +8,8 @@ public enum ValidationErrorFormat {
   TAB_SEPARATED("tab separated", "tsv", "tab-separated"),
   COMMA_SEPARATED("comma separated", "csv", "comma-separated"),
   TEXT("simple text", "text", "txt"),
-  JSON("JSON", "json")
+  JSON("JSON", "json"),
+  PARQUET("Parquet", "parquet")
   ;
 
   private List<String> names;
@@ -30,4 +31,14 @@ public enum ValidationErrorFormat {
   public String getLabel() {
     return label;
   }
+
+  /**
+   * @return The format having the name, or null
+   */
+  public static ValidationErrorFormat byName(String name) {
+    for (ValidationErrorFormat format : values())
+      if (format.names.contains(name))
+        return format;
+    return null;
+  }
 }
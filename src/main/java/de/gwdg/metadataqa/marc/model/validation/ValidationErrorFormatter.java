@@ -98,6 +98,7 @@ public class ValidationErrorFormatter {
         break;
       case COMMA_SEPARATED:
       case TEXT:
+      case PARQUET:
         message = createCvsRow(headerForSummary(), ',');
       default:
         break;
@@ -113,6 +114,7 @@ public class ValidationErrorFormatter {
         break;
       case COMMA_SEPARATED:
       case TEXT:
+      case PARQUET:
         message = createCvsRow(headerForCollector(), ',');
       default:
         break;
@@ -127,6 +129,8 @@ public class ValidationErrorFormatter {
         message = createCvsRow(asArrayWithoutId(error), '\t');
         break;
       case COMMA_SEPARATED:
+      // only the details are written as Parquet, the summary is CSV
+      case PARQUET:
         message = createCvsRow(asArrayWithoutId(error), ',');
         break;
       case TEXT:
@@ -183,7 +187,10 @@ public class ValidationErrorFormatter {
     );
   }
 
-  private static List<String> asList(ValidationError error) {
+  /**
+   * The values of the columns of the details (see getHeader()).
+   */
+  public static List<String> asList(ValidationError error) {
     return Arrays.asList(
       error.getRecordId(),
       error.getMarcPath(),
@@ -203,6 +210,13 @@ public class ValidationErrorFormatter {
     };
   }
 
+  /**
+   * The columns of the details (see asArray()).
+   */
+  public static List<String> getHeader() {
+    return Arrays.asList(headerArray());
+  }
+
   private static String[] headerArray() {
     return new String[]{"recordId", "MarcPath", "type", "message", "url"};
   }
@@ -0,0 +1,92 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * Opens input files which might be compressed with gzip, bzip2 or zstd. The compression is
+ * detected from the first bytes of the file, not from its extension. Concatenated gzip and
+ * bzip2 members are read as one stream. The decompression runs on its own thread (see
+ * ReadAheadInputStream), so it does not slow down the parsing of the records.
+ */
+public class CompressedFiles {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  public enum Compression {
+    NONE, GZIP, BZIP2, ZSTD
+  }
+
+  private CompressedFiles() {
+  }
+
+  public static InputStream open(String fileName) throws IOException {
+    InputStream in = new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE);
+    try {
+      Compression compression = detect(in);
+      if (compression == Compression.NONE)
+        return in;
+      return new ReadAheadInputStream(decompress(in, compression), fileName);
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  public static BufferedReader openReader(String fileName, Charset charset) throws IOException {
+    return new BufferedReader(new InputStreamReader(open(fileName), charset));
+  }
+
+  public static BufferedReader openReader(String fileName) throws IOException {
+    return openReader(fileName, Charset.defaultCharset());
+  }
+
+  /**
+   * Detects the compression from the magic bytes at the beginning of the stream. The stream
+   * should support mark(), its position does not change.
+   */
+  public static Compression detect(InputStream in) throws IOException {
+    byte[] magic = new byte[4];
+    in.mark(magic.length);
+    int length = 0;
+    int n;
+    while (length < magic.length && (n = in.read(magic, length, magic.length - length)) != -1)
+      length += n;
+    in.reset();
+
+    if (length >= 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b)
+      return Compression.GZIP;
+    if (length >= 3 && magic[0] == 'B' && magic[1] == 'Z' && magic[2] == 'h')
+      return Compression.BZIP2;
+    if (length == 4 && (magic[0] & 0xff) == 0x28 && (magic[1] & 0xff) == 0xb5
+        && (magic[2] & 0xff) == 0x2f && (magic[3] & 0xff) == 0xfd)
+      return Compression.ZSTD;
+    return Compression.NONE;
+  }
+
+  public static InputStream decompress(InputStream in, Compression compression) throws IOException {
+    switch (compression) {
+      case GZIP:
+        return new GzipCompressorInputStream(in, true);
+      case BZIP2:
+        return new BZip2CompressorInputStream(in, true);
+      case ZSTD:
+        if (!ZstdUtils.isZstdCompressionAvailable())
+          throw new IOException("Reading zstd compressed files needs zstd-jni on the classpath");
+        return new ZstdCompressorInputStream(in);
+      case NONE:
+      default:
+        return in;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A map from tags or subfield codes to values. Numeric tags and alphanumeric subfield codes are
+ * stored in an array, so the lookup is a single array read; other keys (e.g. PICA tags) go into
+ * a map. Both are created at the first put().
+ * @param <V> The type of the values
+ */
+public class FieldKeyIndex<V> implements Serializable {
+
+  public enum KeyType {
+    TAG(FieldKeys.NUMBER_OF_TAGS),
+    SUBFIELD_CODE(FieldKeys.NUMBER_OF_CODES);
+
+    private final int size;
+
+    KeyType(int size) {
+      this.size = size;
+    }
+
+    int position(String key) {
+      return this == TAG
+        ? FieldKeys.tagToPosition(key)
+        : FieldKeys.codeToPosition(key);
+    }
+  }
+
+  private final KeyType keyType;
+  private Object[] values;
+  private Map<String, V> others;
+
+  public FieldKeyIndex(KeyType keyType) {
+    this.keyType = keyType;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(String key) {
+    int position = keyType.position(key);
+    if (position != -1)
+      return values == null ? null : (V) values[position];
+    return others == null ? null : others.get(key);
+  }
+
+  public boolean containsKey(String key) {
+    return get(key) != null;
+  }
+
+  public void put(String key, V value) {
+    int position = keyType.position(key);
+    if (position != -1) {
+      if (values == null)
+        values = new Object[keyType.size];
+      values[position] = value;
+    } else {
+      if (others == null)
+        others = new HashMap<>();
+      others.put(key, value);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package de.gwdg.metadataqa.marc.utils;
+
+/**
+ * Turns tags and subfield codes into array positions, and caches their String forms, so the
+ * record structures can use dense arrays instead of String keyed maps.
+ */
+public class FieldKeys {
+
+  /**
+   * The positions of the numeric tags: 000-999
+   */
+  public static final int NUMBER_OF_TAGS = 1000;
+
+  /**
+   * The positions of the alphanumeric subfield codes: 0-9, a-z, A-Z
+   */
+  public static final int NUMBER_OF_CODES = 62;
+
+  private static final String[] TAGS = new String[NUMBER_OF_TAGS];
+  private static final String[] CODES = new String[128];
+
+  static {
+    for (int i = 0; i < NUMBER_OF_TAGS; i++)
+      TAGS[i] = String.format("%03d", i);
+    for (char c = 0; c < CODES.length; c++)
+      CODES[c] = String.valueOf(c);
+  }
+
+  private FieldKeys() {}
+
+  /**
+   * @return The number of a three digit numeric tag, or -1 for other tags
+   */
+  public static int tagToPosition(String tag) {
+    if (tag == null || tag.length() != 3)
+      return -1;
+    int number = 0;
+    for (int i = 0; i < 3; i++) {
+      char c = tag.charAt(i);
+      if (c < '0' || c > '9')
+        return -1;
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  /**
+   * @return The position of a single alphanumeric subfield code, or -1 for other codes
+   */
+  public static int codeToPosition(String code) {
+    if (code == null || code.length() != 1)
+      return -1;
+    return codeToPosition(code.charAt(0));
+  }
+
+  public static int codeToPosition(char c) {
+    if (c >= '0' && c <= '9')
+      return c - '0';
+    if (c >= 'a' && c <= 'z')
+      return 10 + (c - 'a');
+    if (c >= 'A' && c <= 'Z')
+      return 36 + (c - 'A');
+    return -1;
+  }
+
+  /**
+   * @return The tag of a number between 0 and 999, without creating a new String
+   */
+  public static String tag(int number) {
+    return TAGS[number];
+  }
+
+  /**
+   * Returns the tag of the first three bytes from the offset. Numeric tags are not copied.
+   */
+  public static String tag(byte[] bytes, int offset) {
+    byte a = bytes[offset];
+    byte b = bytes[offset + 1];
+    byte c = bytes[offset + 2];
+    if (a >= '0' && a <= '9' && b >= '0' && b <= '9' && c >= '0' && c <= '9')
+      return TAGS[(a - '0') * 100 + (b - '0') * 10 + (c - '0')];
+    return new String(new char[]{(char) (a & 0xFF), (char) (b & 0xFF), (char) (c & 0xFF)});
+  }
+
+  /**
+   * @return The subfield code as a String, without creating a new String for ASCII characters
+   */
+  public static String code(char c) {
+    return c < CODES.length ? CODES[c] : String.valueOf(c);
+  }
+}
@@ -1,11 +1,17 @@
 package de.gwdg.metadataqa.marc.utils;
 
 import de.gwdg.metadataqa.marc.Utils;
+import de.gwdg.metadataqa.marc.analysis.MergeableStatistics;
+import de.gwdg.metadataqa.marc.analysis.StatisticsIO;
 import de.gwdg.metadataqa.marc.definition.*;
 import de.gwdg.metadataqa.marc.definition.controlsubfields.LeaderSubfields;
 import de.gwdg.metadataqa.marc.definition.tags.control.*;
+import de.gwdg.metadataqa.marc.utils.counter.EnumCounter;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -13,7 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class FrbrFunctionLister {
+public class FrbrFunctionLister implements MergeableStatistics<FrbrFunctionLister> {
 
   private Map<FRBRFunction, Double> collector;
   private Map<FRBRFunction, Integer> baseline;
@@ -49,6 +55,68 @@ public class FrbrFunctionLister {
     System.err.println("local subfields: " + localSubfields);
   }
 
+  /**
+   * Creates a lister with the baseline of another one, and with empty collector and histogram.
+   */
+  private FrbrFunctionLister(FrbrFunctionLister other) {
+    baseline = other.baseline;
+    functionByMarcPath = other.functionByMarcPath;
+    elementsWithoutFunctions = other.elementsWithoutFunctions;
+    prepareCollector();
+    prepareHistogram();
+  }
+
+  /**
+   * @return A lister sharing the baseline of this one, which collects the scores of another set of records
+   */
+  public FrbrFunctionLister createEmptyCopy() {
+    return new FrbrFunctionLister(this);
+  }
+
+  /**
+   * Adds the collected scores and the histogram of another lister to this one.
+   * @param other The other lister
+   */
+  @Override
+  public void merge(FrbrFunctionLister other) {
+    add(other.collector);
+    for (Map.Entry<FRBRFunction, Map<Double, Integer>> entry : other.histogram.entrySet()) {
+      if (!histogram.containsKey(entry.getKey()))
+        histogram.put(entry.getKey(), new TreeMap<>());
+      Utils.mergeCounters(histogram.get(entry.getKey()), entry.getValue());
+    }
+  }
+
+  /**
+   * Writes the collected scores and the histogram. The baseline is not written, it is
+   * calculated from the definitions.
+   */
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(collector.size());
+    for (Map.Entry<FRBRFunction, Double> entry : collector.entrySet()) {
+      writeFunction(out, entry.getKey());
+      out.writeDouble(entry.getValue());
+    }
+    StatisticsIO.writeNestedCounter(out, histogram, FrbrFunctionLister::writeFunction, DataOutput::writeDouble);
+  }
+
+  @Override
+  public void read(DataInput in) throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++)
+      collector.merge(readFunction(in), in.readDouble(), Double::sum);
+    StatisticsIO.readNestedCounter(in, histogram, FrbrFunctionLister::readFunction, DataInput::readDouble, TreeMap::new);
+  }
+
+  private static void writeFunction(DataOutput out, FRBRFunction function) throws IOException {
+    out.writeUTF(function.name());
+  }
+
+  private static FRBRFunction readFunction(DataInput in) throws IOException {
+    return FRBRFunction.valueOf(in.readUTF());
+  }
+
   public Map<FRBRFunction, Map<Double, Integer>> getHistogram() {
     return histogram;
   }
@@ -149,6 +217,14 @@ public class FrbrFunctionLister {
     }
   }
 
+  public static void countFunctions(List<FRBRFunction> functions, EnumCounter<FRBRFunction> counter) {
+    if (functions != null) {
+      for (FRBRFunction function : functions) {
+        counter.increment(function);
+      }
+    }
+  }
+
   private void prepareCollector() {
     collector = new TreeMap<>();
     for (FRBRFunction key : baseline.keySet()) {
@@ -175,6 +251,14 @@ public class FrbrFunctionLister {
     return percents;
   }
 
+  public Map<FRBRFunction, Double> percent(EnumCounter<FRBRFunction> other) {
+    Map<FRBRFunction, Double> percents = new TreeMap<>();
+    for (FRBRFunction key : baseline.keySet()) {
+      percents.put(key, other.get(key) * 1.0 / baseline.get(key));
+    }
+    return percents;
+  }
+
   public void add(Map<FRBRFunction, Double> other) {
     for (FRBRFunction key : other.keySet()) {
       collector.put(key, collector.get(key) + other.get(key));
@@ -15,8 +15,8 @@ public class LineSeparatedMarcReader implements MarcReader {
 
   public LineSeparatedMarcReader(String lineSeparatedMarc) {
     try {
-      bufferedReader = new BufferedReader(new FileReader(lineSeparatedMarc));
-    } catch (FileNotFoundException e) {
+      bufferedReader = CompressedFiles.openReader(lineSeparatedMarc);
+    } catch (IOException e) {
       e.printStackTrace();
     }
   }
@@ -0,0 +1,283 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import de.gwdg.metadataqa.marc.DataField;
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.definition.DataFieldDefinition;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads MARC JSON records one by one with a streaming parser, and creates the records directly,
+ * without building a JSON tree or evaluating JSONPath expressions. The input might be JSON lines,
+ * concatenated objects or an array of objects. Two structures are supported:
+ * <ul>
+ *   <li>the one of MARC JSON exports (see MarcJsonSchema):
+ *     <code>{"leader":"...","controlfield":[{"tag":"001","content":"..."}],
+ *     "datafield":[{"tag":"245","ind1":"1","ind2":"0","subfield":[{"code":"a","content":"..."}]}]}</code>
+ *   </li>
+ *   <li>MARC-in-JSON:
+ *     <code>{"leader":"...","fields":[{"001":"..."},{"245":{"ind1":"1","ind2":"0","subfields":[{"a":"..."}]}}]}</code>
+ *   </li>
+ * </ul>
+ * Only the fields of the current record are kept in memory.
+ */
+public class MarcJsonReader implements Closeable {
+
+  private static final JsonFactory factory = new JsonFactory();
+
+  private final JsonParser parser;
+  private final Leader.Type defaultType;
+  private final MarcVersion marcVersion;
+  private final boolean fixAlephseq;
+
+  // the fields of the current record, the record is created when its object ends
+  private String leader;
+  private final List<String> controlFields = new ArrayList<>();
+  private final List<RawField> dataFields = new ArrayList<>();
+
+  private static class RawField {
+    private String tag;
+    private String ind1 = " ";
+    private String ind2 = " ";
+    // the codes and the values of the subfields
+    private final List<String> subfields = new ArrayList<>();
+  }
+
+  public MarcJsonReader(InputStream in) throws IOException {
+    this(in, null, null, false);
+  }
+
+  public MarcJsonReader(InputStream in,
+                        Leader.Type defaultType,
+                        MarcVersion marcVersion,
+                        boolean fixAlephseq) throws IOException {
+    parser = factory.createParser(in);
+    this.defaultType = defaultType;
+    this.marcVersion = marcVersion;
+    this.fixAlephseq = fixAlephseq;
+  }
+
+  /**
+   * Returns the next record, or null if there are no more records.
+   * @throws IOException If the JSON is invalid
+   * @throws IllegalArgumentException If the record has no leader or its type can not be detected
+   */
+  public MarcRecord next() throws IOException {
+    JsonToken token = parser.nextToken();
+    // the records might be in an array
+    while (token == JsonToken.START_ARRAY || token == JsonToken.END_ARRAY)
+      token = parser.nextToken();
+    if (token == null)
+      return null;
+    if (token != JsonToken.START_OBJECT)
+      throw new JsonParseException("A MARC JSON record should be an object, got " + token,
+        parser.getCurrentLocation());
+
+    readRecord();
+    return createRecord();
+  }
+
+  private void readRecord() throws IOException {
+    leader = null;
+    controlFields.clear();
+    dataFields.clear();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      switch (name) {
+        case "leader":
+          leader = parser.getText();
+          break;
+        case "controlfield":
+          if (value == JsonToken.START_ARRAY)
+            while (parser.nextToken() == JsonToken.START_OBJECT)
+              readControlField();
+          else
+            parser.skipChildren();
+          break;
+        case "datafield":
+          if (value == JsonToken.START_ARRAY)
+            while (parser.nextToken() == JsonToken.START_OBJECT)
+              readDataField();
+          else
+            parser.skipChildren();
+          break;
+        case "fields":
+          if (value == JsonToken.START_ARRAY)
+            while (parser.nextToken() == JsonToken.START_OBJECT)
+              readMarcInJsonField();
+          else
+            parser.skipChildren();
+          break;
+        default:
+          parser.skipChildren();
+          break;
+      }
+    }
+  }
+
+  /**
+   * Reads <code>{"tag":"001","content":"..."}</code>
+   */
+  private void readControlField() throws IOException {
+    String tag = null;
+    String content = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      if (name.equals("tag"))
+        tag = parser.getText();
+      else if (name.equals("content"))
+        content = parser.getText();
+      else
+        parser.skipChildren();
+    }
+    if (tag != null && content != null) {
+      controlFields.add(tag);
+      controlFields.add(content);
+    }
+  }
+
+  /**
+   * Reads <code>{"tag":"245","ind1":"1","ind2":"0","subfield":[{"code":"a","content":"..."}]}</code>
+   */
+  private void readDataField() throws IOException {
+    RawField field = new RawField();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      switch (name) {
+        case "tag": field.tag = parser.getText(); break;
+        case "ind1": field.ind1 = parser.getText(); break;
+        case "ind2": field.ind2 = parser.getText(); break;
+        case "subfield":
+          if (value == JsonToken.START_ARRAY)
+            while (parser.nextToken() == JsonToken.START_OBJECT)
+              readSubfield(field);
+          else
+            parser.skipChildren();
+          break;
+        default:
+          parser.skipChildren();
+          break;
+      }
+    }
+    if (field.tag != null)
+      dataFields.add(field);
+  }
+
+  private void readSubfield(RawField field) throws IOException {
+    String code = null;
+    String content = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      if (name.equals("code"))
+        code = parser.getText();
+      else if (name.equals("content"))
+        content = parser.getText();
+      else
+        parser.skipChildren();
+    }
+    if (code != null && content != null) {
+      field.subfields.add(code);
+      field.subfields.add(content);
+    }
+  }
+
+  /**
+   * Reads <code>{"001":"..."}</code> or <code>{"245":{"ind1":"1","ind2":"0","subfields":[{"a":"..."}]}}</code>
+   */
+  private void readMarcInJsonField() throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String tag = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.VALUE_STRING) {
+        controlFields.add(tag);
+        controlFields.add(parser.getText());
+      } else if (value == JsonToken.START_OBJECT) {
+        RawField field = new RawField();
+        field.tag = tag;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.getCurrentName();
+          JsonToken content = parser.nextToken();
+          if (name.equals("ind1"))
+            field.ind1 = parser.getText();
+          else if (name.equals("ind2"))
+            field.ind2 = parser.getText();
+          else if (name.equals("subfields") && content == JsonToken.START_ARRAY)
+            while (parser.nextToken() == JsonToken.START_OBJECT)
+              while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String code = parser.getCurrentName();
+                parser.nextToken();
+                field.subfields.add(code);
+                field.subfields.add(parser.getText());
+              }
+          else
+            parser.skipChildren();
+        }
+        dataFields.add(field);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private MarcRecord createRecord() {
+    if (leader == null)
+      throw new IllegalArgumentException("The MARC JSON record has no leader");
+
+    MarcRecord record = new MarcRecord();
+    record.setLeader(new Leader(leader, defaultType));
+    if (record.getType() == null)
+      throw new IllegalArgumentException(String.format(
+        "Error in '%s': no type has been detected. Leader: '%s'.", findControlNumber(), leader));
+
+    // the control fields are imported after the leader, since 006-008 depend on the record type
+    for (int i = 0; i < controlFields.size(); i += 2)
+      MarcFactory.importControlField(record, controlFields.get(i), controlFields.get(i + 1), fixAlephseq);
+
+    for (RawField rawField : dataFields) {
+      DataFieldDefinition definition = MarcFactory.getDataFieldDefinition(rawField.tag, marcVersion);
+      if (definition == null) {
+        record.addUnhandledTags(rawField.tag);
+        continue;
+      }
+      DataField field = new DataField(definition, indicator(rawField.ind1), indicator(rawField.ind2));
+      for (int i = 0; i < rawField.subfields.size(); i += 2)
+        MarcFactory.addSubfield(field, rawField.subfields.get(i), rawField.subfields.get(i + 1));
+      field.indexSubfields();
+      record.addDataField(field);
+    }
+    return record;
+  }
+
+  private static String indicator(String value) {
+    if (value == null || value.isEmpty())
+      return " ";
+    return value.length() == 1 ? FieldKeys.code(value.charAt(0)) : value;
+  }
+
+  private String findControlNumber() {
+    for (int i = 0; i < controlFields.size(); i += 2)
+      if (controlFields.get(i).equals("001"))
+        return controlFields.get(i + 1);
+    return null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+}
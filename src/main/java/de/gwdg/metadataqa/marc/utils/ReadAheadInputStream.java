@@ -0,0 +1,179 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads another stream on a separate thread, so the source (typically a decompressing stream)
+ * and the consumer (the record parser) run in parallel. The data is passed in chunks through a
+ * bounded queue; the chunks are reused once they are consumed. An exception of the source is
+ * thrown by the read() following the last chunk read before it.
+ */
+public class ReadAheadInputStream extends InputStream {
+
+  public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+  public static final int DEFAULT_NUMBER_OF_CHUNKS = 16;
+
+  private static final Chunk END = new Chunk(new byte[0]);
+
+  private final InputStream source;
+  private final int chunkSize;
+  private final BlockingQueue<Chunk> filled;
+  private final BlockingQueue<Chunk> free;
+  private final Thread thread;
+  private volatile IOException error;
+  private Chunk current;
+  private int position;
+  private boolean finished = false;
+  private boolean closed = false;
+
+  private static class Chunk {
+    private final byte[] data;
+    private int length;
+
+    private Chunk(byte[] data) {
+      this.data = data;
+    }
+  }
+
+  public ReadAheadInputStream(InputStream source, String name) {
+    this(source, name, DEFAULT_CHUNK_SIZE, DEFAULT_NUMBER_OF_CHUNKS);
+  }
+
+  public ReadAheadInputStream(InputStream source, String name, int chunkSize, int numberOfChunks) {
+    if (chunkSize < 1 || numberOfChunks < 1)
+      throw new IllegalArgumentException("The chunk size and the number of chunks should be positive");
+    this.source = source;
+    this.chunkSize = chunkSize;
+    filled = new ArrayBlockingQueue<>(numberOfChunks + 1);
+    free = new ArrayBlockingQueue<>(numberOfChunks + 1);
+    thread = new Thread(this::readSource, "read-ahead-" + name);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void readSource() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        Chunk chunk = free.poll();
+        if (chunk == null)
+          chunk = new Chunk(new byte[chunkSize]);
+        chunk.length = fill(chunk.data);
+        if (chunk.length == 0)
+          break;
+        filled.put(chunk);
+        if (chunk.length < chunkSize)
+          break;
+      }
+    } catch (IOException e) {
+      error = e;
+    } catch (InterruptedException e) {
+      // closed by the consumer
+      return;
+    } finally {
+      try {
+        source.close();
+      } catch (IOException e) {
+        if (error == null)
+          error = e;
+      }
+    }
+    try {
+      filled.put(END);
+    } catch (InterruptedException e) {
+      // closed by the consumer
+    }
+  }
+
+  /**
+   * Reads from the source until the buffer is full or the source ends.
+   * @return The number of bytes read
+   */
+  private int fill(byte[] buffer) throws IOException {
+    int length = 0;
+    while (length < buffer.length) {
+      int n = source.read(buffer, length, buffer.length - length);
+      if (n == -1)
+        break;
+      length += n;
+    }
+    return length;
+  }
+
+  /**
+   * Makes sure there are bytes to read in the current chunk.
+   * @return False if the source is exhausted
+   */
+  private boolean nextChunk() throws IOException {
+    if (closed)
+      throw new IOException("Stream closed");
+    if (current != null && position < current.length)
+      return true;
+    if (finished)
+      return false;
+
+    if (current != null)
+      free.offer(current);
+    try {
+      current = filled.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the data", e);
+    }
+    position = 0;
+    if (current == END) {
+      current = null;
+      finished = true;
+      if (error != null)
+        throw error;
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunk())
+      return -1;
+    return current.data[position++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    if (offset < 0 || length < 0 || length > buffer.length - offset)
+      throw new IndexOutOfBoundsException();
+    if (length == 0)
+      return 0;
+    if (!nextChunk())
+      return -1;
+    int n = Math.min(length, current.length - position);
+    System.arraycopy(current.data, position, buffer, offset, n);
+    position += n;
+    return n;
+  }
+
+  @Override
+  public int available() throws IOException {
+    if (closed || current == null)
+      return 0;
+    return current.length - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed)
+      return;
+    closed = true;
+    thread.interrupt();
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    filled.clear();
+    free.clear();
+    current = null;
+  }
+}
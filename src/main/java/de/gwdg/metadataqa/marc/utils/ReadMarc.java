@@ -1,6 +1,10 @@
 package de.gwdg.metadataqa.marc.utils;
 
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
 import de.gwdg.metadataqa.marc.utils.alephseq.AlephseqMarcReader;
+import de.gwdg.metadataqa.marc.utils.iso2709.Iso2709Parser;
+import de.gwdg.metadataqa.marc.utils.iso2709.RawRecordReader;
 import org.marc4j.MarcReader;
 import org.marc4j.MarcStreamReader;
 import org.marc4j.MarcXmlReader;
@@ -13,7 +17,7 @@ import java.util.List;
 public class ReadMarc {
 
   public static List<Record> read(String fileName) throws Exception {
-    InputStream in = new FileInputStream(fileName);
+    InputStream in = CompressedFiles.open(fileName);
     MarcReader reader = new MarcStreamReader(in);
 
     List<Record> records = new ArrayList<>();
@@ -24,14 +28,34 @@ public class ReadMarc {
     return records;
   }
 
+  /**
+   * Reads an ISO 2709 file with the built-in parser, without creating marc4j records.
+   */
+  public static List<MarcRecord> readNative(String fileName) throws Exception {
+    return readNative(fileName, null);
+  }
+
+  public static List<MarcRecord> readNative(String fileName, MarcVersion marcVersion) throws Exception {
+    List<MarcRecord> records = new ArrayList<>();
+    try (RawRecordReader reader = new RawRecordReader(CompressedFiles.open(fileName))) {
+      byte[] rawRecord;
+      while ((rawRecord = reader.next()) != null)
+        records.add(Iso2709Parser.parse(rawRecord, null, marcVersion, false));
+    }
+    return records;
+  }
+
+  /**
+   * The input files might be compressed with gzip, bzip2 or zstd (see CompressedFiles).
+   */
   public static MarcReader getStreamReader(String fileName) throws Exception {
-    InputStream in = new FileInputStream(fileName);
+    InputStream in = CompressedFiles.open(fileName);
     MarcReader reader = new MarcStreamReader(in);
     return reader;
   }
 
   public static MarcReader getXmlReader(String fileName) throws Exception {
-    InputStream in = new FileInputStream(fileName);
+    InputStream in = CompressedFiles.open(fileName);
     MarcReader reader = new MarcXmlReader(in);
     return reader;
   }
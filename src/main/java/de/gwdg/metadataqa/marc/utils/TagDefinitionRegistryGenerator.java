@@ -0,0 +1,113 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import de.gwdg.metadataqa.marc.definition.DataFieldDefinition;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Generates the source of de.gwdg.metadataqa.marc.definition.TagDefinitionRegistry from the
+ * data field definition classes. It should be run after adding or removing a definition class:
+ *
+ * java -cp target/metadata-qa-marc-0.1-SNAPSHOT-jar-with-dependencies.jar \
+ *   de.gwdg.metadataqa.marc.utils.TagDefinitionRegistryGenerator [output file]
+ *
+ * The default output file is src/main/java/de/gwdg/metadataqa/marc/definition/TagDefinitionRegistry.java
+ */
+public class TagDefinitionRegistryGenerator {
+
+  public static final String DEFAULT_OUTPUT =
+    "src/main/java/de/gwdg/metadataqa/marc/definition/TagDefinitionRegistry.java";
+
+  public static void main(String[] args) throws IOException {
+    Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+    Files.write(output, generate().getBytes(StandardCharsets.UTF_8));
+    System.err.println("registry written to " + output);
+  }
+
+  /**
+   * Lists the definition classes ordered by tag and MARC version.
+   */
+  public static List<Class<? extends DataFieldDefinition>> listDefinitions() {
+    List<Class<? extends DataFieldDefinition>> definitions = new ArrayList<>(MarcTagLister.listTags());
+    definitions.sort(
+      Comparator.comparing((Class<? extends DataFieldDefinition> clazz) -> getTag(clazz))
+        .thenComparing(clazz -> getMarcVersion(clazz).ordinal())
+    );
+    return definitions;
+  }
+
+  public static String generate() {
+    List<Class<? extends DataFieldDefinition>> definitions = listDefinitions();
+
+    StringBuilder source = new StringBuilder();
+    source.append("package de.gwdg.metadataqa.marc.definition;\n")
+      .append("\n")
+      .append("/**\n")
+      .append(" * The data field definitions by tag and MARC version. Generated by\n")
+      .append(" * de.gwdg.metadataqa.marc.utils.TagDefinitionRegistryGenerator, do not edit.\n")
+      .append(" */\n")
+      .append("final class TagDefinitionRegistry {\n")
+      .append("\n")
+      .append("  /**\n")
+      .append("   * tag, MARC version, definition class\n")
+      .append("   */\n")
+      .append("  static final String[][] ENTRIES = {\n");
+    for (int i = 0; i < definitions.size(); i++) {
+      Class<? extends DataFieldDefinition> clazz = definitions.get(i);
+      source.append(String.format("    {\"%s\", \"%s\", \"%s\"}%s\n",
+        getTag(clazz), getMarcVersion(clazz).name(), clazz.getCanonicalName(),
+        (i < definitions.size() - 1 ? "," : "")));
+    }
+    source.append("  };\n")
+      .append("\n")
+      .append("  private TagDefinitionRegistry() {}\n")
+      .append("\n")
+      .append("  /**\n")
+      .append("   * Returns the definition of the entry. The definition class is loaded only at the first call.\n")
+      .append("   */\n")
+      .append("  static DataFieldDefinition create(int entry) {\n")
+      .append("    switch (entry) {\n");
+    for (int i = 0; i < definitions.size(); i++)
+      source.append(String.format("      case %d: return %s.getInstance();\n",
+        i, definitions.get(i).getCanonicalName()));
+    source.append("      default: return null;\n")
+      .append("    }\n")
+      .append("  }\n")
+      .append("}\n");
+    return source.toString();
+  }
+
+  public static String getTag(Class<? extends DataFieldDefinition> clazz) {
+    try {
+      DataFieldDefinition definition = (DataFieldDefinition) clazz.getMethod("getInstance").invoke(null);
+      return definition.getTag();
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Can not instantiate " + clazz.getCanonicalName(), e);
+    }
+  }
+
+  public static MarcVersion getMarcVersion(Class<? extends DataFieldDefinition> definitionClazz) {
+    MarcVersion version = MarcVersion.MARC21;
+    if (definitionClazz.getCanonicalName().contains(".oclctags.")) {
+      version = MarcVersion.OCLC;
+    } else if (definitionClazz.getCanonicalName().contains(".dnbtags.")) {
+      version = MarcVersion.DNB;
+    } else if (definitionClazz.getCanonicalName().contains(".genttags.")) {
+      version = MarcVersion.GENT;
+    } else if (definitionClazz.getCanonicalName().contains(".sztetags.")) {
+      version = MarcVersion.SZTE;
+    } else if (definitionClazz.getCanonicalName().contains(".fennicatags.")) {
+      version = MarcVersion.FENNICA;
+    }
+    return version;
+  }
+}
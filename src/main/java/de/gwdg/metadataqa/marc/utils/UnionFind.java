@@ -0,0 +1,76 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Disjoint sets of the numbers 0..size-1 (union-find). The parents are kept in a single int
+ * array, the roots are found with path halving, and a root is always linked under the smaller
+ * one. The operations are lock-free, so several threads can join the sets at the same time.
+ */
+public class UnionFind {
+
+  private final AtomicIntegerArray parent;
+
+  public UnionFind(int size) {
+    parent = new AtomicIntegerArray(size);
+    for (int i = 0; i < size; i++)
+      parent.set(i, i);
+  }
+
+  public int size() {
+    return parent.length();
+  }
+
+  /**
+   * @return The representative element of the set of x
+   */
+  public int find(int x) {
+    while (true) {
+      int p = parent.get(x);
+      if (p == x)
+        return x;
+      int grandParent = parent.get(p);
+      if (grandParent != p)
+        parent.compareAndSet(x, p, grandParent);
+      x = grandParent;
+    }
+  }
+
+  /**
+   * Joins the sets of a and b.
+   * @return Whether they have been in different sets
+   */
+  public boolean union(int a, int b) {
+    while (true) {
+      int rootA = find(a);
+      int rootB = find(b);
+      if (rootA == rootB)
+        return false;
+      int larger = Math.max(rootA, rootB);
+      int smaller = Math.min(rootA, rootB);
+      if (parent.compareAndSet(larger, larger, smaller))
+        return true;
+    }
+  }
+
+  /**
+   * Whether a and b are in the same set. Since the sets are never split, a positive answer
+   * remains true even if other threads are joining sets.
+   */
+  public boolean connected(int a, int b) {
+    return find(a) == find(b);
+  }
+
+  /**
+   * @return The size of the set of each element, indexed by the element
+   */
+  public int[] componentSizes() {
+    int[] sizes = new int[size()];
+    for (int i = 0; i < sizes.length; i++)
+      sizes[find(i)]++;
+    int[] result = new int[sizes.length];
+    for (int i = 0; i < sizes.length; i++)
+      result[i] = sizes[find(i)];
+    return result;
+  }
+}
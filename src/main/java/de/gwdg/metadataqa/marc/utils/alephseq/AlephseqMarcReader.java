@@ -1,10 +1,12 @@
 package de.gwdg.metadataqa.marc.utils.alephseq;
 
 import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.utils.CompressedFiles;
 import org.marc4j.MarcReader;
 import org.marc4j.marc.Record;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -27,7 +29,7 @@ public class AlephseqMarcReader implements MarcReader {
 
   public AlephseqMarcReader(String alephseqMarc) {
     try {
-      bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(alephseqMarc), "UTF8"));
+      bufferedReader = CompressedFiles.openReader(alephseqMarc, StandardCharsets.UTF_8);
     } catch (IOException e) {
       e.printStackTrace();
     }
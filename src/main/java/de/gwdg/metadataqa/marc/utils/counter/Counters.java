@@ -0,0 +1,35 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+/**
+ * The common part of the hash based counters.
+ */
+class Counters {
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private Counters() {
+  }
+
+  /**
+   * @return The power of two size of a table which keeps the expected number of entries at most
+   * half full
+   */
+  static int tableSize(int expectedSize) {
+    if (expectedSize < 0)
+      throw new IllegalArgumentException("Negative size: " + expectedSize);
+    if (expectedSize >= MAX_CAPACITY / 2)
+      return MAX_CAPACITY;
+    int capacity = 4;
+    while (capacity < expectedSize * 2)
+      capacity <<= 1;
+    return capacity;
+  }
+
+  /**
+   * Spreads the bits of a hash code, so the low bits used for the slot depend on all of them.
+   */
+  static int mix(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
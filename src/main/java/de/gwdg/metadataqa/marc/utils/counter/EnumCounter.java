@@ -0,0 +1,111 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Counts the constants of an enum in an array indexed by their ordinal. The iteration order is
+ * the order of the constants, and clear() resets the array, so a counter can be reused for every
+ * record.
+ * @param <E> The enum type
+ */
+public class EnumCounter<E extends Enum<E>> implements Serializable {
+
+  private final Class<E> type;
+  private final E[] constants;
+  private final long[] values;
+
+  public interface EntryConsumer<E> {
+    void accept(E key, long value);
+  }
+
+  public EnumCounter(Class<E> type) {
+    this.type = type;
+    this.constants = type.getEnumConstants();
+    this.values = new long[constants.length];
+  }
+
+  /**
+   * Increments the counter of the constant.
+   * @return The new value
+   */
+  public long increment(E key) {
+    return ++values[key.ordinal()];
+  }
+
+  /**
+   * Adds a value to the counter of the constant.
+   * @return The new value
+   */
+  public long add(E key, long value) {
+    values[key.ordinal()] += value;
+    return values[key.ordinal()];
+  }
+
+  public long get(E key) {
+    return values[key.ordinal()];
+  }
+
+  /**
+   * @return The number of the constants with a non zero value
+   */
+  public int size() {
+    int size = 0;
+    for (long value : values)
+      if (value != 0)
+        size++;
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Calls the consumer for the constants with a non zero value.
+   */
+  public void forEach(EntryConsumer<? super E> consumer) {
+    for (int i = 0; i < values.length; i++)
+      if (values[i] != 0)
+        consumer.accept(constants[i], values[i]);
+  }
+
+  /**
+   * Adds the values of the other counter to this one.
+   */
+  public void merge(EnumCounter<E> other) {
+    for (int i = 0; i < values.length; i++)
+      values[i] += other.values[i];
+  }
+
+  /**
+   * Adds the non zero values of this counter to a counter map.
+   */
+  public void addTo(Map<E, Integer> counter) {
+    for (int i = 0; i < values.length; i++)
+      if (values[i] != 0)
+        counter.merge(constants[i], (int) values[i], Integer::sum);
+  }
+
+  public void clear() {
+    Arrays.fill(values, 0);
+  }
+
+  public Class<E> getType() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == 0)
+        continue;
+      if (sb.length() > 1)
+        sb.append(", ");
+      sb.append(constants[i]).append('=').append(values[i]);
+    }
+    return sb.append('}').toString();
+  }
+}
@@ -0,0 +1,181 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Counts int keys (such as error identifiers or histogram values) in an open addressing hash
+ * table with long values, without boxing. The entries are kept in insertion order, and clear()
+ * resets only the used slots, like in ObjectLongCounter.
+ */
+public class IntLongCounter implements Serializable {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] keys;
+  private boolean[] used;
+  private long[] values;
+  // the slots of the entries in insertion order
+  private int[] order;
+  private int size;
+  private int mask;
+
+  public interface EntryConsumer {
+    void accept(int key, long value);
+  }
+
+  public IntLongCounter() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public IntLongCounter(int expectedSize) {
+    int capacity = Counters.tableSize(expectedSize);
+    keys = new int[capacity];
+    used = new boolean[capacity];
+    values = new long[capacity];
+    order = new int[capacity / 2];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Increments the counter of the key.
+   * @return The new value
+   */
+  public long increment(int key) {
+    return add(key, 1);
+  }
+
+  /**
+   * Adds a value to the counter of the key.
+   * @return The new value
+   */
+  public long add(int key, long value) {
+    int slot = slot(key);
+    if (!used[slot]) {
+      if (size == order.length) {
+        grow();
+        slot = slot(key);
+      }
+      keys[slot] = key;
+      used[slot] = true;
+      order[size++] = slot;
+    }
+    values[slot] += value;
+    return values[slot];
+  }
+
+  /**
+   * @return The value of the key, 0 if it is not counted
+   */
+  public long get(int key) {
+    int slot = slot(key);
+    return used[slot] ? values[slot] : 0;
+  }
+
+  public boolean containsKey(int key) {
+    return used[slot(key)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return The i-th key in insertion order
+   */
+  public int getKey(int i) {
+    checkIndex(i);
+    return keys[order[i]];
+  }
+
+  /**
+   * @return The i-th value in insertion order
+   */
+  public long getValue(int i) {
+    checkIndex(i);
+    return values[order[i]];
+  }
+
+  /**
+   * @return The keys in ascending order
+   */
+  public int[] sortedKeys() {
+    int[] sorted = new int[size];
+    for (int i = 0; i < size; i++)
+      sorted[i] = keys[order[i]];
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  public void forEach(EntryConsumer consumer) {
+    for (int i = 0; i < size; i++)
+      consumer.accept(keys[order[i]], values[order[i]]);
+  }
+
+  /**
+   * Adds the values of the other counter to this one.
+   */
+  public void merge(IntLongCounter other) {
+    for (int i = 0; i < other.size; i++)
+      add(other.keys[other.order[i]], other.values[other.order[i]]);
+  }
+
+  /**
+   * Removes all entries. The cost is proportional to the number of the entries, not to the
+   * capacity.
+   */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      used[order[i]] = false;
+      values[order[i]] = 0;
+    }
+    size = 0;
+  }
+
+  private int slot(int key) {
+    int slot = Counters.mix(key) & mask;
+    while (used[slot] && keys[slot] != key)
+      slot = (slot + 1) & mask;
+    return slot;
+  }
+
+  private void grow() {
+    int[] oldKeys = keys;
+    long[] oldValues = values;
+    int[] oldOrder = order;
+    int capacity = keys.length * 2;
+    keys = new int[capacity];
+    used = new boolean[capacity];
+    values = new long[capacity];
+    order = new int[capacity / 2];
+    mask = capacity - 1;
+    for (int i = 0; i < size; i++) {
+      int key = oldKeys[oldOrder[i]];
+      int slot = slot(key);
+      keys[slot] = key;
+      used[slot] = true;
+      values[slot] = oldValues[oldOrder[i]];
+      order[i] = slot;
+    }
+  }
+
+  private void checkIndex(int i) {
+    if (i < 0 || i >= size)
+      throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < size; i++) {
+      if (i > 0)
+        sb.append(", ");
+      sb.append(keys[order[i]]).append('=').append(values[order[i]]);
+    }
+    return sb.append('}').toString();
+  }
+}
@@ -0,0 +1,179 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Counts objects in an open addressing hash table with long values, so an increment is one
+ * lookup without boxing. The entries are kept in insertion order, which is the order of
+ * getKey(i), getValue(i) and forEach(). clear() resets only the used slots, so a counter can
+ * be reused for every record.
+ * @param <T> The type of the keys (null is not allowed)
+ */
+public class ObjectLongCounter<T> implements Serializable {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private Object[] keys;
+  private long[] values;
+  // the slots of the entries in insertion order
+  private int[] order;
+  private int size;
+  private int mask;
+
+  public interface EntryConsumer<T> {
+    void accept(T key, long value);
+  }
+
+  public ObjectLongCounter() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ObjectLongCounter(int expectedSize) {
+    int capacity = Counters.tableSize(expectedSize);
+    keys = new Object[capacity];
+    values = new long[capacity];
+    order = new int[capacity / 2];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Increments the counter of the key.
+   * @return The new value
+   */
+  public long increment(T key) {
+    return add(key, 1);
+  }
+
+  /**
+   * Adds a value to the counter of the key.
+   * @return The new value
+   */
+  public long add(T key, long value) {
+    int slot = slot(Objects.requireNonNull(key));
+    if (keys[slot] == null) {
+      if (size == order.length) {
+        grow();
+        slot = slot(key);
+      }
+      keys[slot] = key;
+      order[size++] = slot;
+    }
+    values[slot] += value;
+    return values[slot];
+  }
+
+  /**
+   * @return The value of the key, 0 if it is not counted
+   */
+  public long get(T key) {
+    int slot = slot(Objects.requireNonNull(key));
+    return keys[slot] == null ? 0 : values[slot];
+  }
+
+  public boolean containsKey(T key) {
+    return keys[slot(Objects.requireNonNull(key))] != null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return The i-th key in insertion order
+   */
+  @SuppressWarnings("unchecked")
+  public T getKey(int i) {
+    checkIndex(i);
+    return (T) keys[order[i]];
+  }
+
+  /**
+   * @return The i-th value in insertion order
+   */
+  public long getValue(int i) {
+    checkIndex(i);
+    return values[order[i]];
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(EntryConsumer<? super T> consumer) {
+    for (int i = 0; i < size; i++)
+      consumer.accept((T) keys[order[i]], values[order[i]]);
+  }
+
+  /**
+   * Adds the values of the other counter to this one.
+   */
+  @SuppressWarnings("unchecked")
+  public void merge(ObjectLongCounter<T> other) {
+    for (int i = 0; i < other.size; i++)
+      add((T) other.keys[other.order[i]], other.values[other.order[i]]);
+  }
+
+  /**
+   * Adds the values of this counter to a counter map.
+   */
+  @SuppressWarnings("unchecked")
+  public void addTo(Map<T, Integer> counter) {
+    for (int i = 0; i < size; i++)
+      counter.merge((T) keys[order[i]], (int) values[order[i]], Integer::sum);
+  }
+
+  /**
+   * Removes all entries. The cost is proportional to the number of the entries, not to the
+   * capacity.
+   */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      keys[order[i]] = null;
+      values[order[i]] = 0;
+    }
+    size = 0;
+  }
+
+  private int slot(Object key) {
+    int slot = Counters.mix(key.hashCode()) & mask;
+    while (keys[slot] != null && !keys[slot].equals(key))
+      slot = (slot + 1) & mask;
+    return slot;
+  }
+
+  private void grow() {
+    Object[] oldKeys = keys;
+    long[] oldValues = values;
+    int[] oldOrder = order;
+    int capacity = keys.length * 2;
+    keys = new Object[capacity];
+    values = new long[capacity];
+    order = new int[capacity / 2];
+    mask = capacity - 1;
+    for (int i = 0; i < size; i++) {
+      int slot = slot(oldKeys[oldOrder[i]]);
+      keys[slot] = oldKeys[oldOrder[i]];
+      values[slot] = oldValues[oldOrder[i]];
+      order[i] = slot;
+    }
+  }
+
+  private void checkIndex(int i) {
+    if (i < 0 || i >= size)
+      throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < size; i++) {
+      if (i > 0)
+        sb.append(", ");
+      sb.append(keys[order[i]]).append('=').append(values[order[i]]);
+    }
+    return sb.append('}').toString();
+  }
+}
@@ -0,0 +1,176 @@
+package de.gwdg.metadataqa.marc.utils.iso2709;
+
+import de.gwdg.metadataqa.marc.DataField;
+import de.gwdg.metadataqa.marc.Leader;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.definition.DataFieldDefinition;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.utils.FieldKeys;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+
+/**
+ * Creates a MarcRecord directly from the bytes of an ISO 2709 record (as returned by
+ * RawRecordReader), without creating a marc4j record first. It reads the directory, and decodes
+ * the control fields and subfields straight from the data area.
+ *
+ * The result is the same as MarcFactory.createFromMarc4j() applied to the record read by marc4j's
+ * MarcStreamReader: the data is UTF-8 if Leader/09 is 'a', otherwise ISO-8859-1.
+ */
+public class Iso2709Parser {
+
+  public static final int LEADER_LENGTH = 24;
+  public static final byte FIELD_TERMINATOR = 0x1E;
+  public static final byte SUBFIELD_DELIMITER = 0x1F;
+  private static final int DIRECTORY_ENTRY_LENGTH = 12;
+  private static final int BASE_ADDRESS_POSITION = 12;
+  private static final int CODING_SCHEME_POSITION = 9;
+
+  private Iso2709Parser() {}
+
+  public static MarcRecord parse(byte[] raw) {
+    return parse(raw, null, null, false);
+  }
+
+  public static MarcRecord parse(byte[] raw,
+                                 Leader.Type defaultType,
+                                 MarcVersion marcVersion,
+                                 boolean fixAlephseq) {
+    if (raw.length < LEADER_LENGTH)
+      throw new IllegalArgumentException(
+        String.format("The record is shorter (%d bytes) than the leader", raw.length));
+
+    String leader = new String(raw, 0, LEADER_LENGTH, StandardCharsets.ISO_8859_1);
+    Charset charset = raw[CODING_SCHEME_POSITION] == 'a'
+      ? StandardCharsets.UTF_8
+      : StandardCharsets.ISO_8859_1;
+
+    int directoryEnd = findDirectoryEnd(raw);
+    int dataStart = getDataStart(raw, directoryEnd);
+    int numberOfFields = (directoryEnd - LEADER_LENGTH) / DIRECTORY_ENTRY_LENGTH;
+    String[] tags = new String[numberOfFields];
+    int[] starts = new int[numberOfFields];
+    int[] ends = new int[numberOfFields];
+    for (int i = 0; i < numberOfFields; i++) {
+      int entry = LEADER_LENGTH + i * DIRECTORY_ENTRY_LENGTH;
+      tags[i] = FieldKeys.tag(raw, entry);
+      int length = parseNumber(raw, entry + 3, 4);
+      starts[i] = dataStart + parseNumber(raw, entry + 7, 5);
+      ends[i] = starts[i] + length;
+      if (starts[i] > raw.length || ends[i] > raw.length)
+        throw new IllegalArgumentException(String.format(
+          "The field %s (%d-%d) is outside of the record (%d bytes)",
+          tags[i], starts[i], ends[i], raw.length));
+      // the field terminator is not part of the content
+      if (ends[i] > starts[i] && raw[ends[i] - 1] == FIELD_TERMINATOR)
+        ends[i]--;
+    }
+
+    MarcRecord record = new MarcRecord();
+    record.setLeader(new Leader(leader, defaultType));
+    if (record.getType() == null) {
+      throw new InvalidParameterException(
+        String.format(
+          "Error in '%s': no type has been detected. Leader: '%s'.",
+          findControlNumber(raw, tags, starts, ends, charset), record.getLeader().getLeaderString()
+        )
+      );
+    }
+
+    for (int i = 0; i < numberOfFields; i++)
+      if (isControlField(tags[i]))
+        MarcFactory.importControlField(
+          record, tags[i], decode(raw, starts[i], ends[i], charset), fixAlephseq);
+
+    for (int i = 0; i < numberOfFields; i++) {
+      if (isControlField(tags[i]))
+        continue;
+      DataFieldDefinition definition = MarcFactory.getDataFieldDefinition(tags[i], marcVersion);
+      if (definition == null)
+        record.addUnhandledTags(tags[i]);
+      else
+        record.addDataField(extractDataField(raw, starts[i], ends[i], definition, charset));
+    }
+
+    return record;
+  }
+
+  private static DataField extractDataField(byte[] raw,
+                                            int start,
+                                            int end,
+                                            DataFieldDefinition definition,
+                                            Charset charset) {
+    DataField field = new DataField(
+      definition,
+      start < end ? FieldKeys.code((char) (raw[start] & 0xFF)) : " ",
+      start + 1 < end ? FieldKeys.code((char) (raw[start + 1] & 0xFF)) : " "
+    );
+    int position = start + 2;
+    while (position < end) {
+      if (raw[position] != SUBFIELD_DELIMITER || position + 1 >= end) {
+        position++;
+        continue;
+      }
+      String code = FieldKeys.code((char) (raw[position + 1] & 0xFF));
+      int valueStart = position + 2;
+      int valueEnd = valueStart;
+      while (valueEnd < end && raw[valueEnd] != SUBFIELD_DELIMITER)
+        valueEnd++;
+      MarcFactory.addSubfield(field, code, decode(raw, valueStart, valueEnd, charset));
+      position = valueEnd;
+    }
+    field.indexSubfields();
+    return field;
+  }
+
+  private static boolean isControlField(String tag) {
+    return tag.startsWith("00");
+  }
+
+  private static String decode(byte[] raw, int start, int end, Charset charset) {
+    return end > start ? new String(raw, start, end - start, charset) : "";
+  }
+
+  /**
+   * The directory lasts until the first field terminator after the leader.
+   */
+  private static int findDirectoryEnd(byte[] raw) {
+    for (int i = LEADER_LENGTH; i < raw.length; i++)
+      if (raw[i] == FIELD_TERMINATOR)
+        return i;
+    throw new IllegalArgumentException("The record has no directory terminator");
+  }
+
+  /**
+   * The data area starts at the base address of data (Leader/12-16). If the base address is not
+   * a number it starts right after the directory.
+   */
+  private static int getDataStart(byte[] raw, int directoryEnd) {
+    try {
+      return parseNumber(raw, BASE_ADDRESS_POSITION, 5);
+    } catch (NumberFormatException e) {
+      return directoryEnd + 1;
+    }
+  }
+
+  private static int parseNumber(byte[] raw, int start, int length) {
+    int number = 0;
+    for (int i = start; i < start + length; i++) {
+      if (raw[i] < '0' || raw[i] > '9')
+        throw new NumberFormatException(String.format(
+          "Not a number: '%s'", new String(raw, start, length, StandardCharsets.ISO_8859_1)));
+      number = number * 10 + (raw[i] - '0');
+    }
+    return number;
+  }
+
+  private static String findControlNumber(byte[] raw, String[] tags, int[] starts, int[] ends, Charset charset) {
+    for (int i = 0; i < tags.length; i++)
+      if (tags[i].equals("001"))
+        return decode(raw, starts[i], ends[i], charset);
+    return null;
+  }
+}
@@ -0,0 +1,95 @@
+package de.gwdg.metadataqa.marc.utils.iso2709;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads ISO 2709 records as byte arrays, without decoding them. The record boundaries are taken
+ * from the record length in the leader (positions 00-04); if the length is not a number the
+ * record lasts until the next record terminator. The decoding can then happen elsewhere, e.g.
+ * on another thread.
+ */
+public class RawRecordReader implements Closeable {
+
+  public static final byte RECORD_TERMINATOR = 0x1D;
+  private static final int LENGTH_SIZE = 5;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream in;
+
+  public RawRecordReader(InputStream in) {
+    this.in = (in instanceof BufferedInputStream) ? in : new BufferedInputStream(in, BUFFER_SIZE);
+  }
+
+  /**
+   * Returns the next record, or null if there are no more records.
+   * @return The bytes of the record including the record terminator
+   * @throws IOException
+   */
+  public byte[] next() throws IOException {
+    byte[] head = new byte[LENGTH_SIZE];
+    int read = readFully(head, 0, LENGTH_SIZE);
+    if (read == 0)
+      return null;
+    if (read < LENGTH_SIZE)
+      return trim(head, read);
+
+    int length = parseLength(head);
+    if (length <= LENGTH_SIZE)
+      return readUntilTerminator(head);
+
+    byte[] record = new byte[length];
+    System.arraycopy(head, 0, record, 0, LENGTH_SIZE);
+    read = readFully(record, LENGTH_SIZE, length - LENGTH_SIZE);
+    if (read < length - LENGTH_SIZE)
+      return trim(record, LENGTH_SIZE + read);
+    return record;
+  }
+
+  private int parseLength(byte[] head) {
+    int length = 0;
+    for (byte b : head) {
+      if (b < '0' || b > '9')
+        return -1;
+      length = length * 10 + (b - '0');
+    }
+    return length;
+  }
+
+  private byte[] readUntilTerminator(byte[] head) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(head, 0, head.length);
+    int b;
+    while ((b = in.read()) != -1) {
+      out.write(b);
+      if (b == RECORD_TERMINATOR)
+        break;
+    }
+    return out.toByteArray();
+  }
+
+  private int readFully(byte[] buffer, int offset, int length) throws IOException {
+    int total = 0;
+    while (total < length) {
+      int read = in.read(buffer, offset + total, length - total);
+      if (read == -1)
+        break;
+      total += read;
+    }
+    return total;
+  }
+
+  private byte[] trim(byte[] buffer, int length) {
+    byte[] trimmed = new byte[length];
+    System.arraycopy(buffer, 0, trimmed, 0, length);
+    return trimmed;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+}
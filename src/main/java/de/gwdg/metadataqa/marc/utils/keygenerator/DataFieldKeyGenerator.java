@@ -5,17 +5,34 @@ import de.gwdg.metadataqa.marc.definition.DataFieldDefinition;
 import de.gwdg.metadataqa.marc.definition.SubfieldDefinition;
 import de.gwdg.metadataqa.marc.model.SolrFieldType;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates the Solr field names of a data field. The keys are cached: the keys of the subfields
+ * of the definition are created when the generator is created, the rest when they are first
+ * asked for. getInstance() returns a shared generator for every definition (or tag, if the
+ * field is not defined) and field type, so the keys are created only once per run.
+ */
 public class DataFieldKeyGenerator {
-  private DataFieldDefinition definition;
-  private SolrFieldType type;
-  private String tag;
-  private String indexTag;
+
+  private static final int NUMBER_OF_TYPES = SolrFieldType.values().length;
+  private static final ConcurrentMap<DataFieldDefinition, DataFieldKeyGenerator[]> generators = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, DataFieldKeyGenerator[]> undefinedGenerators = new ConcurrentHashMap<>();
+
+  private final DataFieldDefinition definition;
+  private final SolrFieldType type;
+  private final String tag;
+  private final String indexTag;
+  private String ind1Key;
+  private String ind2Key;
+  private final Map<SubfieldDefinition, String> subfieldKeys = new ConcurrentHashMap<>();
+  private final Map<String, String> undefinedSubfieldKeys = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Map<String, String>> extraKeys = new ConcurrentHashMap<>();
 
   public DataFieldKeyGenerator(DataFieldDefinition definition, SolrFieldType type) {
-    this.definition = definition;
-    this.type = type;
-    tag = definition.getTag();
-    indexTag = definition.getIndexTag();
+    this(definition, type, definition.getTag());
   }
 
   public DataFieldKeyGenerator(DataFieldDefinition definition,
@@ -26,85 +43,127 @@ public class DataFieldKeyGenerator {
     if (definition != null) {
       this.tag = definition.getTag();
       indexTag = definition.getIndexTag();
+      if (definition.getSubfields() != null)
+        for (SubfieldDefinition subfield : definition.getSubfields())
+          subfieldKeys.put(subfield, createSubfieldKey(subfield.getCode(), subfield.getCodeForIndex()));
     } else {
       this.tag = tag;
       indexTag = tag;
     }
   }
 
+  /**
+   * @return The shared generator of the definition (or of the tag if the definition is null)
+   */
+  public static DataFieldKeyGenerator getInstance(DataFieldDefinition definition,
+                                                  SolrFieldType type,
+                                                  String tag) {
+    DataFieldKeyGenerator[] byType = definition != null
+      ? getOrCreate(generators, definition)
+      : getOrCreate(undefinedGenerators, tag);
+    DataFieldKeyGenerator generator = byType[type.ordinal()];
+    if (generator == null) {
+      // two threads might create it at the same time, but the generators are equivalent
+      generator = new DataFieldKeyGenerator(definition, type, tag);
+      byType[type.ordinal()] = generator;
+    }
+    return generator;
+  }
+
+  private static <K> DataFieldKeyGenerator[] getOrCreate(ConcurrentMap<K, DataFieldKeyGenerator[]> map, K key) {
+    DataFieldKeyGenerator[] byType = map.get(key);
+    if (byType == null) {
+      byType = new DataFieldKeyGenerator[NUMBER_OF_TYPES];
+      DataFieldKeyGenerator[] existing = map.putIfAbsent(key, byType);
+      if (existing != null)
+        byType = existing;
+    }
+    return byType;
+  }
+
   public String forInd1() {
-    String key = "";
-    switch (type) {
-      case HUMAN:
-        key = String.format(
-          "%s_%s",
-          indexTag, definition.getInd1().getIndexTag());
-        break;
-      case MIXED:
-        if (definition == null) {
-          key = String.format("%sind1", tag);
-        } else {
-          key = String.format(
-            "%sind1_%s_%s",
-            tag, indexTag, definition.getInd1().getIndexTag());
-        }
-        break;
-      case MARC:
-      default:
-        key = String.format("%sind1", tag);
-        break;
+    if (ind1Key == null) {
+      switch (type) {
+        case HUMAN:
+          ind1Key = indexTag + "_" + definition.getInd1().getIndexTag();
+          break;
+        case MIXED:
+          if (definition == null)
+            ind1Key = tag + "ind1";
+          else
+            ind1Key = tag + "ind1_" + indexTag + "_" + definition.getInd1().getIndexTag();
+          break;
+        case MARC:
+        default:
+          ind1Key = tag + "ind1";
+          break;
+      }
     }
-    return key;
+    return ind1Key;
   }
 
   public String forInd2() {
-    String key = "";
-    switch (type) {
-      case HUMAN:
-        key = String.format(
-          "%s_%s",
-          indexTag, definition.getInd2().getIndexTag()); break;
-      case MIXED:
-        if (definition == null) {
-          key = String.format("%sind2", tag);
-        } else {
-          key = String.format(
-            "%sind2_%s_%s",
-            tag, indexTag, definition.getInd2().getIndexTag());
-        }
-        break;
-      case MARC:
-      default:
-        key = String.format("%sind2", tag);
-        break;
+    if (ind2Key == null) {
+      switch (type) {
+        case HUMAN:
+          ind2Key = indexTag + "_" + definition.getInd2().getIndexTag();
+          break;
+        case MIXED:
+          if (definition == null)
+            ind2Key = tag + "ind2";
+          else
+            ind2Key = tag + "ind2_" + indexTag + "_" + definition.getInd2().getIndexTag();
+          break;
+        case MARC:
+        default:
+          ind2Key = tag + "ind2";
+          break;
+      }
     }
-    return key;
+    return ind2Key;
   }
 
   public String forSubfield(MarcSubfield subfield) {
-    return forSubfield(subfield.getCode(), subfield.getCodeForIndex());
+    SubfieldDefinition subfieldDefinition = subfield.getDefinition();
+    if (subfieldDefinition != null) {
+      if (subfield.getCode().equals(subfieldDefinition.getCode()))
+        return forSubfield(subfieldDefinition);
+      return createSubfieldKey(subfield.getCode(), subfield.getCodeForIndex());
+    }
+
+    String key = undefinedSubfieldKeys.get(subfield.getCode());
+    if (key == null) {
+      key = createSubfieldKey(subfield.getCode(), subfield.getCodeForIndex());
+      undefinedSubfieldKeys.put(subfield.getCode(), key);
+    }
+    return key;
   }
 
   public String forSubfield(SubfieldDefinition subfield) {
-    return forSubfield(subfield.getCode(), subfield.getCodeForIndex());
+    String key = subfieldKeys.get(subfield);
+    if (key == null) {
+      key = createSubfieldKey(subfield.getCode(), subfield.getCodeForIndex());
+      subfieldKeys.put(subfield, key);
+    }
+    return key;
   }
 
-  private String forSubfield(String code, String codeForIndex) {
-    String key = "";
+  private String createSubfieldKey(String code, String codeForIndex) {
+    String key;
     switch (type) {
       case HUMAN:
-        key = String.format("%s%s", indexTag, codeForIndex); break;
+        key = indexTag + codeForIndex; break;
       case MIXED:
         if (!tag.equals(indexTag) && !codeForIndex.equals("_" + code))
-          key = String.format("%s%s_%s%s", tag, code, indexTag, codeForIndex);
+          key = tag + code + "_" + indexTag + codeForIndex;
         else if (!tag.equals(indexTag) && codeForIndex.equals("_" + code))
-          key = String.format("%s%s_%s", tag, code, indexTag);
+          key = tag + code + "_" + indexTag;
         else
-          key = String.format("%s%s", tag, code);
+          key = tag + code;
         break;
       case MARC:
       default:
-        key = String.format("%s%s", tag, code);
+        key = tag + code;
         break;
     }
 
@@ -116,6 +175,19 @@ public class DataFieldKeyGenerator {
   }
 
   public String forSubfield(MarcSubfield subfield, String extra) {
-    return String.format("%s_%s", forSubfield(subfield), extra);
+    String prefix = forSubfield(subfield);
+    Map<String, String> keys = extraKeys.get(prefix);
+    if (keys == null) {
+      keys = new ConcurrentHashMap<>();
+      Map<String, String> existing = extraKeys.putIfAbsent(prefix, keys);
+      if (existing != null)
+        keys = existing;
+    }
+    String key = keys.get(extra);
+    if (key == null) {
+      key = prefix + "_" + extra;
+      keys.put(extra, key);
+    }
+    return key;
   }
 }
@@ -3,11 +3,27 @@ package de.gwdg.metadataqa.marc.utils.keygenerator;
 import de.gwdg.metadataqa.marc.definition.ControlSubfieldDefinition;
 import de.gwdg.metadataqa.marc.model.SolrFieldType;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates the Solr field names of the Leader and the positional control fields. The keys are
+ * cached, and getInstance() returns a shared generator for every tag and field type.
+ */
 public class PositionalControlFieldKeyGenerator {
-  private String tag;
-  private String mqTag;
-  private SolrFieldType type;
-  private boolean isLeader = false;
+
+  private static final int NUMBER_OF_TYPES = SolrFieldType.values().length;
+  private static final ConcurrentMap<String, PositionalControlFieldKeyGenerator[]> generators =
+    new ConcurrentHashMap<>();
+
+  private final String tag;
+  private final String mqTag;
+  private final SolrFieldType type;
+  private final boolean isLeader;
+  private String tagKey;
+  private final Map<ControlSubfieldDefinition, String> subfieldKeys = new ConcurrentHashMap<>();
 
   public PositionalControlFieldKeyGenerator(String tag, String mqTag, SolrFieldType type) {
     this.tag = tag;
@@ -16,13 +32,41 @@ public class PositionalControlFieldKeyGenerator {
     isLeader = tag.equals(mqTag);
   }
 
+  /**
+   * @return The shared generator of the tag
+   */
+  public static PositionalControlFieldKeyGenerator getInstance(String tag, String mqTag, SolrFieldType type) {
+    PositionalControlFieldKeyGenerator[] byType = generators.get(tag);
+    if (byType == null) {
+      byType = new PositionalControlFieldKeyGenerator[NUMBER_OF_TYPES];
+      PositionalControlFieldKeyGenerator[] existing = generators.putIfAbsent(tag, byType);
+      if (existing != null)
+        byType = existing;
+    }
+    PositionalControlFieldKeyGenerator generator = byType[type.ordinal()];
+    if (generator == null) {
+      generator = new PositionalControlFieldKeyGenerator(tag, mqTag, type);
+      byType[type.ordinal()] = generator;
+    } else if (!Objects.equals(generator.mqTag, mqTag)) {
+      // the same tag with an other name, it is not cached
+      generator = new PositionalControlFieldKeyGenerator(tag, mqTag, type);
+    }
+    return generator;
+  }
+
   public String forTag() {
+    if (tagKey == null)
+      tagKey = createTagKey();
+    return tagKey;
+  }
+
+  private String createTagKey() {
     String key;
 
     switch (type) {
       case HUMAN: key = mqTag; break;
       case MIXED:
-        key = isLeader ? tag : String.format("%s_%s", tag, mqTag);
+        key = isLeader ? tag : tag + "_" + mqTag;
         break;
       case MARC: default: key = tag; break;
     }
@@ -31,6 +75,15 @@ public class PositionalControlFieldKeyGenerator {
   }
 
   public String forSubfield(ControlSubfieldDefinition subfield) {
+    String key = subfieldKeys.get(subfield);
+    if (key == null) {
+      key = createSubfieldKey(subfield);
+      subfieldKeys.put(subfield, key);
+    }
+    return key;
+  }
+
+  private String createSubfieldKey(ControlSubfieldDefinition subfield) {
     String key;
     String code = subfield.getMqTag() != null
       ? subfield.getMqTag()
@@ -38,16 +91,16 @@ public class PositionalControlFieldKeyGenerator {
 
     switch (type) {
       case HUMAN:
-        key = String.format("%s_%s", forTag(), code);
+        key = forTag() + "_" + code;
         break;
       case MIXED:
         if (isLeader)
-          key = String.format("%s_%s_%s", tag, subfield.formatPositon(), code);
+          key = tag + "_" + subfield.formatPositon() + "_" + code;
         else
-          key = String.format("%s_%s_%s_%s", tag, subfield.formatPositon(), mqTag, code);
+          key = tag + "_" + subfield.formatPositon() + "_" + mqTag + "_" + code;
         break;
       case MARC: default:
-        key = String.format("%s_%s", forTag(), subfield.formatPositon());
+        key = forTag() + "_" + subfield.formatPositon();
         break;
     }
 
@@ -1,11 +1,11 @@
 package de.gwdg.metadataqa.marc.utils.pica;
 
 import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.utils.CompressedFiles;
 import org.marc4j.MarcReader;
 import org.marc4j.marc.Record;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +24,7 @@ public class PicaReader implements MarcReader {
 
   public PicaReader(String alephseqMarc) {
     try {
-      bufferedReader = new BufferedReader(new FileReader(alephseqMarc));
+      bufferedReader = CompressedFiles.openReader(alephseqMarc);
     } catch (IOException e) {
       e.printStackTrace();
     }
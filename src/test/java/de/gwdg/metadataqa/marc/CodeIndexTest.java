@@ -0,0 +1,89 @@
+package de.gwdg.metadataqa.marc;
+
+import de.gwdg.metadataqa.marc.definition.controlsubfields.tag008.Tag008visual18;
+import de.gwdg.metadataqa.marc.definition.general.codelist.LanguageCodes;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CodeIndexTest {
+
+  @Test
+  public void testExactCodes() {
+    CodeIndex index = new CodeIndex(Utils.generateCodes(
+      "a", "First",
+      "b", "Second",
+      "a", "Duplicate"
+    ));
+    assertEquals("First", index.get("a").getLabel());
+    assertEquals("Second", index.getExact("b").getLabel());
+    assertTrue(index.containsExact("a"));
+    assertFalse(index.containsExact("c"));
+    assertNull(index.get("c"));
+    assertNull(index.get(null));
+  }
+
+  @Test
+  public void testRange() {
+    List<Code> codes = Utils.generateCodes(
+      "000", "Exceeds",
+      "001-999", "Running time",
+      "nnn", "Not applicable"
+    );
+    CodeIndex index = new CodeIndex(codes);
+    assertNull(index.get("125"));
+
+    // the flag is read at lookup time
+    codes.get(1).setRange(true);
+    assertEquals("Exceeds", index.get("000").getLabel());
+    assertEquals("Running time", index.get("125").getLabel());
+    assertEquals("Running time", index.get("001-999").getLabel());
+    assertEquals("Not applicable", index.get("nnn").getLabel());
+    assertNull(index.get("1000"));
+    assertNull(index.get("abc"));
+    assertNull(index.get(""));
+  }
+
+  @Test
+  public void testFirstMatchWins() {
+    List<Code> codes = Utils.generateCodes(
+      "001-100", "Range",
+      "050", "Exact"
+    );
+    codes.get(0).setRange(true);
+    assertEquals("Range", new CodeIndex(codes).get("050").getLabel());
+  }
+
+  @Test
+  public void testSameAsLinearScan() {
+    assertSameAsLinearScan(Tag008visual18.getInstance().getCodes(),
+      "000", "001", "090", "999", "1000", "nnn", "---", "|||", "abc", " 12", "+12", "-1");
+    assertSameAsLinearScan(LanguageCodes.getInstance().getCodes(),
+      "eng", "ger", "hun", "zza", "xxx", "   ", "");
+  }
+
+  private void assertSameAsLinearScan(List<Code> codes, String... values) {
+    CodeIndex index = new CodeIndex(codes);
+    for (Code code : codes)
+      assertSame(code.getCode(), linear(codes, code.getCode()), index.get(code.getCode()));
+    for (String value : values)
+      assertSame(value, linear(codes, value), index.get(value));
+  }
+
+  private static Code linear(List<Code> codes, String value) {
+    for (Code code : codes) {
+      if (code.getCode().equals(value)) {
+        return code;
+      } else if (code.isRange() && code.getRange().isValid(value)) {
+        return code;
+      }
+    }
+    return null;
+  }
+}
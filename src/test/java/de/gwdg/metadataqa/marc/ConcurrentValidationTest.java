@@ -0,0 +1,122 @@
+package de.gwdg.metadataqa.marc;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.definition.MarcVersion;
+import de.gwdg.metadataqa.marc.model.validation.ValidationError;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.junit.Test;
+import org.marc4j.marc.Record;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validates the same records on many threads at the same time, and checks that each thread
+ * gets the same validation errors in every round as a single threaded run.
+ * <p>
+ * The concurrent validation runs in a new class loader, so the singletons, the definitions and
+ * their indexes are created by the validating threads, not by an earlier test or a warm-up. The
+ * expected result is computed afterwards, in the class loader of the test.
+ */
+public class ConcurrentValidationTest {
+
+  private static final int THREADS = 8;
+  private static final int ROUNDS = 5;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testConcurrentValidation() throws Exception {
+    List<List<List<String>>> rounds;
+    try (URLClassLoader loader = createIsolatedClassLoader()) {
+      Class<?> isolatedTest = loader.loadClass(ConcurrentValidationTest.class.getName());
+      Method method = isolatedTest.getDeclaredMethod("validateConcurrently");
+      method.setAccessible(true);
+      rounds = (List<List<List<String>>>) method.invoke(null);
+    }
+
+    List<List<String>> expected = validateAll(readRecords());
+    assertEquals(THREADS * ROUNDS, rounds.size());
+    for (int i = 0; i < rounds.size(); i++)
+      assertEquals(
+        String.format("thread #%d, round #%d", i / ROUNDS + 1, i % ROUNDS + 1),
+        expected, rounds.get(i));
+  }
+
+  /**
+   * A class loader which loads the classes of the project again, only the JDK classes are shared.
+   */
+  private static URLClassLoader createIsolatedClassLoader() throws Exception {
+    List<URL> urls = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator))
+      urls.add(new File(entry).toURI().toURL());
+    return new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader().getParent());
+  }
+
+  /**
+   * Starts all threads at the same time, before any definition has been used.
+   * @return The errors of every round of every thread
+   */
+  private static List<List<List<String>>> validateConcurrently() throws Exception {
+    final List<Record> marc4jRecords = readRecords();
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    final CountDownLatch ready = new CountDownLatch(THREADS);
+    final CountDownLatch start = new CountDownLatch(1);
+    List<Future<List<List<List<String>>>>> results = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      results.add(pool.submit(new Callable<List<List<List<String>>>>() {
+        @Override
+        public List<List<List<String>>> call() throws Exception {
+          ready.countDown();
+          start.await();
+          List<List<List<String>>> errors = new ArrayList<>();
+          for (int round = 0; round < ROUNDS; round++)
+            errors.add(validateAll(marc4jRecords));
+          return errors;
+        }
+      }));
+    }
+    ready.await();
+    start.countDown();
+
+    List<List<List<String>>> rounds = new ArrayList<>();
+    try {
+      for (Future<List<List<List<String>>>> result : results)
+        rounds.addAll(result.get());
+    } finally {
+      pool.shutdownNow();
+    }
+    return rounds;
+  }
+
+  private static List<Record> readRecords() throws Exception {
+    List<Record> marc4jRecords = new ArrayList<>();
+    marc4jRecords.addAll(ReadMarc.read(FileUtils.getPath("general/0001-01.mrc").toString()));
+    marc4jRecords.addAll(ReadMarc.read(FileUtils.getPath("general/BooksAll.2014.part01-0001.mrc").toString()));
+    return Collections.unmodifiableList(marc4jRecords);
+  }
+
+  private static List<List<String>> validateAll(List<Record> marc4jRecords) {
+    List<List<String>> errorsPerRecord = new ArrayList<>();
+    for (Record marc4jRecord : marc4jRecords) {
+      MarcRecord record = MarcFactory.createFromMarc4j(marc4jRecord);
+      record.validate(MarcVersion.MARC21);
+      List<String> errors = new ArrayList<>();
+      for (ValidationError error : record.getValidationErrors())
+        errors.add(error.toString());
+      errorsPerRecord.add(errors);
+    }
+    return errorsPerRecord;
+  }
+}
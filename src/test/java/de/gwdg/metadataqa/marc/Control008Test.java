@@ -181,4 +181,15 @@ public class Control008Test {
     assertEquals("Biography", subfield.getLabel());
     assertEquals("No biographical material", field.resolve(subfield));
   }
+
+  @Test
+  public void testLazyParsing() {
+    Control008 field = new Control008("801003s1958    ja            000 0 jpn  ", Leader.Type.MAPS);
+    assertEquals("801003s1958    ja            000 0 jpn  ", field.getContent());
+
+    // the values are parsed at the first access, in whatever order they are read
+    assertEquals("jpn", field.getTag008all35().getValue());
+    assertEquals("801003", field.getValueByPosition(0));
+    assertEquals(field.getValuesList().size(), field.getMap().size());
+  }
 }
@@ -4,15 +4,18 @@ import de.gwdg.metadataqa.api.model.JsonPathCache;
 import de.gwdg.metadataqa.api.schema.MarcJsonSchema;
 import de.gwdg.metadataqa.api.util.CompressionLevel;
 import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.marc4j.marc.Record;
 import static org.junit.Assert.*;
 
 /**
@@ -147,6 +150,33 @@ public class MarcFieldExtractorTest {
     assertEquals("Successive entry", x008.getTag008continuing34().resolve());
   }
 
+  @Test
+  public void testMeasureMarcRecord() throws Exception {
+    List<Record> records = ReadMarc.read(FileUtils.getPath("general/0001-01.mrc").toString());
+    MarcFieldExtractor extractor = new MarcFieldExtractor();
+    extractor.measure(MarcFactory.createFromMarc4j(records.get(1)));
+
+    assertEquals("00000004", extractor.getRecordId());
+    assertEquals("m", extractor.getDuplumKeyType());
+    assertEquals(Arrays.asList("Personal", "rights", "and"), extractor.getTitleWords());
+    assertEquals(Arrays.asList("Personal rights and the domestic relations /"), extractor.getValues("245$a"));
+    assertEquals(Arrays.asList("Chadman,", "Charles", "E."), extractor.getAuthorWords());
+    assertEquals(Arrays.asList("1899."), extractor.getDateOfPublication());
+    assertEquals(Arrays.asList("Home Study Pub. Co.,"), extractor.getValues("260$b"));
+    assertEquals("xi, 186 p. ;", extractor.getExtent());
+    assertNull(extractor.getIsbn());
+    assertNull(extractor.getX007());
+    assertEquals("1899", extractor.getX008().getTag008all07().getValue());
+
+    // nothing remains from the previous record
+    extractor.measure(MarcFactory.createFromMarc4j(records.get(0)));
+    assertEquals("00000002", extractor.getRecordId());
+    assertEquals(Arrays.asList("Botanical", "materia", "medica"), extractor.getTitleWords());
+    assertEquals(Arrays.asList("Aurand,", "Samuel", "Herbert,"), extractor.getAuthorWords());
+    assertEquals(Arrays.asList("P. H. Mallen Company,"), extractor.getValues("260$b"));
+    assertEquals("406 p.", extractor.getExtent());
+  }
+
   @Test
   public void test008() {
     Control008 x008 = new Control008("850101d19912003xx    p   b   0    0ger c", Leader.Type.BOOKS);
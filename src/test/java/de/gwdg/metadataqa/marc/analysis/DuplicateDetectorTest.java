@@ -0,0 +1,93 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class DuplicateDetectorTest {
+
+  @Test
+  public void testNormalization() {
+    assertEquals("les miserables 2 ed", DuplicateFeatures.normalize("Les misérables / 2. éd."));
+    assertEquals("978030640615", DuplicateFeatures.normalizeIsbn("0-306-40615-2 (pbk.)"));
+    assertEquals("978030640615", DuplicateFeatures.normalizeIsbn("9780306406157"));
+    assertNull(DuplicateFeatures.normalizeIsbn("(pbk.)"));
+    assertEquals("1998", DuplicateFeatures.extractYear(Arrays.asList("c1998.")));
+    assertNull(DuplicateFeatures.extractYear(Arrays.asList("[s.a.]")));
+  }
+
+  @Test
+  public void testSimilarity() {
+    int[] a = features("the history of the hungarian language", "kiraly peter", "1998", "akademiai");
+    int[] b = features("the history of hungarian language", "kiraly peter", "1998", "akademiai");
+    int[] c = features("the history of the hungarian language", "kiraly peter", "2005", "akademiai");
+
+    assertEquals(1.0, DuplicateFeatures.similarity(a, a), 0.0001);
+    assertTrue(DuplicateFeatures.similarity(a, b) > 0.9);
+    // an other edition
+    assertTrue(DuplicateFeatures.similarity(a, c) < 0.85);
+    // no title
+    assertEquals(0.0, DuplicateFeatures.similarity(a, features("", "kiraly peter", "1998", "")), 0.0);
+  }
+
+  @Test
+  public void testClusters() throws InterruptedException {
+    DuplicateDetector detector = new DuplicateDetector(32, 2, 0.8, 100);
+    detector.add("r1", 'm', features("the history of the hungarian language", "kiraly peter", "1998", "akademiai"));
+    detector.add("r2", 'm', features("quality of metadata", "smith john", "2018", "springer"));
+    detector.add("r3", 'm', features("the history of hungarian language", "kiraly peter", "1998", "akademiai"));
+    detector.add("r4", 's', features("the history of the hungarian language", "kiraly peter", "1998", "akademiai"));
+    detector.add("r5", 'm', features("quality of metadata", "smith john", "2018", "springer"));
+    detector.add("r6", 'm', new int[0]);
+
+    detector.detect(2);
+    long[] clusters = detector.listClusters();
+    assertEquals(4, clusters.length);
+    assertEquals("r1", detector.getId((int) clusters[0]));
+    assertEquals("r3", detector.getId((int) clusters[1]));
+    assertEquals("r2", detector.getId((int) clusters[2]));
+    assertEquals("r5", detector.getId((int) clusters[3]));
+    assertEquals(1, clusters[0] >>> 32);
+    assertEquals(1, clusters[1] >>> 32);
+    assertEquals(2, clusters[3] >>> 32);
+  }
+
+  @Test
+  public void testSingleLinkage() throws InterruptedException {
+    DuplicateDetector detector = new DuplicateDetector(32, 2, 0.8, 100);
+    int a = detector.add("a", 'm', features("the history of the hungarian language", "kiraly peter", "1998", "akademiai kiado"));
+    int b = detector.add("b", 'm', features("the history of the hungarian language", "kiraly peter", "1998", "osiris"));
+    int c = detector.add("c", 'm', features("history of the hungarian language and literature", "kiraly peter", "1998", "osiris"));
+    assertTrue(detector.similarity(a, b) >= 0.8);
+    assertTrue(detector.similarity(b, c) >= 0.8);
+    assertTrue(detector.similarity(a, c) < 0.8);
+
+    detector.detect(1);
+    // a and c are not similar, but they are in the same cluster through b
+    long[] clusters = detector.listClusters();
+    assertEquals(3, clusters.length);
+    for (long member : clusters)
+      assertEquals(1, member >>> 32);
+  }
+
+  private static int[] features(String title, String author, String year, String publisher) {
+    int[] features = new int[32];
+    int size = 0;
+    size = add(features, size, DuplicateFeatures.Field.TITLE, title);
+    size = add(features, size, DuplicateFeatures.Field.AUTHOR, author);
+    size = add(features, size, DuplicateFeatures.Field.YEAR, year);
+    size = add(features, size, DuplicateFeatures.Field.PUBLISHER, publisher);
+    int[] result = Arrays.copyOf(features, size);
+    Arrays.sort(result);
+    return result;
+  }
+
+  private static int add(int[] features, int size, DuplicateFeatures.Field field, String text) {
+    for (String word : DuplicateFeatures.normalize(text).split(" "))
+      if (!word.isEmpty())
+        features[size++] = DuplicateFeatures.feature(field, word);
+    return size;
+  }
+}
@@ -0,0 +1,105 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import de.gwdg.metadataqa.marc.cli.utils.Schema;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MergeableStatisticsTest {
+
+  @Test
+  public void testCompleteness() throws IOException {
+    CompletenessStatistics first = new CompletenessStatistics();
+    first.getLibraryCounter().put("DE-7", 2);
+    first.getPackageCounter().put("01", 3);
+    first.getElementCardinality().get("all").put("245$a", 4);
+    first.getElementCardinality().put("Books", new TreeMap<>());
+    first.getElementCardinality().get("Books").put("245$a", 4);
+    first.getFieldHistogram().put("245$a", new TreeMap<>());
+    first.getFieldHistogram().get("245$a").put(1, 3);
+
+    CompletenessStatistics second = new CompletenessStatistics();
+    second.getLibraryCounter().put("DE-7", 1);
+    second.getLibrary003Counter().put("DE-601", 1);
+    second.getElementCardinality().get("all").put("245$a", 1);
+    second.getFieldHistogram().put("245$a", new TreeMap<>());
+    second.getFieldHistogram().get("245$a").put(1, 1);
+
+    CompletenessStatistics read = copy(first, new CompletenessStatistics());
+    read.read(new DataInputStream(new ByteArrayInputStream(toBytes(second))));
+    first.merge(second);
+
+    assertEquals("{DE-7=3}", read.getLibraryCounter().toString());
+    assertEquals(first.getLibraryCounter(), read.getLibraryCounter());
+    assertEquals(first.getLibrary003Counter(), read.getLibrary003Counter());
+    assertEquals(first.getPackageCounter(), read.getPackageCounter());
+    assertEquals(first.getElementCardinality(), read.getElementCardinality());
+    assertEquals(first.getElementFrequency(), read.getElementFrequency());
+    assertEquals("{245$a={1=4}}", read.getFieldHistogram().toString());
+  }
+
+  @Test
+  public void testAuthority() throws IOException {
+    Schema schema = new Schema("100", "$0", "gnd", "Gemeinsame Normdatei");
+    AuthorityStatistics statistics = new AuthorityStatistics();
+    statistics.getInstances().put(schema, 3);
+    statistics.getRecords().put(schema, 2);
+    statistics.getSubfields().put(schema, new TreeMap<>((a, b) -> a.toString().compareTo(b.toString())));
+    statistics.getSubfields().get(schema).put(Arrays.asList("a", "0"), 2);
+    statistics.getHistogram().put(1, 2);
+    statistics.getHasClassifications().put(true, 2);
+    statistics.getHasClassifications().put(false, 5);
+
+    AuthorityStatistics read = copy(statistics, new AuthorityStatistics());
+    read.read(new DataInputStream(new ByteArrayInputStream(toBytes(statistics))));
+
+    assertEquals(6, (int) read.getInstances().get(schema));
+    assertEquals(4, (int) read.getRecords().get(schema));
+    assertEquals(schema.getId(), read.getInstances().keySet().iterator().next().getId());
+    assertEquals(4, (int) read.getSubfields().get(schema).get(Arrays.asList("a", "0")));
+    assertEquals("{1=4}", read.getHistogram().toString());
+    assertEquals(10, (int) read.getHasClassifications().get(false));
+  }
+
+  @Test
+  public void testClassificationFieldKeys() throws IOException {
+    ClassificationStatistics first = new ClassificationStatistics();
+    first.getFieldInRecords().put(FieldWithScheme.of("084", "rvk"), 2);
+    ClassificationStatistics second = new ClassificationStatistics();
+    second.getFieldInRecords().put(FieldWithScheme.of("084", "rvk"), 3);
+    second.getFieldInRecords().put(FieldWithScheme.of("084", "bkl"), 1);
+
+    assertSame(FieldWithScheme.of("084", "rvk"), FieldWithScheme.of(new String("084"), "rvk"));
+
+    first.merge(second);
+    assertEquals(2, first.getFieldInRecords().size());
+    assertEquals(5, (int) first.getFieldInRecords().get(FieldWithScheme.of("084", "rvk")));
+
+    ClassificationStatistics read = copy(first, new ClassificationStatistics());
+    read.read(new DataInputStream(new ByteArrayInputStream(toBytes(second))));
+    assertEquals(2, read.getFieldInRecords().size());
+    assertEquals(8, (int) read.getFieldInRecords().get(FieldWithScheme.of("084", "rvk")));
+  }
+
+  private static <T extends MergeableStatistics<T>> T copy(T statistics, T empty) throws IOException {
+    empty.read(new DataInputStream(new ByteArrayInputStream(toBytes(statistics))));
+    return empty;
+  }
+
+  private static byte[] toBytes(MergeableStatistics<?> statistics) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    statistics.write(out);
+    out.flush();
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,78 @@
+package de.gwdg.metadataqa.marc.analysis;
+
+import de.gwdg.metadataqa.marc.utils.UnionFind;
+import de.gwdg.metadataqa.marc.utils.counter.IntLongCounter;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NetworkGraphTest {
+
+  private NetworkGraph graph;
+
+  @Before
+  public void setUp() {
+    graph = new NetworkGraph();
+    graph.addRecord(10, new long[]{-5L, 100L});
+    graph.addRecord(11, new long[]{100L});
+    graph.addRecord(12, new long[0]);
+    graph.addRecord(13, new long[]{Long.MAX_VALUE});
+    graph.addRecord(14, new long[]{-5L, 100L, 7L});
+    graph.build();
+  }
+
+  @Test
+  public void testStructure() {
+    assertEquals(4, graph.getNumberOfRecords());
+    assertEquals(4, graph.getNumberOfConcepts());
+    assertEquals(7, graph.getNumberOfEdges());
+
+    assertEquals(-5L, graph.getConceptId(0));
+    assertEquals(Long.MAX_VALUE, graph.getConceptId(3));
+    assertEquals(13, graph.getRecordNumber(2));
+    assertArrayEquals(new int[]{0, 1, 3}, graph.getRecords(2));
+    assertArrayEquals(new int[]{0, 2, 1}, graph.getConcepts(3));
+
+    IntLongCounter conceptDegrees = graph.conceptDegreeDistribution();
+    assertEquals(2, conceptDegrees.get(1));
+    assertEquals(1, conceptDegrees.get(2));
+    assertEquals(1, conceptDegrees.get(3));
+    IntLongCounter recordDegrees = graph.recordDegreeDistribution();
+    assertEquals(2, recordDegrees.get(1));
+    assertEquals(1, recordDegrees.get(2));
+    assertEquals(1, recordDegrees.get(3));
+  }
+
+  @Test
+  public void testCooccurrences() throws InterruptedException {
+    assertArrayEquals(new int[]{2, 2, 0, 2}, graph.cooccurrenceDegrees(1000, 2));
+    // the concept 100 is a hub: its records are counted without deduplication
+    assertArrayEquals(new int[]{3, 2, 0, 3}, graph.cooccurrenceDegrees(2, 1));
+  }
+
+  @Test
+  public void testCooccurrenceEstimated() {
+    for (int record = 0; record < graph.getNumberOfRecords(); record++)
+      assertFalse(graph.isCooccurrenceEstimated(record, 1000));
+    // the records of the concept 100
+    assertTrue(graph.isCooccurrenceEstimated(0, 2));
+    assertTrue(graph.isCooccurrenceEstimated(1, 2));
+    assertFalse(graph.isCooccurrenceEstimated(2, 2));
+    assertTrue(graph.isCooccurrenceEstimated(3, 2));
+  }
+
+  @Test
+  public void testComponents() {
+    UnionFind components = graph.components();
+    assertTrue(components.connected(0, 3));
+    assertTrue(components.connected(1, 3));
+    assertFalse(components.connected(0, 2));
+    assertArrayEquals(new int[]{3, 3, 1, 3}, components.componentSizes());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAddAfterBuild() {
+    graph.addRecord(15, new long[]{1L});
+  }
+}
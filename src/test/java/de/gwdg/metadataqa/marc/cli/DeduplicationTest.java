@@ -0,0 +1,73 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.junit.Test;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
+import org.marc4j.marc.Record;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the deduplication on a file, which contains a copy of one of its records under an other
+ * identifier.
+ */
+public class DeduplicationTest {
+
+  @Test
+  public void testDuplicatePair() throws Exception {
+    File directory = Files.createTempDirectory("deduplication").toFile();
+    File input = createInput(directory);
+
+    assertTrue(new RecordIterator(new Deduplication(new String[]{
+      "--nolog", "--outputDir", directory.getPath(), input.getPath()
+    })).iterate());
+
+    assertEquals(
+      Arrays.asList("cluster,id", "1,\"00000004\"", "1,\"copy-of-00000004\""),
+      Files.readAllLines(new File(directory, "duplicates.csv").toPath(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testDuplicatePairOnThreads() throws Exception {
+    File directory = Files.createTempDirectory("deduplication").toFile();
+    File input = createInput(directory);
+
+    assertTrue(new RecordIterator(new Deduplication(new String[]{
+      "--nolog", "--threads", "2", "--fileName", "threads.csv", "--outputDir", directory.getPath(), input.getPath()
+    })).iterate());
+
+    // the workers add the records in any order, so the pair might be listed in any order
+    List<String> lines = Files.readAllLines(new File(directory, "threads.csv").toPath(), StandardCharsets.UTF_8);
+    assertEquals(3, lines.size());
+    assertTrue(lines.containsAll(Arrays.asList("1,\"00000004\"", "1,\"copy-of-00000004\"")));
+  }
+
+  /**
+   * The five distinct records of the fixture, and a copy of the second one.
+   */
+  private File createInput(File directory) throws Exception {
+    List<Record> records = ReadMarc.read(FileUtils.getPath("general/0001-01.mrc").toString());
+    File input = new File(directory, "input.mrc");
+    try (FileOutputStream out = new FileOutputStream(input)) {
+      MarcWriter writer = new MarcStreamWriter(out, "UTF-8");
+      for (Record marc4jRecord : records)
+        writer.write(marc4jRecord);
+      Record copy = records.get(1);
+      copy.getControlNumberField().setData("copy-of-00000004");
+      writer.write(copy);
+      writer.close();
+    }
+    return input;
+  }
+}
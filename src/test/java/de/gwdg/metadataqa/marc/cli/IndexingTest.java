@@ -8,6 +8,9 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,4 +59,36 @@ public class IndexingTest {
     assertEquals("Monographic component part", index.get("8007_SeriesAddedPersonalName_bibliographicLevel").get(0));
     assertEquals("Language material", index.get("8007_SeriesAddedPersonalName_typeOfRecord").get(0));
   }
+
+  @Test
+  public void testStreamedPairs() throws IOException, URISyntaxException {
+    List<String> lines = FileUtils.readLines("general/010000011.mrctxt");
+    MarcRecord record = MarcFactory.createFromFormattedText(lines);
+    for (SolrFieldType type : SolrFieldType.values()) {
+      Map<String, List<String>> index = record.getKeyValuePairs(type);
+      Map<String, List<String>> streamed = new HashMap<>();
+      record.writeKeyValuePairs(type, (key, value) -> {
+        if (!streamed.containsKey(key))
+          streamed.put(key, new ArrayList<>());
+        if (!streamed.get(key).contains(value))
+          streamed.get(key).add(value);
+      });
+      assertEquals(index.keySet(), streamed.keySet());
+    }
+  }
+
+  @Test
+  public void testStreamedRepeatedSubfields() {
+    MarcRecord record = new MarcRecord();
+    record.setLeader("01445cem a22004454a 4500");
+    record.setField("650", " 0$aBiology$xHistory$xPeriodicals");
+    Map<String, List<String>> streamed = new HashMap<>();
+    record.writeKeyValuePairs(SolrFieldType.MARC, (key, value) -> {
+      if (!streamed.containsKey(key))
+        streamed.put(key, new ArrayList<>());
+      streamed.get(key).add(value);
+    });
+    assertEquals(Arrays.asList("Biology"), streamed.get("650a"));
+    assertEquals(Arrays.asList("History", "Periodicals"), streamed.get("650x"));
+  }
 }
@@ -0,0 +1,153 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Processes two files in two runs, merges their partial results, and compares the reports with
+ * the reports of a single run over both files.
+ */
+public class MergePartialResultsTest {
+
+  private String first;
+  private String second;
+  private File directory;
+
+  @Before
+  public void setUp() throws Exception {
+    first = FileUtils.getPath("general/0001-01.mrc").toString();
+    second = FileUtils.getPath("general/BooksAll.2014.part01-0001.mrc").toString();
+    directory = Files.createTempDirectory("merge").toFile();
+  }
+
+  @Test
+  public void testValidator() throws Exception {
+    String[] options = new String[]{"--nolog", "--summary", "--summaryFileName", "summary.csv"};
+
+    File single = run(new Validator(arguments(options, "single", null, first, second)));
+    File part1 = run(new Validator(arguments(options, "part1", "part1.partial", first)));
+    // the spilling collector of the second run gives its entries to the partial result
+    File part2 = run(new Validator(arguments(
+      with(options, "--emptyLargeCollectors"), "part2", "part2.partial", second)));
+
+    File merged = mkdir("merged");
+    // the second part is read first, so the error identifiers of the first part are remapped
+    Validator validator = new Validator(arguments(options, "merged", null));
+    int numberOfRecords = MergePartialResults.merge(validator, new String[]{
+      new File(part2, "part2.partial").getPath(), new File(part1, "part1.partial").getPath()
+    });
+    assertEquals(105, numberOfRecords);
+
+    ValidatorReports.assertSameSummary(single, merged, "summary.csv");
+  }
+
+  @Test
+  public void testClassificationAnalysis() throws Exception {
+    String[] options = new String[]{"--nolog"};
+    File single = run(new ClassificationAnalysis(arguments(options, "single", null, first, second)));
+    File part1 = run(new ClassificationAnalysis(arguments(options, "part1", "part1.partial", first)));
+    File part2 = run(new ClassificationAnalysis(arguments(options, "part2", "part2.partial", second)));
+
+    File merged = mkdir("merged");
+    MergePartialResults.merge(new ClassificationAnalysis(arguments(options, "merged", null)), new String[]{
+      new File(part1, "part1.partial").getPath(), new File(part2, "part2.partial").getPath()
+    });
+
+    assertTrue(ValidatorReports.readSorted(new File(single, "classifications-by-schema.csv")).size() > 1);
+    for (String fileName : Arrays.asList("classifications-by-schema.csv", "classifications-by-records.csv",
+                                         "classifications-histogram.csv", "classifications-by-schema-subfields.csv"))
+      assertEquals(fileName, ValidatorReports.readSorted(new File(single, fileName)), ValidatorReports.readSorted(new File(merged, fileName)));
+  }
+
+  @Test
+  public void testFunctionalAnalysis() throws Exception {
+    String[] options = new String[]{"--nolog"};
+    File single = run(new FunctionalAnalysis(arguments(options, "single", null, first, second)));
+    File part1 = run(new FunctionalAnalysis(arguments(options, "part1", "part1.partial", first)));
+    File part2 = run(new FunctionalAnalysis(arguments(options, "part2", "part2.partial", second)));
+
+    File merged = mkdir("merged");
+    MergePartialResults.merge(new FunctionalAnalysis(arguments(options, "merged", null)), new String[]{
+      new File(part1, "part1.partial").getPath(), new File(part2, "part2.partial").getPath()
+    });
+
+    assertTrue(ValidatorReports.readSorted(new File(single, "functional-analysis.csv")).size() > 1);
+    for (String fileName : Arrays.asList("functional-analysis.csv", "functional-analysis-histogram.csv"))
+      assertEquals(fileName, ValidatorReports.readSorted(new File(single, fileName)), ValidatorReports.readSorted(new File(merged, fileName)));
+  }
+
+  @Test
+  public void testMultiAnalysis() throws Exception {
+    String[] options = new String[]{"--nolog", "--analyses", "classifications,tt-completeness,functional-analysis"};
+    File single = run(new ClassificationAnalysis(arguments(new String[]{"--nolog"}, "single", null, first, second)));
+    File part1 = run(new MultiAnalysis(arguments(options, "part1", "part1.partial", first)));
+    File part2 = run(new MultiAnalysis(arguments(options, "part2", "part2.partial", second)));
+
+    // every analysis which can save its state has its own file
+    assertTrue(new File(part1, "part1.partial.classifications").exists());
+    assertTrue(new File(part1, "part1.partial.functional-analysis").exists());
+    assertFalse(new File(part1, "part1.partial.tt-completeness").exists());
+
+    File merged = mkdir("merged");
+    MergePartialResults.merge(new ClassificationAnalysis(arguments(new String[]{"--nolog"}, "merged", null)), new String[]{
+      new File(part1, "part1.partial.classifications").getPath(), new File(part2, "part2.partial.classifications").getPath()
+    });
+    for (String fileName : Arrays.asList("classifications-by-schema.csv", "classifications-by-records.csv"))
+      assertEquals(fileName, ValidatorReports.readSorted(new File(single, fileName)), ValidatorReports.readSorted(new File(merged, fileName)));
+  }
+
+  @Test
+  public void testMultiAnalysisWithoutPartialResults() throws Exception {
+    String[] options = new String[]{"--nolog", "--analyses", "tt-completeness"};
+    MarcFileProcessor processor = new MultiAnalysis(arguments(options, "part1", "part1.partial", first));
+    assertFalse(new RecordIterator(processor).iterate());
+  }
+
+  private File run(MarcFileProcessor processor) {
+    assertTrue(new RecordIterator(processor).iterate());
+    return new File(processor.getParameters().getOutputDir());
+  }
+
+  /**
+   * The arguments of a run, which writes its reports into the named subdirectory.
+   */
+  private String[] arguments(String[] options, String outputDir, String partialResult, String... files)
+      throws IOException {
+    List<String> arguments = new ArrayList<>(Arrays.asList(options));
+    File dir = mkdir(outputDir);
+    arguments.add("--outputDir");
+    arguments.add(dir.getPath());
+    if (partialResult != null) {
+      arguments.add("--partialResult");
+      arguments.add(new File(dir, partialResult).getPath());
+    }
+    arguments.addAll(Arrays.asList(files));
+    return arguments.toArray(new String[0]);
+  }
+
+  private File mkdir(String name) {
+    File dir = new File(directory, name);
+    dir.mkdirs();
+    return dir;
+  }
+
+  private static String[] with(String[] options, String option) {
+    String[] extended = Arrays.copyOf(options, options.length + 1);
+    extended[options.length] = option;
+    return extended;
+  }
+}
@@ -0,0 +1,95 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Compares the summary files of two Validator runs. The runs might give different identifiers
+ * to the same error, so the errors are compared without their identifiers.
+ */
+public class ValidatorReports {
+
+  private ValidatorReports() {
+  }
+
+  /**
+   * Asserts that the summary files (with the given summary file name) in the two directories
+   * contain the same errors, counts and collected records.
+   */
+  public static void assertSameSummary(File expectedDir, File actualDir, String summaryFileName)
+      throws IOException {
+    Map<Integer, String> expectedErrors = readSummary(new File(expectedDir, summaryFileName));
+    Map<Integer, String> actualErrors = readSummary(new File(actualDir, summaryFileName));
+    assertFalse(expectedErrors.isEmpty());
+    assertEquals(new TreeSet<>(expectedErrors.values()), new TreeSet<>(actualErrors.values()));
+
+    Map<String, Set<String>> expectedCollector = readCollector(
+      new File(expectedDir, "issue-collector.csv"), expectedErrors);
+    assertFalse(expectedCollector.isEmpty());
+    assertEquals(expectedCollector, readCollector(new File(actualDir, "issue-collector.csv"), actualErrors));
+
+    for (String fileName : Arrays.asList("issue-by-category.csv", "issue-by-type.csv", "issue-total.csv", "count.csv"))
+      assertEquals(fileName, readSorted(new File(expectedDir, fileName)), readSorted(new File(actualDir, fileName)));
+  }
+
+  /**
+   * @return The lines of the file without the header, in alphabetical order
+   */
+  public static List<String> readSorted(File file) throws IOException {
+    List<String> lines = new ArrayList<>(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    if (!lines.isEmpty())
+      lines.remove(0);
+    Collections.sort(lines);
+    return lines;
+  }
+
+  /**
+   * @return The rows of the summary without the identifier, by the identifier
+   */
+  private static Map<Integer, String> readSummary(File file) throws IOException {
+    Map<Integer, String> errors = new HashMap<>();
+    for (String line : readSorted(file)) {
+      int end = idEnd(line);
+      errors.put(Integer.parseInt(line.substring(0, end)), line.substring(end + 1));
+    }
+    return errors;
+  }
+
+  /**
+   * The issue collector might contain several rows for an error (with emptyLargeCollectors).
+   * @return The record identifiers by the summary row of the error
+   */
+  private static Map<String, Set<String>> readCollector(File file, Map<Integer, String> errors)
+      throws IOException {
+    Map<String, Set<String>> collector = new TreeMap<>();
+    for (String line : readSorted(file)) {
+      int end = idEnd(line);
+      String error = errors.get(Integer.parseInt(line.substring(0, end)));
+      if (!collector.containsKey(error))
+        collector.put(error, new TreeSet<>());
+      collector.get(error).addAll(Arrays.asList(line.substring(end + 1).split(";")));
+    }
+    return collector;
+  }
+
+  private static int idEnd(String line) {
+    int end = 0;
+    while (end < line.length() && Character.isDigit(line.charAt(end)))
+      end++;
+    return end;
+  }
+}
@@ -0,0 +1,90 @@
+package de.gwdg.metadataqa.marc.cli;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.cli.parameters.ValidatorParameters;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ValidatorTest {
+
+  @Test
+  public void testParquetDetailsWithSummary() throws Exception {
+    File outputDir = Files.createTempDirectory("validator").toFile();
+    Validator validator = new Validator(new String[]{
+      "--format", "parquet", "--details", "--summary", "--outputDir", outputDir.getPath(), "a-marc-file.mrc"
+    });
+    assertTrue(validator.readyToProcess());
+    validator.beforeIteration();
+    assertTrue(validator.readyToProcess());
+    validator.afterIteration(0);
+
+    assertTrue(new File(outputDir, "validation-report.parquet").exists());
+    // the header of the summary
+    File summary = new File(outputDir, ValidatorParameters.DEFAULT_SUMMARY_FILE_NAME);
+    assertTrue(summary.exists());
+    assertTrue(summary.length() > 0);
+    assertTrue(new File(outputDir, "issue-collector.csv").exists());
+  }
+
+  @Test
+  public void testCachedRunEqualsUncachedRun() throws Exception {
+    String input = FileUtils.getPath("general/BooksAll.2014.part01-0001.mrc").toString();
+    File directory = Files.createTempDirectory("validator").toFile();
+    File cache = new File(directory, "validation.cache");
+
+    File uncached = validate(directory, "uncached", input);
+    // the first run fills the cache, the second one takes the results from it
+    File filling = validate(directory, "filling", input, "--validationCache", cache.getPath());
+    assertTrue(cache.exists());
+    File cached = validate(directory, "cached", input, "--validationCache", cache.getPath());
+
+    for (String fileName : new String[]{"validation-report.txt", "summary.csv", "issue-collector.csv",
+                                        "issue-by-category.csv", "issue-by-type.csv", "issue-total.csv"}) {
+      List<String> expected = read(new File(uncached, fileName));
+      assertFalse(fileName, expected.isEmpty());
+      assertEquals(fileName, expected, read(new File(filling, fileName)));
+      assertEquals(fileName, expected, read(new File(cached, fileName)));
+    }
+  }
+
+  @Test
+  public void testCacheConfiguration() throws Exception {
+    String configuration = new Validator(new String[]{"a-marc-file.mrc"}).formatCacheConfiguration();
+    assertTrue(configuration.contains("version=" + Validator.getVersion()));
+    assertEquals(configuration, new Validator(new String[]{"a-marc-file.mrc"}).formatCacheConfiguration());
+    assertNotEquals(configuration,
+      new Validator(new String[]{"--defaultRecordType", "MAPS", "a-marc-file.mrc"}).formatCacheConfiguration());
+    assertNotEquals(configuration,
+      new Validator(new String[]{"--fixAlephseq", "a-marc-file.mrc"}).formatCacheConfiguration());
+    assertNotEquals(configuration,
+      new Validator(new String[]{"--summary", "a-marc-file.mrc"}).formatCacheConfiguration());
+  }
+
+  private File validate(File directory, String name, String input, String... cacheOptions) throws Exception {
+    File outputDir = new File(directory, name);
+    outputDir.mkdirs();
+    String[] options = new String[]{
+      "--nolog", "--details", "--summary", "--summaryFileName", "summary.csv", "--outputDir", outputDir.getPath()
+    };
+    String[] arguments = new String[options.length + cacheOptions.length + 1];
+    System.arraycopy(options, 0, arguments, 0, options.length);
+    System.arraycopy(cacheOptions, 0, arguments, options.length, cacheOptions.length);
+    arguments[arguments.length - 1] = input;
+    assertTrue(new RecordIterator(new Validator(arguments)).iterate());
+    return outputDir;
+  }
+
+  private static List<String> read(File file) throws Exception {
+    return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+  }
+}
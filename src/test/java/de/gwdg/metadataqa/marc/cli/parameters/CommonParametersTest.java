@@ -46,4 +46,24 @@ public class CommonParametersTest {
       e.printStackTrace();
     }
   }
+
+  @Test
+  public void testPartialResult() throws ParseException {
+    CommonParameters parameters = new CommonParameters(new String[]{"a-marc-file.mrc"});
+    assertFalse(parameters.doSavePartialResult());
+
+    parameters = new CommonParameters(new String[]{"--partialResult", "part-01.bin", "a-marc-file.mrc"});
+    assertTrue(parameters.doSavePartialResult());
+    assertEquals("part-01.bin", parameters.getPartialResult());
+  }
+
+  @Test
+  public void testParallelFiles() throws ParseException {
+    CommonParameters parameters = new CommonParameters(new String[]{"a-marc-file.mrc"});
+    assertFalse(parameters.processFilesInParallel());
+
+    parameters = new CommonParameters(new String[]{"--threads", "4", "--parallelFiles", "a.mrc.gz", "b.mrc.gz"});
+    assertTrue(parameters.processFilesInParallel());
+    assertEquals(4, parameters.getThreads());
+  }
 }
@@ -24,6 +24,9 @@ public class MarcToSolrParametersTest {
       assertFalse(parameters.doCommit());
       assertNotNull(parameters.getSolrFieldType());
       assertEquals(SolrFieldType.MARC, parameters.getSolrFieldType());
+
+      assertEquals(1, parameters.getBatchSize());
+      assertFalse(parameters.doBulkIndexing());
     } catch (ParseException e) {
       e.printStackTrace();
     }
@@ -95,4 +98,41 @@ public class MarcToSolrParametersTest {
       e.printStackTrace();
     }
   }
+
+  @Test
+  public void testBulkIndexing() {
+    String[] arguments = new String[]{"--batchSize", "500", "--senderThreads", "4", "--commitWithin", "30000", "a-marc-file.mrc"};
+    try {
+      MarcToSolrParameters parameters = new MarcToSolrParameters(arguments);
+      assertTrue(parameters.doBulkIndexing());
+      assertEquals(500, parameters.getBatchSize());
+      assertEquals(4, parameters.getSenderThreads());
+      assertEquals(30000, parameters.getCommitWithin());
+      assertEquals(1000, parameters.getFlushInterval());
+    } catch (ParseException e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Test
+  public void testNotNumericBatchSize() {
+    String[] arguments = new String[]{"--batchSize", "1k", "a-marc-file.mrc"};
+    try {
+      new MarcToSolrParameters(arguments);
+      fail("not numeric batch size is accepted");
+    } catch (ParseException e) {
+      assertEquals("batchSize should be a positive number, got '1k'", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testNegativeSenderThreads() {
+    String[] arguments = new String[]{"--senderThreads", "-2", "a-marc-file.mrc"};
+    try {
+      new MarcToSolrParameters(arguments);
+      fail("negative number of threads is accepted");
+    } catch (ParseException e) {
+      assertEquals("senderThreads should be a positive number, got '-2'", e.getMessage());
+    }
+  }
 }
@@ -0,0 +1,156 @@
+package de.gwdg.metadataqa.marc.cli.parameters;
+
+import org.apache.commons.cli.ParseException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MultiAnalysisParametersTest {
+
+  @Test
+  public void testDefaults() throws ParseException {
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{"a-marc-file.mrc"});
+    assertEquals(AnalysisType.values().length, parameters.getAnalyses().size());
+    assertEquals("a-marc-file.mrc", parameters.getArgs()[0]);
+  }
+
+  @Test
+  public void testAnalyses() throws ParseException {
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(
+      new String[]{"--analyses", "validate,completeness", "a-marc-file.mrc"});
+    assertEquals(
+      Arrays.asList(AnalysisType.VALIDATE, AnalysisType.COMPLETENESS),
+      parameters.getAnalyses());
+  }
+
+  @Test(expected = ParseException.class)
+  public void testUnknownAnalysis() throws ParseException {
+    new MultiAnalysisParameters(new String[]{"--analyses", "validate,nonexistent", "a-marc-file.mrc"});
+  }
+
+  @Test
+  public void testArgumentDistribution() throws ParseException {
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{
+      "--analyses", "validate,completeness",
+      "--details", "--summary", "--summaryFileName", "summary.csv",
+      "--advanced", "--outputDir", "/tmp", "a-marc-file.mrc"
+    });
+
+    List<String> validatorArgs = Arrays.asList(parameters.getArgumentsFor(AnalysisType.VALIDATE));
+    assertTrue(validatorArgs.contains("--details"));
+    assertTrue(validatorArgs.contains("--summaryFileName"));
+    assertTrue(validatorArgs.contains("summary.csv"));
+    assertFalse(validatorArgs.contains("--advanced"));
+    assertFalse(validatorArgs.contains("--analyses"));
+    assertEquals("a-marc-file.mrc", validatorArgs.get(validatorArgs.size() - 1));
+
+    ValidatorParameters validatorParameters = new ValidatorParameters(
+      parameters.getArgumentsFor(AnalysisType.VALIDATE));
+    assertTrue(validatorParameters.doSummary());
+    assertEquals("/tmp", validatorParameters.getOutputDir());
+
+    CompletenessParameters completenessParameters = new CompletenessParameters(
+      parameters.getArgumentsFor(AnalysisType.COMPLETENESS));
+    assertTrue(completenessParameters.isAdvanced());
+    assertEquals("/tmp", completenessParameters.getOutputDir());
+    assertEquals("a-marc-file.mrc", completenessParameters.getArgs()[0]);
+  }
+
+  @Test
+  public void testAllValuesAreForwarded() throws ParseException {
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{
+      "--analyses", "validate",
+      "--summaryFileName", "first.csv", "--summaryFileName", "second.csv", "a-marc-file.mrc", "b-marc-file.mrc"
+    });
+    assertEquals(
+      Arrays.asList("--summaryFileName", "first.csv", "--summaryFileName", "second.csv",
+                    "--", "a-marc-file.mrc", "b-marc-file.mrc"),
+      Arrays.asList(parameters.getArgumentsFor(AnalysisType.VALIDATE)));
+  }
+
+  @Test
+  public void testOptionWithPrefix() throws ParseException {
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{
+      "--analyses", "validate,completeness",
+      "--format", "tab-separated", "--completeness.format", "comma-separated", "a-marc-file.mrc"
+    });
+    assertEquals(
+      Arrays.asList("--format", "tab-separated", "--", "a-marc-file.mrc"),
+      Arrays.asList(parameters.getArgumentsFor(AnalysisType.VALIDATE)));
+    assertEquals(
+      Arrays.asList("--format", "comma-separated", "--", "a-marc-file.mrc"),
+      Arrays.asList(parameters.getArgumentsFor(AnalysisType.COMPLETENESS)));
+  }
+
+  @Test
+  public void testAmbiguousOption() throws ParseException {
+    // the Thompson-Traill completeness can not be written as tab separated values
+    try {
+      new MultiAnalysisParameters(new String[]{
+        "--analyses", "validate,tt-completeness", "--format", "tab-separated", "a-marc-file.mrc"});
+      fail("--format should be ambiguous");
+    } catch (ParseException e) {
+      assertTrue(e.getMessage().contains("--format"));
+    }
+
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{
+      "--analyses", "validate,tt-completeness",
+      "--validate.format", "tab-separated", "--tt-completeness.format", "parquet", "a-marc-file.mrc"});
+    assertEquals(
+      Arrays.asList("--format", "parquet", "--", "a-marc-file.mrc"),
+      Arrays.asList(parameters.getArgumentsFor(AnalysisType.TT_COMPLETENESS)));
+  }
+
+  @Test
+  public void testSameMeaningWithOtherHelpText() throws ParseException {
+    // the help texts of --format differ, but the analyses accept the same values
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{
+      "--analyses", "validate,tt-completeness", "--format", "parquet", "a-marc-file.mrc"});
+    assertEquals(
+      Arrays.asList("--format", "parquet", "--", "a-marc-file.mrc"),
+      Arrays.asList(parameters.getArgumentsFor(AnalysisType.TT_COMPLETENESS)));
+  }
+
+  @Test
+  public void testOnePassScriptArguments() throws ParseException {
+    // the arguments of do_all_analyses_in_one_pass in common-script
+    MultiAnalysisParameters parameters = new MultiAnalysisParameters(new String[]{
+      "--analyses",
+      "validate,completeness,classifications,authorities,tt-completeness,serial-score,functional-analysis,network-analysis",
+      "--details", "--trimId", "--summary", "--format", "csv", "--defaultRecordType", "BOOKS",
+      "--outputDir", "/tmp", "--detailsFileName", "issue-details.csv", "--summaryFileName", "issue-summary.csv",
+      "a-marc-file.mrc"
+    });
+    assertEquals(AnalysisType.values().length, parameters.getAnalyses().size());
+
+    ValidatorParameters validatorParameters = new ValidatorParameters(
+      parameters.getArgumentsFor(AnalysisType.VALIDATE));
+    assertTrue(validatorParameters.doDetails());
+    assertTrue(validatorParameters.doSummary());
+    assertEquals("issue-details.csv", validatorParameters.getDetailsFileName());
+    assertEquals("/tmp", validatorParameters.getOutputDir());
+
+    assertEquals("comma separated", new CompletenessParameters(
+      parameters.getArgumentsFor(AnalysisType.COMPLETENESS)).getFormat().getLabel());
+    assertEquals("comma separated", new ThompsonTraillCompletenessParameters(
+      parameters.getArgumentsFor(AnalysisType.TT_COMPLETENESS)).getFormat().getLabel());
+    assertEquals("comma separated", new SerialScoreParameters(
+      parameters.getArgumentsFor(AnalysisType.SERIAL_SCORE)).getFormat().getLabel());
+    new NetworkParameters(parameters.getArgumentsFor(AnalysisType.NETWORK_ANALYSIS));
+  }
+
+  @Test(expected = ParseException.class)
+  public void testCommonOptionWithPrefix() throws ParseException {
+    // the records are read once for all the analyses
+    new MultiAnalysisParameters(new String[]{"--tt-completeness.limit", "10", "a-marc-file.mrc"});
+  }
+
+  @Test(expected = ParseException.class)
+  public void testPrefixOfAnalysisNotRun() throws ParseException {
+    new MultiAnalysisParameters(new String[]{
+      "--analyses", "validate", "--completeness.advanced", "a-marc-file.mrc"});
+  }
+}
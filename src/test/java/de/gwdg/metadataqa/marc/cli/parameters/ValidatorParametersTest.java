@@ -115,4 +115,44 @@ public class ValidatorParametersTest {
       e.printStackTrace();
     }
   }
+
+  @Test
+  public void testParquetDetailsWithSummary() throws ParseException {
+    String[] arguments = new String[]{"--format", "parquet", "--details", "--summary", "a-marc-file.mrc"};
+    ValidatorParameters parameters = new ValidatorParameters(arguments);
+    assertEquals(ValidationErrorFormat.PARQUET, parameters.getFormat());
+    assertTrue(parameters.doDetails());
+    assertTrue(parameters.doSummary());
+    assertEquals(ValidatorParameters.DEFAULT_SUMMARY_FILE_NAME, parameters.getSummaryFileName());
+  }
+
+  @Test(expected = ParseException.class)
+  public void testParquetToStandardOutput() throws ParseException {
+    new ValidatorParameters(new String[]{"--format", "parquet", "--detailsFileName", "stdout", "a-marc-file.mrc"});
+  }
+
+  @Test
+  public void testCollectorBufferSize() {
+    String[] arguments = new String[]{"--collectorBufferSize", "5000", "a-marc-file.mrc"};
+    try {
+      ValidatorParameters parameters = new ValidatorParameters(arguments);
+      assertTrue(parameters.doSpillCollector());
+      assertEquals(5000, parameters.getCollectorBufferSize());
+    } catch (ParseException e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Test
+  public void testValidationCache() {
+    String[] arguments = new String[]{"--validationCache", "validation.cache", "--changedBy005", "a-marc-file.mrc"};
+    try {
+      ValidatorParameters parameters = new ValidatorParameters(arguments);
+      assertTrue(parameters.useValidationCache());
+      assertEquals("validation.cache", parameters.getValidationCache());
+      assertTrue(parameters.isChangedBy005());
+    } catch (ParseException e) {
+      e.printStackTrace();
+    }
+  }
 }
@@ -0,0 +1,149 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.cli.ClassificationAnalysis;
+import de.gwdg.metadataqa.marc.cli.Completeness;
+import de.gwdg.metadataqa.marc.cli.ThompsonTraillCompleteness;
+import de.gwdg.metadataqa.marc.cli.ValidatorReports;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the analyses of ParallelAnalysis on a local Spark, and compares their reports with the
+ * reports of the same analyses run by RecordIterator.
+ */
+public class ParallelAnalysisTest {
+
+  private static final String ISO_FILE = "general/BooksAll.2014.part01-0001.mrc";
+  private static JavaSparkContext context;
+
+  @BeforeClass
+  public static void startSpark() {
+    context = new JavaSparkContext(new SparkConf().setMaster("local[*]").setAppName("ParallelAnalysisTest"));
+    // small splits, so the records of the file are read by several readers
+    context.hadoopConfiguration().setLong("mapreduce.input.fileinputformat.split.maxsize", 16 * 1024);
+  }
+
+  @AfterClass
+  public static void stopSpark() {
+    context.close();
+  }
+
+  @Test
+  public void testCompleteness() throws Exception {
+    File directory = Files.createTempDirectory("parallel").toFile();
+    File single = run(new Completeness(arguments(directory, "single")), false);
+    File parallel = run(new Completeness(arguments(directory, "parallel")), true);
+    assertSameReports(single, parallel);
+  }
+
+  @Test
+  public void testClassificationAnalysis() throws Exception {
+    File directory = Files.createTempDirectory("parallel").toFile();
+    File single = run(new ClassificationAnalysis(arguments(directory, "single")), false);
+    File parallel = run(new ClassificationAnalysis(arguments(directory, "parallel")), true);
+    assertSameReports(single, parallel);
+  }
+
+  @Test
+  public void testThompsonTraillCsv() throws Exception {
+    File directory = Files.createTempDirectory("parallel").toFile();
+    File single = runThompsonTraill(directory, "single", false);
+    File parallel = runThompsonTraill(directory, "parallel", true);
+
+    List<String> expected = Files.readAllLines(new File(single, "tt.csv").toPath(), StandardCharsets.UTF_8);
+    assertEquals(101, expected.size());
+    assertEquals(expected, Files.readAllLines(new File(parallel, "tt.csv").toPath(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testThompsonTraillParquet() throws Exception {
+    File directory = Files.createTempDirectory("parallel").toFile();
+    File single = runThompsonTraill(directory, "single", false, "--format", "parquet");
+    File parallel = runThompsonTraill(directory, "parallel", true, "--format", "parquet");
+
+    List<String> expected = readParquet(new File(single, "tt.parquet"));
+    assertEquals(100, expected.size());
+    assertEquals(expected, readParquet(new File(parallel, "tt.parquet")));
+  }
+
+  private <T extends MergeableProcessor<T> & Serializable> File run(T processor, boolean onSpark) {
+    if (onSpark)
+      assertEquals(100, SparkAnalysis.process(
+        SparkAnalysis.readRecords(context, processor.getParameters().getArgs()[0], processor.getParameters()),
+        processor));
+    else
+      assertTrue(new RecordIterator(processor).iterate());
+    return new File(processor.getParameters().getOutputDir());
+  }
+
+  private static String[] arguments(File directory, String name) throws Exception {
+    File outputDir = new File(directory, name);
+    outputDir.mkdirs();
+    return new String[]{"--nolog", "--outputDir", outputDir.getPath(), FileUtils.getPath(ISO_FILE).toString()};
+  }
+
+  /**
+   * Every report of the first directory has the same lines (in any order) in the second one.
+   */
+  private static void assertSameReports(File expectedDir, File actualDir) throws IOException {
+    File[] reports = expectedDir.listFiles();
+    assertTrue(reports.length > 0);
+    for (File report : reports)
+      assertEquals(report.getName(),
+        ValidatorReports.readSorted(report), ValidatorReports.readSorted(new File(actualDir, report.getName())));
+  }
+
+  private File runThompsonTraill(File directory, String name, boolean onSpark, String... options) throws Exception {
+    File outputDir = new File(directory, name);
+    outputDir.mkdirs();
+    List<String> arguments = new ArrayList<>();
+    for (String option : options)
+      arguments.add(option);
+    arguments.add("--fileName");
+    arguments.add("tt.csv");
+    arguments.add("--outputDir");
+    arguments.add(outputDir.getPath());
+    arguments.add(FileUtils.getPath(ISO_FILE).toString());
+    ThompsonTraillCompleteness processor = new ThompsonTraillCompleteness(arguments.toArray(new String[0]));
+
+    if (onSpark)
+      assertEquals(100, ParallelAnalysis.processThompsonTraill(
+        SparkAnalysis.readRecords(context, processor.getParameters().getArgs()[0], processor.getParameters()),
+        processor));
+    else
+      assertTrue(new RecordIterator(processor).iterate());
+    return outputDir;
+  }
+
+  private static List<String> readParquet(File file) throws IOException {
+    List<String> rows = new ArrayList<>();
+    try (ParquetReader<Group> reader = ParquetReader
+        .builder(new GroupReadSupport(), new Path(file.getAbsoluteFile().toURI())).build()) {
+      Group row;
+      while ((row = reader.read()) != null)
+        rows.add(row.toString());
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,97 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.cli.Validator;
+import de.gwdg.metadataqa.marc.cli.ValidatorReports;
+import de.gwdg.metadataqa.marc.cli.utils.RecordIterator;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.marc4j.MarcXmlWriter;
+import org.marc4j.marc.Record;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validates the same file with ParallelValidator on a local Spark, and with the Validator, and
+ * compares their summary files.
+ */
+public class ParallelValidatorTest {
+
+  private static final String ISO_FILE = "general/BooksAll.2014.part01-0001.mrc";
+  private static JavaSparkContext context;
+
+  @BeforeClass
+  public static void startSpark() {
+    context = new JavaSparkContext(new SparkConf().setMaster("local[*]").setAppName("ParallelValidatorTest"));
+    // small splits, so the records of the file are read by several readers
+    context.hadoopConfiguration().setLong("mapreduce.input.fileinputformat.split.maxsize", 16 * 1024);
+  }
+
+  @AfterClass
+  public static void stopSpark() {
+    context.close();
+  }
+
+  @Test
+  public void testIso2709() throws Exception {
+    compare(FileUtils.getPath(ISO_FILE).toString());
+  }
+
+  @Test
+  public void testMarcXmlWithNamespacePrefix() throws Exception {
+    String xml = toMarcXml(FileUtils.getPath(ISO_FILE).toString());
+    // the records are in the MARC namespace, with a prefix the readers do not know beforehand
+    String prefixed = xml
+      .replace("xmlns=\"http://www.loc.gov/MARC21/slim\"", "xmlns:mx=\"http://www.loc.gov/MARC21/slim\"")
+      .replaceAll("<(/?)(collection|record|leader|controlfield|datafield|subfield)([\\s>/])", "<$1mx:$2$3");
+    assertTrue(prefixed.contains("<mx:record"));
+    File file = new File(Files.createTempDirectory("parallel").toFile(), "records.xml");
+    Files.write(file.toPath(), prefixed.getBytes(StandardCharsets.UTF_8));
+    assertTrue(file.length() > 2 * 16 * 1024);
+
+    compare(file.getPath(), "--marcxml");
+  }
+
+  private void compare(String input, String... inputOptions) throws Exception {
+    File directory = Files.createTempDirectory("parallel").toFile();
+    File single = new File(directory, "single");
+    File parallel = new File(directory, "parallel");
+    single.mkdirs();
+    parallel.mkdirs();
+
+    assertTrue(new RecordIterator(new Validator(arguments(single, input, inputOptions))).iterate());
+    assertEquals(100, ParallelValidator.validate(context, new Validator(arguments(parallel, input, inputOptions))));
+
+    ValidatorReports.assertSameSummary(single, parallel, "summary.csv");
+  }
+
+  private String[] arguments(File outputDir, String input, String... inputOptions) {
+    String[] options = new String[]{
+      "--nolog", "--summary", "--summaryFileName", "summary.csv", "--outputDir", outputDir.getPath()
+    };
+    String[] arguments = new String[options.length + inputOptions.length + 1];
+    System.arraycopy(options, 0, arguments, 0, options.length);
+    System.arraycopy(inputOptions, 0, arguments, options.length, inputOptions.length);
+    arguments[arguments.length - 1] = input;
+    return arguments;
+  }
+
+  private static String toMarcXml(String isoFile) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MarcXmlWriter writer = new MarcXmlWriter(out, "UTF-8");
+    for (Record marc4jRecord : ReadMarc.read(isoFile))
+      writer.write(marc4jRecord);
+    writer.close();
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,138 @@
+package de.gwdg.metadataqa.marc.cli.spark;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SplitRecordReaderTest {
+
+  private static final String ISO_FILE = "src/test/resources/general/0001-01.mrc";
+
+  @Test
+  public void testIso2709Splits() throws Exception {
+    File file = new File(ISO_FILE);
+    List<String> expected = readIso2709(file, new long[]{0, file.length()});
+    assertEquals(5, expected.size());
+
+    for (long splitSize : new long[]{1, 7, 24, 100, 1000, 1234}) {
+      assertEquals("split size " + splitSize, expected, readIso2709(file, boundaries(file.length(), splitSize)));
+    }
+  }
+
+  @Test
+  public void testIso2709LineBreaks() throws Exception {
+    byte[] content = ("aaaa\u001D\nbbbb\u001D\r\ncc\u001D").getBytes(StandardCharsets.ISO_8859_1);
+    File file = File.createTempFile("records", ".mrc");
+    Files.write(file.toPath(), content);
+    for (long splitSize = 1; splitSize <= content.length; splitSize++)
+      assertEquals(
+        "split size " + splitSize,
+        "[aaaa\u001D, bbbb\u001D, cc\u001D]",
+        readIso2709(file, boundaries(content.length, splitSize)).toString());
+  }
+
+  @Test
+  public void testMarcXmlSplits() throws Exception {
+    String xml = "<?xml version=\"1.0\"?>\n"
+      + "<marc:collection xmlns:marc=\"http://www.loc.gov/MARC21/slim\">\n"
+      + "<marc:record><marc:leader>1</marc:leader></marc:record>\n"
+      + "<marc:record/>\n"
+      + "<marc:record><marc:controlfield tag=\"001\">2</marc:controlfield></marc:record>\n"
+      + "<marc:recordx>no</marc:recordx>\n"
+      + "<marc:record><marc:subfield code=\"a\">3 &lt; 4</marc:subfield></marc:record>\n"
+      + "</marc:collection>\n";
+    byte[] content = xml.getBytes(StandardCharsets.UTF_8);
+    File file = File.createTempFile("records", ".xml");
+    Files.write(file.toPath(), content);
+
+    // the namespace declaration of the collection is copied into every record
+    String start = "<marc:record xmlns:marc=\"http://www.loc.gov/MARC21/slim\">";
+    List<String> expected = new ArrayList<>();
+    expected.add(start + "<marc:leader>1</marc:leader></marc:record>");
+    expected.add(start + "<marc:controlfield tag=\"001\">2</marc:controlfield></marc:record>");
+    expected.add(start + "<marc:subfield code=\"a\">3 &lt; 4</marc:subfield></marc:record>");
+    for (long splitSize = 1; splitSize <= content.length; splitSize += 3)
+      assertEquals("split size " + splitSize, expected, readMarcXml(file, boundaries(content.length, splitSize)));
+  }
+
+  @Test
+  public void testMarcXmlNamespaces() throws Exception {
+    String xml = "<?xml version=\"1.0\"?>\n"
+      + "<!-- the records of 2 > 1 libraries -->\n"
+      + "<mx:collection xmlns:mx='http://www.loc.gov/MARC21/slim' xmlns=\"urn:other\">\n"
+      + "<mx:record type=\"Bibliographic\"><mx:leader>1</mx:leader></mx:record>\n"
+      + "<mx:record xmlns:mx=\"http://www.loc.gov/MARC21/slim\"><mx:leader>2</mx:leader></mx:record>\n"
+      + "</mx:collection>\n";
+    byte[] content = xml.getBytes(StandardCharsets.UTF_8);
+    File file = File.createTempFile("records", ".xml");
+    Files.write(file.toPath(), content);
+
+    List<String> expected = new ArrayList<>();
+    expected.add("<mx:record xmlns:mx='http://www.loc.gov/MARC21/slim' xmlns=\"urn:other\" type=\"Bibliographic\">"
+      + "<mx:leader>1</mx:leader></mx:record>");
+    // a declaration of the record is not repeated
+    expected.add("<mx:record xmlns=\"urn:other\" xmlns:mx=\"http://www.loc.gov/MARC21/slim\">"
+      + "<mx:leader>2</mx:leader></mx:record>");
+    for (long splitSize = 1; splitSize <= content.length; splitSize += 5)
+      assertEquals("split size " + splitSize, expected, readMarcXml(file, boundaries(content.length, splitSize)));
+  }
+
+  private long[] boundaries(long length, long splitSize) {
+    int n = (int) ((length + splitSize - 1) / splitSize);
+    long[] boundaries = new long[n + 1];
+    for (int i = 0; i < n; i++)
+      boundaries[i] = i * splitSize;
+    boundaries[n] = length;
+    return boundaries;
+  }
+
+  private List<String> readIso2709(File file, long[] boundaries) throws IOException {
+    List<String> records = new ArrayList<>();
+    for (int i = 0; i < boundaries.length - 1; i++) {
+      Iso2709RecordReader reader = new Iso2709RecordReader();
+      reader.initialize(split(file, boundaries[i], boundaries[i + 1]), context());
+      while (reader.nextKeyValue()) {
+        BytesWritable value = reader.getCurrentValue();
+        records.add(new String(value.getBytes(), 0, value.getLength(), StandardCharsets.ISO_8859_1));
+      }
+      reader.close();
+    }
+    return records;
+  }
+
+  private List<String> readMarcXml(File file, long[] boundaries) throws IOException {
+    List<String> records = new ArrayList<>();
+    for (int i = 0; i < boundaries.length - 1; i++) {
+      MarcXmlRecordReader reader = new MarcXmlRecordReader();
+      reader.initialize(split(file, boundaries[i], boundaries[i + 1]), context());
+      while (reader.nextKeyValue()) {
+        Text value = reader.getCurrentValue();
+        records.add(value.toString());
+      }
+      reader.close();
+    }
+    return records;
+  }
+
+  private FileSplit split(File file, long start, long end) {
+    return new FileSplit(new Path(file.getAbsolutePath()), start, end - start, new String[0]);
+  }
+
+  private TaskAttemptContextImpl context() {
+    return new TaskAttemptContextImpl(new Configuration(), new TaskAttemptID());
+  }
+}
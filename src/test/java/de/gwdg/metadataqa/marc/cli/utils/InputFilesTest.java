@@ -0,0 +1,80 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InputFilesTest {
+
+  @Test
+  public void testDirectory() throws IOException {
+    Path directory = createDumps();
+    List<Path> files = InputFiles.expand(new String[]{directory.toString()});
+    assertEquals(
+      Arrays.asList(directory.resolve("a.mrc.gz"), directory.resolve("b.mrc.gz"), directory.resolve("c.xml.bz2")),
+      files);
+  }
+
+  @Test
+  public void testGlob() throws IOException {
+    Path directory = createDumps();
+    List<Path> files = InputFiles.expand(new String[]{directory + "/*.mrc.gz"});
+    assertEquals(Arrays.asList(directory.resolve("a.mrc.gz"), directory.resolve("b.mrc.gz")), files);
+
+    files = InputFiles.expand(new String[]{directory + "/**.xml.bz2"});
+    assertEquals(Arrays.asList(directory.resolve("c.xml.bz2"), directory.resolve("sub/d.xml.bz2")), files);
+
+    files = InputFiles.expand(new String[]{directory + "/sub/*.seq", directory + "/c.xml.bz2"});
+    assertEquals(Arrays.asList(directory.resolve("c.xml.bz2")), files);
+  }
+
+  @Test
+  public void testFilesAreKept() throws IOException {
+    List<Path> files = InputFiles.expand(new String[]{"not-existing.mrc", "other.mrc"});
+    assertEquals(2, files.size());
+    assertEquals("not-existing.mrc", files.get(0).toString());
+    assertEquals("other.mrc", files.get(1).toString());
+  }
+
+  @Test
+  public void testIsGlob() {
+    assertTrue(InputFiles.isGlob("dumps/*.mrc"));
+    assertTrue(InputFiles.isGlob("dumps/part-0?.mrc"));
+    assertTrue(InputFiles.isGlob("dumps/{a,b}.mrc"));
+    assertFalse(InputFiles.isGlob("dumps/a.mrc"));
+  }
+
+  @Test
+  public void testExistingFileWithGlobCharacters() throws IOException {
+    Path directory = Files.createTempDirectory("dumps");
+    Path brackets = Files.write(directory.resolve("dump[2019].mrc"), new byte[]{0});
+    Path braces = Files.write(directory.resolve("{a,b}.mrc"), new byte[]{0});
+    Files.write(directory.resolve("a.mrc"), new byte[]{0});
+
+    assertFalse(InputFiles.isGlob(brackets.toString()));
+    List<Path> files = InputFiles.expand(new String[]{brackets.toString(), braces.toString()});
+    assertEquals(Arrays.asList(brackets, braces), files);
+
+    // a pattern which is not an existing file name is still expanded
+    files = InputFiles.expand(new String[]{directory + "/{a,c}.mrc"});
+    assertEquals(Arrays.asList(directory.resolve("a.mrc")), files);
+  }
+
+  private static Path createDumps() throws IOException {
+    Path directory = Files.createTempDirectory("dumps");
+    for (String name : Arrays.asList("b.mrc.gz", "a.mrc.gz", "c.xml.bz2", ".hidden", "sub/d.xml.bz2")) {
+      Path file = directory.resolve(name);
+      Files.createDirectories(file.getParent());
+      Files.write(file, new byte[]{0});
+    }
+    return directory;
+  }
+}
@@ -0,0 +1,67 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter.ColumnType.DOUBLE;
+import static de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter.ColumnType.INT;
+import static de.gwdg.metadataqa.marc.cli.utils.ParquetReportWriter.ColumnType.STRING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ParquetReportWriterTest {
+
+  @Test
+  public void testFileName() {
+    assertEquals("validation-report.parquet", ParquetReportWriter.toParquetFileName("validation-report.txt"));
+    assertEquals("marc-elements.parquet", ParquetReportWriter.toParquetFileName("marc-elements"));
+    assertEquals("tt.completeness.parquet", ParquetReportWriter.toParquetFileName("tt.completeness.csv"));
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    File file = new File(Files.createTempDirectory("report").toFile(), "details.parquet");
+    ParquetReportWriter writer = new ParquetReportWriter(
+      file, Arrays.asList("recordId", "errorId", "mean"), Arrays.asList(STRING, INT, DOUBLE));
+    writer.write("001", 3, 1.5);
+    writer.write("002", 4L);
+    writer.close();
+
+    assertTrue(file.exists());
+    assertFalse(new File(file.getParentFile(), ".details.parquet.crc").exists());
+
+    try (ParquetReader<Group> reader = ParquetReader
+        .builder(new GroupReadSupport(), new Path(file.getAbsoluteFile().toURI())).build()) {
+      Group row = reader.read();
+      assertEquals("001", row.getString("recordId", 0));
+      assertEquals(3, row.getInteger("errorId", 0));
+      assertEquals(1.5, row.getDouble("mean", 0), 0.0);
+
+      row = reader.read();
+      assertEquals("002", row.getString("recordId", 0));
+      assertEquals(4, row.getInteger("errorId", 0));
+      assertEquals(0, row.getFieldRepetitionCount("mean"));
+
+      assertNull(reader.read());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyValues() throws IOException {
+    File file = new File(Files.createTempDirectory("report").toFile(), "scores.parquet");
+    try (ParquetReportWriter writer = new ParquetReportWriter(
+        file, Arrays.asList("id", "total"), Arrays.asList(STRING, INT))) {
+      writer.write("001", 1, 2);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+import org.apache.commons.cli.Options;
+import org.junit.Test;
+import org.marc4j.marc.Record;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RecordIteratorTest {
+
+  @Test
+  public void testParallelFilesEqualsSequential() throws Exception {
+    Path directory = createInput();
+
+    CountingProcessor sequential = new CountingProcessor(
+      new CommonParameters(new String[]{"--nolog", directory.toString()}), null);
+    assertTrue(new RecordIterator(sequential).iterate());
+
+    CountingProcessor parallel = new CountingProcessor(
+      new CommonParameters(new String[]{"--nolog", "--threads", "2", "--parallelFiles", directory.toString()}), null);
+    assertTrue(new RecordIterator(parallel).iterate());
+
+    assertEquals(Arrays.asList("a.mrc", "b.mrc", "c.mrc"), sorted(sequential.openedFiles));
+    assertEquals(Arrays.asList("a.mrc", "b.mrc", "c.mrc"), sorted(parallel.openedFiles));
+    assertEquals(3, sequential.processedFiles);
+    assertEquals(3, parallel.processedFiles);
+
+    assertEquals(110, sequential.numberOfRecords);
+    assertEquals(110, parallel.numberOfRecords);
+    assertEquals(110, sequential.ids.size());
+    assertEquals(sorted(sequential.ids), sorted(parallel.ids));
+  }
+
+  @Test
+  public void testFailingFileStopsParallelFiles() throws Exception {
+    Path directory = createInput();
+    CountingProcessor processor = new CountingProcessor(
+      new CommonParameters(new String[]{"--nolog", "--threads", "2", "--parallelFiles", directory.toString()}),
+      "b.mrc");
+    assertFalse(new RecordIterator(processor).iterate());
+    assertFalse(processor.openedFiles.contains("b.mrc"));
+    assertEquals("afterIteration should not be called", -1, processor.numberOfRecords);
+  }
+
+  @Test
+  public void testNativeReaderIsNotUsedForMarc4jProcessors() throws Exception {
+    Path directory = createInput();
+    Marc4jProcessor processor = new Marc4jProcessor(
+      new CommonParameters(new String[]{"--nolog", "--nativeReader", directory.toString()}));
+    assertTrue(new RecordIterator(processor).iterate());
+    List<String> ids = ((CountingProcessor) processor).ids;
+    assertEquals(110, ids.size());
+    assertEquals(ids, processor.marc4jIds);
+  }
+
+  private Path createInput() throws Exception {
+    Path directory = Files.createTempDirectory("iterator");
+    Files.copy(FileUtils.getPath("general/0001-01.mrc"), directory.resolve("a.mrc"));
+    Files.copy(FileUtils.getPath("general/BooksAll.2014.part01-0001.mrc"), directory.resolve("b.mrc"));
+    Files.copy(FileUtils.getPath("general/0001-01.mrc"), directory.resolve("c.mrc"));
+    return directory;
+  }
+
+  private static List<String> sorted(List<String> values) {
+    List<String> copy = new ArrayList<>(values);
+    Collections.sort(copy);
+    return copy;
+  }
+
+  /**
+   * Counts the files and collects the record identifiers, its workers are merged by summing them.
+   */
+  private static class CountingProcessor implements MergeableProcessor<CountingProcessor> {
+    private final CommonParameters parameters;
+    private final String failingFile;
+    private final List<String> openedFiles = new ArrayList<>();
+    private final List<String> ids = new ArrayList<>();
+    private int processedFiles = 0;
+    private int numberOfRecords = -1;
+
+    CountingProcessor(CommonParameters parameters, String failingFile) {
+      this.parameters = parameters;
+      this.failingFile = failingFile;
+    }
+
+    @Override
+    public CommonParameters getParameters() {
+      return parameters;
+    }
+
+    @Override
+    public void processRecord(Record marc4jRecord, int recordNumber) {
+    }
+
+    @Override
+    public void processRecord(MarcRecord marcRecord, int recordNumber) {
+      ids.add(marcRecord.getId());
+    }
+
+    @Override
+    public void beforeIteration() {
+    }
+
+    @Override
+    public void fileOpened(Path path) {
+      String fileName = path.getFileName().toString();
+      if (fileName.equals(failingFile))
+        throw new IllegalStateException("Can not open " + fileName);
+      openedFiles.add(fileName);
+    }
+
+    @Override
+    public void fileProcessed() {
+      processedFiles++;
+    }
+
+    @Override
+    public void afterIteration(int numberOfprocessedRecords) {
+      numberOfRecords = numberOfprocessedRecords;
+    }
+
+    @Override
+    public void printHelp(Options options) {
+    }
+
+    @Override
+    public boolean readyToProcess() {
+      return true;
+    }
+
+    @Override
+    public CountingProcessor createWorker() {
+      return new CountingProcessor(parameters, failingFile);
+    }
+
+    @Override
+    public void merge(CountingProcessor worker) {
+      openedFiles.addAll(worker.openedFiles);
+      ids.addAll(worker.ids);
+      processedFiles += worker.processedFiles;
+    }
+  }
+
+  /**
+   * Collects the identifiers of the marc4j records as well.
+   */
+  private static class Marc4jProcessor extends CountingProcessor {
+    private final List<String> marc4jIds = new ArrayList<>();
+
+    Marc4jProcessor(CommonParameters parameters) {
+      super(parameters, null);
+    }
+
+    @Override
+    public void processRecord(Record marc4jRecord, int recordNumber) {
+      marc4jIds.add(marc4jRecord.getControlNumber());
+    }
+
+    @Override
+    public boolean needsMarc4jRecords() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.cli.Completeness;
+import de.gwdg.metadataqa.marc.cli.parameters.CommonParameters;
+import de.gwdg.metadataqa.marc.cli.processor.MarcFileProcessor;
+import de.gwdg.metadataqa.marc.cli.processor.MergeableProcessor;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.apache.commons.cli.Options;
+import org.junit.Test;
+import org.marc4j.marc.Record;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RecordWorkerPoolTest {
+
+  private static final String[] OUTPUT_FILES = new String[]{
+    "libraries003.csv", "libraries.csv", "packages.csv", "marc-elements.csv"
+  };
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testParallelCompletenessEqualsSequential() throws Exception {
+    List<Record> records = ReadMarc.read(FileUtils.getPath("general/0001-01.mrc").toString());
+
+    Path sequentialDir = Files.createTempDirectory("sequential");
+    Completeness sequential = new Completeness(new String[]{"--outputDir", sequentialDir.toString()});
+    sequential.beforeIteration();
+    int i = 0;
+    for (Record record : records)
+      sequential.processRecord(MarcFactory.createFromMarc4j(record), ++i);
+    sequential.afterIteration(i);
+
+    Path parallelDir = Files.createTempDirectory("parallel");
+    Completeness parallel = new Completeness(new String[]{"--outputDir", parallelDir.toString()});
+    parallel.beforeIteration();
+    RecordWorkerPool pool = new RecordWorkerPool(
+      (MergeableProcessor<MarcFileProcessor>) (MergeableProcessor<?>) parallel, 4);
+    i = 0;
+    for (Record record : records) {
+      final int recordNumber = ++i;
+      pool.submit(worker -> {
+        try {
+          worker.processRecord(MarcFactory.createFromMarc4j(record), recordNumber);
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+    }
+    pool.finish();
+    parallel.afterIteration(i);
+
+    for (String fileName : OUTPUT_FILES)
+      assertEquals(fileName,
+        read(new File(sequentialDir.toFile(), fileName)),
+        read(new File(parallelDir.toFile(), fileName)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testWorkerNotReadySkipsTasks() throws Exception {
+    ReadyProcessor processor = new ReadyProcessor();
+    RecordWorkerPool pool = new RecordWorkerPool(
+      (MergeableProcessor<MarcFileProcessor>) (MergeableProcessor<?>) processor, 2);
+    pool.submit(worker -> processor.processed.incrementAndGet());
+    // the parent is not ready any more, e.g. its report file could not be written
+    pool.submit(worker -> processor.ready = false);
+    // more tasks than the size of the queue: the pool still takes them, so submit does not block
+    for (int i = 0; i < 1000; i++)
+      pool.submit(worker -> processor.processed.incrementAndGet());
+    pool.finish();
+
+    // only the tasks the other thread took while the flag was set ran after it
+    assertTrue(processor.processed.get() < 100);
+    assertEquals(2, processor.merged);
+  }
+
+  private String read(File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), "UTF-8");
+  }
+
+  /**
+   * A processor, whose workers are ready as long as their parent is.
+   */
+  private static class ReadyProcessor implements MergeableProcessor<MarcFileProcessor> {
+    private final ReadyProcessor parent;
+    private final AtomicInteger processed;
+    private volatile boolean ready = true;
+    private int merged = 0;
+
+    ReadyProcessor() {
+      this(null);
+    }
+
+    private ReadyProcessor(ReadyProcessor parent) {
+      this.parent = parent;
+      processed = parent == null ? new AtomicInteger() : parent.processed;
+    }
+
+    @Override
+    public CommonParameters getParameters() {
+      return null;
+    }
+
+    @Override
+    public void processRecord(Record marc4jRecord, int recordNumber) {
+    }
+
+    @Override
+    public void processRecord(MarcRecord marcRecord, int recordNumber) {
+    }
+
+    @Override
+    public void beforeIteration() {
+    }
+
+    @Override
+    public void fileOpened(Path path) {
+    }
+
+    @Override
+    public void fileProcessed() {
+    }
+
+    @Override
+    public void afterIteration(int numberOfprocessedRecords) {
+    }
+
+    @Override
+    public void printHelp(Options options) {
+    }
+
+    @Override
+    public boolean readyToProcess() {
+      return ready && (parent == null || parent.readyToProcess());
+    }
+
+    @Override
+    public MarcFileProcessor createWorker() {
+      return new ReadyProcessor(this);
+    }
+
+    @Override
+    public void merge(MarcFileProcessor worker) {
+      merged++;
+    }
+  }
+}
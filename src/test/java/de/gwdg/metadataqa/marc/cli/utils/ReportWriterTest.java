@@ -0,0 +1,63 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReportWriterTest {
+
+  @Test
+  public void testPlainOutput() throws IOException {
+    File file = new File(Files.createTempDirectory("report").toFile(), "details.csv");
+    ReportWriter writer = new ReportWriter(file);
+    writer.write("id,errors\n");
+    writer.write("\"001\",Ünknown\n");
+    writer.close();
+
+    assertEquals(file, writer.getFile());
+    assertEquals(
+      "id,errors\n\"001\",Ünknown\n",
+      new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  public void testOverwritesExistingFile() throws IOException {
+    File file = new File(Files.createTempDirectory("report").toFile(), "details.csv");
+    Files.write(file.toPath(), "old content\n".getBytes(StandardCharsets.UTF_8));
+
+    ReportWriter writer = new ReportWriter(file);
+    writer.write("new content\n");
+    writer.close();
+
+    assertEquals("new content\n", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testGzipOutput() throws IOException {
+    File file = new File(Files.createTempDirectory("report").toFile(), "details.csv");
+    ReportWriter writer = new ReportWriter(file, 16, true);
+    for (int i = 0; i < 1000; i++)
+      writer.write(String.format("\"%d\",1\n", i));
+    writer.close();
+
+    assertEquals(file.getPath() + ReportWriter.GZIP_EXTENSION, writer.getFile().getPath());
+    assertTrue(writer.getFile().exists());
+    try (InputStream in = new GZIPInputStream(new FileInputStream(writer.getFile()))) {
+      String content = IOUtils.toString(in, StandardCharsets.UTF_8);
+      assertTrue(content.startsWith("\"0\",1\n\"1\",1\n"));
+      assertTrue(content.endsWith("\"999\",1\n"));
+      assertEquals(1000, content.split("\n").length);
+    }
+  }
+}
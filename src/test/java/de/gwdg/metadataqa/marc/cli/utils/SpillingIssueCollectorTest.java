@@ -0,0 +1,102 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SpillingIssueCollectorTest {
+
+  @Test
+  public void testInMemory() throws IOException {
+    File directory = Files.createTempDirectory("collector").toFile();
+    SpillingIssueCollector collector = new SpillingIssueCollector(directory, 100);
+    collector.add("r1", Arrays.asList(2, 1));
+    collector.add("r2", Collections.singletonList(2));
+    collector.add("r3", Collections.<Integer>emptyList());
+
+    assertEquals("1,r1\n2,r1;r2\n", write(collector, 0));
+    collector.close();
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void testSpill() throws IOException {
+    File directory = Files.createTempDirectory("collector").toFile();
+    SpillingIssueCollector collector = new SpillingIssueCollector(directory, 2);
+    collector.add("r1", Arrays.asList(3, 1));
+    collector.add("r2", Arrays.asList(1, 2));
+    collector.add("r3", Arrays.asList(1, 2, 3));
+    collector.add("r4", Collections.singletonList(3));
+
+    assertEquals("1,r1;r2;r3\n2,r2;r3\n3,r1;r3;r4\n", write(collector, 0));
+    assertEquals(4, collector.getNumberOfRuns());
+    assertEquals("1,r1;r2\n1,r3\n2,r2;r3\n3,r1;r3\n3,r4\n", write(collector, 2));
+    collector.close();
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void testMerge() throws IOException {
+    File directory = Files.createTempDirectory("collector").toFile();
+    SpillingIssueCollector collector = new SpillingIssueCollector(directory, 10);
+    SpillingIssueCollector worker = new SpillingIssueCollector(directory, 10);
+    collector.add("r1", Collections.singletonList(1));
+    worker.add("r2", Arrays.asList(1, 2));
+    collector.merge(worker);
+
+    assertEquals("1,r1;r2\n2,r2\n", write(collector, 0));
+    collector.close();
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void testRecordIdStoredOnce() throws IOException {
+    File directory = Files.createTempDirectory("collector").toFile();
+    SpillingIssueCollector collector = new SpillingIssueCollector(directory, 1000);
+    List<Integer> errorIds = new ArrayList<>();
+    for (int i = 1; i <= 100; i++)
+      errorIds.add(i);
+    collector.add("a-record-with-100-errors", errorIds);
+    write(collector, 0);
+
+    // 100 (error, record ordinal) pairs, and the identifier
+    File[] runFiles = directory.listFiles();
+    assertEquals(1, runFiles.length);
+    assertEquals(100 * 8 + "a-record-with-100-errors".length(), runFiles[0].length());
+    collector.close();
+  }
+
+  @Test
+  public void testLongAndNonAsciiIds() throws IOException {
+    File directory = Files.createTempDirectory("collector").toFile();
+    char[] chars = new char[100000];
+    Arrays.fill(chars, 'x');
+    String longId = new String(chars);
+
+    SpillingIssueCollector collector = new SpillingIssueCollector(directory, 3);
+    collector.add("r\u00e9sum\u00e9", Arrays.asList(1, 2));
+    collector.add(longId, Arrays.asList(1, 2));
+    collector.add("r3", Arrays.asList(2, 1));
+    collector.add("\u5f53\u7136", Collections.singletonList(2));
+
+    assertEquals(
+      "1,r\u00e9sum\u00e9;" + longId + ";r3\n2,r\u00e9sum\u00e9;" + longId + ";r3;\u5f53\u7136\n",
+      write(collector, 0));
+    collector.close();
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  private String write(SpillingIssueCollector collector, int maxIdsPerLine) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    collector.write(',', maxIdsPerLine, sb::append);
+    return sb.toString();
+  }
+}
@@ -0,0 +1,102 @@
+package de.gwdg.metadataqa.marc.cli.utils;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.model.validation.ValidationError;
+import de.gwdg.metadataqa.marc.model.validation.ValidationErrorType;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.junit.Test;
+import org.marc4j.marc.Record;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ValidationCacheTest {
+
+  private static final String CONFIGURATION = "marcVersion=MARC21";
+
+  @Test
+  public void testTakeOver() throws IOException {
+    File file = new File(Files.createTempDirectory("validation-cache").toFile(), "cache");
+    ValidationCache cache = new ValidationCache(file, CONFIGURATION);
+    assertNull(cache.get("r1", 1L));
+    cache.put("r1", 1L, new ValidationCache.Result(false, Arrays.asList(error("245$a"), error("100$a"))));
+    cache.put("r2", 2L, new ValidationCache.Result(true, Collections.<ValidationError>emptyList()));
+    cache.put("r3", 3L, new ValidationCache.Result(false, Collections.singletonList(error("245$a"))));
+    cache.close();
+
+    cache = new ValidationCache(file, CONFIGURATION);
+    ValidationCache.Result result = cache.get("r1", 1L);
+    assertNotNull(result);
+    assertFalse(result.isValid());
+    assertEquals(2, result.getErrors().size());
+    assertEquals(error("245$a"), result.getErrors().get(0));
+    assertEquals("r1", result.getErrors().get(0).getRecordId());
+    assertEquals("100$a", result.getErrors().get(1).getMarcPath());
+
+    // changed record
+    assertNull(cache.get("r2", 22L));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.getNumberOfMissingRecords());
+  }
+
+  @Test
+  public void testMissingRecordsAreRemoved() throws IOException {
+    File file = new File(Files.createTempDirectory("validation-cache").toFile(), "cache");
+    ValidationCache cache = new ValidationCache(file, CONFIGURATION);
+    cache.put("r1", 1L, new ValidationCache.Result(false, Collections.singletonList(error("245$a"))));
+    cache.put("r2", 2L, new ValidationCache.Result(false, Collections.singletonList(error("100$a"))));
+    cache.close();
+
+    // r2 is not in the input anymore
+    cache = new ValidationCache(file, CONFIGURATION);
+    cache.put("r1", 1L, cache.get("r1", 1L));
+    cache.close(false);
+
+    cache = new ValidationCache(file, CONFIGURATION);
+    assertEquals(1, cache.getNumberOfMissingRecords());
+    assertNotNull(cache.get("r1", 1L));
+
+    // a partial run keeps the unprocessed records
+    cache.put("r1", 1L, new ValidationCache.Result(true, Collections.<ValidationError>emptyList()));
+    cache.close(true);
+    cache = new ValidationCache(file, CONFIGURATION);
+    assertTrue(cache.get("r1", 1L).isValid());
+  }
+
+  @Test
+  public void testOtherConfiguration() throws IOException {
+    File file = new File(Files.createTempDirectory("validation-cache").toFile(), "cache");
+    ValidationCache cache = new ValidationCache(file, CONFIGURATION);
+    cache.put("r1", 1L, new ValidationCache.Result(true, Collections.<ValidationError>emptyList()));
+    cache.close();
+
+    cache = new ValidationCache(file, "marcVersion=DNB");
+    assertEquals(0, cache.getNumberOfMissingRecords());
+    assertNull(cache.get("r1", 1L));
+  }
+
+  @Test
+  public void testFingerprint() throws Exception {
+    List<Record> records = ReadMarc.read(FileUtils.getPath("general/0001-01.mrc").toString());
+    MarcRecord first = MarcFactory.createFromMarc4j(records.get(0));
+    MarcRecord again = MarcFactory.createFromMarc4j(records.get(0));
+    MarcRecord second = MarcFactory.createFromMarc4j(records.get(1));
+
+    assertEquals(ValidationCache.contentHash(first), ValidationCache.contentHash(again));
+    assertNotEquals(ValidationCache.contentHash(first), ValidationCache.contentHash(second));
+    assertNotEquals(ValidationCache.fingerprint(first, false), ValidationCache.fingerprint(first, true));
+  }
+
+  private static ValidationError error(String path) {
+    return new ValidationError(null, path, ValidationErrorType.SUBFIELD_INVALID_VALUE, "invalid", null);
+  }
+}
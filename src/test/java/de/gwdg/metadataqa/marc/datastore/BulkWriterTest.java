@@ -0,0 +1,132 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BulkWriterTest {
+
+  @Test
+  public void testRejectedDocumentsAreRetried() throws Exception {
+    RecordingWriter writer = new RecordingWriter(4, 1);
+    writer.rejected.add("2");
+    writer.rejected.add("3");
+    writer.invalid.add("4");
+    for (int i = 1; i <= 4; i++)
+      writer.add(String.valueOf(i));
+    writer.close();
+
+    // the first request contains all the documents, the second one only the rejected ones
+    assertEquals("[[1, 2, 3, 4], [2, 3]]", writer.requests.toString());
+    assertEquals(3, writer.getSentDocuments());
+    assertEquals(1, writer.getFailedDocuments());
+  }
+
+  @Test
+  public void testRetriesAreLimited() throws Exception {
+    RecordingWriter writer = new RecordingWriter(2, 1);
+    writer.alwaysReject = true;
+    writer.add("1");
+    writer.add("2");
+    writer.close();
+
+    assertEquals(3, writer.requests.size());
+    assertEquals(0, writer.getSentDocuments());
+    assertEquals(2, writer.getFailedDocuments());
+  }
+
+  @Test
+  public void testBackPressure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingWriter writer = new RecordingWriter(1, 1);
+    writer.blocker = release;
+
+    // one batch is being sent, two are waiting in the queue, the next add() should block
+    AtomicInteger added = new AtomicInteger();
+    Thread producer = new Thread(() -> {
+      try {
+        for (int i = 0; i < 10; i++) {
+          writer.add(String.valueOf(i));
+          added.incrementAndGet();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    producer.start();
+    producer.join(300);
+    assertTrue(producer.isAlive());
+    assertTrue(added.get() < 10);
+
+    release.countDown();
+    producer.join(5000);
+    assertFalse(producer.isAlive());
+    writer.close();
+    assertEquals(10, writer.getSentDocuments());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAddAfterClose() throws Exception {
+    RecordingWriter writer = new RecordingWriter(2, 1);
+    writer.close();
+    writer.add("1");
+  }
+
+  /**
+   * Records the requests. The documents in "rejected" are rejected once for a temporary reason,
+   * the ones in "invalid" are rejected as invalid.
+   */
+  private static class RecordingWriter extends BulkWriter<String> {
+    private final List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> rejected = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> invalid = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean alwaysReject = false;
+    private volatile CountDownLatch blocker = null;
+
+    RecordingWriter(int batchSize, int threads) {
+      super("test", batchSize, threads, 60000, 2, 1);
+    }
+
+    @Override
+    protected List<String> send(List<String> documents) throws IOException, InterruptedException {
+      if (blocker != null && !blocker.await(5, TimeUnit.SECONDS))
+        throw new IOException("timeout");
+      requests.add(new ArrayList<>(documents));
+      if (alwaysReject)
+        return documents;
+
+      List<String> retry = new ArrayList<>();
+      List<String> failed = new ArrayList<>();
+      for (String document : documents) {
+        if (rejected.remove(document))
+          retry.add(document);
+        else if (invalid.contains(document))
+          failed.add(document);
+      }
+      documentsSent(documents.size() - retry.size() - failed.size());
+      if (!failed.isEmpty())
+        documentsFailed(failed, "invalid");
+      return retry;
+    }
+
+    @Override
+    protected boolean isRetriable(Exception e) {
+      return e instanceof IOException;
+    }
+
+    @Override
+    protected String describe(String document) {
+      return document;
+    }
+  }
+}
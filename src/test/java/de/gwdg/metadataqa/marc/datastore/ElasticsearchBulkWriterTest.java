@@ -0,0 +1,102 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the writer against a stub HTTP server answering the _bulk requests.
+ */
+public class ElasticsearchBulkWriterTest {
+
+  private HttpServer server;
+  private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+  // the responses of the next requests, the default is a response without errors
+  private final List<String> responses = Collections.synchronizedList(new ArrayList<>());
+  private MarcElasticsearchClient client;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/_bulk", exchange -> {
+      requests.add(IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8));
+      String response = responses.isEmpty() ? "{\"took\":1,\"errors\":false,\"items\":[]}" : responses.remove(0);
+      byte[] body = response.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+    client = new MarcElasticsearchClient("localhost", server.getAddress().getPort());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    client.close();
+    server.stop(0);
+  }
+
+  @Test
+  public void testBatches() throws Exception {
+    ElasticsearchBulkWriter writer = new ElasticsearchBulkWriter(client, "marc", "record", "id", 2, 1, 60000);
+    for (int i = 1; i <= 5; i++)
+      writer.add(document(i));
+    writer.close();
+
+    assertEquals(3, requests.size());
+    assertEquals(
+      "{\"index\":{\"_index\":\"marc\",\"_type\":\"record\",\"_id\":\"1\"}}\n"
+        + "{\"id\":\"1\",\"245a_ss\":[\"title 1\"]}\n"
+        + "{\"index\":{\"_index\":\"marc\",\"_type\":\"record\",\"_id\":\"2\"}}\n"
+        + "{\"id\":\"2\",\"245a_ss\":[\"title 2\"]}\n",
+      requests.get(0));
+    assertEquals(5, writer.getSentDocuments());
+    assertEquals(0, writer.getFailedDocuments());
+  }
+
+  @Test
+  public void testItemErrors() throws Exception {
+    responses.add("{\"took\":1,\"errors\":true,\"items\":["
+      + "{\"index\":{\"_id\":\"1\",\"status\":201}},"
+      + "{\"index\":{\"_id\":\"2\",\"status\":429,\"error\":{\"type\":\"es_rejected_execution_exception\"}}},"
+      + "{\"index\":{\"_id\":\"3\",\"status\":400,\"error\":{\"type\":\"mapper_parsing_exception\"}}}"
+      + "]}");
+    ElasticsearchBulkWriter writer = new ElasticsearchBulkWriter(
+      client, "marc", "record", "id", 3, 1, 60000, 3, 1);
+    for (int i = 1; i <= 3; i++)
+      writer.add(document(i));
+    writer.close();
+
+    // the overloaded document is sent again, the invalid one is not
+    assertEquals(2, requests.size());
+    assertEquals(
+      "{\"index\":{\"_index\":\"marc\",\"_type\":\"record\",\"_id\":\"2\"}}\n"
+        + "{\"id\":\"2\",\"245a_ss\":[\"title 2\"]}\n",
+      requests.get(1));
+    assertEquals(2, writer.getSentDocuments());
+    assertEquals(1, writer.getFailedDocuments());
+  }
+
+  private static Map<String, Object> document(int id) {
+    Map<String, Object> document = new LinkedHashMap<>();
+    document.put("id", String.valueOf(id));
+    document.put("245a_ss", Collections.singletonList("title " + id));
+    return document;
+  }
+}
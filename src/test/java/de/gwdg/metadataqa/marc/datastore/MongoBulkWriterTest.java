@@ -0,0 +1,113 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.DBObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the writer against a stand-in of a collection, which keeps the documents in memory, and
+ * answers the bulk inserts with write errors the same way as MongoDB.
+ */
+public class MongoBulkWriterTest {
+
+  private static final int DUPLICATE_KEY = 11000;
+  private static final int PRIMARY_STEPPED_DOWN = 189;
+
+  @Test
+  public void testBatches() throws Exception {
+    StandInWriter writer = new StandInWriter(2);
+    for (int i = 1; i <= 5; i++)
+      writer.add(document(i));
+    writer.close();
+
+    assertEquals(3, writer.requests.size());
+    assertEquals(Arrays.asList("1", "2"), writer.requests.get(0));
+    assertEquals(Arrays.asList("1", "2", "3", "4", "5"), new ArrayList<>(writer.stored.keySet()));
+    assertEquals(5, writer.getSentDocuments());
+    assertEquals(0, writer.getFailedDocuments());
+  }
+
+  @Test
+  public void testWriteErrors() throws Exception {
+    StandInWriter writer = new StandInWriter(4);
+    writer.stored.put("2", document(2));
+    writer.unavailable.add("3");
+    for (int i = 1; i <= 4; i++)
+      writer.add(document(i));
+    writer.close();
+
+    // the duplicate (index 1) failed, the document rejected by the stepping down primary (index 2)
+    // is sent again, alone
+    assertEquals(2, writer.requests.size());
+    assertEquals(Arrays.asList("1", "2", "3", "4"), writer.requests.get(0));
+    assertEquals(Collections.singletonList("3"), writer.requests.get(1));
+    assertEquals(Arrays.asList("2", "1", "4", "3"), new ArrayList<>(writer.stored.keySet()));
+    assertEquals(3, writer.getSentDocuments());
+    assertEquals(1, writer.getFailedDocuments());
+  }
+
+  @Test
+  public void testRetriesRunOut() throws Exception {
+    StandInWriter writer = new StandInWriter(2);
+    writer.alwaysUnavailable = true;
+    writer.unavailable.add("2");
+    writer.add(document(1));
+    writer.add(document(2));
+    writer.close();
+
+    // the first request, and 2 retries
+    assertEquals(3, writer.requests.size());
+    assertEquals(1, writer.getSentDocuments());
+    assertEquals(1, writer.getFailedDocuments());
+  }
+
+  private static DBObject document(int id) {
+    return new BasicDBObject("id", String.valueOf(id)).append("type", "marcjson");
+  }
+
+  /**
+   * A writer, which inserts the documents into a map instead of a MongoDB collection.
+   */
+  private static class StandInWriter extends MongoBulkWriter {
+    private final Map<String, DBObject> stored = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+    // the documents rejected (once, or always) as if the primary were stepping down
+    private final Set<String> unavailable = Collections.synchronizedSet(new HashSet<>());
+    private volatile boolean alwaysUnavailable = false;
+
+    StandInWriter(int batchSize) {
+      super(null, batchSize, 1, 60000, 2, 1);
+    }
+
+    @Override
+    protected List<BulkWriteError> insert(List<DBObject> documents) {
+      List<String> ids = new ArrayList<>();
+      List<BulkWriteError> errors = new ArrayList<>();
+      for (int i = 0; i < documents.size(); i++) {
+        DBObject document = documents.get(i);
+        String id = (String) document.get("id");
+        ids.add(id);
+        if (alwaysUnavailable ? unavailable.contains(id) : unavailable.remove(id))
+          errors.add(new BulkWriteError(PRIMARY_STEPPED_DOWN, "primary stepped down", new BasicDBObject(), i));
+        else if (stored.containsKey(id))
+          errors.add(new BulkWriteError(DUPLICATE_KEY, "E11000 duplicate key error", new BasicDBObject(), i));
+        else
+          stored.put(id, document);
+      }
+      requests.add(ids);
+      return errors;
+    }
+  }
+}
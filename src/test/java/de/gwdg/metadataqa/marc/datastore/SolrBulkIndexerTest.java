@@ -0,0 +1,127 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.util.NamedList;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SolrBulkIndexerTest {
+
+  @Test
+  public void testBatches() throws Exception {
+    FakeSolrClient solr = new FakeSolrClient(0, 0);
+    SolrBulkIndexer indexer = new SolrBulkIndexer(solr, 3, 2, 60000, 5000);
+    for (int i = 0; i < 7; i++)
+      indexer.add(document(i));
+    indexer.flush();
+
+    List<Integer> sizes = solr.getBatchSizes();
+    Collections.sort(sizes);
+    assertEquals("[1, 3, 3]", sizes.toString());
+    assertEquals(7, indexer.getSentDocuments());
+    assertEquals(5000, solr.commitWithin);
+    indexer.close();
+  }
+
+  @Test
+  public void testFlushInterval() throws Exception {
+    FakeSolrClient solr = new FakeSolrClient(0, 0);
+    SolrBulkIndexer indexer = new SolrBulkIndexer(solr, 100, 1, 20, 5000);
+    indexer.add(document(1));
+    for (int i = 0; i < 100 && solr.getBatchSizes().isEmpty(); i++)
+      Thread.sleep(20);
+
+    assertEquals("[1]", solr.getBatchSizes().toString());
+    indexer.close();
+  }
+
+  @Test
+  public void testRetry() throws Exception {
+    FakeSolrClient solr = new FakeSolrClient(2, 0);
+    SolrBulkIndexer indexer = new SolrBulkIndexer(solr, 2, 1, 60000, 5000, 3, 1);
+    indexer.add(document(1));
+    indexer.add(document(2));
+    indexer.close();
+
+    assertEquals(3, solr.attempts);
+    assertEquals(2, indexer.getSentDocuments());
+    assertEquals(0, indexer.getFailedDocuments());
+  }
+
+  @Test
+  public void testNoRetryOnInvalidDocuments() throws Exception {
+    FakeSolrClient solr = new FakeSolrClient(0, 1);
+    SolrBulkIndexer indexer = new SolrBulkIndexer(solr, 2, 1, 60000, 5000, 3, 1);
+    indexer.add(document(1));
+    indexer.add(document(2));
+    indexer.close();
+
+    assertEquals(1, solr.attempts);
+    assertEquals(0, indexer.getSentDocuments());
+    assertEquals(2, indexer.getFailedDocuments());
+  }
+
+  private static SolrInputDocument document(int id) {
+    SolrInputDocument document = new SolrInputDocument();
+    document.addField("id", String.valueOf(id));
+    return document;
+  }
+
+  /**
+   * Records the batches, and fails the first requests with a connection or a client error.
+   */
+  private static class FakeSolrClient extends SolrClient {
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private int unavailable;
+    private int rejected;
+    int attempts = 0;
+    int commitWithin;
+
+    FakeSolrClient(int unavailable, int rejected) {
+      this.unavailable = unavailable;
+      this.rejected = rejected;
+    }
+
+    @Override
+    public synchronized UpdateResponse add(Collection<SolrInputDocument> docs, int commitWithinMs)
+        throws SolrServerException, IOException {
+      attempts++;
+      if (unavailable > 0) {
+        unavailable--;
+        throw new IOException("Connection refused");
+      }
+      if (rejected > 0) {
+        rejected--;
+        throw new HttpSolrClient.RemoteSolrException("localhost", 400, "Bad request", null);
+      }
+      batchSizes.add(docs.size());
+      commitWithin = commitWithinMs;
+      return new UpdateResponse();
+    }
+
+    synchronized List<Integer> getBatchSizes() {
+      return new ArrayList<>(batchSizes);
+    }
+
+    @Override
+    public NamedList<Object> request(SolrRequest request, String collection) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package de.gwdg.metadataqa.marc.datastore;
+
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.model.SolrFieldType;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class SolrDocumentBuilderTest {
+
+  @Test
+  public void testDeduplication() {
+    SolrDocumentBuilder builder = new SolrDocumentBuilder(SolrFieldType.MARC, true);
+    builder.start("1");
+    builder.add("650a", "Biology");
+    builder.add("650a", "Zoology");
+    builder.add("650a", "Biology");
+    builder.add("650a", null);
+    builder.add("record_sni", "{}");
+    SolrInputDocument document = builder.getDocument();
+
+    assertEquals("1", document.getFieldValue("id"));
+    assertEquals(Arrays.asList("Biology", "Zoology"), new ArrayList<>(document.getFieldValues("650a_ss")));
+    assertEquals("{}", document.getFieldValue("record_sni"));
+
+    builder.start("2");
+    builder.add("650a", "Biology");
+    assertNotSame(document, builder.getDocument());
+    assertEquals(Arrays.asList("Biology"), new ArrayList<>(builder.getDocument().getFieldValues("650a_ss")));
+  }
+
+  @Test
+  public void testWithoutDeduplication() {
+    SolrDocumentBuilder builder = new SolrDocumentBuilder(SolrFieldType.MARC, false);
+    builder.start("1");
+    builder.add("650a", "Biology");
+    builder.add("650a", "Biology");
+    assertEquals(2, builder.getDocument().getFieldValues("650a_ss").size());
+  }
+
+  @Test
+  public void testBuild() {
+    MarcRecord record = new MarcRecord();
+    record.setLeader("01445cem a22004454a 4500");
+    record.setField("650", " 0$aBiology$xHistory$xPeriodicals");
+    record.setField("650", " 0$aBiology$xHistory");
+
+    SolrDocumentBuilder builder = new SolrDocumentBuilder(SolrFieldType.MARC, true);
+    SolrInputDocument document = builder.build("1", record);
+    assertEquals(Arrays.asList("Biology"), new ArrayList<>(document.getFieldValues("650a_ss")));
+    assertEquals(Arrays.asList("History", "Periodicals"), new ArrayList<>(document.getFieldValues("650x_ss")));
+    assertNull(document.getFieldValues("650b_ss"));
+  }
+}
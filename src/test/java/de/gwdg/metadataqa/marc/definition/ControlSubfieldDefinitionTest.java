@@ -0,0 +1,59 @@
+package de.gwdg.metadataqa.marc.definition;
+
+import de.gwdg.metadataqa.marc.Code;
+import de.gwdg.metadataqa.marc.Utils;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ControlSubfieldDefinitionTest {
+
+  @Test
+  public void testCodes() {
+    ControlSubfieldDefinition definition = new ControlSubfieldDefinition("Form of name", 1, 2,
+      Utils.generateCodes("0", "Personal name", "1", "Corporate name"));
+    assertEquals(Arrays.asList("0", "1"), definition.getValidCodes());
+    assertTrue(definition.isValidCode("1"));
+    assertFalse(definition.isValidCode("2"));
+    assertEquals("Corporate name", definition.getCode("1").getLabel());
+    assertNull(definition.getCode("2"));
+    assertEquals("Personal name", definition.resolve("0"));
+  }
+
+  @Test
+  public void testSetCodesReplacesTheValidCodes() {
+    ControlSubfieldDefinition definition = new ControlSubfieldDefinition("Form of name", 1, 2)
+      .setCodes(Utils.generateCodes("0", "Personal name"));
+    assertEquals(Arrays.asList("0"), definition.getValidCodes());
+
+    definition.setCodes(Utils.generateCodes("a", "Anything"));
+    assertEquals(Arrays.asList("a"), definition.getValidCodes());
+    assertFalse(definition.isValidCode("0"));
+    assertNull(definition.getCode("0"));
+  }
+
+  @Test
+  public void testListsAreReadOnly() {
+    ControlSubfieldDefinition definition = new ControlSubfieldDefinition("Form of name", 1, 2,
+      Utils.generateCodes("0", "Personal name"));
+    try {
+      definition.getValidCodes().add("1");
+      fail("The valid codes should be read-only");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+    try {
+      definition.getCodes().add(new Code("1", "Corporate name"));
+      fail("The codes should be read-only");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+    assertTrue(new ControlSubfieldDefinition("Form of name", 1, 2).getValidCodes().isEmpty());
+  }
+}
@@ -0,0 +1,80 @@
+package de.gwdg.metadataqa.marc.definition;
+
+import de.gwdg.metadataqa.marc.utils.MarcTagLister;
+import de.gwdg.metadataqa.marc.utils.TagDefinitionRegistryGenerator;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TagDefinitionRegistryTest {
+
+  @Test
+  public void testRegistryIsUpToDate() throws Exception {
+    String expected = TagDefinitionRegistryGenerator.generate();
+    String actual = new String(
+      Files.readAllBytes(Paths.get(TagDefinitionRegistryGenerator.DEFAULT_OUTPUT)),
+      StandardCharsets.UTF_8
+    );
+    assertEquals(
+      "TagDefinitionRegistry is outdated, run TagDefinitionRegistryGenerator",
+      expected, actual
+    );
+  }
+
+  @Test
+  public void testSameClassesAsTagLister() {
+    Set<String> expected = new TreeSet<>();
+    for (Class<? extends DataFieldDefinition> clazz : MarcTagLister.listTags())
+      expected.add(clazz.getCanonicalName());
+
+    Set<String> actual = new TreeSet<>();
+    for (String[] entry : TagDefinitionRegistry.ENTRIES)
+      actual.add(entry[2]);
+
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testEntries() {
+    for (int i = 0; i < TagDefinitionRegistry.ENTRIES.length; i++) {
+      String[] entry = TagDefinitionRegistry.ENTRIES[i];
+      DataFieldDefinition definition = TagDefinitionRegistry.create(i);
+      assertEquals(entry[2], definition.getClass().getCanonicalName());
+      assertEquals(entry[0], definition.getTag());
+      assertEquals(
+        TagDefinitionRegistryGenerator.getMarcVersion(definition.getClass()).name(),
+        entry[1]);
+    }
+    assertNull(TagDefinitionRegistry.create(TagDefinitionRegistry.ENTRIES.length));
+  }
+
+  @Test
+  public void testPreferredVersion() {
+    assertEquals("de.gwdg.metadataqa.marc.definition.tags.tags3xx.Tag366",
+      TagDefinitionLoader.load("366").getClass().getCanonicalName());
+    assertEquals("de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag019",
+      TagDefinitionLoader.load("019").getClass().getCanonicalName());
+    assertEquals("de.gwdg.metadataqa.marc.definition.tags.dnbtags.Tag930",
+      TagDefinitionLoader.load("930").getClass().getCanonicalName());
+    assertEquals("de.gwdg.metadataqa.marc.definition.tags.fennicatags.Tag930",
+      TagDefinitionLoader.load("930", MarcVersion.FENNICA).getClass().getCanonicalName());
+    assertEquals("de.gwdg.metadataqa.marc.definition.tags.oclctags.Tag090",
+      TagDefinitionLoader.load("090", MarcVersion.DNB).getClass().getCanonicalName());
+  }
+
+  @Test
+  public void testUnknownTags() {
+    assertNull(TagDefinitionLoader.load("999"));
+    assertNull(TagDefinitionLoader.load("QQQ"));
+    assertNull(TagDefinitionLoader.load("24"));
+    assertNull(TagDefinitionLoader.load(null));
+    assertNull(TagDefinitionLoader.load("591", MarcVersion.FENNICA));
+  }
+}
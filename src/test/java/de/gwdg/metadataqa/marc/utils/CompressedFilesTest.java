@@ -0,0 +1,158 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class CompressedFilesTest {
+
+  private static final String FIRST = "00001\n00002\n";
+  private static final String SECOND = "00003\n";
+
+  @Test
+  public void testPlain() throws IOException {
+    File file = write("records.mrc", (FIRST + SECOND).getBytes(StandardCharsets.UTF_8));
+    try (InputStream in = CompressedFiles.open(file.getPath())) {
+      assertEquals(FIRST + SECOND, IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testMultiMemberGzip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write(gzip(FIRST));
+    bytes.write(gzip(SECOND));
+    File file = write("records.mrc.gz", bytes.toByteArray());
+
+    try (BufferedReader reader = CompressedFiles.openReader(file.getPath(), StandardCharsets.UTF_8)) {
+      assertEquals("00001", reader.readLine());
+      assertEquals("00002", reader.readLine());
+      assertEquals("00003", reader.readLine());
+      assertNull(reader.readLine());
+    }
+  }
+
+  @Test
+  public void testBzip2() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new BZip2CompressorOutputStream(bytes)) {
+      out.write((FIRST + SECOND).getBytes(StandardCharsets.UTF_8));
+    }
+    File file = write("records.xml.bz2", bytes.toByteArray());
+
+    try (InputStream in = CompressedFiles.open(file.getPath())) {
+      assertEquals(FIRST + SECOND, IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testDetect() throws IOException {
+    InputStream in = new ByteArrayInputStream(gzip(FIRST));
+    assertEquals(CompressedFiles.Compression.GZIP, CompressedFiles.detect(in));
+    // the position does not change
+    assertEquals(0x1f, in.read());
+
+    in = new ByteArrayInputStream(new byte[]{0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0});
+    assertEquals(CompressedFiles.Compression.ZSTD, CompressedFiles.detect(in));
+
+    in = new ByteArrayInputStream("BZh9".getBytes(StandardCharsets.UTF_8));
+    assertEquals(CompressedFiles.Compression.BZIP2, CompressedFiles.detect(in));
+
+    assertEquals(CompressedFiles.Compression.NONE,
+      CompressedFiles.detect(new ByteArrayInputStream("00720cam".getBytes(StandardCharsets.UTF_8))));
+    assertEquals(CompressedFiles.Compression.NONE, CompressedFiles.detect(new ByteArrayInputStream(new byte[0])));
+  }
+
+  @Test
+  public void testReadAheadInChunks() throws IOException {
+    byte[] data = new byte[10000];
+    for (int i = 0; i < data.length; i++)
+      data[i] = (byte) i;
+
+    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(data), "test", 64, 2)) {
+      byte[] buffer = new byte[100];
+      int n;
+      while ((n = in.read(buffer, 0, buffer.length)) != -1)
+        copy.write(buffer, 0, n);
+      assertEquals(-1, in.read());
+    }
+    assertArrayEquals(data, copy.toByteArray());
+  }
+
+  @Test
+  public void testReadAheadPassesTheError() throws IOException {
+    InputStream failing = new InputStream() {
+      private int count = 0;
+
+      @Override
+      public int read() throws IOException {
+        if (count++ == 100)
+          throw new IOException("broken archive");
+        return 'a';
+      }
+    };
+
+    try (InputStream in = new ReadAheadInputStream(failing, "test", 10, 2)) {
+      int count = 0;
+      try {
+        while (in.read() != -1)
+          count++;
+        fail("The error of the source should be thrown");
+      } catch (IOException e) {
+        assertEquals("broken archive", e.getMessage());
+        // the bytes of the full chunks read before the error are available
+        assertEquals(100, count);
+      }
+    }
+  }
+
+  @Test
+  public void testCloseBeforeTheEnd() throws IOException {
+    InputStream endless = new InputStream() {
+      @Override
+      public int read() {
+        return 'a';
+      }
+    };
+    InputStream in = new ReadAheadInputStream(endless, "test", 16, 2);
+    assertEquals('a', in.read());
+    in.close();
+    try {
+      in.read();
+      fail("A closed stream can not be read");
+    } catch (IOException e) {
+      assertEquals("Stream closed", e.getMessage());
+    }
+  }
+
+  private static byte[] gzip(String content) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+    return bytes.toByteArray();
+  }
+
+  private static File write(String name, byte[] content) throws IOException {
+    File file = new File(Files.createTempDirectory("input").toFile(), name);
+    Files.write(file.toPath(), content);
+    return file;
+  }
+}
@@ -0,0 +1,69 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FieldKeyIndexTest {
+
+  @Test
+  public void testTags() {
+    FieldKeyIndex<String> index = new FieldKeyIndex<>(FieldKeyIndex.KeyType.TAG);
+    assertNull(index.get("245"));
+    index.put("245", "title");
+    index.put("000", "zero");
+    index.put("999", "local");
+    index.put("021A", "pica");
+    index.put("LDR", "leader");
+
+    assertEquals("title", index.get("245"));
+    assertEquals("zero", index.get("000"));
+    assertEquals("local", index.get("999"));
+    assertEquals("pica", index.get("021A"));
+    assertEquals("leader", index.get("LDR"));
+    assertTrue(index.containsKey("245"));
+    assertFalse(index.containsKey("246"));
+    assertFalse(index.containsKey("24"));
+    assertFalse(index.containsKey(null));
+  }
+
+  @Test
+  public void testSubfieldCodes() {
+    FieldKeyIndex<String> index = new FieldKeyIndex<>(FieldKeyIndex.KeyType.SUBFIELD_CODE);
+    index.put("a", "lower");
+    index.put("A", "upper");
+    index.put("0", "digit");
+    index.put("z", "last lower");
+    index.put("Z", "last upper");
+    index.put("9", "last digit");
+    index.put("@", "other");
+    index.put(null, "null");
+
+    assertEquals("lower", index.get("a"));
+    assertEquals("upper", index.get("A"));
+    assertEquals("digit", index.get("0"));
+    assertEquals("last lower", index.get("z"));
+    assertEquals("last upper", index.get("Z"));
+    assertEquals("last digit", index.get("9"));
+    assertEquals("other", index.get("@"));
+    assertEquals("null", index.get(null));
+    assertNull(index.get("b"));
+    assertNull(index.get("ab"));
+  }
+
+  @Test
+  public void testFieldKeys() {
+    assertEquals(-1, FieldKeys.tagToPosition("24A"));
+    assertEquals(245, FieldKeys.tagToPosition("245"));
+    assertEquals("007", FieldKeys.tag(7));
+    assertSame(FieldKeys.tag(245), FieldKeys.tag("x245".getBytes(), 1));
+    assertEquals("LDR", FieldKeys.tag("LDR".getBytes(), 0));
+    assertSame(FieldKeys.code('a'), FieldKeys.code('a'));
+    assertEquals("ő", FieldKeys.code('ő'));
+    assertEquals(-1, FieldKeys.codeToPosition('$'));
+  }
+}
@@ -13,6 +13,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
+import static org.junit.Assert.assertEquals;
+
 public class FrbrFunctionListerTest {
 
   @Test
@@ -61,6 +63,35 @@ public class FrbrFunctionListerTest {
 
   }
 
+  @Test
+  public void testMerge() {
+    FrbrFunctionLister lister = new FrbrFunctionLister();
+    FrbrFunctionLister worker1 = lister.createEmptyCopy();
+    FrbrFunctionLister worker2 = lister.createEmptyCopy();
+    FrbrFunctionLister sequential = lister.createEmptyCopy();
+    assertEquals(lister.getBaseline(), worker1.getBaseline());
+
+    Map<FRBRFunction, Integer> record1 = new TreeMap<>();
+    record1.put(FRBRFunction.DiscoverySearch, 2);
+    record1.put(FRBRFunction.UseManage, 1);
+    Map<FRBRFunction, Integer> record2 = new TreeMap<>();
+    record2.put(FRBRFunction.DiscoverySearch, 1);
+
+    for (FrbrFunctionLister target : new FrbrFunctionLister[]{worker1, sequential}) {
+      target.add(target.percent(record1));
+      target.addToHistogram(target.percent(record1));
+    }
+    for (FrbrFunctionLister target : new FrbrFunctionLister[]{worker2, sequential}) {
+      target.add(target.percent(record2));
+      target.addToHistogram(target.percent(record2));
+    }
+
+    lister.merge(worker1);
+    lister.merge(worker2);
+    assertEquals(sequential.percentOf(2), lister.percentOf(2));
+    assertEquals(sequential.getHistogram(), lister.getHistogram());
+  }
+
   private <T extends Object> void count(T key, Map<T, Integer> counter) {
     if (!counter.containsKey(key)) {
       counter.put(key, 0);
@@ -0,0 +1,76 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import de.gwdg.metadataqa.api.model.JsonPathCache;
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.DataField;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MarcJsonReaderTest {
+
+  @Test
+  public void testSameAsJsonPath() throws IOException, URISyntaxException {
+    Path path = FileUtils.getPath("general/marc.json");
+    List<String> lines = Files.readAllLines(path);
+    try (MarcJsonReader reader = new MarcJsonReader(Files.newInputStream(path))) {
+      for (String line : lines) {
+        MarcRecord expected = MarcFactory.create(new JsonPathCache(line));
+        MarcRecord record = reader.next();
+        assertNotNull(record);
+        assertEquals(expected.getId(), record.getId());
+        assertEquals(expected.getType(), record.getType());
+        for (DataField field : expected.getDatafields()) {
+          List<DataField> fields = record.getDatafield(field.getTag());
+          assertNotNull(field.getTag(), fields);
+          assertEquals(field.getTag(), expected.getDatafield(field.getTag()).size(), fields.size());
+        }
+      }
+      assertNull(reader.next());
+    }
+  }
+
+  @Test
+  public void testMarcInJsonArray() throws IOException {
+    String json = "[{\"leader\":\"02341cam a2200505   4500\",\"fields\":["
+      + "{\"001\":\"000003999\"},"
+      + "{\"245\":{\"ind1\":\"1\",\"ind2\":\"0\",\"subfields\":[{\"a\":\"Title\"},{\"b\":\"subtitle\"}]}}"
+      + "]},"
+      + "{\"leader\":\"02341cam a2200505   4500\",\"fields\":[{\"001\":\"000004000\"}]}]";
+    try (MarcJsonReader reader = new MarcJsonReader(toStream(json))) {
+      MarcRecord record = reader.next();
+      assertEquals("000003999", record.getId());
+      List<DataField> titles = record.getDatafield("245");
+      assertEquals(1, titles.size());
+      assertEquals("1", titles.get(0).getInd1());
+      assertEquals("0", titles.get(0).getInd2());
+      assertEquals("Title", titles.get(0).getSubfield("a").get(0).getValue());
+      assertEquals("subtitle", titles.get(0).getSubfield("b").get(0).getValue());
+
+      assertEquals("000004000", reader.next().getId());
+      assertNull(reader.next());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingLeader() throws IOException {
+    try (MarcJsonReader reader = new MarcJsonReader(toStream("{\"fields\":[{\"001\":\"1\"}]}"))) {
+      reader.next();
+    }
+  }
+
+  private static InputStream toStream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
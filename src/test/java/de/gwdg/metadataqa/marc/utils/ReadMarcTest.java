@@ -6,8 +6,13 @@ import de.gwdg.metadataqa.marc.MarcRecord;
 import org.junit.Test;
 import org.marc4j.marc.*;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.Assert.assertEquals;
 
@@ -35,6 +40,21 @@ public class ReadMarcTest {
     }
   }
 
+  @Test
+  public void testGzippedFile() throws Exception {
+    Path path = FileUtils.getPath("general/0001-01.mrc");
+    File gzipped = new File(Files.createTempDirectory("readmarc").toFile(), "0001-01.mrc.gz");
+    try (OutputStream out = new GZIPOutputStream(new FileOutputStream(gzipped))) {
+      Files.copy(path, out);
+    }
+
+    List<Record> plain = ReadMarc.read(path.toString());
+    List<Record> records = ReadMarc.read(gzipped.getPath());
+    assertEquals(plain.size(), records.size());
+    for (int i = 0; i < plain.size(); i++)
+      assertEquals(plain.get(i).getControlNumber(), records.get(i).getControlNumber());
+  }
+
   private void test02(MarcRecord record) {
     assertEquals("00720cam a22002051  4500", record.getLeader().getLeaderString());
     String expected = "IdentifiedByLccn:    00000002 \n" +
@@ -0,0 +1,53 @@
+package de.gwdg.metadataqa.marc.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UnionFindTest {
+
+  @Test
+  public void testUnion() {
+    UnionFind sets = new UnionFind(6);
+    assertTrue(sets.union(0, 1));
+    assertTrue(sets.union(3, 4));
+    assertTrue(sets.union(4, 1));
+    assertFalse(sets.union(0, 3));
+
+    assertTrue(sets.connected(0, 4));
+    assertFalse(sets.connected(0, 2));
+    assertEquals(0, sets.find(3));
+    assertArrayEquals(new int[]{4, 4, 1, 4, 4, 1}, sets.componentSizes());
+  }
+
+  @Test
+  public void testConcurrentUnion() throws InterruptedException {
+    final int size = 100000;
+    final UnionFind sets = new UnionFind(size);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final int offset = t;
+      Thread thread = new Thread(() -> {
+        // joins the even and the odd numbers from different directions
+        for (int i = offset % 2; i + 2 < size; i += 2) {
+          int a = offset < 2 ? i : size - 1 - i;
+          int b = offset < 2 ? a + 2 : a - 2;
+          if (b >= 0 && b < size)
+            sets.union(a, b);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads)
+      thread.join();
+
+    assertEquals(0, sets.find(size - 2));
+    assertEquals(1, sets.find(size - 1));
+    assertFalse(sets.connected(0, 1));
+    assertEquals(size / 2, sets.componentSizes()[0]);
+  }
+}
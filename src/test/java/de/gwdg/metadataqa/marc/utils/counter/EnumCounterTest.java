@@ -0,0 +1,47 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+import de.gwdg.metadataqa.marc.definition.FRBRFunction;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EnumCounterTest {
+
+  @Test
+  public void testIncrement() {
+    EnumCounter<FRBRFunction> counter = new EnumCounter<>(FRBRFunction.class);
+    assertTrue(counter.isEmpty());
+    counter.increment(FRBRFunction.DiscoverySearch);
+    counter.increment(FRBRFunction.DiscoverySearch);
+    counter.add(FRBRFunction.UseManage, 3);
+
+    assertEquals(2, counter.size());
+    assertEquals(2, counter.get(FRBRFunction.DiscoverySearch));
+    assertEquals(3, counter.get(FRBRFunction.UseManage));
+    assertEquals(0, counter.get(FRBRFunction.DiscoveryIdentify));
+    assertEquals("{DiscoverySearch=2, UseManage=3}", counter.toString());
+  }
+
+  @Test
+  public void testClearMergeAndAddTo() {
+    EnumCounter<FRBRFunction> counter = new EnumCounter<>(FRBRFunction.class);
+    counter.increment(FRBRFunction.DiscoverySearch);
+    counter.clear();
+    assertTrue(counter.isEmpty());
+
+    EnumCounter<FRBRFunction> other = new EnumCounter<>(FRBRFunction.class);
+    other.increment(FRBRFunction.UseManage);
+    counter.increment(FRBRFunction.UseManage);
+    counter.merge(other);
+    assertEquals(2, counter.get(FRBRFunction.UseManage));
+
+    Map<FRBRFunction, Integer> map = new TreeMap<>();
+    counter.addTo(map);
+    assertEquals(1, map.size());
+    assertEquals(2, (int) map.get(FRBRFunction.UseManage));
+  }
+}
@@ -0,0 +1,63 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntLongCounterTest {
+
+  @Test
+  public void testIncrement() {
+    IntLongCounter counter = new IntLongCounter();
+    counter.increment(2);
+    counter.increment(0);
+    counter.increment(2);
+    counter.add(-5, 10);
+
+    assertEquals(3, counter.size());
+    assertEquals(2, counter.get(2));
+    assertEquals(1, counter.get(0));
+    assertEquals(10, counter.get(-5));
+    assertEquals(0, counter.get(1));
+    assertTrue(counter.containsKey(0));
+    assertFalse(counter.containsKey(1));
+    assertEquals("{2=2, 0=1, -5=10}", counter.toString());
+    assertArrayEquals(new int[]{-5, 0, 2}, counter.sortedKeys());
+  }
+
+  @Test
+  public void testGrow() {
+    IntLongCounter counter = new IntLongCounter(1);
+    Map<Integer, Long> expected = new HashMap<>();
+    for (int i = 0; i < 50000; i++) {
+      int key = (i * 31) % 4096 * 1024;
+      counter.increment(key);
+      expected.merge(key, 1L, Long::sum);
+    }
+    assertEquals(expected.size(), counter.size());
+    for (Map.Entry<Integer, Long> entry : expected.entrySet())
+      assertEquals((long) entry.getValue(), counter.get(entry.getKey()));
+  }
+
+  @Test
+  public void testClearAndMerge() {
+    IntLongCounter counter = new IntLongCounter();
+    counter.increment(1);
+    counter.increment(2);
+    counter.clear();
+    assertTrue(counter.isEmpty());
+    assertFalse(counter.containsKey(1));
+
+    IntLongCounter other = new IntLongCounter();
+    other.add(3, 4);
+    counter.increment(3);
+    counter.merge(other);
+    assertEquals(5, counter.get(3));
+  }
+}
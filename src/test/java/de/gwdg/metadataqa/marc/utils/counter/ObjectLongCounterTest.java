@@ -0,0 +1,86 @@
+package de.gwdg.metadataqa.marc.utils.counter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectLongCounterTest {
+
+  @Test
+  public void testIncrement() {
+    ObjectLongCounter<String> counter = new ObjectLongCounter<>();
+    assertEquals(1, counter.increment("245$a"));
+    assertEquals(2, counter.increment("245$a"));
+    assertEquals(1, counter.increment("100$a"));
+    assertEquals(12, counter.add("100$a", 11));
+
+    assertEquals(2, counter.size());
+    assertEquals(2, counter.get("245$a"));
+    assertEquals(12, counter.get("100$a"));
+    assertEquals(0, counter.get("650$a"));
+    assertTrue(counter.containsKey("100$a"));
+    assertFalse(counter.containsKey("650$a"));
+    assertEquals("{245$a=2, 100$a=12}", counter.toString());
+  }
+
+  @Test
+  public void testGrowKeepsInsertionOrder() {
+    ObjectLongCounter<String> counter = new ObjectLongCounter<>(2);
+    Map<String, Long> expected = new HashMap<>();
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      String key = "key" + (i * 7 % 1000);
+      counter.increment(key);
+      if (!expected.containsKey(key))
+        keys.add(key);
+      expected.merge(key, 1L, Long::sum);
+    }
+    assertEquals(keys.size(), counter.size());
+    for (int i = 0; i < counter.size(); i++) {
+      assertEquals(keys.get(i), counter.getKey(i));
+      assertEquals((long) expected.get(keys.get(i)), counter.getValue(i));
+    }
+  }
+
+  @Test
+  public void testClearAndReuse() {
+    ObjectLongCounter<String> counter = new ObjectLongCounter<>();
+    for (int i = 0; i < 100; i++)
+      counter.increment("a" + i);
+    counter.clear();
+    assertTrue(counter.isEmpty());
+    assertEquals(0, counter.get("a1"));
+    counter.increment("b");
+    counter.increment("a1");
+    assertEquals("{b=1, a1=1}", counter.toString());
+  }
+
+  @Test
+  public void testMerge() {
+    ObjectLongCounter<String> counter = new ObjectLongCounter<>();
+    counter.add("a", 2);
+    ObjectLongCounter<String> other = new ObjectLongCounter<>();
+    other.add("a", 3);
+    other.add("b", 1);
+    counter.merge(other);
+    assertEquals("{a=5, b=1}", counter.toString());
+
+    Map<String, Integer> map = new TreeMap<>();
+    map.put("b", 10);
+    counter.addTo(map);
+    assertEquals("{a=5, b=11}", map.toString());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullKey() {
+    new ObjectLongCounter<String>().increment(null);
+  }
+}
@@ -0,0 +1,123 @@
+package de.gwdg.metadataqa.marc.utils.iso2709;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.DataField;
+import de.gwdg.metadataqa.marc.MarcFactory;
+import de.gwdg.metadataqa.marc.MarcRecord;
+import de.gwdg.metadataqa.marc.MarcSubfield;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.junit.Test;
+import org.marc4j.marc.Record;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class Iso2709ParserTest {
+
+  @Test
+  public void testSameRecordsAsMarc4j() throws Exception {
+    for (String fileName : new String[]{"general/0001-01.mrc", "general/BooksAll.2014.part01-0001.mrc"}) {
+      Path path = FileUtils.getPath(fileName);
+      List<Record> marc4jRecords = ReadMarc.read(path.toString());
+      List<MarcRecord> actual = ReadMarc.readNative(path.toString());
+
+      assertEquals(marc4jRecords.size(), actual.size());
+      for (int i = 0; i < marc4jRecords.size(); i++)
+        assertSameRecord(MarcFactory.createFromMarc4j(marc4jRecords.get(i)), actual.get(i));
+    }
+  }
+
+  @Test
+  public void testUtf8Record() {
+    MarcRecord record = Iso2709Parser.parse(createRecord(
+      "00000nam a2200000 a 4500",
+      new String[]{"001", "123"},
+      new String[]{"245", "10\u001FaKönyv :\u001Fbalácím."}
+    ));
+
+    assertEquals("123", record.getId());
+    DataField title = record.getDatafield("245").get(0);
+    assertEquals("1", title.getInd1());
+    assertEquals("0", title.getInd2());
+    assertEquals("Könyv :", title.getSubfield("a").get(0).getValue());
+    assertEquals("alácím.", title.getSubfield("b").get(0).getValue());
+  }
+
+  @Test
+  public void testUnknownTag() {
+    MarcRecord record = Iso2709Parser.parse(createRecord(
+      "00000nam a2200000 a 4500",
+      new String[]{"001", "123"},
+      new String[]{"QQQ", "  \u001Faabc"}
+    ));
+
+    assertEquals(1, record.getUnhandledTags().size());
+    assertEquals("QQQ", record.getUnhandledTags().get(0));
+    assertNull(record.getDatafield("QQQ"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTruncatedRecord() {
+    byte[] raw = createRecord(
+      "00000nam a2200000 a 4500",
+      new String[]{"001", "123"},
+      new String[]{"245", "10\u001FaTitle"}
+    );
+    byte[] truncated = new byte[raw.length - 10];
+    System.arraycopy(raw, 0, truncated, 0, truncated.length);
+    Iso2709Parser.parse(truncated);
+  }
+
+  private void assertSameRecord(MarcRecord expected, MarcRecord actual) {
+    assertEquals(expected.getLeader().getLeaderString(), actual.getLeader().getLeaderString());
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getUnhandledTags(), actual.getUnhandledTags());
+    assertEquals(expected.getDatafields().size(), actual.getDatafields().size());
+    for (int i = 0; i < expected.getDatafields().size(); i++) {
+      DataField expectedField = expected.getDatafields().get(i);
+      DataField actualField = actual.getDatafields().get(i);
+      assertEquals(expectedField.getTag(), actualField.getTag());
+      assertEquals(expectedField.getInd1(), actualField.getInd1());
+      assertEquals(expectedField.getInd2(), actualField.getInd2());
+      List<MarcSubfield> expectedSubfields = expectedField.parseSubfields();
+      List<MarcSubfield> actualSubfields = actualField.parseSubfields();
+      assertEquals(expectedSubfields.size(), actualSubfields.size());
+      for (int j = 0; j < expectedSubfields.size(); j++) {
+        assertEquals(expectedSubfields.get(j).getCode(), actualSubfields.get(j).getCode());
+        assertEquals(expectedSubfields.get(j).getValue(), actualSubfields.get(j).getValue());
+        assertEquals(expectedSubfields.get(j).getDefinition(), actualSubfields.get(j).getDefinition());
+      }
+    }
+    assertEquals(expected.format(), actual.format());
+    assertEquals(expected.formatForIndex(), actual.formatForIndex());
+  }
+
+  /**
+   * Builds an ISO 2709 record. The leader's length and base address are calculated.
+   */
+  private byte[] createRecord(String leader, String[]... fields) {
+    StringBuilder directory = new StringBuilder();
+    StringBuilder data = new StringBuilder();
+    int position = 0;
+    for (String[] field : fields) {
+      String content = field[1] + "\u001E";
+      int length = content.getBytes(StandardCharsets.UTF_8).length;
+      directory.append(String.format("%s%04d%05d", field[0], length, position));
+      data.append(content);
+      position += length;
+    }
+    directory.append("\u001E");
+    int baseAddress = 24 + directory.length();
+    String body = directory.toString() + data.toString() + "\u001D";
+    int recordLength = 24 + body.getBytes(StandardCharsets.UTF_8).length;
+    String fullLeader = String.format("%05d", recordLength)
+      + leader.substring(5, 12)
+      + String.format("%05d", baseAddress)
+      + leader.substring(17);
+    return (fullLeader + body).getBytes(StandardCharsets.UTF_8);
+  }
+}
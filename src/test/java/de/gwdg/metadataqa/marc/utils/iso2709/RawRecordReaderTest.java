@@ -0,0 +1,39 @@
+package de.gwdg.metadataqa.marc.utils.iso2709;
+
+import de.gwdg.metadataqa.api.util.FileUtils;
+import de.gwdg.metadataqa.marc.utils.ReadMarc;
+import org.junit.Test;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.marc.Record;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RawRecordReaderTest {
+
+  @Test
+  public void testSameRecordsAsMarc4j() throws Exception {
+    for (String fileName : new String[]{"general/0001-01.mrc", "general/BooksAll.2014.part01-0001.mrc"}) {
+      Path path = FileUtils.getPath(fileName);
+      List<Record> expected = ReadMarc.read(path.toString());
+
+      List<Record> actual = new ArrayList<>();
+      try (RawRecordReader reader = new RawRecordReader(new FileInputStream(path.toFile()))) {
+        byte[] raw;
+        while ((raw = reader.next()) != null) {
+          assertEquals(RawRecordReader.RECORD_TERMINATOR, raw[raw.length - 1]);
+          actual.add(new MarcStreamReader(new ByteArrayInputStream(raw)).next());
+        }
+      }
+
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++)
+        assertEquals(expected.get(i).toString(), actual.get(i).toString());
+    }
+  }
+}
@@ -41,4 +41,20 @@ public class DataFieldKeyGeneratorTest {
     assertEquals("245ind2_Title_nonfilingCharacters", generator.forInd2());
     assertEquals("245a_Title_mainTitle", generator.forSubfield(subfield));
   }
+
+  @Test
+  public void testGetInstance() {
+    DataFieldKeyGenerator generator = DataFieldKeyGenerator.getInstance(
+      definition, SolrFieldType.MIXED, "245");
+    assertSame(generator, DataFieldKeyGenerator.getInstance(definition, SolrFieldType.MIXED, "245"));
+    assertNotSame(generator, DataFieldKeyGenerator.getInstance(definition, SolrFieldType.MARC, "245"));
+    assertEquals("245a_Title_mainTitle", generator.forSubfield(subfield));
+    assertSame(generator.forSubfield(subfield), generator.forSubfield(subfield));
+    assertEquals("245a_Title_mainTitle_extra", generator.forSubfield(subfield, "extra"));
+
+    DataFieldKeyGenerator undefined = DataFieldKeyGenerator.getInstance(null, SolrFieldType.MIXED, "999");
+    assertSame(undefined, DataFieldKeyGenerator.getInstance(null, SolrFieldType.MIXED, "999"));
+    assertEquals("999ind1", undefined.forInd1());
+    assertEquals("999a", undefined.forSubfield(new MarcSubfield(null, "a", "test")));
+  }
 }